@@ -74,7 +74,7 @@ cp "${APP_TARGET_DIR}/$JAR_NAME_WITH_VERSION" "${APP_TARGET_DIR}/$JAR_NAME"
 echo "⚙️ 使用 jlink 创建最小化运行时..."
 rm -rf target/runtime
 jlink \
-    --add-modules java.base,java.desktop,java.logging,jdk.unsupported,java.naming,java.net.http,jdk.httpserver,java.prefs,java.sql,java.security.sasl,java.security.jgss,jdk.crypto.ec,java.management,java.management.rmi,jdk.crypto.cryptoki \
+    --add-modules java.base,java.desktop,java.logging,jdk.unsupported,java.naming,jdk.naming.dns,java.net.http,jdk.httpserver,java.prefs,java.sql,java.security.sasl,java.security.jgss,jdk.crypto.ec,java.management,java.management.rmi,jdk.crypto.cryptoki,jdk.jfr,jdk.management \
     --strip-debug \
     --no-header-files \
     --no-man-pages \
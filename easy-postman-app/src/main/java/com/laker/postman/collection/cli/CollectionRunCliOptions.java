@@ -20,6 +20,7 @@ public class CollectionRunCliOptions {
     Path workingDirectory;
     Path outPath;
     boolean bail;
+    boolean replayCache;
 
     @Builder
     public CollectionRunCliOptions(Boolean help,
@@ -31,7 +32,8 @@ public class CollectionRunCliOptions {
                                    List<String> folders,
                                    Path workingDirectory,
                                    Path outPath,
-                                   Boolean bail) {
+                                   Boolean bail,
+                                   Boolean replayCache) {
         this.help = help != null && help;
         this.workspace = workspace;
         this.collections = collections == null ? List.of() : List.copyOf(collections);
@@ -42,6 +44,7 @@ public class CollectionRunCliOptions {
         this.workingDirectory = workingDirectory;
         this.outPath = outPath;
         this.bail = bail != null && bail;
+        this.replayCache = replayCache != null && replayCache;
     }
 
     public static CollectionRunCliOptions parse(String[] args) {
@@ -56,6 +59,7 @@ public class CollectionRunCliOptions {
         Path workingDirectory = null;
         Path outPath = null;
         boolean bail = false;
+        boolean replayCache = false;
 
         int index = 2;
         if (index < safeArgs.length && !safeArgs[index].startsWith("-")) {
@@ -82,6 +86,7 @@ public class CollectionRunCliOptions {
                 case "--working-dir" -> workingDirectory = Path.of(requiredValue(safeArgs, index++, arg));
                 case "--out" -> outPath = Path.of(requiredValue(safeArgs, index++, arg));
                 case "--bail" -> bail = true;
+                case "--replay-cache" -> replayCache = true;
                 default -> throw new IllegalArgumentException("Unknown option: " + arg);
             }
         }
@@ -100,6 +105,7 @@ public class CollectionRunCliOptions {
                 .workingDirectory(workingDirectory)
                 .outPath(outPath)
                 .bail(bail)
+                .replayCache(replayCache)
                 .build();
     }
 
@@ -121,7 +127,7 @@ public class CollectionRunCliOptions {
                  "--environment", "-e",
                  "--iteration-data", "-d",
                  "--iteration-count", "-n",
-                 "--folder", "--working-dir", "--out", "--bail" -> true;
+                 "--folder", "--working-dir", "--out", "--bail", "--replay-cache" -> true;
             default -> false;
         };
     }
@@ -146,6 +152,7 @@ public class CollectionRunCliOptions {
                 .iterationCount(iterationCount)
                 .workingDirectory(workingDirectory)
                 .bail(bail)
+                .replayCache(replayCache)
                 .build();
     }
 }
@@ -62,6 +62,7 @@ public class FunctionalRunCliCommand {
         out.println("      --working-dir <directory>    Defaults to the workspace directory");
         out.println("      --out <result.json>");
         out.println("      --bail                       Stop after the first failed request/test");
+        out.println("      --replay-cache               Reuse cached responses for requests marked replay-cacheable");
         out.println("  -h, --help                       Show this help");
         out.println("Relative iteration-data and upload paths resolve from the workspace directory.");
     }
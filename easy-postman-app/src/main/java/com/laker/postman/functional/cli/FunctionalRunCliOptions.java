@@ -16,6 +16,7 @@ public class FunctionalRunCliOptions {
     Path workingDirectory;
     Path outPath;
     boolean bail;
+    boolean replayCache;
 
     @Builder
     public FunctionalRunCliOptions(Boolean help,
@@ -25,7 +26,8 @@ public class FunctionalRunCliOptions {
                                    Integer iterationCount,
                                    Path workingDirectory,
                                    Path outPath,
-                                   Boolean bail) {
+                                   Boolean bail,
+                                   Boolean replayCache) {
         this.help = help != null && help;
         this.workspace = workspace;
         this.environment = environment;
@@ -34,6 +36,7 @@ public class FunctionalRunCliOptions {
         this.workingDirectory = workingDirectory;
         this.outPath = outPath;
         this.bail = bail != null && bail;
+        this.replayCache = replayCache != null && replayCache;
     }
 
     public static FunctionalRunCliOptions parse(String[] args) {
@@ -46,6 +49,7 @@ public class FunctionalRunCliOptions {
         Path workingDirectory = null;
         Path outPath = null;
         boolean bail = false;
+        boolean replayCache = false;
 
         int index = 2;
         if (index < safeArgs.length && !safeArgs[index].startsWith("-")) {
@@ -70,6 +74,7 @@ public class FunctionalRunCliOptions {
                 case "--working-dir" -> workingDirectory = Path.of(requiredValue(safeArgs, index++, arg));
                 case "--out" -> outPath = Path.of(requiredValue(safeArgs, index++, arg));
                 case "--bail" -> bail = true;
+                case "--replay-cache" -> replayCache = true;
                 default -> throw new IllegalArgumentException("Unknown option: " + arg);
             }
         }
@@ -86,6 +91,7 @@ public class FunctionalRunCliOptions {
                 .workingDirectory(workingDirectory)
                 .outPath(outPath)
                 .bail(bail)
+                .replayCache(replayCache)
                 .build();
     }
 
@@ -97,6 +103,7 @@ public class FunctionalRunCliOptions {
                 .iterationCount(iterationCount)
                 .workingDirectory(workingDirectory)
                 .bail(bail)
+                .replayCache(replayCache)
                 .build();
     }
 
@@ -117,7 +124,7 @@ public class FunctionalRunCliOptions {
                  "--environment", "-e",
                  "--iteration-data", "-d",
                  "--iteration-count", "-n",
-                 "--working-dir", "--out", "--bail" -> true;
+                 "--working-dir", "--out", "--bail", "--replay-cache" -> true;
             default -> false;
         };
     }
@@ -0,0 +1,468 @@
+package com.laker.postman.functional.execution;
+
+import com.laker.postman.http.runtime.cookie.HttpCookieStore;
+import com.laker.postman.http.runtime.model.HttpResponse;
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.http.runtime.transport.HttpExchangeOptions;
+import com.laker.postman.http.runtime.transport.HttpTransport;
+import com.laker.postman.request.model.HttpFormData;
+import com.laker.postman.request.model.HttpFormUrlencoded;
+import com.laker.postman.request.model.HttpHeader;
+import com.laker.postman.request.model.TransportAuth;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 功能回放运行的请求级响应缓存，只对集合中标记了 {@code replayCacheable} 的请求生效。
+ * <p>
+ * 缓存键由方法、变量替换后的 URL、影响响应的请求头（Accept 系列、Authorization、Content-Type、Cookie）、
+ * Cookie Jar 会为该 URL 附带的 Cookie、传输层认证（例如 Digest）的凭据和请求体摘要组成；
+ * 响应的 {@code Vary} 头列出的其他请求头在命中时再逐个比对。
+ * 新鲜度按响应的 {@code Cache-Control: max-age}（扣除 {@code Age}）或 {@code Expires} 计算，
+ * {@code no-cache} 视为每次都需要重新验证，{@code no-store} 不缓存；2xx 响应没有任何新鲜度信息时，
+ * 因为请求是显式标记可缓存的，整个运行期间都视为新鲜；其他状态码（404、405 等）只有带显式新鲜度时才缓存。
+ * 过期后带 {@code ETag}/{@code Last-Modified} 的条目发条件请求，304 时复用缓存的响应体；没有验证器的条目直接重新请求。
+ * </p>
+ * <p>
+ * 命中时返回缓存响应的副本，耗时记为 0；重新验证命中时耗时为条件请求的实际耗时。
+ * 下载到临时文件、溢出到临时文件的响应和 SSE 响应不缓存，临时文件可能在请求结束后被清理。
+ * </p>
+ */
+public final class FunctionalReplayCache {
+    private static final Set<String> KEY_HEADERS = Set.of(
+            "accept",
+            "accept-encoding",
+            "accept-language",
+            "authorization",
+            "content-type",
+            "cookie"
+    );
+    // RFC 9111 中默认可缓存的状态码
+    private static final Set<Integer> CACHEABLE_STATUS = Set.of(200, 203, 204, 300, 301, 404, 405, 410, 414, 501);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongSupplier clockMs;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stored = new AtomicLong();
+
+    public FunctionalReplayCache() {
+        this(System::currentTimeMillis);
+    }
+
+    FunctionalReplayCache(LongSupplier clockMs) {
+        this.clockMs = clockMs;
+    }
+
+    /**
+     * @param hits        新鲜命中，没有发请求
+     * @param revalidated 条件请求返回 304，复用了缓存的响应体
+     * @param misses      实际发出并使用了完整响应的请求
+     * @param stored      写入（或替换）缓存的响应数
+     */
+    public record Stats(long hits, long revalidated, long misses, long stored) {
+        public static final Stats EMPTY = new Stats(0L, 0L, 0L, 0L);
+
+        public long lookups() {
+            return hits + revalidated + misses;
+        }
+    }
+
+    /**
+     * 单次请求经过缓存的结果
+     */
+    public enum Outcome {
+        HIT,
+        REVALIDATED,
+        MISS
+    }
+
+    record Lookup(HttpResponse response, Outcome outcome) {
+    }
+
+    public Stats stats() {
+        return new Stats(hits.get(), revalidated.get(), misses.get(), stored.get());
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    Lookup execute(PreparedRequest request,
+                   HttpTransport transport,
+                   HttpExchangeOptions options) throws Exception {
+        CacheControl requestControl = CacheControl.parse(requestHeaderValues(request, "cache-control"));
+        if (requestControl.noStore()) {
+            misses.incrementAndGet();
+            return new Lookup(transport.execute(request, options), Outcome.MISS);
+        }
+
+        String key = key(request);
+        long now = clockMs.getAsLong();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.varyMatches(request)) {
+            if (!requestControl.noCache() && entry.isFresh(now)) {
+                hits.incrementAndGet();
+                return new Lookup(entry.replay(0L, now), Outcome.HIT);
+            }
+            if (entry.hasValidators()) {
+                PreparedRequest conditional = entry.conditionalRequest(request);
+                HttpResponse response = transport.execute(conditional, options);
+                copySentSnapshot(conditional, request);
+                if (response != null && response.code == 304) {
+                    Entry refreshed = entry.refresh(response.headers, clockMs.getAsLong());
+                    entries.put(key, refreshed);
+                    revalidated.incrementAndGet();
+                    return new Lookup(refreshed.replay(response.costMs, response.endTime), Outcome.REVALIDATED);
+                }
+                misses.incrementAndGet();
+                store(key, request, response);
+                return new Lookup(response, Outcome.MISS);
+            }
+        }
+
+        HttpResponse response = transport.execute(request, options);
+        misses.incrementAndGet();
+        store(key, request, response);
+        return new Lookup(response, Outcome.MISS);
+    }
+
+    private void store(String key, PreparedRequest request, HttpResponse response) {
+        if (!isStorable(response)) {
+            entries.remove(key);
+            return;
+        }
+        CacheControl control = CacheControl.parse(headerValues(response.headers, "cache-control"));
+        List<String> vary = varyHeaderNames(headerValues(response.headers, "vary"));
+        if (control.noStore() || vary.contains("*")
+                || (!isSuccessful(response.code) && !hasExplicitFreshness(control, response.headers))) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new Entry(
+                copy(response),
+                freshUntil(control, response.headers, response.code, clockMs.getAsLong()),
+                varySnapshot(request, vary)
+        ));
+        stored.incrementAndGet();
+    }
+
+    private static boolean isStorable(HttpResponse response) {
+        return response != null
+                && CACHEABLE_STATUS.contains(response.code)
+                && !response.isSse
+                && !response.bodySpilledToFile
+                && response.filePath == null;
+    }
+
+    private static boolean isSuccessful(int code) {
+        return code >= 200 && code < 300;
+    }
+
+    private static boolean hasExplicitFreshness(CacheControl control, Map<String, List<String>> headers) {
+        return control.maxAgeSeconds() >= 0 || firstHeader(headers, "expires") != null;
+    }
+
+    static String key(PreparedRequest request) {
+        StringBuilder key = new StringBuilder();
+        key.append(request.method == null ? "GET" : request.method.toUpperCase(Locale.ROOT)).append('\n');
+        key.append(request.url == null ? "" : request.url).append('\n');
+        Map<String, List<String>> headers = new TreeMap<>();
+        if (request.headersList != null) {
+            for (HttpHeader header : request.headersList) {
+                String name = headerName(header);
+                if (name != null && KEY_HEADERS.contains(name)) {
+                    headers.computeIfAbsent(name, ignored -> new ArrayList<>()).add(safe(header.getValue()));
+                }
+            }
+        }
+        headers.forEach((name, values) -> key.append(name).append(':').append(values).append('\n'));
+        if (request.cookieJarEnabled) {
+            // Cookie Jar 在发送时才附加 Cookie，不在 headersList 里
+            key.append("jar-cookie:").append(HttpCookieStore.getCookieHeaderValuesForUrl(request.url)).append('\n');
+        }
+        TransportAuth transportAuth = request.transportAuth;
+        if (transportAuth != null) {
+            key.append("transport-auth:").append(safe(transportAuth.type)).append('\n')
+                    .append(safe(transportAuth.username)).append('\n')
+                    .append(safe(transportAuth.password)).append('\n');
+        }
+        key.append(bodyDigest(request));
+        return DigestUtils.sha256Hex(key.toString());
+    }
+
+    private static String bodyDigest(PreparedRequest request) {
+        StringBuilder body = new StringBuilder();
+        body.append(safe(request.bodyType)).append('\n').append(safe(request.body)).append('\n');
+        if (request.formDataList != null) {
+            for (HttpFormData part : request.formDataList) {
+                if (part != null && part.isEnabled()) {
+                    body.append("form:").append(part.getKey()).append('=')
+                            .append(part.isFile() ? "file:" : "").append(part.getValue()).append('\n');
+                }
+            }
+        }
+        if (request.urlencodedList != null) {
+            for (HttpFormUrlencoded field : request.urlencodedList) {
+                if (field != null && field.isEnabled()) {
+                    body.append("urlencoded:").append(field.getKey()).append('=').append(field.getValue()).append('\n');
+                }
+            }
+        }
+        return DigestUtils.sha256Hex(body.toString());
+    }
+
+    private static long freshUntil(CacheControl control, Map<String, List<String>> headers, int statusCode, long now) {
+        if (control.noCache()) {
+            return now;
+        }
+        if (control.maxAgeSeconds() >= 0) {
+            long ageSeconds = Math.max(0L, parseLong(firstHeader(headers, "age")));
+            return now + TimeUnit.SECONDS.toMillis(Math.max(0L, control.maxAgeSeconds() - ageSeconds));
+        }
+        String expires = firstHeader(headers, "expires");
+        if (expires != null) {
+            long expiresAt = parseHttpDate(expires);
+            if (expiresAt < 0L) {
+                // 无法解析的 Expires（例如 "0"）按已过期处理
+                return now;
+            }
+            long date = parseHttpDate(firstHeader(headers, "date"));
+            return now + Math.max(0L, expiresAt - (date < 0L ? now : date));
+        }
+        return isSuccessful(statusCode) ? Long.MAX_VALUE : now;
+    }
+
+    private static HttpResponse copy(HttpResponse source) {
+        HttpResponse copy = new HttpResponse();
+        copy.headers = copyHeaders(source.headers);
+        copy.body = source.body;
+        copy.code = source.code;
+        copy.threadName = source.threadName;
+        copy.fileName = source.fileName;
+        copy.costMs = source.costMs;
+        copy.endTime = source.endTime;
+        copy.protocol = source.protocol;
+        copy.bodySize = source.bodySize;
+        copy.headersSize = source.headersSize;
+        copy.isImage = source.isImage;
+        copy.bodyCharset = source.bodyCharset;
+        return copy;
+    }
+
+    private static Map<String, List<String>> copyHeaders(Map<String, List<String>> headers) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        if (headers != null) {
+            headers.forEach((name, values) -> copy.put(name, values == null ? List.of() : List.copyOf(values)));
+        }
+        return copy;
+    }
+
+    private static void copySentSnapshot(PreparedRequest sent, PreparedRequest original) {
+        original.sentUrl = sent.sentUrl;
+        original.sentMethod = sent.sentMethod;
+        original.sentHeadersList = sent.sentHeadersList;
+        original.sentRequestBody = sent.sentRequestBody;
+        original.sentRequestBodyReplayable = sent.sentRequestBodyReplayable;
+    }
+
+    private static List<String> varyHeaderNames(List<String> varyValues) {
+        List<String> names = new ArrayList<>();
+        for (String value : varyValues) {
+            for (String name : value.split(",")) {
+                String normalized = name.trim().toLowerCase(Locale.ROOT);
+                if (!normalized.isEmpty() && !names.contains(normalized)) {
+                    names.add(normalized);
+                }
+            }
+        }
+        return names;
+    }
+
+    private static Map<String, List<String>> varySnapshot(PreparedRequest request, List<String> varyNames) {
+        Map<String, List<String>> snapshot = new LinkedHashMap<>();
+        for (String name : varyNames) {
+            if (!KEY_HEADERS.contains(name)) {
+                snapshot.put(name, requestHeaderValues(request, name));
+            }
+        }
+        return snapshot;
+    }
+
+    private static List<String> requestHeaderValues(PreparedRequest request, String lowerCaseName) {
+        List<String> values = new ArrayList<>();
+        if (request.headersList != null) {
+            for (HttpHeader header : request.headersList) {
+                if (lowerCaseName.equals(headerName(header))) {
+                    values.add(safe(header.getValue()));
+                }
+            }
+        }
+        return values;
+    }
+
+    private static String headerName(HttpHeader header) {
+        if (header == null || !header.isEnabled() || header.getKey() == null || header.getKey().isBlank()) {
+            return null;
+        }
+        return header.getKey().trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> headerValues(Map<String, List<String>> headers, String lowerCaseName) {
+        List<String> values = new ArrayList<>();
+        if (headers != null) {
+            headers.forEach((name, headerValues) -> {
+                if (name != null && headerValues != null && lowerCaseName.equalsIgnoreCase(name)) {
+                    values.addAll(headerValues);
+                }
+            });
+        }
+        return values;
+    }
+
+    private static String firstHeader(Map<String, List<String>> headers, String lowerCaseName) {
+        List<String> values = headerValues(headers, lowerCaseName);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static long parseHttpDate(String value) {
+        if (value == null || value.isBlank()) {
+            return -1L;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1L;
+        }
+    }
+
+    private static long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static String safe(String value) {
+        return value == null ? "" : value;
+    }
+
+    record CacheControl(boolean noStore, boolean noCache, long maxAgeSeconds) {
+        private static final CacheControl NONE = new CacheControl(false, false, -1L);
+
+        static CacheControl parse(List<String> values) {
+            if (values == null || values.isEmpty()) {
+                return NONE;
+            }
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = -1L;
+            for (String value : values) {
+                for (String directive : value.split(",")) {
+                    String normalized = directive.trim().toLowerCase(Locale.ROOT);
+                    if (normalized.equals("no-store")) {
+                        noStore = true;
+                    } else if (normalized.equals("no-cache") || normalized.startsWith("no-cache=")) {
+                        noCache = true;
+                    } else if (normalized.startsWith("max-age=")) {
+                        maxAge = parseLong(normalized.substring("max-age=".length()).replace("\"", ""));
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, maxAge);
+        }
+    }
+
+    private record Entry(HttpResponse response,
+                         long freshUntilMs,
+                         Map<String, List<String>> vary) {
+
+        boolean isFresh(long now) {
+            return now < freshUntilMs;
+        }
+
+        boolean varyMatches(PreparedRequest request) {
+            for (Map.Entry<String, List<String>> varied : vary.entrySet()) {
+                if (!varied.getValue().equals(requestHeaderValues(request, varied.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean hasValidators() {
+            return firstHeader(response.headers, "etag") != null
+                    || firstHeader(response.headers, "last-modified") != null;
+        }
+
+        PreparedRequest conditionalRequest(PreparedRequest request) {
+            PreparedRequest conditional = request.shallowCopy();
+            List<HttpHeader> headers = conditional.headersList == null ? new ArrayList<>() : conditional.headersList;
+            headers.removeIf(header -> {
+                String name = headerName(header);
+                return "if-none-match".equals(name) || "if-modified-since".equals(name);
+            });
+            String etag = firstHeader(response.headers, "etag");
+            if (etag != null) {
+                headers.add(header("If-None-Match", etag));
+            }
+            String lastModified = firstHeader(response.headers, "last-modified");
+            if (lastModified != null) {
+                headers.add(header("If-Modified-Since", lastModified));
+            }
+            conditional.headersList = headers;
+            return conditional;
+        }
+
+        /**
+         * 304 响应带回的头覆盖缓存的同名头（RFC 9111 4.3.4），新鲜度按合并后的头重新计算
+         */
+        Entry refresh(Map<String, List<String>> notModifiedHeaders, long now) {
+            HttpResponse refreshed = copy(response);
+            if (notModifiedHeaders != null) {
+                notModifiedHeaders.forEach((name, values) -> {
+                    if (name == null || values == null || name.equalsIgnoreCase("content-length")) {
+                        return;
+                    }
+                    refreshed.headers.keySet().removeIf(existing -> existing.equalsIgnoreCase(name));
+                    refreshed.headers.put(name, List.copyOf(values));
+                });
+            }
+            CacheControl refreshedControl = CacheControl.parse(headerValues(refreshed.headers, "cache-control"));
+            return new Entry(refreshed, freshUntil(refreshedControl, refreshed.headers, refreshed.code, now), vary);
+        }
+
+        HttpResponse replay(long costMs, long endTime) {
+            HttpResponse replayed = copy(response);
+            replayed.costMs = costMs;
+            replayed.endTime = endTime;
+            return replayed;
+        }
+
+        private static HttpHeader header(String name, String value) {
+            HttpHeader header = new HttpHeader();
+            header.setKey(name);
+            header.setValue(value);
+            return header;
+        }
+    }
+}
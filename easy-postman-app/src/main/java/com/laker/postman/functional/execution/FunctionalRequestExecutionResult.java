@@ -17,6 +17,10 @@ public class FunctionalRequestExecutionResult {
     String errorMessage;
     AssertionResult assertion;
     List<TestResult> testResults;
+    /**
+     * 回放缓存的处理结果，请求没有经过缓存时为 null
+     */
+    FunctionalReplayCache.Outcome replayCacheOutcome;
 
     public static FunctionalRequestExecutionResult skipped() {
         return new FunctionalRequestExecutionResult(
@@ -26,6 +30,7 @@ public class FunctionalRequestExecutionResult {
                 "",
                 null,
                 AssertionResult.NO_TESTS,
+                null,
                 null
         );
     }
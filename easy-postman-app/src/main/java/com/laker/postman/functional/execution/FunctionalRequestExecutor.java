@@ -32,14 +32,29 @@ public final class FunctionalRequestExecutor {
 
     private final Consumer<String> requestErrorConsumer;
     private final HttpTransport httpTransport;
+    private final FunctionalReplayCache replayCache;
 
     public FunctionalRequestExecutor(Consumer<String> requestErrorConsumer) {
-        this(requestErrorConsumer, new DefaultHttpTransport());
+        this(requestErrorConsumer, new DefaultHttpTransport(), null);
+    }
+
+    /**
+     * @param replayCache 不为 null 时，标记了 {@code replayCacheable} 的请求经过该缓存发送
+     */
+    public FunctionalRequestExecutor(Consumer<String> requestErrorConsumer, FunctionalReplayCache replayCache) {
+        this(requestErrorConsumer, new DefaultHttpTransport(), replayCache);
     }
 
     FunctionalRequestExecutor(Consumer<String> requestErrorConsumer, HttpTransport httpTransport) {
+        this(requestErrorConsumer, httpTransport, null);
+    }
+
+    FunctionalRequestExecutor(Consumer<String> requestErrorConsumer,
+                              HttpTransport httpTransport,
+                              FunctionalReplayCache replayCache) {
         this.requestErrorConsumer = requestErrorConsumer;
         this.httpTransport = httpTransport == null ? new DefaultHttpTransport() : httpTransport;
+        this.replayCache = replayCache;
     }
 
     public FunctionalRequestExecutionResult execute(RunnerRowData row,
@@ -128,13 +143,21 @@ public final class FunctionalRequestExecutor {
         AssertionResult assertion = AssertionResult.NO_TESTS;
         String errorMessage = null;
         ScriptExecutionResult postResult = null;
+        FunctionalReplayCache.Outcome replayCacheOutcome = null;
 
         if (!preResult.isSuccess()) {
             errorMessage = preResult.getErrorMessage();
             status = ERROR;
         } else {
             try {
-                response = httpTransport.execute(request, HttpExchangeOptions.defaults());
+                if (replayCache != null && Boolean.TRUE.equals(item.getReplayCacheable())) {
+                    FunctionalReplayCache.Lookup lookup = replayCache.execute(
+                            request, httpTransport, HttpExchangeOptions.defaults());
+                    response = lookup.response();
+                    replayCacheOutcome = lookup.outcome();
+                } else {
+                    response = httpTransport.execute(request, HttpExchangeOptions.defaults());
+                }
                 status = String.valueOf(response.code);
                 postResult = pipeline.executePostScript(response);
                 if (collectionRunnerSemantics && !postResult.isSuccess()) {
@@ -167,7 +190,8 @@ public final class FunctionalRequestExecutor {
                 status,
                 errorMessage,
                 assertion,
-                reportedTests(preResult, postResult, includePreRequestTests)
+                reportedTests(preResult, postResult, includePreRequestTests),
+                replayCacheOutcome
         );
     }
 
@@ -25,12 +25,8 @@ public class AppClientCertificateProvider implements ClientCertificateProvider {
         if (service == null) {
             return "clientCert:none";
         }
-        for (ClientCertificate certificate : service.getAllCertificates()) {
-            if (certificate != null && certificate.matches(host, port)) {
-                return clientCertificateCacheKey(certificate);
-            }
-        }
-        return "clientCert:none";
+        ClientCertificate certificate = service.findMatchingCertificate(host, port);
+        return certificate == null ? "clientCert:none" : clientCertificateCacheKey(certificate);
     }
 
     private static String clientCertificateCacheKey(ClientCertificate certificate) {
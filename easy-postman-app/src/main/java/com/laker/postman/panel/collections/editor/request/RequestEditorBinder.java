@@ -116,6 +116,7 @@ final class RequestEditorBinder {
                 .httpVersion(settings.getHttpVersion())
                 .requestTimeoutMs(settings.getRequestTimeoutMs())
                 .webSocketPingIntervalMs(settings.getWebSocketPingIntervalMs())
+                .replayCacheable(settings.getReplayCacheable())
                 .prescript(view.scriptPanel.getPrescript())
                 .postscript(view.scriptPanel.getPostscript())
                 .responses(responses)
@@ -139,6 +140,7 @@ final class RequestEditorBinder {
                 .httpVersion(draft.getHttpVersion())
                 .requestTimeoutMs(draft.getRequestTimeoutMs())
                 .webSocketPingIntervalMs(draft.getWebSocketPingIntervalMs())
+                .replayCacheable(draft.getReplayCacheable())
                 .build();
     }
 
@@ -113,6 +113,7 @@ final class RequestTabStateController {
                 .httpVersion(settings.getHttpVersion())
                 .requestTimeoutMs(settings.getRequestTimeoutMs())
                 .webSocketPingIntervalMs(settings.getWebSocketPingIntervalMs())
+                .replayCacheable(settings.getReplayCacheable())
                 .prescript(view.scriptPanel.getPrescript())
                 .postscript(view.scriptPanel.getPostscript())
                 .build();
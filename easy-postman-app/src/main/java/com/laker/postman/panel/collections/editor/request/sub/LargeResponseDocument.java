@@ -0,0 +1,413 @@
+package com.laker.postman.panel.collections.editor.request.sub;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+/**
+ * 大响应体的只读文本模型：文本 + 行首偏移索引 + JSON 折叠区间。
+ * <p>
+ * 由 {@link #build} 在后台线程一次性生成，生成后不可变，可以安全地交给 EDT 读取。
+ * JSON 在建索引的同一遍扫描里完成美化（不构建 JSON 树），所以格式化、分行和折叠区间都是 O(n) 单遍，
+ * 界面只按可见行从索引里取子串绘制，不再把整段文本塞进 Document。
+ * </p>
+ */
+final class LargeResponseDocument {
+    /**
+     * 每处理多少字符检查一次取消并回调进度
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+    private static final String INDENT = "  ";
+
+    private final String text;
+    private final int[] lineStarts;
+    private final int lineCount;
+    private final int maxLineLength;
+    /**
+     * foldEnds[line] 为该行开始的折叠区间的结束行，不可折叠为 -1；非 JSON 时为 null
+     */
+    private final int[] foldEnds;
+    private final int foldCount;
+    private final boolean formattedJson;
+
+    private LargeResponseDocument(String text, int[] lineStarts, int lineCount, int[] foldEnds, int foldCount,
+                                  boolean formattedJson) {
+        this.text = text;
+        this.lineStarts = lineStarts;
+        this.lineCount = lineCount;
+        this.foldEnds = foldEnds;
+        this.foldCount = foldCount;
+        this.formattedJson = formattedJson;
+        int max = 0;
+        for (int line = 0; line < lineCount; line++) {
+            max = Math.max(max, lineEnd(line) - lineStarts[line]);
+        }
+        this.maxLineLength = max;
+    }
+
+    /**
+     * 生成文本模型
+     *
+     * @param raw        原始响应体
+     * @param formatJson 是否尝试按 JSON 美化；内容不是合法 JSON 结构时退回原文分行
+     * @param progress   进度回调（千分比），可为 null
+     * @param cancelled  取消检查，返回 true 时抛出 {@link CancellationException}，可为 null
+     */
+    static LargeResponseDocument build(String raw, boolean formatJson, IntConsumer progress, BooleanSupplier cancelled) {
+        String source = raw == null ? "" : raw;
+        IntConsumer progressSink = progress == null ? value -> {
+        } : progress;
+        BooleanSupplier cancelCheck = cancelled == null ? () -> false : cancelled;
+        if (formatJson) {
+            LargeResponseDocument formatted = new JsonFormatter(source, progressSink, cancelCheck).format();
+            if (formatted != null) {
+                return formatted;
+            }
+        }
+        return indexPlainText(source, progressSink, cancelCheck);
+    }
+
+    private static LargeResponseDocument indexPlainText(String text, IntConsumer progress, BooleanSupplier cancelled) {
+        IntArray lineStarts = new IntArray(Math.max(16, text.length() / 64));
+        lineStarts.add(0);
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (i % CHUNK_SIZE == 0) {
+                checkpoint(i, length, progress, cancelled);
+            }
+            if (text.charAt(i) == '\n') {
+                lineStarts.add(i + 1);
+            }
+        }
+        progress.accept(1000);
+        return new LargeResponseDocument(text, lineStarts.values, lineStarts.size, null, 0, false);
+    }
+
+    private static void checkpoint(int position, int length, IntConsumer progress, BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Response indexing cancelled");
+        }
+        progress.accept(length == 0 ? 1000 : (int) ((long) position * 1000 / length));
+    }
+
+    String text() {
+        return text;
+    }
+
+    int lineCount() {
+        return lineCount;
+    }
+
+    int maxLineLength() {
+        return maxLineLength;
+    }
+
+    boolean isFormattedJson() {
+        return formattedJson;
+    }
+
+    int foldCount() {
+        return foldCount;
+    }
+
+    int lineStart(int line) {
+        return lineStarts[line];
+    }
+
+    /**
+     * 行尾偏移（不含换行符及其前的 \r）
+     */
+    int lineEnd(int line) {
+        int end = line + 1 < lineCount ? lineStarts[line + 1] - 1 : text.length();
+        if (end > lineStarts[line] && text.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return end;
+    }
+
+    int lineLength(int line) {
+        return lineEnd(line) - lineStarts[line];
+    }
+
+    String lineText(int line) {
+        return text.substring(lineStarts[line], lineEnd(line));
+    }
+
+    /**
+     * 取一行中 [fromColumn, toColumn) 的片段，超出行尾的部分被截掉
+     */
+    String lineText(int line, int fromColumn, int toColumn) {
+        int start = lineStarts[line];
+        int end = lineEnd(line);
+        int from = Math.min(end, start + Math.max(0, fromColumn));
+        int to = Math.min(end, start + Math.max(fromColumn, toColumn));
+        return text.substring(from, to);
+    }
+
+    /**
+     * 偏移所在的行（二分查找行首索引）
+     */
+    int lineOfOffset(int offset) {
+        int index = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * 该行开始的折叠区间的结束行，不可折叠返回 -1
+     */
+    int foldEnd(int line) {
+        return foldEnds == null || line < 0 || line >= lineCount ? -1 : foldEnds[line];
+    }
+
+    /**
+     * 从 fromOffset 开始查找，找不到时回绕一次
+     *
+     * @return 命中的起始偏移，没有命中返回 -1
+     */
+    int find(String query, int fromOffset, boolean forward, boolean matchCase, boolean wholeWord) {
+        if (query == null || query.isEmpty() || query.length() > text.length()) {
+            return -1;
+        }
+        int last = text.length() - query.length();
+        int start = Math.max(0, Math.min(last, fromOffset));
+        int found = forward ? scanForward(query, start, last, matchCase, wholeWord)
+                : scanBackward(query, start, 0, matchCase, wholeWord);
+        if (found >= 0) {
+            return found;
+        }
+        return forward ? scanForward(query, 0, start - 1, matchCase, wholeWord)
+                : scanBackward(query, last, start + 1, matchCase, wholeWord);
+    }
+
+    private int scanForward(String query, int from, int to, boolean matchCase, boolean wholeWord) {
+        for (int i = from; i <= to; i++) {
+            if (matchesAt(query, i, matchCase, wholeWord)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int scanBackward(String query, int from, int to, boolean matchCase, boolean wholeWord) {
+        for (int i = from; i >= to; i--) {
+            if (matchesAt(query, i, matchCase, wholeWord)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesAt(String query, int offset, boolean matchCase, boolean wholeWord) {
+        char first = text.charAt(offset);
+        char expected = query.charAt(0);
+        if (first != expected && (matchCase || Character.toLowerCase(first) != Character.toLowerCase(expected))) {
+            return false;
+        }
+        if (!text.regionMatches(!matchCase, offset, query, 0, query.length())) {
+            return false;
+        }
+        if (!wholeWord) {
+            return true;
+        }
+        int end = offset + query.length();
+        return (offset == 0 || !Character.isLetterOrDigit(text.charAt(offset - 1)))
+                && (end >= text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+
+    /**
+     * 单遍 JSON 美化器：逐字符扫描原文，直接输出缩进后的文本并记录行首和折叠区间。
+     * 遇到不属于 JSON 结构的字符或括号不匹配时返回 null，由调用方退回原文显示。
+     */
+    private static final class JsonFormatter {
+        private final String source;
+        private final IntConsumer progress;
+        private final BooleanSupplier cancelled;
+        private final StringBuilder output;
+        private final IntArray lineStarts;
+        private final IntArray foldStarts = new IntArray(256);
+        private final IntArray foldEndLines = new IntArray(256);
+        private char[] containerStack = new char[64];
+        private int[] openLineStack = new int[64];
+        private int depth;
+        private boolean pendingOpen;
+
+        private JsonFormatter(String source, IntConsumer progress, BooleanSupplier cancelled) {
+            this.source = source;
+            this.progress = progress;
+            this.cancelled = cancelled;
+            this.output = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 16, source.length() * 3L / 2 + 16));
+            this.lineStarts = new IntArray(Math.max(16, source.length() / 16));
+            this.lineStarts.add(0);
+        }
+
+        private LargeResponseDocument format() {
+            int length = source.length();
+            int i = 0;
+            boolean seenValue = false;
+            while (i < length) {
+                if (i % CHUNK_SIZE == 0) {
+                    checkpoint(i, length, progress, cancelled);
+                }
+                char c = source.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                    continue;
+                }
+                if (depth == 0 && seenValue) {
+                    // 顶层只允许一个值
+                    return null;
+                }
+                if (pendingOpen) {
+                    pendingOpen = false;
+                    if (c != closerOf(containerStack[depth - 1])) {
+                        newLine();
+                    }
+                }
+                switch (c) {
+                    case '{', '[' -> {
+                        push(c);
+                        output.append(c);
+                        pendingOpen = true;
+                        i++;
+                    }
+                    case '}', ']' -> {
+                        if (depth == 0 || c != closerOf(containerStack[depth - 1])) {
+                            return null;
+                        }
+                        int openLine = openLineStack[--depth];
+                        if (openLine != currentLine()) {
+                            newLine();
+                            foldStarts.add(openLine);
+                            foldEndLines.add(currentLine());
+                        }
+                        output.append(c);
+                        seenValue = depth == 0;
+                        i++;
+                    }
+                    case ',' -> {
+                        if (depth == 0) {
+                            return null;
+                        }
+                        output.append(',');
+                        newLine();
+                        i++;
+                    }
+                    case ':' -> {
+                        if (depth == 0 || containerStack[depth - 1] != '{') {
+                            return null;
+                        }
+                        output.append(" : ");
+                        i++;
+                    }
+                    case '"' -> {
+                        int end = endOfString(i);
+                        if (end < 0) {
+                            return null;
+                        }
+                        output.append(source, i, end);
+                        seenValue = depth == 0;
+                        i = end;
+                    }
+                    default -> {
+                        int end = endOfLiteral(i);
+                        if (end == i) {
+                            return null;
+                        }
+                        output.append(source, i, end);
+                        seenValue = depth == 0;
+                        i = end;
+                    }
+                }
+            }
+            if (depth != 0 || !seenValue) {
+                return null;
+            }
+            progress.accept(1000);
+            int lineCount = lineStarts.size;
+            int[] foldEnds = new int[lineCount];
+            Arrays.fill(foldEnds, -1);
+            for (int f = 0; f < foldStarts.size; f++) {
+                foldEnds[foldStarts.values[f]] = foldEndLines.values[f];
+            }
+            return new LargeResponseDocument(output.toString(), lineStarts.values, lineCount, foldEnds,
+                    foldStarts.size, true);
+        }
+
+        private void push(char container) {
+            if (depth == containerStack.length) {
+                containerStack = Arrays.copyOf(containerStack, depth * 2);
+                openLineStack = Arrays.copyOf(openLineStack, depth * 2);
+            }
+            containerStack[depth] = container;
+            openLineStack[depth] = currentLine();
+            depth++;
+        }
+
+        private int currentLine() {
+            return lineStarts.size - 1;
+        }
+
+        private void newLine() {
+            output.append('\n');
+            lineStarts.add(output.length());
+            for (int d = 0; d < depth; d++) {
+                output.append(INDENT);
+            }
+        }
+
+        /**
+         * @return 字符串结束引号之后的位置，未闭合返回 -1
+         */
+        private int endOfString(int start) {
+            int length = source.length();
+            for (int i = start + 1; i < length; i++) {
+                char c = source.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    return i + 1;
+                } else if (c == '\n' || c == '\r') {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private int endOfLiteral(int start) {
+            int i = start;
+            int length = source.length();
+            while (i < length) {
+                char c = source.charAt(i);
+                if (!(Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.')) {
+                    break;
+                }
+                i++;
+            }
+            return i;
+        }
+
+        private static char closerOf(char opener) {
+            return opener == '{' ? '}' : ']';
+        }
+    }
+
+    /**
+     * 可增长的 int 数组，避免百万行级别的装箱开销
+     */
+    private static final class IntArray {
+        private int[] values;
+        private int size;
+
+        private IntArray(int initialCapacity) {
+            this.values = new int[Math.max(1, initialCapacity)];
+        }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1) + 1);
+            }
+            values[size++] = value;
+        }
+    }
+}
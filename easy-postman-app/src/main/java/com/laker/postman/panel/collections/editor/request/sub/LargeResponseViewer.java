@@ -0,0 +1,677 @@
+package com.laker.postman.panel.collections.editor.request.sub;
+
+import com.laker.postman.common.component.SearchTextField;
+import com.laker.postman.common.component.notification.NotificationCenter;
+import com.laker.postman.util.I18nUtil;
+import com.laker.postman.util.IconUtil;
+import com.laker.postman.util.MessageKeys;
+import com.laker.postman.util.UiI18n;
+import com.laker.postman.util.UiMessageKeys;
+import com.formdev.flatlaf.FlatClientProperties;
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.fife.ui.rsyntaxtextarea.Style;
+import org.fife.ui.rsyntaxtextarea.TokenTypes;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.datatransfer.StringSelection;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 大响应体的虚拟化查看器。
+ * <p>
+ * 只绘制视口内的行：行号、折叠、搜索都基于 {@link LargeResponseDocument} 的行索引计算，
+ * 不创建 Swing Document，也不为整段文本做语法分析。JSON 着色只对正在绘制的行做轻量词法切分，
+ * 美化后的 JSON 每行都是完整的词法单元，所以逐行切分即可得到正确结果。
+ * 字体和配色取自同面板的响应编辑器，随主题切换保持一致。
+ * </p>
+ */
+final class LargeResponseViewer extends JPanel {
+    /**
+     * 超过该长度的行只绘制可见列，且不再着色
+     */
+    private static final int LONG_LINE_PAINT_LIMIT = 4096;
+    private static final int FOLD_MARKER_WIDTH = 14;
+    private static final String FOLDED_PLACEHOLDER = " ... ";
+
+    private final RSyntaxTextArea styleSource;
+    private final LinesView linesView = new LinesView();
+    private final Gutter gutter = new Gutter();
+    private final JScrollPane scrollPane;
+    private final JPanel searchBar;
+    private final SearchTextField searchField;
+    private final JLabel searchStatusLabel;
+
+    private LargeResponseDocument document;
+    /**
+     * 用户折叠的区间：起始行 -> 结束行
+     */
+    private final TreeMap<Integer, Integer> collapsedFolds = new TreeMap<>();
+    /**
+     * 去掉被外层折叠覆盖后的有效折叠区间，按起始行升序，用于行号与视图行之间换算
+     */
+    private int[] hiddenStarts = new int[0];
+    private int[] hiddenEnds = new int[0];
+    private int hiddenLineCount;
+    private int selectedLine = -1;
+    private int matchOffset = -1;
+    private int matchLength;
+    private int searchGeneration;
+
+    LargeResponseViewer(RSyntaxTextArea styleSource) {
+        super(new BorderLayout());
+        this.styleSource = styleSource;
+        setOpaque(false);
+
+        scrollPane = new JScrollPane(linesView);
+        scrollPane.setRowHeaderView(gutter);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.getViewport().setBackground(styleSource.getBackground());
+
+        searchField = new SearchTextField();
+        searchField.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+                    find(!e.isShiftDown());
+                } else if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
+                    hideSearch();
+                }
+            }
+        });
+        searchStatusLabel = new JLabel();
+        searchBar = new JPanel();
+        searchBar.setLayout(new BoxLayout(searchBar, BoxLayout.X_AXIS));
+        searchBar.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
+        searchBar.add(searchField);
+        searchBar.add(Box.createHorizontalStrut(4));
+        searchBar.add(createSearchButton("icons/arrow-up.svg", UiI18n.get(UiMessageKeys.SEARCH_PREVIOUS), e -> find(false)));
+        searchBar.add(createSearchButton("icons/arrow-down.svg", UiI18n.get(UiMessageKeys.SEARCH_NEXT), e -> find(true)));
+        searchBar.add(Box.createHorizontalStrut(6));
+        searchBar.add(searchStatusLabel);
+        searchBar.add(Box.createHorizontalGlue());
+        searchBar.add(createSearchButton("icons/x.svg", UiI18n.get(UiMessageKeys.SEARCH_CLOSE), e -> hideSearch()));
+        searchBar.setVisible(false);
+
+        add(searchBar, BorderLayout.NORTH);
+        add(scrollPane, BorderLayout.CENTER);
+        installKeyBindings();
+    }
+
+    void setDocument(LargeResponseDocument document) {
+        this.document = document;
+        searchGeneration++;
+        collapsedFolds.clear();
+        recomputeHiddenRanges();
+        selectedLine = -1;
+        matchOffset = -1;
+        matchLength = 0;
+        searchField.setNoResult(false);
+        searchStatusLabel.setText("");
+        scrollPane.getViewport().setBackground(styleSource.getBackground());
+        linesView.revalidate();
+        gutter.revalidate();
+        scrollPane.getViewport().setViewPosition(new Point(0, 0));
+        repaint();
+    }
+
+    LargeResponseDocument getDocument() {
+        return document;
+    }
+
+    void clear() {
+        setDocument(null);
+    }
+
+    void showSearch() {
+        searchBar.setVisible(true);
+        revalidate();
+        searchField.requestFocusInWindow();
+        searchField.selectAll();
+    }
+
+    void hideSearch() {
+        searchBar.setVisible(false);
+        revalidate();
+        linesView.requestFocusInWindow();
+    }
+
+    int rowCount() {
+        return document == null ? 0 : document.lineCount() - hiddenLineCount;
+    }
+
+    /**
+     * 视图行 -> 文档行（跳过被折叠隐藏的行）
+     */
+    int rowToLine(int row) {
+        int line = row;
+        for (int k = 0; k < hiddenStarts.length && hiddenStarts[k] < line; k++) {
+            line += hiddenEnds[k] - hiddenStarts[k];
+        }
+        return line;
+    }
+
+    /**
+     * 文档行 -> 视图行；行被折叠隐藏时返回其所在折叠头的视图行
+     */
+    int lineToRow(int line) {
+        int row = line;
+        for (int k = 0; k < hiddenStarts.length && hiddenStarts[k] < line; k++) {
+            if (hiddenEnds[k] >= line) {
+                return row - (line - hiddenStarts[k]);
+            }
+            row -= hiddenEnds[k] - hiddenStarts[k];
+        }
+        return row;
+    }
+
+    boolean isCollapsed(int line) {
+        return collapsedFolds.containsKey(line);
+    }
+
+    void toggleFold(int line) {
+        if (document == null) {
+            return;
+        }
+        int end = document.foldEnd(line);
+        if (end <= line) {
+            return;
+        }
+        if (collapsedFolds.remove(line) == null) {
+            collapsedFolds.put(line, end);
+            if (selectedLine > line && selectedLine <= end) {
+                selectedLine = line;
+            }
+        }
+        recomputeHiddenRanges();
+        linesView.revalidate();
+        gutter.revalidate();
+        repaint();
+    }
+
+    /**
+     * 展开所有包含该行的折叠，让搜索命中的行可见
+     */
+    private void expandFoldsContaining(int line) {
+        boolean changed = false;
+        Iterator<Map.Entry<Integer, Integer>> iterator = collapsedFolds.headMap(line, false).entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() >= line) {
+                iterator.remove();
+                changed = true;
+            }
+        }
+        if (changed) {
+            recomputeHiddenRanges();
+            linesView.revalidate();
+            gutter.revalidate();
+        }
+    }
+
+    private void recomputeHiddenRanges() {
+        int[] starts = new int[collapsedFolds.size()];
+        int[] ends = new int[collapsedFolds.size()];
+        int count = 0;
+        int hidden = 0;
+        int coveredUntil = -1;
+        for (Map.Entry<Integer, Integer> fold : collapsedFolds.entrySet()) {
+            if (fold.getKey() <= coveredUntil) {
+                continue;
+            }
+            starts[count] = fold.getKey();
+            ends[count] = fold.getValue();
+            hidden += fold.getValue() - fold.getKey();
+            coveredUntil = fold.getValue();
+            count++;
+        }
+        hiddenStarts = Arrays.copyOf(starts, count);
+        hiddenEnds = Arrays.copyOf(ends, count);
+        hiddenLineCount = hidden;
+    }
+
+    /**
+     * 该行是有效折叠头时返回被隐藏区间的结束行，否则返回 -1
+     */
+    private int hiddenEndAt(int line) {
+        int index = Arrays.binarySearch(hiddenStarts, line);
+        return index >= 0 ? hiddenEnds[index] : -1;
+    }
+
+    /**
+     * 在后台线程查找（几十 MB 文本全量扫描可达数百毫秒），完成后回到 EDT 定位；连续触发时只采用最后一次的结果
+     */
+    private void find(boolean forward) {
+        String query = searchField.getText();
+        LargeResponseDocument searched = document;
+        if (searched == null || query == null || query.isEmpty()) {
+            searchField.setNoResult(false);
+            searchStatusLabel.setText("");
+            return;
+        }
+        int from;
+        if (matchOffset >= 0) {
+            from = forward ? matchOffset + 1 : matchOffset - 1;
+        } else {
+            from = selectedLine >= 0 ? searched.lineStart(selectedLine) : 0;
+        }
+        boolean matchCase = searchField.isCaseSensitive();
+        boolean wholeWord = searchField.isWholeWord();
+        int generation = ++searchGeneration;
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                return searched.find(query, from, forward, matchCase, wholeWord);
+            }
+
+            @Override
+            protected void done() {
+                if (generation != searchGeneration || searched != document) {
+                    return;
+                }
+                try {
+                    showMatch(get(), query.length());
+                } catch (Exception ex) {
+                    showMatch(-1, 0);
+                }
+            }
+        }.execute();
+    }
+
+    private void showMatch(int found, int length) {
+        if (found < 0) {
+            matchOffset = -1;
+            matchLength = 0;
+            searchField.setNoResult(true);
+            searchStatusLabel.setText(UiI18n.get(UiMessageKeys.SEARCH_NO_RESULTS));
+            repaint();
+            return;
+        }
+        matchOffset = found;
+        matchLength = length;
+        int line = document.lineOfOffset(found);
+        expandFoldsContaining(line);
+        selectedLine = line;
+        searchField.setNoResult(false);
+        searchStatusLabel.setText(I18nUtil.getMessage(MessageKeys.RESPONSE_LARGE_VIEWER_MATCH_LINE,
+                String.valueOf(line + 1)));
+        linesView.scrollToMatch(line, found - document.lineStart(line), matchLength);
+        repaint();
+    }
+
+    private void copySelectedLine() {
+        if (document == null || selectedLine < 0) {
+            return;
+        }
+        try {
+            Toolkit.getDefaultToolkit().getSystemClipboard()
+                    .setContents(new StringSelection(document.lineText(selectedLine)), null);
+            NotificationCenter.showInfo("Content copied to clipboard");
+        } catch (Exception ex) {
+            NotificationCenter.showError("Copy Error: " + ex.getMessage());
+        }
+    }
+
+    private void installKeyBindings() {
+        int menuMask = Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx();
+        InputMap inputMap = getInputMap(WHEN_ANCESTOR_OF_FOCUSED_COMPONENT);
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_F, menuMask), "largeResponse.search");
+        getActionMap().put("largeResponse.search", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                showSearch();
+            }
+        });
+        linesView.getInputMap(WHEN_FOCUSED).put(KeyStroke.getKeyStroke(KeyEvent.VK_C, menuMask), "largeResponse.copyLine");
+        linesView.getActionMap().put("largeResponse.copyLine", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                copySelectedLine();
+            }
+        });
+    }
+
+    private static JButton createSearchButton(String iconPath, String tooltip, java.awt.event.ActionListener listener) {
+        JButton button = new JButton(IconUtil.createThemed(iconPath, 16, 16));
+        button.setToolTipText(tooltip);
+        button.setFocusable(false);
+        button.putClientProperty(FlatClientProperties.BUTTON_TYPE, FlatClientProperties.BUTTON_TYPE_TOOLBAR_BUTTON);
+        button.addActionListener(listener);
+        return button;
+    }
+
+    private Font viewFont() {
+        return styleSource.getFont();
+    }
+
+    private int lineHeight(FontMetrics metrics) {
+        return Math.max(1, metrics.getHeight());
+    }
+
+    private Color tokenColor(int tokenType) {
+        Style style = styleSource.getSyntaxScheme().getStyle(tokenType);
+        return style != null && style.foreground != null ? style.foreground : styleSource.getForeground();
+    }
+
+    private static Color secondaryColor() {
+        Color color = UIManager.getColor("Label.disabledForeground");
+        return color != null ? color : Color.GRAY;
+    }
+
+    /**
+     * 文本区域：按可见行从索引取子串绘制
+     */
+    private final class LinesView extends JComponent implements Scrollable {
+
+        private LinesView() {
+            setFocusable(true);
+            setOpaque(true);
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mousePressed(MouseEvent e) {
+                    requestFocusInWindow();
+                    if (document == null) {
+                        return;
+                    }
+                    int row = e.getY() / lineHeight(getFontMetrics(viewFont()));
+                    if (row < rowCount()) {
+                        selectedLine = rowToLine(row);
+                        repaint();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            if (document == null) {
+                return new Dimension(1, 1);
+            }
+            FontMetrics metrics = getFontMetrics(viewFont());
+            long width = (long) (document.maxLineLength() + FOLDED_PLACEHOLDER.length() + 2) * metrics.charWidth('m');
+            long height = (long) rowCount() * lineHeight(metrics);
+            return new Dimension((int) Math.min(Integer.MAX_VALUE / 4, width), (int) Math.min(Integer.MAX_VALUE / 4, height));
+        }
+
+        @Override
+        protected void paintComponent(Graphics graphics) {
+            Graphics2D g = (Graphics2D) graphics.create();
+            try {
+                Rectangle clip = g.getClipBounds();
+                g.setColor(styleSource.getBackground());
+                g.fillRect(clip.x, clip.y, clip.width, clip.height);
+                if (document == null) {
+                    return;
+                }
+                g.setFont(viewFont());
+                g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                FontMetrics metrics = g.getFontMetrics();
+                int lineHeight = lineHeight(metrics);
+                int firstRow = Math.max(0, clip.y / lineHeight);
+                int lastRow = Math.min(rowCount() - 1, (clip.y + clip.height) / lineHeight);
+                int line = rowToLine(firstRow);
+                for (int row = firstRow; row <= lastRow && line < document.lineCount(); row++) {
+                    int y = row * lineHeight;
+                    if (line == selectedLine) {
+                        g.setColor(styleSource.getCurrentLineHighlightColor());
+                        g.fillRect(clip.x, y, clip.width, lineHeight);
+                    }
+                    int hiddenEnd = hiddenEndAt(line);
+                    paintLine(g, metrics, line, y, clip, hiddenEnd);
+                    line = hiddenEnd > 0 ? hiddenEnd + 1 : line + 1;
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+
+        private void paintLine(Graphics2D g, FontMetrics metrics, int line, int y, Rectangle clip, int hiddenEnd) {
+            int baseline = y + metrics.getAscent();
+            int length = document.lineLength(line);
+            if (length > LONG_LINE_PAINT_LIMIT) {
+                // 超长行（例如压缩成一行的大字段）只取可见列，按等宽估算位置
+                int charWidth = Math.max(1, metrics.charWidth('m'));
+                int firstColumn = Math.max(0, clip.x / charWidth);
+                int lastColumn = (clip.x + clip.width) / charWidth + 1;
+                paintMatch(g, metrics, line, y, firstColumn * charWidth, firstColumn, charWidth);
+                g.setColor(styleSource.getForeground());
+                g.drawString(document.lineText(line, firstColumn, lastColumn), firstColumn * charWidth, baseline);
+                return;
+            }
+            String text = document.lineText(line);
+            paintMatch(g, metrics, line, y, 0, 0, -1);
+            int x = document.isFormattedJson() ? paintJsonTokens(g, metrics, text, baseline) : paintPlain(g, metrics, text, baseline);
+            if (hiddenEnd > 0) {
+                g.setColor(secondaryColor());
+                g.drawString(FOLDED_PLACEHOLDER, x, baseline);
+                x += metrics.stringWidth(FOLDED_PLACEHOLDER);
+                g.setColor(styleSource.getForeground());
+                g.drawString(document.lineText(hiddenEnd).trim(), x, baseline);
+            }
+        }
+
+        /**
+         * 绘制当前命中的背景；charWidth 为 -1 时按真实字形宽度计算位置
+         */
+        private void paintMatch(Graphics2D g, FontMetrics metrics, int line, int y, int originX, int originColumn,
+                                int charWidth) {
+            if (matchOffset < 0 || document.lineOfOffset(matchOffset) != line) {
+                return;
+            }
+            int column = matchOffset - document.lineStart(line);
+            int x;
+            int width;
+            if (charWidth > 0) {
+                x = originX + (column - originColumn) * charWidth;
+                width = matchLength * charWidth;
+            } else {
+                x = metrics.stringWidth(document.lineText(line, 0, column));
+                width = metrics.stringWidth(document.lineText(line, column, column + matchLength));
+            }
+            g.setColor(styleSource.getMarkAllHighlightColor());
+            g.fillRect(x, y, Math.max(1, width), lineHeight(metrics));
+        }
+
+        private int paintPlain(Graphics2D g, FontMetrics metrics, String text, int baseline) {
+            g.setColor(styleSource.getForeground());
+            g.drawString(text, 0, baseline);
+            return metrics.stringWidth(text);
+        }
+
+        /**
+         * 美化后 JSON 单行的轻量着色：键、字符串、数字、true/false/null，其余按普通文本
+         */
+        private int paintJsonTokens(Graphics2D g, FontMetrics metrics, String text, int baseline) {
+            int x = 0;
+            int i = 0;
+            int length = text.length();
+            while (i < length) {
+                char c = text.charAt(i);
+                int end;
+                Color color;
+                if (c == '"') {
+                    end = i + 1;
+                    while (end < length && text.charAt(end) != '"') {
+                        end += text.charAt(end) == '\\' ? 2 : 1;
+                    }
+                    end = Math.min(length, end + 1);
+                    color = isPropertyName(text, end) ? tokenColor(TokenTypes.VARIABLE)
+                            : tokenColor(TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
+                } else if (c == '-' || Character.isDigit(c)) {
+                    end = i + 1;
+                    while (end < length && "0123456789.eE+-".indexOf(text.charAt(end)) >= 0) {
+                        end++;
+                    }
+                    color = tokenColor(TokenTypes.LITERAL_NUMBER_DECIMAL_INT);
+                } else if (Character.isLetter(c)) {
+                    end = i + 1;
+                    while (end < length && Character.isLetter(text.charAt(end))) {
+                        end++;
+                    }
+                    color = tokenColor(TokenTypes.LITERAL_BOOLEAN);
+                } else {
+                    end = i + 1;
+                    while (end < length && !isTokenStart(text.charAt(end))) {
+                        end++;
+                    }
+                    color = styleSource.getForeground();
+                }
+                String token = text.substring(i, end);
+                g.setColor(color);
+                g.drawString(token, x, baseline);
+                x += metrics.stringWidth(token);
+                i = end;
+            }
+            return x;
+        }
+
+        private boolean isPropertyName(String text, int afterString) {
+            for (int i = afterString; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c != ' ') {
+                    return c == ':';
+                }
+            }
+            return false;
+        }
+
+        private boolean isTokenStart(char c) {
+            return c == '"' || c == '-' || Character.isLetterOrDigit(c);
+        }
+
+        private void scrollToMatch(int line, int column, int length) {
+            revalidate();
+            FontMetrics metrics = getFontMetrics(viewFont());
+            int lineHeight = lineHeight(metrics);
+            int charWidth = Math.max(1, metrics.charWidth('m'));
+            Rectangle target = new Rectangle(column * charWidth, lineToRow(line) * lineHeight,
+                    Math.max(1, length * charWidth), lineHeight);
+            // 布局更新后再滚动，折叠刚被展开时首选高度才是新的
+            SwingUtilities.invokeLater(() -> {
+                JViewport viewport = scrollPane.getViewport();
+                Rectangle visible = viewport.getViewRect();
+                Rectangle centered = new Rectangle(target);
+                centered.y = Math.max(0, target.y - visible.height / 2);
+                centered.height = visible.height;
+                centered.x = Math.max(0, target.x - visible.width / 3);
+                centered.width = Math.min(visible.width, target.width + visible.width / 3);
+                scrollRectToVisible(centered);
+            });
+        }
+
+        @Override
+        public Dimension getPreferredScrollableViewportSize() {
+            return getPreferredSize();
+        }
+
+        @Override
+        public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+            FontMetrics metrics = getFontMetrics(viewFont());
+            return orientation == SwingConstants.VERTICAL ? lineHeight(metrics) : metrics.charWidth('m') * 4;
+        }
+
+        @Override
+        public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+            return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        }
+
+        @Override
+        public boolean getScrollableTracksViewportWidth() {
+            return getParent() instanceof JViewport viewport && viewport.getWidth() > getPreferredSize().width;
+        }
+
+        @Override
+        public boolean getScrollableTracksViewportHeight() {
+            return getParent() instanceof JViewport viewport && viewport.getHeight() > getPreferredSize().height;
+        }
+    }
+
+    /**
+     * 行号和折叠标记
+     */
+    private final class Gutter extends JComponent {
+
+        private Gutter() {
+            setOpaque(true);
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mousePressed(MouseEvent e) {
+                    if (document == null) {
+                        return;
+                    }
+                    int row = e.getY() / lineHeight(getFontMetrics(viewFont()));
+                    if (row < rowCount()) {
+                        toggleFold(rowToLine(row));
+                    }
+                }
+            });
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            FontMetrics metrics = getFontMetrics(viewFont());
+            int digits = String.valueOf(Math.max(1, document == null ? 1 : document.lineCount())).length();
+            int height = linesView.getPreferredSize().height;
+            return new Dimension(digits * metrics.charWidth('0') + FOLD_MARKER_WIDTH + 8, height);
+        }
+
+        @Override
+        protected void paintComponent(Graphics graphics) {
+            Graphics2D g = (Graphics2D) graphics.create();
+            try {
+                Rectangle clip = g.getClipBounds();
+                g.setColor(styleSource.getBackground());
+                g.fillRect(clip.x, clip.y, clip.width, clip.height);
+                if (document == null) {
+                    return;
+                }
+                g.setFont(viewFont());
+                g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                FontMetrics metrics = g.getFontMetrics();
+                int lineHeight = lineHeight(metrics);
+                int numberRight = getWidth() - FOLD_MARKER_WIDTH - 4;
+                int firstRow = Math.max(0, clip.y / lineHeight);
+                int lastRow = Math.min(rowCount() - 1, (clip.y + clip.height) / lineHeight);
+                int line = rowToLine(firstRow);
+                g.setColor(secondaryColor());
+                for (int row = firstRow; row <= lastRow && line < document.lineCount(); row++) {
+                    int y = row * lineHeight;
+                    String number = String.valueOf(line + 1);
+                    g.drawString(number, numberRight - metrics.stringWidth(number), y + metrics.getAscent());
+                    int hiddenEnd = hiddenEndAt(line);
+                    if (document.foldEnd(line) > line) {
+                        paintFoldMarker(g, numberRight + 4, y, lineHeight, hiddenEnd > 0);
+                    }
+                    line = hiddenEnd > 0 ? hiddenEnd + 1 : line + 1;
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+
+        private void paintFoldMarker(Graphics2D g, int x, int y, int lineHeight, boolean collapsed) {
+            int size = Math.min(8, lineHeight - 4);
+            int cx = x + FOLD_MARKER_WIDTH / 2;
+            int cy = y + lineHeight / 2;
+            Polygon marker = new Polygon();
+            if (collapsed) {
+                marker.addPoint(cx - size / 4, cy - size / 2);
+                marker.addPoint(cx + size / 4 + 1, cy);
+                marker.addPoint(cx - size / 4, cy + size / 2);
+            } else {
+                marker.addPoint(cx - size / 2, cy - size / 4);
+                marker.addPoint(cx + size / 2, cy - size / 4);
+                marker.addPoint(cx, cy + size / 4 + 1);
+            }
+            g.fillPolygon(marker);
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class RequestSettingsPanel extends JScrollPane {
     private final boolean webSocketSettingsVisible;
     private final EasyComboBox<BooleanSettingOption> followRedirectsComboBox;
     private final SwitchButton useCookieJarSwitch;
+    private final SwitchButton replayCacheableSwitch;
     private final EasyComboBox<ProxyPolicyOption> proxyPolicyComboBox;
     private final EasyComboBox<HttpVersionOption> httpVersionComboBox;
     private final EasyComboBox<IntegerSettingOption> webSocketPingIntervalComboBox;
@@ -74,6 +75,7 @@ public class RequestSettingsPanel extends JScrollPane {
 
         followRedirectsComboBox = createSettingComboBox(createBooleanSettingOptions());
         useCookieJarSwitch = new SwitchButton();
+        replayCacheableSwitch = new SwitchButton();
         proxyPolicyComboBox = createSettingComboBox(createProxyPolicyOptions());
         httpVersionComboBox = createSettingComboBox(createHttpVersionOptions());
         webSocketPingIntervalComboBox = createSettingComboBox(createWebSocketPingIntervalOptions());
@@ -119,6 +121,11 @@ public class RequestSettingsPanel extends JScrollPane {
             content.add(createWebSocketPingIntervalRow(), "growx, wrap");
         }
         content.add(createTimeoutRow(), "growx, wrap");
+        content.add(createSwitchRow(
+                I18nUtil.getMessage(MessageKeys.REQUEST_SETTINGS_REPLAY_CACHEABLE_LABEL),
+                I18nUtil.getMessage(MessageKeys.REQUEST_SETTINGS_REPLAY_CACHEABLE_DESC),
+                replayCacheableSwitch
+        ), "growx, wrap");
         populate(null);
     }
 
@@ -135,6 +142,7 @@ public class RequestSettingsPanel extends JScrollPane {
         selectWebSocketPingInterval(settings != null ? settings.getWebSocketPingIntervalMs() : null);
         Integer requestTimeout = settings != null ? settings.getRequestTimeoutMs() : null;
         requestTimeoutField.setText(requestTimeout != null ? String.valueOf(requestTimeout) : "");
+        replayCacheableSwitch.setSelected(settings != null && Boolean.TRUE.equals(settings.getReplayCacheable()));
     }
 
     public HttpRequestSettingsDraft collectSettings() {
@@ -145,6 +153,7 @@ public class RequestSettingsPanel extends JScrollPane {
                 .httpVersion(getStoredHttpVersionValue())
                 .requestTimeoutMs(getStoredRequestTimeoutValue())
                 .webSocketPingIntervalMs(getStoredWebSocketPingIntervalValue())
+                .replayCacheable(replayCacheableSwitch.isSelected() ? Boolean.TRUE : null)
                 .build();
     }
 
@@ -163,6 +172,7 @@ public class RequestSettingsPanel extends JScrollPane {
     public void setEditable(boolean editable) {
         followRedirectsComboBox.setEnabled(editable);
         useCookieJarSwitch.setEnabled(editable);
+        replayCacheableSwitch.setEnabled(editable);
         proxyPolicyComboBox.setEnabled(editable);
         httpVersionComboBox.setEnabled(editable);
         webSocketPingIntervalComboBox.setEnabled(editable && webSocketSettingsVisible);
@@ -178,6 +188,7 @@ public class RequestSettingsPanel extends JScrollPane {
         }
         followRedirectsComboBox.addActionListener(e -> listener.run());
         useCookieJarSwitch.addActionListener(e -> listener.run());
+        replayCacheableSwitch.addActionListener(e -> listener.run());
         proxyPolicyComboBox.addActionListener(e -> listener.run());
         httpVersionComboBox.addActionListener(e -> listener.run());
         webSocketPingIntervalComboBox.addActionListener(e -> {
@@ -57,10 +57,16 @@ public class ResponseBodyPanel extends JPanel {
     private final CopyButton copyButton;
     private final WrapToggleButton wrapButton;
     private final SearchableTextArea searchableTextArea; // 带搜索功能的文本编辑器
+    private final LargeResponseViewer largeResponseViewer; // 超大响应体的虚拟化查看器
+    private String largeBodyText; // 当前由虚拟化查看器展示的原始响应体，非大响应时为 null
+    private SwingWorker<LargeResponseDocument, Void> largeIndexWorker;
+    private SwingWorker<String, Void> spilledBodyWorker; // 后台读取溢出到临时文件的文本响应体
 
     // 常量定义
     private static final int LARGE_RESPONSE_THRESHOLD = 500 * 1024; // 500KB threshold
     private static final int MAX_AUTO_FORMAT_SIZE = 1024 * 1024; // 1MB max for auto-format
+    private static final int LARGE_VIEWER_THRESHOLD = MAX_AUTO_FORMAT_SIZE; // 超过该字符数改用虚拟化查看器
+    private static final long MAX_SPILLED_VIEWER_BYTES = 64L * 1024 * 1024; // 溢出到临时文件的文本响应体不超过该大小时载入查看器
     private static final int BUFFER_SIZE = 8192;
     private static final String DEFAULT_FILE_NAME = "downloaded_file";
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
@@ -68,6 +74,7 @@ public class ResponseBodyPanel extends JPanel {
     private static final String CARD_TEXT = "TEXT";
     private static final String CARD_IMAGE = "IMAGE";
     private static final String CARD_MEDIA = "MEDIA";
+    private static final String CARD_LARGE_TEXT = "LARGE_TEXT";
 
     // 图片预览组件
     private final JLabel imagePreviewLabel;
@@ -104,6 +111,7 @@ public class ResponseBodyPanel extends JPanel {
         imageScrollPane.setBorder(BorderFactory.createEmptyBorder());
 
         mediaResponsePanel = new MediaResponsePanel();
+        largeResponseViewer = new LargeResponseViewer(responseBodyPane);
 
         // 使用 CardLayout 在文本、图片和媒体视图之间切换
         JPanel centerPanel = new JPanel(new CardLayout());
@@ -111,6 +119,7 @@ public class ResponseBodyPanel extends JPanel {
         centerPanel.add(searchableTextArea, CARD_TEXT);
         centerPanel.add(imageScrollPane, CARD_IMAGE);
         centerPanel.add(mediaResponsePanel, CARD_MEDIA);
+        centerPanel.add(largeResponseViewer, CARD_LARGE_TEXT);
         add(centerPanel, BorderLayout.CENTER);
 
         JPanel toolBarPanel = new JPanel();
@@ -136,6 +145,10 @@ public class ResponseBodyPanel extends JPanel {
         // 搜索按钮
         searchButton = new SearchButton();
         searchButton.addActionListener(e -> {
+            if (isLargeViewerActive()) {
+                largeResponseViewer.showSearch();
+                return;
+            }
             responseBodyPane.requestFocusInWindow();
             searchableTextArea.showSearch();
         });
@@ -182,6 +195,10 @@ public class ResponseBodyPanel extends JPanel {
      * 根据用户选择的语法类型更新编辑器的语法高亮
      */
     private void onSyntaxComboChanged() {
+        if (isLargeViewerActive()) {
+            // 虚拟化查看器只区分 JSON 与纯文本，语法由后台格式化结果决定
+            return;
+        }
         int idx = syntaxComboBox.getSelectedIndex();
         SyntaxType syntaxType = SyntaxType.getByIndex(idx);
 
@@ -239,7 +256,7 @@ public class ResponseBodyPanel extends JPanel {
                     }
                 } else {
                     // 如果是文本响应，直接保存文本内容
-                    String content = responseBodyPane.getText();
+                    String content = currentBodyText();
                     if (content != null && !content.isEmpty()) {
                         try (OutputStreamWriter writer = new OutputStreamWriter(
                                 new FileOutputStream(destFile), StandardCharsets.UTF_8)) {
@@ -280,6 +297,13 @@ public class ResponseBodyPanel extends JPanel {
      * 根据 Content-Type 对 JSON 或 XML 进行格式化美化
      */
     private void formatContent() {
+        if (isLargeViewerActive()) {
+            LargeResponseDocument document = largeResponseViewer.getDocument();
+            if (document == null || !document.isFormattedJson()) {
+                startLargeIndexing(true);
+            }
+            return;
+        }
         String text = responseBodyPane.getText();
         if (text == null || text.isEmpty()) {
             return;
@@ -309,7 +333,7 @@ public class ResponseBodyPanel extends JPanel {
      * 将响应体内容复制到系统剪贴板
      */
     private void copyToClipboard() {
-        String text = responseBodyPane.getText();
+        String text = currentBodyText();
         if (text == null || text.isEmpty()) {
             return;
         }
@@ -327,6 +351,21 @@ public class ResponseBodyPanel extends JPanel {
         }
     }
 
+    /**
+     * 当前展示的文本：大响应取格式化后的文本（未就绪时取原文），否则取编辑器内容
+     */
+    private String currentBodyText() {
+        if (isLargeViewerActive()) {
+            LargeResponseDocument document = largeResponseViewer.getDocument();
+            return document != null ? document.text() : largeBodyText;
+        }
+        return responseBodyPane.getText();
+    }
+
+    private boolean isLargeViewerActive() {
+        return largeBodyText != null;
+    }
+
     /**
      * 从响应头中获取 Content-Type
      *
@@ -366,6 +405,7 @@ public class ResponseBodyPanel extends JPanel {
         this.currentFilePath = resp.filePath;
         this.fileName = resp.fileName;
         this.lastHeaders = resp.headers;
+        resetLargeViewer();
         String contentType = extractContentType(resp.headers);
 
         String mainContentType = FileExtensionUtil.extractMainType(contentType);
@@ -394,9 +434,21 @@ public class ResponseBodyPanel extends JPanel {
             return;
         }
 
+        // 超过最大响应体大小的文本已写入临时文件，打开时才在后台读取
+        if (resp.bodySpilledToFile && resp.filePath != null && resp.bodySize <= MAX_SPILLED_VIEWER_BYTES) {
+            loadSpilledResponse(resp, contentType);
+            return;
+        }
+
+        String text = resp.body;
+        // 超大文本在后台格式化并建行索引，不进入编辑器 Document
+        if (text != null && text.length() > LARGE_VIEWER_THRESHOLD) {
+            showLargeResponse(text, contentType, resp.bodySize);
+            return;
+        }
+
         // 切换回文本视图
         switchCard(CARD_TEXT);
-        String text = resp.body;
 
         int textSize = text != null ? text.getBytes().length : 0;
         boolean isLargeResponse = textSize > LARGE_RESPONSE_THRESHOLD;
@@ -501,18 +553,144 @@ public class ResponseBodyPanel extends JPanel {
         // 大文件不自动格式化
     }
 
+    /**
+     * 大响应体：先切到虚拟化查看器并释放编辑器里的旧文本，格式化和分行在后台完成
+     */
+    private void showLargeResponse(String text, String contentType, long bodySize) {
+        largeBodyText = text;
+        responseBodyPane.setText("");
+        responseBodyPane.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_NONE);
+        largeResponseViewer.clear();
+        switchCard(CARD_LARGE_TEXT);
+        wrapButton.setEnabled(false);
+        syntaxComboBox.setEnabled(false);
+        long size = bodySize > 0 ? bodySize : text.length();
+        updateSizeWarning((int) Math.min(Integer.MAX_VALUE, size), true);
+        startLargeIndexing(SettingManager.isAutoFormatResponse() && looksLikeJson(text, contentType == null ? "" : contentType.toLowerCase()));
+    }
+
+    /**
+     * 先显示临时文件提示，读取完成后交给虚拟化查看器；读取失败（如临时文件已清理）时保留提示
+     */
+    private void loadSpilledResponse(HttpResponse resp, String contentType) {
+        switchCard(CARD_TEXT);
+        responseBodyPane.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_NONE);
+        responseBodyPane.setText(resp.body);
+        responseBodyPane.setCaretPosition(0);
+        SwingWorker<String, Void> worker = new SwingWorker<>() {
+            @Override
+            protected String doInBackground() {
+                return resp.fullBodyText();
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || spilledBodyWorker != this) {
+                    return;
+                }
+                spilledBodyWorker = null;
+                try {
+                    showLargeResponse(get(), contentType, resp.bodySize);
+                } catch (Exception ignored) {
+                    // 保留临时文件提示，用户仍可下载
+                }
+            }
+        };
+        spilledBodyWorker = worker;
+        worker.execute();
+    }
+
+    /**
+     * 在后台生成行索引；新的响应或新的格式化请求会取消尚未完成的任务
+     */
+    private void startLargeIndexing(boolean formatJson) {
+        if (largeIndexWorker != null) {
+            largeIndexWorker.cancel(true);
+        }
+        String text = largeBodyText;
+        String sizeText = sizeWarningLabel.getText().replace(SKIP_AUTO_FORMAT_MESSAGE, "");
+        sizeWarningLabel.setText(sizeText + "  " + I18nUtil.getMessage(MessageKeys.RESPONSE_LARGE_VIEWER_INDEXING, "0"));
+        SwingWorker<LargeResponseDocument, Void> worker = new SwingWorker<>() {
+            @Override
+            protected LargeResponseDocument doInBackground() {
+                return LargeResponseDocument.build(text, formatJson, permille -> setProgress(permille / 10), this::isCancelled);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || largeIndexWorker != this) {
+                    return;
+                }
+                largeIndexWorker = null;
+                try {
+                    LargeResponseDocument document = get();
+                    largeResponseViewer.setDocument(document);
+                    String syntax = document.isFormattedJson()
+                            ? SyntaxConstants.SYNTAX_STYLE_JSON : SyntaxConstants.SYNTAX_STYLE_NONE;
+                    syntaxComboBox.setSelectedIndex(SyntaxType.getBySyntaxStyle(syntax).getIndex());
+                    String status = formatJson && !document.isFormattedJson()
+                            ? I18nUtil.getMessage(MessageKeys.RESPONSE_LARGE_VIEWER_FORMAT_SKIPPED)
+                            : I18nUtil.getMessage(MessageKeys.RESPONSE_LARGE_VIEWER_LINES, String.valueOf(document.lineCount()));
+                    sizeWarningLabel.setText(sizeText + "  " + status);
+                } catch (Exception ex) {
+                    NotificationCenter.showError("Format Error: " + ex.getMessage());
+                    sizeWarningLabel.setText(sizeText);
+                }
+            }
+        };
+        worker.addPropertyChangeListener(event -> {
+            if ("progress".equals(event.getPropertyName()) && largeIndexWorker == worker) {
+                sizeWarningLabel.setText(sizeText + "  " + I18nUtil.getMessage(
+                        MessageKeys.RESPONSE_LARGE_VIEWER_INDEXING, String.valueOf(event.getNewValue())));
+            }
+        });
+        largeIndexWorker = worker;
+        worker.execute();
+    }
+
+    /**
+     * 只看 Content-Type 和首尾字符；是否为合法 JSON 由后台格式化时判定，避免在 EDT 上整段解析
+     */
+    private static boolean looksLikeJson(String text, String contentType) {
+        if (contentType.contains("json")) {
+            return true;
+        }
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return start < text.length() && (text.charAt(start) == '{' || text.charAt(start) == '[');
+    }
+
+    private void resetLargeViewer() {
+        if (spilledBodyWorker != null) {
+            spilledBodyWorker.cancel(true);
+            spilledBodyWorker = null;
+        }
+        if (largeIndexWorker != null) {
+            largeIndexWorker.cancel(true);
+            largeIndexWorker = null;
+        }
+        if (largeBodyText != null) {
+            largeBodyText = null;
+            largeResponseViewer.clear();
+            wrapButton.setEnabled(isEnabled());
+            syntaxComboBox.setEnabled(isEnabled());
+        }
+    }
+
     @Override
     public void setEnabled(boolean enabled) {
         super.setEnabled(enabled);
         responseBodyPane.setEnabled(enabled);
-        syntaxComboBox.setEnabled(enabled);
+        syntaxComboBox.setEnabled(enabled && !isLargeViewerActive());
         searchButton.setEnabled(enabled);
         downloadButton.setEnabled(enabled);
         searchableTextArea.setEnabled(enabled);
 
         if (formatButton != null) formatButton.setEnabled(enabled);
         if (copyButton != null) copyButton.setEnabled(enabled);
-        if (wrapButton != null) wrapButton.setEnabled(enabled);
+        if (wrapButton != null) wrapButton.setEnabled(enabled && !isLargeViewerActive());
         if (saveResponseButton != null) saveResponseButton.setEnabled(enabled);
         mediaResponsePanel.setEnabled(enabled);
     }
@@ -602,6 +780,7 @@ public class ResponseBodyPanel extends JPanel {
      * 清空响应体内容
      */
     private void clearResponseBody() {
+        resetLargeViewer();
         responseBodyPane.setText("");
         currentFilePath = null;
         fileName = DEFAULT_FILE_NAME;
@@ -44,6 +44,10 @@ public class ResponseTooltipBuilder {
                     ModernColors.getSuccess()));
             root.add(subRow(I18nUtil.getMessage(MessageKeys.RESPONSE_SIZE_UNCOMPRESSED),
                     ResponseSizeCalculator.formatBytes(uncompressedBytes)));
+            if (info.getDecompressionNanos() > 0) {
+                root.add(subRow(I18nUtil.getMessage(MessageKeys.RESPONSE_SIZE_DECOMPRESSION_TIME),
+                        String.format("%.2f ms", info.getDecompressionNanos() / 1_000_000.0)));
+            }
             root.add(Box.createVerticalStrut(6));
             root.add(compressionBadge(sizeInfo));
         } else {
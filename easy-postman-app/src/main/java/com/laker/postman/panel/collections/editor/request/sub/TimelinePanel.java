@@ -526,6 +526,7 @@ public class TimelinePanel extends JPanel {
         String localAddr = null;
         String remoteAddr = null;
         String tls = null;
+        String tlsHandshake = null;
         String cipher = null;
         String certCN = null;
         String issuerCN = null;
@@ -535,6 +536,11 @@ public class TimelinePanel extends JPanel {
             localAddr = httpEventInfo.getLocalAddress();
             remoteAddr = httpEventInfo.getRemoteAddress();
             tls = httpEventInfo.getTlsVersion();
+            if (httpEventInfo.getTlsSessionResumed() != null) {
+                tlsHandshake = I18nUtil.getMessage(httpEventInfo.getTlsSessionResumed()
+                        ? MessageKeys.WATERFALL_TLS_HANDSHAKE_RESUMED
+                        : MessageKeys.WATERFALL_TLS_HANDSHAKE_FULL);
+            }
             cipher = httpEventInfo.getCipherName();
             if (httpEventInfo.getPeerCertificates() != null && !httpEventInfo.getPeerCertificates().isEmpty()) {
                 var cert = httpEventInfo.getPeerCertificates().get(0);
@@ -548,6 +554,7 @@ public class TimelinePanel extends JPanel {
         List<InfoItem> items = new ArrayList<>();
         items.add(new InfoItem(I18nUtil.getMessage(MessageKeys.WATERFALL_HTTP_VERSION), valueOrDash(protocol), false));
         items.add(new InfoItem(I18nUtil.getMessage(MessageKeys.WATERFALL_TLS_PROTOCOL), valueOrDash(tls), false));
+        items.add(new InfoItem(I18nUtil.getMessage(MessageKeys.WATERFALL_TLS_HANDSHAKE), valueOrDash(tlsHandshake), false));
         items.add(new InfoItem(I18nUtil.getMessage(MessageKeys.WATERFALL_LOCAL_ADDRESS), valueOrDash(localAddr), false));
         items.add(new InfoItem(I18nUtil.getMessage(MessageKeys.WATERFALL_REMOTE_ADDRESS), valueOrDash(remoteAddr), false));
         items.add(new InfoItem(I18nUtil.getMessage(MessageKeys.WATERFALL_CIPHER_NAME), valueOrDash(cipher), false));
@@ -30,7 +30,10 @@ import com.laker.postman.panel.collections.tree.adapter.SwingCollectionTreeDocum
 import com.laker.postman.service.curl.CurlParser;
 import com.laker.postman.service.har.HarParser;
 import com.laker.postman.service.ideahttp.IntelliJHttpParser;
+import com.laker.postman.collection.importer.ImportProgressListener;
+import com.laker.postman.collection.importer.StreamingImportOptions;
 import com.laker.postman.collection.importer.postman.PostmanCollectionParser;
+import com.laker.postman.service.setting.SettingManager;
 import com.laker.postman.service.swagger.SwaggerParser;
 import com.laker.postman.util.I18nUtil;
 import com.laker.postman.util.IconUtil;
@@ -54,7 +57,10 @@ import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static com.laker.postman.panel.collections.tree.CollectionTreePanel.*;
 
@@ -67,6 +73,7 @@ public class CollectionTreeToolbar extends UiSingletonPanel {
     private static final String FILE_CHOOSER_STATE_SWAGGER_IMPORT = "collections.import.swagger";
     private static final String FILE_CHOOSER_STATE_HTTP_IMPORT = "collections.import.http";
     private static final String FILE_CHOOSER_STATE_APIPOST_IMPORT = "collections.import.apipost";
+    private static final int IMPORT_PROGRESS_SCALE = 1000;
 
     private SearchTextField searchField;
     /**
@@ -310,25 +317,25 @@ public class CollectionTreeToolbar extends UiSingletonPanel {
         int userSelection = fileChooser.showOpenDialog(mainFrame);
         if (userSelection == SystemFileChooser.APPROVE_OPTION) {
             File fileToOpen = fileChooser.getSelectedFile();
-            try {
-                String json = FileUtil.readString(fileToOpen, StandardCharsets.UTF_8);
-                CollectionParseResult parseResult =
-                        PostmanCollectionParser.parsePostmanCollection(json);
-                if (parseResult != null) {
-                    DefaultMutableTreeNode collectionNode =
-                            TreeNodeBuilder.buildFromParseResult(parseResult);
-                    leftPanel.getRootTreeNode().add(collectionNode);
-                    leftPanel.getTreeModel().reload();
-                    leftPanel.getCollectionTreePersistence().saveCurrentTree();
-                    leftPanel.getRequestTree().expandPath(new TreePath(collectionNode.getPath()));
-                    NotificationCenter.showSuccess(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_SUCCESS));
-                } else {
-                    NotificationCenter.showError(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_POSTMAN_INVALID));
-                }
-            } catch (Exception ex) {
-                log.error("Import error", ex);
-                NotificationCenter.showError(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_FAIL, ex.getMessage()));
-            }
+            importInBackground(fileToOpen,
+                    options -> PostmanCollectionParser.parsePostmanCollection(fileToOpen.toPath(), options),
+                    MessageKeys.COLLECTIONS_IMPORT_POSTMAN_INVALID,
+                    parseResult -> {
+                        DefaultMutableTreeNode collectionNode =
+                                TreeNodeBuilder.buildFromParseResult(parseResult);
+                        leftPanel.getRootTreeNode().add(collectionNode);
+                        leftPanel.getTreeModel().reload();
+                        leftPanel.getCollectionTreePersistence().saveCurrentTree();
+                        leftPanel.getRequestTree().expandPath(new TreePath(collectionNode.getPath()));
+                        if (parseResult.getSkippedResponseBodies() > 0) {
+                            NotificationCenter.showSuccess(I18nUtil.getMessage(
+                                    MessageKeys.COLLECTIONS_IMPORT_SKIPPED_RESPONSE_BODIES,
+                                    String.valueOf(parseResult.getSkippedResponseBodies()),
+                                    String.valueOf(SettingManager.getImportResponseBodyLimitMb())));
+                        } else {
+                            NotificationCenter.showSuccess(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_SUCCESS));
+                        }
+                    });
         }
     }
 
@@ -342,23 +349,74 @@ public class CollectionTreeToolbar extends UiSingletonPanel {
         int userSelection = fileChooser.showOpenDialog(mainFrame);
         if (userSelection == SystemFileChooser.APPROVE_OPTION) {
             File fileToOpen = fileChooser.getSelectedFile();
-            try {
-                String json = FileUtil.readString(fileToOpen, StandardCharsets.UTF_8);
-                DefaultMutableTreeNode collectionNode = HarParser.parseHar(json);
-                if (collectionNode != null) {
-                    leftPanel.getRootTreeNode().add(collectionNode);
-                    leftPanel.getTreeModel().reload();
-                    leftPanel.getCollectionTreePersistence().saveCurrentTree();
-                    leftPanel.getRequestTree().expandPath(new TreePath(collectionNode.getPath()));
-                    NotificationCenter.showSuccess(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_SUCCESS));
-                } else {
-                    NotificationCenter.showError(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_HAR_INVALID));
+            importInBackground(fileToOpen,
+                    options -> HarParser.parseHar(fileToOpen.toPath(), options),
+                    MessageKeys.COLLECTIONS_IMPORT_HAR_INVALID,
+                    collectionNode -> {
+                        leftPanel.getRootTreeNode().add(collectionNode);
+                        leftPanel.getTreeModel().reload();
+                        leftPanel.getCollectionTreePersistence().saveCurrentTree();
+                        leftPanel.getRequestTree().expandPath(new TreePath(collectionNode.getPath()));
+                        NotificationCenter.showSuccess(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_SUCCESS));
+                    });
+        }
+    }
+
+    /**
+     * 在后台线程流式解析导入文件并显示进度，解析成功后回到 EDT 挂载结果。
+     * 取消进度框会在下一次进度回调时中止解析。
+     */
+    private <T> void importInBackground(File file,
+                                        Function<StreamingImportOptions, T> parser,
+                                        String invalidMessageKey,
+                                        Consumer<T> onParsed) {
+        MainFrame mainFrame = UiSingletonFactory.getInstance(MainFrame.class);
+        ProgressMonitor monitor = new ProgressMonitor(mainFrame,
+                I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_PROGRESS, file.getName()),
+                "", 0, IMPORT_PROGRESS_SCALE);
+        monitor.setMillisToDecideToPopup(200);
+        monitor.setMillisToPopup(400);
+        ImportProgressListener progressListener = (bytesRead, totalBytes, importedRequests) -> {
+            if (monitor.isCanceled()) {
+                throw new CancellationException("Import canceled");
+            }
+            int progress = totalBytes > 0
+                    ? (int) Math.min(IMPORT_PROGRESS_SCALE, bytesRead * IMPORT_PROGRESS_SCALE / totalBytes)
+                    : 0;
+            SwingUtilities.invokeLater(() -> {
+                monitor.setProgress(progress);
+                monitor.setNote(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_PROGRESS_NOTE,
+                        String.valueOf(importedRequests)));
+            });
+        };
+        // 单个 Saved Response 响应体超过设置上限的只导入请求本身
+        StreamingImportOptions options = new StreamingImportOptions(
+                SettingManager.getImportResponseBodyLimitChars(), progressListener);
+        new SwingWorker<T, Void>() {
+            @Override
+            protected T doInBackground() {
+                return parser.apply(options);
+            }
+
+            @Override
+            protected void done() {
+                monitor.close();
+                if (monitor.isCanceled()) {
+                    return;
+                }
+                try {
+                    T result = get();
+                    if (result == null) {
+                        NotificationCenter.showError(I18nUtil.getMessage(invalidMessageKey));
+                    } else {
+                        onParsed.accept(result);
+                    }
+                } catch (Exception ex) {
+                    log.error("Import error: {}", file, ex);
+                    NotificationCenter.showError(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_FAIL, ex.getMessage()));
                 }
-            } catch (Exception ex) {
-                log.error("Import HAR error", ex);
-                NotificationCenter.showError(I18nUtil.getMessage(MessageKeys.COLLECTIONS_IMPORT_FAIL, ex.getMessage()));
             }
-        }
+        }.execute();
     }
 
     // 导入Swagger/OpenAPI集合
@@ -0,0 +1,228 @@
+package com.laker.postman.panel.performance;
+
+import com.laker.postman.common.component.ToolWindowSurfaceStyle;
+import com.laker.postman.common.component.notification.NotificationCenter;
+import com.laker.postman.common.constants.ModernColors;
+import com.laker.postman.performance.mock.PerformanceMockOptions;
+import com.laker.postman.performance.mock.PerformanceMockRoute;
+import com.laker.postman.performance.mock.PerformanceMockRouteLoader;
+import com.laker.postman.performance.mock.PerformanceMockServer;
+import com.laker.postman.performance.mock.PerformanceMockStatsSnapshot;
+import com.laker.postman.service.WorkspaceService;
+import com.laker.postman.util.FontsUtil;
+import com.laker.postman.util.I18nUtil;
+import com.laker.postman.util.MessageKeys;
+import com.laker.postman.util.SystemUtil;
+import lombok.extern.slf4j.Slf4j;
+import net.miginfocom.swing.MigLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComponent;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTextArea;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.WindowConstants;
+import java.awt.Component;
+import java.awt.Dialog;
+import java.awt.Font;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 本地 Mock 服务窗口：回放当前工作区集合里保存的示例响应，并实时显示服务自身的响应速率。
+ * 关闭窗口只是隐藏，服务继续运行，直到点击停止或压测面板清理。
+ */
+@Slf4j
+final class PerformanceMockServerDialog {
+    private static final int STATS_REFRESH_MS = 1000;
+
+    private final JDialog dialog;
+    private final JTextField portField = new JTextField(String.valueOf(PerformanceMockOptions.DEFAULT_PORT), 8);
+    private final JTextField latencyField = new JTextField("none", 16);
+    private final JTextField errorRateField = new JTextField("0", 8);
+    private final JTextField errorStatusField =
+            new JTextField(String.valueOf(PerformanceMockOptions.DEFAULT_ERROR_STATUS), 8);
+    private final JTextField matchQueryField = new JTextField(16);
+    private final JTextField matchHeaderField = new JTextField(16);
+    private final JCheckBox matchBodyCheckBox =
+            new JCheckBox(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_MATCH_BODY));
+    private final JButton startButton = new JButton(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_START));
+    private final JButton stopButton = new JButton(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_STOP));
+    private final JLabel statusLabel = new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_STATUS_STOPPED));
+    private final JLabel statsLabel = new JLabel(" ");
+    private final Timer statsTimer = new Timer(STATS_REFRESH_MS, e -> refreshStats());
+    private PerformanceMockServer server;
+
+    PerformanceMockServerDialog(Component parent) {
+        dialog = new JDialog(
+                SwingUtilities.getWindowAncestor(parent),
+                I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_TITLE),
+                Dialog.ModalityType.MODELESS
+        );
+        ToolWindowSurfaceStyle.applyDialogWindowChrome(dialog);
+        dialog.setDefaultCloseOperation(WindowConstants.HIDE_ON_CLOSE);
+        dialog.setContentPane(createContent());
+        dialog.pack();
+        dialog.setLocationRelativeTo(parent);
+        startButton.addActionListener(e -> start());
+        stopButton.addActionListener(e -> stop());
+        syncState();
+    }
+
+    void show() {
+        dialog.setVisible(true);
+        dialog.toFront();
+    }
+
+    /**
+     * 停止服务并释放窗口，压测面板清理时调用
+     */
+    void dispose() {
+        stop();
+        dialog.dispose();
+    }
+
+    private JComponent createContent() {
+        JPanel panel = new JPanel(new MigLayout("insets 14 16 14 16, fillx, gap 8 6", "[right][grow,fill]"));
+        ToolWindowSurfaceStyle.applyDialogSurface(panel);
+
+        JTextArea description = new JTextArea(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_DESCRIPTION));
+        description.setEditable(false);
+        description.setLineWrap(true);
+        description.setWrapStyleWord(true);
+        description.setColumns(36);
+        description.setFont(FontsUtil.getDefaultFontWithOffset(Font.PLAIN, -1));
+        description.setBorder(BorderFactory.createEmptyBorder());
+        ToolWindowSurfaceStyle.applyTextComponentDialogSurface(description);
+        panel.add(description, "span 2, growx, wrap 10");
+
+        latencyField.setToolTipText(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_LATENCY_TOOLTIP));
+        matchQueryField.setToolTipText(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_MATCH_QUERY_TOOLTIP));
+        addRow(panel, MessageKeys.PERFORMANCE_MOCK_PORT, portField);
+        addRow(panel, MessageKeys.PERFORMANCE_MOCK_LATENCY, latencyField);
+        addRow(panel, MessageKeys.PERFORMANCE_MOCK_ERROR_RATE, errorRateField);
+        addRow(panel, MessageKeys.PERFORMANCE_MOCK_ERROR_STATUS, errorStatusField);
+        addRow(panel, MessageKeys.PERFORMANCE_MOCK_MATCH_QUERY, matchQueryField);
+        addRow(panel, MessageKeys.PERFORMANCE_MOCK_MATCH_HEADER, matchHeaderField);
+        panel.add(matchBodyCheckBox, "skip, wrap 10");
+
+        statsLabel.setFont(FontsUtil.getDefaultFontWithOffset(Font.PLAIN, -1));
+        statsLabel.setForeground(ModernColors.getTextSecondary());
+        panel.add(statusLabel, "span 2, wrap");
+        panel.add(statsLabel, "span 2, wrap 10");
+        panel.add(startButton, "span 2, split 2, right");
+        panel.add(stopButton);
+        return panel;
+    }
+
+    private static void addRow(JPanel panel, String labelKey, JComponent field) {
+        panel.add(new JLabel(I18nUtil.getMessage(labelKey)));
+        panel.add(field, "wrap");
+    }
+
+    private void start() {
+        if (server != null) {
+            return;
+        }
+        PerformanceMockOptions options;
+        try {
+            options = PerformanceMockOptions.builder()
+                    .port(Integer.parseInt(portField.getText().trim()))
+                    .latency(latencyField.getText())
+                    .errorRate(Double.parseDouble(errorRateField.getText().trim()))
+                    .errorStatus(Integer.parseInt(errorStatusField.getText().trim()))
+                    .matchQuery(matchQueryField.getText())
+                    .matchHeaders(matchHeaderField.getText())
+                    .matchBody(matchBodyCheckBox.isSelected())
+                    .build();
+        } catch (IllegalArgumentException ex) {
+            // NumberFormatException 也在这里处理
+            NotificationCenter.showError(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_START_FAILED, ex.getMessage()));
+            return;
+        }
+        startButton.setEnabled(false);
+        Path collectionsFile = Path.of(SystemUtil.getCollectionPathForWorkspace(
+                WorkspaceService.getInstance().getCurrentWorkspace()));
+        new SwingWorker<PerformanceMockServer, Void>() {
+            @Override
+            protected PerformanceMockServer doInBackground() throws Exception {
+                List<PerformanceMockRoute> routes = PerformanceMockRouteLoader.fromWorkspace(collectionsFile);
+                PerformanceMockServer mockServer = new PerformanceMockServer(options, routes);
+                mockServer.start();
+                return mockServer;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    server = get();
+                    statsTimer.start();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+                    log.warn("Failed to start performance mock server", cause);
+                    NotificationCenter.showError(I18nUtil.getMessage(
+                            MessageKeys.PERFORMANCE_MOCK_START_FAILED,
+                            cause.getMessage()
+                    ));
+                }
+                syncState();
+            }
+        }.execute();
+    }
+
+    private void stop() {
+        statsTimer.stop();
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+        syncState();
+    }
+
+    private void syncState() {
+        boolean running = server != null;
+        startButton.setEnabled(!running);
+        stopButton.setEnabled(running);
+        for (JComponent field : List.of(portField, latencyField, errorRateField, errorStatusField,
+                matchQueryField, matchHeaderField, matchBodyCheckBox)) {
+            field.setEnabled(!running);
+        }
+        if (running) {
+            statusLabel.setText(I18nUtil.getMessage(
+                    MessageKeys.PERFORMANCE_MOCK_STATUS_RUNNING,
+                    "http://" + server.getOptions().getHost() + ":" + server.getPort(),
+                    server.getRouteCount()
+            ));
+            refreshStats();
+        } else {
+            statusLabel.setText(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_STATUS_STOPPED));
+            statsLabel.setText(" ");
+        }
+    }
+
+    private void refreshStats() {
+        PerformanceMockServer current = server;
+        if (current == null) {
+            return;
+        }
+        PerformanceMockStatsSnapshot stats = current.stats();
+        statsLabel.setText(I18nUtil.getMessage(
+                MessageKeys.PERFORMANCE_MOCK_STATS,
+                String.format(Locale.ROOT, "%.1f", stats.servedRps()),
+                stats.totalRequests(),
+                stats.unmatchedRequests(),
+                stats.injectedErrors()
+        ));
+    }
+}
@@ -26,8 +26,10 @@ import com.laker.postman.panel.performance.controller.LoopPropertyPanel;
 import com.laker.postman.panel.performance.controller.WhilePropertyPanel;
 import com.laker.postman.panel.performance.extractor.ExtractorPropertyPanel;
 import com.laker.postman.http.runtime.okhttp.HttpClientRuntimeConfig;
+import com.laker.postman.http.runtime.okhttp.HttpDnsSettings;
 import com.laker.postman.performance.core.model.NodeType;
 import com.laker.postman.performance.core.model.PerformanceProtocol;
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.model.PerformanceStatsCollector;
 import com.laker.postman.performance.core.model.PerformanceTrendWindowCollector;
@@ -146,6 +148,7 @@ public class PerformancePanel extends UiSingletonPanel {
     private JLabel progressLabel; // 进度标签
     private JLabel limitLabel;
     private JPanel topPanel; // 顶部工具栏面板，用于主题切换时更新边框
+    private transient PerformanceMockServerDialog mockServerDialog; // 本地 Mock 服务窗口，首次打开时创建
     private long startTime;
     private final transient PerformanceStatsCollector statsCollector = new PerformanceStatsCollector();
     private final transient PerformanceTrendWindowCollector trendWindowCollector = new PerformanceTrendWindowCollector();
@@ -309,7 +312,10 @@ public class PerformancePanel extends UiSingletonPanel {
                         : PerformanceRealtimeMetrics.Sample.empty(),
                 nowMs -> executionEngine != null
                         ? executionEngine.liveRealtimeMetrics(nowMs)
-                        : PerformanceRealtimeMetrics.LiveSnapshot.empty()
+                        : PerformanceRealtimeMetrics.LiveSnapshot.empty(),
+                () -> executionEngine != null
+                        ? executionEngine.generatorSample()
+                        : PerformanceGeneratorSample.EMPTY
         );
         timerManager.setTrendSamplingCallback(statisticsCoordinator::sampleTrendData);
         timerManager.setReportRefreshCallback(statisticsCoordinator::refreshReport);
@@ -319,6 +325,7 @@ public class PerformancePanel extends UiSingletonPanel {
                 this::exportRunPlan,
                 this::showUsageGuide,
                 this::refreshRequestsFromCollections,
+                this::showMockServer,
                 remoteExecutionEnabled,
                 remoteWorkerEndpoints,
                 this::setRemoteExecutionEnabled,
@@ -381,7 +388,12 @@ public class PerformancePanel extends UiSingletonPanel {
                         SettingManager.getPerformanceMaxIdleConnections(),
                         SettingManager.getPerformanceKeepAliveSeconds(),
                         SettingManager.getPerformanceMaxRequests(),
-                        SettingManager.getPerformanceMaxRequestsPerHost()
+                        SettingManager.getPerformanceMaxRequestsPerHost(),
+                        HttpDnsSettings.of(
+                                SettingManager.getPerformanceDnsMode(),
+                                SettingManager.getPerformanceDnsCacheTtlSeconds(),
+                                SettingManager.getPerformanceDnsHostOverrides()
+                        )
                 )
         );
         PerformanceRunSession runSession = new PerformanceRunSession(
@@ -1013,6 +1025,13 @@ public class PerformancePanel extends UiSingletonPanel {
         PerformanceUsageGuideDialog.show(this);
     }
 
+    private void showMockServer() {
+        if (mockServerDialog == null) {
+            mockServerDialog = new PerformanceMockServerDialog(this);
+        }
+        mockServerDialog.show();
+    }
+
     private void importPerformancePlan() {
         if (running) {
             return;
@@ -1358,6 +1377,10 @@ public class PerformancePanel extends UiSingletonPanel {
         if (performanceResultTablePanel != null) {
             performanceResultTablePanel.dispose();
         }
+        if (mockServerDialog != null) {
+            mockServerDialog.dispose();
+            mockServerDialog = null;
+        }
     }
 
     private void clearCachedPerformanceResults() {
@@ -229,6 +229,7 @@ final class PerformancePanelViewFactory {
                                         Runnable exportRunPlanAction,
                                         Runnable usageHelpAction,
                                         Runnable refreshRequestsAction,
+                                        Runnable mockServerAction,
                                         boolean remoteExecutionEnabled,
                                         String workerEndpoints,
                                         Consumer<Boolean> remoteExecutionEnabledAction,
@@ -259,8 +260,12 @@ final class PerformancePanelViewFactory {
         usageHelpBtn.setToolTipText(I18nUtil.getMessage(MessageKeys.PERFORMANCE_USAGE_HELP_TOOLTIP));
         usageHelpBtn.addActionListener(e -> usageHelpAction.run());
 
+        JButton mockServerBtn = createMockServerButton();
+        mockServerBtn.addActionListener(e -> mockServerAction.run());
+
         JPanel primaryPanel = createToolbarGroupPanel("[]8[1!]10[]10[1!]10[]");
-        JPanel btnPanel = ToolWindowActionToolbar.inlineLeft(runBtn, stopBtn, importBtn, exportBtn, refreshBtn, usageHelpBtn);
+        JPanel btnPanel = ToolWindowActionToolbar.inlineLeft(
+                runBtn, stopBtn, importBtn, exportBtn, refreshBtn, mockServerBtn, usageHelpBtn);
         primaryPanel.add(btnPanel);
         primaryPanel.add(createToolbarSeparator());
 
@@ -357,6 +362,7 @@ final class PerformancePanelViewFactory {
                 exportBtn,
                 refreshBtn,
                 usageHelpBtn,
+                mockServerBtn,
                 planSelector,
                 addPlanButton,
                 duplicatePlanButton,
@@ -479,6 +485,15 @@ final class PerformancePanelViewFactory {
         return button;
     }
 
+    private JButton createMockServerButton() {
+        JButton button = new JButton(IconUtil.createThemed("icons/local.svg", IconUtil.SIZE_MEDIUM, IconUtil.SIZE_MEDIUM));
+        button.setToolTipText(I18nUtil.getMessage(MessageKeys.PERFORMANCE_MOCK_TOOLTIP));
+        button.setFocusable(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        button.putClientProperty(FlatClientProperties.BUTTON_TYPE, FlatClientProperties.BUTTON_TYPE_TOOLBAR_BUTTON);
+        return button;
+    }
+
     private void addWorkerEndpointsListener(JTextField workerEndpointsField,
                                             Consumer<String> workerEndpointsAction,
                                             Runnable afterUpdateAction) {
@@ -779,6 +794,7 @@ final class PerformancePanelViewFactory {
                           ExportButton exportBtn,
                           RefreshButton refreshBtn,
                           HelpButton usageHelpBtn,
+                          JButton mockServerBtn,
                           JComboBox<String> planSelector,
                           JButton addPlanButton,
                           JButton duplicatePlanButton,
@@ -5,6 +5,7 @@ import com.laker.postman.panel.performance.result.PerformanceReportPanel;
 import com.laker.postman.panel.performance.result.PerformanceResultTablePanel;
 import com.laker.postman.performance.result.PerformanceWorkerResultDetailDisplayMapper;
 import com.laker.postman.panel.performance.result.PerformanceTrendView;
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
 import com.laker.postman.performance.core.model.PerformanceTrendSnapshot;
 import com.laker.postman.performance.core.report.PerformanceJsonReport;
 import com.laker.postman.performance.core.report.PerformanceJsonReportTrendWindowSampler;
@@ -16,13 +17,16 @@ import com.laker.postman.performance.core.run.PerformanceRunStatus;
 import com.laker.postman.performance.core.runtime.PerformanceThreadFactory;
 import com.laker.postman.performance.core.worker.PerformanceWorkerAssignment;
 import com.laker.postman.performance.core.worker.PerformanceWorkerAssignmentPlanner;
+import com.laker.postman.performance.core.worker.PerformanceWorkerCapacity;
 import com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint;
 import com.laker.postman.performance.core.worker.PerformanceWorkerHealthResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerProtocol;
+import com.laker.postman.performance.core.worker.PerformanceWorkerRebalancer;
 import com.laker.postman.performance.core.worker.PerformanceWorkerResultDetail;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunDetailsResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunRequest;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse;
+import com.laker.postman.performance.master.PerformanceMasterThresholdGuard;
 import com.laker.postman.performance.master.PerformanceWorkerHttpClient;
 import com.laker.postman.performance.master.PerformanceWorkerReportCollector;
 import com.laker.postman.performance.master.PerformanceWorkerReportCollector.PerformanceWorkerReportResult;
@@ -38,6 +42,8 @@ import javax.swing.SwingUtilities;
 import java.util.Date;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -60,7 +66,8 @@ final class PerformanceRemoteRunControlSupport {
     private final BooleanSupplier trendEnabledSupplier;
     private final BooleanSupplier reportRealtimeEnabledSupplier;
     private final LongSupplier trendSamplingIntervalMsSupplier;
-    private final PerformanceWorkerAssignmentPlanner assignmentPlanner = new PerformanceWorkerAssignmentPlanner();
+    private final PerformanceWorkerAssignmentPlanner assignmentPlanner =
+            new PerformanceWorkerAssignmentPlanner(PerformanceWorkerAssignmentPlanner.DEFAULT_STANDBY_RATIO);
     private final PerformanceWorkerHttpClient workerClient = new PerformanceWorkerHttpClient();
     private final PerformanceWorkerReportCollector reportCollector = new PerformanceWorkerReportCollector(workerClient);
     private final PerformanceJsonReportTrendWindowSampler trendWindowSampler = new PerformanceJsonReportTrendWindowSampler();
@@ -68,6 +75,8 @@ final class PerformanceRemoteRunControlSupport {
     private volatile String currentRunId = "";
     private volatile List<PerformanceWorkerEndpoint> currentWorkers = List.of();
     private volatile int currentTotalUsers;
+    private volatile PerformanceWorkerRebalancer currentRebalancer;
+    private volatile PerformanceMasterThresholdGuard currentThresholdGuard;
     private volatile long lastTrendSampleAtMs;
     private volatile PerformanceJsonReport lastLiveReport;
 
@@ -141,6 +150,8 @@ final class PerformanceRemoteRunControlSupport {
         } finally {
             currentRunId = "";
             currentWorkers = List.of();
+            currentRebalancer = null;
+            currentThresholdGuard = null;
         }
     }
 
@@ -148,8 +159,10 @@ final class PerformanceRemoteRunControlSupport {
                           List<PerformanceWorkerEndpoint> workers,
                           String runId) throws Exception {
         // GUI remote 只做 JMeter 风格的控制面分发；plan 中的本地资产路径由用户提前放到每台 worker。
-        validateWorkerProtocols(workers);
-        List<PerformanceWorkerAssignment> assignments = assignmentPlanner.plan(runPlan, workers, runId);
+        List<PerformanceWorkerCapacity> capacities = validateWorkerProtocols(workers);
+        List<PerformanceWorkerAssignment> assignments = assignmentPlanner.plan(runPlan, workers, capacities, runId);
+        currentRebalancer = new PerformanceWorkerRebalancer(assignments, PerformanceWorkerRebalancer.DEFAULT_CPU_THRESHOLD);
+        currentThresholdGuard = new PerformanceMasterThresholdGuard(workerClient, runPlan.getThresholds());
         for (int i = 0; i < workers.size(); i++) {
             workerClient.submitRun(workers.get(i), PerformanceWorkerRunRequest.builder()
                     .runId(runId)
@@ -157,10 +170,12 @@ final class PerformanceRemoteRunControlSupport {
                     .assignment(assignments.get(i))
                     .build());
         }
+        currentThresholdGuard.start(System.currentTimeMillis());
         return totalAssignedUsers(assignments);
     }
 
-    private void validateWorkerProtocols(List<PerformanceWorkerEndpoint> workers) throws Exception {
+    private List<PerformanceWorkerCapacity> validateWorkerProtocols(List<PerformanceWorkerEndpoint> workers) throws Exception {
+        List<PerformanceWorkerCapacity> capacities = new ArrayList<>();
         for (PerformanceWorkerEndpoint worker : workers) {
             PerformanceWorkerHealthResponse health = workerClient.health(worker);
             if (health == null || !health.usesCurrentProtocol()) {
@@ -174,7 +189,9 @@ final class PerformanceRemoteRunControlSupport {
                         actualVersion
                 ));
             }
+            capacities.add(health.getCapacity());
         }
+        return capacities;
     }
 
     private void resetRemoteTrendSamplingWindow() {
@@ -234,12 +251,19 @@ final class PerformanceRemoteRunControlSupport {
         long failedRequests = 0;
         List<PerformanceJsonReport> reports = new ArrayList<>();
         List<PerformanceTrendSnapshot> trendSnapshots = new ArrayList<>();
-        boolean includeReport = shouldIncludeStatusReport();
+        PerformanceMasterThresholdGuard thresholdGuard = currentThresholdGuard;
+        boolean includeReport = shouldIncludeStatusReport()
+                || thresholdGuard != null && thresholdGuard.needsStatusReport();
         boolean includeTrend = includeTrendSnapshot && shouldIncludeStatusTrend();
-        for (PerformanceWorkerEndpoint worker : workers) {
-            PerformanceWorkerRunStatusResponse status = workerClient.status(worker, runId, includeReport, includeTrend);
+        double[] generatorCpuLoads = new double[workers.size()];
+        List<PerformanceWorkerRunStatusResponse> statuses = new ArrayList<>();
+        for (int i = 0; i < workers.size(); i++) {
+            PerformanceWorkerRunStatusResponse status = workerClient.status(workers.get(i), runId, includeReport, includeTrend);
+            statuses.add(status);
+            generatorCpuLoads[i] = status.getGeneratorCpuLoad();
             if (isTerminal(status.getStatus())) {
                 done++;
+                generatorCpuLoads[i] = PerformanceWorkerCapacity.UNKNOWN_LOAD;
             }
             activeUsers += Math.max(0, status.getActiveUsers());
             totalUsers += Math.max(0, status.getTotalUsers());
@@ -254,6 +278,12 @@ final class PerformanceRemoteRunControlSupport {
                 trendSnapshots.add(status.getTrendSnapshot());
             }
         }
+        if (done < workers.size() && !stopping.get()) {
+            if (thresholdGuard != null) {
+                thresholdGuard.check(workers, runId, statuses, null);
+            }
+            rebalanceWorkers(workers, runId, generatorCpuLoads);
+        }
         int resolvedTotalUsers = totalUsers > 0 ? totalUsers : Math.max(0, totalAssignedUsers);
         PerformanceJsonReport report = reports.isEmpty()
                 ? null
@@ -284,6 +314,26 @@ final class PerformanceRemoteRunControlSupport {
         );
     }
 
+    private void rebalanceWorkers(List<PerformanceWorkerEndpoint> workers, String runId, double[] generatorCpuLoads) {
+        PerformanceWorkerRebalancer rebalancer = currentRebalancer;
+        if (rebalancer == null || !rebalancer.isEnabled()) {
+            return;
+        }
+        for (Map.Entry<Integer, Double> entry : rebalancer.rebalance(generatorCpuLoads).entrySet()) {
+            PerformanceWorkerEndpoint worker = workers.get(entry.getKey());
+            log.info("Rebalancing worker {} to virtual user scale {}", endpointLabel(worker),
+                    String.format("%.2f", entry.getValue()));
+            try {
+                workerClient.rebalance(worker, runId, entry.getValue(), null);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                log.warn("Failed to rebalance worker {}", endpointLabel(worker), ex);
+            }
+        }
+    }
+
     private PerformanceJsonReport collectReport(List<PerformanceWorkerEndpoint> workers,
                                                 String runId) throws Exception {
         List<PerformanceJsonReport> reports = new ArrayList<>();
@@ -308,7 +358,15 @@ final class PerformanceRemoteRunControlSupport {
             reports.add(lastLiveReport);
             log.warn("使用运行中最后一次有效报表兜底 master 最终报表: runId={}", runId);
         }
-        return PerformanceJsonReportSummaryMapper.merge(runId, "gui-master", status, "GUI", reports);
+        PerformanceMasterThresholdGuard thresholdGuard = currentThresholdGuard;
+        return PerformanceJsonReportSummaryMapper.merge(
+                runId,
+                "gui-master",
+                status,
+                "GUI",
+                reports,
+                thresholdGuard == null ? List.of() : thresholdGuard.results()
+        );
     }
 
     private List<PerformanceWorkerResultDetail> collectDetails(List<PerformanceWorkerEndpoint> workers, String runId) {
@@ -606,7 +664,11 @@ final class PerformanceRemoteRunControlSupport {
                 mergeTrendMetrics(snapshots, PerformanceTrendSnapshot::overview),
                 mergeTrendMetrics(snapshots, PerformanceTrendSnapshot::http),
                 mergeTrendMetrics(snapshots, PerformanceTrendSnapshot::webSocket),
-                mergeTrendMetrics(snapshots, PerformanceTrendSnapshot::sse)
+                mergeTrendMetrics(snapshots, PerformanceTrendSnapshot::sse),
+                PerformanceGeneratorSample.merge(snapshots.stream()
+                        .filter(Objects::nonNull)
+                        .map(PerformanceTrendSnapshot::generator)
+                        .toList())
         );
     }
 
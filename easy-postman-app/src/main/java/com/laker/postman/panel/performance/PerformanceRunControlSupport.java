@@ -10,6 +10,7 @@ import com.laker.postman.performance.runtime.PerformanceExecutionEngine;
 import com.laker.postman.performance.runtime.PerformanceResultSink;
 import com.laker.postman.performance.runtime.PerformanceRunRequest;
 import com.laker.postman.performance.runtime.PerformanceRunSession;
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
 import com.laker.postman.performance.core.model.PerformanceStatsCollector;
 import com.laker.postman.performance.core.model.PerformanceStatsSnapshot;
 import com.laker.postman.performance.core.plan.PerformanceTestPlan;
@@ -18,6 +19,7 @@ import com.laker.postman.performance.core.runtime.PerformanceRunHandle;
 import com.laker.postman.performance.core.runtime.PerformanceRunSummary;
 import com.laker.postman.performance.core.threadgroup.PerformanceRequestEstimate;
 import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
+import com.laker.postman.performance.core.timer.PerformanceTimerStatistics;
 import com.laker.postman.util.I18nUtil;
 import com.laker.postman.util.MessageKeys;
 import com.laker.postman.common.component.notification.NotificationCenter;
@@ -128,6 +130,8 @@ final class PerformanceRunControlSupport {
 
                     @Override
                     public void onComplete(PerformanceRunSummary summary) {
+                        showTimerMisses(executionEngine.timerStatistics());
+                        showGeneratorSaturation(executionEngine.generatorStatistics());
                         if (summary != null && (summary.isStopped() || summary.getError() != null)) {
                             SwingUtilities.invokeLater(PerformanceRunControlSupport.this::finishStoppedRunUi);
                         } else {
@@ -148,6 +152,36 @@ final class PerformanceRunControlSupport {
         timerManager.stopAll();
     }
 
+    private void showTimerMisses(PerformanceTimerStatistics.Snapshot timerStatistics) {
+        if (timerStatistics == null || !timerStatistics.hasMisses()) {
+            return;
+        }
+        String message = I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_MISSED_TARGET,
+                String.valueOf(timerStatistics.pacingMisses()),
+                String.valueOf(timerStatistics.pacingMissMs()),
+                String.valueOf(timerStatistics.throughputMisses()),
+                String.valueOf(timerStatistics.throughputLagMs()));
+        log.warn(message);
+        SwingUtilities.invokeLater(() -> NotificationCenter.showWarning(message));
+    }
+
+    private void showGeneratorSaturation(PerformanceGeneratorStatistics.Snapshot generatorStatistics) {
+        if (generatorStatistics == null || !generatorStatistics.hasWarnings()) {
+            return;
+        }
+        String message = I18nUtil.getMessage(MessageKeys.PERFORMANCE_GENERATOR_SATURATED,
+                formatPeak(generatorStatistics.maxCpuPercent()),
+                formatPeak(generatorStatistics.maxGcPausePercent()),
+                formatPeak(generatorStatistics.maxSchedulingLagMs()),
+                generatorStatistics.peakQueuedHttpCalls());
+        log.warn(message);
+        SwingUtilities.invokeLater(() -> NotificationCenter.showWarning(message));
+    }
+
+    private static String formatPeak(double value) {
+        return Double.isFinite(value) ? String.valueOf(Math.round(value)) : "-";
+    }
+
     private void showRunError(PerformanceRunError error) {
         String detail = "";
         if (error != null && error.getMessage() != null) {
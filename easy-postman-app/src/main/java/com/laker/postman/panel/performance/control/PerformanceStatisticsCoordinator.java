@@ -1,5 +1,6 @@
 package com.laker.postman.panel.performance.control;
 
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.model.PerformanceStatsCollector;
 import com.laker.postman.performance.core.model.PerformanceTrendSnapshot;
@@ -24,6 +25,7 @@ import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 @Slf4j
 public final class PerformanceStatisticsCoordinator {
@@ -51,6 +53,36 @@ public final class PerformanceStatisticsCoordinator {
                                             BooleanSupplier trendEnabledSupplier,
                                             LongFunction<PerformanceRealtimeMetrics.Sample> realtimeMetricsSampler,
                                             LongFunction<PerformanceRealtimeMetrics.LiveSnapshot> liveMetricsSnapshotSupplier) {
+        this(
+                statsCollector,
+                trendWindowCollector,
+                performanceReportPanel,
+                performanceTrendPanel,
+                resultTabbedPane,
+                activeThreadsSupplier,
+                activeWebSocketsSupplier,
+                activeSseStreamsSupplier,
+                samplingIntervalSupplier,
+                trendEnabledSupplier,
+                realtimeMetricsSampler,
+                liveMetricsSnapshotSupplier,
+                null
+        );
+    }
+
+    public PerformanceStatisticsCoordinator(PerformanceStatsCollector statsCollector,
+                                            PerformanceTrendWindowCollector trendWindowCollector,
+                                            PerformanceReportPanel performanceReportPanel,
+                                            PerformanceTrendView performanceTrendPanel,
+                                            JTabbedPane resultTabbedPane,
+                                            IntSupplier activeThreadsSupplier,
+                                            IntSupplier activeWebSocketsSupplier,
+                                            IntSupplier activeSseStreamsSupplier,
+                                            LongSupplier samplingIntervalSupplier,
+                                            BooleanSupplier trendEnabledSupplier,
+                                            LongFunction<PerformanceRealtimeMetrics.Sample> realtimeMetricsSampler,
+                                            LongFunction<PerformanceRealtimeMetrics.LiveSnapshot> liveMetricsSnapshotSupplier,
+                                            Supplier<PerformanceGeneratorSample> generatorSampleSupplier) {
         this.performanceReportPanel = performanceReportPanel;
         this.performanceTrendPanel = performanceTrendPanel;
         this.resultTabbedPane = resultTabbedPane;
@@ -63,7 +95,8 @@ public final class PerformanceStatisticsCoordinator {
                 activeSseStreamsSupplier,
                 samplingIntervalSupplier,
                 realtimeMetricsSampler,
-                liveMetricsSnapshotSupplier
+                liveMetricsSnapshotSupplier,
+                generatorSampleSupplier
         );
     }
 
@@ -0,0 +1,126 @@
+package com.laker.postman.panel.performance.result;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+
+/**
+ * Largest-Triangle-Three-Buckets 降采样：首尾点保留，中间按桶各取一个和前一选中点、下一桶均值围成三角形面积最大的点，
+ * 尖峰和谷底不会像等距抽样那样被跳过。
+ * <p>
+ * 空值（NaN）不参与面积计算，但桶里出现空值时保留第一个空值点，降采样后的折线仍在同一位置断开。
+ * 点数不超过目标时原样返回全部下标。
+ * </p>
+ */
+@UtilityClass
+class PerformanceTrendDownsampler {
+
+    /**
+     * 返回 store 在 [from, to) 内被选中的下标，升序。
+     */
+    static int[] select(PerformanceTrendPointStore store, int from, int to, int threshold) {
+        int count = to - from;
+        if (count <= 0) {
+            return new int[0];
+        }
+        if (threshold < 3 || count <= threshold) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = from + i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold * 2];
+        int selectedCount = 0;
+        selected[selectedCount++] = from;
+
+        int anchor = Double.isNaN(store.valueAt(from)) ? -1 : from;
+        int last = to - 1;
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = from + 1 + (int) (bucket * bucketSize);
+            int end = Math.min(from + 1 + (int) ((bucket + 1) * bucketSize), last);
+            int nextEnd = bucket == threshold - 3 ? to : Math.min(from + 1 + (int) ((bucket + 2) * bucketSize), last);
+
+            double anchorTime = anchor < 0 ? 0 : store.timeAt(anchor);
+            double anchorValue = anchor < 0 ? 0 : store.valueAt(anchor);
+            double averageTime = 0;
+            double averageValue = 0;
+            int averageCount = 0;
+            for (int i = end; i < nextEnd; i++) {
+                double value = store.valueAt(i);
+                if (!Double.isNaN(value)) {
+                    averageTime += store.timeAt(i) - anchorTime;
+                    averageValue += value;
+                    averageCount++;
+                }
+            }
+            if (averageCount == 0) {
+                // 下一桶全是空值时退化为和锚点的纵向偏离，仍然优先保留峰谷
+                averageTime = end < nextEnd ? store.timeAt(end) - anchorTime : 0;
+                averageValue = anchorValue;
+            } else {
+                averageTime /= averageCount;
+                averageValue /= averageCount;
+            }
+
+            int best = -1;
+            int gap = -1;
+            double bestArea = -1;
+            for (int i = start; i < end; i++) {
+                double value = store.valueAt(i);
+                if (Double.isNaN(value)) {
+                    if (gap < 0) {
+                        gap = i;
+                    }
+                    continue;
+                }
+                double area = anchor < 0
+                        ? Math.abs(value - averageValue)
+                        : Math.abs(averageTime * (value - anchorValue)
+                        - (store.timeAt(i) - anchorTime) * (averageValue - anchorValue));
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = i;
+                }
+            }
+            if (gap >= 0 && (best < 0 || gap < best)) {
+                selected[selectedCount++] = gap;
+            }
+            if (best >= 0) {
+                selected[selectedCount++] = best;
+                anchor = best;
+            }
+            if (gap > best && best >= 0) {
+                selected[selectedCount++] = gap;
+            }
+        }
+        if (selected[selectedCount - 1] != last) {
+            selected[selectedCount++] = last;
+        }
+        return Arrays.copyOf(selected, selectedCount);
+    }
+
+    /**
+     * 合并两组升序下标并去重，用于把缩放区间的明细叠加到整轮概览上。
+     */
+    static int[] merge(int[] first, int[] second) {
+        int[] merged = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < first.length || j < second.length) {
+            int next;
+            if (j >= second.length || (i < first.length && first[i] <= second[j])) {
+                next = first[i++];
+            } else {
+                next = second[j++];
+            }
+            if (count == 0 || merged[count - 1] != next) {
+                merged[count++] = next;
+            }
+        }
+        return Arrays.copyOf(merged, count);
+    }
+}
@@ -1,5 +1,6 @@
 package com.laker.postman.panel.performance.result;
 
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
 import com.laker.postman.performance.core.model.PerformanceProtocol;
 import com.laker.postman.performance.core.model.PerformanceTrendSnapshot;
 
@@ -22,6 +23,7 @@ import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.jfree.data.Range;
 import org.jfree.data.time.DateRange;
 import org.jfree.data.time.Millisecond;
 import org.jfree.data.time.RegularTimePeriod;
@@ -34,9 +36,11 @@ import javax.swing.event.PopupMenuListener;
 import java.awt.*;
 import java.awt.geom.Line2D;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -47,7 +51,9 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
 
     private static final String SEPARATE_VIEW = "separate";
     private static final String COMBINED_VIEW = "combined";
-    private static final int MAX_TREND_POINTS = 3_600;
+    // 图表宽度未知（尚未布局）时的显示点数；全量数据另存，显示点数只影响重绘成本
+    private static final int DEFAULT_DISPLAY_POINTS = 1_000;
+    private static final int MIN_DISPLAY_POINTS = 200;
     private static final long EMPTY_DOMAIN_WINDOW_MS = 60_000L;
     private static final long MIN_ACTIVE_IDLE_TRANSITION_MS = 1_000L;
     private static final String JFREE_CHART_BUNDLE = "org.jfree.chart.LocalizationBundle";
@@ -92,6 +98,14 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
     private final TimeSeries sseStreamDurationSeries = new TimeSeries(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TREND_STREAM_DURATION_MS));
     private final TimeSeries sseErrorRateSeries = new TimeSeries(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TREND_ERROR_RATE_PERCENT));
 
+    // 压测机自身负载与协议无关，三个协议视图共用同一组序列，默认不勾选。
+    private final TimeSeries generatorCpuSeries = new TimeSeries(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TREND_GENERATOR_CPU_PERCENT));
+    private final TimeSeries generatorGcPauseSeries = new TimeSeries(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TREND_GENERATOR_GC_PAUSE_PERCENT));
+    private final TimeSeries generatorAllocationSeries = new TimeSeries(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TREND_GENERATOR_ALLOCATION_MB));
+    private final TimeSeries generatorThreadsSeries = new TimeSeries(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TREND_GENERATOR_THREADS));
+    private final TimeSeries generatorSchedulingLagSeries = new TimeSeries(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TREND_GENERATOR_SCHEDULING_LAG_MS));
+
+    private final Map<TimeSeries, PerformanceTrendSeriesHistory> seriesHistories = new IdentityHashMap<>();
     private final List<TrendView> trendViews = new ArrayList<>();
     private final Map<PerformanceProtocol, JToggleButton> protocolButtons = new EnumMap<>(PerformanceProtocol.class);
     private JPanel protocolSwitcherRow;
@@ -103,10 +117,11 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
     private Long trendDomainStartMs;
     private Long trendDomainEndMs;
     private String chartMode = SEPARATE_VIEW;
+    private boolean syncingDomainAxes;
 
     @Override
     protected void initUI() {
-        configureSeriesRetention();
+        createSeriesHistories();
         setLayout(new BorderLayout());
         ToolWindowSurfaceStyle.applyCard(this);
         protocolCards = new JPanel(new CardLayout());
@@ -132,9 +147,9 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
         applyAvailableProtocols();
     }
 
-    private void configureSeriesRetention() {
+    private void createSeriesHistories() {
         for (TimeSeries series : allSeries()) {
-            series.setMaximumItemCount(MAX_TREND_POINTS);
+            seriesHistories.put(series, new PerformanceTrendSeriesHistory(series));
         }
     }
 
@@ -173,10 +188,23 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
         );
     }
 
+    private SeriesSpec[] generatorSpecs() {
+        return new SeriesSpec[]{
+                new SeriesSpec(generatorCpuSeries, PerformanceTrendTheme.responseTimeLine(), false, AxisFormat.DECIMAL),
+                new SeriesSpec(generatorGcPauseSeries, PerformanceTrendTheme.errorRateLine(), false, AxisFormat.DECIMAL),
+                new SeriesSpec(generatorAllocationSeries, PerformanceTrendTheme.durationLine(), false, AxisFormat.DECIMAL),
+                new SeriesSpec(generatorThreadsSeries, PerformanceTrendTheme.threadsLine(), false, AxisFormat.INTEGER),
+                new SeriesSpec(generatorSchedulingLagSeries, PerformanceTrendTheme.matchedLine(), false, AxisFormat.DECIMAL)
+        };
+    }
+
     private JPanel createTrendView(JPanel metricControlsCards,
                                    PerformanceProtocol protocol,
                                    String titleKey,
-                                   SeriesSpec... specs) {
+                                   SeriesSpec... protocolSpecs) {
+        SeriesSpec[] generatorSpecs = generatorSpecs();
+        SeriesSpec[] specs = Arrays.copyOf(protocolSpecs, protocolSpecs.length + generatorSpecs.length);
+        System.arraycopy(generatorSpecs, 0, specs, protocolSpecs.length, generatorSpecs.length);
         TrendView view = new TrendView(titleKey, specs);
         trendViews.add(view);
         metricControlsCards.add(view.controlsPanel(), protocol.name());
@@ -372,6 +400,7 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
         panel.setMaximumDrawWidth(Integer.MAX_VALUE);
         panel.setMaximumDrawHeight(Integer.MAX_VALUE);
         installLocalizedChartPopupMenu(panel);
+        dateAxis.addChangeListener(event -> onDomainAxisChanged(panel));
         return panel;
     }
 
@@ -495,13 +524,18 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
     @Override
     public void clearTrendDataset() {
         long resetTimeMs = System.currentTimeMillis();
-        for (TimeSeries series : allSeries()) {
-            series.clear();
+        for (PerformanceTrendSeriesHistory history : seriesHistories.values()) {
+            history.clear();
         }
         trendDomainStartMs = null;
         trendDomainEndMs = null;
-        for (TrendView trendView : trendViews) {
-            trendView.resetAxes(resetTimeMs);
+        syncingDomainAxes = true;
+        try {
+            for (TrendView trendView : trendViews) {
+                trendView.resetAxes(resetTimeMs);
+            }
+        } finally {
+            syncingDomainAxes = false;
         }
     }
 
@@ -532,7 +566,9 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
                 wsActiveSeries, wsSentRateSeries, wsReceivedRateSeries, wsFirstMessageLatencySeries,
                 wsSessionDurationSeries, wsErrorRateSeries,
                 sseActiveSeries, sseEventRateSeries, sseMatchedRateSeries, sseFirstEventLatencySeries,
-                sseStreamDurationSeries, sseErrorRateSeries
+                sseStreamDurationSeries, sseErrorRateSeries,
+                generatorCpuSeries, generatorGcPauseSeries, generatorAllocationSeries, generatorThreadsSeries,
+                generatorSchedulingLagSeries
         };
     }
 
@@ -544,36 +580,51 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
         period = normalizeDisplayPeriod(period, snapshot);
         boolean suppressLeadingIdleActiveCounts = shouldSuppressLeadingIdleActiveCounts(snapshot);
 
-        httpVirtualUsersSeries.addOrUpdate(period, PerformanceTrendSeriesValue.activeCount(
+        put(httpVirtualUsersSeries, period, PerformanceTrendSeriesValue.activeCount(
                 snapshot.activeUsers(), suppressLeadingIdleActiveCounts));
-        httpRpsSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.http().sampleRate()));
-        httpAvgResponseSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.http().avgDurationMs()));
-        httpErrorRateSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.http().failurePercent()));
+        put(httpRpsSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.http().sampleRate()));
+        put(httpAvgResponseSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.http().avgDurationMs()));
+        put(httpErrorRateSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.http().failurePercent()));
 
-        wsActiveSeries.addOrUpdate(period, PerformanceTrendSeriesValue.activeCount(
+        put(wsActiveSeries, period, PerformanceTrendSeriesValue.activeCount(
                 snapshot.activeWebSocketConnections(), suppressLeadingIdleActiveCounts));
-        wsSentRateSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.webSocket().sentRate()));
-        wsReceivedRateSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.webSocket().receivedRate()));
-        wsFirstMessageLatencySeries.addOrUpdate(period,
+        put(wsSentRateSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.webSocket().sentRate()));
+        put(wsReceivedRateSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.webSocket().receivedRate()));
+        put(wsFirstMessageLatencySeries, period,
                 PerformanceTrendSeriesValue.sampleMetric(snapshot.webSocket().avgFirstMessageLatencyMs()));
-        wsSessionDurationSeries.addOrUpdate(period,
+        put(wsSessionDurationSeries, period,
                 PerformanceTrendSeriesValue.sampleMetric(snapshot.webSocket().avgDurationMs()));
-        wsErrorRateSeries.addOrUpdate(period,
+        put(wsErrorRateSeries, period,
                 PerformanceTrendSeriesValue.sampleMetric(snapshot.webSocket().failurePercent()));
 
-        sseActiveSeries.addOrUpdate(period, PerformanceTrendSeriesValue.activeCount(
+        put(sseActiveSeries, period, PerformanceTrendSeriesValue.activeCount(
                 snapshot.activeSseStreams(), suppressLeadingIdleActiveCounts));
-        sseEventRateSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().receivedRate()));
-        sseMatchedRateSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().matchedRate()));
-        sseFirstEventLatencySeries.addOrUpdate(period,
+        put(sseEventRateSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().receivedRate()));
+        put(sseMatchedRateSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().matchedRate()));
+        put(sseFirstEventLatencySeries, period,
                 PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().avgFirstMessageLatencyMs()));
-        sseStreamDurationSeries.addOrUpdate(period,
+        put(sseStreamDurationSeries, period,
                 PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().avgDurationMs()));
-        sseErrorRateSeries.addOrUpdate(period, PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().failurePercent()));
+        put(sseErrorRateSeries, period, PerformanceTrendSeriesValue.sampleMetric(snapshot.sse().failurePercent()));
+
+        PerformanceGeneratorSample generator = snapshot.generator();
+        if (generator.hasData()) {
+            put(generatorCpuSeries, period, PerformanceTrendSeriesValue.sampleMetric(generator.processCpuPercent()));
+            put(generatorGcPauseSeries, period, PerformanceTrendSeriesValue.sampleMetric(generator.gcPausePercent()));
+            put(generatorAllocationSeries, period,
+                    PerformanceTrendSeriesValue.sampleMetric(generator.allocationMbPerSecond()));
+            put(generatorThreadsSeries, period, generator.threadCount());
+            put(generatorSchedulingLagSeries, period,
+                    PerformanceTrendSeriesValue.sampleMetric(generator.schedulingLagMs()));
+        }
 
         syncDomainAxes(period);
     }
 
+    private void put(TimeSeries series, RegularTimePeriod period, Number value) {
+        seriesHistories.get(series).put(period, value, displayPoints());
+    }
+
     private RegularTimePeriod normalizeDisplayPeriod(RegularTimePeriod period, PerformanceTrendSnapshot snapshot) {
         if (trendDomainStartMs == null || !isIdleSnapshot(snapshot)) {
             return period;
@@ -612,9 +663,9 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
     }
 
     private Long lastPositiveActiveSampleTimeMs() {
-        Long httpTime = lastPositiveSampleTimeMs(httpVirtualUsersSeries);
-        Long wsTime = lastPositiveSampleTimeMs(wsActiveSeries);
-        Long sseTime = lastPositiveSampleTimeMs(sseActiveSeries);
+        Long httpTime = seriesHistories.get(httpVirtualUsersSeries).lastPositiveTimeMs();
+        Long wsTime = seriesHistories.get(wsActiveSeries).lastPositiveTimeMs();
+        Long sseTime = seriesHistories.get(sseActiveSeries).lastPositiveTimeMs();
         Long latest = latestTime(httpTime, wsTime);
         return latestTime(latest, sseTime);
     }
@@ -629,16 +680,6 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
         return Math.max(first, second);
     }
 
-    private static Long lastPositiveSampleTimeMs(TimeSeries series) {
-        for (int i = series.getItemCount() - 1; i >= 0; i--) {
-            Number value = series.getValue(i);
-            if (value != null && value.doubleValue() > 0) {
-                return series.getTimePeriod(i).getFirstMillisecond();
-            }
-        }
-        return null;
-    }
-
     private void syncDomainAxes(RegularTimePeriod period) {
         long periodStart = period.getFirstMillisecond();
         long periodEnd = period.getLastMillisecond();
@@ -650,9 +691,59 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
         long visibleDurationMs = end - trendDomainStartMs;
         long rightPaddingMs = PerformanceTrendAxisConfigurer.domainRightPaddingMs(visibleDurationMs);
         DateRange range = new DateRange(new Date(trendDomainStartMs), new Date(end + rightPaddingMs));
+        syncingDomainAxes = true;
+        try {
+            for (TrendView trendView : trendViews) {
+                trendView.setDomainRange(range, visibleDurationMs);
+            }
+        } finally {
+            syncingDomainAxes = false;
+        }
+        // 运行中每次采样都把 X 轴拉回整轮范围，缩放明细随之回到整轮概览
+        int displayPoints = displayPoints();
+        for (PerformanceTrendSeriesHistory history : seriesHistories.values()) {
+            history.zoom(null, null, displayPoints);
+        }
+    }
+
+    /**
+     * 用户框选、滚轮缩放或恢复自动范围后，按该图可见区间和像素宽度重新降采样它的序列。
+     */
+    private void onDomainAxisChanged(ChartPanel chartPanel) {
+        if (syncingDomainAxes || trendDomainStartMs == null
+                || !(chartPanel.getChart().getXYPlot().getDomainAxis() instanceof DateAxis dateAxis)
+                || !(chartPanel.getChart().getXYPlot().getDataset() instanceof TimeSeriesCollection dataset)) {
+            return;
+        }
+        Range range = dateAxis.getRange();
+        long startMs = (long) Math.floor(range.getLowerBound());
+        long endMs = (long) Math.ceil(range.getUpperBound());
+        boolean wholeRun = startMs <= trendDomainStartMs && endMs >= trendDomainEndMs;
+        int displayPoints = displayPoints(chartPanel.getWidth());
+        // 重新降采样会触发数据集变化，自动范围的坐标轴随之重算，不能再回到这里
+        syncingDomainAxes = true;
+        try {
+            for (Object series : dataset.getSeries()) {
+                PerformanceTrendSeriesHistory history = seriesHistories.get(series);
+                if (history != null) {
+                    history.zoom(wholeRun ? null : startMs, wholeRun ? null : endMs, displayPoints);
+                }
+            }
+        } finally {
+            syncingDomainAxes = false;
+        }
+    }
+
+    private int displayPoints() {
+        int widest = 0;
         for (TrendView trendView : trendViews) {
-            trendView.setDomainRange(range, visibleDurationMs);
+            widest = Math.max(widest, trendView.chartWidth());
         }
+        return displayPoints(widest);
+    }
+
+    private static int displayPoints(int chartWidth) {
+        return chartWidth <= 0 ? DEFAULT_DISPLAY_POINTS : Math.max(MIN_DISPLAY_POINTS, chartWidth);
     }
 
     private static void setDomainRange(ChartPanel chartPanel,
@@ -815,6 +906,14 @@ public class PerformanceTrendPanel extends UiSingletonPanel implements Performan
             }
         }
 
+        private int chartWidth() {
+            int width = combinedChartPanel.getWidth();
+            for (SplitChart splitChart : splitCharts) {
+                width = Math.max(width, splitChart.chartPanel().getWidth());
+            }
+            return width;
+        }
+
         private void resetAxes(long resetTimeMs) {
             PerformanceTrendPanel.resetAxes(combinedChartPanel, resetTimeMs);
             for (SplitChart splitChart : splitCharts) {
@@ -0,0 +1,112 @@
+package com.laker.postman.panel.performance.result;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 单条趋势序列的全量采样点，按时间升序存放在堆外分块里（每点 16 字节：毫秒时间 + 数值），
+ * 几小时的 1 秒采样不会变成成千上万个 TimeSeriesDataItem 压在堆上。空值（断线）记为 NaN。
+ * <p>
+ * 只在 EDT 上读写，不做同步。
+ * </p>
+ */
+final class PerformanceTrendPointStore {
+    private static final int POINT_BYTES = 16;
+    private static final int CHUNK_POINTS = 4_096;
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    long timeAt(int index) {
+        return chunk(index).getLong(offset(index));
+    }
+
+    /**
+     * 返回 NaN 表示该时刻没有有效值。
+     */
+    double valueAt(int index) {
+        return chunk(index).getDouble(offset(index) + Long.BYTES);
+    }
+
+    /**
+     * 按时间写入一个点：同一时刻覆盖旧值，和 TimeSeries.addOrUpdate 的语义一致。
+     * 采样时间基本单调递增，乱序写入才需要二分定位和后移。
+     */
+    void put(long timeMs, double value) {
+        if (size == 0 || timeMs > timeAt(size - 1)) {
+            append(timeMs, value);
+            return;
+        }
+        int index = lowerBound(timeMs);
+        if (timeAt(index) == timeMs) {
+            set(index, timeMs, value);
+            return;
+        }
+        append(timeAt(size - 1), valueAt(size - 1));
+        for (int i = size - 2; i > index; i--) {
+            set(i, timeAt(i - 1), valueAt(i - 1));
+        }
+        set(index, timeMs, value);
+    }
+
+    /**
+     * 第一个时间不早于 timeMs 的下标，全部更早时返回 size。
+     */
+    int lowerBound(long timeMs) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timeAt(mid) < timeMs) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    Long lastPositiveTimeMs() {
+        for (int i = size - 1; i >= 0; i--) {
+            if (valueAt(i) > 0) {
+                return timeAt(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 丢掉所有分块，堆外内存随 ByteBuffer 回收释放。
+     */
+    void clear() {
+        chunks.clear();
+        size = 0;
+    }
+
+    private void append(long timeMs, double value) {
+        if (size == chunks.size() * CHUNK_POINTS) {
+            chunks.add(ByteBuffer.allocateDirect(CHUNK_POINTS * POINT_BYTES));
+        }
+        set(size++, timeMs, value);
+    }
+
+    private void set(int index, long timeMs, double value) {
+        ByteBuffer chunk = chunk(index);
+        int offset = offset(index);
+        chunk.putLong(offset, timeMs);
+        chunk.putDouble(offset + Long.BYTES, value);
+    }
+
+    private ByteBuffer chunk(int index) {
+        return chunks.get(index / CHUNK_POINTS);
+    }
+
+    private static int offset(int index) {
+        return (index % CHUNK_POINTS) * POINT_BYTES;
+    }
+}
@@ -0,0 +1,113 @@
+package com.laker.postman.panel.performance.result;
+
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * 把一条图表 TimeSeries 和它的全量采样点绑在一起：全量数据留在 {@link PerformanceTrendPointStore}，
+ * TimeSeries 只放按图表像素宽度降采样后的点，长时间压测的重绘成本不随运行时长增长，整轮曲线仍然完整可见。
+ * <p>
+ * 点数没超过显示点数时 TimeSeries 和全量数据逐点一致；超过后每累计一个桶宽的新点重新降采样一次，
+ * 其间新点直接追加。缩放时在整轮概览之外叠加可见区间的降采样，放大后能看到区间内的细节。
+ * </p>
+ */
+final class PerformanceTrendSeriesHistory {
+    private final TimeSeries series;
+    private final PerformanceTrendPointStore points = new PerformanceTrendPointStore();
+    private boolean downsampled;
+    private int sampledSize;
+    private int sampledDisplayPoints;
+    private Long zoomStartMs;
+    private Long zoomEndMs;
+
+    PerformanceTrendSeriesHistory(TimeSeries series) {
+        this.series = series;
+    }
+
+    TimeSeries series() {
+        return series;
+    }
+
+    int size() {
+        return points.size();
+    }
+
+    void put(RegularTimePeriod period, Number value, int displayPoints) {
+        points.put(period.getFirstMillisecond(), value == null ? Double.NaN : value.doubleValue());
+        if (!downsampled && points.size() <= displayPoints) {
+            series.addOrUpdate(period, value);
+            return;
+        }
+        if (downsampled && points.size() - sampledSize < pendingLimit()) {
+            series.addOrUpdate(period, value);
+            return;
+        }
+        resample(displayPoints);
+    }
+
+    /**
+     * 可见区间变化后重新降采样；区间为 null 表示回到整轮视图。
+     */
+    void zoom(Long startMs, Long endMs, int displayPoints) {
+        if (startMs == null || endMs == null || startMs >= endMs) {
+            startMs = null;
+            endMs = null;
+        }
+        boolean unchanged = Objects.equals(zoomStartMs, startMs)
+                && Objects.equals(zoomEndMs, endMs)
+                && sampledDisplayPoints == displayPoints;
+        zoomStartMs = startMs;
+        zoomEndMs = endMs;
+        if (unchanged || (!downsampled && points.size() <= displayPoints)) {
+            return;
+        }
+        resample(displayPoints);
+    }
+
+    Long lastPositiveTimeMs() {
+        return points.lastPositiveTimeMs();
+    }
+
+    void clear() {
+        points.clear();
+        series.clear();
+        downsampled = false;
+        sampledSize = 0;
+        sampledDisplayPoints = 0;
+        zoomStartMs = null;
+        zoomEndMs = null;
+    }
+
+    private int pendingLimit() {
+        return Math.max(1, sampledSize / Math.max(1, sampledDisplayPoints));
+    }
+
+    private void resample(int displayPoints) {
+        int size = points.size();
+        int[] selected = PerformanceTrendDownsampler.select(points, 0, size, displayPoints);
+        if (zoomStartMs != null) {
+            // 区间两侧各多带一个点，放大后折线能连到可见范围边缘
+            int from = Math.max(0, points.lowerBound(zoomStartMs) - 1);
+            int to = Math.min(size, points.lowerBound(zoomEndMs + 1) + 1);
+            selected = PerformanceTrendDownsampler.merge(selected,
+                    PerformanceTrendDownsampler.select(points, from, to, displayPoints));
+        }
+        series.setNotify(false);
+        try {
+            series.clear();
+            for (int index : selected) {
+                double value = points.valueAt(index);
+                series.add(new Millisecond(new Date(points.timeAt(index))), Double.isNaN(value) ? null : value, false);
+            }
+        } finally {
+            series.setNotify(true);
+        }
+        downsampled = size > displayPoints;
+        sampledSize = size;
+        sampledDisplayPoints = displayPoints;
+    }
+}
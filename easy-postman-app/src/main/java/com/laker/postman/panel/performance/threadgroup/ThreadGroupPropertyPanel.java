@@ -45,6 +45,13 @@ public class ThreadGroupPropertyPanel extends JPanel {
     private final EasyJSpinner durationSpinner;
     private final JLabel maxInFlightWaitLabel;
     private final EasyJSpinner maxInFlightWaitSpinner;
+    private final JCheckBox asyncSamplingCheckBox;
+
+    // HTTP/2 多路复用组件，对所有线程模式生效
+    private final JPanel http2Panel;
+    private final JCheckBox http2MultiplexedCheckBox;
+    private final EasyJSpinner http2ConnectionsSpinner;
+    private final EasyJSpinner http2MaxStreamsSpinner;
 
     // 递增模式面板组件
     private final JPanel rampUpPanel;
@@ -115,6 +122,9 @@ public class ThreadGroupPropertyPanel extends JPanel {
                 false
         );
         durationSpinner = standardIntSpinner(60, 1, null, 10);
+        asyncSamplingCheckBox = new JCheckBox(I18nUtil.getMessage(MessageKeys.THREADGROUP_ASYNC_SAMPLING_ENABLE));
+        asyncSamplingCheckBox.setOpaque(false);
+        asyncSamplingCheckBox.setToolTipText(I18nUtil.getMessage(MessageKeys.THREADGROUP_ASYNC_SAMPLING_TOOLTIP));
         maxInFlightWaitLabel = formLabel(I18nUtil.getMessage(MessageKeys.THREADGROUP_MAX_IN_FLIGHT_WAIT));
         maxInFlightWaitSpinner = standardIntSpinner(
                 ThreadGroupData.DEFAULT_MAX_IN_FLIGHT_WAIT_SECONDS,
@@ -126,6 +136,14 @@ public class ThreadGroupPropertyPanel extends JPanel {
         maxInFlightWaitLabel.setToolTipText(maxInFlightWaitTooltip);
         maxInFlightWaitSpinner.setToolTipText(maxInFlightWaitTooltip);
 
+        http2Panel = new JPanel(createThreadGroupFormLayout(2, "[" + SPINNER_WIDTH + "!]"));
+        http2Panel.setOpaque(false);
+        http2MultiplexedCheckBox = new JCheckBox(I18nUtil.getMessage(MessageKeys.THREADGROUP_HTTP2_MULTIPLEXED_ENABLE));
+        http2MultiplexedCheckBox.setOpaque(false);
+        http2MultiplexedCheckBox.setToolTipText(I18nUtil.getMessage(MessageKeys.THREADGROUP_HTTP2_MULTIPLEXED_TOOLTIP));
+        http2ConnectionsSpinner = standardIntSpinner(ThreadGroupData.DEFAULT_HTTP2_CONNECTIONS, 1, null, 1);
+        http2MaxStreamsSpinner = standardIntSpinner(ThreadGroupData.DEFAULT_HTTP2_MAX_STREAMS_PER_CONNECTION, 1, null, 10);
+
         // 2. 递增模式面板
         rampUpPanel = new JPanel(createValuePairLayout());
         rampUpPanel.setOpaque(false);
@@ -158,6 +176,7 @@ public class ThreadGroupPropertyPanel extends JPanel {
         setupRampUpPanel();
         setupSpikePanel();
         setupStairsPanel();
+        setupHttp2Panel();
 
         // 添加所有面板到卡片布局
         cardPanel.add(fixedPanel, ThreadGroupData.ThreadMode.FIXED.name());
@@ -184,6 +203,8 @@ public class ThreadGroupPropertyPanel extends JPanel {
         });
         updateFixedExecutionModeState();
         updateMaxInFlightWaitState();
+        http2MultiplexedCheckBox.addActionListener(e -> updateHttp2State());
+        updateHttp2State();
 
         // 预览图表区域
         previewPanel = new ThreadLoadPreviewPanel();
@@ -196,7 +217,7 @@ public class ThreadGroupPropertyPanel extends JPanel {
         JPanel configPanel = new JPanel(new MigLayout(
                 "insets 0, fillx, novisualpadding, gap 0",
                 "[left]",
-                "[]10[]8[]"
+                "[]10[]8[]8[]"
         ));
         configPanel.setOpaque(false);
         configPanel.setBorder(BorderFactory.createEmptyBorder(2, 0, 0, 0));
@@ -223,7 +244,8 @@ public class ThreadGroupPropertyPanel extends JPanel {
                 fixedPanel.getPreferredSize().width,
                 FORM_CONTROL_HEIGHT
         ));
-        configPanel.add(maxInFlightWaitRow, "left");
+        configPanel.add(maxInFlightWaitRow, "left, wrap");
+        configPanel.add(http2Panel, "left");
         JPanel previewSection = new JPanel(new MigLayout(
                 "insets 0, fill, novisualpadding, gap 0",
                 "[grow,fill]",
@@ -265,7 +287,7 @@ public class ThreadGroupPropertyPanel extends JPanel {
     }
 
     private static MigLayout createFixedModeLayout() {
-        return createThreadGroupFormLayout(2, "[pref!]");
+        return createThreadGroupFormLayout(3, "[pref!]");
     }
 
     private static MigLayout createThreadGroupFormLayout(int rowCount, String rightFieldColumn) {
@@ -316,7 +338,12 @@ public class ThreadGroupPropertyPanel extends JPanel {
         fixedPanel.add(formLabel(I18nUtil.getMessage(MessageKeys.THREADGROUP_FIXED_LOOPS)));
         fixedPanel.add(fixedLoopsSpinner, spinnerConstraints());
         fixedPanel.add(formLabel(I18nUtil.getMessage(MessageKeys.THREADGROUP_FIXED_DURATION)));
-        fixedPanel.add(durationSpinner, spinnerConstraints());
+        fixedPanel.add(durationSpinner, spinnerConstraints() + ", wrap");
+
+        JLabel asyncSamplingLabel = formLabel(I18nUtil.getMessage(MessageKeys.THREADGROUP_ASYNC_SAMPLING));
+        asyncSamplingLabel.setToolTipText(asyncSamplingCheckBox.getToolTipText());
+        fixedPanel.add(asyncSamplingLabel);
+        fixedPanel.add(asyncSamplingCheckBox, "span 3");
     }
 
     // 设置递增模式面板
@@ -387,6 +414,21 @@ public class ThreadGroupPropertyPanel extends JPanel {
         );
     }
 
+    // 设置 HTTP/2 多路复用面板
+    private void setupHttp2Panel() {
+        JLabel multiplexedLabel = formLabel(I18nUtil.getMessage(MessageKeys.THREADGROUP_HTTP2_MULTIPLEXED));
+        multiplexedLabel.setToolTipText(http2MultiplexedCheckBox.getToolTipText());
+        http2Panel.add(multiplexedLabel);
+        http2Panel.add(http2MultiplexedCheckBox, "span 3, wrap");
+        addValuePairRow(
+                http2Panel,
+                MessageKeys.THREADGROUP_HTTP2_CONNECTIONS,
+                http2ConnectionsSpinner,
+                MessageKeys.THREADGROUP_HTTP2_MAX_STREAMS,
+                http2MaxStreamsSpinner
+        );
+    }
+
     private void addValuePairRow(JPanel panel,
                                  String leftLabelKey,
                                  JComponent leftField,
@@ -509,10 +551,17 @@ public class ThreadGroupPropertyPanel extends JPanel {
         useLoopCountButton.setSelected(!data.useTime);
         durationSpinner.setValue(data.duration);
         maxInFlightWaitSpinner.setValue(data.maxInFlightWaitSeconds);
+        asyncSamplingCheckBox.setSelected(data.asyncSampling);
+
+        // 设置 HTTP/2 多路复用参数
+        http2MultiplexedCheckBox.setSelected(data.http2Multiplexed);
+        http2ConnectionsSpinner.setValue(data.http2Connections);
+        http2MaxStreamsSpinner.setValue(data.http2MaxStreamsPerConnection);
 
         // 更新UI状态
         updateFixedExecutionModeState();
         updateMaxInFlightWaitState();
+        updateHttp2State();
 
         // 设置递增模式参数
         rampUpStartThreadsSpinner.setValue(data.rampUpStartThreads);
@@ -546,6 +595,7 @@ public class ThreadGroupPropertyPanel extends JPanel {
     public void forceCommitAllSpinners() {
         List<EasyJSpinner> allSpinners = Arrays.asList(
                 fixedNumThreadsSpinner, fixedLoopsSpinner, durationSpinner, maxInFlightWaitSpinner,
+                http2ConnectionsSpinner, http2MaxStreamsSpinner,
                 rampUpStartThreadsSpinner, rampUpEndThreadsSpinner,
                 rampUpTimeSpinner, rampUpDurationSpinner,
                 spikeMinThreadsSpinner, spikeMaxThreadsSpinner,
@@ -575,6 +625,12 @@ public class ThreadGroupPropertyPanel extends JPanel {
         data.useTime = useTimeCheckBox.isSelected();
         data.duration = durationSpinner.getCommittedIntValue();
         data.maxInFlightWaitSeconds = maxInFlightWaitSpinner.getCommittedIntValue();
+        data.asyncSampling = asyncSamplingCheckBox.isSelected();
+
+        // 保存 HTTP/2 多路复用参数
+        data.http2Multiplexed = http2MultiplexedCheckBox.isSelected();
+        data.http2Connections = http2ConnectionsSpinner.getCommittedIntValue();
+        data.http2MaxStreamsPerConnection = http2MaxStreamsSpinner.getCommittedIntValue();
 
         // 保存递增模式参数
         data.rampUpStartThreads = rampUpStartThreadsSpinner.getCommittedIntValue();
@@ -647,6 +703,12 @@ public class ThreadGroupPropertyPanel extends JPanel {
         maxInFlightWaitSpinner.setEnabled(enabled);
     }
 
+    private void updateHttp2State() {
+        boolean enabled = http2MultiplexedCheckBox.isSelected();
+        http2ConnectionsSpinner.setEnabled(enabled);
+        http2MaxStreamsSpinner.setEnabled(enabled);
+    }
+
     private static String trimFieldLabel(String text) {
         if (text == null) {
             return "";
@@ -1,6 +1,7 @@
 package com.laker.postman.panel.performance.timer;
 
 import com.laker.postman.performance.core.timer.TimerData;
+import com.laker.postman.performance.core.timer.TimerType;
 
 
 import com.laker.postman.common.component.EasyJSpinner;
@@ -15,46 +16,69 @@ import javax.swing.*;
 import java.awt.*;
 
 public class TimerPropertyPanel extends JPanel {
+    private final JComboBox<TimerType> typeCombo;
+    private final JLabel delayLabel;
     private final EasyJSpinner delaySpinner;
+    private final JLabel rangeLabel;
+    private final EasyJSpinner rangeSpinner;
+    private final JLabel pacingLabel;
+    private final EasyJSpinner pacingSpinner;
+    private final JLabel throughputLabel;
+    private final EasyJSpinner throughputSpinner;
     private PerformanceTreeNode currentNode;
 
     public TimerPropertyPanel() {
         setLayout(new GridBagLayout());
-        setMaximumSize(new Dimension(420, 120));
-        setPreferredSize(new Dimension(380, 100));
+        setMaximumSize(new Dimension(460, 220));
+        setPreferredSize(new Dimension(400, 180));
         PerformanceStagePropertyLayout.applyCompactBorder(this);
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(6, 6, 6, 6);
-        gbc.anchor = GridBagConstraints.CENTER;
-        gbc.fill = GridBagConstraints.NONE;
-        gbc.gridx = 0;
-        gbc.gridy = 0;
-        gbc.gridwidth = 1;
-        JLabel label = new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_DELAY));
-        add(label, gbc);
-        gbc.gridx = 1;
-        gbc.insets = new Insets(6, 0, 6, 6); // 左间距为0，右间距为6
-        delaySpinner = EasyJSpinner.intSpinner(1000, 0, 60000, 100);
-        delaySpinner.setPreferredSize(new Dimension(100, 28));
-        add(delaySpinner, gbc);
+
+        typeCombo = new JComboBox<>(TimerType.values());
+        typeCombo.setRenderer(new TimerTypeRenderer());
+        typeCombo.setPrototypeDisplayValue(TimerType.CONSTANT_THROUGHPUT);
+        addRow(0, new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_TYPE)), typeCombo);
+
+        delayLabel = new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_DELAY));
+        delaySpinner = EasyJSpinner.intSpinner(1000, TimerData.MIN_DELAY_MS, 60000, 100);
+        addRow(1, delayLabel, delaySpinner);
+
+        rangeLabel = new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_RANGE));
+        rangeSpinner = EasyJSpinner.intSpinner(100, TimerData.MIN_DELAY_MS, 60000, 50);
+        addRow(2, rangeLabel, rangeSpinner);
+
+        pacingLabel = new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_PACING));
+        pacingSpinner = EasyJSpinner.intSpinner(1000, TimerData.MIN_DELAY_MS, TimerData.MAX_DELAY_MS, 100);
+        addRow(3, pacingLabel, pacingSpinner);
+
+        throughputLabel = new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_THROUGHPUT));
+        throughputSpinner = new EasyJSpinner(new SpinnerNumberModel(
+                60D,
+                TimerData.MIN_THROUGHPUT_PER_MINUTE,
+                TimerData.MAX_THROUGHPUT_PER_MINUTE,
+                10D
+        ));
+        addRow(4, throughputLabel, throughputSpinner);
+
         // 帮助说明
+        GridBagConstraints gbc = new GridBagConstraints();
         gbc.gridx = 0;
-        gbc.gridy = 1;
+        gbc.gridy = 5;
         gbc.gridwidth = 2;
         gbc.insets = new Insets(6, 6, 6, 6);
         gbc.anchor = GridBagConstraints.CENTER;
         gbc.fill = GridBagConstraints.HORIZONTAL;
-        JLabel helpLabel = new JLabel(I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_HINT));
+        JLabel helpLabel = new JLabel("<html>" + I18nUtil.getMessage(MessageKeys.PERFORMANCE_TIMER_HINT) + "</html>");
         helpLabel.setFont(FontsUtil.getDefaultFontWithOffset(Font.PLAIN, -1));
         helpLabel.setForeground(ModernColors.getTextSecondary());
         add(helpLabel, gbc);
         // 占位撑满高度
-        gbc.gridy = 2;
+        gbc.gridy = 6;
         gbc.weighty = 1.0;
         gbc.fill = GridBagConstraints.BOTH;
-        gbc.gridx = 0;
-        gbc.gridy = 2;
         add(Box.createVerticalGlue(), gbc);
+
+        typeCombo.addActionListener(e -> updateTypeState());
+        updateTypeState();
     }
 
     public void setTimerData(PerformanceTreeNode node) {
@@ -64,7 +88,13 @@ public class TimerPropertyPanel extends JPanel {
             data = new TimerData();
             node.timerData = data;
         }
-        delaySpinner.setValue(data.delayMs);
+        data.normalize();
+        typeCombo.setSelectedItem(data.timerType());
+        delaySpinner.setValue(Math.min(data.delayMs, 60000));
+        rangeSpinner.setValue(Math.min(data.rangeMs, 60000));
+        pacingSpinner.setValue(data.pacingMs);
+        throughputSpinner.setValue(data.throughputPerMinute);
+        updateTypeState();
     }
 
     public void saveTimerData() {
@@ -74,10 +104,76 @@ public class TimerPropertyPanel extends JPanel {
             data = new TimerData();
             currentNode.timerData = data;
         }
+        data.type = selectedType().getStorageValue();
         data.delayMs = delaySpinner.getCommittedIntValue();
+        data.rangeMs = rangeSpinner.getCommittedIntValue();
+        data.pacingMs = pacingSpinner.getCommittedIntValue();
+        data.throughputPerMinute = ((Number) throughputSpinner.getCommittedValue()).doubleValue();
+        data.normalize();
     }
 
     public void forceCommitAllSpinners() {
         delaySpinner.forceCommit();
+        rangeSpinner.forceCommit();
+        pacingSpinner.forceCommit();
+        throughputSpinner.forceCommit();
+    }
+
+    private TimerType selectedType() {
+        TimerType type = (TimerType) typeCombo.getSelectedItem();
+        return type == null ? TimerType.CONSTANT : type;
+    }
+
+    private void updateTypeState() {
+        TimerType type = selectedType();
+        boolean thinkTime = !type.isPacing() && type != TimerType.CONSTANT_THROUGHPUT;
+        boolean random = thinkTime && type != TimerType.CONSTANT;
+        setRowVisible(delayLabel, delaySpinner, thinkTime);
+        setRowVisible(rangeLabel, rangeSpinner, random);
+        setRowVisible(pacingLabel, pacingSpinner, type.isPacing());
+        setRowVisible(throughputLabel, throughputSpinner, type == TimerType.CONSTANT_THROUGHPUT);
+        rangeLabel.setText(I18nUtil.getMessage(switch (type) {
+            case GAUSSIAN_RANDOM -> MessageKeys.PERFORMANCE_TIMER_DEVIATION;
+            case POISSON_RANDOM -> MessageKeys.PERFORMANCE_TIMER_POISSON_MEAN;
+            default -> MessageKeys.PERFORMANCE_TIMER_RANGE;
+        }));
+        revalidate();
+        repaint();
+    }
+
+    private void addRow(int row, JLabel label, JComponent field) {
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(6, 6, 6, 6);
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        add(label, gbc);
+        gbc.gridx = 1;
+        gbc.insets = new Insets(6, 0, 6, 6); // 左间距为0，右间距为6
+        gbc.anchor = GridBagConstraints.WEST;
+        if (field instanceof JSpinner) {
+            field.setPreferredSize(new Dimension(120, 28));
+        }
+        add(field, gbc);
+    }
+
+    private static void setRowVisible(JLabel label, JComponent field, boolean visible) {
+        label.setVisible(visible);
+        field.setVisible(visible);
+    }
+
+    private static final class TimerTypeRenderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list,
+                                                      Object value,
+                                                      int index,
+                                                      boolean isSelected,
+                                                      boolean cellHasFocus) {
+            Component component = super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            if (value instanceof TimerType timerType) {
+                setText(I18nUtil.getMessage(timerType.getMessageKey()));
+            }
+            return component;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.laker.postman.panel.topmenu.setting;
 
+import com.laker.postman.http.runtime.okhttp.HttpDnsSettings;
 import com.laker.postman.service.js.JsScriptExecutor;
 import com.laker.postman.service.setting.SettingManager;
 import com.laker.postman.util.I18nUtil;
@@ -15,11 +16,15 @@ import java.awt.*;
 public class PerformanceSettingsPanelModern extends ModernSettingsPanel {
     private static final int FIELD_SPACING = 8;
     private static final int SECTION_SPACING = 12;
+    private static final HttpDnsSettings.Mode[] DNS_MODES = HttpDnsSettings.Mode.values();
 
     private JTextField performanceMaxIdleField;
     private JTextField performanceKeepAliveField;
     private JTextField performanceMaxRequestsField;
     private JTextField performanceMaxRequestsPerHostField;
+    private JComboBox<String> dnsModeComboBox;
+    private JTextField dnsCacheTtlField;
+    private JTextField dnsHostOverridesField;
     private JTextField jsContextPoolSizeField;
     private JTextField jsContextAcquireTimeoutField;
     private JTextField performanceSlowRequestThresholdField;
@@ -80,6 +85,45 @@ public class PerformanceSettingsPanelModern extends ModernSettingsPanel {
         performanceSection.add(maxRequestsPerHostRow);
         performanceSection.add(createVerticalSpace(FIELD_SPACING));
 
+        // 域名解析模式，下拉项顺序与 DNS_MODES 一致
+        dnsModeComboBox = new JComboBox<>(new String[]{
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_MODE_SYSTEM),
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_MODE_CACHED),
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_MODE_ROUND_ROBIN),
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_MODE_PER_VIRTUAL_USER),
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_MODE_EVERY_CONNECTION)
+        });
+        dnsModeComboBox.setSelectedIndex(HttpDnsSettings.parseMode(SettingManager.getPerformanceDnsMode()).ordinal());
+        JPanel dnsModeRow = createFieldRow(
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_MODE),
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_MODE_TOOLTIP),
+                dnsModeComboBox
+        );
+        performanceSection.add(dnsModeRow);
+        performanceSection.add(createVerticalSpace(FIELD_SPACING));
+
+        // DNS 缓存时间
+        dnsCacheTtlField = new JTextField(10);
+        dnsCacheTtlField.setText(String.valueOf(SettingManager.getPerformanceDnsCacheTtlSeconds()));
+        JPanel dnsCacheTtlRow = createFieldRow(
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_CACHE_TTL),
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_CACHE_TTL_TOOLTIP),
+                dnsCacheTtlField
+        );
+        performanceSection.add(dnsCacheTtlRow);
+        performanceSection.add(createVerticalSpace(FIELD_SPACING));
+
+        // 静态主机映射
+        dnsHostOverridesField = new JTextField(24);
+        dnsHostOverridesField.setText(SettingManager.getPerformanceDnsHostOverrides());
+        JPanel dnsHostOverridesRow = createFieldRow(
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_HOST_OVERRIDES),
+                I18nUtil.getMessage(MessageKeys.SETTINGS_PERFORMANCE_DNS_HOST_OVERRIDES_TOOLTIP),
+                dnsHostOverridesField
+        );
+        performanceSection.add(dnsHostOverridesRow);
+        performanceSection.add(createVerticalSpace(FIELD_SPACING));
+
         // JS Context 池大小
         jsContextPoolSizeField = new JTextField(10);
         jsContextPoolSizeField.setText(String.valueOf(SettingManager.getPerformanceJsContextPoolSize()));
@@ -165,6 +209,9 @@ public class PerformanceSettingsPanelModern extends ModernSettingsPanel {
         trackComponentValue(performanceKeepAliveField);
         trackComponentValue(performanceMaxRequestsField);
         trackComponentValue(performanceMaxRequestsPerHostField);
+        trackComponentValue(dnsModeComboBox);
+        trackComponentValue(dnsCacheTtlField);
+        trackComponentValue(dnsHostOverridesField);
         trackComponentValue(jsContextPoolSizeField);
         trackComponentValue(jsContextAcquireTimeoutField);
         trackComponentValue(performanceSlowRequestThresholdField);
@@ -195,6 +242,11 @@ public class PerformanceSettingsPanelModern extends ModernSettingsPanel {
                 this::isGreaterThanZeroInteger,
                 I18nUtil.getMessage(MessageKeys.SETTINGS_VALIDATION_MAX_IDLE_ERROR)
         );
+        setupValidator(
+                dnsCacheTtlField,
+                this::isPositiveInteger,
+                I18nUtil.getMessage(MessageKeys.SETTINGS_VALIDATION_DNS_CACHE_TTL_ERROR)
+        );
         setupValidator(
                 jsContextPoolSizeField,
                 this::isGreaterThanZeroInteger,
@@ -294,6 +346,9 @@ public class PerformanceSettingsPanelModern extends ModernSettingsPanel {
             SettingManager.setPerformanceKeepAliveSeconds(Integer.parseInt(performanceKeepAliveField.getText().trim()));
             SettingManager.setPerformanceMaxRequests(Integer.parseInt(performanceMaxRequestsField.getText().trim()));
             SettingManager.setPerformanceMaxRequestsPerHost(Integer.parseInt(performanceMaxRequestsPerHostField.getText().trim()));
+            SettingManager.setPerformanceDnsMode(DNS_MODES[Math.max(0, dnsModeComboBox.getSelectedIndex())].name());
+            SettingManager.setPerformanceDnsCacheTtlSeconds(Long.parseLong(dnsCacheTtlField.getText().trim()));
+            SettingManager.setPerformanceDnsHostOverrides(dnsHostOverridesField.getText().trim());
             SettingManager.setPerformanceJsContextPoolSize(Integer.parseInt(jsContextPoolSizeField.getText().trim()));
             SettingManager.setPerformanceJsContextAcquireTimeoutMs(Integer.parseInt(jsContextAcquireTimeoutField.getText().trim()));
             SettingManager.setPerformanceSlowRequestThreshold(Integer.parseInt(performanceSlowRequestThresholdField.getText().trim()));
@@ -309,6 +364,9 @@ public class PerformanceSettingsPanelModern extends ModernSettingsPanel {
             trackComponentValue(performanceKeepAliveField);
             trackComponentValue(performanceMaxRequestsField);
             trackComponentValue(performanceMaxRequestsPerHostField);
+        trackComponentValue(dnsModeComboBox);
+        trackComponentValue(dnsCacheTtlField);
+        trackComponentValue(dnsHostOverridesField);
             trackComponentValue(jsContextPoolSizeField);
             trackComponentValue(jsContextAcquireTimeoutField);
             trackComponentValue(performanceSlowRequestThresholdField);
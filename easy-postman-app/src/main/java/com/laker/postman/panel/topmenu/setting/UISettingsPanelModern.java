@@ -48,6 +48,7 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
     private JCheckBox showDownloadProgressCheckBox;
     private JTextField downloadProgressDialogThresholdField;
     private JTextField gitDiffLargeFileThresholdField;
+    private JTextField importResponseBodyLimitField;
     private JTextField maxHistoryCountField;
     private JTextField maxOpenedRequestsCountField;
     private JCheckBox requestEditorTabsMultiLineCheckBox;
@@ -133,12 +134,14 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
         String maxHistoryLabel = I18nUtil.getMessage(MessageKeys.SETTINGS_GENERAL_MAX_HISTORY);
         String maxOpenedRequestsLabel = I18nUtil.getMessage(MessageKeys.SETTINGS_GENERAL_MAX_OPENED_REQUESTS);
         String gitDiffThresholdLabel = I18nUtil.getMessage(MessageKeys.SETTINGS_GIT_DIFF_LARGE_FILE_THRESHOLD);
+        String importResponseBodyLimitLabel = I18nUtil.getMessage(MessageKeys.SETTINGS_IMPORT_RESPONSE_BODY_LIMIT);
         String sidebarTabsLabel = I18nUtil.getMessage(MessageKeys.SETTINGS_GENERAL_SIDEBAR_TABS);
         String notificationPositionLabel = I18nUtil.getMessage(MessageKeys.SETTINGS_GENERAL_NOTIFICATION_POSITION);
         int generalFieldLabelWidth = calculateFieldLabelWidth(List.of(
                 maxHistoryLabel,
                 maxOpenedRequestsLabel,
                 gitDiffThresholdLabel,
+                importResponseBodyLimitLabel,
                 sidebarTabsLabel,
                 notificationPositionLabel
         ));
@@ -251,6 +254,18 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
                 SettingsFieldRow.DEFAULT_FIELD_WIDTH
         );
         generalSection.add(gitDiffThresholdRow);
+        generalSection.add(createVerticalSpace(FIELD_SPACING));
+
+        importResponseBodyLimitField = new JTextField(10);
+        importResponseBodyLimitField.setText(String.valueOf(SettingManager.getImportResponseBodyLimitMb()));
+        JPanel importResponseBodyLimitRow = createFieldRow(
+                importResponseBodyLimitLabel,
+                I18nUtil.getMessage(MessageKeys.SETTINGS_IMPORT_RESPONSE_BODY_LIMIT_TOOLTIP),
+                importResponseBodyLimitField,
+                generalFieldLabelWidth,
+                SettingsFieldRow.DEFAULT_FIELD_WIDTH
+        );
+        generalSection.add(importResponseBodyLimitRow);
 
         contentPanel.add(generalSection);
         contentPanel.add(createVerticalSpace(SECTION_SPACING));
@@ -266,6 +281,7 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
         trackComponentValue(showDownloadProgressCheckBox);
         trackComponentValue(downloadProgressDialogThresholdField);
         trackComponentValue(gitDiffLargeFileThresholdField);
+        trackComponentValue(importResponseBodyLimitField);
         trackComponentValue(maxHistoryCountField);
         trackComponentValue(maxOpenedRequestsCountField);
         trackComponentValue(requestEditorTabsMultiLineCheckBox);
@@ -937,6 +953,11 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
                 this::isValidGitDiffLargeFileThreshold,
                 I18nUtil.getMessage(MessageKeys.SETTINGS_VALIDATION_GIT_DIFF_LARGE_FILE_THRESHOLD_ERROR)
         );
+        setupValidator(
+                importResponseBodyLimitField,
+                this::isValidImportResponseBodyLimit,
+                I18nUtil.getMessage(MessageKeys.SETTINGS_VALIDATION_IMPORT_RESPONSE_BODY_LIMIT_ERROR)
+        );
         setupValidator(
                 fontSizeField,
                 this::isValidFontSize,
@@ -992,6 +1013,16 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
         }
     }
 
+    private boolean isValidImportResponseBodyLimit(String value) {
+        try {
+            int limitMb = Integer.parseInt(value.trim());
+            return limitMb >= SettingManager.MIN_IMPORT_RESPONSE_BODY_LIMIT_MB
+                    && limitMb <= SettingManager.MAX_IMPORT_RESPONSE_BODY_LIMIT_MB;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     @Override
     protected void registerListeners() {
         saveBtn.addActionListener(e -> saveSettings(true));
@@ -1037,6 +1068,7 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
             SettingManager.setRequestEditorTabsMultiLineEnabled(requestEditorTabsMultiLineCheckBox.isSelected());
             updateRequestEditorTabsLayoutPolicy();
             SettingManager.setGitDiffLargeFileThresholdMb(Integer.parseInt(gitDiffLargeFileThresholdField.getText().trim()));
+            SettingManager.setImportResponseBodyLimitMb(Integer.parseInt(importResponseBodyLimitField.getText().trim()));
             SettingManager.setAutoFormatResponse(autoFormatResponseCheckBox.isSelected());
             SettingManager.setStartupSplashEnabled(startupSplashCheckBox.isSelected());
 
@@ -1105,6 +1137,7 @@ public class UISettingsPanelModern extends ModernSettingsPanel {
             trackComponentValue(showDownloadProgressCheckBox);
             trackComponentValue(downloadProgressDialogThresholdField);
             trackComponentValue(gitDiffLargeFileThresholdField);
+            trackComponentValue(importResponseBodyLimitField);
             trackComponentValue(maxHistoryCountField);
             trackComponentValue(maxOpenedRequestsCountField);
             trackComponentValue(requestEditorTabsMultiLineCheckBox);
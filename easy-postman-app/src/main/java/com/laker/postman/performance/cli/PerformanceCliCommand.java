@@ -1,6 +1,7 @@
 package com.laker.postman.performance.cli;
 
 import com.laker.postman.performance.master.PerformanceMasterRunCommand;
+import com.laker.postman.performance.mock.PerformanceMockCommand;
 import com.laker.postman.performance.worker.PerformanceWorkerCommand;
 
 import java.io.PrintStream;
@@ -9,17 +10,25 @@ public class PerformanceCliCommand {
     private final PerformanceRunCliCommand runCommand;
     private final PerformanceWorkerCommand workerCommand;
     private final PerformanceMasterRunCommand masterRunCommand;
+    private final PerformanceMockCommand mockCommand;
 
     public PerformanceCliCommand() {
-        this(new PerformanceRunCliCommand(), new PerformanceWorkerCommand(), new PerformanceMasterRunCommand());
+        this(
+                new PerformanceRunCliCommand(),
+                new PerformanceWorkerCommand(),
+                new PerformanceMasterRunCommand(),
+                new PerformanceMockCommand()
+        );
     }
 
     PerformanceCliCommand(PerformanceRunCliCommand runCommand,
                           PerformanceWorkerCommand workerCommand,
-                          PerformanceMasterRunCommand masterRunCommand) {
+                          PerformanceMasterRunCommand masterRunCommand,
+                          PerformanceMockCommand mockCommand) {
         this.runCommand = runCommand == null ? new PerformanceRunCliCommand() : runCommand;
         this.workerCommand = workerCommand == null ? new PerformanceWorkerCommand() : workerCommand;
         this.masterRunCommand = masterRunCommand == null ? new PerformanceMasterRunCommand() : masterRunCommand;
+        this.mockCommand = mockCommand == null ? new PerformanceMockCommand() : mockCommand;
     }
 
     public static boolean matches(String[] args) {
@@ -35,6 +44,7 @@ public class PerformanceCliCommand {
             case "run" -> runCommand.run(args, out, err);
             case "worker" -> workerCommand.run(args, out, err);
             case "master" -> runMaster(args, out, err);
+            case "mock" -> mockCommand.run(args, out, err);
             default -> {
                 err.println("Unknown performance command: " + args[1]);
                 printUsage(err);
@@ -62,9 +72,10 @@ public class PerformanceCliCommand {
 
     private static void printUsage(PrintStream out) {
         out.println("Usage:");
-        out.println("  performance run --plan <plan.json> [--out <result.json>]");
-        out.println("  performance worker [--host <host>] [--port <port>]");
+        out.println("  performance run --plan <plan.json> [--out <result.json>] [--jfr <recording.jfr>]");
+        out.println("  performance worker [--host <host>] [--port <port>] [--mock-workspace <workspace-dir> [--mock-port <port>] ...]");
         out.println("  performance master run --plan <plan.json> --workers host:port[,host:port] [--out <result.json>] [--timeout-sec <seconds>] [--poll-interval-ms <ms>]");
+        out.println("  performance mock <workspace-dir> [--port <port>] [--latency <spec>] [--error-rate <rate>] [--match-query <names>] [--match-header <names>] [--match-body]");
     }
 
     private static void printMasterUsage(PrintStream out) {
@@ -1,5 +1,6 @@
 package com.laker.postman.performance.cli;
 
+import com.laker.postman.performance.core.jfr.PerformanceJfrRecorder;
 import com.laker.postman.performance.core.report.PerformanceJsonReport;
 import com.laker.postman.performance.core.report.PerformanceJsonReportMetadata;
 import com.laker.postman.performance.core.run.PerformanceRunStatus;
@@ -7,10 +8,12 @@ import com.laker.postman.performance.output.PerformanceCommandLinePathOption;
 import com.laker.postman.performance.output.PerformanceCommandPathValidator;
 import com.laker.postman.performance.output.PerformanceCommandReportFactory;
 import com.laker.postman.performance.output.PerformanceCommandReportOutput;
+import com.laker.postman.performance.output.PerformanceCommandThresholdSummary;
 import com.laker.postman.startup.HeadlessStartupBootstrap;
 import com.laker.postman.performance.runtime.PerformanceRunExecutionResult;
 import com.laker.postman.performance.runtime.PerformanceRunPlanExecutor;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -72,17 +75,25 @@ public class PerformanceRunCliCommand {
 
             runtimeBootstrap.init();
             PerformanceCommandReportOutput activeOutput = reportOutput;
-            PerformanceRunExecutionResult result = executor.execute(
-                    options.getPlanPath(),
-                    out,
-                    report -> {
-                        activeOutput.writeProgress(report);
-                        printProgress(out, report);
-                    }
-            );
+            PerformanceRunExecutionResult result;
+            try (PerformanceJfrRecorder ignored = startJfrRecording(options.getJfrPath(), out)) {
+                result = executor.execute(
+                        options.getPlanPath(),
+                        out,
+                        report -> {
+                            activeOutput.writeProgress(report);
+                            printProgress(out, report);
+                        }
+                );
+            }
             activeOutput.write(finalReport(result, options.getPlanPath(), commandStartTimeMs));
             printSummary(out, result);
-            return result.isSuccess() ? 0 : 1;
+            if (result.isSuccess()) {
+                return 0;
+            }
+            return result.getReport() != null && result.getReport().hasFailedThresholds()
+                    ? PerformanceCommandThresholdSummary.EXIT_THRESHOLD_FAILED
+                    : 1;
         } catch (IllegalArgumentException ex) {
             reportOutput.writeFailure(lifecycleReport(
                     PerformanceRunStatus.FAILED,
@@ -176,10 +187,21 @@ public class PerformanceRunCliCommand {
                 result.getFailedRequests(),
                 result.getElapsedTimeMs()
         );
+        PerformanceCommandThresholdSummary.print(out, result.getReport());
+    }
+
+    private static PerformanceJfrRecorder startJfrRecording(Path jfrPath, PrintStream out) throws IOException {
+        if (jfrPath == null) {
+            return null;
+        }
+        PerformanceJfrRecorder recorder = PerformanceJfrRecorder.start(jfrPath);
+        out.println("JFR recording: " + recorder.destination());
+        return recorder;
     }
 
     private static void printUsage(PrintStream out) {
-        out.println("Usage: performance run --plan <plan.json> [--out <result.json>]");
+        out.println("Usage: performance run --plan <plan.json> [--out <result.json>] [--jfr <recording.jfr>]");
+        out.println("Exit codes: 0 success, 1 run failed, 2 usage error, 3 SLA threshold failed");
     }
 
     private static String describe(Throwable failure) {
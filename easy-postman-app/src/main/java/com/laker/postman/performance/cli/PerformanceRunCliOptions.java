@@ -10,17 +10,23 @@ public class PerformanceRunCliOptions {
     boolean help;
     Path planPath;
     Path outPath;
+    /**
+     * 非空时在运行期间开启 JFR 录制，结束后写入该文件
+     */
+    Path jfrPath;
 
     @Builder
-    public PerformanceRunCliOptions(Boolean help, Path planPath, Path outPath) {
+    public PerformanceRunCliOptions(Boolean help, Path planPath, Path outPath, Path jfrPath) {
         this.help = help != null && help;
         this.planPath = planPath;
         this.outPath = outPath;
+        this.jfrPath = jfrPath;
     }
 
     public static PerformanceRunCliOptions parse(String[] args) {
         Path planPath = null;
         Path outPath = null;
+        Path jfrPath = null;
         boolean help = false;
         String[] safeArgs = args == null ? new String[0] : args;
         for (int i = 2; i < safeArgs.length; i++) {
@@ -37,12 +43,17 @@ public class PerformanceRunCliOptions {
                 outPath = Path.of(requiredValue(safeArgs, ++i, "--out"));
                 continue;
             }
+            if ("--jfr".equals(arg)) {
+                jfrPath = Path.of(requiredValue(safeArgs, ++i, "--jfr"));
+                continue;
+            }
             throw new IllegalArgumentException("Unknown option: " + arg);
         }
         return PerformanceRunCliOptions.builder()
                 .help(help)
                 .planPath(planPath)
                 .outPath(outPath)
+                .jfrPath(jfrPath)
                 .build();
     }
 
@@ -2,6 +2,8 @@ package com.laker.postman.performance.execution;
 
 
 import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.http.runtime.transport.Http2ConnectionLanes;
+import com.laker.postman.http.runtime.transport.Http2StreamListener;
 import com.laker.postman.http.runtime.transport.ScopedHttpBaseClientProvider;
 import com.laker.postman.http.runtime.okhttp.HttpClientRuntimeConfig;
 import com.laker.postman.http.runtime.transport.RealtimeConnectionHandle;
@@ -24,8 +26,11 @@ public final class DefaultPerformanceNetworkRuntime implements PerformanceNetwor
     private final Set<RealtimeWebSocketConnection> activeWebSockets;
     private final Supplier<HttpClientRuntimeConfig> httpClientConfigSupplier;
     private final ScopedHttpBaseClientProvider httpClientProvider;
+    private final Http2ConnectionLanes http2Lanes;
+    private volatile Http2StreamListener http2StreamListener = Http2StreamListener.noop();
     private volatile boolean cancelling;
     private volatile HttpClientRuntimeConfig activeRunConfig;
+    private volatile int reservedAsyncConcurrency;
 
     public DefaultPerformanceNetworkRuntime() {
         this(HttpClientRuntimeConfig::defaults);
@@ -69,12 +74,38 @@ public final class DefaultPerformanceNetworkRuntime implements PerformanceNetwor
                 ? HttpClientRuntimeConfig::defaults
                 : httpClientConfigSupplier;
         this.httpClientProvider = new ScopedHttpBaseClientProvider(this::currentHttpClientConfig, cookieScopeSupplier);
+        this.http2Lanes = new Http2ConnectionLanes(() -> http2StreamListener);
     }
 
     @Override
     public void beginRun() {
-        activeRunConfig = resolveConfiguredHttpClientConfig();
-        httpClientProvider.clear();
+        HttpClientRuntimeConfig config = resolveConfiguredHttpClientConfig();
+        int asyncConcurrency = reservedAsyncConcurrency;
+        if (asyncConcurrency > 0) {
+            HttpClientRuntimeConfig widened = config.withMinimumConcurrency(asyncConcurrency);
+            if (widened != config) {
+                // OkHttp 调度器为每个在途的异步 Call 占用一个执行线程，放宽上限意味着最多同时存在这么多阻塞线程
+                log.info("异步采样共 {} 个虚拟用户，调度器并发上限由 {}/{} 放宽到 {}/{}，每个在途请求占用一个 OkHttp 调度线程",
+                        asyncConcurrency,
+                        config.maxRequests(),
+                        config.maxRequestsPerHost(),
+                        widened.maxRequests(),
+                        widened.maxRequestsPerHost());
+            }
+            config = widened;
+        }
+        activeRunConfig = config;
+        clearClients();
+    }
+
+    @Override
+    public void reserveAsyncConcurrency(int concurrency) {
+        reservedAsyncConcurrency = Math.max(0, concurrency);
+    }
+
+    @Override
+    public void bindHttp2StreamListener(Http2StreamListener listener) {
+        http2StreamListener = listener == null ? Http2StreamListener.noop() : listener;
     }
 
     @Override
@@ -106,7 +137,7 @@ public final class DefaultPerformanceNetworkRuntime implements PerformanceNetwor
 
     @Override
     public OkHttpClient getBaseClient(PreparedRequest request) {
-        return httpClientProvider.getBaseClient(request);
+        return http2Lanes.select(httpClientProvider.getBaseClient(request), request);
     }
 
     @Override
@@ -114,6 +145,11 @@ public final class DefaultPerformanceNetworkRuntime implements PerformanceNetwor
         return activeHttpCalls.size();
     }
 
+    @Override
+    public int queuedHttpCallCount() {
+        return httpClientProvider.queuedCallCount() + http2Lanes.queuedCallCount();
+    }
+
     @Override
     public int activeSseCount() {
         return activeSseSources.size();
@@ -131,7 +167,7 @@ public final class DefaultPerformanceNetworkRuntime implements PerformanceNetwor
             cancelHttpCalls();
             cancelSseSources();
             cancelWebSockets();
-            httpClientProvider.clear();
+            clearClients();
         } finally {
             cancelling = false;
         }
@@ -139,8 +175,14 @@ public final class DefaultPerformanceNetworkRuntime implements PerformanceNetwor
 
     @Override
     public void endRun() {
-        httpClientProvider.clear();
+        clearClients();
         activeRunConfig = null;
+        reservedAsyncConcurrency = 0;
+    }
+
+    private void clearClients() {
+        http2Lanes.clear();
+        httpClientProvider.clear();
     }
 
     private void cancelHttpCalls() {
@@ -1,11 +1,13 @@
 package com.laker.postman.performance.execution;
 
-
+import com.laker.postman.http.runtime.model.HttpResponse;
 import com.laker.postman.http.runtime.transport.DefaultHttpTransport;
 import com.laker.postman.http.runtime.transport.HttpExchangeOptions;
 import com.laker.postman.http.runtime.transport.HttpTransport;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 final class HttpSamplerExecutor implements PerformanceProtocolSamplerExecutor {
     private final PerformanceNetworkRuntime networkRuntime;
@@ -26,18 +28,27 @@ final class HttpSamplerExecutor implements PerformanceProtocolSamplerExecutor {
 
     @Override
     public ProtocolExecutionResult execute(PerformanceProtocolSamplerContext context) throws Exception {
-        return new ProtocolExecutionResult(
-                httpTransport.execute(
-                        context.getRequest(),
-                        HttpExchangeOptions.builder()
-                                .callTracker(networkRuntime)
-                                .baseClientProvider(networkRuntime)
-                                .build()
-                ),
-                "",
-                false,
-                false,
-                List.of()
-        );
+        return success(httpTransport.execute(context.getRequest(), exchangeOptions()));
+    }
+
+    /**
+     * 通过 OkHttp enqueue 发送，响应体在调度线程上读完后完成，不经过工作线程池
+     */
+    @Override
+    public CompletableFuture<ProtocolExecutionResult> executeAsync(PerformanceProtocolSamplerContext context,
+                                                                   Executor workerExecutor) {
+        return httpTransport.executeAsync(context.getRequest(), exchangeOptions())
+                .thenApply(HttpSamplerExecutor::success);
+    }
+
+    private HttpExchangeOptions exchangeOptions() {
+        return HttpExchangeOptions.builder()
+                .callTracker(networkRuntime)
+                .baseClientProvider(networkRuntime)
+                .build();
+    }
+
+    private static ProtocolExecutionResult success(HttpResponse response) {
+        return new ProtocolExecutionResult(response, "", false, false, List.of());
     }
 }
@@ -2,6 +2,7 @@ package com.laker.postman.performance.execution;
 
 import com.laker.postman.performance.core.assertion.AssertionData;
 import com.laker.postman.performance.core.assertion.AssertionType;
+import com.laker.postman.performance.core.jfr.PerformanceAssertionEvent;
 import com.laker.postman.performance.core.model.NodeType;
 import com.laker.postman.performance.core.plan.PerformanceAssertionElement;
 import com.laker.postman.performance.core.plan.PerformancePlanElement;
@@ -98,15 +99,17 @@ public final class PerformanceAssertionRunner {
             if (assertion == null) {
                 continue;
             }
-            runAssertion(assertion, responseBodyForAssertion(assertion, resp, responseBody), resp, testResults, errorMsgRef);
+            PerformanceAssertionEvent event = PerformanceAssertionEvent.start(element.getName(), assertion.type);
+            event.passed(runAssertion(assertion, responseBodyForAssertion(assertion, resp, responseBody), resp, testResults, errorMsgRef));
+            event.finish();
         }
     }
 
-    private static void runAssertion(AssertionData assertion,
-                                     String responseBody,
-                                     HttpResponse resp,
-                                     List<TestResult> testResults,
-                                     AtomicReference<String> errorMsgRef) {
+    private static boolean runAssertion(AssertionData assertion,
+                                        String responseBody,
+                                        HttpResponse resp,
+                                        List<TestResult> testResults,
+                                        AtomicReference<String> errorMsgRef) {
         AssertionType type = AssertionType.fromStorageValue(assertion.type);
         String operator = VariableResolver.resolve(CharSequenceUtil.nullToEmpty(assertion.operator));
         String content = VariableResolver.resolve(CharSequenceUtil.nullToEmpty(assertion.content));
@@ -158,6 +161,7 @@ public final class PerformanceAssertionRunner {
                 pass,
                 pass ? null : I18nUtil.getMessage(MessageKeys.PERFORMANCE_ASSERTION_FAILED)
         ));
+        return pass;
     }
 
     private static String responseBodyForAssertion(AssertionData assertion, HttpResponse resp, String responseBody) {
@@ -3,6 +3,7 @@ package com.laker.postman.performance.execution;
 import com.laker.postman.performance.core.extractor.ExtractorData;
 import com.laker.postman.performance.core.extractor.ExtractorType;
 import com.laker.postman.performance.core.extractor.ResponseField;
+import com.laker.postman.performance.core.jfr.PerformanceExtractorEvent;
 import com.laker.postman.performance.core.model.NodeType;
 import com.laker.postman.performance.core.plan.PerformanceExtractorElement;
 import com.laker.postman.performance.core.plan.PerformancePlanElement;
@@ -94,19 +95,22 @@ public final class PerformanceExtractorRunner {
             if (extractor == null) {
                 continue;
             }
-            runExtractor(extractor, response);
+            PerformanceExtractorEvent event = PerformanceExtractorEvent.start(element.getName(), extractor.type);
+            event.matched(runExtractor(extractor, response));
+            event.finish();
         }
     }
 
-    private static void runExtractor(ExtractorData extractor, HttpResponse response) {
+    private static boolean runExtractor(ExtractorData extractor, HttpResponse response) {
         String variableName = VariableResolver.resolve(CharSequenceUtil.nullToEmpty(extractor.variableName)).trim();
         if (CharSequenceUtil.isBlank(variableName)) {
-            return;
+            return false;
         }
         String expression = VariableResolver.resolve(CharSequenceUtil.nullToEmpty(extractor.expression)).trim();
         String defaultValue = VariableResolver.resolve(CharSequenceUtil.nullToEmpty(extractor.defaultValue));
         String extractedValue = extractValue(extractor, expression, response);
         VariablesService.getInstance().set(variableName, extractedValue == null ? defaultValue : extractedValue);
+        return extractedValue != null;
     }
 
     private static String extractValue(ExtractorData extractor, String expression, HttpResponse response) {
@@ -0,0 +1,45 @@
+package com.laker.postman.performance.execution;
+
+import com.laker.postman.http.runtime.model.Http2MultiplexPolicy;
+import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 当前虚拟用户线程所属线程组的 HTTP/2 多路复用策略。
+ * <p>
+ * 迭代入口按线程组配置绑定，普通 HTTP 请求准备发送时读取并写入 {@code PreparedRequest}；
+ * 多路复用与线程模式正交，任何负载曲线都可以开启。
+ * </p>
+ */
+@UtilityClass
+public class PerformanceHttp2Multiplexing {
+    private static final ThreadLocal<Http2MultiplexPolicy> CURRENT = new ThreadLocal<>();
+
+    public void runIteration(ThreadGroupData threadGroupData, Runnable iteration) {
+        Http2MultiplexPolicy previous = CURRENT.get();
+        CURRENT.set(policyOf(threadGroupData));
+        try {
+            iteration.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    Http2MultiplexPolicy current() {
+        return CURRENT.get();
+    }
+
+    Http2MultiplexPolicy policyOf(ThreadGroupData threadGroupData) {
+        if (threadGroupData == null || !threadGroupData.http2Multiplexed) {
+            return null;
+        }
+        return new Http2MultiplexPolicy(
+                threadGroupData.http2Connections,
+                threadGroupData.http2MaxStreamsPerConnection
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.laker.postman.performance.execution;
+
+import com.laker.postman.http.runtime.transport.Http2StreamListener;
+import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
+
+/**
+ * 把多路复用连接上的流事件写入实时指标。
+ */
+final class PerformanceHttp2StreamMetrics implements Http2StreamListener {
+    private final PerformanceRealtimeMetrics realtimeMetrics;
+
+    PerformanceHttp2StreamMetrics(PerformanceRealtimeMetrics realtimeMetrics) {
+        this.realtimeMetrics = realtimeMetrics;
+    }
+
+    @Override
+    public void onStreamStart(String connection) {
+        realtimeMetrics.recordHttp2StreamStart(connection, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onStreamEnd(String connection, long receivedBytes) {
+        realtimeMetrics.recordHttp2StreamEnd(connection, receivedBytes);
+    }
+
+    @Override
+    public void onStreamRefused(String connection, boolean goAway) {
+        realtimeMetrics.recordHttp2StreamRefused(connection, goAway);
+    }
+}
@@ -3,6 +3,7 @@ package com.laker.postman.performance.execution;
 
 import com.laker.postman.http.runtime.transport.HttpBaseClientProvider;
 import com.laker.postman.http.runtime.transport.HttpCallTracker;
+import com.laker.postman.http.runtime.transport.Http2StreamListener;
 import com.laker.postman.http.runtime.transport.RealtimeConnectionHandle;
 import com.laker.postman.http.runtime.transport.RealtimeWebSocketConnection;
 
@@ -12,12 +13,31 @@ public interface PerformanceNetworkRuntime extends HttpCallTracker, HttpBaseClie
     default void beginRun() {
     }
 
+    /**
+     * 为下一轮运行预留异步在途请求数，beginRun 时据此放宽 OkHttp 调度器的并发上限
+     */
+    default void reserveAsyncConcurrency(int concurrency) {
+    }
+
+    /**
+     * 接收 HTTP/2 多路复用连接上的流事件，用于实时指标。
+     */
+    default void bindHttp2StreamListener(Http2StreamListener listener) {
+    }
+
     Set<RealtimeConnectionHandle> activeSseSources();
 
     Set<RealtimeWebSocketConnection> activeWebSockets();
 
     int activeHttpCallCount();
 
+    /**
+     * 在 OkHttp 调度器里排队、尚未开始执行的 HTTP Call 数
+     */
+    default int queuedHttpCallCount() {
+        return 0;
+    }
+
     int activeSseCount();
 
     int activeWebSocketCount();
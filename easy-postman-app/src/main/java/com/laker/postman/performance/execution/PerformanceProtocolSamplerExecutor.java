@@ -1,7 +1,25 @@
 package com.laker.postman.performance.execution;
 
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
 @FunctionalInterface
 interface PerformanceProtocolSamplerExecutor {
     ProtocolExecutionResult execute(PerformanceProtocolSamplerContext context) throws Exception;
+
+    /**
+     * 异步采样时使用。默认把阻塞版本交给工作线程池执行；能以回调方式发送的协议覆盖此方法，不占用线程等待响应
+     */
+    default CompletableFuture<ProtocolExecutionResult> executeAsync(PerformanceProtocolSamplerContext context,
+                                                                    Executor workerExecutor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return context.getScriptRuntime().withExecutionContextThrowing(() -> execute(context));
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, workerExecutor);
+    }
 }
@@ -1,5 +1,8 @@
 package com.laker.postman.performance.execution;
 
+import com.laker.postman.performance.core.jfr.PerformanceJfrContext;
+import com.laker.postman.performance.core.jfr.PerformancePhaseEvent;
+import com.laker.postman.performance.core.jfr.PerformanceSamplerEvent;
 import com.laker.postman.performance.core.model.PerformanceProtocol;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.plan.PerformanceAssertionElement;
@@ -10,6 +13,7 @@ import cn.hutool.core.text.CharSequenceUtil;
 import com.laker.postman.http.runtime.model.HttpResponse;
 import com.laker.postman.http.runtime.model.PreparedRequest;
 import com.laker.postman.script.model.TestResult;
+import com.laker.postman.performance.model.ResultNodeInfo;
 import com.laker.postman.performance.plan.PerformanceRequestSampler;
 import com.laker.postman.service.js.ScriptExecutionResult;
 import com.laker.postman.service.variable.ExecutionVariableContext;
@@ -23,6 +27,9 @@ import com.laker.postman.http.runtime.transport.RealtimeWebSocketConnection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
@@ -155,23 +162,131 @@ public class PerformanceRequestExecutor {
         if (preparedRequest == null) {
             return null;
         }
-        String apiId = preparedRequest.requestId();
-        String apiName = preparedRequest.requestName();
-        boolean webSocketRequest = PerformanceRequestProtocolResolver.isWebSocketRequest(requestSnapshot);
+        PerformanceJfrContext.enterSampler(preparedRequest.requestName());
+        PerformanceSamplerEvent samplerEvent = PerformanceSamplerEvent.start();
+        PerformanceRequestExecutionResult result = null;
+        try {
+            result = execute(requestSampler, requestSnapshot, preparedRequest);
+            return result;
+        } finally {
+            finishSamplerEvent(samplerEvent, preparedRequest.requestId(), result);
+            PerformanceJfrContext.exitSampler();
+        }
+    }
+
+    /**
+     * 异步执行一次采样：变量准备和前置脚本在调用线程上执行，普通 HTTP 通过 OkHttp 回调发送，
+     * SSE/WebSocket 的阻塞发送、断言、提取器和后置脚本在 {@code workerExecutor} 上执行。
+     * 调用线程在请求发出后立即返回，结果在后处理完成后给出。
+     */
+    public CompletableFuture<PerformanceRequestExecutionResult> executeAsync(PerformanceRequestSampler requestSampler,
+                                                                             ExecutionVariableContext iterationContext,
+                                                                             Executor workerExecutor) {
+        PerformanceRequestSnapshot requestSnapshot = requestSampler.getRequestSnapshot();
+        PerformancePreparedRequest preparedRequest = requestRuntime.prepare(
+                requestSnapshot,
+                requestSampler,
+                iterationContext,
+                executionConfig
+        );
+        if (preparedRequest == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        PerformanceJfrContext.enterSampler(preparedRequest.requestName());
+        PerformanceSamplerEvent samplerEvent = PerformanceSamplerEvent.start();
+        try {
+            return executeAsync(requestSampler, requestSnapshot, preparedRequest, workerExecutor)
+                    .whenComplete((result, throwable) ->
+                            finishSamplerEvent(samplerEvent, preparedRequest.requestId(), result));
+        } finally {
+            PerformanceJfrContext.exitSampler();
+        }
+    }
+
+    private PerformanceRequestExecutionResult execute(PerformanceRequestSampler requestSampler,
+                                                      PerformanceRequestSnapshot requestSnapshot,
+                                                      PerformancePreparedRequest preparedRequest) {
+        SampleAttempt attempt = beginAttempt(requestSampler, requestSnapshot, preparedRequest);
+        if (attempt == null) {
+            return null;
+        }
+        if (!attempt.transportReady) {
+            attempt.costMs = attempt.requestStopwatch.elapsedMs();
+            return attempt.toResult();
+        }
+        try {
+            prepareTransport(attempt, requestSampler, requestSnapshot);
+            ProtocolExecutionResult protocolResult = attempt.scriptRuntime.withExecutionContextThrowing(() ->
+                    transportExecutor.execute(attempt.request, requestSampler, requestSnapshot, attempt.sseRequest,
+                            attempt.webSocketRequest, preparedRequest.requestBodyTemplate(), attempt.scriptRuntime,
+                            attempt.capturePlan)
+            );
+            attempt.apply(protocolResult);
+        } catch (Exception ex) {
+            applyTransportFailure(attempt, ex);
+        } finally {
+            attempt.costMs = attempt.requestStopwatch.elapsedMs();
+        }
+        return postProcess(attempt, requestSampler);
+    }
+
+    private CompletableFuture<PerformanceRequestExecutionResult> executeAsync(PerformanceRequestSampler requestSampler,
+                                                                              PerformanceRequestSnapshot requestSnapshot,
+                                                                              PerformancePreparedRequest preparedRequest,
+                                                                              Executor workerExecutor) {
+        SampleAttempt attempt = beginAttempt(requestSampler, requestSnapshot, preparedRequest);
+        if (attempt == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!attempt.transportReady) {
+            attempt.costMs = attempt.requestStopwatch.elapsedMs();
+            return CompletableFuture.completedFuture(attempt.toResult());
+        }
+        CompletableFuture<ProtocolExecutionResult> transport;
+        try {
+            prepareTransport(attempt, requestSampler, requestSnapshot);
+            transport = attempt.scriptRuntime.withExecutionContextThrowing(() ->
+                    transportExecutor.executeAsync(attempt.request, requestSampler, requestSnapshot, attempt.sseRequest,
+                            attempt.webSocketRequest, preparedRequest.requestBodyTemplate(), attempt.scriptRuntime,
+                            attempt.capturePlan, workerExecutor)
+            );
+        } catch (Exception ex) {
+            transport = CompletableFuture.failedFuture(ex);
+        }
+        // 耗时在传输完成的回调线程上记录，排队等待工作线程的时间不计入样本
+        return transport.handle((protocolResult, throwable) -> {
+            if (throwable == null) {
+                attempt.apply(protocolResult);
+            } else {
+                applyTransportFailure(attempt, throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable);
+            }
+            attempt.costMs = attempt.requestStopwatch.elapsedMs();
+            return attempt;
+        }).thenApplyAsync(completed -> postProcess(completed, requestSampler), workerExecutor);
+    }
 
+    /**
+     * 执行前置脚本并记录请求开始时间；前置脚本执行期间压测被停止时返回 null，不产生样本
+     */
+    private SampleAttempt beginAttempt(PerformanceRequestSampler requestSampler,
+                                       PerformanceRequestSnapshot requestSnapshot,
+                                       PerformancePreparedRequest preparedRequest) {
+        boolean webSocketRequest = PerformanceRequestProtocolResolver.isWebSocketRequest(requestSnapshot);
         PreparedRequest req = preparedRequest.request();
-        String requestBodyTemplate = preparedRequest.requestBodyTemplate();
         PerformanceScriptRuntime scriptRuntime = preparedRequest.scriptRuntime();
 
-        String errorMsg = "";
-        List<TestResult> testResults = new ArrayList<>();
-        boolean executionFailed = false;
+        SampleAttempt attempt = new SampleAttempt(preparedRequest.requestId(), preparedRequest.requestName(), req,
+                scriptRuntime);
+        PerformancePhaseEvent preScriptPhase = PerformancePhaseEvent.start(PerformancePhaseEvent.PRE_SCRIPT);
         ScriptExecutionResult preResult = scriptRuntime.executePreScript();
+        preScriptPhase.finish();
         boolean preOk = preResult.isSuccess();
         if (!preOk) {
             log.error("前置脚本: {}", preResult.getErrorMessage());
-            errorMsg = I18nUtil.getMessage(MessageKeys.PERFORMANCE_MSG_PRE_SCRIPT_FAILED, preResult.getErrorMessage());
-            executionFailed = true;
+            attempt.errorMsg = I18nUtil.getMessage(MessageKeys.PERFORMANCE_MSG_PRE_SCRIPT_FAILED, preResult.getErrorMessage());
+            attempt.executionFailed = true;
         }
         if (!runningSupplier.getAsBoolean()) {
             return null;
@@ -180,101 +295,167 @@ public class PerformanceRequestExecutor {
             scriptRuntime.finalizeRequest();
         }
 
-        MonotonicStopwatch requestStopwatch = MonotonicStopwatch.start();
-        long requestStartTime = requestStopwatch.startWallTimeMs();
-        long costMs = 0L;
-        boolean interrupted = false;
-        HttpResponse resp = null;
-        boolean sseRequest = PerformanceRequestProtocolResolver.isSseRequest(requestSnapshot);
-        PerformanceProtocol protocol = PerformanceRequestProtocolResolver.resolvePerformanceProtocol(webSocketRequest, sseRequest);
-        PerformanceResponseCapturePlan capturePlan = PerformanceResponseCapturePlan.resolve(
+        attempt.requestStopwatch = MonotonicStopwatch.start();
+        attempt.requestStartTime = attempt.requestStopwatch.startWallTimeMs();
+        attempt.sseRequest = PerformanceRequestProtocolResolver.isSseRequest(requestSnapshot);
+        attempt.webSocketRequest = webSocketRequest;
+        attempt.protocol = PerformanceRequestProtocolResolver.resolvePerformanceProtocol(webSocketRequest, attempt.sseRequest);
+        attempt.capturePlan = PerformanceResponseCapturePlan.resolve(
                 executionConfig.isEfficientMode(),
                 requestSampler,
-                sseRequest,
+                attempt.sseRequest,
                 webSocketRequest,
                 req.postscript
         );
+        attempt.transportReady = preOk && runningSupplier.getAsBoolean();
+        return attempt;
+    }
 
-        if (preOk && runningSupplier.getAsBoolean()) {
-            try {
-                PerformanceRequestPreparationSupport.configurePreparedRequest(req, executionConfig.isEventLoggingEnabled());
-                sseRequest = PerformanceRequestProtocolResolver.isSseRequest(requestSnapshot, req);
-                webSocketRequest = PerformanceRequestProtocolResolver.isWebSocketRequest(requestSnapshot);
-                protocol = PerformanceRequestProtocolResolver.resolvePerformanceProtocol(webSocketRequest, sseRequest);
-                boolean transportSseRequest = sseRequest;
-                boolean transportWebSocketRequest = webSocketRequest;
-                capturePlan = PerformanceResponseCapturePlan.resolve(
-                        executionConfig.isEfficientMode(),
-                        requestSampler,
-                        transportSseRequest,
-                        transportWebSocketRequest,
-                        req.postscript
-                );
-                if (!transportSseRequest && !transportWebSocketRequest) {
-                    req.responseBodyMode = capturePlan.httpResponseBodyMode();
-                    req.responseBodyPreviewLimitBytes = resolveResponseBodyPreviewLimitBytes(
-                            executionConfig.responseBodyPreviewLimitKb()
-                    );
-                }
-                PerformanceResponseCapturePlan transportCapturePlan = capturePlan;
-                ProtocolExecutionResult protocolResult = scriptRuntime.withExecutionContextThrowing(() ->
-                        transportExecutor.execute(req, requestSampler, requestSnapshot, transportSseRequest, transportWebSocketRequest,
-                                requestBodyTemplate, scriptRuntime, transportCapturePlan)
-                );
-                resp = protocolResult.response();
-                errorMsg = CharSequenceUtil.blankToDefault(protocolResult.errorMsg(), errorMsg);
-                executionFailed = protocolResult.executionFailed();
-                interrupted = protocolResult.interrupted();
-                if (!protocolResult.testResults().isEmpty()) {
-                    testResults.addAll(protocolResult.testResults());
-                }
-            } catch (Exception ex) {
-                if (cancelledChecker.test(ex)) {
-                    log.debug("请求被取消/中断（压测已停止）: {}", ex.getMessage());
-                    errorMsg = I18nUtil.getMessage(
-                            MessageKeys.PERFORMANCE_MSG_EXECUTION_INTERRUPTED,
-                            "Client stopped HTTP request before completion"
-                    );
-                    interrupted = true;
-                } else {
-                    log.error("请求执行失败: {}", ex.getMessage(), ex);
-                    errorMsg = I18nUtil.getMessage(MessageKeys.PERFORMANCE_MSG_REQUEST_FAILED, ex.getMessage());
-                    executionFailed = true;
-                }
-            } finally {
-                costMs = requestStopwatch.elapsedMs();
+    /**
+     * 前置脚本可能改写请求头，按最终请求重新判定协议和响应体读取策略
+     */
+    private void prepareTransport(SampleAttempt attempt,
+                                  PerformanceRequestSampler requestSampler,
+                                  PerformanceRequestSnapshot requestSnapshot) {
+        PreparedRequest req = attempt.request;
+        PerformanceRequestPreparationSupport.configurePreparedRequest(req, executionConfig.isEventLoggingEnabled());
+        attempt.sseRequest = PerformanceRequestProtocolResolver.isSseRequest(requestSnapshot, req);
+        attempt.webSocketRequest = PerformanceRequestProtocolResolver.isWebSocketRequest(requestSnapshot);
+        attempt.protocol = PerformanceRequestProtocolResolver.resolvePerformanceProtocol(
+                attempt.webSocketRequest,
+                attempt.sseRequest
+        );
+        attempt.capturePlan = PerformanceResponseCapturePlan.resolve(
+                executionConfig.isEfficientMode(),
+                requestSampler,
+                attempt.sseRequest,
+                attempt.webSocketRequest,
+                req.postscript
+        );
+        if (!attempt.sseRequest && !attempt.webSocketRequest) {
+            req.http2Multiplexing = PerformanceHttp2Multiplexing.current();
+            req.responseBodyMode = attempt.capturePlan.httpResponseBodyMode();
+            req.responseBodyPreviewLimitBytes = resolveResponseBodyPreviewLimitBytes(
+                    executionConfig.responseBodyPreviewLimitKb()
+            );
+        }
+    }
+
+    private void applyTransportFailure(SampleAttempt attempt, Throwable ex) {
+        if (cancelledChecker.test(ex)) {
+            log.debug("请求被取消/中断（压测已停止）: {}", ex.getMessage());
+            attempt.errorMsg = I18nUtil.getMessage(
+                    MessageKeys.PERFORMANCE_MSG_EXECUTION_INTERRUPTED,
+                    "Client stopped HTTP request before completion"
+            );
+            attempt.interrupted = true;
+        } else {
+            log.error("请求执行失败: {}", ex.getMessage(), ex);
+            attempt.errorMsg = I18nUtil.getMessage(MessageKeys.PERFORMANCE_MSG_REQUEST_FAILED, ex.getMessage());
+            attempt.executionFailed = true;
+        }
+    }
+
+    private PerformanceRequestExecutionResult postProcess(SampleAttempt attempt,
+                                                          PerformanceRequestSampler requestSampler) {
+        if (attempt.response != null) {
+            realtimeMetrics.recordHttpQueueWait(attempt.response.queueWaitMs);
+        }
+        PerformanceRequestPostProcessResult postProcessResult = postProcessor.process(
+                requestSampler,
+                attempt.response,
+                attempt.sseRequest,
+                attempt.webSocketRequest,
+                attempt.scriptRuntime,
+                attempt.errorMsg,
+                attempt.executionFailed,
+                attempt.testResults,
+                attempt.capturePlan
+        );
+        attempt.errorMsg = postProcessResult.errorMsg();
+        attempt.executionFailed = postProcessResult.executionFailed();
+        return attempt.toResult();
+    }
+
+    /**
+     * 一次采样从前置脚本到后处理的中间状态；异步执行时依次在发起线程、回调线程和工作线程上推进，
+     * 各阶段先后衔接，不会并发修改。
+     */
+    private static final class SampleAttempt {
+        private final String apiId;
+        private final String apiName;
+        private final PreparedRequest request;
+        private final PerformanceScriptRuntime scriptRuntime;
+        private final List<TestResult> testResults = new ArrayList<>();
+        private MonotonicStopwatch requestStopwatch;
+        private long requestStartTime;
+        private long costMs;
+        private boolean transportReady;
+        private boolean sseRequest;
+        private boolean webSocketRequest;
+        private PerformanceProtocol protocol;
+        private PerformanceResponseCapturePlan capturePlan;
+        private HttpResponse response;
+        private String errorMsg = "";
+        private boolean executionFailed;
+        private boolean interrupted;
+
+        private SampleAttempt(String apiId, String apiName, PreparedRequest request, PerformanceScriptRuntime scriptRuntime) {
+            this.apiId = apiId;
+            this.apiName = apiName;
+            this.request = request;
+            this.scriptRuntime = scriptRuntime;
+        }
+
+        private void apply(ProtocolExecutionResult protocolResult) {
+            response = protocolResult.response();
+            errorMsg = CharSequenceUtil.blankToDefault(protocolResult.errorMsg(), errorMsg);
+            executionFailed = protocolResult.executionFailed();
+            interrupted = protocolResult.interrupted();
+            if (!protocolResult.testResults().isEmpty()) {
+                testResults.addAll(protocolResult.testResults());
             }
+        }
 
-            PerformanceRequestPostProcessResult postProcessResult = postProcessor.process(
-                    requestSampler,
-                    resp,
-                    sseRequest,
-                    webSocketRequest,
-                    scriptRuntime,
+        private PerformanceRequestExecutionResult toResult() {
+            return new PerformanceRequestExecutionResult(
+                    apiId,
+                    apiName,
+                    request,
+                    response,
                     errorMsg,
-                    executionFailed,
                     testResults,
-                    capturePlan
+                    executionFailed,
+                    interrupted,
+                    protocol,
+                    requestStartTime,
+                    costMs
             );
-            errorMsg = postProcessResult.errorMsg();
-            executionFailed = postProcessResult.executionFailed();
-        } else {
-            costMs = requestStopwatch.elapsedMs();
         }
+    }
 
-        return new PerformanceRequestExecutionResult(
-                apiId,
-                apiName,
-                req,
-                resp,
-                errorMsg,
-                testResults,
-                executionFailed,
-                interrupted,
-                protocol,
-                requestStartTime,
-                costMs
-        );
+    private static void finishSamplerEvent(PerformanceSamplerEvent samplerEvent,
+                                           String apiId,
+                                           PerformanceRequestExecutionResult result) {
+        if (!samplerEvent.isEnabled()) {
+            return;
+        }
+        samplerEvent.apiId(apiId);
+        if (result != null) {
+            HttpResponse response = result.response;
+            samplerEvent.protocol(result.protocol == null ? "" : result.protocol.name());
+            samplerEvent.outcome(
+                    !result.interrupted && ResultNodeInfo.isActuallySuccessful(result.executionFailed, response, result.testResults),
+                    result.interrupted
+            );
+            if (response != null) {
+                long sent = response.httpEventInfo == null ? 0L
+                        : Math.max(0L, response.httpEventInfo.getHeaderBytesSent())
+                        + Math.max(0L, response.httpEventInfo.getBodyBytesSent());
+                samplerEvent.bytes(sent, Math.max(0L, response.headersSize) + Math.max(0L, response.bodySize));
+            }
+        }
+        samplerEvent.finish();
     }
 
     static PreparedRequest.ResponseBodyMode resolveHttpResponseBodyModeForAssertionElements(
@@ -1,5 +1,6 @@
 package com.laker.postman.performance.execution;
 
+import com.laker.postman.performance.core.jfr.PerformancePhaseEvent;
 import com.laker.postman.performance.core.plan.PerformanceAssertionElement;
 import com.laker.postman.performance.core.plan.PerformanceExtractorElement;
 
@@ -48,8 +49,11 @@ final class PerformanceRequestPostProcessor {
         if (capturePlan == null || !capturePlan.runPostScript() || scriptRuntime == null) {
             return new PerformanceRequestPostProcessResult(currentErrorMsg, executionFailed);
         }
+        PerformancePhaseEvent postScriptPhase = PerformancePhaseEvent.start(PerformancePhaseEvent.POST_SCRIPT);
+        ScriptExecutionResult postResult = scriptRuntime.executePostScript(response);
+        postScriptPhase.finish();
         return applyPostScriptResult(
-                scriptRuntime.executePostScript(response),
+                postResult,
                 currentErrorMsg,
                 executionFailed,
                 testResults
@@ -90,11 +94,13 @@ final class PerformanceRequestPostProcessor {
         if (extractorNodes.isEmpty()) {
             return;
         }
+        PerformancePhaseEvent extractorPhase = PerformancePhaseEvent.start(PerformancePhaseEvent.EXTRACTORS);
         if (scriptRuntime != null) {
             scriptRuntime.withExecutionContext(() -> PerformanceExtractorRunner.runExtractorElements(extractorNodes, response));
         } else {
             PerformanceExtractorRunner.runExtractorElements(extractorNodes, response);
         }
+        extractorPhase.finish();
     }
 
     private String runAssertions(PerformanceRequestSampler requestSampler,
@@ -110,6 +116,7 @@ final class PerformanceRequestPostProcessor {
             return errorMsg;
         }
         AtomicReference<String> assertionErrorRef = new AtomicReference<>(errorMsg);
+        PerformancePhaseEvent assertionPhase = PerformancePhaseEvent.start(PerformancePhaseEvent.ASSERTIONS);
         if (scriptRuntime != null) {
             scriptRuntime.withExecutionContext(() ->
                     PerformanceAssertionRunner.runAssertionElements(assertionNodes, response, testResults, assertionErrorRef)
@@ -117,6 +124,7 @@ final class PerformanceRequestPostProcessor {
         } else {
             PerformanceAssertionRunner.runAssertionElements(assertionNodes, response, testResults, assertionErrorRef);
         }
+        assertionPhase.finish();
         return assertionErrorRef.get();
     }
 }
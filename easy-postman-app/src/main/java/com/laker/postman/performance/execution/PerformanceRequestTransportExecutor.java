@@ -1,5 +1,6 @@
 package com.laker.postman.performance.execution;
 
+import com.laker.postman.performance.core.jfr.PerformancePhaseEvent;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.request.PerformanceRequestSnapshot;
 
@@ -10,6 +11,8 @@ import com.laker.postman.http.runtime.transport.RealtimeWebSocketConnection;
 import com.laker.postman.performance.plan.PerformanceRequestSampler;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
@@ -41,6 +44,10 @@ final class PerformanceRequestTransportExecutor {
                                         PerformanceRealtimeMetrics realtimeMetrics,
                                         IntSupplier responseBodyPreviewLimitKbSupplier) {
         PerformanceNetworkRuntime resolvedRuntime = resolveNetworkRuntime(networkRuntime);
+        if (realtimeMetrics != null) {
+            resolvedRuntime.bindHttp2StreamListener(new PerformanceHttp2StreamMetrics(realtimeMetrics));
+            realtimeMetrics.bindQueuedHttpCalls(resolvedRuntime::queuedHttpCallCount);
+        }
         this.httpSamplerExecutor = new HttpSamplerExecutor(resolvedRuntime);
         this.sseSamplerExecutor = new SseSamplerExecutor(
                 runningSupplier,
@@ -119,12 +126,45 @@ final class PerformanceRequestTransportExecutor {
                 scriptRuntime,
                 capturePlan
         );
-        if (webSocketRequest) {
-            return webSocketSamplerExecutor.execute(context);
-        }
-        if (sseRequest) {
-            return sseSamplerExecutor.execute(context);
+        PerformancePhaseEvent transportPhase = PerformancePhaseEvent.start(PerformancePhaseEvent.TRANSPORT);
+        try {
+            if (webSocketRequest) {
+                return webSocketSamplerExecutor.execute(context);
+            }
+            if (sseRequest) {
+                return sseSamplerExecutor.execute(context);
+            }
+            return httpSamplerExecutor.execute(context);
+        } finally {
+            transportPhase.finish();
         }
-        return httpSamplerExecutor.execute(context);
+    }
+
+    /**
+     * 异步版本：普通 HTTP 以回调方式发送，SSE/WebSocket 的阻塞执行交给工作线程池
+     */
+    CompletableFuture<ProtocolExecutionResult> executeAsync(PreparedRequest request,
+                                                            PerformanceRequestSampler requestSampler,
+                                                            PerformanceRequestSnapshot requestSnapshot,
+                                                            boolean sseRequest,
+                                                            boolean webSocketRequest,
+                                                            String requestBodyTemplate,
+                                                            PerformanceScriptRuntime scriptRuntime,
+                                                            PerformanceResponseCapturePlan capturePlan,
+                                                            Executor workerExecutor) {
+        PerformanceProtocolSamplerContext context = new PerformanceProtocolSamplerContext(
+                request,
+                requestSampler,
+                requestSnapshot,
+                requestBodyTemplate,
+                scriptRuntime,
+                capturePlan
+        );
+        PerformanceProtocolSamplerExecutor samplerExecutor = webSocketRequest
+                ? webSocketSamplerExecutor
+                : sseRequest ? sseSamplerExecutor : httpSamplerExecutor;
+        PerformancePhaseEvent transportPhase = PerformancePhaseEvent.start(PerformancePhaseEvent.TRANSPORT);
+        return samplerExecutor.executeAsync(context, workerExecutor)
+                .whenComplete((result, throwable) -> transportPhase.finish());
     }
 }
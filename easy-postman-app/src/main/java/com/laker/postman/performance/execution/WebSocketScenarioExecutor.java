@@ -7,7 +7,7 @@ import com.laker.postman.performance.core.plan.PerformanceExtractorElement;
 import com.laker.postman.performance.core.plan.PerformancePlanElement;
 import com.laker.postman.performance.core.plan.PerformanceProtocolStageElement;
 import com.laker.postman.performance.core.plan.PerformanceTimerElement;
-import com.laker.postman.performance.core.timer.TimerData;
+import com.laker.postman.performance.core.timer.PerformanceThinkTime;
 
 
 import cn.hutool.core.text.CharSequenceUtil;
@@ -165,6 +165,7 @@ public class WebSocketScenarioExecutor {
         AtomicReference<String> latestResponseBodyRef = new AtomicReference<>("");
         AtomicLong sampleEndTimeMs = new AtomicLong(0);
         AtomicLong sampleElapsedMs = new AtomicLong(-1);
+        AtomicLong thinkTimeMs = new AtomicLong(0);
         AtomicLong firstMessageLatencyMs = new AtomicLong(-1);
         AtomicBoolean firstReceivedMessageRecorded = new AtomicBoolean(false);
         AtomicInteger receivedMessageCount = new AtomicInteger(0);
@@ -617,9 +618,11 @@ public class WebSocketScenarioExecutor {
                         }
                         case TIMER -> {
                             if (stepElement instanceof PerformanceTimerElement timerElement) {
-                                TimerData timerData = timerElement.getTimerData();
-                                if (timerData != null) {
-                                    TimeUnit.MILLISECONDS.sleep(timerData.delayMs);
+                                long delayMs = PerformanceThinkTime.of(timerElement.getTimerData()).nextDelayMs();
+                                if (delayMs > 0) {
+                                    // 步骤间思考时间不计入样本耗时
+                                    thinkTimeMs.addAndGet(delayMs);
+                                    TimeUnit.MILLISECONDS.sleep(delayMs);
                                 }
                             }
                         }
@@ -640,7 +643,8 @@ public class WebSocketScenarioExecutor {
             sessionManager.closeAll("Performance sample complete");
         }
 
-        long elapsedMs = sampleElapsedMs.get() >= 0 ? sampleElapsedMs.get() : sampleStopwatch.elapsedMs();
+        long elapsedMs = Math.max(0L,
+                (sampleElapsedMs.get() >= 0 ? sampleElapsedMs.get() : sampleStopwatch.elapsedMs()) - thinkTimeMs.get());
         long endTime = requestStartTime + elapsedMs;
         resp.endTime = endTime;
         resp.costMs = elapsedMs;
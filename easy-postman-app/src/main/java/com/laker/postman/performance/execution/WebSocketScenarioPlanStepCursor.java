@@ -83,12 +83,7 @@ final class WebSocketScenarioPlanStepCursor {
 
     private boolean evaluateCondition(PerformanceConditionController conditionController) {
         try {
-            return ConditionExpressionEvaluator.evaluate(
-                    conditionController.getConditionData() == null
-                            ? null
-                            : conditionController.getConditionData().expression,
-                    VARIABLE_LOOKUP
-            );
+            return conditionController.getCompiledExpression().evaluate(VARIABLE_LOOKUP);
         } catch (RuntimeException ignored) {
             return false;
         }
@@ -190,10 +185,9 @@ final class WebSocketScenarioPlanStepCursor {
 
         private boolean evaluateWhile() {
             try {
-                return ConditionExpressionEvaluator.evaluate(
-                        whileData == null ? null : whileData.expression,
-                        VARIABLE_LOOKUP
-                );
+                return whileController == null
+                        ? ConditionExpressionEvaluator.evaluate(whileData == null ? null : whileData.expression, VARIABLE_LOOKUP)
+                        : whileController.getCompiledExpression().evaluate(VARIABLE_LOOKUP);
             } catch (RuntimeException ignored) {
                 return false;
             }
@@ -1,7 +1,9 @@
 package com.laker.postman.performance.master;
 
+import com.laker.postman.performance.core.worker.PerformanceWorkerAssignmentPlanner;
 import com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint;
 import com.laker.postman.performance.core.worker.PerformanceWorkerEndpointParser;
+import com.laker.postman.performance.core.worker.PerformanceWorkerRebalancer;
 import lombok.Builder;
 import lombok.Value;
 
@@ -16,6 +18,14 @@ public class PerformanceMasterOptions {
     List<PerformanceWorkerEndpoint> workers;
     long timeoutMs;
     long pollIntervalMs;
+    /**
+     * 触发迁移的 worker 压测进程 CPU 阈值，0~1；0 表示关闭运行中迁移
+     */
+    double cpuThreshold;
+    /**
+     * 每台 worker 额外启动的备用虚拟用户比例，0~1
+     */
+    double standbyRatio;
 
     @Builder
     public PerformanceMasterOptions(Boolean help,
@@ -23,13 +33,17 @@ public class PerformanceMasterOptions {
                                     Path outPath,
                                     List<PerformanceWorkerEndpoint> workers,
                                     Long timeoutMs,
-                                    Long pollIntervalMs) {
+                                    Long pollIntervalMs,
+                                    Double cpuThreshold,
+                                    Double standbyRatio) {
         this.help = help != null && help;
         this.planPath = planPath;
         this.outPath = outPath;
         this.workers = workers == null ? List.of() : List.copyOf(workers);
         this.timeoutMs = Math.max(1_000L, timeoutMs == null ? 86_400_000L : timeoutMs);
         this.pollIntervalMs = Math.max(50L, pollIntervalMs == null ? 500L : pollIntervalMs);
+        this.cpuThreshold = ratio(cpuThreshold, PerformanceWorkerRebalancer.DEFAULT_CPU_THRESHOLD);
+        this.standbyRatio = ratio(standbyRatio, PerformanceWorkerAssignmentPlanner.DEFAULT_STANDBY_RATIO);
     }
 
     public static PerformanceMasterOptions parse(String[] args) {
@@ -39,6 +53,8 @@ public class PerformanceMasterOptions {
         List<PerformanceWorkerEndpoint> workers = List.of();
         long timeoutMs = 86_400_000L;
         long pollIntervalMs = 500L;
+        double cpuThreshold = PerformanceWorkerRebalancer.DEFAULT_CPU_THRESHOLD;
+        double standbyRatio = PerformanceWorkerAssignmentPlanner.DEFAULT_STANDBY_RATIO;
         String[] safeArgs = args == null ? new String[0] : args;
         for (int i = 3; i < safeArgs.length; i++) {
             String arg = safeArgs[i];
@@ -66,6 +82,14 @@ public class PerformanceMasterOptions {
                 pollIntervalMs = parsePositiveLong(requiredValue(safeArgs, ++i, "--poll-interval-ms"), "--poll-interval-ms");
                 continue;
             }
+            if ("--cpu-threshold".equals(arg)) {
+                cpuThreshold = parsePercent(requiredValue(safeArgs, ++i, "--cpu-threshold"), "--cpu-threshold") / 100D;
+                continue;
+            }
+            if ("--standby-percent".equals(arg)) {
+                standbyRatio = parsePercent(requiredValue(safeArgs, ++i, "--standby-percent"), "--standby-percent") / 100D;
+                continue;
+            }
             throw new IllegalArgumentException("Unknown option: " + arg);
         }
         return PerformanceMasterOptions.builder()
@@ -75,6 +99,8 @@ public class PerformanceMasterOptions {
                 .workers(workers)
                 .timeoutMs(timeoutMs)
                 .pollIntervalMs(pollIntervalMs)
+                .cpuThreshold(cpuThreshold)
+                .standbyRatio(standbyRatio)
                 .build();
     }
 
@@ -85,6 +111,25 @@ public class PerformanceMasterOptions {
         return args[index];
     }
 
+    private static double ratio(Double value, double defaultValue) {
+        if (value == null || !Double.isFinite(value)) {
+            return defaultValue;
+        }
+        return Math.max(0D, Math.min(1D, value));
+    }
+
+    private static int parsePercent(String value, String optionName) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 0 || parsed > 100) {
+                throw new IllegalArgumentException(optionName + " must be between 0 and 100");
+            }
+            return parsed;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(optionName + " must be a number");
+        }
+    }
+
     private static long parsePositiveLong(String value, String optionName) {
         try {
             long parsed = Long.parseLong(value);
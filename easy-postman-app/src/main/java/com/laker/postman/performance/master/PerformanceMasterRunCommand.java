@@ -6,6 +6,7 @@ import com.laker.postman.performance.output.PerformanceCommandLinePathOption;
 import com.laker.postman.performance.output.PerformanceCommandPathValidator;
 import com.laker.postman.performance.output.PerformanceCommandReportFactory;
 import com.laker.postman.performance.output.PerformanceCommandReportOutput;
+import com.laker.postman.performance.output.PerformanceCommandThresholdSummary;
 
 import java.io.PrintStream;
 import java.nio.file.Files;
@@ -80,7 +81,8 @@ public class PerformanceMasterRunCommand {
                     report.getSummary().getFailedRequests(),
                     report.getMetadata().getElapsedTimeMs()
             );
-            return PerformanceRunStatus.SUCCESS.equals(report.getMetadata().getStatus()) ? 0 : 1;
+            PerformanceCommandThresholdSummary.print(out, report);
+            return PerformanceCommandThresholdSummary.exitCode(report);
         } catch (IllegalArgumentException ex) {
             reportOutput.writeFailure(lifecycleReport(
                     PerformanceRunStatus.FAILED,
@@ -151,7 +153,8 @@ public class PerformanceMasterRunCommand {
     }
 
     private static void printUsage(PrintStream out) {
-        out.println("Usage: performance master run --plan <plan.json> --workers host:port[,host:port] [--out <result.json>] [--timeout-sec <seconds>] [--poll-interval-ms <ms>]");
+        out.println("Usage: performance master run --plan <plan.json> --workers host:port[,host:port] [--out <result.json>] [--timeout-sec <seconds>] [--poll-interval-ms <ms>] [--cpu-threshold <percent>] [--standby-percent <percent>]");
+        out.println("Exit codes: 0 success, 1 run failed, 2 usage error, 3 SLA threshold failed");
     }
 
     private static String describe(Exception ex) {
@@ -9,18 +9,22 @@ import com.laker.postman.performance.core.run.PerformanceRunPlanJsonStorage;
 import com.laker.postman.performance.core.run.PerformanceRunStatus;
 import com.laker.postman.performance.core.worker.PerformanceWorkerAssignment;
 import com.laker.postman.performance.core.worker.PerformanceWorkerAssignmentPlanner;
+import com.laker.postman.performance.core.worker.PerformanceWorkerCapacity;
 import com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint;
 import com.laker.postman.performance.core.worker.PerformanceWorkerHealthResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerProtocol;
+import com.laker.postman.performance.core.worker.PerformanceWorkerRebalancer;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunRequest;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse;
 import com.laker.postman.performance.master.PerformanceWorkerReportCollector.PerformanceWorkerReportResult;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 public class PerformanceMasterRunExecutor {
@@ -29,12 +33,15 @@ public class PerformanceMasterRunExecutor {
     private final PerformanceWorkerReportCollector reportCollector;
 
     public PerformanceMasterRunExecutor() {
-        this(new PerformanceWorkerAssignmentPlanner(), new PerformanceWorkerHttpClient());
+        this(null, new PerformanceWorkerHttpClient());
     }
 
+    /**
+     * @param assignmentPlanner 为 null 时按每次运行的 --standby-percent 创建
+     */
     PerformanceMasterRunExecutor(PerformanceWorkerAssignmentPlanner assignmentPlanner,
                                  PerformanceWorkerHttpClient workerClient) {
-        this.assignmentPlanner = assignmentPlanner == null ? new PerformanceWorkerAssignmentPlanner() : assignmentPlanner;
+        this.assignmentPlanner = assignmentPlanner;
         this.workerClient = workerClient == null ? new PerformanceWorkerHttpClient() : workerClient;
         this.reportCollector = new PerformanceWorkerReportCollector(this.workerClient);
     }
@@ -59,8 +66,16 @@ public class PerformanceMasterRunExecutor {
         long masterStartTimeMs = System.currentTimeMillis();
         String runId = "run-" + masterStartTimeMs;
         long deadline = masterStartTimeMs + options.getTimeoutMs();
-        validateWorkerProtocols(options.getWorkers(), deadline);
-        List<PerformanceWorkerAssignment> assignments = assignmentPlanner.plan(runPlan, options.getWorkers(), runId);
+        List<PerformanceWorkerCapacity> capacities = validateWorkerProtocols(options.getWorkers(), deadline);
+        PerformanceWorkerAssignmentPlanner planner = assignmentPlanner == null
+                ? new PerformanceWorkerAssignmentPlanner(options.getStandbyRatio())
+                : assignmentPlanner;
+        List<PerformanceWorkerAssignment> assignments = planner.plan(runPlan, options.getWorkers(), capacities, runId);
+        PerformanceWorkerRebalancer rebalancer = new PerformanceWorkerRebalancer(assignments, options.getCpuThreshold());
+        PerformanceMasterThresholdGuard thresholdGuard = new PerformanceMasterThresholdGuard(
+                workerClient,
+                runPlan.getThresholds()
+        );
         List<PerformanceWorkerEndpoint> submittedWorkers = new ArrayList<>();
         try {
             for (int i = 0; i < options.getWorkers().size(); i++) {
@@ -74,7 +89,8 @@ public class PerformanceMasterRunExecutor {
                 submittedWorkers.add(endpoint);
             }
 
-            waitForWorkers(options, runId, deadline, masterStartTimeMs, listener);
+            thresholdGuard.start(System.currentTimeMillis());
+            waitForWorkers(options, runId, deadline, masterStartTimeMs, listener, rebalancer, thresholdGuard);
         } catch (Exception ex) {
             stopSubmittedWorkers(submittedWorkers, runId, ex);
             throw ex;
@@ -98,7 +114,8 @@ public class PerformanceMasterRunExecutor {
                 "master",
                 status,
                 options.getPlanPath().toString(),
-                reports
+                reports,
+                thresholdGuard.results()
         );
     }
 
@@ -106,13 +123,16 @@ public class PerformanceMasterRunExecutor {
                                 String runId,
                                 long deadline,
                                 long masterStartTimeMs,
-                                PerformanceMasterRunListener listener) throws Exception {
+                                PerformanceMasterRunListener listener,
+                                PerformanceWorkerRebalancer rebalancer,
+                                PerformanceMasterThresholdGuard thresholdGuard) throws Exception {
         boolean allDone;
         do {
             allDone = true;
             List<PerformanceWorkerRunStatusResponse> statuses = new ArrayList<>();
             for (PerformanceWorkerEndpoint endpoint : options.getWorkers()) {
-                PerformanceWorkerRunStatusResponse status = workerClient.status(endpoint, runId, false, timeoutUntil(deadline));
+                PerformanceWorkerRunStatusResponse status = workerClient.status(
+                        endpoint, runId, thresholdGuard.needsStatusReport(), timeoutUntil(deadline));
                 statuses.add(status);
                 if (!isTerminal(status.getStatus())) {
                     allDone = false;
@@ -129,6 +149,8 @@ public class PerformanceMasterRunExecutor {
             if (allDone) {
                 return;
             }
+            thresholdGuard.check(options.getWorkers(), runId, statuses, timeoutUntil(deadline));
+            rebalanceWorkers(options.getWorkers(), runId, statuses, rebalancer, deadline);
             if (System.currentTimeMillis() >= deadline) {
                 throw new IllegalStateException("Timed out waiting for workers");
             }
@@ -136,6 +158,36 @@ public class PerformanceMasterRunExecutor {
         } while (true);
     }
 
+    private void rebalanceWorkers(List<PerformanceWorkerEndpoint> workers,
+                                  String runId,
+                                  List<PerformanceWorkerRunStatusResponse> statuses,
+                                  PerformanceWorkerRebalancer rebalancer,
+                                  long deadline) throws InterruptedException {
+        if (rebalancer == null || !rebalancer.isEnabled()) {
+            return;
+        }
+        double[] loads = new double[statuses.size()];
+        for (int i = 0; i < loads.length; i++) {
+            PerformanceWorkerRunStatusResponse status = statuses.get(i);
+            // 已经结束的 worker 不再接收用户，按未知负载处理。
+            loads[i] = status == null || isTerminal(status.getStatus())
+                    ? PerformanceWorkerCapacity.UNKNOWN_LOAD
+                    : status.getGeneratorCpuLoad();
+        }
+        for (Map.Entry<Integer, Double> entry : rebalancer.rebalance(loads).entrySet()) {
+            PerformanceWorkerEndpoint endpoint = workers.get(entry.getKey());
+            log.info("Rebalancing worker {} to virtual user scale {} (generator CPU {})",
+                    endpointLabel(endpoint), String.format("%.2f", entry.getValue()),
+                    String.format("%.0f%%", loads[entry.getKey()] * 100));
+            try {
+                workerClient.rebalance(endpoint, runId, entry.getValue(), timeoutUntil(deadline));
+            } catch (IOException ex) {
+                // 迁移只是保护压测机，失败时继续按原分配运行，不中断整场压测。
+                log.warn("Failed to rebalance worker {}", endpointLabel(endpoint), ex);
+            }
+        }
+    }
+
     private void publishProgress(PerformanceMasterRunListener listener,
                                  String runId,
                                  String planPath,
@@ -202,7 +254,9 @@ public class PerformanceMasterRunExecutor {
         return PerformanceRunStatus.isTerminal(status);
     }
 
-    private void validateWorkerProtocols(List<PerformanceWorkerEndpoint> workers, long deadline) throws Exception {
+    private List<PerformanceWorkerCapacity> validateWorkerProtocols(List<PerformanceWorkerEndpoint> workers,
+                                                                    long deadline) throws Exception {
+        List<PerformanceWorkerCapacity> capacities = new ArrayList<>();
         for (PerformanceWorkerEndpoint worker : workers) {
             PerformanceWorkerHealthResponse health = workerClient.health(worker, timeoutUntil(deadline));
             if (health == null || !health.usesCurrentProtocol()) {
@@ -213,7 +267,9 @@ public class PerformanceMasterRunExecutor {
                         + " protocol mismatch: expected " + PerformanceWorkerProtocol.CURRENT_VERSION
                         + ", actual " + actualVersion);
             }
+            capacities.add(health.getCapacity());
         }
+        return capacities;
     }
 
     private PerformanceJsonReport workerErrorReport(PerformanceWorkerEndpoint endpoint,
@@ -0,0 +1,156 @@
+package com.laker.postman.performance.master;
+
+import com.laker.postman.performance.core.report.PerformanceJsonReport;
+import com.laker.postman.performance.core.report.PerformanceJsonReportApi;
+import com.laker.postman.performance.core.report.PerformanceJsonReportMapper;
+import com.laker.postman.performance.core.report.PerformanceJsonReportProtocol;
+import com.laker.postman.performance.core.report.PerformanceJsonReportThreshold;
+import com.laker.postman.performance.core.run.PerformanceRunStatus;
+import com.laker.postman.performance.core.threshold.PerformanceThreshold;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdScope;
+import com.laker.postman.performance.core.threshold.PerformanceThroughputThresholdEvaluator;
+import com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint;
+import com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 分布式运行中由 master 执行的阈值保护，CLI master 和 GUI 远程执行共用。
+ * <ul>
+ *     <li>任一 worker 上报 abortOnFail 阈值越线时，平滑停止所有 worker，避免其它 worker 继续压垮已经降级的服务；</li>
+ *     <li>RPS 下限只在 master 上按所有 worker 的整体吞吐判定，越线且 abortOnFail 时同样停止所有 worker。</li>
+ * </ul>
+ * 每次轮询完所有 worker 后调用一次 {@link #check}，中止只发一次。
+ */
+@Slf4j
+public final class PerformanceMasterThresholdGuard {
+    private final PerformanceWorkerHttpClient workerClient;
+    private final PerformanceThroughputThresholdEvaluator throughputThresholds;
+    private boolean aborted;
+
+    public PerformanceMasterThresholdGuard(PerformanceWorkerHttpClient workerClient,
+                                           List<PerformanceThreshold> thresholds) {
+        this.workerClient = workerClient;
+        this.throughputThresholds = new PerformanceThroughputThresholdEvaluator(thresholds);
+    }
+
+    /**
+     * 按协议或 API 判定 RPS 下限时，轮询需要带上实时报告才能拿到分范围的请求数。
+     */
+    public boolean needsStatusReport() {
+        return throughputThresholds.needsBreakdown();
+    }
+
+    public void start(long nowMs) {
+        aborted = false;
+        throughputThresholds.start(nowMs);
+    }
+
+    /**
+     * @param statuses 与 workers 顺序一致的本次轮询结果
+     * @return 本次是否发出了中止
+     */
+    public boolean check(List<PerformanceWorkerEndpoint> workers,
+                         String runId,
+                         List<PerformanceWorkerRunStatusResponse> statuses,
+                         Duration timeout) throws InterruptedException {
+        if (aborted) {
+            return false;
+        }
+        String reason = workerAbortReason(statuses);
+        if (reason.isEmpty()) {
+            reason = throughputAbortReason(statuses);
+        }
+        if (reason.isEmpty()) {
+            return false;
+        }
+        aborted = true;
+        abortWorkers(workers, runId, statuses, reason, timeout);
+        return true;
+    }
+
+    /**
+     * master 判定的 RPS 下限结果，合并报告时追加在 worker 阈值之后
+     */
+    public List<PerformanceJsonReportThreshold> results() {
+        return PerformanceJsonReportMapper.toThresholds(throughputThresholds.results());
+    }
+
+    private String workerAbortReason(List<PerformanceWorkerRunStatusResponse> statuses) {
+        for (PerformanceWorkerRunStatusResponse status : statuses) {
+            if (status != null && !status.getThresholdAbortReason().isBlank()) {
+                return status.getThresholdAbortReason();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * 只在所有 worker 都还在运行时判定吞吐，有 worker 先结束的收尾阶段吞吐自然下降，不算越线。
+     */
+    private String throughputAbortReason(List<PerformanceWorkerRunStatusResponse> statuses) {
+        if (throughputThresholds.isEmpty()
+                || statuses.stream().anyMatch(status -> status == null || isTerminal(status))) {
+            return "";
+        }
+        throughputThresholds.observe(System.currentTimeMillis(), threshold -> scopeRequests(statuses, threshold));
+        return throughputThresholds.abortReason();
+    }
+
+    private long scopeRequests(List<PerformanceWorkerRunStatusResponse> statuses, PerformanceThreshold threshold) {
+        long requests = 0L;
+        for (PerformanceWorkerRunStatusResponse status : statuses) {
+            if (threshold.getScope() == PerformanceThresholdScope.OVERALL) {
+                requests += status.getTotalRequests();
+            } else if (status.getReport() != null) {
+                requests += scopeRequests(status.getReport(), threshold);
+            }
+        }
+        return requests;
+    }
+
+    private long scopeRequests(PerformanceJsonReport report, PerformanceThreshold threshold) {
+        if (threshold.getScope() == PerformanceThresholdScope.PROTOCOL) {
+            PerformanceJsonReportProtocol protocol = report.getProtocols().get(threshold.getTarget());
+            return protocol == null ? 0L : protocol.getTotal().getTotal();
+        }
+        long requests = 0L;
+        for (PerformanceJsonReportProtocol protocol : report.getProtocols().values()) {
+            for (PerformanceJsonReportApi api : protocol.getApis()) {
+                // 与 worker 上的判定一致：target 可以是 API id 或显示名
+                if (threshold.getTarget().equals(api.getApiId()) || threshold.getTarget().equals(api.getName())) {
+                    requests += api.getTotal();
+                }
+            }
+        }
+        return requests;
+    }
+
+    private void abortWorkers(List<PerformanceWorkerEndpoint> workers,
+                              String runId,
+                              List<PerformanceWorkerRunStatusResponse> statuses,
+                              String reason,
+                              Duration timeout) throws InterruptedException {
+        log.warn("Stopping all workers: {}", reason);
+        for (int i = 0; i < workers.size(); i++) {
+            PerformanceWorkerRunStatusResponse status = i < statuses.size() ? statuses.get(i) : null;
+            if (status != null && isTerminal(status)) {
+                continue;
+            }
+            PerformanceWorkerEndpoint endpoint = workers.get(i);
+            try {
+                workerClient.abort(endpoint, runId, timeout);
+            } catch (IOException ex) {
+                // 个别 worker 停不下来时继续等它按原时长结束，结果照常汇总。
+                log.warn("Failed to abort worker {}:{}", endpoint.getHost(), endpoint.getPort(), ex);
+            }
+        }
+    }
+
+    private static boolean isTerminal(PerformanceWorkerRunStatusResponse status) {
+        return PerformanceRunStatus.isTerminal(status.getStatus());
+    }
+}
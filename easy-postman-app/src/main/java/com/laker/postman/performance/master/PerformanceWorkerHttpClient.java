@@ -4,6 +4,7 @@ import com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint;
 import com.laker.postman.performance.core.worker.PerformanceWorkerApiPaths;
 import com.laker.postman.performance.core.worker.PerformanceWorkerHealthResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerProtocolJsonStorage;
+import com.laker.postman.performance.core.worker.PerformanceWorkerRebalanceRequest;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunDetailsResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunRequest;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunResultResponse;
@@ -212,6 +213,46 @@ public class PerformanceWorkerHttpClient {
         }
     }
 
+    /**
+     * 平滑停止：worker 不再开始新的迭代，进行中的请求自然结束
+     */
+    public void abort(PerformanceWorkerEndpoint endpoint,
+                      String runId,
+                      Duration timeout) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder()
+                        .uri(uri(endpoint, PerformanceWorkerApiPaths.abort(pathSegment(runId))))
+                        .timeout(effectiveTimeout(timeout))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IOException("Worker " + endpointLabel(endpoint)
+                    + " abort failed with status " + response.statusCode()
+                    + ": " + response.body());
+        }
+    }
+
+    public void rebalance(PerformanceWorkerEndpoint endpoint,
+                          String runId,
+                          double virtualUserScale,
+                          Duration timeout) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder()
+                        .uri(uri(endpoint, PerformanceWorkerApiPaths.rebalance(pathSegment(runId))))
+                        .timeout(effectiveTimeout(timeout))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(jsonStorage.toJson(PerformanceWorkerRebalanceRequest.builder()
+                                .runId(runId)
+                                .virtualUserScale(virtualUserScale)
+                                .build())))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IOException("Worker " + endpointLabel(endpoint)
+                    + " rebalance failed with status " + response.statusCode()
+                    + ": " + response.body());
+        }
+    }
+
     private URI uri(PerformanceWorkerEndpoint endpoint, String path) {
         return URI.create("http://" + endpoint.getHost() + ":" + endpoint.getPort() + path);
     }
@@ -0,0 +1,97 @@
+package com.laker.postman.performance.mock;
+
+import com.laker.postman.performance.core.runtime.PerformanceThreadFactory;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class PerformanceMockCommand {
+
+    public int run(String[] args, PrintStream out, PrintStream err) {
+        try {
+            PerformanceMockOptions options = PerformanceMockCommandLine.parse(args);
+            if (options.isHelp()) {
+                printUsage(out);
+                return 0;
+            }
+            if (options.getWorkspace().isBlank()) {
+                throw new IllegalArgumentException("Workspace directory is required");
+            }
+            List<PerformanceMockRoute> routes = PerformanceMockRouteLoader.fromWorkspace(Path.of(options.getWorkspace()));
+            ScheduledExecutorService statsExecutor = null;
+            try (PerformanceMockServer server = new PerformanceMockServer(options, routes)) {
+                server.start();
+                out.println(describe(server));
+                out.flush();
+                if (options.getStatsIntervalMs() > 0) {
+                    statsExecutor = Executors.newSingleThreadScheduledExecutor(
+                            PerformanceThreadFactory.daemonFactory("PerformanceMockStats")
+                    );
+                    statsExecutor.scheduleAtFixedRate(
+                            () -> printStats(out, server.stats()),
+                            options.getStatsIntervalMs(),
+                            options.getStatsIntervalMs(),
+                            TimeUnit.MILLISECONDS
+                    );
+                }
+                server.awaitShutdown();
+            } finally {
+                if (statsExecutor != null) {
+                    statsExecutor.shutdownNow();
+                }
+            }
+            return 0;
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            printUsage(err);
+            return 2;
+        } catch (Exception ex) {
+            err.println("Performance mock failed: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * 启动信息，CLI 和 worker 共用
+     */
+    public static String describe(PerformanceMockServer server) {
+        PerformanceMockOptions options = server.getOptions();
+        return String.format(
+                Locale.ROOT,
+                "Performance mock listening on %s:%d routes=%d match=%s latency=%s errorRate=%.4f errorStatus=%d",
+                options.getHost(),
+                server.getPort(),
+                server.getRouteCount(),
+                options.getMatchRules().describe(),
+                options.getLatency().describe(),
+                options.getErrorRate(),
+                options.getErrorStatus()
+        );
+    }
+
+    static void printStats(PrintStream out, PerformanceMockStatsSnapshot stats) {
+        out.printf(
+                Locale.ROOT,
+                "Performance mock stats: total=%d matched=%d unmatched=%d injectedErrors=%d rps=%.2f%n",
+                stats.totalRequests(),
+                stats.matchedRequests(),
+                stats.unmatchedRequests(),
+                stats.injectedErrors(),
+                stats.servedRps()
+        );
+        out.flush();
+    }
+
+    private static void printUsage(PrintStream out) {
+        out.println("Usage: performance mock <workspace-dir> [--host <host>] [--port <port>] "
+                + "[--match-query <name,...|*>] [--match-header <name,...>] [--match-body] "
+                + "[--latency <none|recorded|fixed:ms|uniform:min-max|normal:mean,stddev|exponential:mean>] "
+                + "[--error-rate <0..1|percent%>] [--error-status <status>] "
+                + "[--stats-interval <seconds>] [--no-stats]");
+    }
+}
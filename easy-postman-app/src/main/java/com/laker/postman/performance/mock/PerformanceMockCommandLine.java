@@ -0,0 +1,132 @@
+package com.laker.postman.performance.mock;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class PerformanceMockCommandLine {
+    public static final String OPTION_PREFIX = "--";
+
+    public PerformanceMockOptions parse(String[] args) {
+        PerformanceMockOptions.PerformanceMockOptionsBuilder builder = PerformanceMockOptions.builder();
+        String[] safeArgs = args == null ? new String[0] : args;
+        boolean workspaceSet = false;
+        for (int i = 2; i < safeArgs.length; i++) {
+            String arg = safeArgs[i];
+            if ("--help".equals(arg) || "-h".equals(arg)) {
+                builder.help(true);
+                continue;
+            }
+            if (!workspaceSet && arg != null && !arg.startsWith("-")) {
+                builder.workspace(arg);
+                workspaceSet = true;
+                continue;
+            }
+            if ("--stats-interval".equals(arg)) {
+                builder.statsIntervalMs(parseSeconds(requiredValue(safeArgs, ++i, arg), arg));
+                continue;
+            }
+            if ("--no-stats".equals(arg)) {
+                builder.statsIntervalMs(0L);
+                continue;
+            }
+            int next = parseOption(builder, safeArgs, i, OPTION_PREFIX);
+            if (next < 0) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+            workspaceSet |= (OPTION_PREFIX + "workspace").equals(arg);
+            i = next;
+        }
+        return builder.build();
+    }
+
+    /**
+     * 解析一个 Mock 服务选项；worker 用 {@code --mock-} 前缀复用同一组选项。
+     *
+     * @return 该选项最后一个参数的下标，不是 Mock 选项时返回 -1
+     */
+    public int parseOption(PerformanceMockOptions.PerformanceMockOptionsBuilder builder,
+                           String[] args,
+                           int index,
+                           String prefix) {
+        String arg = args[index];
+        if (arg == null || !arg.startsWith(prefix)) {
+            return -1;
+        }
+        switch (arg.substring(prefix.length())) {
+            case "workspace" -> builder.workspace(requiredValue(args, ++index, arg));
+            case "host" -> builder.host(requiredValue(args, ++index, arg));
+            case "port" -> builder.port(parsePort(requiredValue(args, ++index, arg), arg));
+            case "match-query" -> builder.matchQuery(requiredValue(args, ++index, arg));
+            case "match-header" -> builder.matchHeaders(requiredValue(args, ++index, arg));
+            case "match-body" -> builder.matchBody(true);
+            case "latency" -> builder.latency(requiredValue(args, ++index, arg));
+            case "error-rate" -> builder.errorRate(parseRate(requiredValue(args, ++index, arg), arg));
+            case "error-status" -> builder.errorStatus(parseStatus(requiredValue(args, ++index, arg), arg));
+            default -> {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    private String requiredValue(String[] args, int index, String optionName) {
+        if (index >= args.length || args[index] == null || args[index].isBlank()) {
+            throw new IllegalArgumentException(optionName + " requires a value");
+        }
+        return args[index];
+    }
+
+    private int parsePort(String value, String optionName) {
+        try {
+            int port = Integer.parseInt(value);
+            if (port <= 0 || port > 65535) {
+                throw new IllegalArgumentException(optionName + " must be between 1 and 65535");
+            }
+            return port;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(optionName + " must be a number");
+        }
+    }
+
+    /**
+     * 支持 0.05 和 5% 两种写法
+     */
+    private double parseRate(String value, String optionName) {
+        try {
+            String trimmed = value.trim();
+            double rate = trimmed.endsWith("%")
+                    ? Double.parseDouble(trimmed.substring(0, trimmed.length() - 1)) / 100D
+                    : Double.parseDouble(trimmed);
+            if (rate < 0D || rate > 1D || Double.isNaN(rate)) {
+                throw new IllegalArgumentException(optionName + " must be between 0 and 1");
+            }
+            return rate;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(optionName + " must be a number");
+        }
+    }
+
+    private int parseStatus(String value, String optionName) {
+        try {
+            int status = Integer.parseInt(value);
+            if (status < 100 || status > 999) {
+                throw new IllegalArgumentException(optionName + " must be between 100 and 999");
+            }
+            return status;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(optionName + " must be a number");
+        }
+    }
+
+    private long parseSeconds(String value, String optionName) {
+        try {
+            long seconds = Long.parseLong(value);
+            if (seconds < 0) {
+                throw new IllegalArgumentException(optionName + " must be >= 0");
+            }
+            return seconds * 1000L;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(optionName + " must be a number");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.laker.postman.performance.mock;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Mock 响应的延迟分布。
+ * <p>
+ * 配置格式：{@code none}、{@code recorded}（录制时的耗时）、{@code fixed:20}、{@code uniform:10-50}、
+ * {@code normal:40,10}（均值,标准差）、{@code exponential:30}（均值），单位毫秒。
+ * </p>
+ */
+public record PerformanceMockLatency(Kind kind, double first, double second) {
+    /**
+     * 单次延迟上限，避免长尾分布采样出不合理的值占住调度线程
+     */
+    static final long MAX_DELAY_MS = 60_000L;
+
+    public enum Kind {
+        NONE,
+        RECORDED,
+        FIXED,
+        UNIFORM,
+        NORMAL,
+        EXPONENTIAL
+    }
+
+    public PerformanceMockLatency {
+        kind = kind == null ? Kind.NONE : kind;
+    }
+
+    public static PerformanceMockLatency none() {
+        return new PerformanceMockLatency(Kind.NONE, 0, 0);
+    }
+
+    public static PerformanceMockLatency parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return none();
+        }
+        String value = spec.trim().toLowerCase(Locale.ROOT);
+        int colon = value.indexOf(':');
+        String name = colon < 0 ? value : value.substring(0, colon);
+        String args = colon < 0 ? "" : value.substring(colon + 1).trim();
+        return switch (name) {
+            case "none" -> none();
+            case "recorded" -> new PerformanceMockLatency(Kind.RECORDED, 0, 0);
+            case "fixed" -> new PerformanceMockLatency(Kind.FIXED, number(args, spec), 0);
+            case "exponential" -> new PerformanceMockLatency(Kind.EXPONENTIAL, number(args, spec), 0);
+            case "uniform" -> {
+                double[] range = pair(args, "-", spec);
+                if (range[1] < range[0]) {
+                    throw new IllegalArgumentException("Invalid latency range: " + spec);
+                }
+                yield new PerformanceMockLatency(Kind.UNIFORM, range[0], range[1]);
+            }
+            case "normal" -> {
+                double[] params = pair(args, ",", spec);
+                yield new PerformanceMockLatency(Kind.NORMAL, params[0], params[1]);
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+
+    /**
+     * @param recordedMs 录制时的耗时，只在 {@link Kind#RECORDED} 时使用
+     * @return 本次响应的延迟毫秒数，不小于 0
+     */
+    public long sampleMs(long recordedMs, RandomGenerator random) {
+        double delay = switch (kind) {
+            case NONE -> 0;
+            case RECORDED -> recordedMs;
+            case FIXED -> first;
+            case UNIFORM -> first + random.nextDouble() * (second - first);
+            case NORMAL -> first + random.nextGaussian() * second;
+            case EXPONENTIAL -> random.nextExponential() * first;
+        };
+        return Math.min(MAX_DELAY_MS, Math.max(0L, Math.round(delay)));
+    }
+
+    public String describe() {
+        return switch (kind) {
+            case NONE -> "none";
+            case RECORDED -> "recorded";
+            case FIXED -> "fixed:" + format(first);
+            case UNIFORM -> "uniform:" + format(first) + "-" + format(second);
+            case NORMAL -> "normal:" + format(first) + "," + format(second);
+            case EXPONENTIAL -> "exponential:" + format(first);
+        };
+    }
+
+    private static double[] pair(String args, String separator, String spec) {
+        int index = args.indexOf(separator);
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid latency: " + spec);
+        }
+        return new double[]{
+                number(args.substring(0, index), spec),
+                number(args.substring(index + separator.length()), spec)
+        };
+    }
+
+    private static double number(String value, String spec) {
+        try {
+            double number = Double.parseDouble(value.trim());
+            if (number < 0 || Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new IllegalArgumentException("Latency must be >= 0: " + spec);
+            }
+            return number;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid latency: " + spec);
+        }
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
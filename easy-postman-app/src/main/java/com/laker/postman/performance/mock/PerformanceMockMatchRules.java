@@ -0,0 +1,75 @@
+package com.laker.postman.performance.mock;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 除方法和路径外参与匹配的字段。
+ * <p>
+ * 默认只按方法和路径匹配；查询参数和请求头按名称选择，{@code *} 表示比较录制时的全部查询参数。
+ * 录制响应里没有记录的参数或请求头不限制实际请求。
+ * </p>
+ *
+ * @param queryNames  参与匹配的查询参数名
+ * @param allQuery    是否比较录制时的全部查询参数
+ * @param headerNames 参与匹配的请求头名，小写
+ * @param matchBody   是否比较请求体，JSON 按结构比较，其他内容去掉首尾空白后比较
+ */
+public record PerformanceMockMatchRules(Set<String> queryNames,
+                                        boolean allQuery,
+                                        Set<String> headerNames,
+                                        boolean matchBody) {
+
+    public static final String ALL = "*";
+
+    public PerformanceMockMatchRules {
+        queryNames = queryNames == null ? Set.of() : Set.copyOf(queryNames);
+        headerNames = headerNames == null ? Set.of() : Set.copyOf(headerNames);
+    }
+
+    public static PerformanceMockMatchRules methodAndPath() {
+        return new PerformanceMockMatchRules(Set.of(), false, Set.of(), false);
+    }
+
+    /**
+     * @param queryNames  逗号分隔的查询参数名，{@code *} 表示全部
+     * @param headerNames 逗号分隔的请求头名
+     */
+    public static PerformanceMockMatchRules of(String queryNames, String headerNames, boolean matchBody) {
+        Set<String> query = names(queryNames, false);
+        boolean allQuery = query.remove(ALL);
+        return new PerformanceMockMatchRules(query, allQuery, names(headerNames, true), matchBody);
+    }
+
+    public String describe() {
+        StringBuilder builder = new StringBuilder("method+path");
+        if (allQuery) {
+            builder.append("+query(*)");
+        } else if (!queryNames.isEmpty()) {
+            builder.append("+query").append(new TreeSet<>(queryNames));
+        }
+        if (!headerNames.isEmpty()) {
+            builder.append("+headers").append(new TreeSet<>(headerNames));
+        }
+        if (matchBody) {
+            builder.append("+body");
+        }
+        return builder.toString();
+    }
+
+    private static Set<String> names(String csv, boolean lowerCase) {
+        Set<String> names = new LinkedHashSet<>();
+        if (csv == null || csv.isBlank()) {
+            return names;
+        }
+        for (String part : csv.split(",")) {
+            String name = part.trim();
+            if (!name.isEmpty()) {
+                names.add(lowerCase ? name.toLowerCase(Locale.ROOT) : name);
+            }
+        }
+        return names;
+    }
+}
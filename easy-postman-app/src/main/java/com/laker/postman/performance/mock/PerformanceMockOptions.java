@@ -0,0 +1,59 @@
+package com.laker.postman.performance.mock;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+public class PerformanceMockOptions {
+    public static final String DEFAULT_HOST = "127.0.0.1";
+    public static final int DEFAULT_PORT = 19190;
+    public static final int DEFAULT_ERROR_STATUS = 503;
+    public static final long DEFAULT_STATS_INTERVAL_MS = 5000L;
+
+    boolean help;
+    /**
+     * 提供录制响应的工作区目录（包含 collections.json）
+     */
+    String workspace;
+    String host;
+    int port;
+    PerformanceMockMatchRules matchRules;
+    PerformanceMockLatency latency;
+    /**
+     * 命中录制响应后按该比例改为返回 {@link #errorStatus}，0 到 1
+     */
+    double errorRate;
+    int errorStatus;
+    long statsIntervalMs;
+
+    @Builder
+    public PerformanceMockOptions(Boolean help,
+                                  String workspace,
+                                  String host,
+                                  Integer port,
+                                  String matchQuery,
+                                  String matchHeaders,
+                                  Boolean matchBody,
+                                  String latency,
+                                  Double errorRate,
+                                  Integer errorStatus,
+                                  Long statsIntervalMs) {
+        this.help = help != null && help;
+        this.workspace = workspace == null ? "" : workspace.trim();
+        this.host = host == null || host.isBlank() ? DEFAULT_HOST : host;
+        this.port = port == null ? DEFAULT_PORT : port;
+        this.matchRules = PerformanceMockMatchRules.of(matchQuery, matchHeaders, matchBody != null && matchBody);
+        this.latency = PerformanceMockLatency.parse(latency);
+        if (errorRate != null && (errorRate < 0D || errorRate > 1D || errorRate.isNaN())) {
+            throw new IllegalArgumentException("Mock error rate must be between 0 and 1");
+        }
+        this.errorRate = errorRate == null ? 0D : errorRate;
+        if (errorStatus != null && (errorStatus < 100 || errorStatus > 999)) {
+            throw new IllegalArgumentException("Mock error status must be between 100 and 999");
+        }
+        this.errorStatus = errorStatus == null ? DEFAULT_ERROR_STATUS : errorStatus;
+        this.statsIntervalMs = statsIntervalMs == null
+                ? DEFAULT_STATS_INTERVAL_MS
+                : Math.max(0L, statsIntervalMs);
+    }
+}
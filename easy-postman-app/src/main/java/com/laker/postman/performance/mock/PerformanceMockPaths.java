@@ -0,0 +1,125 @@
+package com.laker.postman.performance.mock;
+
+import lombok.experimental.UtilityClass;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 录制 URL 和实际请求路径的归一化：两边都只保留去掉结尾斜杠的路径部分，查询串单独解析。
+ */
+@UtilityClass
+class PerformanceMockPaths {
+
+    /**
+     * 从录制的 URL 中取路径：去掉协议和主机、开头的 {@code {{baseUrl}}} 这类变量以及查询串和片段。
+     */
+    String pathOf(String url) {
+        String value = url == null ? "" : url.trim();
+        value = cutAt(cutAt(value, '#'), '?');
+        if (value.startsWith("{{")) {
+            int end = value.indexOf("}}");
+            value = end < 0 ? "" : value.substring(end + 2);
+        } else {
+            int scheme = value.indexOf("://");
+            if (scheme >= 0) {
+                value = value.substring(scheme + 3);
+            }
+        }
+        if (!value.startsWith("/")) {
+            // 剩下的是主机（可能带端口），如 example.com:8080/api
+            int pathStart = value.indexOf('/');
+            value = pathStart < 0 ? "" : value.substring(pathStart);
+        }
+        return normalize(value);
+    }
+
+    /**
+     * @return URL 中的查询参数，重复的参数名只保留第一个值
+     */
+    Map<String, String> queryOf(String url) {
+        String value = url == null ? "" : cutAt(url, '#');
+        int start = value.indexOf('?');
+        return start < 0 ? Map.of() : parseQuery(value.substring(start + 1));
+    }
+
+    Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> query = new LinkedHashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String name = decode(eq < 0 ? pair : pair.substring(0, eq));
+            String value = eq < 0 ? "" : decode(pair.substring(eq + 1));
+            query.putIfAbsent(name, value);
+        }
+        return query;
+    }
+
+    String normalize(String path) {
+        String value = path == null || path.isBlank() ? "/" : path.trim();
+        if (!value.startsWith("/")) {
+            value = "/" + value;
+        }
+        int end = value.length();
+        while (end > 1 && value.charAt(end - 1) == '/') {
+            end--;
+        }
+        return value.substring(0, end);
+    }
+
+    boolean isTemplate(String path) {
+        for (String segment : path.split("/")) {
+            if (isWildcardSegment(segment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按段比较，模板段匹配任意非空段，段数必须相同
+     */
+    boolean matchesTemplate(String template, String path) {
+        String[] expected = template.split("/");
+        String[] actual = path.split("/");
+        if (expected.length != actual.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (isWildcardSegment(expected[i]) ? actual[i].isEmpty() : !expected[i].equals(actual[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean containsVariable(String value) {
+        return value != null && value.contains("{{");
+    }
+
+    private boolean isWildcardSegment(String segment) {
+        return segment.contains("{{")
+                || segment.length() > 1 && segment.charAt(0) == ':'
+                || segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private String cutAt(String value, char marker) {
+        int index = value.indexOf(marker);
+        return index < 0 ? value : value.substring(0, index);
+    }
+
+    private String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            return value;
+        }
+    }
+}
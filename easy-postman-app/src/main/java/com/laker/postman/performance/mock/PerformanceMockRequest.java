@@ -0,0 +1,21 @@
+package com.laker.postman.performance.mock;
+
+import java.util.Map;
+
+/**
+ * 参与路由匹配的请求信息。
+ *
+ * @param headers 只包含匹配规则选中的请求头，键为小写
+ * @param body    未开启请求体匹配时为 null
+ */
+record PerformanceMockRequest(String method,
+                              String path,
+                              Map<String, String> query,
+                              Map<String, String> headers,
+                              String body) {
+
+    PerformanceMockRequest {
+        query = query == null ? Map.of() : query;
+        headers = headers == null ? Map.of() : headers;
+    }
+}
@@ -0,0 +1,55 @@
+package com.laker.postman.performance.mock;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 一条可回放的录制响应。
+ * <p>
+ * 匹配字段（query、headers、body）只包含录制时有确定值的部分，没有记录的字段在匹配时视为通配；
+ * 路径里的 {@code {{var}}}、{@code :name}、{@code {name}} 段同样视为通配。
+ * </p>
+ *
+ * @param headers 键为小写的请求头
+ * @param body    录制的请求体，null 表示不参与匹配
+ */
+public record PerformanceMockRoute(String name,
+                                   String method,
+                                   String path,
+                                   Map<String, String> query,
+                                   Map<String, String> headers,
+                                   String body,
+                                   int status,
+                                   Map<String, List<String>> responseHeaders,
+                                   byte[] responseBody,
+                                   long recordedLatencyMs) {
+
+    public PerformanceMockRoute {
+        name = name == null ? "" : name;
+        method = method == null || method.isBlank() ? "GET" : method.trim().toUpperCase(Locale.ROOT);
+        path = PerformanceMockPaths.normalize(path);
+        query = query == null ? Map.of() : Map.copyOf(query);
+        headers = headers == null ? Map.of() : Map.copyOf(headers);
+        status = status < 100 || status > 999 ? 200 : status;
+        responseHeaders = copyHeaders(responseHeaders);
+        responseBody = responseBody == null ? new byte[0] : responseBody;
+        recordedLatencyMs = Math.max(0L, recordedLatencyMs);
+    }
+
+    boolean templated() {
+        return PerformanceMockPaths.isTemplate(path);
+    }
+
+    private static Map<String, List<String>> copyHeaders(Map<String, List<String>> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        // 每次写响应都直接放进响应头，值列表不可变，避免被修改后影响后续请求
+        headers.forEach((name, values) -> copy.put(name, values == null ? List.of() : List.copyOf(values)));
+        return Collections.unmodifiableMap(copy);
+    }
+}
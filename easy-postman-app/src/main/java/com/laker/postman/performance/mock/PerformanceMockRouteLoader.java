@@ -0,0 +1,171 @@
+package com.laker.postman.performance.mock;
+
+import com.laker.postman.collection.model.CollectionDocument;
+import com.laker.postman.collection.model.CollectionNode;
+import com.laker.postman.request.model.HttpHeader;
+import com.laker.postman.request.model.HttpParam;
+import com.laker.postman.request.model.HttpRequestItem;
+import com.laker.postman.request.model.SavedResponse;
+import com.laker.postman.service.collections.CollectionDocumentJsonCodec;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 把集合里 HTTP 请求保存的示例响应转换成 Mock 路由。
+ * <p>
+ * 抓包导入的请求会带上录制的响应作为示例，所以抓包会话先导入集合，再由这里回放。
+ * 匹配字段优先取示例保存时的原始请求，没有时取请求本身；含 {@code {{变量}}} 的值无法确定，不参与匹配。
+ * </p>
+ */
+@UtilityClass
+public class PerformanceMockRouteLoader {
+    private static final String COLLECTIONS_FILE = "collections.json";
+    /**
+     * 示例里的响应体已经是解码后的文本，原始的编码、长度和连接相关的头不再成立
+     */
+    private static final Set<String> SKIPPED_RESPONSE_HEADERS = Set.of(
+            "content-length",
+            "content-encoding",
+            "transfer-encoding",
+            "connection",
+            "keep-alive"
+    );
+
+    public List<PerformanceMockRoute> fromWorkspace(Path workspaceDirectory) {
+        if (workspaceDirectory == null) {
+            throw new IllegalArgumentException("Mock workspace directory is required");
+        }
+        Path collectionsFile = Files.isDirectory(workspaceDirectory)
+                ? workspaceDirectory.resolve(COLLECTIONS_FILE)
+                : workspaceDirectory;
+        if (!Files.isRegularFile(collectionsFile)) {
+            throw new IllegalArgumentException("EasyPostman collections file does not exist: " + collectionsFile);
+        }
+        List<PerformanceMockRoute> routes;
+        try {
+            routes = fromDocument(CollectionDocumentJsonCodec.read(collectionsFile.toFile()));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException(
+                    "Unable to read EasyPostman collections: " + collectionsFile + ": " + ex.getMessage(),
+                    ex
+            );
+        }
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException("No saved responses to replay in: " + collectionsFile);
+        }
+        return routes;
+    }
+
+    public List<PerformanceMockRoute> fromDocument(CollectionDocument document) {
+        List<PerformanceMockRoute> routes = new ArrayList<>();
+        if (document != null) {
+            collect(document.getRoots(), routes);
+        }
+        return routes;
+    }
+
+    private void collect(List<CollectionNode> nodes, List<PerformanceMockRoute> routes) {
+        for (CollectionNode node : nodes) {
+            if (node.isGroup()) {
+                collect(node.getChildren(), routes);
+                continue;
+            }
+            HttpRequestItem item = node.isRequest() ? node.asRequest() : null;
+            if (item == null || item.getProtocol() != null && !item.getProtocol().isHttpProtocol()) {
+                continue;
+            }
+            for (SavedResponse response : item.getResponse()) {
+                if (response != null) {
+                    routes.add(toRoute(item, response));
+                }
+            }
+        }
+    }
+
+    PerformanceMockRoute toRoute(HttpRequestItem item, SavedResponse response) {
+        SavedResponse.OriginalRequest original = response.getOriginalRequest();
+        String url = original != null && notBlank(original.getUrl()) ? original.getUrl() : item.getUrl();
+        String method = original != null && notBlank(original.getMethod()) ? original.getMethod() : item.getMethod();
+        List<HttpParam> params = original != null ? original.getParams() : item.getParamsList();
+        List<HttpHeader> headers = original != null ? original.getHeaders() : item.getHeadersList();
+        String body = original != null ? original.getBody() : item.getBody();
+
+        Map<String, String> query = new LinkedHashMap<>();
+        PerformanceMockPaths.queryOf(url).forEach((name, value) -> putResolved(query, name, value));
+        if (params != null) {
+            for (HttpParam param : params) {
+                if (param != null && param.isEnabled()) {
+                    putResolved(query, param.getKey(), param.getValue());
+                }
+            }
+        }
+        Map<String, String> requestHeaders = new LinkedHashMap<>();
+        if (headers != null) {
+            for (HttpHeader header : headers) {
+                if (header != null && header.isEnabled() && notBlank(header.getKey())) {
+                    putResolved(requestHeaders, header.getKey().trim().toLowerCase(Locale.ROOT), header.getValue());
+                }
+            }
+        }
+        String responseBody = response.getBody() == null ? "" : response.getBody();
+        return new PerformanceMockRoute(
+                routeName(item, response),
+                method,
+                PerformanceMockPaths.pathOf(url),
+                query,
+                requestHeaders,
+                notBlank(body) && !PerformanceMockPaths.containsVariable(body) ? body : null,
+                response.getCode(),
+                responseHeaders(response.getHeaders()),
+                responseBody.getBytes(StandardCharsets.UTF_8),
+                response.getCostMs()
+        );
+    }
+
+    private Map<String, List<String>> responseHeaders(List<HttpHeader> headers) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        if (headers == null) {
+            return result;
+        }
+        for (HttpHeader header : headers) {
+            if (header == null || !notBlank(header.getKey())
+                    || SKIPPED_RESPONSE_HEADERS.contains(header.getKey().trim().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            result.computeIfAbsent(header.getKey().trim(), ignored -> new ArrayList<>())
+                    .add(header.getValue() == null ? "" : header.getValue());
+        }
+        return result;
+    }
+
+    private void putResolved(Map<String, String> target, String name, String value) {
+        if (!notBlank(name)) {
+            return;
+        }
+        String safeValue = value == null ? "" : value;
+        if (PerformanceMockPaths.containsVariable(name) || PerformanceMockPaths.containsVariable(safeValue)) {
+            // 运行时才能确定的值不参与匹配
+            target.remove(name);
+            return;
+        }
+        target.put(name, safeValue);
+    }
+
+    private String routeName(HttpRequestItem item, SavedResponse response) {
+        String requestName = notBlank(item.getName()) ? item.getName() : item.getUrl();
+        return notBlank(response.getName()) ? requestName + " / " + response.getName() : requestName;
+    }
+
+    private boolean notBlank(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,121 @@
+package com.laker.postman.performance.mock;
+
+import com.laker.postman.util.JsonUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 录制响应的路由表。
+ * <p>
+ * 固定路径的路由按“方法 路径”建索引，查找时先走索引，未命中再按顺序扫描模板路径；
+ * 同一路径下按录制顺序取第一个匹配的响应。路由表构建后只读，可以被多个处理线程共用。
+ * </p>
+ */
+final class PerformanceMockRouteTable {
+    private final PerformanceMockMatchRules rules;
+    private final Map<String, List<Entry>> exactRoutes = new HashMap<>();
+    private final List<Entry> templateRoutes = new ArrayList<>();
+    private final int size;
+
+    PerformanceMockRouteTable(List<PerformanceMockRoute> routes, PerformanceMockMatchRules rules) {
+        this.rules = rules == null ? PerformanceMockMatchRules.methodAndPath() : rules;
+        int count = 0;
+        for (PerformanceMockRoute route : routes == null ? List.<PerformanceMockRoute>of() : routes) {
+            if (route == null) {
+                continue;
+            }
+            Entry entry = new Entry(route, this.rules.matchBody() ? bodyKey(route.body()) : null);
+            if (route.templated()) {
+                templateRoutes.add(entry);
+            } else {
+                exactRoutes.computeIfAbsent(key(route.method(), route.path()), ignored -> new ArrayList<>()).add(entry);
+            }
+            count++;
+        }
+        this.size = count;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return 第一个匹配的录制响应，没有时返回 null
+     */
+    PerformanceMockRoute find(PerformanceMockRequest request) {
+        String path = PerformanceMockPaths.normalize(request.path());
+        Object requestBodyKey = rules.matchBody() ? bodyKey(request.body()) : null;
+        List<Entry> candidates = exactRoutes.get(key(request.method(), path));
+        if (candidates != null) {
+            for (Entry entry : candidates) {
+                if (matches(entry, request, requestBodyKey)) {
+                    return entry.route();
+                }
+            }
+        }
+        for (Entry entry : templateRoutes) {
+            if (entry.route().method().equalsIgnoreCase(request.method())
+                    && PerformanceMockPaths.matchesTemplate(entry.route().path(), path)
+                    && matches(entry, request, requestBodyKey)) {
+                return entry.route();
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(Entry entry, PerformanceMockRequest request, Object requestBodyKey) {
+        PerformanceMockRoute route = entry.route();
+        if (rules.allQuery()) {
+            for (Map.Entry<String, String> expected : route.query().entrySet()) {
+                if (!expected.getValue().equals(request.query().get(expected.getKey()))) {
+                    return false;
+                }
+            }
+        } else {
+            for (String name : rules.queryNames()) {
+                String expected = route.query().get(name);
+                if (expected != null && !expected.equals(request.query().get(name))) {
+                    return false;
+                }
+            }
+        }
+        for (String name : rules.headerNames()) {
+            String expected = route.headers().get(name);
+            if (expected != null && !expected.equals(request.headers().get(name))) {
+                return false;
+            }
+        }
+        return entry.bodyKey() == null || entry.bodyKey().equals(requestBodyKey);
+    }
+
+    /**
+     * JSON 请求体转成树比较，忽略格式和字段顺序；其他内容按去掉首尾空白的文本比较
+     */
+    static Object bodyKey(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        String trimmed = body.trim();
+        char first = trimmed.charAt(0);
+        if (first == '{' || first == '[') {
+            try {
+                return Objects.requireNonNull(JsonUtil.readTree(trimmed));
+            } catch (RuntimeException ignored) {
+                // 不是合法 JSON，按文本比较
+            }
+        }
+        return trimmed;
+    }
+
+    private static String key(String method, String path) {
+        return method.toUpperCase(Locale.ROOT) + ' ' + path;
+    }
+
+    private record Entry(PerformanceMockRoute route, Object bodyKey) {
+    }
+}
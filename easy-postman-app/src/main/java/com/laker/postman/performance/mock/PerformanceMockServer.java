@@ -0,0 +1,220 @@
+package com.laker.postman.performance.mock;
+
+import com.laker.postman.performance.core.runtime.PerformanceThreadFactory;
+import com.laker.postman.util.JsonUtil;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 回放录制响应的本地 Mock 服务，用于在没有真实后端时校准压测计划和压测机本身的吞吐。
+ * <p>
+ * 处理线程只做匹配和写响应；配置了延迟时响应交给调度线程按时写出，
+ * 不会因为模拟的慢接口占住处理线程，所以服务自身的吞吐不受延迟分布影响。
+ * 统计接口 {@value #STATS_PATH} 不计入请求数。
+ * </p>
+ */
+public class PerformanceMockServer implements AutoCloseable {
+    public static final String STATS_PATH = "/__mock/stats";
+    private static final int BACKLOG = 1024;
+
+    private final PerformanceMockOptions options;
+    private final PerformanceMockRouteTable routeTable;
+    private final PerformanceMockStats stats;
+    private final boolean matchQuery;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+    private ExecutorService requestExecutor;
+    private ScheduledExecutorService delayScheduler;
+    private HttpServer httpServer;
+    private volatile int port;
+
+    public PerformanceMockServer(PerformanceMockOptions options, List<PerformanceMockRoute> routes) {
+        this(options, routes, System::currentTimeMillis);
+    }
+
+    PerformanceMockServer(PerformanceMockOptions options, List<PerformanceMockRoute> routes, LongSupplier clockMs) {
+        this.options = options == null ? PerformanceMockOptions.builder().build() : options;
+        this.routeTable = new PerformanceMockRouteTable(routes, this.options.getMatchRules());
+        this.stats = new PerformanceMockStats(clockMs);
+        this.matchQuery = this.options.getMatchRules().allQuery() || !this.options.getMatchRules().queryNames().isEmpty();
+    }
+
+    public void start() throws IOException {
+        if (running.get()) {
+            return;
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        requestExecutor = Executors.newFixedThreadPool(
+                Math.max(4, processors * 2),
+                PerformanceThreadFactory.daemonFactory("PerformanceMockHttp")
+        );
+        delayScheduler = Executors.newScheduledThreadPool(
+                Math.max(2, processors),
+                PerformanceThreadFactory.daemonFactory("PerformanceMockDelay")
+        );
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(options.getHost(), options.getPort()), BACKLOG);
+        } catch (IOException | RuntimeException ex) {
+            // 端口被占用等情况，释放已创建的线程池
+            stop();
+            throw ex;
+        }
+        httpServer.createContext("/", this::handle);
+        httpServer.setExecutor(requestExecutor);
+        httpServer.start();
+        port = httpServer.getAddress().getPort();
+        running.set(true);
+    }
+
+    public void stop() {
+        HttpServer server = httpServer;
+        httpServer = null;
+        if (server != null) {
+            server.stop(0);
+        }
+        if (delayScheduler != null) {
+            delayScheduler.shutdownNow();
+            delayScheduler = null;
+        }
+        if (requestExecutor != null) {
+            requestExecutor.shutdownNow();
+            requestExecutor = null;
+        }
+        running.set(false);
+        shutdownLatch.countDown();
+    }
+
+    public void awaitShutdown() throws InterruptedException {
+        shutdownLatch.await();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public PerformanceMockOptions getOptions() {
+        return options;
+    }
+
+    public int getPort() {
+        return port == 0 ? options.getPort() : port;
+    }
+
+    public int getRouteCount() {
+        return routeTable.size();
+    }
+
+    public PerformanceMockStatsSnapshot stats() {
+        return stats.snapshot();
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (STATS_PATH.equals(path)) {
+                write(exchange, 200, jsonHeaders(), JsonUtil.toJsonStr(stats()).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            stats.recordRequest();
+            PerformanceMockRoute route = routeTable.find(toRequest(exchange, path, requestBody));
+            if (route == null) {
+                stats.recordUnmatched();
+                write(exchange, 404, jsonHeaders(), error("No recorded response for "
+                        + exchange.getRequestMethod() + " " + path));
+                stats.recordServed();
+                return;
+            }
+            stats.recordMatched();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            boolean injectError = options.getErrorRate() > 0D && random.nextDouble() < options.getErrorRate();
+            if (injectError) {
+                stats.recordInjectedError();
+            }
+            long delayMs = options.getLatency().sampleMs(route.recordedLatencyMs(), random);
+            Runnable reply = injectError
+                    ? () -> reply(exchange, options.getErrorStatus(), jsonHeaders(), error("Injected mock failure"))
+                    : () -> reply(exchange, route.status(), route.responseHeaders(), route.responseBody());
+            if (delayMs <= 0L) {
+                reply.run();
+            } else {
+                delayScheduler.schedule(reply, delayMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (IOException | RuntimeException ex) {
+            // 客户端断开或服务正在停止，放弃这次响应
+            exchange.close();
+        }
+    }
+
+    private PerformanceMockRequest toRequest(HttpExchange exchange, String path, byte[] body) {
+        PerformanceMockMatchRules rules = options.getMatchRules();
+        Map<String, String> headers = Map.of();
+        if (!rules.headerNames().isEmpty()) {
+            headers = new HashMap<>();
+            Headers requestHeaders = exchange.getRequestHeaders();
+            for (String name : rules.headerNames()) {
+                String value = requestHeaders.getFirst(name);
+                if (value != null) {
+                    headers.put(name, value);
+                }
+            }
+        }
+        return new PerformanceMockRequest(
+                exchange.getRequestMethod(),
+                path,
+                matchQuery ? PerformanceMockPaths.parseQuery(exchange.getRequestURI().getRawQuery()) : Map.of(),
+                headers,
+                rules.matchBody() ? new String(body, StandardCharsets.UTF_8) : null
+        );
+    }
+
+    private void reply(HttpExchange exchange, int status, Map<String, List<String>> headers, byte[] body) {
+        try {
+            write(exchange, status, headers, body);
+            stats.recordServed();
+        } catch (IOException | RuntimeException ex) {
+            exchange.close();
+        }
+    }
+
+    private void write(HttpExchange exchange, int status, Map<String, List<String>> headers, byte[] body)
+            throws IOException {
+        Headers responseHeaders = exchange.getResponseHeaders();
+        responseHeaders.putAll(headers);
+        boolean noBody = body.length == 0 || "HEAD".equalsIgnoreCase(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        if (!noBody) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    private static Map<String, List<String>> jsonHeaders() {
+        return Map.of("Content-Type", List.of("application/json; charset=utf-8"));
+    }
+
+    private static byte[] error(String message) {
+        return JsonUtil.toJsonStr(Map.of("error", message)).getBytes(StandardCharsets.UTF_8);
+    }
+}
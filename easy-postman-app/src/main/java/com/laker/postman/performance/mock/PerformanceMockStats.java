@@ -0,0 +1,85 @@
+package com.laker.postman.performance.mock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Mock 服务计数器。
+ * <p>
+ * 响应速率用按秒分桶的环形数组统计：写出响应时只对当前秒的桶做一次原子自增，
+ * 读取时汇总最近 {@link #RATE_WINDOW_SECONDS} 个完整秒，不包含正在累积的当前秒，也不包含启动时不满一秒的那一秒。
+ * </p>
+ */
+final class PerformanceMockStats {
+    static final int RATE_WINDOW_SECONDS = 5;
+    private static final int BUCKETS = RATE_WINDOW_SECONDS + 2;
+
+    private final LongSupplier clockMs;
+    private final long startedAtMs;
+    private final LongAdder total = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final AtomicLongArray bucketSeconds = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKETS);
+
+    PerformanceMockStats(LongSupplier clockMs) {
+        this.clockMs = clockMs;
+        this.startedAtMs = clockMs.getAsLong();
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketSeconds.set(i, -1L);
+        }
+    }
+
+    void recordRequest() {
+        total.increment();
+    }
+
+    void recordMatched() {
+        matched.increment();
+    }
+
+    void recordUnmatched() {
+        unmatched.increment();
+    }
+
+    void recordInjectedError() {
+        injectedErrors.increment();
+    }
+
+    void recordServed() {
+        long second = clockMs.getAsLong() / 1000L;
+        int index = (int) (second % BUCKETS);
+        long stamp = bucketSeconds.get(index);
+        if (stamp != second && bucketSeconds.compareAndSet(index, stamp, second)) {
+            // 换桶和其他线程的自增之间没有加锁，切换瞬间可能丢掉个别计数，对速率展示没有影响
+            bucketCounts.set(index, 0L);
+        }
+        bucketCounts.incrementAndGet(index);
+    }
+
+    PerformanceMockStatsSnapshot snapshot() {
+        long now = clockMs.getAsLong();
+        long currentSecond = now / 1000L;
+        long uptimeMs = Math.max(0L, now - startedAtMs);
+        // 启动所在的那一秒只跑了一部分，从下一个完整秒算起；完整秒数不足窗口时按实际秒数求平均
+        long firstCompleteSecond = (startedAtMs + 999L) / 1000L;
+        long window = Math.min(RATE_WINDOW_SECONDS, currentSecond - firstCompleteSecond);
+        long served = 0L;
+        for (long second = currentSecond - window; second < currentSecond; second++) {
+            int index = (int) (second % BUCKETS);
+            if (bucketSeconds.get(index) == second) {
+                served += bucketCounts.get(index);
+            }
+        }
+        return new PerformanceMockStatsSnapshot(
+                total.sum(),
+                matched.sum(),
+                unmatched.sum(),
+                injectedErrors.sum(),
+                window <= 0 ? 0D : (double) served / window,
+                uptimeMs
+        );
+    }
+}
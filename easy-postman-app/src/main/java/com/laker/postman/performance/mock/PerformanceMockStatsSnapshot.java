@@ -0,0 +1,18 @@
+package com.laker.postman.performance.mock;
+
+/**
+ * Mock 服务的累计计数和最近几秒的响应速率。
+ *
+ * @param totalRequests     收到的请求数，不含统计接口自身
+ * @param matchedRequests   命中录制响应的请求数
+ * @param unmatchedRequests 没有匹配响应、返回 404 的请求数
+ * @param injectedErrors    按错误率注入失败的请求数
+ * @param servedRps         最近几个完整秒内每秒写出的响应数
+ */
+public record PerformanceMockStatsSnapshot(long totalRequests,
+                                           long matchedRequests,
+                                           long unmatchedRequests,
+                                           long injectedErrors,
+                                           double servedRps,
+                                           long uptimeMs) {
+}
@@ -17,7 +17,10 @@ public class PerformanceSampleRecordFactory {
             return null;
         }
         HttpResponse response = executionResult.response;
-        long elapsedTimeMs = response == null ? executionResult.fallbackCostMs : response.costMs;
+        // costMs 从调度器放行开始计时；压测样本从发起请求开始计，调度器排队也算在响应时间里，避免排队被漏记
+        long elapsedTimeMs = response == null
+                ? executionResult.fallbackCostMs
+                : response.costMs + Math.max(0L, response.queueWaitMs);
         long endTimeMs = executionResult.requestStartTime + Math.max(0L, elapsedTimeMs);
         PerformanceProtocol protocol = executionResult.protocol == null
                 ? PerformanceProtocol.HTTP
@@ -0,0 +1,41 @@
+package com.laker.postman.performance.output;
+
+import com.laker.postman.performance.core.report.PerformanceJsonReport;
+import com.laker.postman.performance.core.report.PerformanceJsonReportThreshold;
+import com.laker.postman.performance.core.run.PerformanceRunStatus;
+import lombok.experimental.UtilityClass;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * 命令行的 SLA 阈值输出和退出码。阈值越线用单独的退出码 3，CI 可以把“SLA 不达标”和“执行失败（1）”区分处理。
+ */
+@UtilityClass
+public class PerformanceCommandThresholdSummary {
+    public static final int EXIT_THRESHOLD_FAILED = 3;
+
+    public int exitCode(PerformanceJsonReport report) {
+        if (report != null && report.hasFailedThresholds()) {
+            return EXIT_THRESHOLD_FAILED;
+        }
+        return report != null && PerformanceRunStatus.SUCCESS.equals(report.getMetadata().getStatus()) ? 0 : 1;
+    }
+
+    public void print(PrintStream out, PerformanceJsonReport report) {
+        if (out == null || report == null) {
+            return;
+        }
+        for (PerformanceJsonReportThreshold threshold : report.getThresholds()) {
+            out.printf(Locale.ROOT,
+                    "Threshold %s: %s worst=%.2f limit=%.2f breaches=%d%s%n",
+                    threshold.getStatus(),
+                    threshold.getName(),
+                    threshold.getWorstValue(),
+                    threshold.getLimit(),
+                    threshold.getBreaches(),
+                    threshold.isAborted() ? " aborted" : ""
+            );
+        }
+    }
+}
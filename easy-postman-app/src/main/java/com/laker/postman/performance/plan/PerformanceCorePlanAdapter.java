@@ -92,7 +92,8 @@ public class PerformanceCorePlanAdapter {
                     group.getThreadGroupData(),
                     group.getCsvDataSetData(),
                     toAppElements(group.getElements()),
-                    group.getVirtualUserIndexOffset()
+                    group.getVirtualUserIndexOffset(),
+                    group.getStandbyVirtualUserCount()
             ));
         }
         return new PerformanceTestPlan(threadGroups);
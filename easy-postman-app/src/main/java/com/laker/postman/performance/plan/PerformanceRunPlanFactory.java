@@ -38,6 +38,9 @@ public class PerformanceRunPlanFactory {
                         .httpKeepAliveSeconds(SettingManager.getPerformanceKeepAliveSeconds())
                         .httpMaxRequests(SettingManager.getPerformanceMaxRequests())
                         .httpMaxRequestsPerHost(SettingManager.getPerformanceMaxRequestsPerHost())
+                        .httpDnsMode(SettingManager.getPerformanceDnsMode())
+                        .httpDnsCacheTtlSeconds(SettingManager.getPerformanceDnsCacheTtlSeconds())
+                        .httpDnsHostOverrides(SettingManager.getPerformanceDnsHostOverrides())
                         .build())
                 .testPlan(coreDocument)
                 .assets(PerformanceRunPlanAssetScanner.scan(coreDocument))
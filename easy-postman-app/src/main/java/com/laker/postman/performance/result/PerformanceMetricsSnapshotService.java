@@ -1,5 +1,6 @@
 package com.laker.postman.performance.result;
 
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.model.PerformanceReportSnapshot;
 import com.laker.postman.performance.core.model.PerformanceStatsCollector;
@@ -14,6 +15,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 public final class PerformanceMetricsSnapshotService {
@@ -28,8 +30,30 @@ public final class PerformanceMetricsSnapshotService {
     private final LongSupplier samplingIntervalSupplier;
     private final LongFunction<PerformanceRealtimeMetrics.Sample> realtimeMetricsSampler;
     private final LongFunction<PerformanceRealtimeMetrics.LiveSnapshot> liveMetricsSnapshotSupplier;
+    private final Supplier<PerformanceGeneratorSample> generatorSampleSupplier;
     private final AtomicLong lastTrendDrainAtMs = new AtomicLong(-1L);
 
+    public PerformanceMetricsSnapshotService(PerformanceStatsCollector statsCollector,
+                                             PerformanceTrendWindowCollector trendWindowCollector,
+                                             IntSupplier activeThreadsSupplier,
+                                             IntSupplier activeWebSocketsSupplier,
+                                             IntSupplier activeSseStreamsSupplier,
+                                             LongSupplier samplingIntervalSupplier,
+                                             LongFunction<PerformanceRealtimeMetrics.Sample> realtimeMetricsSampler,
+                                             LongFunction<PerformanceRealtimeMetrics.LiveSnapshot> liveMetricsSnapshotSupplier) {
+        this(
+                statsCollector,
+                trendWindowCollector,
+                activeThreadsSupplier,
+                activeWebSocketsSupplier,
+                activeSseStreamsSupplier,
+                samplingIntervalSupplier,
+                realtimeMetricsSampler,
+                liveMetricsSnapshotSupplier,
+                null
+        );
+    }
+
     public PerformanceReportSnapshot reportSnapshot(long nowMs) {
         PerformanceRealtimeMetrics.LiveSnapshot liveSnapshot = liveMetricsSnapshotSupplier == null
                 ? PerformanceRealtimeMetrics.LiveSnapshot.empty()
@@ -49,7 +73,7 @@ public final class PerformanceMetricsSnapshotService {
                 activeSseStreams(realtimeMetrics),
                 trendWindowElapsedMs(nowMs),
                 realtimeMetrics
-        );
+        ).withGenerator(generatorSample());
     }
 
     public void resetTrendWindow(long startTimeMs) {
@@ -71,6 +95,10 @@ public final class PerformanceMetricsSnapshotService {
         return realtimeMetricsSampler.apply(nowMs);
     }
 
+    private PerformanceGeneratorSample generatorSample() {
+        return generatorSampleSupplier == null ? PerformanceGeneratorSample.EMPTY : generatorSampleSupplier.get();
+    }
+
     private int activeUsers() {
         return activeThreadsSupplier == null ? 0 : activeThreadsSupplier.getAsInt();
     }
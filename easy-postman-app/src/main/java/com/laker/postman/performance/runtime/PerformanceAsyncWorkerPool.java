@@ -0,0 +1,74 @@
+package com.laker.postman.performance.runtime;
+
+import com.laker.postman.performance.core.runtime.PerformanceCorePlanExecutor;
+import com.laker.postman.performance.core.runtime.PerformanceThreadFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步采样的后处理工作线程池：SSE/WebSocket 发送、断言、提取器、后置脚本和结果汇总都在这里执行。
+ * 队列有界，积压超过一半时拒绝虚拟用户发出下一个采样，回落到四分之一以下再唤醒它们，
+ * 在途请求的后处理不会被丢弃，也不会无限排队；极端情况下队列写满时由提交线程自己执行。
+ */
+final class PerformanceAsyncWorkerPool extends ThreadPoolExecutor implements PerformanceCorePlanExecutor.AsyncAdmission {
+    private final int admitBelow;
+    private final int resumeAtOrBelow;
+    private final Queue<Runnable> waiters = new ConcurrentLinkedQueue<>();
+
+    PerformanceAsyncWorkerPool(int threads, int queueCapacity) {
+        super(
+                threads,
+                threads,
+                30L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                PerformanceThreadFactory.daemonFactory("PerformanceAsyncWorker"),
+                new CallerRunsPolicy()
+        );
+        allowCoreThreadTimeOut(true);
+        this.admitBelow = Math.max(1, queueCapacity / 2);
+        this.resumeAtOrBelow = queueCapacity / 4;
+    }
+
+    @Override
+    public boolean tryAdmit(Runnable resume) {
+        if (getQueue().size() < admitBelow) {
+            return true;
+        }
+        waiters.add(resume);
+        // 登记期间队列可能已经排空，没有后续任务结束来唤醒，这里补一次
+        if (getQueue().size() <= resumeAtOrBelow) {
+            resumeWaiters();
+        }
+        return false;
+    }
+
+    /**
+     * 当前等待准入的虚拟用户数
+     */
+    int waitingVirtualUsers() {
+        return waiters.size();
+    }
+
+    @Override
+    protected void afterExecute(Runnable task, Throwable throwable) {
+        super.afterExecute(task, throwable);
+        if (!waiters.isEmpty() && getQueue().size() <= resumeAtOrBelow) {
+            resumeWaiters();
+        }
+    }
+
+    /**
+     * 唤醒只是把续跑交给驱动线程，续跑时重新申请准入，名额不够的会再次登记
+     */
+    private void resumeWaiters() {
+        Runnable resume;
+        while ((resume = waiters.poll()) != null) {
+            resume.run();
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.laker.postman.performance.runtime;
 
-import com.laker.postman.performance.core.controller.ConditionData;
+import com.laker.postman.performance.core.controller.CompiledConditionExpression;
 import com.laker.postman.performance.core.controller.ConditionExpressionEvaluator;
-import com.laker.postman.performance.core.controller.WhileData;
 import com.laker.postman.performance.core.plan.PerformanceConditionController;
 import com.laker.postman.performance.core.plan.PerformanceWhileController;
 import com.laker.postman.service.variable.ExecutionContextScope;
 import com.laker.postman.service.variable.ExecutionVariableContext;
 import com.laker.postman.service.variable.VariableResolver;
 
+import java.util.Map;
+
+/**
+ * 条件/While 控制器求值。
+ * <p>
+ * 表达式在构建计划时已编译，这里只负责把变量槽位绑定到当前迭代上下文：
+ * 执行变量和迭代数据（优先级最高的两层）直接从上下文读取，
+ * 只有两层都没有时才打开 {@link ExecutionContextScope} 走完整的 {@link VariableResolver} 链。
+ * </p>
+ */
 final class PerformanceConditionEvaluator {
 
     private PerformanceConditionEvaluator() {
@@ -16,24 +25,21 @@ final class PerformanceConditionEvaluator {
 
     static boolean evaluate(PerformanceConditionController conditionController,
                             ExecutionVariableContext iterationContext) {
-        try (ExecutionContextScope ignored = ExecutionContextScope.open(iterationContext)) {
-            ConditionData conditionData = conditionController.getConditionData();
-            return ConditionExpressionEvaluator.evaluate(
-                    conditionData == null ? null : conditionData.expression,
-                    APP_VARIABLE_LOOKUP
-            );
-        }
+        return evaluate(conditionController.getCompiledExpression(), iterationContext);
     }
 
     static boolean evaluate(PerformanceWhileController whileController,
                             ExecutionVariableContext iterationContext) {
-        try (ExecutionContextScope ignored = ExecutionContextScope.open(iterationContext)) {
-            WhileData whileData = whileController.getWhileData();
-            return ConditionExpressionEvaluator.evaluate(
-                    whileData == null ? null : whileData.expression,
-                    APP_VARIABLE_LOOKUP
-            );
+        return evaluate(whileController.getCompiledExpression(), iterationContext);
+    }
+
+    private static boolean evaluate(CompiledConditionExpression expression, ExecutionVariableContext iterationContext) {
+        if (expression == null) {
+            return false;
         }
+        return expression.evaluate(iterationContext == null
+                ? APP_VARIABLE_LOOKUP
+                : new IterationContextLookup(iterationContext));
     }
 
     private static final ConditionExpressionEvaluator.VariableLookup APP_VARIABLE_LOOKUP =
@@ -48,4 +54,43 @@ final class PerformanceConditionEvaluator {
                     return VariableResolver.isVariableDefined(variableName);
                 }
             };
+
+    private record IterationContextLookup(ExecutionVariableContext context)
+            implements ConditionExpressionEvaluator.VariableLookup {
+
+        @Override
+        public String resolve(String variableName) {
+            if (variableName == null || variableName.isEmpty()) {
+                return null;
+            }
+            String value = valueOf(context.getVariables(), variableName);
+            if (value == null) {
+                value = valueOf(context.getIterationData(), variableName);
+            }
+            if (value != null) {
+                return value;
+            }
+            try (ExecutionContextScope ignored = ExecutionContextScope.open(context)) {
+                return VariableResolver.resolveVariable(variableName);
+            }
+        }
+
+        @Override
+        public boolean isDefined(String variableName) {
+            if (variableName == null || variableName.isEmpty()) {
+                return false;
+            }
+            if (context.getVariables().containsKey(variableName)
+                    || context.getIterationData().containsKey(variableName)) {
+                return true;
+            }
+            try (ExecutionContextScope ignored = ExecutionContextScope.open(context)) {
+                return VariableResolver.isVariableDefined(variableName);
+            }
+        }
+
+        private static String valueOf(Map<String, String> values, String variableName) {
+            return values == null ? null : values.get(variableName);
+        }
+    }
 }
@@ -6,7 +6,10 @@ import com.laker.postman.performance.execution.PerformanceNetworkRuntime;
 import com.laker.postman.performance.execution.PerformanceRequestExecutor;
 import com.laker.postman.http.runtime.okhttp.HttpClientRuntimeConfig;
 import com.laker.postman.performance.result.PerformanceResultCollector;
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
+import com.laker.postman.performance.core.timer.PerformanceTimerStatistics;
 import com.laker.postman.performance.core.plan.PerformanceTestPlan;
 import com.laker.postman.performance.core.runtime.*;
 import com.laker.postman.performance.core.threadgroup.PerformanceRequestEstimate;
@@ -20,10 +23,13 @@ import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 public final class PerformanceExecutionEngine {
+    private static final int ASYNC_WORKER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int ASYNC_WORKER_QUEUE_CAPACITY = ASYNC_WORKER_THREADS * 256;
 
     private final PerformanceNetworkRuntime networkRuntime;
     private final PerformanceCoreExecutionEngine<ExecutionVariableContext> delegate;
     private final PerformanceIterationContextFactory iterationContextFactory;
+    private final PerformancePlanExecutor planExecutor;
     private volatile PerformanceCoreResultSink resultSink = PerformanceCoreResultSink.NOOP;
     private volatile JsScriptExecutor.PooledScriptExecutor runScriptExecutor;
     private volatile boolean preparedPlanUsesScripts = true;
@@ -120,17 +126,24 @@ public final class PerformanceExecutionEngine {
                 resolvedConfig,
                 this.networkRuntime
         );
+        // 异步采样的 SSE/WebSocket 发送和断言、提取器、后置脚本在有界工作线程池上执行，积压时暂停虚拟用户发出新采样
+        PerformanceAsyncWorkerPool asyncWorkers = new PerformanceAsyncWorkerPool(
+                ASYNC_WORKER_THREADS,
+                ASYNC_WORKER_QUEUE_CAPACITY
+        );
         PerformanceSamplerExecutor samplerExecutor = new PerformanceSamplerExecutor(
                 runningSupplier,
                 resolvedConfig::isEfficientMode,
                 requestExecutor,
                 resultCollector,
-                this::currentResultSink
+                this::currentResultSink,
+                () -> virtualUsers.bindCurrentVirtualUser(asyncWorkers)
         );
         this.iterationContextFactory = new PerformanceIterationContextFactory(virtualUsers);
-        PerformancePlanExecutor planExecutor = new PerformancePlanExecutor(
+        this.planExecutor = new PerformancePlanExecutor(
                 () -> runningSupplier.getAsBoolean() && virtualUsers.canStartNextSample(),
-                samplerExecutor
+                samplerExecutor,
+                asyncWorkers
         );
         this.delegate = new PerformanceCoreExecutionEngine<>(
                 runningSupplier,
@@ -154,6 +167,7 @@ public final class PerformanceExecutionEngine {
                 realtimeMetrics,
                 this.iterationContextFactory::create,
                 planExecutor::executeIteration,
+                planExecutor::executeIterationAsync,
                 runListener
         );
     }
@@ -166,6 +180,14 @@ public final class PerformanceExecutionEngine {
         return delegate.sampleWindowPeakActiveThreads();
     }
 
+    public int getParkedThreads() {
+        return delegate.getParkedThreads();
+    }
+
+    public void setVirtualUserScale(double scale) {
+        delegate.setVirtualUserScale(scale);
+    }
+
     public int getActiveWebSockets() {
         return delegate.getActiveWebSockets();
     }
@@ -182,9 +204,17 @@ public final class PerformanceExecutionEngine {
         networkRuntime.beginRun();
         startRunScriptExecutor();
         this.resultSink = resultSink == null ? PerformanceCoreResultSink.NOOP : resultSink;
+        planExecutor.reset();
         delegate.beginRun(startTime, this.resultSink);
     }
 
+    /**
+     * 本轮运行的定时器统计，节奏/吞吐量目标未达成时用于提示
+     */
+    public PerformanceTimerStatistics.Snapshot timerStatistics() {
+        return planExecutor.timerStatistics();
+    }
+
     public long getStartTime() {
         return delegate.getStartTime();
     }
@@ -202,6 +232,14 @@ public final class PerformanceExecutionEngine {
         return delegate.liveRealtimeMetrics(nowMs);
     }
 
+    public PerformanceGeneratorSample generatorSample() {
+        return delegate.generatorSample();
+    }
+
+    public PerformanceGeneratorStatistics.Snapshot generatorStatistics() {
+        return delegate.generatorStatistics();
+    }
+
     public int getTotalThreads(PerformanceTestPlan plan) {
         return delegate.getTotalThreads(plan);
     }
@@ -217,6 +255,7 @@ public final class PerformanceExecutionEngine {
     void prepareRun(PerformanceTestPlan plan) {
         // 纯 HTTP/CSV 压测不需要启动 GraalJS 池，避免首秒被无用初始化拉低。
         preparedPlanUsesScripts = PerformancePlanScriptUsageDetector.usesScripts(plan);
+        networkRuntime.reserveAsyncConcurrency(delegate.getAsyncVirtualUsers(plan));
     }
 
     public void runTestPlan(PerformanceTestPlan plan, int totalThreads) {
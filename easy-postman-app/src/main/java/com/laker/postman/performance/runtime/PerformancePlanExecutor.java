@@ -2,11 +2,16 @@ package com.laker.postman.performance.runtime;
 
 import com.laker.postman.performance.core.plan.PerformanceThreadGroupPlan;
 import com.laker.postman.performance.core.runtime.PerformanceCorePlanExecutor;
+import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
+import com.laker.postman.performance.core.timer.PerformanceTimerStatistics;
+import com.laker.postman.performance.execution.PerformanceHttp2Multiplexing;
 
 
 import com.laker.postman.service.variable.ExecutionVariableContext;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 
 public final class PerformancePlanExecutor {
@@ -17,15 +22,35 @@ public final class PerformancePlanExecutor {
     }
 
     private final PerformanceCorePlanExecutor<ExecutionVariableContext> delegate;
+    private final PerformanceSamplerExecutor samplerExecutor;
+    private final PerformanceCorePlanExecutor.AsyncAdmission asyncAdmission;
 
     public PerformancePlanExecutor(BooleanSupplier runningSupplier,
                                    PerformanceSamplerExecutor samplerExecutor) {
-        this(runningSupplier, samplerExecutor, TimeUnit.MILLISECONDS::sleep);
+        this(runningSupplier, samplerExecutor, PerformanceCorePlanExecutor.AsyncAdmission.ALWAYS);
+    }
+
+    /**
+     * @param asyncAdmission 异步采样发出每个请求前的准入控制，后处理队列积压时让虚拟用户停在采样前
+     */
+    public PerformancePlanExecutor(BooleanSupplier runningSupplier,
+                                   PerformanceSamplerExecutor samplerExecutor,
+                                   PerformanceCorePlanExecutor.AsyncAdmission asyncAdmission) {
+        this(runningSupplier, samplerExecutor, TimeUnit.MILLISECONDS::sleep, asyncAdmission);
     }
 
     public PerformancePlanExecutor(BooleanSupplier runningSupplier,
                                    PerformanceSamplerExecutor samplerExecutor,
                                    TimerSleeper timerSleeper) {
+        this(runningSupplier, samplerExecutor, timerSleeper, PerformanceCorePlanExecutor.AsyncAdmission.ALWAYS);
+    }
+
+    private PerformancePlanExecutor(BooleanSupplier runningSupplier,
+                                    PerformanceSamplerExecutor samplerExecutor,
+                                    TimerSleeper timerSleeper,
+                                    PerformanceCorePlanExecutor.AsyncAdmission asyncAdmission) {
+        this.samplerExecutor = samplerExecutor;
+        this.asyncAdmission = asyncAdmission == null ? PerformanceCorePlanExecutor.AsyncAdmission.ALWAYS : asyncAdmission;
         this.delegate = new PerformanceCorePlanExecutor<>(
                 runningSupplier,
                 samplerExecutor::execute,
@@ -40,6 +65,43 @@ public final class PerformancePlanExecutor {
 
     public void executeIteration(PerformanceThreadGroupPlan groupPlan,
                                  ExecutionVariableContext iterationContext) {
-        delegate.executeIteration(groupPlan, iterationContext);
+        PerformanceHttp2Multiplexing.runIteration(
+                groupPlan == null ? null : groupPlan.getThreadGroupData(),
+                () -> delegate.executeIteration(groupPlan, iterationContext)
+        );
+    }
+
+    /**
+     * 异步执行一次迭代；每段续跑都重新进入线程组的 HTTP/2 多路复用策略，因为续跑可能落在任意驱动线程上。
+     */
+    public CompletableFuture<Void> executeIterationAsync(PerformanceThreadGroupPlan groupPlan,
+                                                         ExecutionVariableContext iterationContext,
+                                                         PerformanceCorePlanExecutor.ContinuationScheduler scheduler) {
+        ThreadGroupData threadGroupData = groupPlan == null ? null : groupPlan.getThreadGroupData();
+        PerformanceCorePlanExecutor.ContinuationScheduler multiplexingScheduler = (continuation, delayMs) ->
+                scheduler.schedule(
+                        () -> PerformanceHttp2Multiplexing.runIteration(threadGroupData, continuation),
+                        delayMs
+                );
+        AtomicReference<CompletableFuture<Void>> iteration = new AtomicReference<>();
+        PerformanceHttp2Multiplexing.runIteration(
+                threadGroupData,
+                () -> iteration.set(delegate.executeIterationAsync(
+                        groupPlan,
+                        iterationContext,
+                        samplerExecutor::executeAsync,
+                        multiplexingScheduler,
+                        asyncAdmission
+                ))
+        );
+        return iteration.get();
+    }
+
+    public void reset() {
+        delegate.reset();
+    }
+
+    public PerformanceTimerStatistics.Snapshot timerStatistics() {
+        return delegate.getTimerStatistics().snapshot();
     }
 }
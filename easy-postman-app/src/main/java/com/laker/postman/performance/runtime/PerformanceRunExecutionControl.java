@@ -1,17 +1,20 @@
 package com.laker.postman.performance.runtime;
 
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.model.PerformanceStatsCollector;
 import com.laker.postman.performance.core.model.PerformanceStatsProgressSnapshot;
 import com.laker.postman.performance.core.model.PerformanceStatsSnapshot;
 import com.laker.postman.performance.core.model.PerformanceTrendSnapshot;
 import com.laker.postman.performance.core.runtime.PerformanceRunHandle;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdResult;
 import com.laker.postman.performance.core.worker.PerformanceWorkerResultDetail;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.DoubleConsumer;
 import java.util.function.IntSupplier;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -32,6 +35,12 @@ public class PerformanceRunExecutionControl {
             new AtomicReference<>(nowMs -> PerformanceTrendSnapshot.terminalIdle());
     private final AtomicReference<IntSupplier> activeWebSocketConnectionsSupplier = new AtomicReference<>(() -> 0);
     private final AtomicReference<IntSupplier> activeSseStreamsSupplier = new AtomicReference<>(() -> 0);
+    private final AtomicReference<DoubleConsumer> virtualUserScaleConsumer = new AtomicReference<>(scale -> {
+    });
+    private final AtomicReference<IntSupplier> parkedUsersSupplier = new AtomicReference<>(() -> 0);
+    private final AtomicReference<Supplier<PerformanceGeneratorStatistics.Snapshot>> generatorStatisticsSupplier =
+            new AtomicReference<>(PerformanceGeneratorStatistics.Snapshot::empty);
+    private volatile double virtualUserScale = 1D;
 
     public boolean isRunning() {
         return running.get();
@@ -71,6 +80,35 @@ public class PerformanceRunExecutionControl {
         trendSnapshotSupplier.set(supplier == null ? nowMs -> PerformanceTrendSnapshot.terminalIdle() : supplier);
     }
 
+    public void bindGeneratorStatistics(Supplier<PerformanceGeneratorStatistics.Snapshot> supplier) {
+        generatorStatisticsSupplier.set(supplier == null ? PerformanceGeneratorStatistics.Snapshot::empty : supplier);
+    }
+
+    /**
+     * 绑定备用用户比例的下发入口；绑定前收到的比例立即补发，避免 master 的调整落在启动间隙里丢失。
+     */
+    public void bindVirtualUserScaling(DoubleConsumer scaleConsumer, IntSupplier parkedUsersSupplier) {
+        DoubleConsumer consumer = scaleConsumer == null ? scale -> {
+        } : scaleConsumer;
+        this.virtualUserScaleConsumer.set(consumer);
+        this.parkedUsersSupplier.set(parkedUsersSupplier == null ? () -> 0 : parkedUsersSupplier);
+        consumer.accept(virtualUserScale);
+    }
+
+    public void setVirtualUserScale(double scale) {
+        virtualUserScale = Double.isFinite(scale) ? Math.max(0D, scale) : 1D;
+        virtualUserScaleConsumer.get().accept(virtualUserScale);
+    }
+
+    public double getVirtualUserScale() {
+        return virtualUserScale;
+    }
+
+    public int getParkedUsers() {
+        IntSupplier supplier = parkedUsersSupplier.get();
+        return Math.max(0, supplier == null ? 0 : supplier.getAsInt());
+    }
+
     public void recordProgress(int activeUsers, int totalUsers) {
         this.activeUsers.set(Math.max(0, activeUsers));
         this.totalUsers.set(Math.max(0, totalUsers));
@@ -94,6 +132,22 @@ public class PerformanceRunExecutionControl {
         return collector == null ? PerformanceStatsProgressSnapshot.empty() : collector.progressSnapshot();
     }
 
+    /**
+     * 运行中的阈值判定结果，worker 实时报告用；未配置阈值时为空列表。
+     */
+    public List<PerformanceThresholdResult> thresholdResults() {
+        PerformanceStatsCollector collector = statsCollector.get();
+        return collector == null ? List.of() : collector.thresholds().results();
+    }
+
+    /**
+     * abortOnFail 阈值越线的说明，未触发或未配置阈值时为空字符串。
+     */
+    public String thresholdAbortReason() {
+        PerformanceStatsCollector collector = statsCollector.get();
+        return collector == null ? "" : collector.thresholds().abortReason();
+    }
+
     public PerformanceRealtimeMetrics.LiveSnapshot liveRealtimeMetrics(long nowMs) {
         LongFunction<PerformanceRealtimeMetrics.LiveSnapshot> supplier = liveMetricsSupplier.get();
         PerformanceRealtimeMetrics.LiveSnapshot snapshot = supplier == null ? null : supplier.apply(nowMs);
@@ -106,6 +160,12 @@ public class PerformanceRunExecutionControl {
         return snapshot == null ? PerformanceTrendSnapshot.terminalIdle() : snapshot;
     }
 
+    public PerformanceGeneratorStatistics.Snapshot generatorStatistics() {
+        Supplier<PerformanceGeneratorStatistics.Snapshot> supplier = generatorStatisticsSupplier.get();
+        PerformanceGeneratorStatistics.Snapshot snapshot = supplier == null ? null : supplier.get();
+        return snapshot == null ? PerformanceGeneratorStatistics.Snapshot.empty() : snapshot;
+    }
+
     public int getActiveWebSocketConnections() {
         IntSupplier supplier = activeWebSocketConnectionsSupplier.get();
         return Math.max(0, supplier == null ? 0 : supplier.getAsInt());
@@ -129,4 +189,11 @@ public class PerformanceRunExecutionControl {
             runHandle.stop();
         }
     }
+
+    /**
+     * 平滑停止：只撤下运行标记，虚拟用户跑完当前请求后退出，不中断线程也不取消在途网络调用。
+     */
+    public void abort() {
+        running.set(false);
+    }
 }
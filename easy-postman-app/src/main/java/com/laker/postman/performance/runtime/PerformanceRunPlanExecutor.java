@@ -1,8 +1,10 @@
 package com.laker.postman.performance.runtime;
 
 import com.laker.postman.http.runtime.okhttp.HttpClientRuntimeConfig;
+import com.laker.postman.http.runtime.okhttp.HttpDnsSettings;
 import com.laker.postman.model.Environment;
 import com.laker.postman.model.Variable;
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
 import com.laker.postman.performance.core.model.PerformanceStatsCollector;
 import com.laker.postman.performance.core.model.PerformanceStatsSnapshot;
 import com.laker.postman.performance.core.model.PerformanceReportSnapshot;
@@ -12,6 +14,10 @@ import com.laker.postman.performance.core.plan.PerformanceTestPlan;
 import com.laker.postman.performance.core.report.*;
 import com.laker.postman.performance.core.run.*;
 import com.laker.postman.performance.core.runtime.*;
+import com.laker.postman.performance.core.threshold.PerformanceThreshold;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdEvaluator;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdResult;
+import com.laker.postman.performance.core.threshold.PerformanceThroughputThresholdEvaluator;
 import com.laker.postman.performance.core.worker.PerformanceWorkerAssignment;
 import com.laker.postman.performance.core.worker.PerformanceWorkerExecutionPlanPartitioner;
 import com.laker.postman.performance.execution.PerformanceExecutionConfig;
@@ -36,6 +42,7 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public class PerformanceRunPlanExecutor {
     private static final long LIVE_REPORT_INTERVAL_MS = 1_000L;
+    private static final long THRESHOLD_TICK_MS = 1_000L;
 
     public PerformanceRunExecutionResult execute(Path planPath, PrintStream scriptOutput) throws Exception {
         return execute(planPath, scriptOutput, PerformanceRunReportListener.NOOP);
@@ -101,14 +108,16 @@ public class PerformanceRunPlanExecutor {
                                                             PerformanceRunExecutionControl control,
                                                             PerformanceRunReportListener reportListener) throws InterruptedException {
         PerformanceTestPlan corePlan = PerformanceCorePlanDocumentCompiler.compile(runPlan.getTestPlan());
+        List<PerformanceThreshold> thresholds = runPlan.getThresholds();
         if (assignment != null) {
             corePlan = new PerformanceWorkerExecutionPlanPartitioner().apply(corePlan, assignment);
+            thresholds = workerThresholds(thresholds);
         }
         // headless 先复用 app 现有执行链，所有变量、脚本、断言和协议行为与 GUI 本机执行保持同源。
         PerformanceTestPlan appExecutablePlan = PerformanceCorePlanAdapter.toExecutablePlan(corePlan);
 
         AtomicBoolean running = new AtomicBoolean(false);
-        PerformanceStatsCollector statsCollector = new PerformanceStatsCollector();
+        PerformanceStatsCollector statsCollector = new PerformanceStatsCollector(thresholds);
         PerformanceTrendWindowCollector trendWindowCollector = new PerformanceTrendWindowCollector();
         PerformanceRunDetailCollector detailCollector = new PerformanceRunDetailCollector(
                 SettingManager::getPerformanceSlowRequestThreshold,
@@ -164,10 +173,13 @@ public class PerformanceRunPlanExecutor {
                 executionEngine::getActiveSseStreams,
                 () -> 1_000L,
                 executionEngine::drainRealtimeMetricsWindow,
-                executionEngine::liveRealtimeMetrics
+                executionEngine::liveRealtimeMetrics,
+                executionEngine::generatorSample
         );
         metricsSnapshotService.resetTrendWindow(System.currentTimeMillis());
         control.bindTrendSnapshotSupplier(metricsSnapshotService::drainTrendWindowSnapshot);
+        control.bindVirtualUserScaling(executionEngine::setVirtualUserScale, executionEngine::getParkedThreads);
+        control.bindGeneratorStatistics(executionEngine::generatorStatistics);
         control.recordProgress(0, executionEngine.getTotalThreads(appExecutablePlan));
         PerformanceRunSession runSession = new PerformanceRunSession(
                 () -> running.get() && control.isRunning(),
@@ -187,6 +199,7 @@ public class PerformanceRunPlanExecutor {
             throw new IllegalStateException("Performance run did not start");
         }
         long liveReportStartTimeMs = System.currentTimeMillis();
+        ScheduledExecutorService thresholdExecutor = startThresholdTicker(statsCollector.thresholds(), control);
         ScheduledExecutorService reportExecutor = startLiveReportPublisher(
                 reportListener,
                 planPath,
@@ -197,12 +210,52 @@ public class PerformanceRunPlanExecutor {
         try {
             runThread.join();
         } finally {
-            stopLiveReportPublisher(reportExecutor);
+            stopScheduledExecutor(reportExecutor);
+            stopScheduledExecutor(thresholdExecutor);
         }
         PerformanceStatsSnapshot stats = statsCollector.snapshot();
+        List<PerformanceThresholdResult> thresholdResults = statsCollector.thresholds()
+                .finish(System.currentTimeMillis());
         PerformanceRunSummary summary = summaryRef.get();
         PerformanceRunError runError = errorRef.get();
-        return toResult(planPath, stats, summary, runError);
+        return toResult(planPath, stats, summary, runError, executionEngine.generatorStatistics(),
+                thresholdResults, statsCollector.thresholds().abortReason());
+    }
+
+    /**
+     * 分布式 worker 只判定延迟和错误率这类与规模无关的阈值。本机份额含备用用户且会被 master 在运行中调整，
+     * 按份额折算的 RPS 下限并不可靠，吞吐下限由 master 按所有 worker 的整体吞吐判定。
+     */
+    private List<PerformanceThreshold> workerThresholds(List<PerformanceThreshold> thresholds) {
+        return thresholds.stream()
+                .filter(threshold -> !PerformanceThroughputThresholdEvaluator.isThroughput(threshold))
+                .toList();
+    }
+
+    /**
+     * 每秒滚动一次阈值窗口；abortOnFail 的阈值越线后平滑停止：不再开始新的迭代，进行中的请求自然结束。
+     */
+    private ScheduledExecutorService startThresholdTicker(PerformanceThresholdEvaluator evaluator,
+                                                          PerformanceRunExecutionControl control) {
+        if (evaluator.isEmpty()) {
+            return null;
+        }
+        evaluator.start(System.currentTimeMillis());
+        ScheduledExecutorService executor = java.util.concurrent.Executors.newSingleThreadScheduledExecutor(
+                PerformanceThreadFactory.daemonFactory("PerformanceThresholds")
+        );
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                evaluator.evaluate(System.currentTimeMillis());
+                if (evaluator.isAbortRequested() && control.isRunning()) {
+                    log.warn("Stopping performance run: {}", evaluator.abortReason());
+                    control.abort();
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to evaluate performance thresholds", ex);
+            }
+        }, THRESHOLD_TICK_MS, THRESHOLD_TICK_MS, TimeUnit.MILLISECONDS);
+        return executor;
     }
 
     private ScheduledExecutorService startLiveReportPublisher(PerformanceRunReportListener reportListener,
@@ -245,7 +298,7 @@ public class PerformanceRunPlanExecutor {
                         statsCollector.snapshot(),
                         executionEngine.liveRealtimeMetrics(now)
                 )
-        );
+        ).withGenerator(PerformanceJsonReportMapper.toGenerator(executionEngine.generatorStatistics()));
         try {
             reportListener.onReport(report);
         } catch (RuntimeException ex) {
@@ -253,7 +306,7 @@ public class PerformanceRunPlanExecutor {
         }
     }
 
-    private void stopLiveReportPublisher(ScheduledExecutorService executor) {
+    private void stopScheduledExecutor(ScheduledExecutorService executor) {
         if (executor == null) {
             return;
         }
@@ -291,14 +344,22 @@ public class PerformanceRunPlanExecutor {
                 safeSettings.getHttpMaxIdleConnections(),
                 safeSettings.getHttpKeepAliveSeconds(),
                 safeSettings.getHttpMaxRequests(),
-                safeSettings.getHttpMaxRequestsPerHost()
+                safeSettings.getHttpMaxRequestsPerHost(),
+                HttpDnsSettings.of(
+                        safeSettings.getHttpDnsMode(),
+                        safeSettings.getHttpDnsCacheTtlSeconds(),
+                        safeSettings.getHttpDnsHostOverrides()
+                )
         );
     }
 
     private PerformanceRunExecutionResult toResult(String planPath,
                                                    PerformanceStatsSnapshot stats,
                                                    PerformanceRunSummary summary,
-                                                   PerformanceRunError runError) {
+                                                   PerformanceRunError runError,
+                                                   PerformanceGeneratorStatistics.Snapshot generatorStatistics,
+                                                   List<PerformanceThresholdResult> thresholdResults,
+                                                   String thresholdAbortReason) {
         long totalRequests = stats == null ? 0L : stats.totalRequests();
         long successRequests = stats == null ? 0L : stats.successRequests();
         long failedRequests = Math.max(0L, totalRequests - successRequests);
@@ -307,6 +368,10 @@ public class PerformanceRunPlanExecutor {
         if ((errorMessage == null || errorMessage.isBlank()) && summaryError != null) {
             errorMessage = summaryError.getMessage();
         }
+        if ((errorMessage == null || errorMessage.isBlank()) && !thresholdAbortReason.isEmpty()) {
+            errorMessage = thresholdAbortReason;
+        }
+        List<PerformanceJsonReportThreshold> thresholds = PerformanceJsonReportMapper.toThresholds(thresholdResults);
         PerformanceJsonReportSummary reportSummary = PerformanceJsonReportSummary.builder()
                 .totalRequests(totalRequests)
                 .successRequests(successRequests)
@@ -318,7 +383,8 @@ public class PerformanceRunPlanExecutor {
                 PerformanceRunExecutionResult.STATUS_SUCCESS,
                 stopped,
                 errorMessage,
-                reportSummary
+                reportSummary,
+                thresholds
         );
         PerformanceJsonReport report = PerformanceJsonReportMapper.fromStatsSnapshot(
                 PerformanceJsonReportMetadata.builder()
@@ -332,7 +398,8 @@ public class PerformanceRunPlanExecutor {
                         .error(errorMessage)
                         .build(),
                 stats
-        );
+        ).withGenerator(PerformanceJsonReportMapper.toGenerator(generatorStatistics))
+                .withThresholds(thresholds);
         return PerformanceRunExecutionResult.builder()
                 .status(status)
                 .planPath(planPath)
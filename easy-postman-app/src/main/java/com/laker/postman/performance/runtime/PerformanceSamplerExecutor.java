@@ -11,6 +11,8 @@ import com.laker.postman.performance.result.PerformanceResultCollector;
 import com.laker.postman.service.variable.ExecutionVariableContext;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
@@ -22,6 +24,7 @@ public final class PerformanceSamplerExecutor {
     private final PerformanceRequestExecutor requestExecutor;
     private final PerformanceResultCollector resultCollector;
     private final Supplier<PerformanceCoreResultSink> resultSinkSupplier;
+    private final Supplier<Executor> workerExecutorSupplier;
 
     public PerformanceSamplerExecutor(BooleanSupplier runningSupplier,
                                       BooleanSupplier efficientModeSupplier,
@@ -41,6 +44,19 @@ public final class PerformanceSamplerExecutor {
                                       PerformanceRequestExecutor requestExecutor,
                                       PerformanceResultCollector resultCollector,
                                       Supplier<PerformanceCoreResultSink> resultSinkSupplier) {
+        this(runningSupplier, efficientModeSupplier, requestExecutor, resultCollector, resultSinkSupplier, null);
+    }
+
+    /**
+     * @param workerExecutorSupplier 异步采样的后处理执行器，在发起请求的线程上获取，
+     *                               便于绑定当前虚拟用户；为空时在调用线程上同步执行
+     */
+    public PerformanceSamplerExecutor(BooleanSupplier runningSupplier,
+                                      BooleanSupplier efficientModeSupplier,
+                                      PerformanceRequestExecutor requestExecutor,
+                                      PerformanceResultCollector resultCollector,
+                                      Supplier<PerformanceCoreResultSink> resultSinkSupplier,
+                                      Supplier<Executor> workerExecutorSupplier) {
         this.runningSupplier = runningSupplier == null ? () -> false : runningSupplier;
         this.efficientModeSupplier = efficientModeSupplier == null ? () -> false : efficientModeSupplier;
         this.requestExecutor = requestExecutor;
@@ -48,6 +64,7 @@ public final class PerformanceSamplerExecutor {
                 ? new PerformanceResultCollector(PerformanceResultSink.NOOP)
                 : resultCollector;
         this.resultSinkSupplier = resultSinkSupplier == null ? () -> PerformanceCoreResultSink.NOOP : resultSinkSupplier;
+        this.workerExecutorSupplier = workerExecutorSupplier == null ? () -> Runnable::run : workerExecutorSupplier;
     }
 
     PerformanceRequestExecutionResult execute(PerformanceSampler sampler,
@@ -74,6 +91,31 @@ public final class PerformanceSamplerExecutor {
         return executionResult;
     }
 
+    CompletableFuture<PerformanceRequestExecutionResult> executeAsync(PerformanceSampler sampler,
+                                                                      ExecutionVariableContext iterationContext) {
+        if (!runningSupplier.getAsBoolean() || sampler == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!(sampler instanceof PerformanceRequestSampler requestSampler)) {
+            log.debug("Unsupported performance sampler type: {}", sampler.getClass().getName());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 结果汇总目标在发起时确定，响应回来时本轮可能已经结束
+        PerformanceCoreResultSink resultSink = currentResultSink();
+        return requestExecutor.executeAsync(requestSampler, iterationContext, workerExecutorSupplier.get())
+                .thenApply(executionResult -> {
+                    if (executionResult == null) {
+                        return null;
+                    }
+                    resultCollector.collect(executionResult, efficientModeSupplier.getAsBoolean(), resultSink);
+                    if (executionResult.interrupted) {
+                        log.debug("请求在停止时被中断: {}", requestSampler.getName());
+                    }
+                    return executionResult;
+                });
+    }
+
     private PerformanceCoreResultSink currentResultSink() {
         PerformanceCoreResultSink sink = resultSinkSupplier.get();
         return sink == null ? PerformanceCoreResultSink.NOOP : sink;
@@ -30,6 +30,7 @@ public final class PerformanceThreadGroupRunner {
                 virtualUsers,
                 iterationContextFactory == null ? null : iterationContextFactory::create,
                 planExecutor == null ? null : planExecutor::executeIteration,
+                planExecutor == null ? null : planExecutor::executeIterationAsync,
                 () -> listenerSink(runListener)
         );
     }
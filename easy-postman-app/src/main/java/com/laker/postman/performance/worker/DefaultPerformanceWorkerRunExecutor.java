@@ -54,7 +54,8 @@ public class DefaultPerformanceWorkerRunExecutor implements PerformanceWorkerRun
                 metadata.getStatus(),
                 metadata.isStopped(),
                 error,
-                report.getSummary()
+                report.getSummary(),
+                report.getThresholds()
         );
         return PerformanceJsonReport.builder()
                 .metadata(PerformanceJsonReportMetadata.builder()
@@ -70,6 +71,8 @@ public class DefaultPerformanceWorkerRunExecutor implements PerformanceWorkerRun
                         .build())
                 .summary(report.getSummary())
                 .protocols(report.getProtocols())
+                .generator(report.getGenerator())
+                .thresholds(report.getThresholds())
                 .build();
     }
 
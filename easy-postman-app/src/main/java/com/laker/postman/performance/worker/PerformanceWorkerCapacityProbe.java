@@ -0,0 +1,43 @@
+package com.laker.postman.performance.worker;
+
+import com.laker.postman.performance.core.worker.PerformanceWorkerCapacity;
+import lombok.experimental.UtilityClass;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+@UtilityClass
+public class PerformanceWorkerCapacityProbe {
+    private static final OperatingSystemMXBean OS_BEAN = ManagementFactory.getOperatingSystemMXBean();
+
+    /**
+     * 读取本机核数、JVM 最大堆和当前 CPU 负载；非 HotSpot 平台拿不到 CPU 负载时上报 -1。
+     */
+    public PerformanceWorkerCapacity capacity() {
+        return PerformanceWorkerCapacity.builder()
+                .availableProcessors(Runtime.getRuntime().availableProcessors())
+                .maxMemoryBytes(Runtime.getRuntime().maxMemory())
+                .processCpuLoad(processCpuLoad())
+                .systemCpuLoad(systemCpuLoad())
+                .build();
+    }
+
+    public double generatorCpuLoad() {
+        double load = processCpuLoad();
+        return load >= 0 ? load : systemCpuLoad();
+    }
+
+    private double processCpuLoad() {
+        if (OS_BEAN instanceof com.sun.management.OperatingSystemMXBean bean) {
+            return bean.getProcessCpuLoad();
+        }
+        return PerformanceWorkerCapacity.UNKNOWN_LOAD;
+    }
+
+    private double systemCpuLoad() {
+        if (OS_BEAN instanceof com.sun.management.OperatingSystemMXBean bean) {
+            return bean.getCpuLoad();
+        }
+        return PerformanceWorkerCapacity.UNKNOWN_LOAD;
+    }
+}
@@ -3,6 +3,7 @@ package com.laker.postman.performance.worker;
 import com.laker.postman.performance.core.report.PerformanceJsonReportSummary;
 import com.laker.postman.performance.core.worker.PerformanceWorkerAssignment;
 import com.laker.postman.performance.core.worker.PerformanceWorkerThreadGroupAssignment;
+import com.laker.postman.performance.mock.PerformanceMockCommand;
 import com.laker.postman.startup.HeadlessStartupBootstrap;
 
 import java.io.PrintStream;
@@ -25,6 +26,9 @@ public class PerformanceWorkerCommand {
             )) {
                 server.start();
                 out.printf("Performance worker listening on %s:%d%n", options.getHost(), server.getPort());
+                if (server.getMockServer() != null) {
+                    out.println(PerformanceMockCommand.describe(server.getMockServer()));
+                }
                 out.flush();
                 server.awaitShutdown();
             }
@@ -41,7 +45,10 @@ public class PerformanceWorkerCommand {
 
     private static void printUsage(PrintStream out) {
         out.println("Usage: performance worker [--host <host>] [--port <port>] "
-                + "[--progress-interval <seconds>] [--no-progress]");
+                + "[--progress-interval <seconds>] [--no-progress] "
+                + "[--mock-workspace <workspace-dir> [--mock-host <host>] [--mock-port <port>] "
+                + "[--mock-match-query <names>] [--mock-match-header <names>] [--mock-match-body] "
+                + "[--mock-latency <spec>] [--mock-error-rate <rate>] [--mock-error-status <status>]]");
     }
 
     private static PerformanceWorkerServerListener consoleListener(PrintStream out) {
@@ -1,13 +1,19 @@
 package com.laker.postman.performance.worker;
 
+import com.laker.postman.performance.mock.PerformanceMockCommandLine;
+import com.laker.postman.performance.mock.PerformanceMockOptions;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class PerformanceWorkerCommandLine {
+    private static final String MOCK_OPTION_PREFIX = "--mock-";
 
     public PerformanceWorkerOptions parse(String[] args) {
         PerformanceWorkerOptions.PerformanceWorkerOptionsBuilder builder = PerformanceWorkerOptions.builder();
         String[] safeArgs = args == null ? new String[0] : args;
+        PerformanceMockOptions.PerformanceMockOptionsBuilder mockBuilder = null;
+        String host = null;
+        boolean mockHostSet = false;
         for (int i = 2; i < safeArgs.length; i++) {
             String arg = safeArgs[i];
             if ("--help".equals(arg) || "-h".equals(arg)) {
@@ -15,7 +21,8 @@ public class PerformanceWorkerCommandLine {
                 continue;
             }
             if ("--host".equals(arg)) {
-                builder.host(requiredValue(safeArgs, ++i, "--host"));
+                host = requiredValue(safeArgs, ++i, "--host");
+                builder.host(host);
                 continue;
             }
             if ("--port".equals(arg)) {
@@ -34,8 +41,30 @@ public class PerformanceWorkerCommandLine {
                 builder.progressIntervalMs(0L);
                 continue;
             }
+            if (arg != null && arg.startsWith(MOCK_OPTION_PREFIX)) {
+                if (mockBuilder == null) {
+                    mockBuilder = PerformanceMockOptions.builder();
+                }
+                int next = PerformanceMockCommandLine.parseOption(mockBuilder, safeArgs, i, MOCK_OPTION_PREFIX);
+                if (next >= 0) {
+                    mockHostSet |= (MOCK_OPTION_PREFIX + "host").equals(arg);
+                    i = next;
+                    continue;
+                }
+            }
             throw new IllegalArgumentException("Unknown option: " + arg);
         }
+        if (mockBuilder != null) {
+            if (!mockHostSet) {
+                // 远端压测机要访问 worker 上的 Mock，默认和 worker 监听同一地址
+                mockBuilder.host(host == null ? PerformanceWorkerOptions.DEFAULT_HOST : host);
+            }
+            PerformanceMockOptions mock = mockBuilder.build();
+            if (mock.getWorkspace().isBlank()) {
+                throw new IllegalArgumentException("--mock-workspace is required when mock options are set");
+            }
+            builder.mock(mock);
+        }
         return builder.build();
     }
 
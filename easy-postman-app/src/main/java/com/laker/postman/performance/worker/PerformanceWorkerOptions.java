@@ -1,5 +1,6 @@
 package com.laker.postman.performance.worker;
 
+import com.laker.postman.performance.mock.PerformanceMockOptions;
 import lombok.Builder;
 import lombok.Value;
 
@@ -15,13 +16,18 @@ public class PerformanceWorkerOptions {
     int port;
     long completedRunRetentionMs;
     long progressIntervalMs;
+    /**
+     * 随 worker 一起启动的 Mock 服务，null 表示不启动
+     */
+    PerformanceMockOptions mock;
 
     @Builder
     public PerformanceWorkerOptions(Boolean help,
                                     String host,
                                     Integer port,
                                     Long completedRunRetentionMs,
-                                    Long progressIntervalMs) {
+                                    Long progressIntervalMs,
+                                    PerformanceMockOptions mock) {
         this.help = help != null && help;
         this.host = host == null || host.isBlank() ? DEFAULT_HOST : host;
         this.port = port == null ? DEFAULT_PORT : port;
@@ -31,5 +37,6 @@ public class PerformanceWorkerOptions {
         this.progressIntervalMs = progressIntervalMs == null
                 ? DEFAULT_PROGRESS_INTERVAL_MS
                 : Math.max(0L, progressIntervalMs);
+        this.mock = mock;
     }
 }
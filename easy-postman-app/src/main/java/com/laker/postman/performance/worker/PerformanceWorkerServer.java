@@ -16,12 +16,18 @@ import com.laker.postman.performance.core.worker.PerformanceWorkerAssignment;
 import com.laker.postman.performance.core.worker.PerformanceWorkerHealthResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerProtocol;
 import com.laker.postman.performance.core.worker.PerformanceWorkerProtocolJsonStorage;
+import com.laker.postman.performance.core.worker.PerformanceWorkerRebalanceRequest;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunAcceptedResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunDetailsResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunRequest;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunResultResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse;
+import com.laker.postman.performance.core.worker.PerformanceWorkerThreadGroupAssignment;
+import com.laker.postman.performance.mock.PerformanceMockOptions;
+import com.laker.postman.performance.mock.PerformanceMockRouteLoader;
+import com.laker.postman.performance.mock.PerformanceMockServer;
 import com.laker.postman.performance.runtime.PerformanceRunExecutionControl;
+import com.laker.postman.util.JsonUtil;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +36,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -58,6 +65,7 @@ public class PerformanceWorkerServer implements AutoCloseable {
     private ScheduledExecutorService progressExecutor;
     private ScheduledFuture<?> progressTask;
     private HttpServer httpServer;
+    private volatile PerformanceMockServer mockServer;
     private volatile int port;
 
     public PerformanceWorkerServer(PerformanceWorkerOptions options) {
@@ -80,6 +88,7 @@ public class PerformanceWorkerServer implements AutoCloseable {
         if (running.get()) {
             return;
         }
+        PerformanceMockServer mock = createMockServer(options.getMock());
         requestExecutor = Executors.newCachedThreadPool(
                 PerformanceThreadFactory.daemonFactory("PerformanceWorkerHttp")
         );
@@ -89,13 +98,36 @@ public class PerformanceWorkerServer implements AutoCloseable {
         httpServer = HttpServer.create(new InetSocketAddress(options.getHost(), options.getPort()), 0);
         httpServer.createContext(PerformanceWorkerApiPaths.HEALTH, this::handleHealth);
         httpServer.createContext(PerformanceWorkerApiPaths.RUNS, this::handleRuns);
+        httpServer.createContext(PerformanceWorkerApiPaths.MOCK, this::handleMock);
         httpServer.setExecutor(requestExecutor);
         httpServer.start();
         port = httpServer.getAddress().getPort();
         running.set(true);
+        if (mock != null) {
+            try {
+                mock.start();
+            } catch (IOException | RuntimeException ex) {
+                stop();
+                throw ex;
+            }
+            mockServer = mock;
+        }
         startProgressReporter();
     }
 
+    /**
+     * 录制响应在启动前加载，工作区有问题时 worker 直接启动失败
+     */
+    private static PerformanceMockServer createMockServer(PerformanceMockOptions mockOptions) {
+        if (mockOptions == null) {
+            return null;
+        }
+        return new PerformanceMockServer(
+                mockOptions,
+                PerformanceMockRouteLoader.fromWorkspace(Path.of(mockOptions.getWorkspace()))
+        );
+    }
+
     public void stop() {
         HttpServer server = httpServer;
         httpServer = null;
@@ -107,6 +139,11 @@ public class PerformanceWorkerServer implements AutoCloseable {
             runExecutorService = null;
         }
         stopProgressReporter();
+        PerformanceMockServer mock = mockServer;
+        mockServer = null;
+        if (mock != null) {
+            mock.stop();
+        }
         if (requestExecutor != null) {
             requestExecutor.shutdownNow();
             requestExecutor = null;
@@ -131,6 +168,13 @@ public class PerformanceWorkerServer implements AutoCloseable {
         return port == 0 ? options.getPort() : port;
     }
 
+    /**
+     * @return 随 worker 启动的 Mock 服务，没有配置时为 null
+     */
+    public PerformanceMockServer getMockServer() {
+        return mockServer;
+    }
+
     @Override
     public void close() {
         stop();
@@ -148,9 +192,23 @@ public class PerformanceWorkerServer implements AutoCloseable {
                 .host(options.getHost())
                 .port(getPort())
                 .workerProtocolVersion(PerformanceWorkerProtocol.CURRENT_VERSION)
+                .capacity(PerformanceWorkerCapacityProbe.capacity())
                 .build()));
     }
 
+    private void handleMock(HttpExchange exchange) throws IOException {
+        if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+            write(exchange, 405, error("Method not allowed"));
+            return;
+        }
+        PerformanceMockServer mock = mockServer;
+        if (mock == null) {
+            write(exchange, 404, error("Mock server is not enabled"));
+            return;
+        }
+        write(exchange, 200, JsonUtil.toJsonStr(mock.stats()));
+    }
+
     private void handleRuns(HttpExchange exchange) throws IOException {
         String path = exchange.getRequestURI().getPath();
         if (PerformanceWorkerApiPaths.RUNS.equals(path) && "POST".equalsIgnoreCase(exchange.getRequestMethod())) {
@@ -173,8 +231,16 @@ public class PerformanceWorkerServer implements AutoCloseable {
                 handleRunDetails(exchange, runId);
                 return;
             }
+            if (parts.length == 3 && "rebalance".equals(parts[2]) && "POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                handleRunRebalance(exchange, runId);
+                return;
+            }
             if (parts.length == 3 && "stop".equals(parts[2]) && "POST".equalsIgnoreCase(exchange.getRequestMethod())) {
-                handleRunStop(exchange, runId);
+                handleRunStop(exchange, runId, false);
+                return;
+            }
+            if (parts.length == 3 && "abort".equals(parts[2]) && "POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                handleRunStop(exchange, runId, true);
                 return;
             }
         }
@@ -216,7 +282,7 @@ public class PerformanceWorkerServer implements AutoCloseable {
                 state = null;
             } else {
                 runId = resolveRunId(request);
-                state = new WorkerRunState(workerId());
+                state = new WorkerRunState(workerId(), standbyUsers(request.getAssignment()));
                 runs.put(runId, state);
             }
         }
@@ -335,7 +401,10 @@ public class PerformanceWorkerServer implements AutoCloseable {
                 .build()));
     }
 
-    private void handleRunStop(HttpExchange exchange, String runId) throws IOException {
+    /**
+     * @param graceful true 时只撤下运行标记，进行中的请求自然结束；master 在阈值中止时用它停掉其它 worker
+     */
+    private void handleRunStop(HttpExchange exchange, String runId, boolean graceful) throws IOException {
         pruneCompletedRuns();
         WorkerRunState state = runs.get(runId);
         if (state == null) {
@@ -343,13 +412,36 @@ public class PerformanceWorkerServer implements AutoCloseable {
             return;
         }
         state.stopRequested = true;
-        state.control.stop();
+        if (graceful) {
+            state.control.abort();
+        } else {
+            state.control.stop();
+        }
         if (state.isActive()) {
             state.status = PerformanceRunStatus.STOPPING;
         }
         write(exchange, 200, jsonStorage.toJson(statusResponse(runId, state, false)));
     }
 
+    private void handleRunRebalance(HttpExchange exchange, String runId) throws IOException {
+        pruneCompletedRuns();
+        WorkerRunState state = runs.get(runId);
+        if (state == null) {
+            write(exchange, 404, error("Run not found: " + runId));
+            return;
+        }
+        PerformanceWorkerRebalanceRequest request;
+        try {
+            request = jsonStorage.rebalanceRequestFromJson(readBody(exchange));
+        } catch (RuntimeException ex) {
+            write(exchange, 400, error("Invalid rebalance request: " + ex.getMessage()));
+            return;
+        }
+        // 只调整带备用用户的线程组；比例超过备用用户能承担的部分由闸门自然截断。
+        state.control.setVirtualUserScale(request.getVirtualUserScale());
+        write(exchange, 200, jsonStorage.toJson(statusResponse(runId, state, false)));
+    }
+
     private void pruneCompletedRuns() {
         long cutoff = System.currentTimeMillis() - options.getCompletedRunRetentionMs();
         runs.entrySet().removeIf(entry -> entry.getValue().isExpired(cutoff));
@@ -430,14 +522,18 @@ public class PerformanceWorkerServer implements AutoCloseable {
                 .runId(runId)
                 .workerId(state.workerId)
                 .status(state.status)
-                .activeUsers(state.control.getActiveUsers())
-                .totalUsers(state.control.getTotalUsers())
+                .activeUsers(activeUsers(state))
+                .totalUsers(totalUsers(state))
                 .activeWebSocketConnections(state.control.getActiveWebSocketConnections())
                 .activeSseStreams(state.control.getActiveSseStreams())
                 .totalRequests(summary == null ? 0L : summary.getTotalRequests())
                 .successRequests(summary == null ? 0L : summary.getSuccessRequests())
                 .failedRequests(summary == null ? 0L : summary.getFailedRequests())
                 .qps(qps(report))
+                .standbyUsers(state.control.getParkedUsers())
+                .virtualUserScale(state.control.getVirtualUserScale())
+                .generatorCpuLoad(PerformanceWorkerCapacityProbe.generatorCpuLoad())
+                .thresholdAbortReason(state.control.thresholdAbortReason())
                 .report(report)
                 .trendSnapshot(includeTrend ? state.control.trendSnapshot(System.currentTimeMillis()) : null)
                 .error(state.error)
@@ -453,14 +549,18 @@ public class PerformanceWorkerServer implements AutoCloseable {
                     .runId(runId)
                     .workerId(state.workerId)
                     .status(state.status)
-                    .activeUsers(state.control.getActiveUsers())
-                    .totalUsers(state.control.getTotalUsers())
+                    .activeUsers(activeUsers(state))
+                    .totalUsers(totalUsers(state))
                     .activeWebSocketConnections(state.control.getActiveWebSocketConnections())
                     .activeSseStreams(state.control.getActiveSseStreams())
                     .totalRequests(summary.getTotalRequests())
                     .successRequests(summary.getSuccessRequests())
                     .failedRequests(summary.getFailedRequests())
                     .qps(qps(state.report))
+                    .standbyUsers(state.control.getParkedUsers())
+                    .virtualUserScale(state.control.getVirtualUserScale())
+                    .generatorCpuLoad(PerformanceWorkerCapacityProbe.generatorCpuLoad())
+                    .thresholdAbortReason(state.control.thresholdAbortReason())
                     .trendSnapshot(includeTrend ? state.control.trendSnapshot(System.currentTimeMillis()) : null)
                     .error(state.error)
                     .build();
@@ -470,19 +570,41 @@ public class PerformanceWorkerServer implements AutoCloseable {
                 .runId(runId)
                 .workerId(state.workerId)
                 .status(state.status)
-                .activeUsers(state.control.getActiveUsers())
-                .totalUsers(state.control.getTotalUsers())
+                .activeUsers(activeUsers(state))
+                .totalUsers(totalUsers(state))
                 .activeWebSocketConnections(state.control.getActiveWebSocketConnections())
                 .activeSseStreams(state.control.getActiveSseStreams())
                 .totalRequests(progress.totalRequests())
                 .successRequests(progress.successRequests())
                 .failedRequests(progress.failedRequests())
                 .qps(progress.qps())
+                .standbyUsers(state.control.getParkedUsers())
+                .virtualUserScale(state.control.getVirtualUserScale())
+                .generatorCpuLoad(PerformanceWorkerCapacityProbe.generatorCpuLoad())
+                .thresholdAbortReason(state.control.thresholdAbortReason())
                 .trendSnapshot(includeTrend ? state.control.trendSnapshot(System.currentTimeMillis()) : null)
                 .error(state.error)
                 .build();
     }
 
+    private int totalUsers(WorkerRunState state) {
+        return Math.max(0, state.control.getTotalUsers() - state.standbyUsers);
+    }
+
+    private int standbyUsers(PerformanceWorkerAssignment assignment) {
+        if (assignment == null) {
+            return 0;
+        }
+        return assignment.getThreadGroups().stream()
+                .mapToInt(PerformanceWorkerThreadGroupAssignment::getStandbyVirtualUserCount)
+                .sum();
+    }
+
+    private int activeUsers(WorkerRunState state) {
+        // 驻留的备用用户已经启动但不发请求，不计入对外展示的在线用户数。
+        return Math.max(0, state.control.getActiveUsers() - state.control.getParkedUsers());
+    }
+
     private boolean includeReport(HttpExchange exchange) {
         String rawQuery = exchange.getRequestURI().getRawQuery();
         if (rawQuery == null || rawQuery.isBlank()) {
@@ -547,7 +669,8 @@ public class PerformanceWorkerServer implements AutoCloseable {
                         .error(state.error)
                         .build(),
                 PerformanceReportSnapshot.of(snapshot, liveSnapshot)
-        );
+        ).withGenerator(PerformanceJsonReportMapper.toGenerator(state.control.generatorStatistics()))
+                .withThresholds(PerformanceJsonReportMapper.toThresholds(state.control.thresholdResults()));
     }
 
     private void waitForStoppedResultDrain(WorkerRunState state) {
@@ -600,7 +723,10 @@ public class PerformanceWorkerServer implements AutoCloseable {
                         .error(baseMetadata == null ? state.error : baseMetadata.getError())
                         .build(),
                 snapshot
-        );
+        ).withGenerator(PerformanceJsonReportMapper.toGenerator(state.control.generatorStatistics()))
+                .withThresholds(report == null
+                        ? PerformanceJsonReportMapper.toThresholds(state.control.thresholdResults())
+                        : report.getThresholds());
     }
 
     private long reportTotalRequests(PerformanceJsonReport report) {
@@ -680,6 +806,7 @@ public class PerformanceWorkerServer implements AutoCloseable {
     @RequiredArgsConstructor
     private static final class WorkerRunState {
         private final String workerId;
+        private final int standbyUsers;
         private final PerformanceRunExecutionControl control = new PerformanceRunExecutionControl();
         private volatile String status = PerformanceRunStatus.PENDING;
         private volatile String error = "";
@@ -4,15 +4,20 @@ import com.laker.postman.model.RequestImportBodyTypes;
 import com.laker.postman.model.RequestImportDraft;
 import com.laker.postman.model.RequestImportHeader;
 import com.laker.postman.model.RequestImportProtocol;
+import com.laker.postman.model.RequestImportResponse;
 import com.laker.postman.request.model.RequestBodyTypes;
 import com.laker.postman.request.model.RequestItemProtocolEnum;
 import com.laker.postman.request.model.HttpHeader;
 import com.laker.postman.request.model.HttpRequestItem;
+import com.laker.postman.request.model.SavedResponse;
+import com.laker.postman.service.collections.SavedResponseSnapshotMapper;
 
 
 import cn.hutool.core.util.IdUtil;
 import lombok.experimental.UtilityClass;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 @UtilityClass
@@ -29,9 +34,39 @@ class RequestImportDraftMapper {
         item.setDescription(draft.description());
         item.setBodyType(toBodyType(draft.bodyType()));
         item.setBody(draft.body());
+        if (draft.response() != null) {
+            item.getResponse().add(toSavedResponse(draft, item));
+        }
         return item;
     }
 
+    /**
+     * 录制的响应保存为示例响应，原始请求取导入后的请求快照
+     */
+    private static SavedResponse toSavedResponse(RequestImportDraft draft, HttpRequestItem item) {
+        RequestImportResponse response = draft.response();
+        SavedResponse.OriginalRequest originalRequest = new SavedResponse.OriginalRequest();
+        originalRequest.setMethod(item.getMethod());
+        originalRequest.setUrl(item.getUrl());
+        originalRequest.setHeaders(new ArrayList<>(item.getHeadersList()));
+        originalRequest.setBodyType(item.getBodyType());
+        originalRequest.setBody(item.getBody());
+        SavedResponseSnapshotMapper.sanitizeOriginalRequest(originalRequest);
+
+        SavedResponse saved = new SavedResponse();
+        saved.setId(IdUtil.simpleUUID());
+        saved.setName(draft.name());
+        saved.setTimestamp(System.currentTimeMillis());
+        saved.setOriginalRequest(originalRequest);
+        saved.setCode(response.code());
+        saved.setStatus(response.status());
+        saved.setHeaders(new ArrayList<>(toHeaders(response.headers())));
+        saved.setBody(response.body());
+        saved.setCostMs(response.costMs());
+        saved.setBodySize(response.body().getBytes(StandardCharsets.UTF_8).length);
+        return saved;
+    }
+
     private static List<HttpHeader> toHeaders(List<RequestImportHeader> headers) {
         return headers.stream()
                 .map(header -> new HttpHeader(header.enabled(), header.key(), header.value()))
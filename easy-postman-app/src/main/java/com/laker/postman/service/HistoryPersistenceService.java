@@ -357,6 +357,7 @@ public class HistoryPersistenceService {
             JSONObject eventInfo = new JSONObject();
             eventInfo.set("localAddress", response.httpEventInfo.getLocalAddress());
             eventInfo.set("remoteAddress", response.httpEventInfo.getRemoteAddress());
+            eventInfo.set("dnsAddresses", response.httpEventInfo.getDnsAddresses());
             eventInfo.set("queueStart", response.httpEventInfo.getQueueStart());
             eventInfo.set("callStart", response.httpEventInfo.getCallStart());
             eventInfo.set("proxySelectStart", response.httpEventInfo.getProxySelectStart());
@@ -384,6 +385,7 @@ public class HistoryPersistenceService {
             eventInfo.set("stalledCost", response.httpEventInfo.getStalledCost());
             eventInfo.set("protocol", response.httpEventInfo.getProtocol());
             eventInfo.set("tlsVersion", response.httpEventInfo.getTlsVersion());
+            eventInfo.set("tlsSessionResumed", response.httpEventInfo.getTlsSessionResumed());
             eventInfo.set("errorMessage", response.httpEventInfo.getErrorMessage());
             eventInfo.set("threadName", response.httpEventInfo.getThreadName());
             responseJson.set("httpEventInfo", eventInfo);
@@ -485,6 +487,7 @@ public class HistoryPersistenceService {
             response.httpEventInfo = new HttpEventInfo();
             response.httpEventInfo.setLocalAddress(eventInfoJson.getStr("localAddress"));
             response.httpEventInfo.setRemoteAddress(eventInfoJson.getStr("remoteAddress"));
+            response.httpEventInfo.setDnsAddresses(eventInfoJson.getStr("dnsAddresses"));
             response.httpEventInfo.setQueueStart(eventInfoJson.getLong("queueStart", 0L));
             response.httpEventInfo.setCallStart(eventInfoJson.getLong("callStart", 0L));
             response.httpEventInfo.setProxySelectStart(eventInfoJson.getLong("proxySelectStart", 0L));
@@ -517,6 +520,7 @@ public class HistoryPersistenceService {
             }
 
             response.httpEventInfo.setTlsVersion(eventInfoJson.getStr("tlsVersion"));
+            response.httpEventInfo.setTlsSessionResumed(eventInfoJson.getBool("tlsSessionResumed"));
             response.httpEventInfo.setErrorMessage(eventInfoJson.getStr("errorMessage"));
             response.httpEventInfo.setThreadName(eventInfoJson.getStr("threadName"));
         }
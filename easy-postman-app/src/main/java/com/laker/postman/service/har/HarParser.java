@@ -8,20 +8,25 @@ import com.laker.postman.request.model.HttpFormUrlencoded;
 import com.laker.postman.request.model.HttpRequestItem;
 
 import cn.hutool.core.lang.Pair;
+import com.laker.postman.collection.importer.StreamingImportOptions;
+import com.laker.postman.collection.importer.StreamingJsonReader;
 import cn.hutool.json.JSONArray;
 import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import com.laker.postman.service.collections.CollectionTreeNodes;
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JsonToken;
 
 import javax.swing.tree.DefaultMutableTreeNode;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 
 import static com.laker.postman.request.model.RequestAuthTypes.AUTH_TYPE_BASIC;
 import static com.laker.postman.request.model.RequestAuthTypes.AUTH_TYPE_BEARER;
@@ -64,9 +69,7 @@ public class HarParser {
             }
 
             // 创建分组节点
-            String groupName = "HAR Import " + System.currentTimeMillis();
-            RequestGroup collectionGroup = new RequestGroup(groupName);
-            DefaultMutableTreeNode collectionNode = CollectionTreeNodes.groupNode(collectionGroup);
+            DefaultMutableTreeNode collectionNode = newCollectionNode();
 
             // 解析 entries
             JSONArray entries = logObj.getJSONArray("entries");
@@ -91,6 +94,100 @@ public class HarParser {
         }
     }
 
+    /**
+     * 流式解析 HAR 文件：按 token 推进，逐条转换 entry，不把整个文件读成 JSON 树。
+     * entry 里只有 request 和 comment 会被导入，response/timings 等字段（大文件的主要体积）直接跳过。
+     *
+     * @param file    HAR 文件
+     * @param options 进度回调
+     * @return 集合根节点，如果解析失败返回 null
+     * @throws CancellationException 进度回调取消导入时原样抛出
+     */
+    public static DefaultMutableTreeNode parseHar(Path file, StreamingImportOptions options) {
+        try (StreamingJsonReader reader = StreamingJsonReader.open(file, options)) {
+            if (reader.nextToken() != JsonToken.START_OBJECT) {
+                log.error("HAR文件格式错误：根节点不是对象");
+                return null;
+            }
+            DefaultMutableTreeNode collectionNode = null;
+            while (reader.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = reader.currentName();
+                JsonToken valueToken = reader.nextToken();
+                if ("log".equals(name) && valueToken == JsonToken.START_OBJECT) {
+                    collectionNode = streamHarLog(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            if (collectionNode == null) {
+                log.error("HAR文件格式错误：缺少 log 字段");
+                return null;
+            }
+            reader.finish();
+            return collectionNode;
+        } catch (CancellationException e) {
+            // 进度回调发现用户取消，交给调用方处理，不当作解析失败
+            throw e;
+        } catch (Exception e) {
+            log.error("流式解析HAR文件失败: {}", file, e);
+            return null;
+        }
+    }
+
+    private static DefaultMutableTreeNode streamHarLog(StreamingJsonReader reader) {
+        DefaultMutableTreeNode collectionNode = newCollectionNode();
+        while (reader.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = reader.currentName();
+            JsonToken valueToken = reader.nextToken();
+            if ("version".equals(name)) {
+                Object version = reader.readValue();
+                if (!"1.2".equals(version)) {
+                    log.warn("HAR版本不是1.2，当前版本: {}", version);
+                }
+            } else if ("entries".equals(name) && valueToken == JsonToken.START_ARRAY) {
+                while (reader.nextToken() != JsonToken.END_ARRAY) {
+                    if (reader.currentToken() != JsonToken.START_OBJECT) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    HttpRequestItem requestItem = parseHarEntry(readHarEntry(reader));
+                    if (requestItem != null) {
+                        collectionNode.add(CollectionTreeNodes.requestNode(requestItem));
+                        reader.requestImported();
+                    }
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        if (collectionNode.getChildCount() == 0) {
+            log.warn("HAR文件中没有请求条目");
+        }
+        return collectionNode;
+    }
+
+    /**
+     * 读取当前 entry 中导入需要的字段（当前 token 为 START_OBJECT）
+     */
+    private static JSONObject readHarEntry(StreamingJsonReader reader) {
+        JSONObject entry = JSONUtil.createObj();
+        while (reader.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = reader.currentName();
+            reader.nextToken();
+            if ("request".equals(name) || "comment".equals(name)) {
+                entry.set(name, reader.readValue());
+            } else {
+                reader.skipValue();
+            }
+        }
+        return entry;
+    }
+
+    private static DefaultMutableTreeNode newCollectionNode() {
+        String groupName = "HAR Import " + System.currentTimeMillis();
+        return CollectionTreeNodes.groupNode(new RequestGroup(groupName));
+    }
+
     /**
      * 解析单个 HAR entry 为 HttpRequestItem
      */
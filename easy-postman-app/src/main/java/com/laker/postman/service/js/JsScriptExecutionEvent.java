@@ -0,0 +1,60 @@
+package com.laker.postman.service.js;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 一次 JS 脚本执行的 JFR 事件，区分等待 Context 池的时间和脚本本身的执行时间。
+ * 压测中与同一线程上的 sampler 阶段事件嵌套，可以看出是哪个 sampler 的脚本在消耗 CPU。
+ */
+@Name("easypostman.script.Execution")
+@Label("Script Execution")
+@Category({"EasyPostman", "Script"})
+@Description("一次 JS 脚本执行，包含等待 Context 池的时间")
+@StackTrace(false)
+final class JsScriptExecutionEvent extends Event {
+    @Label("Script Type")
+    String scriptType;
+
+    @Label("Script Length")
+    int scriptLength;
+
+    @Label("Context Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long contextWaitTime;
+
+    @Label("Success")
+    boolean success;
+
+    private transient long startNanos;
+
+    static JsScriptExecutionEvent start(String scriptType, String script) {
+        JsScriptExecutionEvent event = new JsScriptExecutionEvent();
+        if (event.isEnabled()) {
+            event.scriptType = scriptType == null ? "" : scriptType;
+            event.scriptLength = script == null ? 0 : script.length();
+            event.startNanos = System.nanoTime();
+            event.begin();
+        }
+        return event;
+    }
+
+    void contextAcquired() {
+        if (startNanos != 0L) {
+            contextWaitTime = Math.max(0L, System.nanoTime() - startNanos);
+        }
+    }
+
+    void finish(boolean success) {
+        this.success = success;
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -147,7 +147,8 @@ public class JsScriptExecutor {
                     context.getOutputCallback(),
                     pool,
                     acquireTimeoutMs,
-                    scriptSourceCache
+                    scriptSourceCache,
+                    context.getScriptType() == null ? null : context.getScriptType().name()
             );
             log.debug("Script executed successfully: {}", context.getScriptType().getDisplayName());
         } catch (Exception e) {
@@ -173,7 +174,7 @@ public class JsScriptExecutor {
      */
     public static void executeScript(String script, Map<String, Object> bindings, OutputCallback outputCallback)
             throws ScriptExecutionException {
-        executeScript(script, bindings, outputCallback, null, 0, SCRIPT_SOURCE_CACHE);
+        executeScript(script, bindings, outputCallback, null, 0, SCRIPT_SOURCE_CACHE, null);
     }
 
     private static void executeScript(String script,
@@ -181,7 +182,8 @@ public class JsScriptExecutor {
                                       OutputCallback outputCallback,
                                       JsContextPool pool,
                                       int acquireTimeoutMs,
-                                      Map<String, Source> scriptSourceCache)
+                                      Map<String, Source> scriptSourceCache,
+                                      String scriptType)
             throws ScriptExecutionException {
         if (script == null || script.isBlank()) {
             return;
@@ -189,6 +191,8 @@ public class JsScriptExecutor {
 
         JsContextPool.PooledContext pooledContext = null;
         JsContextPool borrowedPool = null;
+        JsScriptExecutionEvent event = JsScriptExecutionEvent.start(scriptType, script);
+        boolean success = false;
 
         try {
             // 保存原始脚本到 ThreadLocal，用于错误报告
@@ -211,6 +215,7 @@ public class JsScriptExecutor {
                     throw e;
                 }
             }
+            event.contextAcquired();
             Context context = pooledContext.getContext();
 
             // 注入输出回调（如果有）
@@ -222,6 +227,7 @@ public class JsScriptExecutor {
             injectBindings(context, bindings);
 
             context.eval(getCachedScriptSource(script, scriptSourceCache));
+            success = true;
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -245,6 +251,7 @@ public class JsScriptExecutor {
             if (pooledContext != null) {
                 borrowedPool.returnContext(pooledContext);
             }
+            event.finish(success);
         }
     }
 
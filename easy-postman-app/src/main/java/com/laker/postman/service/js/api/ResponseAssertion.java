@@ -195,10 +195,10 @@ public class ResponseAssertion {
      * 获取响应体文本
      * 对应脚本中的: pm.response.text()
      *
-     * @return 响应体字符串，响应为空则返回 null
+     * @return 响应体字符串，响应为空则返回 null；超大文本响应体在调用时才从临时文件读取
      */
     public String text() {
-        return response != null ? response.body : null;
+        return response != null ? response.fullBodyText() : null;
     }
 
     /**
@@ -210,8 +210,9 @@ public class ResponseAssertion {
      */
     public Object json() {
         try {
-            if (response != null && response.body != null) {
-                return JSONUtil.parse(response.body);
+            String body = response != null ? response.fullBodyText() : null;
+            if (body != null) {
+                return JSONUtil.parse(body);
             }
         } catch (Exception e) {
             throw new AssertionError(I18nUtil.getMessage(MessageKeys.RESPONSE_ASSERTION_INVALID_JSON, e.getMessage()));
@@ -576,11 +576,13 @@ public class HttpHtmlRenderer {
         sb.append("<table style='border-collapse:collapse;width:100%;margin-bottom:8px;'>");
         eventRow(sb, "Local Address",  escapeHtml(info.getLocalAddress()),  false);
         eventRow(sb, "Remote Address", escapeHtml(info.getRemoteAddress()),  true);
+        eventRow(sb, "DNS Addresses",  info.getDnsAddresses() != null ? escapeHtml(info.getDnsAddresses()) : "-", false);
         eventRow(sb, "Protocol",       info.getProtocol() != null ? info.getProtocol() : "-", false);
         eventRow(sb, "TLS Version",    safeStr(info.getTlsVersion()),        true);
-        eventRow(sb, "Thread",         safeStr(info.getThreadName()),        false);
+        eventRow(sb, "TLS Handshake",  tlsHandshakeLabel(info.getTlsSessionResumed()), false);
+        eventRow(sb, "Thread",         safeStr(info.getThreadName()),        true);
         if (isNotEmpty(info.getErrorMessage())) {
-            eventRow(sb, "Error", "<span style='color:" + colorError() + ";'>" + escapeHtml(info.getErrorMessage()) + "</span>", true);
+            eventRow(sb, "Error", "<span style='color:" + colorError() + ";'>" + escapeHtml(info.getErrorMessage()) + "</span>", false);
         }
         sb.append("</table>");
 
@@ -638,6 +640,9 @@ public class HttpHtmlRenderer {
     // ==================== 工具方法 ====================
 
     private static String safeStr(String s) { return s != null ? s : "-"; }
+    private static String tlsHandshakeLabel(Boolean resumed) {
+        return resumed == null ? "-" : (resumed ? "Resumed" : "Full");
+    }
     private static boolean isNotEmpty(String s) { return s != null && !s.isEmpty(); }
     private static String resolveSentOrConfigured(String sentValue, String configuredValue) {
         return sentValue != null && !sentValue.isBlank() ? sentValue : configuredValue;
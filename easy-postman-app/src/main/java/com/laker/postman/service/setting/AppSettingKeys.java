@@ -40,6 +40,9 @@ class AppSettingKeys {
     static final int DEFAULT_GIT_DIFF_LARGE_FILE_THRESHOLD_MB = 2;
     static final int MIN_GIT_DIFF_LARGE_FILE_THRESHOLD_MB = 1;
     static final int MAX_GIT_DIFF_LARGE_FILE_THRESHOLD_MB = 64;
+    static final int DEFAULT_IMPORT_RESPONSE_BODY_LIMIT_MB = 2;
+    static final int MIN_IMPORT_RESPONSE_BODY_LIMIT_MB = 1;
+    static final int MAX_IMPORT_RESPONSE_BODY_LIMIT_MB = 64;
     static final int DEFAULT_TREND_SAMPLING_INTERVAL_SECONDS = 1;
     static final int DEFAULT_DOWNLOAD_PROGRESS_DIALOG_THRESHOLD = 100 * 1024 * 1024;
     static final int DEFAULT_MAX_HISTORY_COUNT = 100;
@@ -80,6 +83,19 @@ class AppSettingKeys {
             DEFAULT_PERFORMANCE_MAX_REQUESTS_PER_HOST,
             value -> positiveOr(value, DEFAULT_PERFORMANCE_MAX_REQUESTS_PER_HOST)
     );
+    static final SettingKey<String> PERFORMANCE_DNS_MODE = SettingKey.stringKey(
+            "performance_dns_mode",
+            "SYSTEM"
+    );
+    static final SettingKey<Long> PERFORMANCE_DNS_CACHE_TTL_SECONDS = SettingKey.longKey(
+            "performance_dns_cache_ttl_seconds",
+            0L,
+            value -> Math.max(0L, value)
+    );
+    static final SettingKey<String> PERFORMANCE_DNS_HOST_OVERRIDES = SettingKey.stringKey(
+            "performance_dns_host_overrides",
+            ""
+    );
     static final SettingKey<Integer> PERFORMANCE_JS_CONTEXT_POOL_SIZE = SettingKey.integerKey(
             "performance_js_context_pool_size",
             defaultPerformanceJsContextPoolSize(),
@@ -119,6 +135,11 @@ class AppSettingKeys {
             DEFAULT_GIT_DIFF_LARGE_FILE_THRESHOLD_MB,
             AppSettingKeys::sanitizeGitDiffLargeFileThresholdMb
     );
+    static final SettingKey<Integer> IMPORT_RESPONSE_BODY_LIMIT_MB = SettingKey.integerKey(
+            "import_response_body_limit_mb",
+            DEFAULT_IMPORT_RESPONSE_BODY_LIMIT_MB,
+            AppSettingKeys::sanitizeImportResponseBodyLimitMb
+    );
     static final SettingKey<String> CSV_LAST_IMPORT_DIRECTORY = SettingKey.stringKey(
             "csv_last_import_directory",
             ""
@@ -393,6 +414,15 @@ class AppSettingKeys {
         return thresholdMb;
     }
 
+    static int sanitizeImportResponseBodyLimitMb(Integer limitMb) {
+        if (limitMb == null
+                || limitMb < MIN_IMPORT_RESPONSE_BODY_LIMIT_MB
+                || limitMb > MAX_IMPORT_RESPONSE_BODY_LIMIT_MB) {
+            return DEFAULT_IMPORT_RESPONSE_BODY_LIMIT_MB;
+        }
+        return limitMb;
+    }
+
     static String normalizeAutoUpdateFrequency(String frequency) {
         String normalized = normalizedLowerCode(frequency);
         return isSupportedAutoUpdateFrequency(normalized) ? normalized : "daily";
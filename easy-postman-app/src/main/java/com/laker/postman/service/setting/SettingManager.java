@@ -42,6 +42,12 @@ public class SettingManager {
             AppSettingKeys.MIN_GIT_DIFF_LARGE_FILE_THRESHOLD_MB;
     public static final int MAX_GIT_DIFF_LARGE_FILE_THRESHOLD_MB =
             AppSettingKeys.MAX_GIT_DIFF_LARGE_FILE_THRESHOLD_MB;
+    public static final int DEFAULT_IMPORT_RESPONSE_BODY_LIMIT_MB =
+            AppSettingKeys.DEFAULT_IMPORT_RESPONSE_BODY_LIMIT_MB;
+    public static final int MIN_IMPORT_RESPONSE_BODY_LIMIT_MB =
+            AppSettingKeys.MIN_IMPORT_RESPONSE_BODY_LIMIT_MB;
+    public static final int MAX_IMPORT_RESPONSE_BODY_LIMIT_MB =
+            AppSettingKeys.MAX_IMPORT_RESPONSE_BODY_LIMIT_MB;
     public static final String PROXY_MODE_MANUAL = "MANUAL";
     public static final String PROXY_MODE_SYSTEM = "SYSTEM";
     public static final String PROXY_TYPE_HTTP = "HTTP";
@@ -191,6 +197,30 @@ public class SettingManager {
         put(AppSettingKeys.PERFORMANCE_MAX_REQUESTS_PER_HOST, maxRequestsPerHost);
     }
 
+    public static String getPerformanceDnsMode() {
+        return get(AppSettingKeys.PERFORMANCE_DNS_MODE);
+    }
+
+    public static void setPerformanceDnsMode(String mode) {
+        put(AppSettingKeys.PERFORMANCE_DNS_MODE, mode);
+    }
+
+    public static long getPerformanceDnsCacheTtlSeconds() {
+        return get(AppSettingKeys.PERFORMANCE_DNS_CACHE_TTL_SECONDS);
+    }
+
+    public static void setPerformanceDnsCacheTtlSeconds(long seconds) {
+        put(AppSettingKeys.PERFORMANCE_DNS_CACHE_TTL_SECONDS, seconds);
+    }
+
+    public static String getPerformanceDnsHostOverrides() {
+        return get(AppSettingKeys.PERFORMANCE_DNS_HOST_OVERRIDES);
+    }
+
+    public static void setPerformanceDnsHostOverrides(String hostOverrides) {
+        put(AppSettingKeys.PERFORMANCE_DNS_HOST_OVERRIDES, hostOverrides);
+    }
+
     public static int getDefaultPerformanceJsContextPoolSize() {
         return AppSettingKeys.defaultPerformanceJsContextPoolSize();
     }
@@ -283,6 +313,21 @@ public class SettingManager {
         return gitDiffLargeFileThresholdBytes(getGitDiffLargeFileThresholdMb());
     }
 
+    /**
+     * 导入集合时单个示例响应体保留的上限，单位为 M 字符（1024 * 1024 个字符）
+     */
+    public static int getImportResponseBodyLimitMb() {
+        return get(AppSettingKeys.IMPORT_RESPONSE_BODY_LIMIT_MB);
+    }
+
+    public static void setImportResponseBodyLimitMb(int limitMb) {
+        put(AppSettingKeys.IMPORT_RESPONSE_BODY_LIMIT_MB, limitMb);
+    }
+
+    public static long getImportResponseBodyLimitChars() {
+        return AppSettingKeys.sanitizeImportResponseBodyLimitMb(getImportResponseBodyLimitMb()) * 1024L * 1024L;
+    }
+
     public static String getCsvLastImportDirectory() {
         return get(AppSettingKeys.CSV_LAST_IMPORT_DIRECTORY);
     }
@@ -33,6 +33,16 @@ public class WorkspaceRunCliSupport {
                 report.totalTests(),
                 report.elapsedTimeMs()
         );
+        WorkspaceRunReport.ReplayCacheSummary replayCache = report.replayCache();
+        if (replayCache != null) {
+            out.printf(
+                    "Replay cache: hits=%d revalidated=%d misses=%d stored=%d%n",
+                    replayCache.hits(),
+                    replayCache.revalidated(),
+                    replayCache.misses(),
+                    replayCache.stored()
+            );
+        }
     }
 
     public String describe(Throwable failure) {
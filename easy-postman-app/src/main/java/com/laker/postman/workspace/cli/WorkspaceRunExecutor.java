@@ -3,6 +3,7 @@ package com.laker.postman.workspace.cli;
 import com.laker.postman.collection.CollectionInheritance;
 import com.laker.postman.collection.model.CollectionDocument;
 import com.laker.postman.common.constants.ConfigPathConstants;
+import com.laker.postman.functional.execution.FunctionalReplayCache;
 import com.laker.postman.functional.execution.FunctionalRequestExecutionResult;
 import com.laker.postman.functional.execution.FunctionalRequestExecutor;
 import com.laker.postman.functional.model.AssertionResult;
@@ -33,7 +34,6 @@ import java.util.List;
 import java.util.Map;
 
 public class WorkspaceRunExecutor {
-    private final FunctionalRequestExecutor requestExecutor = new FunctionalRequestExecutor(null);
 
     public WorkspaceRunReport execute(WorkspaceRunOptions options,
                                       WorkspaceRunPlanner planner,
@@ -64,6 +64,10 @@ public class WorkspaceRunExecutor {
         Environment environment = loadEnvironment(workspace.environmentsFile(), options.getEnvironment());
         Environment globals = loadGlobals(Path.of(ConfigPathConstants.GLOBAL_VARIABLES));
 
+        // 缓存只在本次运行内有效，多次迭代之间复用
+        FunctionalReplayCache replayCache = options.isReplayCache() ? new FunctionalReplayCache() : null;
+        FunctionalRequestExecutor requestExecutor = new FunctionalRequestExecutor(null, replayCache);
+
         if (out != null) {
             out.printf("Workspace: %s (%s)%n", workspace.name(), workspace.directory());
             out.printf("Environment: %s | Collections: %s%n",
@@ -163,7 +167,21 @@ public class WorkspaceRunExecutor {
                 passedTests + failedTests,
                 passedTests,
                 failedTests,
-                requestReports
+                requestReports,
+                replayCacheSummary(replayCache)
+        );
+    }
+
+    private static WorkspaceRunReport.ReplayCacheSummary replayCacheSummary(FunctionalReplayCache replayCache) {
+        if (replayCache == null) {
+            return null;
+        }
+        FunctionalReplayCache.Stats stats = replayCache.stats();
+        return new WorkspaceRunReport.ReplayCacheSummary(
+                stats.hits(),
+                stats.revalidated(),
+                stats.misses(),
+                stats.stored()
         );
     }
 
@@ -431,7 +449,8 @@ public class WorkspaceRunExecutor {
                 result.getCost(),
                 passed,
                 safe(result.getErrorMessage()),
-                tests
+                tests,
+                result.getReplayCacheOutcome() == null ? null : result.getReplayCacheOutcome().name()
         );
     }
 
@@ -439,7 +458,11 @@ public class WorkspaceRunExecutor {
         if (out == null) {
             return;
         }
-        out.printf("  %s %dms %s%n", result.status(), result.durationMs(), result.passed() ? "PASS" : "FAIL");
+        out.printf("  %s %dms %s%s%n",
+                result.status(),
+                result.durationMs(),
+                result.passed() ? "PASS" : "FAIL",
+                result.replayCache() == null ? "" : " [cache " + result.replayCache() + "]");
         for (WorkspaceRunReport.TestCase test : result.tests()) {
             out.printf("    %s %s", test.passed() ? "✓" : "✗", test.name());
             if (!test.passed() && !test.message().isBlank()) {
@@ -14,18 +14,24 @@ public class WorkspaceRunOptions {
     Integer iterationCount;
     Path workingDirectory;
     boolean bail;
+    /**
+     * 为标记了 replayCacheable 的请求启用运行内的回放缓存
+     */
+    boolean replayCache;
 
     public WorkspaceRunOptions(String workspace,
                                String environment,
                                Path iterationDataPath,
                                Integer iterationCount,
                                Path workingDirectory,
-                               Boolean bail) {
+                               Boolean bail,
+                               Boolean replayCache) {
         this.workspace = workspace;
         this.environment = environment;
         this.iterationDataPath = iterationDataPath;
         this.iterationCount = iterationCount;
         this.workingDirectory = workingDirectory;
         this.bail = bail != null && bail;
+        this.replayCache = replayCache != null && replayCache;
     }
 }
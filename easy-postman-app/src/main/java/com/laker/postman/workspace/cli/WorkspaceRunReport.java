@@ -21,7 +21,8 @@ public record WorkspaceRunReport(
         int totalTests,
         int passedTests,
         int failedTests,
-        List<RequestResult> requests
+        List<RequestResult> requests,
+        ReplayCacheSummary replayCache
 ) {
     public static final String STATUS_SUCCESS = "SUCCESS";
     public static final String STATUS_FAILED = "FAILED";
@@ -45,7 +46,8 @@ public record WorkspaceRunReport(
             long durationMs,
             boolean passed,
             String error,
-            List<TestCase> tests
+            List<TestCase> tests,
+            String replayCache
     ) {
         public RequestResult {
             tests = tests == null ? List.of() : List.copyOf(tests);
@@ -54,4 +56,10 @@ public record WorkspaceRunReport(
 
     public record TestCase(String name, boolean passed, String message) {
     }
+
+    /**
+     * 回放缓存统计，未启用 --replay-cache 时报告中为 null
+     */
+    public record ReplayCacheSummary(long hits, long revalidated, long misses, long stored) {
+    }
 }
@@ -225,6 +225,36 @@ public class CollectionRunCliCommandTest {
         assertEquals(report.get("totalRequests").asInt(), 1);
     }
 
+    @Test
+    public void shouldReplayCacheableRequestsAcrossIterationsWhenReplayCacheIsEnabled() throws Exception {
+        server = startServer(1);
+        Path workspace = Files.createTempDirectory("easy-postman-native-replay-cache-");
+        HttpRequestItem cacheable = request("Cacheable", baseUrl() + "/catalog");
+        cacheable.setReplayCacheable(true);
+        writeWorkspace(workspace, collection("Replay CLI", requestNode(cacheable)));
+
+        Path reportFile = workspace.resolve("replay-cache-result.json");
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        int exitCode = command().run(new String[]{
+                        "collection", "run", workspace.toString(),
+                        "-n", "3",
+                        "--out", reportFile.toString(),
+                        "--replay-cache"
+                },
+                new PrintStream(stdout),
+                new PrintStream(new ByteArrayOutputStream()));
+
+        assertEquals(exitCode, 0);
+        assertEquals(server.getRequestCount(), 1);
+        assertTrue(stdout.toString().contains("[cache HIT]"));
+        JsonNode report = JsonUtil.readTree(Files.readString(reportFile, StandardCharsets.UTF_8));
+        assertEquals(report.get("totalRequests").asInt(), 3);
+        assertEquals(report.get("requests").get(0).get("replayCache").asText(), "MISS");
+        assertEquals(report.get("requests").get(2).get("replayCache").asText(), "HIT");
+        assertEquals(report.get("replayCache").get("hits").asInt(), 2);
+        assertEquals(report.get("replayCache").get("misses").asInt(), 1);
+    }
+
     @Test
     public void shouldNotTreatCollectionRootNameAsFolder() throws Exception {
         Path workspace = Files.createTempDirectory("easy-postman-native-root-filter-");
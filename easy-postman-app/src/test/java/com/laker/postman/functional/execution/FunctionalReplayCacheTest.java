@@ -0,0 +1,243 @@
+package com.laker.postman.functional.execution;
+
+import com.laker.postman.http.runtime.cookie.HttpCookieStore;
+import com.laker.postman.http.runtime.model.HttpResponse;
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.http.runtime.transport.HttpExchangeOptions;
+import com.laker.postman.http.runtime.transport.HttpTransport;
+import com.laker.postman.http.runtime.transport.RealtimeConnectionHandle;
+import com.laker.postman.http.runtime.transport.RealtimeConnectionOptions;
+import com.laker.postman.http.runtime.transport.RealtimeWebSocketConnection;
+import com.laker.postman.request.model.AuthType;
+import com.laker.postman.request.model.HttpHeader;
+import com.laker.postman.request.model.TransportAuth;
+import okhttp3.WebSocketListener;
+import okhttp3.sse.EventSourceListener;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+
+public class FunctionalReplayCacheTest {
+
+    @Test
+    public void shouldReplayFreshResponseUntilMaxAgeExpires() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        ScriptedTransport transport = new ScriptedTransport()
+                .then(response(200, "first", "Cache-Control", "max-age=10"))
+                .then(response(200, "second", "Cache-Control", "max-age=10"));
+        FunctionalReplayCache cache = new FunctionalReplayCache(clock::get);
+
+        assertEquals(cache.execute(get("https://example.test/items"), transport, HttpExchangeOptions.defaults())
+                .outcome(), FunctionalReplayCache.Outcome.MISS);
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(9));
+        FunctionalReplayCache.Lookup hit = cache.execute(
+                get("https://example.test/items"), transport, HttpExchangeOptions.defaults());
+        assertEquals(hit.outcome(), FunctionalReplayCache.Outcome.HIT);
+        assertEquals(hit.response().body, "first");
+        assertEquals(hit.response().costMs, 0L);
+        assertEquals(transport.requests.size(), 1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        FunctionalReplayCache.Lookup expired = cache.execute(
+                get("https://example.test/items"), transport, HttpExchangeOptions.defaults());
+        assertEquals(expired.outcome(), FunctionalReplayCache.Outcome.MISS);
+        assertEquals(expired.response().body, "second");
+        assertEquals(cache.stats(), new FunctionalReplayCache.Stats(1L, 0L, 2L, 2L));
+    }
+
+    @Test
+    public void shouldRevalidateStaleEntryWithEtag() throws Exception {
+        ScriptedTransport transport = new ScriptedTransport()
+                .then(response(200, "cached body", "Cache-Control", "no-cache", "ETag", "\"v1\""))
+                .then(response(304, null, "ETag", "\"v1\""));
+        FunctionalReplayCache cache = new FunctionalReplayCache(() -> 0L);
+
+        cache.execute(get("https://example.test/profile"), transport, HttpExchangeOptions.defaults());
+        FunctionalReplayCache.Lookup revalidated = cache.execute(
+                get("https://example.test/profile"), transport, HttpExchangeOptions.defaults());
+
+        assertEquals(revalidated.outcome(), FunctionalReplayCache.Outcome.REVALIDATED);
+        assertEquals(revalidated.response().code, 200);
+        assertEquals(revalidated.response().body, "cached body");
+        assertEquals(header(transport.requests.get(1), "If-None-Match"), "\"v1\"");
+        assertEquals(cache.stats().revalidated(), 1L);
+    }
+
+    @Test
+    public void shouldNotStoreNoStoreOrServerErrorResponses() throws Exception {
+        ScriptedTransport transport = new ScriptedTransport()
+                .then(response(200, "secret", "Cache-Control", "no-store"))
+                .then(response(500, "boom"))
+                .then(response(200, "fresh"));
+        FunctionalReplayCache cache = new FunctionalReplayCache(() -> 0L);
+
+        cache.execute(get("https://example.test/a"), transport, HttpExchangeOptions.defaults());
+        cache.execute(get("https://example.test/a"), transport, HttpExchangeOptions.defaults());
+        FunctionalReplayCache.Lookup third = cache.execute(
+                get("https://example.test/a"), transport, HttpExchangeOptions.defaults());
+
+        assertEquals(third.outcome(), FunctionalReplayCache.Outcome.MISS);
+        assertEquals(transport.requests.size(), 3);
+        assertEquals(cache.stats().stored(), 1L);
+    }
+
+    @Test
+    public void shouldOnlyKeepErrorStatusesWithExplicitFreshness() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        ScriptedTransport transport = new ScriptedTransport()
+                .then(response(404, "missing"))
+                .then(response(200, "created"))
+                .then(response(404, "gone", "Cache-Control", "max-age=5"));
+        FunctionalReplayCache cache = new FunctionalReplayCache(clock::get);
+
+        cache.execute(get("https://example.test/orders/1"), transport, HttpExchangeOptions.defaults());
+        FunctionalReplayCache.Lookup afterCreate = cache.execute(
+                get("https://example.test/orders/1"), transport, HttpExchangeOptions.defaults());
+        assertEquals(afterCreate.outcome(), FunctionalReplayCache.Outcome.MISS);
+        assertEquals(afterCreate.response().body, "created");
+
+        cache.clear();
+        cache.execute(get("https://example.test/orders/2"), transport, HttpExchangeOptions.defaults());
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(4));
+        FunctionalReplayCache.Lookup fresh404 = cache.execute(
+                get("https://example.test/orders/2"), transport, HttpExchangeOptions.defaults());
+        assertEquals(fresh404.outcome(), FunctionalReplayCache.Outcome.HIT);
+        assertEquals(fresh404.response().body, "gone");
+        assertEquals(transport.requests.size(), 3);
+    }
+
+    @Test
+    public void shouldKeyOnMethodUrlSelectedHeadersAndBody() {
+        PreparedRequest base = get("https://example.test/search");
+        PreparedRequest traced = get("https://example.test/search");
+        traced.headersList.add(new HttpHeader(true, "X-Request-Id", "42"));
+        PreparedRequest authorized = get("https://example.test/search");
+        authorized.headersList.add(new HttpHeader(true, "Authorization", "Bearer a"));
+        PreparedRequest post = get("https://example.test/search");
+        post.method = "POST";
+        post.body = "{\"q\":1}";
+        PreparedRequest otherBody = get("https://example.test/search");
+        otherBody.method = "POST";
+        otherBody.body = "{\"q\":2}";
+
+        assertEquals(FunctionalReplayCache.key(traced), FunctionalReplayCache.key(base));
+        assertNotEquals(FunctionalReplayCache.key(authorized), FunctionalReplayCache.key(base));
+        assertNotEquals(FunctionalReplayCache.key(post), FunctionalReplayCache.key(base));
+        assertNotEquals(FunctionalReplayCache.key(otherBody), FunctionalReplayCache.key(post));
+    }
+
+    @Test
+    public void shouldKeyOnCookieJarCookiesAndTransportAuth() {
+        PreparedRequest base = get("https://replay-cache.example.test/me");
+        String anonymousKey = FunctionalReplayCache.key(base);
+        HttpCookieStore.addCookie("session", "a", "replay-cache.example.test", "/", false, false);
+        try {
+            String sessionAKey = FunctionalReplayCache.key(base);
+            HttpCookieStore.addCookie("session", "b", "replay-cache.example.test", "/", false, false);
+            assertNotEquals(sessionAKey, anonymousKey);
+            assertNotEquals(FunctionalReplayCache.key(base), sessionAKey);
+
+            PreparedRequest jarDisabled = get("https://replay-cache.example.test/me");
+            jarDisabled.cookieJarEnabled = false;
+            assertEquals(FunctionalReplayCache.key(jarDisabled), anonymousKey);
+        } finally {
+            HttpCookieStore.removeCookie("session", "replay-cache.example.test", "/");
+        }
+
+        PreparedRequest alice = get("https://replay-cache.example.test/me");
+        alice.transportAuth = new TransportAuth(AuthType.DIGEST.getConstant(), "alice", "secret");
+        PreparedRequest bob = get("https://replay-cache.example.test/me");
+        bob.transportAuth = new TransportAuth(AuthType.DIGEST.getConstant(), "bob", "secret");
+        assertNotEquals(FunctionalReplayCache.key(alice), anonymousKey);
+        assertNotEquals(FunctionalReplayCache.key(alice), FunctionalReplayCache.key(bob));
+    }
+
+    @Test
+    public void shouldHonourVaryHeadersOutsideTheKey() throws Exception {
+        ScriptedTransport transport = new ScriptedTransport()
+                .then(response(200, "tenant a", "Vary", "X-Tenant"))
+                .then(response(200, "tenant b", "Vary", "X-Tenant"));
+        FunctionalReplayCache cache = new FunctionalReplayCache(() -> 0L);
+
+        PreparedRequest tenantA = get("https://example.test/config");
+        tenantA.headersList.add(new HttpHeader(true, "X-Tenant", "a"));
+        PreparedRequest tenantB = get("https://example.test/config");
+        tenantB.headersList.add(new HttpHeader(true, "X-Tenant", "b"));
+
+        cache.execute(tenantA, transport, HttpExchangeOptions.defaults());
+        FunctionalReplayCache.Lookup other = cache.execute(tenantB, transport, HttpExchangeOptions.defaults());
+
+        assertEquals(other.outcome(), FunctionalReplayCache.Outcome.MISS);
+        assertEquals(other.response().body, "tenant b");
+        assertSame(transport.requests.get(1), tenantB);
+    }
+
+    private static PreparedRequest get(String url) {
+        PreparedRequest request = new PreparedRequest();
+        request.method = "GET";
+        request.url = url;
+        request.headersList = new ArrayList<>();
+        return request;
+    }
+
+    private static HttpResponse response(int code, String body, String... headers) {
+        HttpResponse response = new HttpResponse();
+        response.code = code;
+        response.body = body;
+        response.costMs = 15L;
+        response.headers = new LinkedHashMap<>();
+        for (int i = 0; i < headers.length; i += 2) {
+            response.headers.put(headers[i], List.of(headers[i + 1]));
+        }
+        return response;
+    }
+
+    private static String header(PreparedRequest request, String name) {
+        return request.headersList.stream()
+                .filter(header -> name.equalsIgnoreCase(header.getKey()))
+                .map(HttpHeader::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static final class ScriptedTransport implements HttpTransport {
+        private final Deque<HttpResponse> responses = new ArrayDeque<>();
+        private final List<PreparedRequest> requests = new ArrayList<>();
+
+        private ScriptedTransport then(HttpResponse response) {
+            responses.add(response);
+            return this;
+        }
+
+        @Override
+        public HttpResponse execute(PreparedRequest request, HttpExchangeOptions options) {
+            requests.add(request);
+            return responses.removeFirst();
+        }
+
+        @Override
+        public RealtimeConnectionHandle openSse(PreparedRequest request,
+                                                EventSourceListener listener,
+                                                RealtimeConnectionOptions options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public RealtimeWebSocketConnection openWebSocket(PreparedRequest request,
+                                                        WebSocketListener listener,
+                                                        RealtimeConnectionOptions options) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import okhttp3.Dns;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+public class HttpDnsResolverTest {
+
+    @Test
+    public void shouldCacheLookupsUntilTtlExpires() throws Exception {
+        StubDns upstream = new StubDns("10.0.0.1", "10.0.0.2");
+        AtomicLong clock = new AtomicLong();
+        HttpDnsResolver resolver = new HttpDnsResolver(
+                new HttpDnsSettings(HttpDnsSettings.Mode.CACHED, 10L, Map.of()), upstream, clock::get);
+
+        assertEquals(hostAddresses(resolver.lookup("api.example.com")), List.of("10.0.0.1", "10.0.0.2"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        resolver.lookup("API.example.com");
+        assertEquals(upstream.lookups.get(), 1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        resolver.lookup("api.example.com");
+        assertEquals(upstream.lookups.get(), 2);
+    }
+
+    @Test
+    public void shouldResolveOnEveryConnectionWithoutCaching() throws Exception {
+        StubDns upstream = new StubDns("10.0.0.1");
+        HttpDnsResolver resolver = new HttpDnsResolver(
+                new HttpDnsSettings(HttpDnsSettings.Mode.EVERY_CONNECTION, 60L, Map.of()), upstream, () -> 0L);
+
+        resolver.lookup("api.example.com");
+        resolver.lookup("api.example.com");
+
+        assertEquals(upstream.lookups.get(), 2);
+    }
+
+    @Test
+    public void shouldRotateFirstAddressInRoundRobinMode() throws Exception {
+        StubDns upstream = new StubDns("10.0.0.1", "10.0.0.2", "10.0.0.3");
+        HttpDnsResolver resolver = new HttpDnsResolver(
+                new HttpDnsSettings(HttpDnsSettings.Mode.ROUND_ROBIN, 60L, Map.of()), upstream, () -> 0L);
+
+        assertEquals(hostAddresses(resolver.lookup("api.example.com")), List.of("10.0.0.1", "10.0.0.2", "10.0.0.3"));
+        assertEquals(hostAddresses(resolver.lookup("api.example.com")), List.of("10.0.0.2", "10.0.0.3", "10.0.0.1"));
+        assertEquals(hostAddresses(resolver.lookup("api.example.com")), List.of("10.0.0.3", "10.0.0.1", "10.0.0.2"));
+        assertEquals(upstream.lookups.get(), 1);
+    }
+
+    @Test
+    public void shouldPinEachVirtualUserToOneAddressRegardlessOfLookupThread() throws Exception {
+        StubDns upstream = new StubDns("10.0.0.1", "10.0.0.2");
+        HttpDnsResolver resolver = new HttpDnsResolver(
+                new HttpDnsSettings(HttpDnsSettings.Mode.PER_VIRTUAL_USER, 60L, Map.of()), upstream, () -> 0L);
+
+        Dns first = HttpDnsResolver.forVirtualUser(resolver, "vu-1");
+        Dns second = HttpDnsResolver.forVirtualUser(resolver, "vu-2");
+        assertSame(HttpDnsResolver.forVirtualUser(first, "vu-1"), first);
+        String firstAddress = first.lookup("api.example.com").get(0).getHostAddress();
+
+        AtomicReference<String> fromDispatcher = new AtomicReference<>();
+        Thread dispatcher = new Thread(() -> {
+            try {
+                fromDispatcher.set(first.lookup("api.example.com").get(0).getHostAddress());
+            } catch (UnknownHostException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        dispatcher.start();
+        dispatcher.join();
+
+        assertEquals(fromDispatcher.get(), firstAddress);
+        assertNotEquals(second.lookup("api.example.com").get(0).getHostAddress(), firstAddress);
+        assertEquals(HttpDnsResolver.forLane(second, 1).lookup("api.example.com").get(0).getHostAddress(), "10.0.0.2");
+        assertEquals(HttpDnsResolver.forLane(resolver, 1), HttpDnsResolver.forLane(first, 1));
+        assertEquals(resolver.lookup("api.example.com").get(0).getHostAddress(), "10.0.0.1");
+    }
+
+    @Test
+    public void shouldKeepResolverForOtherModesOrMissingVirtualUser() {
+        HttpDnsResolver cached = new HttpDnsResolver(
+                new HttpDnsSettings(HttpDnsSettings.Mode.CACHED, 60L, Map.of()), new StubDns("10.0.0.1"), () -> 0L);
+        HttpDnsResolver perUser = new HttpDnsResolver(
+                new HttpDnsSettings(HttpDnsSettings.Mode.PER_VIRTUAL_USER, 60L, Map.of()), new StubDns("10.0.0.1"), () -> 0L);
+
+        assertSame(HttpDnsResolver.forVirtualUser(cached, "vu-1"), cached);
+        assertSame(HttpDnsResolver.forLane(cached, 1), cached);
+        assertSame(HttpDnsResolver.forVirtualUser(perUser, " "), perUser);
+        assertSame(HttpDnsResolver.forVirtualUser(Dns.SYSTEM, "vu-1"), Dns.SYSTEM);
+    }
+
+    @Test
+    public void shouldRequeryDnsServerOnEveryConnectionInsteadOfJvmCache() throws Exception {
+        try (StubDnsServer server = new StubDnsServer("changing.example.test", "10.1.0.1")) {
+            AtomicLong clock = new AtomicLong();
+            Dns direct = new HttpDirectDns("dns://127.0.0.1:" + server.port(), new StubDns());
+            HttpDnsResolver everyConnection = new HttpDnsResolver(
+                    new HttpDnsSettings(HttpDnsSettings.Mode.EVERY_CONNECTION, 60L, Map.of()), direct, clock::get);
+            HttpDnsResolver cached = new HttpDnsResolver(
+                    new HttpDnsSettings(HttpDnsSettings.Mode.CACHED, 1L, Map.of()), direct, clock::get);
+
+            assertEquals(hostAddresses(everyConnection.lookup("changing.example.test")), List.of("10.1.0.1"));
+            assertEquals(hostAddresses(cached.lookup("changing.example.test")), List.of("10.1.0.1"));
+            server.setAddress("10.1.0.2");
+
+            assertEquals(hostAddresses(everyConnection.lookup("changing.example.test")), List.of("10.1.0.2"));
+            assertEquals(hostAddresses(cached.lookup("changing.example.test")), List.of("10.1.0.1"));
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            assertEquals(hostAddresses(cached.lookup("changing.example.test")), List.of("10.1.0.2"));
+            assertThrows(UnknownHostException.class, () -> direct.lookup("missing.example.test"));
+        }
+    }
+
+    @Test
+    public void shouldPreferStaticOverridesWithoutQueryingUpstream() throws Exception {
+        StubDns upstream = new StubDns("10.0.0.1");
+        HttpDnsSettings settings = HttpDnsSettings.of("cached", 60L,
+                "# test hosts\n192.168.1.10 API.example.com www.example.com; not-an-ip db.example.com; ::1 local.test");
+        HttpDnsResolver resolver = new HttpDnsResolver(settings, upstream, () -> 0L);
+
+        assertEquals(settings.mode(), HttpDnsSettings.Mode.CACHED);
+        assertEquals(hostAddresses(resolver.lookup("api.example.com")), List.of("192.168.1.10"));
+        assertEquals(resolver.lookup("www.example.com").get(0).getHostName(), "www.example.com");
+        assertEquals(resolver.lookup("local.test").get(0), InetAddress.getByName("::1"));
+        assertEquals(upstream.lookups.get(), 0);
+
+        resolver.lookup("db.example.com");
+        assertEquals(upstream.lookups.get(), 1);
+    }
+
+    @Test
+    public void shouldNotCacheFailedLookups() throws Exception {
+        StubDns upstream = new StubDns();
+        HttpDnsResolver resolver = new HttpDnsResolver(
+                new HttpDnsSettings(HttpDnsSettings.Mode.CACHED, 60L, Map.of()), upstream, () -> 0L);
+
+        assertThrows(UnknownHostException.class, () -> resolver.lookup("missing.example.com"));
+        assertThrows(UnknownHostException.class, () -> resolver.lookup("missing.example.com"));
+        assertEquals(upstream.lookups.get(), 2);
+    }
+
+    @Test
+    public void shouldUseSystemDnsWhenNothingIsConfigured() {
+        assertSame(HttpDnsResolver.forSettings(HttpDnsSettings.system()), Dns.SYSTEM);
+        assertSame(HttpDnsResolver.forSettings(HttpDnsSettings.of("unknown", 0L, "")), Dns.SYSTEM);
+        HttpDnsSettings cached = HttpDnsSettings.of("CACHED", 30L, "");
+        assertSame(HttpDnsResolver.forSettings(cached), HttpDnsResolver.forSettings(HttpDnsSettings.of("CACHED", 30L, null)));
+    }
+
+    private static List<String> hostAddresses(List<InetAddress> addresses) {
+        return addresses.stream().map(InetAddress::getHostAddress).toList();
+    }
+
+    /**
+     * 进程内的最小 UDP DNS 服务：只应答一个主机名的 A 记录，AAAA 返回无数据，其它名字返回 NXDOMAIN。
+     */
+    private static final class StubDnsServer implements AutoCloseable {
+        private final String hostname;
+        private final DatagramSocket socket;
+        private final Thread thread;
+        private volatile byte[] address;
+
+        private StubDnsServer(String hostname, String address) throws Exception {
+            this.hostname = hostname;
+            this.socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+            setAddress(address);
+            this.thread = new Thread(this::serve, "stub-dns");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private int port() {
+            return socket.getLocalPort();
+        }
+
+        private void setAddress(String address) throws UnknownHostException {
+            this.address = InetAddress.getByName(address).getAddress();
+        }
+
+        private void serve() {
+            byte[] buffer = new byte[512];
+            while (!socket.isClosed()) {
+                try {
+                    DatagramPacket request = new DatagramPacket(buffer, buffer.length);
+                    socket.receive(request);
+                    byte[] response = answer(Arrays.copyOf(request.getData(), request.getLength()));
+                    socket.send(new DatagramPacket(response, response.length, request.getSocketAddress()));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private byte[] answer(byte[] query) {
+            int offset = 12;
+            StringBuilder name = new StringBuilder();
+            while (query[offset] != 0) {
+                int length = query[offset];
+                if (!name.isEmpty()) {
+                    name.append('.');
+                }
+                name.append(new String(query, offset + 1, length, StandardCharsets.US_ASCII));
+                offset += length + 1;
+            }
+            int type = ((query[offset + 1] & 0xff) << 8) | (query[offset + 2] & 0xff);
+            int questionEnd = offset + 5;
+            boolean known = hostname.equalsIgnoreCase(name.toString());
+            boolean hasAnswer = known && type == 1;
+            ByteBuffer response = ByteBuffer.allocate(questionEnd + 16);
+            response.put(query, 0, 2);
+            response.putShort((short) (known ? 0x8180 : 0x8183));
+            response.putShort((short) 1);
+            response.putShort((short) (hasAnswer ? 1 : 0));
+            response.putShort((short) 0);
+            response.putShort((short) 0);
+            response.put(query, 12, questionEnd - 12);
+            if (hasAnswer) {
+                response.putShort((short) 0xc00c);
+                response.putShort((short) 1);
+                response.putShort((short) 1);
+                response.putInt(0);
+                response.putShort((short) 4);
+                response.put(address);
+            }
+            return Arrays.copyOf(response.array(), response.position());
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            socket.close();
+            thread.join(1_000L);
+        }
+    }
+
+    private static final class StubDns implements Dns {
+        private final List<String> addresses;
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private StubDns(String... addresses) {
+            this.addresses = List.of(addresses);
+        }
+
+        @Override
+        public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+            lookups.incrementAndGet();
+            if (addresses.isEmpty()) {
+                throw new UnknownHostException(hostname);
+            }
+            List<InetAddress> resolved = new ArrayList<>();
+            for (String address : addresses) {
+                resolved.add(InetAddress.getByAddress(hostname, InetAddress.getByName(address).getAddress()));
+            }
+            return resolved;
+        }
+    }
+}
@@ -12,11 +12,15 @@ import okio.Buffer;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import static org.testng.Assert.*;
 
@@ -522,6 +526,116 @@ public class OkHttpRequestBuilderTest {
         assertTrue(bodyContent.contains("中文测试"));
     }
 
+    // ==================== 编码缓存与压缩测试 ====================
+
+    @Test(description = "测试相同内容复用已编码的请求体，内容变化后重新编码")
+    public void testReuseEncodedBodyForSameContent() throws IOException {
+        request.headersList.add(new HttpHeader(true, "Content-Type", "application/json"));
+        request.body = "{\"id\": 1}";
+
+        RequestBody first = OkHttpRequestBuilder.buildRequest(request).body();
+        RequestBody second = OkHttpRequestBuilder.buildRequest(request).body();
+        request.body = "{\"id\": 2}";
+        RequestBody changed = OkHttpRequestBuilder.buildRequest(request).body();
+
+        assertSame(second, first);
+        assertNotSame(changed, first);
+        assertEquals(readRequestBody(first), "{\"id\": 1}");
+        assertEquals(readRequestBody(first), readRequestBody(second), "缓存的请求体应可重复写出");
+        assertEquals(readRequestBody(changed), "{\"id\": 2}");
+    }
+
+    @Test(description = "测试未压缩的 urlencoded 表单同样复用已编码的请求体")
+    public void testReuseEncodedFormBodyWithoutCompression() throws IOException {
+        request.urlencodedList = new ArrayList<>();
+        request.urlencodedList.add(new HttpFormUrlencoded(true, "name", "张三"));
+        request.urlencodedList.add(new HttpFormUrlencoded(true, "tag", "a&b"));
+
+        RequestBody first = OkHttpRequestBuilder.buildFormRequest(request).body();
+        RequestBody second = OkHttpRequestBuilder.buildFormRequest(request).body();
+        request.urlencodedList.set(1, new HttpFormUrlencoded(true, "tag", "c"));
+        RequestBody changed = OkHttpRequestBuilder.buildFormRequest(request).body();
+
+        assertSame(second, first);
+        assertNotSame(changed, first);
+        assertEquals(Objects.requireNonNull(first.contentType()).toString(), "application/x-www-form-urlencoded");
+        assertEquals(readRequestBody(first), "name=%E5%BC%A0%E4%B8%89&tag=a%26b");
+        assertEquals(readRequestBody(changed), "name=%E5%BC%A0%E4%B8%89&tag=c");
+    }
+
+    @Test(description = "测试按 Content-Encoding 压缩文本请求体")
+    public void testCompressBodyByContentEncoding() throws IOException {
+        String json = "{\"items\": [" + "\"value\",".repeat(200) + "\"end\"]}";
+        request.headersList.add(new HttpHeader(true, "Content-Type", "application/json"));
+        request.headersList.add(new HttpHeader(true, "Content-Encoding", "gzip"));
+        request.body = json;
+
+        Request gzipRequest = OkHttpRequestBuilder.buildRequest(request);
+        byte[] gzipped = readRequestBytes(gzipRequest.body());
+
+        assertEquals(gzipRequest.header("Content-Encoding"), "gzip");
+        assertTrue(gzipped.length < json.length());
+        assertEquals(gzipRequest.body().contentLength(), gzipped.length);
+        assertEquals(new String(new GZIPInputStream(new ByteArrayInputStream(gzipped)).readAllBytes(),
+                StandardCharsets.UTF_8), json);
+
+        request.headersList.set(1, new HttpHeader(true, "Content-Encoding", "deflate"));
+        byte[] deflated = readRequestBytes(OkHttpRequestBuilder.buildRequest(request).body());
+        assertEquals(new String(new InflaterInputStream(new ByteArrayInputStream(deflated)).readAllBytes(),
+                StandardCharsets.UTF_8), json);
+
+        request.headersList.set(1, new HttpHeader(true, "Content-Encoding", "identity"));
+        assertEquals(readRequestBody(OkHttpRequestBuilder.buildRequest(request).body()), json);
+    }
+
+    @Test(description = "测试无法生成的 Content-Encoding 拒绝发送请求体，没有请求体时不受影响")
+    public void testRejectUnsupportedContentEncoding() {
+        request.headersList.add(new HttpHeader(true, "Content-Type", "application/json"));
+        request.headersList.add(new HttpHeader(true, "Content-Encoding", "br"));
+        request.body = "{\"a\": 1}";
+
+        IllegalArgumentException error = expectThrows(IllegalArgumentException.class,
+                () -> OkHttpRequestBuilder.buildRequest(request));
+        assertTrue(error.getMessage().contains("br"));
+
+        request.method = "GET";
+        assertNull(OkHttpRequestBuilder.buildRequest(request).body());
+
+        request.method = "POST";
+        request.urlencodedList = new ArrayList<>();
+        request.urlencodedList.add(new HttpFormUrlencoded(true, "name", "value"));
+        assertThrows(IllegalArgumentException.class, () -> OkHttpRequestBuilder.buildFormRequest(request));
+    }
+
+    @Test(description = "测试压缩的请求体在快照中记录压缩前的文本")
+    public void testSnapshotShowsUncompressedBody() {
+        request.headersList.add(new HttpHeader(true, "Content-Type", "text/plain; charset=utf-8"));
+        request.headersList.add(new HttpHeader(true, "Content-Encoding", "gzip"));
+        request.body = "compressed payload";
+
+        Request okRequest = OkHttpRequestBuilder.buildRequest(request);
+        OkHttpRequestSnapshotCapture.capture(request, okRequest, true);
+
+        assertEquals(request.sentRequestBody, "compressed payload");
+        assertTrue(request.sentRequestBodyReplayable);
+    }
+
+    @Test(description = "测试压缩 urlencoded 表单")
+    public void testCompressFormBody() throws IOException {
+        request.urlencodedList = new ArrayList<>();
+        request.urlencodedList.add(new HttpFormUrlencoded(true, "name", "张三"));
+        request.urlencodedList.add(new HttpFormUrlencoded(true, "tag", "a&b"));
+        request.headersList.add(new HttpHeader(true, "Content-Encoding", "gzip"));
+
+        Request okRequest = OkHttpRequestBuilder.buildFormRequest(request);
+        byte[] gzipped = readRequestBytes(okRequest.body());
+
+        assertTrue(Objects.requireNonNull(okRequest.body().contentType()).toString()
+                .startsWith("application/x-www-form-urlencoded"));
+        assertEquals(new String(new GZIPInputStream(new ByteArrayInputStream(gzipped)).readAllBytes(),
+                StandardCharsets.UTF_8), "name=%E5%BC%A0%E4%B8%89&tag=a%26b");
+    }
+
     // ==================== 辅助方法 ====================
 
     /**
@@ -535,5 +649,11 @@ public class OkHttpRequestBuilderTest {
         body.writeTo(buffer);
         return buffer.readUtf8();
     }
+
+    private byte[] readRequestBytes(RequestBody body) throws IOException {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return buffer.readByteArray();
+    }
 }
 
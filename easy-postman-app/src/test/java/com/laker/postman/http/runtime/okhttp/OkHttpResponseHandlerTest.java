@@ -1,5 +1,9 @@
 package com.laker.postman.http.runtime.okhttp;
 
+import com.laker.postman.http.runtime.config.HttpRuntimeSettings;
+import com.laker.postman.http.runtime.config.HttpRuntimeSettingsProvider;
+import com.laker.postman.http.runtime.interaction.DownloadProgressSinkFactory;
+import com.laker.postman.http.runtime.interaction.ResponseSizeLimitWarning;
 import com.laker.postman.http.runtime.model.HttpResponse;
 import com.laker.postman.http.runtime.model.PreparedRequest;
 import okhttp3.MediaType;
@@ -10,12 +14,17 @@ import okhttp3.ResponseBody;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
@@ -98,6 +107,82 @@ public class OkHttpResponseHandlerTest {
         assertTrue(response.body.contains("truncated") || response.body.contains("截断"), response.body);
     }
 
+    @Test
+    public void shouldSpillTextBodyAboveMaxBodySizeToTempFile() throws Exception {
+        String largeBody = "{\"items\":[" + "\"数据\",".repeat(4096) + "\"end\"]}";
+        HttpResponse response = new HttpResponse();
+        HttpRuntimeSettingsProvider.set(limits(1024, 0));
+        try {
+            OkHttpResponseHandler.handleResponse(responseWithBody(largeBody), response, null);
+
+            assertTrue(response.bodySpilledToFile);
+            assertNotNull(response.filePath);
+            assertEquals(response.bodySize, largeBody.getBytes(StandardCharsets.UTF_8).length);
+            assertEquals(Files.size(Path.of(response.filePath)), response.bodySize);
+            assertFalse(response.body.contains("数据"), "Spilled body should only keep a hint in memory");
+            assertEquals(response.fullBodyText(), largeBody);
+        } finally {
+            HttpRuntimeSettingsProvider.reset();
+            if (response.filePath != null) {
+                Files.deleteIfExists(Path.of(response.filePath));
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepSmallTextBodyInMemory() throws Exception {
+        HttpResponse response = new HttpResponse();
+
+        OkHttpResponseHandler.handleResponse(responseWithBody("hello"), response, null);
+
+        assertFalse(response.bodySpilledToFile);
+        assertNull(response.filePath);
+        assertEquals(response.body, "hello");
+        assertEquals(response.fullBodyText(), "hello");
+    }
+
+    @Test
+    public void shouldStopReadingWhenDecodedBodyExceedsMaxDownloadSize() throws Exception {
+        HttpResponse response = new HttpResponse();
+        List<ResponseSizeLimitWarning> warnings = new ArrayList<>();
+        HttpRuntimeSettingsProvider.set(limits(1024, 4096));
+        try {
+            // 没有 Content-Length（例如压缩传输）时只能在读取中发现超限
+            OkHttpResponseHandler.handleResponse(
+                    responseWithBody("x".repeat(64 * 1024)),
+                    response,
+                    null,
+                    PreparedRequest.ResponseBodyMode.FULL,
+                    0,
+                    DownloadProgressSinkFactory.noop(),
+                    warnings::add
+            );
+
+            assertEquals(response.bodySize, 0);
+            assertNull(response.filePath);
+            assertFalse(response.bodySpilledToFile);
+            assertEquals(warnings.size(), 1);
+            assertEquals(warnings.get(0).kind(), ResponseSizeLimitWarning.Kind.TEXT);
+            assertTrue(warnings.get(0).contentLengthBytes() > 4096);
+        } finally {
+            HttpRuntimeSettingsProvider.reset();
+        }
+    }
+
+    private static HttpRuntimeSettings limits(int maxBodySize, int maxDownloadSize) {
+        return new HttpRuntimeSettings() {
+            @Override
+            public int getMaxBodySize() {
+                return maxBodySize;
+            }
+
+            @Override
+            public int getMaxDownloadSize() {
+                return maxDownloadSize;
+            }
+        };
+    }
+
     private static Response responseWithBody(String body) throws IOException {
         return new Response.Builder()
                 .request(new Request.Builder().url("http://example.test/large").build())
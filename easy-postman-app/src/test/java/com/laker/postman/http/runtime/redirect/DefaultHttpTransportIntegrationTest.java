@@ -29,6 +29,7 @@ import com.laker.postman.service.curl.CurlParser;
 import com.laker.postman.util.I18nUtil;
 import com.laker.postman.util.MessageKeys;
 import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
@@ -60,6 +61,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -122,6 +124,40 @@ public class DefaultHttpTransportIntegrationTest {
         assertEquals(recordedRequest.getHeader("User-Agent"), "EasyPostman/Test");
     }
 
+    @Test
+    public void shouldExcludeDispatcherQueueWaitFromAsyncResponseTime() throws Exception {
+        server = createServer();
+        server.enqueue(new MockResponse()
+                .setHeadersDelay(400, TimeUnit.MILLISECONDS)
+                .setBody("slow"));
+        server.enqueue(new MockResponse().setBody("queued"));
+        okhttp3.Dispatcher dispatcher = new okhttp3.Dispatcher();
+        dispatcher.setMaxRequests(1);
+        dispatcher.setMaxRequestsPerHost(1);
+        OkHttpClient baseClient = new OkHttpClient.Builder().dispatcher(dispatcher).build();
+        HttpExchangeOptions options = HttpExchangeOptions.builder()
+                .baseClientProvider(ignored -> baseClient)
+                .build();
+
+        try {
+            CompletableFuture<HttpResponse> slow =
+                    httpTransport.executeAsync(createRequest("GET", serverUrl("/slow")), options);
+            CompletableFuture<HttpResponse> queued =
+                    httpTransport.executeAsync(createRequest("GET", serverUrl("/queued")), options);
+            HttpResponse slowResponse = slow.get(RECORDED_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            HttpResponse queuedResponse = queued.get(RECORDED_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            assertEquals(slowResponse.body, "slow");
+            assertTrue(slowResponse.costMs >= 400, "costMs=" + slowResponse.costMs);
+            assertEquals(queuedResponse.body, "queued");
+            assertTrue(queuedResponse.queueWaitMs >= 300, "queueWaitMs=" + queuedResponse.queueWaitMs);
+            assertTrue(queuedResponse.costMs < 300, "costMs=" + queuedResponse.costMs);
+        } finally {
+            dispatcher.executorService().shutdown();
+            baseClient.connectionPool().evictAll();
+        }
+    }
+
     @Test
     public void shouldSendJsonPostBodyToServer() throws Exception {
         server = createServer();
@@ -16,6 +16,7 @@ import java.util.Arrays;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class SSLConfigurationUtilTest {
@@ -71,6 +72,45 @@ public class SSLConfigurationUtilTest {
         assertNotNull(builder.build());
     }
 
+    @Test
+    public void shouldShareTlsContextBetweenClientsWithSameTrustSettings() {
+        SSLConfigurationUtil.clearTlsContextCache();
+        try {
+            OkHttpClient first = configuredClient(SSLConfigurationUtil.SSLVerificationMode.LENIENT, "a.example.com");
+            OkHttpClient second = configuredClient(SSLConfigurationUtil.SSLVerificationMode.LENIENT, "b.example.com");
+            OkHttpClient strict = configuredClient(SSLConfigurationUtil.SSLVerificationMode.STRICT, "a.example.com");
+
+            assertSame(second.sslSocketFactory(), first.sslSocketFactory());
+            assertSame(second.x509TrustManager(), first.x509TrustManager());
+            assertTrue(first.sslSocketFactory() instanceof CertificateCapturingSSLSocketFactory);
+            assertNotSame(strict.sslSocketFactory(), first.sslSocketFactory());
+            assertEquals(strict.sslSocketFactory().getClass().getName(),
+                    new OkHttpClient().sslSocketFactory().getClass().getName());
+        } finally {
+            SSLConfigurationUtil.clearTlsContextCache();
+        }
+    }
+
+    @Test
+    public void clearingTlsContextCacheShouldCreateFreshContext() {
+        SSLConfigurationUtil.clearTlsContextCache();
+        try {
+            OkHttpClient before = configuredClient(SSLConfigurationUtil.SSLVerificationMode.STRICT, "a.example.com");
+            SSLConfigurationUtil.clearTlsContextCache();
+            OkHttpClient after = configuredClient(SSLConfigurationUtil.SSLVerificationMode.STRICT, "a.example.com");
+
+            assertNotSame(after.sslSocketFactory(), before.sslSocketFactory());
+        } finally {
+            SSLConfigurationUtil.clearTlsContextCache();
+        }
+    }
+
+    private static OkHttpClient configuredClient(SSLConfigurationUtil.SSLVerificationMode mode, String host) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        SSLConfigurationUtil.configureSSL(builder, mode, host, 443, false);
+        return builder.build();
+    }
+
     private static X509TrustManager getDefaultTrustManager() throws Exception {
         TrustManagerFactory factory = TrustManagerFactory.getInstance(
                 TrustManagerFactory.getDefaultAlgorithm());
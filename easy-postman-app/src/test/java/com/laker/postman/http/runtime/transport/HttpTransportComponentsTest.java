@@ -262,8 +262,8 @@ public class HttpTransportComponentsTest {
                 .map(Method::getName)
                 .collect(Collectors.toSet());
 
-        assertEquals(methodNames, Set.of("execute", "openSse", "openWebSocket"));
-        assertEquals(HttpTransport.class.getDeclaredMethods().length, 3);
+        assertEquals(methodNames, Set.of("execute", "executeAsync", "openSse", "openWebSocket"));
+        assertEquals(HttpTransport.class.getDeclaredMethods().length, 4);
     }
 
     @Test
@@ -0,0 +1,81 @@
+package com.laker.postman.panel.collections.editor.request.sub;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class LargeResponseDocumentTest {
+
+    @Test
+    public void shouldFormatJsonAndIndexLinesAndFolds() {
+        LargeResponseDocument document = LargeResponseDocument.build(
+                "{\"a\":[1,{}],\"b\":{\"c\":\"x,\\\"y\"},\"e\":[]}", true, null, null);
+
+        assertTrue(document.isFormattedJson());
+        assertEquals(document.text(), """
+                {
+                  "a" : [
+                    1,
+                    {}
+                  ],
+                  "b" : {
+                    "c" : "x,\\"y"
+                  },
+                  "e" : []
+                }""");
+        assertEquals(document.lineCount(), 10);
+        assertEquals(document.lineText(6), "    \"c\" : \"x,\\\"y\"");
+        assertEquals(document.foldEnd(0), 9);
+        assertEquals(document.foldEnd(1), 4);
+        assertEquals(document.foldEnd(5), 7);
+        assertEquals(document.foldEnd(3), -1);
+        assertEquals(document.foldCount(), 3);
+    }
+
+    @Test
+    public void shouldFallBackToRawLinesWhenContentIsNotJson() {
+        LargeResponseDocument document = LargeResponseDocument.build("{bad /* comment */}\r\nnext", true, null, null);
+
+        assertFalse(document.isFormattedJson());
+        assertEquals(document.lineCount(), 2);
+        assertEquals(document.lineText(0), "{bad /* comment */}");
+        assertEquals(document.lineText(1), "next");
+        assertEquals(document.foldEnd(0), -1);
+    }
+
+    @Test
+    public void shouldFindMatchesAndMapOffsetsToLines() {
+        LargeResponseDocument document = LargeResponseDocument.build("alpha\nBeta\nalphabet\n", false, null, null);
+
+        int first = document.find("beta", 0, true, false, false);
+        assertEquals(document.lineOfOffset(first), 1);
+        assertEquals(document.find("beta", 0, true, true, false), -1);
+        int wholeWord = document.find("alpha", first, true, true, true);
+        assertEquals(document.lineOfOffset(wholeWord), 0, "搜索到末尾后应回绕，且整词匹配要跳过 alphabet");
+        int previous = document.find("alpha", document.text().length(), false, true, false);
+        assertEquals(document.lineOfOffset(previous), 2);
+    }
+
+    @Test
+    public void shouldReportProgressAndHonourCancellation() {
+        String body = "[" + "1,".repeat(LargeResponseDocument.CHUNK_SIZE) + "1]";
+        List<Integer> progress = new ArrayList<>();
+
+        LargeResponseDocument.build(body, true, progress::add, null);
+
+        assertTrue(progress.size() > 2);
+        assertEquals(progress.get(progress.size() - 1).intValue(), 1000);
+        try {
+            LargeResponseDocument.build(body, true, null, () -> true);
+            throw new AssertionError("expected cancellation");
+        } catch (CancellationException expected) {
+            // expected
+        }
+    }
+}
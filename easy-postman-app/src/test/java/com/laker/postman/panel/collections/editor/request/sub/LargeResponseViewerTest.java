@@ -0,0 +1,46 @@
+package com.laker.postman.panel.collections.editor.request.sub;
+
+import com.laker.postman.test.AbstractSwingUiTest;
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.testng.annotations.Test;
+
+import javax.swing.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class LargeResponseViewerTest extends AbstractSwingUiTest {
+
+    @Test
+    public void shouldMapRowsAcrossCollapsedFolds() throws Exception {
+        LargeResponseDocument document = LargeResponseDocument.build(
+                "{\"a\":{\"b\":[1,2],\"c\":3},\"d\":4}", true, null, null);
+        LargeResponseViewer[] holder = new LargeResponseViewer[1];
+        SwingUtilities.invokeAndWait(() -> {
+            holder[0] = new LargeResponseViewer(new RSyntaxTextArea());
+            holder[0].setDocument(document);
+        });
+        LargeResponseViewer viewer = holder[0];
+        // 0 {  1 "a" : {  2 "b" : [  3 1,  4 2  5 ],  6 "c" : 3  7 },  8 "d" : 4  9 }
+        assertEquals(viewer.rowCount(), 10);
+
+        SwingUtilities.invokeAndWait(() -> {
+            viewer.toggleFold(2);
+            viewer.toggleFold(1);
+        });
+
+        assertTrue(viewer.isCollapsed(1));
+        assertEquals(viewer.rowCount(), 4);
+        assertEquals(viewer.rowToLine(1), 1);
+        assertEquals(viewer.rowToLine(2), 8);
+        assertEquals(viewer.lineToRow(9), 3);
+        assertEquals(viewer.lineToRow(4), 1, "被折叠的行应映射到折叠头");
+
+        SwingUtilities.invokeAndWait(() -> viewer.toggleFold(1));
+
+        assertFalse(viewer.isCollapsed(1));
+        assertEquals(viewer.rowCount(), 7, "内层折叠在外层展开后仍然生效");
+        assertEquals(viewer.rowToLine(3), 6);
+    }
+}
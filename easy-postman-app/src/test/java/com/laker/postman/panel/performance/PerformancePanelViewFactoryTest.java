@@ -172,6 +172,7 @@ public class PerformancePanelViewFactoryTest extends AbstractSwingUiTest {
         AtomicInteger importCount = new AtomicInteger();
         AtomicInteger exportCount = new AtomicInteger();
         AtomicInteger usageHelpCount = new AtomicInteger();
+        AtomicInteger mockServerCount = new AtomicInteger();
         AtomicInteger remoteToggleCount = new AtomicInteger();
 
         PerformancePanelViewFactory.ToolbarSection toolbarSection = viewFactory.createToolbarSection(
@@ -180,6 +181,7 @@ public class PerformancePanelViewFactoryTest extends AbstractSwingUiTest {
                 usageHelpCount::incrementAndGet,
                 () -> {
                 },
+                mockServerCount::incrementAndGet,
                 false,
                 "127.0.0.1:19090",
                 ignored -> remoteToggleCount.incrementAndGet(),
@@ -229,6 +231,8 @@ public class PerformancePanelViewFactoryTest extends AbstractSwingUiTest {
         assertEquals(exportCount.get(), 1);
         toolbarSection.usageHelpBtn().doClick();
         assertEquals(usageHelpCount.get(), 1);
+        toolbarSection.mockServerBtn().doClick();
+        assertEquals(mockServerCount.get(), 1);
         toolbarSection.remoteModeCheckBox().doClick();
         assertEquals(remoteToggleCount.get(), 1);
         assertTrue(toolbarSection.workerEndpointsField().isVisible());
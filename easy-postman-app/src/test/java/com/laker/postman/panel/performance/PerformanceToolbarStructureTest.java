@@ -124,6 +124,8 @@ public class PerformanceToolbarStructureTest extends AbstractSwingUiTest {
                 },
                 () -> {
                 },
+                () -> {
+                },
                 false,
                 "127.0.0.1:19090",
                 ignored -> {
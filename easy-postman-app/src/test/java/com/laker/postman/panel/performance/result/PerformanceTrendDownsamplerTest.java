@@ -0,0 +1,80 @@
+package com.laker.postman.panel.performance.result;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceTrendDownsamplerTest {
+
+    @Test
+    public void shouldReturnEveryPointBelowThreshold() {
+        PerformanceTrendPointStore store = storeOf(50);
+
+        int[] selected = PerformanceTrendDownsampler.select(store, 10, 40, 100);
+
+        assertEquals(selected.length, 30);
+        assertEquals(selected[0], 10);
+        assertEquals(selected[29], 39);
+    }
+
+    @Test
+    public void shouldKeepEndpointsSpikeAndDip() {
+        PerformanceTrendPointStore store = new PerformanceTrendPointStore();
+        for (int i = 0; i < 10_000; i++) {
+            double value = i == 4_321 ? 500 : i == 7_000 ? 0 : 10 + (i % 2);
+            store.put(1_000L * i, value);
+        }
+
+        int[] selected = PerformanceTrendDownsampler.select(store, 0, store.size(), 100);
+
+        assertTrue(selected.length <= 200, "selected: " + selected.length);
+        assertEquals(selected[0], 0);
+        assertEquals(selected[selected.length - 1], 9_999);
+        assertTrue(contains(selected, 4_321));
+        assertTrue(contains(selected, 7_000));
+        for (int i = 1; i < selected.length; i++) {
+            assertTrue(selected[i] > selected[i - 1]);
+        }
+    }
+
+    @Test
+    public void shouldKeepGapInsideBucket() {
+        PerformanceTrendPointStore store = new PerformanceTrendPointStore();
+        for (int i = 0; i < 1_000; i++) {
+            store.put(1_000L * i, i >= 500 && i < 505 ? Double.NaN : i);
+        }
+
+        int[] selected = PerformanceTrendDownsampler.select(store, 0, store.size(), 50);
+
+        boolean hasGap = false;
+        for (int index : selected) {
+            hasGap |= Double.isNaN(store.valueAt(index));
+        }
+        assertTrue(hasGap);
+    }
+
+    @Test
+    public void shouldMergeSortedIndicesWithoutDuplicates() {
+        int[] merged = PerformanceTrendDownsampler.merge(new int[]{0, 5, 9}, new int[]{3, 5, 6, 9});
+
+        assertEquals(merged, new int[]{0, 3, 5, 6, 9});
+    }
+
+    private static PerformanceTrendPointStore storeOf(int size) {
+        PerformanceTrendPointStore store = new PerformanceTrendPointStore();
+        for (int i = 0; i < size; i++) {
+            store.put(1_000L * i, i);
+        }
+        return store;
+    }
+
+    private static boolean contains(int[] values, int expected) {
+        for (int value : values) {
+            if (value == expected) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,77 +1,78 @@
 package com.laker.postman.panel.performance.result;
 
-import com.laker.postman.common.UiSingletonFactory;
-import org.jfree.chart.ChartPanel;
 import org.jfree.data.time.Millisecond;
 import org.jfree.data.time.TimeSeries;
-import org.jfree.data.time.TimeSeriesCollection;
 import org.testng.annotations.Test;
 
-import javax.swing.SwingUtilities;
-import java.awt.Component;
-import java.awt.Container;
 import java.util.Date;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static org.testng.Assert.assertEquals;
-import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 public class PerformanceTrendPanelRetentionTest {
+    private static final int EIGHT_HOURS_OF_SECONDS = 8 * 3_600;
+    private static final int DISPLAY_POINTS = 1_000;
 
     @Test
-    public void shouldLimitTrendSeriesLengthForLongRunningTests() throws Exception {
-        runOnEdtAndWait(() -> {
-            PerformanceTrendPanel panel = UiSingletonFactory.getInstance(PerformanceTrendPanel.class);
-            panel.clearTrendDataset();
-            ChartPanel chartPanel = findFirst(panel, ChartPanel.class);
-            assertNotNull(chartPanel);
-            TimeSeriesCollection dataset = (TimeSeriesCollection) chartPanel.getChart().getXYPlot().getDataset();
-            TimeSeries series = dataset.getSeries(0);
-
-            long base = System.currentTimeMillis();
-            for (int i = 0; i < 3_605; i++) {
-                series.add(new Millisecond(new Date(base + i)), i);
-            }
+    public void shouldKeepWholeRunVisibleWithBoundedPointsForLongRunningTests() {
+        TimeSeries series = new TimeSeries("rps");
+        PerformanceTrendSeriesHistory history = new PerformanceTrendSeriesHistory(series);
+        long base = 1_700_000_000_000L;
+        for (int i = 0; i < EIGHT_HOURS_OF_SECONDS; i++) {
+            history.put(new Millisecond(new Date(base + i * 1_000L)), i == 12_345 ? 5_000 : 100, DISPLAY_POINTS);
+        }
 
-            assertEquals(series.getMaximumItemCount(), 3_600);
-            assertEquals(series.getItemCount(), 3_600);
-        });
+        assertEquals(history.size(), EIGHT_HOURS_OF_SECONDS);
+        assertTrue(series.getItemCount() <= DISPLAY_POINTS * 2 + EIGHT_HOURS_OF_SECONDS / DISPLAY_POINTS,
+                "display points: " + series.getItemCount());
+        assertEquals(series.getTimePeriod(0).getFirstMillisecond(), base);
+        assertEquals(series.getTimePeriod(series.getItemCount() - 1).getFirstMillisecond(),
+                base + (EIGHT_HOURS_OF_SECONDS - 1) * 1_000L);
+        assertEquals(series.getDataItem(new Millisecond(new Date(base + 12_345_000L))).getValue().intValue(), 5_000);
     }
 
-    private static <T extends Component> T findFirst(Component root, Class<T> type) {
-        if (type.isInstance(root)) {
-            return type.cast(root);
+    @Test
+    public void shouldShowEveryPointInsideZoomedRangeAndReturnToOverview() {
+        TimeSeries series = new TimeSeries("rps");
+        PerformanceTrendSeriesHistory history = new PerformanceTrendSeriesHistory(series);
+        long base = 1_700_000_000_000L;
+        for (int i = 0; i < EIGHT_HOURS_OF_SECONDS; i++) {
+            history.put(new Millisecond(new Date(base + i * 1_000L)), i % 7, DISPLAY_POINTS);
         }
-        if (root instanceof Container container) {
-            for (Component child : container.getComponents()) {
-                T match = findFirst(child, type);
-                if (match != null) {
-                    return match;
-                }
-            }
+        int overviewCount = series.getItemCount();
+
+        long zoomStart = base + 3_600_000L;
+        history.zoom(zoomStart, zoomStart + 599_000L, DISPLAY_POINTS);
+
+        for (int i = 0; i < 600; i++) {
+            assertEquals(series.getDataItem(new Millisecond(new Date(zoomStart + i * 1_000L))).getValue().intValue(),
+                    (3_600 + i) % 7);
         }
-        return null;
+
+        history.zoom(null, null, DISPLAY_POINTS);
+        assertTrue(series.getItemCount() <= overviewCount);
+        assertNull(series.getDataItem(new Millisecond(new Date(zoomStart + 1_000L))));
     }
 
-    private static void runOnEdtAndWait(ThrowingRunnable action) throws Exception {
-        AtomicReference<Throwable> failure = new AtomicReference<>();
-        SwingUtilities.invokeAndWait(() -> {
-            try {
-                action.run();
-            } catch (Throwable throwable) {
-                failure.set(throwable);
-            }
-        });
-        if (failure.get() instanceof Exception exception) {
-            throw exception;
-        }
-        if (failure.get() instanceof Error error) {
-            throw error;
+    @Test
+    public void shouldKeepNullGapsAfterDownsampling() {
+        TimeSeries series = new TimeSeries("avg");
+        PerformanceTrendSeriesHistory history = new PerformanceTrendSeriesHistory(series);
+        long base = 1_700_000_000_000L;
+        for (int i = 0; i < 5_000; i++) {
+            Number value = i >= 2_000 && i < 2_100 ? null : 50 + (i % 3);
+            history.put(new Millisecond(new Date(base + i * 1_000L)), value, 200);
         }
-    }
 
-    @FunctionalInterface
-    private interface ThrowingRunnable {
-        void run() throws Exception;
+        boolean hasGap = false;
+        for (int i = 0; i < series.getItemCount(); i++) {
+            if (series.getValue(i) == null) {
+                long time = series.getTimePeriod(i).getFirstMillisecond();
+                assertTrue(time >= base + 2_000_000L && time < base + 2_100_000L);
+                hasGap = true;
+            }
+        }
+        assertTrue(hasGap);
     }
 }
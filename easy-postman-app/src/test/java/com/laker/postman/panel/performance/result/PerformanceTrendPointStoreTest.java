@@ -0,0 +1,53 @@
+package com.laker.postman.panel.performance.result;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceTrendPointStoreTest {
+
+    @Test
+    public void shouldAppendAcrossChunksInTimeOrder() {
+        PerformanceTrendPointStore store = new PerformanceTrendPointStore();
+        for (int i = 0; i < 10_000; i++) {
+            store.put(1_000L * i, i);
+        }
+
+        assertEquals(store.size(), 10_000);
+        assertEquals(store.timeAt(4_096), 4_096_000L);
+        assertEquals(store.valueAt(9_999), 9_999.0);
+        assertEquals(store.lowerBound(4_095_500L), 4_096);
+        assertEquals(store.lowerBound(20_000_000L), 10_000);
+    }
+
+    @Test
+    public void shouldOverwriteSameTimeAndInsertOutOfOrderPoints() {
+        PerformanceTrendPointStore store = new PerformanceTrendPointStore();
+        store.put(1_000L, 1);
+        store.put(3_000L, 3);
+        store.put(3_000L, 30);
+        store.put(2_000L, 2);
+
+        assertEquals(store.size(), 3);
+        assertEquals(store.timeAt(1), 2_000L);
+        assertEquals(store.valueAt(1), 2.0);
+        assertEquals(store.valueAt(2), 30.0);
+    }
+
+    @Test
+    public void shouldFindLastPositiveValueAndClear() {
+        PerformanceTrendPointStore store = new PerformanceTrendPointStore();
+        store.put(1_000L, 5);
+        store.put(2_000L, Double.NaN);
+        store.put(3_000L, 0);
+
+        assertEquals(store.lastPositiveTimeMs().longValue(), 1_000L);
+        assertTrue(Double.isNaN(store.valueAt(1)));
+
+        store.clear();
+        assertEquals(store.size(), 0);
+        assertNull(store.lastPositiveTimeMs());
+    }
+}
@@ -48,6 +48,18 @@ public class PerformanceRunCliCommandTest {
         assertEquals(options.getOutPath(), Path.of("/tmp/result.json"));
     }
 
+    @Test
+    public void shouldParseJfrRecordingPath() {
+        PerformanceRunCliOptions options = PerformanceRunCliOptions.parse(new String[]{
+                "performance", "run", "--plan", "/tmp/plan.json", "--jfr", "/tmp/run.jfr"
+        });
+
+        assertEquals(options.getJfrPath(), Path.of("/tmp/run.jfr"));
+        assertEquals(PerformanceRunCliOptions.parse(new String[]{
+                "performance", "run", "--plan", "/tmp/plan.json"
+        }).getJfrPath(), null);
+    }
+
     @Test
     public void shouldExecuteEmptyPlanHeadlesslyAndWriteResultJson() throws Exception {
         Path tempDir = Files.createTempDirectory("ep-headless-run");
@@ -129,6 +129,26 @@ public class DefaultPerformanceNetworkRuntimeTest {
         assertEquals(nextRunClient.dispatcher().getMaxRequests(), 29);
     }
 
+    @Test
+    public void shouldWidenDispatcherLimitsForReservedAsyncConcurrency() {
+        DefaultPerformanceNetworkRuntime runtime = new DefaultPerformanceNetworkRuntime(
+                () -> new HttpClientRuntimeConfig(7, 11, 1000, 1000)
+        );
+        runtime.reserveAsyncConcurrency(5000);
+        runtime.beginRun();
+
+        OkHttpClient asyncRunClient = runtime.getBaseClient(preparedRequest("http://example.test/api"));
+
+        assertEquals(asyncRunClient.dispatcher().getMaxRequests(), 5000);
+        assertEquals(asyncRunClient.dispatcher().getMaxRequestsPerHost(), 5000);
+
+        runtime.endRun();
+        runtime.beginRun();
+
+        OkHttpClient nextRunClient = runtime.getBaseClient(preparedRequest("http://example.test/api"));
+        assertEquals(nextRunClient.dispatcher().getMaxRequests(), 1000);
+    }
+
     private static PreparedRequest preparedRequest(String url) {
         PreparedRequest request = new PreparedRequest();
         request.url = url;
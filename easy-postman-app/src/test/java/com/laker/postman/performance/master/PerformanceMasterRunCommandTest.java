@@ -218,6 +218,32 @@ public class PerformanceMasterRunCommandTest {
         assertEquals(workerClient.stoppedEndpoints.get(0).getPort(), 19090);
     }
 
+    @Test
+    public void shouldAbortAllWorkersWhenOneWorkerBreachesAbortThreshold() throws Exception {
+        Path tempDir = Files.createTempDirectory("ep-master-run-threshold-abort");
+        Path planPath = tempDir.resolve("plan.json");
+        new PerformanceRunPlanJsonStorage().save(planPath, emptyPlan());
+        RecordingWorkerHttpClient workerClient = new RecordingWorkerHttpClient();
+        workerClient.thresholdAbortPort = 19090;
+
+        new PerformanceMasterRunExecutor(
+                new com.laker.postman.performance.core.worker.PerformanceWorkerAssignmentPlanner(),
+                workerClient
+        ).execute(PerformanceMasterOptions.builder()
+                .planPath(planPath)
+                .workers(List.of(
+                        new com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint("127.0.0.1", 19090),
+                        new com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint("127.0.0.1", 19091)
+                ))
+                .timeoutMs(1_000L)
+                .pollIntervalMs(50L)
+                .build());
+
+        assertEquals(workerClient.abortedEndpoints.size(), 2);
+        assertEquals(workerClient.abortedEndpoints.get(1).getPort(), 19091);
+        assertEquals(workerClient.stopRequests.get(), 0);
+    }
+
     @Test
     public void shouldApplyMasterTimeoutToWorkerHttpRequests() throws Exception {
         Path tempDir = Files.createTempDirectory("ep-master-run-timeout");
@@ -370,6 +396,8 @@ public class PerformanceMasterRunCommandTest {
         private boolean omitResultReport;
         private String workerProtocolVersion = PerformanceWorkerProtocol.CURRENT_VERSION;
         private int failSubmitAt = -1;
+        private int thresholdAbortPort = -1;
+        private final List<com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint> abortedEndpoints = new ArrayList<>();
         private final List<com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint> stoppedEndpoints = new ArrayList<>();
         private final AtomicInteger healthRequests = new AtomicInteger();
         private final AtomicInteger submitRequests = new AtomicInteger();
@@ -411,6 +439,14 @@ public class PerformanceMasterRunCommandTest {
             timeouts.add(timeout);
         }
 
+        @Override
+        public void abort(com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint endpoint,
+                          String runId,
+                          Duration timeout) {
+            abortedEndpoints.add(endpoint);
+            timeouts.add(timeout);
+        }
+
         @Override
         public com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse status(
                 com.laker.postman.performance.core.worker.PerformanceWorkerEndpoint endpoint,
@@ -431,6 +467,17 @@ public class PerformanceMasterRunCommandTest {
                 statusReportRequests.incrementAndGet();
                 report = workerReport("worker-a", request, new AtomicInteger());
             }
+            if (thresholdAbortPort > 0 && abortedEndpoints.isEmpty()) {
+                // 中止前所有 worker 都在运行，其中一台上报阈值越线
+                return com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse.builder()
+                        .runId(runId)
+                        .workerId("worker-" + endpoint.getPort())
+                        .status("RUNNING")
+                        .thresholdAbortReason(endpoint.getPort() == thresholdAbortPort
+                                ? "Threshold breached: overall p95 <= 500 over 10s (actual 900.00)"
+                                : "")
+                        .build();
+            }
             return com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse.builder()
                     .runId(runId)
                     .workerId("worker-a")
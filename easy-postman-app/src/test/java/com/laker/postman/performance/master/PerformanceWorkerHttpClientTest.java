@@ -61,6 +61,20 @@ public class PerformanceWorkerHttpClientTest {
         }
     }
 
+    @Test
+    public void shouldPostAbortToWorkerRunEndpoint() throws Exception {
+        AtomicReference<String> method = new AtomicReference<>();
+        AtomicReference<String> path = new AtomicReference<>();
+        try (TestServer server = TestServer.start(200, "", method, path)) {
+            PerformanceWorkerHttpClient client = new PerformanceWorkerHttpClient();
+
+            client.abort(server.endpoint(), "run-1", Duration.ofSeconds(1));
+
+            assertEquals(method.get(), "POST");
+            assertEquals(path.get(), "/api/performance/v1/runs/run-1/abort");
+        }
+    }
+
     @Test
     public void shouldThrowIOExceptionWhenStopFails() throws Exception {
         try (TestServer server = TestServer.start(409, "already finished", new AtomicReference<>(), new AtomicReference<>())) {
@@ -0,0 +1,174 @@
+package com.laker.postman.performance.mock;
+
+import com.laker.postman.collection.model.CollectionDocument;
+import com.laker.postman.collection.model.CollectionNode;
+import com.laker.postman.collection.model.RequestGroup;
+import com.laker.postman.request.model.HttpHeader;
+import com.laker.postman.request.model.HttpParam;
+import com.laker.postman.request.model.HttpRequestItem;
+import com.laker.postman.request.model.RequestItemProtocolEnum;
+import com.laker.postman.request.model.SavedResponse;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceMockRouteLoaderTest {
+
+    @Test
+    public void shouldConvertSavedHttpResponsesIntoRoutes() {
+        HttpRequestItem item = new HttpRequestItem();
+        item.setName("Get user");
+        item.setMethod("get");
+        item.setUrl("{{baseUrl}}/users/:id?expand=profile&token={{token}}");
+        item.getParamsList().add(new HttpParam(true, "lang", "en"));
+        item.getHeadersList().add(new HttpHeader(true, "X-Tenant", "acme"));
+        item.getHeadersList().add(new HttpHeader(true, "Authorization", "Bearer {{token}}"));
+        SavedResponse saved = new SavedResponse();
+        saved.setName("200");
+        saved.setCode(200);
+        saved.setBody("{\"id\":7}");
+        saved.setCostMs(35L);
+        saved.setHeaders(List.of(
+                new HttpHeader(true, "Content-Type", "application/json"),
+                new HttpHeader(true, "Content-Length", "999"),
+                new HttpHeader(true, "Set-Cookie", "a=1"),
+                new HttpHeader(true, "Set-Cookie", "b=2")
+        ));
+        item.getResponse().add(saved);
+        HttpRequestItem webSocket = new HttpRequestItem();
+        webSocket.setProtocol(RequestItemProtocolEnum.WEBSOCKET);
+        webSocket.getResponse().add(new SavedResponse());
+        RequestGroup group = new RequestGroup("Users");
+        CollectionNode groupNode = CollectionNode.group(group);
+        groupNode.addChild(CollectionNode.request(item));
+        groupNode.addChild(CollectionNode.request(webSocket));
+
+        List<PerformanceMockRoute> routes = PerformanceMockRouteLoader.fromDocument(
+                new CollectionDocument(List.of(groupNode)));
+
+        assertEquals(routes.size(), 1);
+        PerformanceMockRoute route = routes.get(0);
+        assertEquals(route.name(), "Get user / 200");
+        assertEquals(route.method(), "GET");
+        assertEquals(route.path(), "/users/:id");
+        assertTrue(route.templated());
+        assertEquals(route.query(), Map.of("expand", "profile", "lang", "en"));
+        assertEquals(route.headers(), Map.of("x-tenant", "acme"));
+        assertNull(route.body());
+        assertEquals(route.status(), 200);
+        assertEquals(route.responseHeaders(), Map.of(
+                "Content-Type", List.of("application/json"),
+                "Set-Cookie", List.of("a=1", "b=2")
+        ));
+        assertEquals(new String(route.responseBody(), StandardCharsets.UTF_8), "{\"id\":7}");
+        assertEquals(route.recordedLatencyMs(), 35L);
+    }
+
+    @Test
+    public void shouldPreferOriginalRequestRecordedWithTheExample() {
+        HttpRequestItem item = new HttpRequestItem();
+        item.setUrl("https://api.example.com/v1/orders");
+        item.setMethod("GET");
+        SavedResponse saved = new SavedResponse();
+        SavedResponse.OriginalRequest original = new SavedResponse.OriginalRequest();
+        original.setMethod("POST");
+        original.setUrl("https://api.example.com:8443/v1/orders/?source=app");
+        original.setBody("{\"sku\": \"A1\", \"qty\": 2}");
+        saved.setOriginalRequest(original);
+
+        PerformanceMockRoute route = PerformanceMockRouteLoader.toRoute(item, saved);
+
+        assertEquals(route.method(), "POST");
+        assertEquals(route.path(), "/v1/orders");
+        assertEquals(route.query(), Map.of("source", "app"));
+        assertEquals(route.body(), "{\"sku\": \"A1\", \"qty\": 2}");
+    }
+
+    @Test
+    public void shouldMatchExactRoutesBeforeTemplatesAndCompareJsonBodiesStructurally() {
+        PerformanceMockRoute template = route("GET", "/users/{id}", null, "template");
+        PerformanceMockRoute exact = route("GET", "/users/me", null, "exact");
+        PerformanceMockRoute create = route("POST", "/users", "{\"name\":\"a\",\"age\":1}", "created");
+        PerformanceMockRouteTable table = new PerformanceMockRouteTable(
+                List.of(template, exact, create),
+                PerformanceMockMatchRules.of("", "", true)
+        );
+
+        assertSame(table.find(request("GET", "/users/me/", null)), exact);
+        assertSame(table.find(request("GET", "/users/42", null)), template);
+        assertNull(table.find(request("GET", "/users/42/orders", null)));
+        assertSame(table.find(request("POST", "/users", "{ \"age\": 1, \"name\": \"a\" }")), create);
+        assertNull(table.find(request("POST", "/users", "{\"name\":\"b\",\"age\":1}")));
+    }
+
+    @Test
+    public void shouldParseAndSampleLatencyDistributions() {
+        Random random = new Random(7);
+
+        assertEquals(PerformanceMockLatency.parse(null).sampleMs(80L, random), 0L);
+        assertEquals(PerformanceMockLatency.parse("recorded").sampleMs(80L, random), 80L);
+        assertEquals(PerformanceMockLatency.parse("fixed:20").sampleMs(80L, random), 20L);
+        for (int i = 0; i < 100; i++) {
+            long uniform = PerformanceMockLatency.parse("uniform:10-50").sampleMs(0L, random);
+            assertTrue(uniform >= 10L && uniform <= 50L, String.valueOf(uniform));
+            assertTrue(PerformanceMockLatency.parse("normal:5,50").sampleMs(0L, random) >= 0L);
+            assertTrue(PerformanceMockLatency.parse("exponential:30").sampleMs(0L, random)
+                    <= PerformanceMockLatency.MAX_DELAY_MS);
+        }
+        assertEquals(PerformanceMockLatency.parse("Normal:40,10").describe(), "normal:40,10");
+        assertThrows(IllegalArgumentException.class, () -> PerformanceMockLatency.parse("uniform:50-10"));
+        assertThrows(IllegalArgumentException.class, () -> PerformanceMockLatency.parse("pareto:3"));
+        assertThrows(IllegalArgumentException.class, () -> PerformanceMockLatency.parse("fixed:-1"));
+    }
+
+    @Test
+    public void shouldParseMockCommandLineOptions() {
+        PerformanceMockOptions options = PerformanceMockCommandLine.parse(new String[]{
+                "performance", "mock", "/tmp/workspace",
+                "--port", "19191",
+                "--match-query", "page,*",
+                "--match-header", "X-Tenant",
+                "--match-body",
+                "--latency", "uniform:5-15",
+                "--error-rate", "5%",
+                "--error-status", "500",
+                "--no-stats"
+        });
+
+        assertEquals(options.getWorkspace(), "/tmp/workspace");
+        assertEquals(options.getHost(), PerformanceMockOptions.DEFAULT_HOST);
+        assertEquals(options.getPort(), 19191);
+        assertTrue(options.getMatchRules().allQuery());
+        assertEquals(options.getMatchRules().headerNames(), Set.of("x-tenant"));
+        assertTrue(options.getMatchRules().matchBody());
+        assertEquals(options.getLatency().describe(), "uniform:5-15");
+        assertEquals(options.getErrorRate(), 0.05D, 1e-9);
+        assertEquals(options.getErrorStatus(), 500);
+        assertEquals(options.getStatsIntervalMs(), 0L);
+        assertThrows(IllegalArgumentException.class, () -> PerformanceMockCommandLine.parse(new String[]{
+                "performance", "mock", "/tmp/workspace", "--error-rate", "1.5"
+        }));
+        assertThrows(IllegalArgumentException.class, () -> PerformanceMockCommandLine.parse(new String[]{
+                "performance", "mock", "/tmp/workspace", "--plan", "plan.json"
+        }));
+    }
+
+    private static PerformanceMockRoute route(String method, String path, String body, String responseBody) {
+        return new PerformanceMockRoute(path, method, path, Map.of(), Map.of(), body, 200, Map.of(),
+                responseBody.getBytes(StandardCharsets.UTF_8), 0L);
+    }
+
+    private static PerformanceMockRequest request(String method, String path, String body) {
+        return new PerformanceMockRequest(method, path, Map.of(), Map.of(), body);
+    }
+}
@@ -0,0 +1,158 @@
+package com.laker.postman.performance.mock;
+
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceMockServerTest {
+
+    @Test
+    public void shouldReplayRecordedResponseAndCountUnmatchedRequests() throws Exception {
+        try (PerformanceMockServer server = new PerformanceMockServer(
+                PerformanceMockOptions.builder().port(0).build(),
+                List.of(route("GET", "/users/{{id}}", Map.of(), "{\"id\":7}"))
+        )) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpResponse<String> matched = send(client, server, "GET", "/users/7?verbose=true", null);
+            HttpResponse<String> unmatched = send(client, server, "POST", "/users/7", "{}");
+
+            assertEquals(matched.statusCode(), 201);
+            assertEquals(matched.body(), "{\"id\":7}");
+            assertEquals(matched.headers().firstValue("X-Recorded").orElse(""), "yes");
+            assertEquals(unmatched.statusCode(), 404);
+            assertTrue(unmatched.body().contains("POST /users/7"), unmatched.body());
+            PerformanceMockStatsSnapshot stats = server.stats();
+            assertEquals(stats.totalRequests(), 2L);
+            assertEquals(stats.matchedRequests(), 1L);
+            assertEquals(stats.unmatchedRequests(), 1L);
+        }
+    }
+
+    @Test
+    public void shouldSelectRecordedResponseBySelectedQueryParameter() throws Exception {
+        try (PerformanceMockServer server = new PerformanceMockServer(
+                PerformanceMockOptions.builder().port(0).matchQuery("page").build(),
+                List.of(
+                        route("GET", "/orders", Map.of("page", "1"), "first"),
+                        route("GET", "/orders", Map.of("page", "2"), "second")
+                )
+        )) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+
+            assertEquals(send(client, server, "GET", "/orders?page=2&size=10", null).body(), "second");
+            assertEquals(send(client, server, "GET", "/orders?page=1", null).body(), "first");
+            assertEquals(send(client, server, "GET", "/orders?page=3", null).statusCode(), 404);
+        }
+    }
+
+    @Test
+    public void shouldInjectConfiguredErrorsAfterMatching() throws Exception {
+        try (PerformanceMockServer server = new PerformanceMockServer(
+                PerformanceMockOptions.builder().port(0).errorRate(1D).errorStatus(502).latency("fixed:5").build(),
+                List.of(route("GET", "/health", Map.of(), "ok"))
+        )) {
+            server.start();
+
+            HttpResponse<String> response = send(HttpClient.newHttpClient(), server, "GET", "/health", null);
+
+            assertEquals(response.statusCode(), 502);
+            assertEquals(server.stats().injectedErrors(), 1L);
+        }
+    }
+
+    @Test
+    public void shouldExposeStatsWithoutCountingStatsRequests() throws Exception {
+        try (PerformanceMockServer server = new PerformanceMockServer(
+                PerformanceMockOptions.builder().port(0).build(),
+                List.of(route("GET", "/health", Map.of(), "ok"))
+        )) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+            send(client, server, "GET", "/health", null);
+
+            HttpResponse<String> stats = send(client, server, "GET", PerformanceMockServer.STATS_PATH, null);
+
+            assertEquals(stats.statusCode(), 200);
+            assertTrue(stats.body().contains("\"totalRequests\":1"), stats.body());
+            assertEquals(server.stats().totalRequests(), 1L);
+        }
+    }
+
+    @Test
+    public void shouldAverageServedResponsesOverCompletedSeconds() {
+        AtomicLong clock = new AtomicLong(10_000L);
+        PerformanceMockStats stats = new PerformanceMockStats(clock::get);
+        for (int i = 0; i < 30; i++) {
+            stats.recordServed();
+        }
+        clock.set(11_000L);
+        for (int i = 0; i < 10; i++) {
+            stats.recordServed();
+        }
+        clock.set(12_500L);
+
+        assertEquals(stats.snapshot().servedRps(), 20D);
+
+        clock.set(30_000L);
+        assertEquals(stats.snapshot().servedRps(), 0D);
+    }
+
+    @Test
+    public void shouldSkipPartialStartupSecond() {
+        AtomicLong clock = new AtomicLong(10_900L);
+        PerformanceMockStats stats = new PerformanceMockStats(clock::get);
+        for (int i = 0; i < 5; i++) {
+            stats.recordServed();
+        }
+        clock.set(11_500L);
+        assertEquals(stats.snapshot().servedRps(), 0D);
+
+        for (int i = 0; i < 40; i++) {
+            stats.recordServed();
+        }
+        clock.set(12_000L);
+        assertEquals(stats.snapshot().servedRps(), 40D);
+    }
+
+    private static PerformanceMockRoute route(String method, String path, Map<String, String> query, String body) {
+        return new PerformanceMockRoute(
+                path,
+                method,
+                path,
+                query,
+                Map.of(),
+                null,
+                201,
+                Map.of("X-Recorded", List.of("yes")),
+                body.getBytes(StandardCharsets.UTF_8),
+                0L
+        );
+    }
+
+    private static HttpResponse<String> send(HttpClient client,
+                                             PerformanceMockServer server,
+                                             String method,
+                                             String pathAndQuery,
+                                             String body) throws Exception {
+        return client.send(HttpRequest.newBuilder()
+                        .uri(URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery))
+                        .method(method, body == null
+                                ? HttpRequest.BodyPublishers.noBody()
+                                : HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
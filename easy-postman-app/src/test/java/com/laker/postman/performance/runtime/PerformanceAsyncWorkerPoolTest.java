@@ -0,0 +1,80 @@
+package com.laker.postman.performance.runtime;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceAsyncWorkerPoolTest {
+
+    @Test(timeOut = 5000)
+    public void shouldHoldVirtualUsersWhileQueueIsBackedUpAndResumeAfterDrain() throws Exception {
+        PerformanceAsyncWorkerPool pool = new PerformanceAsyncWorkerPool(1, 8);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch resumed = new CountDownLatch(1);
+        AtomicInteger resumeCount = new AtomicInteger();
+        try {
+            pool.execute(() -> await(release));
+            for (int i = 0; i < 4; i++) {
+                pool.execute(() -> {
+                });
+            }
+
+            assertFalse(pool.tryAdmit(() -> {
+                resumeCount.incrementAndGet();
+                resumed.countDown();
+            }));
+            assertEquals(pool.waitingVirtualUsers(), 1);
+
+            release.countDown();
+
+            assertTrue(resumed.await(2, TimeUnit.SECONDS));
+            assertEquals(resumeCount.get(), 1);
+            assertEquals(pool.waitingVirtualUsers(), 0);
+            assertTrue(pool.tryAdmit(() -> {
+            }));
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(timeOut = 5000)
+    public void shouldRunOnCallerWhenQueueIsFull() throws Exception {
+        PerformanceAsyncWorkerPool pool = new PerformanceAsyncWorkerPool(1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            pool.execute(() -> await(release));
+            pool.execute(() -> {
+            });
+            pool.execute(() -> {
+            });
+            Thread caller = Thread.currentThread();
+            AtomicInteger ranOnCaller = new AtomicInteger();
+
+            pool.execute(() -> {
+                if (Thread.currentThread() == caller) {
+                    ranOnCaller.incrementAndGet();
+                }
+            });
+
+            assertEquals(ranOnCaller.get(), 1);
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
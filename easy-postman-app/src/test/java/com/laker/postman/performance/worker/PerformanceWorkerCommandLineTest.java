@@ -8,6 +8,8 @@ import java.util.List;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -23,6 +25,39 @@ public class PerformanceWorkerCommandLineTest {
         assertEquals(options.getHost(), PerformanceWorkerOptions.DEFAULT_HOST);
         assertEquals(options.getPort(), PerformanceWorkerOptions.DEFAULT_PORT);
         assertEquals(options.getProgressIntervalMs(), PerformanceWorkerOptions.DEFAULT_PROGRESS_INTERVAL_MS);
+        assertNull(options.getMock());
+    }
+
+    @Test
+    public void shouldParseMockOptionsAndListenOnWorkerHostByDefault() {
+        PerformanceWorkerOptions options = PerformanceWorkerCommandLine.parse(new String[]{
+                "performance", "worker",
+                "--host", "10.0.0.5",
+                "--mock-workspace", "/tmp/workspace",
+                "--mock-port", "19191",
+                "--mock-latency", "fixed:10",
+                "--mock-error-rate", "0.1"
+        });
+
+        assertNotNull(options.getMock());
+        assertEquals(options.getMock().getWorkspace(), "/tmp/workspace");
+        assertEquals(options.getMock().getHost(), "10.0.0.5");
+        assertEquals(options.getMock().getPort(), 19191);
+        assertEquals(options.getMock().getLatency().describe(), "fixed:10");
+        assertEquals(options.getMock().getErrorRate(), 0.1D, 1e-9);
+    }
+
+    @Test
+    public void shouldRequireMockWorkspaceWhenMockOptionsAreSet() {
+        try {
+            PerformanceWorkerCommandLine.parse(new String[]{
+                    "performance", "worker",
+                    "--mock-port", "19191"
+            });
+            fail("Expected missing mock workspace failure");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().contains("--mock-workspace is required"), ex.getMessage());
+        }
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.laker.postman.performance.worker;
 
+import com.laker.postman.collection.model.CollectionDocument;
+import com.laker.postman.collection.model.CollectionNode;
 import com.laker.postman.performance.core.model.NodeType;
 import com.laker.postman.performance.core.plan.PerformanceCorePlanDocument;
 import com.laker.postman.performance.core.plan.PerformanceCorePlanNode;
@@ -21,12 +23,18 @@ import com.laker.postman.performance.core.worker.PerformanceWorkerRunDetailsResp
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunRequest;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunResultResponse;
 import com.laker.postman.performance.core.worker.PerformanceWorkerRunStatusResponse;
+import com.laker.postman.performance.mock.PerformanceMockOptions;
+import com.laker.postman.request.model.HttpRequestItem;
+import com.laker.postman.request.model.SavedResponse;
+import com.laker.postman.service.collections.CollectionDocumentJsonCodec;
 import org.testng.annotations.Test;
 
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -64,6 +72,53 @@ public class PerformanceWorkerServerTest {
         }
     }
 
+    @Test
+    public void shouldStartMockServerWithWorkerAndExposeMockStats() throws Exception {
+        Path workspace = Files.createTempDirectory("performance-worker-mock");
+        HttpRequestItem item = new HttpRequestItem();
+        item.setName("Ping");
+        item.setUrl("{{baseUrl}}/ping");
+        SavedResponse saved = new SavedResponse();
+        saved.setCode(200);
+        saved.setBody("pong");
+        item.getResponse().add(saved);
+        CollectionDocumentJsonCodec.write(
+                workspace.resolve("collections.json").toFile(),
+                new CollectionDocument(List.of(CollectionNode.request(item)))
+        );
+        try (PerformanceWorkerServer server = new PerformanceWorkerServer(
+                PerformanceWorkerOptions.builder()
+                        .host("127.0.0.1")
+                        .port(0)
+                        .mock(PerformanceMockOptions.builder()
+                                .workspace(workspace.toString())
+                                .port(0)
+                                .build())
+                        .build(),
+                (request, control) -> PerformanceJsonReport.builder().build()
+        )) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpResponse<String> mocked = client.send(HttpRequest.newBuilder()
+                            .uri(URI.create("http://127.0.0.1:" + server.getMockServer().getPort() + "/ping"))
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> stats = client.send(HttpRequest.newBuilder()
+                            .uri(URI.create("http://127.0.0.1:" + server.getPort() + "/api/performance/v1/mock"))
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(mocked.statusCode(), 200);
+            assertEquals(mocked.body(), "pong");
+            assertEquals(stats.statusCode(), 200, stats.body());
+            assertTrue(stats.body().contains("\"matchedRequests\":1"), stats.body());
+        }
+        assertNull(new PerformanceWorkerServer(PerformanceWorkerOptions.builder().build()).getMockServer());
+    }
+
     @Test
     public void shouldAcceptRunAndExposeResultOverHttp() throws Exception {
         AtomicReference<PerformanceWorkerRunRequest> captured = new AtomicReference<>();
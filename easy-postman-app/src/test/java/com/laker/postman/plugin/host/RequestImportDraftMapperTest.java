@@ -4,9 +4,11 @@ import com.laker.postman.model.RequestImportBodyTypes;
 import com.laker.postman.model.RequestImportDraft;
 import com.laker.postman.model.RequestImportHeader;
 import com.laker.postman.model.RequestImportProtocol;
+import com.laker.postman.model.RequestImportResponse;
 import com.laker.postman.request.model.RequestBodyTypes;
 import com.laker.postman.request.model.RequestItemProtocolEnum;
 import com.laker.postman.request.model.HttpRequestItem;
+import com.laker.postman.request.model.SavedResponse;
 
 
 import org.testng.annotations.Test;
@@ -15,6 +17,7 @@ import java.util.List;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class RequestImportDraftMapperTest {
 
@@ -67,4 +70,59 @@ public class RequestImportDraftMapperTest {
         assertEquals(item.getProtocol(), RequestItemProtocolEnum.HTTP);
         assertEquals(item.getBodyType(), RequestBodyTypes.BODY_TYPE_NONE);
     }
+
+    @Test
+    public void shouldSaveRecordedResponseAsExampleResponse() {
+        RequestImportDraft draft = new RequestImportDraft(
+                "request-2",
+                "Get user",
+                "https://example.com/users/7",
+                "GET",
+                RequestImportProtocol.HTTP,
+                List.of(new RequestImportHeader(true, "Accept", "application/json")),
+                "",
+                RequestImportBodyTypes.NONE,
+                "",
+                new RequestImportResponse(
+                        200,
+                        "OK",
+                        List.of(new RequestImportHeader(true, "Content-Type", "application/json")),
+                        "{\"id\":7}",
+                        42L
+                )
+        );
+
+        HttpRequestItem item = RequestImportDraftMapper.toHttpRequestItem(draft);
+
+        assertEquals(item.getResponse().size(), 1);
+        SavedResponse saved = item.getResponse().get(0);
+        assertFalse(saved.getId().isBlank());
+        assertEquals(saved.getName(), "Get user");
+        assertEquals(saved.getCode(), 200);
+        assertEquals(saved.getStatus(), "OK");
+        assertEquals(saved.getBody(), "{\"id\":7}");
+        assertEquals(saved.getBodySize(), 8L);
+        assertEquals(saved.getCostMs(), 42L);
+        assertEquals(saved.getHeaders().get(0).getKey(), "Content-Type");
+        assertEquals(saved.getOriginalRequest().getMethod(), "GET");
+        assertEquals(saved.getOriginalRequest().getUrl(), "https://example.com/users/7");
+        assertEquals(saved.getOriginalRequest().getHeaders().get(0).getKey(), "Accept");
+    }
+
+    @Test
+    public void shouldNotAddExampleResponseWithoutRecordedResponse() {
+        RequestImportDraft draft = new RequestImportDraft(
+                "request-3",
+                "No response",
+                "https://example.com",
+                "GET",
+                RequestImportProtocol.HTTP,
+                List.of(),
+                "",
+                RequestImportBodyTypes.NONE,
+                ""
+        );
+
+        assertTrue(RequestImportDraftMapper.toHttpRequestItem(draft).getResponse().isEmpty());
+    }
 }
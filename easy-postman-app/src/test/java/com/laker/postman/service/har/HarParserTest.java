@@ -4,9 +4,13 @@ import com.laker.postman.request.model.RequestBodyTypes;
 import com.laker.postman.request.model.HttpRequestItem;
 
 
+import com.laker.postman.collection.importer.StreamingImportOptions;
 import org.testng.annotations.Test;
 
 import javax.swing.tree.DefaultMutableTreeNode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
 
 import static com.laker.postman.request.model.RequestBodyTypes.BODY_TYPE_FORM_URLENCODED;
 import static org.testng.Assert.*;
@@ -62,4 +66,57 @@ public class HarParserTest {
         assertEquals(request.getUrlencodedList().size(), 2);
         assertTrue(request.getHeadersList().stream().anyMatch(h -> "Content-Type".equals(h.getKey())));
     }
+
+    @Test
+    public void testStreamingParseSkipsResponsesAndReadsEntries() throws Exception {
+        String json = """
+                {
+                  "log": {
+                    "creator": {"name": "browser"},
+                    "entries": [
+                      {
+                        "response": {"status": 200, "content": {"size": 9, "text": "%s"}},
+                        "request": {"method": "GET", "url": "https://api.example.com/a", "headers": []}
+                      },
+                      {
+                        "request": {"method": "DELETE", "url": "https://api.example.com/b", "headers": []},
+                        "timings": {"wait": 12.5}
+                      }
+                    ],
+                    "version": "1.2"
+                  }
+                }
+                """.formatted("y".repeat(8192));
+        Path file = Files.createTempFile("har-stream", ".har");
+        try {
+            Files.writeString(file, json);
+
+            DefaultMutableTreeNode root = HarParser.parseHar(file, StreamingImportOptions.defaults());
+
+            assertNotNull(root);
+            assertEquals(root.getChildCount(), 2);
+            HttpRequestItem second = (HttpRequestItem) ((Object[]) ((DefaultMutableTreeNode) root.getChildAt(1)).getUserObject())[1];
+            assertEquals(second.getMethod(), "DELETE");
+            assertEquals(second.getName(), "b");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expectedExceptions = CancellationException.class)
+    public void testStreamingParsePropagatesCancellation() throws Exception {
+        Path file = Files.createTempFile("har-cancel", ".har");
+        try {
+            Files.writeString(file, """
+                    {"log": {"version": "1.2", "entries": [{"request": {"method": "GET", "url": "https://a", "headers": []}}]}}
+                    """);
+
+            HarParser.parseHar(file, new StreamingImportOptions(0,
+                    (bytesRead, totalBytes, importedRequests) -> {
+                        throw new CancellationException("Import canceled");
+                    }));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -6,8 +6,15 @@ import com.laker.postman.request.model.AuthApiKeyPlacement;
 import com.laker.postman.request.model.AuthType;
 import com.laker.postman.request.model.HttpRequestItem;
 import com.laker.postman.request.model.RequestBodyTypes;
+import com.laker.postman.collection.importer.StreamingImportOptions;
 import org.testng.annotations.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
 import static com.laker.postman.request.model.RequestBodyTypes.BODY_TYPE_FORM_DATA;
 import static com.laker.postman.request.model.RequestBodyTypes.BODY_TYPE_RAW;
 import static org.testng.Assert.*;
@@ -641,4 +648,70 @@ public class PostmanCollectionParserTest {
         assertEquals(graphql.getBodyType(), BODY_TYPE_RAW);
         assertTrue(graphql.getBody().contains("query Ping"));
     }
+
+    @Test
+    public void testStreamingParseKeepsStructureAndSkipsLargeResponseBodies() throws Exception {
+        String largeBody = "x".repeat(4096);
+        String json = """
+                {
+                  "item": [
+                    {
+                      "item": [
+                        {
+                          "name": "Get User",
+                          "request": {"method": "GET", "url": {"raw": "https://api.example.com/users/1"}},
+                          "response": [
+                            {"name": "big", "code": 200, "body": "%s"},
+                            {"name": "small", "code": 404, "body": "not found"}
+                          ]
+                        }
+                      ],
+                      "name": "Users"
+                    }
+                  ],
+                  "info": {"name": "Streamed"},
+                  "variable": [{"key": "host", "value": "api.example.com"}]
+                }
+                """.formatted(largeBody);
+        Path file = Files.createTempFile("postman-stream", ".json");
+        List<Integer> progress = new ArrayList<>();
+        try {
+            Files.writeString(file, json);
+
+            CollectionParseResult result = PostmanCollectionParser.parsePostmanCollection(file,
+                    new StreamingImportOptions(1024, (bytesRead, totalBytes, importedRequests) -> progress.add(importedRequests)));
+
+            assertNotNull(result);
+            assertEquals(result.getGroup().getName(), "Streamed");
+            assertEquals(result.getGroup().getVariables().size(), 1);
+            assertEquals(result.getChildren().size(), 1);
+            assertEquals(result.getChildren().get(0).getGroup().getName(), "Users");
+            HttpRequestItem request = result.getChildren().get(0).getChildren().get(0).asRequest();
+            assertEquals(request.getUrl(), "https://api.example.com/users/1");
+            assertEquals(request.getResponse().size(), 2);
+            assertEquals(request.getResponse().get(0).getBody(), "");
+            assertEquals(request.getResponse().get(1).getBody(), "not found");
+            assertEquals(result.getSkippedResponseBodies(), 1);
+            assertEquals(progress.get(progress.size() - 1), Integer.valueOf(1));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expectedExceptions = CancellationException.class)
+    public void testStreamingParsePropagatesCancellation() throws Exception {
+        Path file = Files.createTempFile("postman-cancel", ".json");
+        try {
+            Files.writeString(file, """
+                    {"info": {"name": "Canceled"}, "item": [{"name": "a", "request": {"method": "GET", "url": "https://a"}}]}
+                    """);
+
+            PostmanCollectionParser.parsePostmanCollection(file, new StreamingImportOptions(0,
+                    (bytesRead, totalBytes, importedRequests) -> {
+                        throw new CancellationException("Import canceled");
+                    }));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
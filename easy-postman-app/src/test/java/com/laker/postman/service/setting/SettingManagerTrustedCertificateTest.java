@@ -268,6 +268,29 @@ public class SettingManagerTrustedCertificateTest {
         }
     }
 
+    @Test
+    public void shouldReadAndNormalizeImportResponseBodyLimit() throws Exception {
+        Properties props = getSettingsProperties();
+        Properties backup = new Properties();
+        backup.putAll(props);
+
+        try {
+            props.clear();
+            assertEquals(SettingManager.getImportResponseBodyLimitMb(), 2);
+            assertEquals(SettingManager.getImportResponseBodyLimitChars(), 2L * 1024 * 1024);
+
+            props.setProperty("import_response_body_limit_mb", "16");
+            assertEquals(SettingManager.getImportResponseBodyLimitMb(), 16);
+            assertEquals(SettingManager.getImportResponseBodyLimitChars(), 16L * 1024 * 1024);
+
+            props.setProperty("import_response_body_limit_mb", "65");
+            assertEquals(SettingManager.getImportResponseBodyLimitMb(), 2);
+        } finally {
+            props.clear();
+            props.putAll(backup);
+        }
+    }
+
     @Test
     public void shouldPersistSanitizedGitDiffLargeFileThreshold() throws Exception {
         Properties props = getSettingsProperties();
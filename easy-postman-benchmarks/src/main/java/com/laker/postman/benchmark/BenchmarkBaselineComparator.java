@@ -0,0 +1,149 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.util.JsonUtil;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 比较两份 JMH JSON 结果（-rf json），找出超过阈值的退化。
+ * <p>
+ * 基准名 + 参数组合相同才比较；吞吐模式（thrpt）分数越高越好，其余模式分数越低越好。
+ * 只在基线或本次结果里出现的基准不算退化，只在报告中标出，方便增删基准时不误报。
+ * </p>
+ */
+public final class BenchmarkBaselineComparator {
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private final double thresholdPercent;
+
+    public BenchmarkBaselineComparator(double thresholdPercent) {
+        if (!Double.isFinite(thresholdPercent) || thresholdPercent < 0D) {
+            throw new IllegalArgumentException("threshold must be a non-negative percentage: " + thresholdPercent);
+        }
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    public double thresholdPercent() {
+        return thresholdPercent;
+    }
+
+    public List<Comparison> compare(String baselineJson, String currentJson) {
+        Map<String, Score> baseline = parse(baselineJson);
+        Map<String, Score> current = parse(currentJson);
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                comparisons.add(new Comparison(entry.getKey(), after.mode(), after.unit(), Double.NaN, after.score(), Double.NaN, false));
+                continue;
+            }
+            double worsePercent = worsePercent(after.mode(), before.score(), after.score());
+            comparisons.add(new Comparison(entry.getKey(), after.mode(), after.unit(), before.score(), after.score(),
+                    worsePercent, worsePercent > thresholdPercent));
+        }
+        for (Map.Entry<String, Score> entry : baseline.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                Score before = entry.getValue();
+                comparisons.add(new Comparison(entry.getKey(), before.mode(), before.unit(), before.score(), Double.NaN, Double.NaN, false));
+            }
+        }
+        return comparisons;
+    }
+
+    public static boolean hasRegression(List<Comparison> comparisons) {
+        return comparisons.stream().anyMatch(Comparison::regression);
+    }
+
+    public String format(List<Comparison> comparisons) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Baseline comparison (threshold %.1f%%)%n", thresholdPercent));
+        for (Comparison comparison : comparisons) {
+            String status;
+            if (Double.isNaN(comparison.baselineScore())) {
+                status = "NEW";
+            } else if (Double.isNaN(comparison.currentScore())) {
+                status = "MISSING";
+            } else {
+                status = comparison.regression() ? "REGRESSION" : "OK";
+            }
+            report.append(String.format(Locale.ROOT, "%-10s %s [%s] baseline=%s current=%s %s change=%s%n",
+                    status,
+                    comparison.benchmark(),
+                    comparison.mode(),
+                    formatScore(comparison.baselineScore()),
+                    formatScore(comparison.currentScore()),
+                    comparison.unit(),
+                    Double.isNaN(comparison.worsePercent())
+                            ? "-"
+                            : String.format(Locale.ROOT, "%+.1f%% worse", comparison.worsePercent())));
+        }
+        return report.toString();
+    }
+
+    /**
+     * 正数表示变差的百分比，负数表示变好。
+     */
+    static double worsePercent(String mode, double baselineScore, double currentScore) {
+        if (baselineScore == 0D) {
+            return currentScore == 0D ? 0D : (THROUGHPUT_MODE.equals(mode) ? -100D : 100D);
+        }
+        double changePercent = (currentScore - baselineScore) / baselineScore * 100D;
+        return THROUGHPUT_MODE.equals(mode) ? -changePercent : changePercent;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Score> parse(String json) {
+        List<Map<String, Object>> runs = JsonUtil.convertValue(JsonUtil.readTree(json), List.class);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (runs == null) {
+            return scores;
+        }
+        for (Map<String, Object> run : runs) {
+            Object benchmark = run.get("benchmark");
+            Object metric = run.get("primaryMetric");
+            if (benchmark == null || !(metric instanceof Map<?, ?> primaryMetric)
+                    || !(primaryMetric.get("score") instanceof Number score)) {
+                continue;
+            }
+            String mode = String.valueOf(run.getOrDefault("mode", ""));
+            Object unit = primaryMetric.get("scoreUnit");
+            scores.put(key(String.valueOf(benchmark), run.get("params")),
+                    new Score(mode, unit == null ? "" : String.valueOf(unit), score.doubleValue()));
+        }
+        return scores;
+    }
+
+    private static String key(String benchmark, Object params) {
+        if (!(params instanceof Map<?, ?> map) || map.isEmpty()) {
+            return benchmark;
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        map.forEach((name, value) -> sorted.put(String.valueOf(name), String.valueOf(value)));
+        return benchmark + sorted;
+    }
+
+    private static String formatScore(double score) {
+        return Double.isNaN(score) ? "-" : String.format(Locale.ROOT, "%.3f", score);
+    }
+
+    private record Score(String mode, String unit, double score) {
+    }
+
+    /**
+     * 单个基准（含参数组合）的比较结果。基线或本次缺失时对应分数为 NaN。
+     */
+    public record Comparison(String benchmark,
+                             String mode,
+                             String unit,
+                             double baselineScore,
+                             double currentScore,
+                             double worsePercent,
+                             boolean regression) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.laker.postman.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * benchmarks.jar 入口：在 JMH 命令行之上增加基线对比。
+ * <pre>
+ * java -jar benchmarks.jar [JMH 参数...] [--result 本次结果.json] [--baseline 基线.json] [--threshold 10]
+ * </pre>
+ * 结果固定以 JSON 格式写到 --result（默认 jmh-result.json）；指定 --baseline 时逐项对比，
+ * 任一基准变差超过 --threshold 百分比（默认 10）则以退出码 2 结束，便于在 CI 中拦截退化。
+ */
+public final class BenchmarkMain {
+    static final int EXIT_REGRESSION = 2;
+    private static final int EXIT_USAGE = 64;
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10D;
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LaunchOptions launch;
+        CommandLineOptions jmhOptions;
+        try {
+            launch = LaunchOptions.parse(args);
+            jmhOptions = new CommandLineOptions(launch.jmhArgs().toArray(String[]::new));
+        } catch (IllegalArgumentException | CommandLineOptionException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("Usage: java -jar benchmarks.jar [JMH options] [--result file] [--baseline file] [--threshold percent]");
+            System.exit(EXIT_USAGE);
+            return;
+        }
+        if (jmhOptions.shouldHelp() || jmhOptions.shouldList() || jmhOptions.shouldListWithParams()
+                || jmhOptions.shouldListProfilers() || jmhOptions.shouldListResultFormats()) {
+            // 列表和帮助类命令交给 JMH 原生入口处理
+            org.openjdk.jmh.Main.main(launch.jmhArgs().toArray(String[]::new));
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(jmhOptions)
+                .resultFormat(ResultFormatType.JSON)
+                .result(launch.result().toString())
+                .build();
+        new Runner(options).run();
+
+        if (launch.baseline() == null) {
+            return;
+        }
+        BenchmarkBaselineComparator comparator = new BenchmarkBaselineComparator(launch.thresholdPercent());
+        List<BenchmarkBaselineComparator.Comparison> comparisons = comparator.compare(
+                Files.readString(launch.baseline(), StandardCharsets.UTF_8),
+                Files.readString(launch.result(), StandardCharsets.UTF_8));
+        System.out.println();
+        System.out.print(comparator.format(comparisons));
+        if (BenchmarkBaselineComparator.hasRegression(comparisons)) {
+            System.exit(EXIT_REGRESSION);
+        }
+    }
+
+    record LaunchOptions(Path result, Path baseline, double thresholdPercent, List<String> jmhArgs) {
+
+        static LaunchOptions parse(String[] args) {
+            Path result = Path.of("jmh-result.json");
+            Path baseline = null;
+            double thresholdPercent = DEFAULT_THRESHOLD_PERCENT;
+            List<String> jmhArgs = new ArrayList<>();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--result" -> result = Path.of(requireValue(args, ++i, arg));
+                    case "--baseline" -> baseline = Path.of(requireValue(args, ++i, arg));
+                    case "--threshold" -> thresholdPercent = parseThreshold(requireValue(args, ++i, arg));
+                    default -> jmhArgs.add(arg);
+                }
+            }
+            return new LaunchOptions(result, baseline, thresholdPercent, List.copyOf(jmhArgs));
+        }
+
+        private static String requireValue(String[] args, int index, String option) {
+            if (index >= args.length || args[index].isBlank()) {
+                throw new IllegalArgumentException(option + " requires a value");
+            }
+            return args[index];
+        }
+
+        private static double parseThreshold(String value) {
+            String normalized = value.endsWith("%") ? value.substring(0, value.length() - 1) : value;
+            try {
+                double thresholdPercent = Double.parseDouble(normalized);
+                if (Double.isFinite(thresholdPercent) && thresholdPercent >= 0D) {
+                    return thresholdPercent;
+                }
+            } catch (NumberFormatException ignored) {
+                // 统一走下面的错误信息
+            }
+            throw new IllegalArgumentException("--threshold must be a non-negative percentage: " + value);
+        }
+    }
+}
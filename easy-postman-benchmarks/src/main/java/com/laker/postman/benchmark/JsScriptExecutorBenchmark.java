@@ -0,0 +1,97 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.service.js.JsScriptExecutor;
+import com.laker.postman.service.js.ScriptExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 压测运行使用的 PooledScriptExecutor：借出 Context、绑定变量、执行缓存的 Source、归还。
+ * 多线程变体在线程数大于池大小时会测到借出等待，对应压测时 JS Context 池配置过小的情况。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsScriptExecutorBenchmark {
+
+    private static final String EMPTY_SCRIPT = "// noop";
+    private static final String POST_SCRIPT = """
+            var body = JSON.parse(responseBody);
+            var total = 0;
+            for (var i = 0; i < body.items.length; i++) {
+                total += body.items[i].qty;
+            }
+            if (total !== 30) {
+                throw new Error('unexpected total ' + total);
+            }
+            """;
+    private static final String RESPONSE_BODY = buildResponseBody();
+
+    @Param({"1", "8"})
+    public int poolSize;
+
+    private JsScriptExecutor.PooledScriptExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new JsScriptExecutor.PooledScriptExecutor(poolSize, 30_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public void emptyScript() {
+        executor.execute(context(EMPTY_SCRIPT));
+    }
+
+    @Benchmark
+    public void parseResponseBody() {
+        executor.execute(context(POST_SCRIPT));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void parseResponseBodyContended() {
+        executor.execute(context(POST_SCRIPT));
+    }
+
+    private static ScriptExecutionContext context(String script) {
+        return ScriptExecutionContext.builder()
+                .script(script)
+                .scriptType(ScriptExecutionContext.ScriptType.POST_REQUEST)
+                .bindings(Map.of("responseBody", RESPONSE_BODY))
+                .build();
+    }
+
+    private static String buildResponseBody() {
+        StringBuilder body = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 10; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"sku\":\"SKU-").append(i).append("\",\"qty\":3}");
+        }
+        return body.append("]}").toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.http.runtime.model.HttpResponse;
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.http.runtime.okhttp.OkHttpResponseHandler;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本机回环上的客户端吞吐：OkHttp 同步调用 + OkHttpResponseHandler，对端是 {@link LoopbackHttpStub}。
+ * 复用一个 OkHttpClient 和连接池，和压测运行时 keep-alive 的发压方式一致；结果单位是每秒完成的请求数。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoopbackHttpBenchmark {
+
+    private static final int PREVIEW_LIMIT_BYTES = 4 * 1024;
+
+    @Param({"1024", "65536"})
+    public int bodyBytes;
+
+    @Param({"FULL", "PREVIEW"})
+    public PreparedRequest.ResponseBodyMode bodyMode;
+
+    private LoopbackHttpStub stub;
+    private OkHttpClient client;
+    private Request request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = LoopbackHttpStub.start(32);
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(256);
+        dispatcher.setMaxRequestsPerHost(256);
+        client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(64, 5, TimeUnit.MINUTES))
+                .retryOnConnectionFailure(false)
+                .build();
+        request = new Request.Builder().url(stub.url(bodyBytes)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.dispatcher().executorService().shutdownNow();
+        client.connectionPool().evictAll();
+        stub.close();
+    }
+
+    @Benchmark
+    public HttpResponse singleUser() throws IOException {
+        return call();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public HttpResponse sixteenUsers() throws IOException {
+        return call();
+    }
+
+    private HttpResponse call() throws IOException {
+        HttpResponse response = new HttpResponse();
+        try (Response okResponse = client.newCall(request).execute()) {
+            OkHttpResponseHandler.handleResponse(okResponse, response, null, bodyMode, PREVIEW_LIMIT_BYTES);
+        }
+        if (response.code != 200) {
+            throw new IllegalStateException("loopback stub returned " + response.code);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,84 @@
+package com.laker.postman.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 本机回环 HTTP 桩：GET /bytes?size=N 返回 N 字节 JSON 风格的响应体。
+ * 响应体预先生成并缓存，服务端几乎不占 CPU，测到的是客户端发送和响应处理的成本。
+ */
+final class LoopbackHttpStub implements AutoCloseable {
+    private static final int MAX_BODY_BYTES = 1024 * 1024;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] payload;
+
+    private LoopbackHttpStub(HttpServer server, ExecutorService executor, byte[] payload) {
+        this.server = server;
+        this.executor = executor;
+        this.payload = payload;
+    }
+
+    static LoopbackHttpStub start(int workerThreads) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workerThreads), runnable -> {
+            Thread thread = new Thread(runnable, "LoopbackHttpStub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LoopbackHttpStub stub = new LoopbackHttpStub(server, executor, buildPayload());
+        server.createContext("/bytes", stub::handleBytes);
+        server.setExecutor(executor);
+        server.start();
+        return stub;
+    }
+
+    String url(int size) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/bytes?size=" + size;
+    }
+
+    private void handleBytes(HttpExchange exchange) throws IOException {
+        int size = parseSize(exchange.getRequestURI().getQuery());
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, size == 0 ? -1 : size);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(payload, 0, size);
+        }
+    }
+
+    private static int parseSize(String query) {
+        if (query == null || !query.startsWith("size=")) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Math.min(MAX_BODY_BYTES, Integer.parseInt(query.substring("size=".length()))));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private static byte[] buildPayload() {
+        byte[] chunk = "{\"id\":10086,\"name\":\"load-test\",\"ok\":true},".getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[MAX_BODY_BYTES];
+        for (int i = 0; i < payload.length; i += chunk.length) {
+            System.arraycopy(chunk, 0, payload, i, Math.min(chunk.length, payload.length - i));
+        }
+        return payload;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,93 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.http.runtime.model.HttpResponse;
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.http.runtime.okhttp.OkHttpResponseHandler;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 不经过网络，只测 OkHttp Response 转成内部 HttpResponse 的成本：复制响应头、读取响应体、按模式截断。
+ * 每次调用都新建 Response（handleResponse 会消费并关闭响应体），三种模式共享这部分固定开销。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OkHttpResponseHandlerBenchmark {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final int PREVIEW_LIMIT_BYTES = 4 * 1024;
+
+    @Param({"1024", "65536"})
+    public int bodyBytes;
+
+    @Param({"FULL", "PREVIEW", "METADATA_ONLY"})
+    public PreparedRequest.ResponseBodyMode bodyMode;
+
+    private Request request;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        request = new Request.Builder().url("http://127.0.0.1/orders").build();
+        byte[] chunk = "{\"id\":10086,\"name\":\"load-test\",\"ok\":true},".getBytes(StandardCharsets.UTF_8);
+        body = new byte[bodyBytes];
+        for (int i = 0; i < body.length; i += chunk.length) {
+            System.arraycopy(chunk, 0, body, i, Math.min(chunk.length, body.length - i));
+        }
+    }
+
+    @Benchmark
+    public HttpResponse handleResponse() throws IOException {
+        return handle();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public HttpResponse handleResponseContended() throws IOException {
+        return handle();
+    }
+
+    private HttpResponse handle() throws IOException {
+        HttpResponse response = new HttpResponse();
+        OkHttpResponseHandler.handleResponse(newResponse(), response, null, bodyMode, PREVIEW_LIMIT_BYTES);
+        return response;
+    }
+
+    private Response newResponse() {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .header("Content-Type", "application/json; charset=utf-8")
+                .header("Content-Length", String.valueOf(body.length))
+                .header("Set-Cookie", "session=abc; Path=/")
+                .header("X-Request-Id", "benchmark")
+                .body(ResponseBody.create(body, JSON))
+                .build();
+    }
+}
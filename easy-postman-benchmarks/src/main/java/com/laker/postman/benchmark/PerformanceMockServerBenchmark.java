@@ -0,0 +1,130 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.performance.mock.PerformanceMockOptions;
+import com.laker.postman.performance.mock.PerformanceMockRoute;
+import com.laker.postman.performance.mock.PerformanceMockServer;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地 Mock 服务在本机回环上的吞吐上限：客户端和 {@link LoopbackHttpBenchmark} 完全相同，
+ * 只是对端换成回放一条录制响应的 {@link PerformanceMockServer}（不注入延迟和错误）。
+ * <p>
+ * 同一台机器上同参数的两组结果对照着看：Mock 服务的每秒请求数不低于回环桩时，
+ * 瓶颈在发压端而不在 Mock 服务，用它校准压测机上限是可信的；明显低于回环桩，说明 Mock 服务先到顶。
+ * 64 线程一组用来确认 Mock 服务在超过发压端常见并发时仍然不是瓶颈。
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerformanceMockServerBenchmark {
+
+    private static final String PATH = "/orders/{{id}}";
+
+    @Param({"1024", "65536"})
+    public int bodyBytes;
+
+    private PerformanceMockServer server;
+    private OkHttpClient client;
+    private Request request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new PerformanceMockServer(
+                PerformanceMockOptions.builder().port(0).build(),
+                List.of(new PerformanceMockRoute(
+                        "benchmark",
+                        "GET",
+                        PATH,
+                        Map.of(),
+                        Map.of(),
+                        null,
+                        200,
+                        Map.of("Content-Type", List.of("application/json; charset=utf-8")),
+                        payload(bodyBytes),
+                        0L
+                ))
+        );
+        server.start();
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(256);
+        dispatcher.setMaxRequestsPerHost(256);
+        client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(64, 5, TimeUnit.MINUTES))
+                .retryOnConnectionFailure(false)
+                .build();
+        request = new Request.Builder()
+                .url("http://" + server.getOptions().getHost() + ":" + server.getPort() + "/orders/10086")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.dispatcher().executorService().shutdownNow();
+        client.connectionPool().evictAll();
+        server.stop();
+    }
+
+    @Benchmark
+    public int singleUser() throws IOException {
+        return call();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int sixteenUsers() throws IOException {
+        return call();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int sixtyFourUsers() throws IOException {
+        return call();
+    }
+
+    private int call() throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            if (response.code() != 200) {
+                throw new IllegalStateException("mock server returned " + response.code());
+            }
+            return response.body().bytes().length;
+        }
+    }
+
+    private static byte[] payload(int size) {
+        byte[] chunk = "{\"id\":10086,\"name\":\"load-test\",\"ok\":true},".getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[size];
+        for (int i = 0; i < payload.length; i += chunk.length) {
+            System.arraycopy(chunk, 0, payload, i, Math.min(chunk.length, payload.length - i));
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,93 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.performance.core.model.PerformanceProtocol;
+import com.laker.postman.performance.core.model.PerformanceStatsCollector;
+import com.laker.postman.performance.core.model.PerformanceStatsSnapshot;
+import com.laker.postman.performance.core.model.RequestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 统计收集器是所有虚拟用户线程共享的写入点：按 API、协议和总体三层各记录一次。
+ * apiCount 控制 ConcurrentHashMap 里的 API 数量，contended 变体对应多个虚拟用户同时完成 sample。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerformanceStatsCollectorBenchmark {
+
+    @Param({"1", "50"})
+    public int apiCount;
+
+    private PerformanceStatsCollector collector;
+    private RequestResult[] results;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        collector = new PerformanceStatsCollector();
+        results = new RequestResult[1024];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < results.length; i++) {
+            String apiId = "api-" + (i % apiCount);
+            RequestResult result = new RequestResult(now, now + 5 + (i % 200), i % 50 != 0, apiId, apiId,
+                    PerformanceProtocol.HTTP);
+            result.sentBytes = 320;
+            result.receivedBytes = 2_048;
+            results[i] = result;
+            collector.record(result);
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        collector.record(nextResult());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordContended() {
+        collector.record(nextResult());
+    }
+
+    @Benchmark
+    public PerformanceStatsSnapshot snapshot() {
+        return collector.snapshot();
+    }
+
+    @Benchmark
+    @Group("recordWhileSnapshotting")
+    @GroupThreads(8)
+    public void recordWhileSnapshottingWriter() {
+        collector.record(nextResult());
+    }
+
+    @Benchmark
+    @Group("recordWhileSnapshotting")
+    @GroupThreads(1)
+    public PerformanceStatsSnapshot recordWhileSnapshottingReader() {
+        return collector.snapshot();
+    }
+
+    private RequestResult nextResult() {
+        return results[ThreadLocalRandom.current().nextInt(results.length)];
+    }
+}
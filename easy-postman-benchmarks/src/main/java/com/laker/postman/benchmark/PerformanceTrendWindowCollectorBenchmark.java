@@ -0,0 +1,105 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.performance.core.model.PerformanceProtocol;
+import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
+import com.laker.postman.performance.core.model.PerformanceTrendSnapshot;
+import com.laker.postman.performance.core.model.PerformanceTrendWindowCollector;
+import com.laker.postman.performance.core.model.RequestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 趋势窗口是每个 sample 都会经过的第二个共享写入点。每组 1 个 drain 线程模拟界面定时采样，
+ * 写入线程数 1 / 64 / 1024 对应单用户、常规压测和高并发虚拟用户；关注写入的平均耗时是否随线程数和 drain 劣化。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class PerformanceTrendWindowCollectorBenchmark {
+    // drain 之间的间隔远小于界面的 1s，用更频繁的切换放大写入和 drain 的冲突
+    private static final long DRAIN_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private PerformanceTrendWindowCollector collector;
+    private RequestResult[] results;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        collector = new PerformanceTrendWindowCollector();
+        results = new RequestResult[1024];
+        long now = System.currentTimeMillis();
+        PerformanceProtocol[] protocols = PerformanceProtocol.values();
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new RequestResult(now, now + 5 + (i % 200), i % 50 != 0, "api-" + (i % 20),
+                    protocols[i % protocols.length]);
+        }
+    }
+
+    @Benchmark
+    @Group("threads1")
+    @GroupThreads(1)
+    public void threads1Record() {
+        collector.record(nextResult());
+    }
+
+    @Benchmark
+    @Group("threads1")
+    @GroupThreads(1)
+    public PerformanceTrendSnapshot threads1Drain() {
+        return drain();
+    }
+
+    @Benchmark
+    @Group("threads64")
+    @GroupThreads(64)
+    public void threads64Record() {
+        collector.record(nextResult());
+    }
+
+    @Benchmark
+    @Group("threads64")
+    @GroupThreads(1)
+    public PerformanceTrendSnapshot threads64Drain() {
+        return drain();
+    }
+
+    @Benchmark
+    @Group("threads1024")
+    @GroupThreads(1024)
+    public void threads1024Record() {
+        collector.record(nextResult());
+    }
+
+    @Benchmark
+    @Group("threads1024")
+    @GroupThreads(1)
+    public PerformanceTrendSnapshot threads1024Drain() {
+        return drain();
+    }
+
+    private PerformanceTrendSnapshot drain() {
+        LockSupport.parkNanos(DRAIN_PAUSE_NANOS);
+        return collector.drainWindowSnapshot(0, 0, 0, 1_000L, PerformanceRealtimeMetrics.Sample.empty());
+    }
+
+    private RequestResult nextResult() {
+        return results[ThreadLocalRandom.current().nextInt(results.length)];
+    }
+}
@@ -0,0 +1,89 @@
+package com.laker.postman.benchmark;
+
+import com.laker.postman.model.Environment;
+import com.laker.postman.service.variable.RunScopedVariableContext;
+import com.laker.postman.service.variable.VariableResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每个 sample 发送前 URL、header 和 body 都会走一遍 {{var}} 替换。
+ * 变量放在运行级作用域里，与 CLI / worker 压测时的解析路径一致；作用域按线程打开，
+ * 所以使用 Scope.Thread，保证多线程变体里每个 JMH 线程都能读到变量。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariableResolverBenchmark {
+
+    private static final String PLAIN_TEXT = "https://api.example.com/v1/orders?page=1&size=20";
+    private static final String URL_TEMPLATE = "{{scheme}}://{{host}}/v1/orders/{{orderId}}?token={{token}}";
+    private static final String NESTED_TEMPLATE = "{{baseUrl}}/v1/orders/{{orderId}}";
+    private static final String BODY_TEMPLATE = """
+            {"orderId":"{{orderId}}","user":"{{userName}}","items":[{"sku":"{{sku}}","qty":{{qty}}}],"trace":"{{$guid}}"}
+            """;
+
+    private RunScopedVariableContext scope;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Environment environment = new Environment("benchmark-env");
+        environment.set("scheme", "https");
+        environment.set("host", "api.example.com");
+        environment.set("baseUrl", "{{scheme}}://{{host}}");
+        environment.set("orderId", "A-10086");
+        environment.set("userName", "load-test");
+        environment.set("sku", "SKU-42");
+        environment.set("qty", "3");
+        Environment globals = new Environment("benchmark-globals");
+        globals.set("token", "eyJhbGciOiJIUzI1NiJ9.benchmark");
+        scope = RunScopedVariableContext.open(environment, globals);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scope.close();
+    }
+
+    @Benchmark
+    public String plainText() {
+        return VariableResolver.resolve(PLAIN_TEXT);
+    }
+
+    @Benchmark
+    public String urlTemplate() {
+        return VariableResolver.resolve(URL_TEMPLATE);
+    }
+
+    @Benchmark
+    public String nestedTemplate() {
+        return VariableResolver.resolve(NESTED_TEMPLATE);
+    }
+
+    @Benchmark
+    public String jsonBodyWithBuiltInFunction() {
+        return VariableResolver.resolve(BODY_TEMPLATE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String urlTemplateContended() {
+        return VariableResolver.resolve(URL_TEMPLATE);
+    }
+}
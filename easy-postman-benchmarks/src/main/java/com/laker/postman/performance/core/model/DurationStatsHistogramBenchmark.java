@@ -0,0 +1,83 @@
+package com.laker.postman.performance.core.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每个 sample 完成时都会写一次耗时直方图，这里衡量单线程写入、多线程争用和运行中快照的成本。
+ * DurationStatsHistogram 是包内类，基准放在同名包下直接访问。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationStatsHistogramBenchmark {
+
+    private DurationStatsHistogram histogram;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        histogram = new DurationStatsHistogram();
+        for (int i = 0; i < 100_000; i++) {
+            histogram.record(nextDurationMs());
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        histogram.record(nextDurationMs());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordContended() {
+        histogram.record(nextDurationMs());
+    }
+
+    @Benchmark
+    public PerformanceStatsSnapshot.DurationStats snapshot() {
+        return histogram.snapshot();
+    }
+
+    /**
+     * 8 个写线程持续记录，同时 1 个线程做趋势/报告快照，对应运行中实时刷新报表的场景。
+     */
+    @Benchmark
+    @Group("recordWhileSnapshotting")
+    @GroupThreads(8)
+    public void recordWhileSnapshottingWriter() {
+        histogram.record(nextDurationMs());
+    }
+
+    @Benchmark
+    @Group("recordWhileSnapshotting")
+    @GroupThreads(1)
+    public PerformanceStatsSnapshot.DurationStats recordWhileSnapshottingReader() {
+        return histogram.snapshot();
+    }
+
+    /**
+     * 大多数请求落在几十毫秒，少量长尾到秒级，覆盖直方图的不同桶。
+     */
+    static long nextDurationMs() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.nextInt(100) < 95 ? 5 + random.nextInt(200) : 200 + random.nextInt(5_000);
+    }
+}
@@ -0,0 +1,84 @@
+package com.laker.postman.benchmark;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class BenchmarkBaselineComparatorTest {
+
+    @Test
+    public void shouldFlagSlowerAverageTimeBeyondThreshold() {
+        BenchmarkBaselineComparator comparator = new BenchmarkBaselineComparator(10D);
+
+        List<BenchmarkBaselineComparator.Comparison> comparisons = comparator.compare(
+                result("Histogram.record", "avgt", 100D, null),
+                result("Histogram.record", "avgt", 115D, null));
+
+        assertEquals(comparisons.size(), 1);
+        assertEquals(comparisons.get(0).worsePercent(), 15D, 0.0001D);
+        assertTrue(comparisons.get(0).regression());
+        assertTrue(BenchmarkBaselineComparator.hasRegression(comparisons));
+        assertTrue(comparator.format(comparisons).contains("REGRESSION"));
+    }
+
+    @Test
+    public void shouldTreatHigherThroughputAsImprovement() {
+        BenchmarkBaselineComparator comparator = new BenchmarkBaselineComparator(5D);
+
+        List<BenchmarkBaselineComparator.Comparison> improved = comparator.compare(
+                result("Loopback.singleUser", "thrpt", 1000D, null),
+                result("Loopback.singleUser", "thrpt", 1500D, null));
+        List<BenchmarkBaselineComparator.Comparison> degraded = comparator.compare(
+                result("Loopback.singleUser", "thrpt", 1000D, null),
+                result("Loopback.singleUser", "thrpt", 900D, null));
+
+        assertEquals(improved.get(0).worsePercent(), -50D, 0.0001D);
+        assertFalse(improved.get(0).regression());
+        assertEquals(degraded.get(0).worsePercent(), 10D, 0.0001D);
+        assertTrue(degraded.get(0).regression());
+    }
+
+    @Test
+    public void shouldMatchByParamsAndReportAddedOrRemovedBenchmarks() {
+        BenchmarkBaselineComparator comparator = new BenchmarkBaselineComparator(10D);
+        String baseline = "[" + run("Collector.record", "avgt", 50D, "{\"apiCount\":\"1\"}") + ","
+                + run("Collector.record", "avgt", 80D, "{\"apiCount\":\"50\"}") + ","
+                + run("Removed.bench", "avgt", 10D, null) + "]";
+        String current = "[" + run("Collector.record", "avgt", 52D, "{\"apiCount\":\"1\"}") + ","
+                + run("Collector.record", "avgt", 200D, "{\"apiCount\":\"50\"}") + ","
+                + run("Added.bench", "avgt", 10D, null) + "]";
+
+        List<BenchmarkBaselineComparator.Comparison> comparisons = comparator.compare(baseline, current);
+
+        assertEquals(comparisons.size(), 4);
+        assertFalse(comparisons.get(0).regression());
+        assertEquals(comparisons.get(1).benchmark(), "Collector.record{apiCount=50}");
+        assertTrue(comparisons.get(1).regression());
+        assertTrue(Double.isNaN(comparisons.get(2).baselineScore()));
+        assertFalse(comparisons.get(2).regression());
+        assertTrue(Double.isNaN(comparisons.get(3).currentScore()));
+        String report = comparator.format(comparisons);
+        assertTrue(report.contains("NEW        Added.bench"), report);
+        assertTrue(report.contains("MISSING    Removed.bench"), report);
+    }
+
+    @Test
+    public void shouldRejectNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new BenchmarkBaselineComparator(-1D));
+    }
+
+    private static String result(String benchmark, String mode, double score, String params) {
+        return "[" + run(benchmark, mode, score, params) + "]";
+    }
+
+    private static String run(String benchmark, String mode, double score, String params) {
+        return "{\"benchmark\":\"" + benchmark + "\",\"mode\":\"" + mode + "\","
+                + (params == null ? "" : "\"params\":" + params + ",")
+                + "\"primaryMetric\":{\"score\":" + score + ",\"scoreUnit\":\"ns/op\"}}";
+    }
+}
@@ -0,0 +1,42 @@
+package com.laker.postman.benchmark;
+
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+public class BenchmarkMainTest {
+
+    @Test
+    public void shouldSplitBaselineOptionsFromJmhArguments() {
+        BenchmarkMain.LaunchOptions options = BenchmarkMain.LaunchOptions.parse(new String[]{
+                "Histogram", "-f", "1", "--baseline", "base.json", "--threshold", "7.5%", "--result", "out/now.json"
+        });
+
+        assertEquals(options.baseline(), Path.of("base.json"));
+        assertEquals(options.result(), Path.of("out/now.json"));
+        assertEquals(options.thresholdPercent(), 7.5D);
+        assertEquals(options.jmhArgs(), List.of("Histogram", "-f", "1"));
+    }
+
+    @Test
+    public void shouldDefaultToTenPercentWithoutBaseline() {
+        BenchmarkMain.LaunchOptions options = BenchmarkMain.LaunchOptions.parse(new String[0]);
+
+        assertNull(options.baseline());
+        assertEquals(options.result(), Path.of("jmh-result.json"));
+        assertEquals(options.thresholdPercent(), 10D);
+    }
+
+    @Test
+    public void shouldRejectMissingOrInvalidOptionValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BenchmarkMain.LaunchOptions.parse(new String[]{"--baseline"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BenchmarkMain.LaunchOptions.parse(new String[]{"--threshold", "fast"}));
+    }
+}
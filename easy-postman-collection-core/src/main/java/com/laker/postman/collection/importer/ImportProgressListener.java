@@ -0,0 +1,18 @@
+package com.laker.postman.collection.importer;
+
+/**
+ * 流式导入进度回调，在解析线程上调用
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+
+    ImportProgressListener NONE = (bytesRead, totalBytes, importedRequests) -> {
+    };
+
+    /**
+     * @param bytesRead        已读取的字节数
+     * @param totalBytes       文件总字节数，未知时为 -1
+     * @param importedRequests 已转换的请求数
+     */
+    void onProgress(long bytesRead, long totalBytes, int importedRequests);
+}
@@ -0,0 +1,22 @@
+package com.laker.postman.collection.importer;
+
+/**
+ * 流式导入选项
+ *
+ * @param maxResponseBodyChars 保存响应体的最大字符数，超过时丢弃该响应体；小于等于 0 表示不限制
+ * @param progressListener     进度回调
+ */
+public record StreamingImportOptions(long maxResponseBodyChars, ImportProgressListener progressListener) {
+
+    public StreamingImportOptions {
+        progressListener = progressListener == null ? ImportProgressListener.NONE : progressListener;
+    }
+
+    public static StreamingImportOptions defaults() {
+        return new StreamingImportOptions(0, ImportProgressListener.NONE);
+    }
+
+    public boolean limitsResponseBody() {
+        return maxResponseBodyChars > 0;
+    }
+}
@@ -0,0 +1,165 @@
+package com.laker.postman.collection.importer;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.core.json.JsonFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * 基于 Jackson 流式解析的导入读取器。
+ * <p>
+ * 导入器按 token 推进，只把“当前这一条”请求/条目读成 hutool JSON 交给原有的转换逻辑，
+ * 整个文件不会一次性进入内存；超过阈值的响应体在读到时直接丢弃。
+ * </p>
+ */
+public final class StreamingJsonReader implements AutoCloseable {
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            // 导入文件里的单个报文体可能远超 Jackson 默认的字符串长度上限
+            .streamReadConstraints(StreamReadConstraints.builder().maxStringLength(Integer.MAX_VALUE).build())
+            .build();
+    private static final long REPORT_INTERVAL_BYTES = 256 * 1024;
+    private static final int REPORT_INTERVAL_REQUESTS = 200;
+
+    private final JsonParser parser;
+    private final long totalBytes;
+    private final StreamingImportOptions options;
+    private int importedRequests;
+    private int skippedResponseBodies;
+    private long lastReportedBytes;
+
+    public StreamingJsonReader(InputStream input, long totalBytes, StreamingImportOptions options) {
+        this.parser = JSON_FACTORY.createParser(ObjectReadContext.empty(), input);
+        this.totalBytes = totalBytes;
+        this.options = options == null ? StreamingImportOptions.defaults() : options;
+    }
+
+    public static StreamingJsonReader open(Path file, StreamingImportOptions options) throws IOException {
+        InputStream input = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        return new StreamingJsonReader(input, Files.size(file), options);
+    }
+
+    public JsonToken nextToken() {
+        return parser.nextToken();
+    }
+
+    public JsonToken currentToken() {
+        return parser.currentToken();
+    }
+
+    public String currentName() {
+        return parser.currentName();
+    }
+
+    /**
+     * 跳过当前对象或数组（当前 token 为标量时不做任何事）
+     */
+    public void skipValue() {
+        parser.skipChildren();
+    }
+
+    /**
+     * 把当前 token 开始的值读成 hutool JSON（JSONObject / JSONArray / 标量）
+     */
+    public Object readValue() {
+        return readValue(Set.of());
+    }
+
+    /**
+     * 同 {@link #readValue()}，但名称在 responseBodyFields 中且超过阈值的字符串字段会被丢弃
+     */
+    public Object readValue(Set<String> responseBodyFields) {
+        return readValue(responseBodyFields, null);
+    }
+
+    private Object readValue(Set<String> responseBodyFields, String propertyName) {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            return null;
+        }
+        return switch (token) {
+            case START_OBJECT -> readObject(responseBodyFields);
+            case START_ARRAY -> readArray(responseBodyFields);
+            case VALUE_STRING -> readString(responseBodyFields, propertyName);
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    private JSONObject readObject(Set<String> responseBodyFields) {
+        JSONObject object = JSONUtil.createObj();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            object.set(name, readValue(responseBodyFields, name));
+        }
+        return object;
+    }
+
+    private JSONArray readArray(Set<String> responseBodyFields) {
+        JSONArray array = JSONUtil.createArray();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            array.add(readValue(responseBodyFields, null));
+        }
+        return array;
+    }
+
+    private String readString(Set<String> responseBodyFields, String propertyName) {
+        if (propertyName != null
+                && options.limitsResponseBody()
+                && responseBodyFields.contains(propertyName)
+                && parser.getStringLength() > options.maxResponseBodyChars()) {
+            skippedResponseBodies++;
+            return "";
+        }
+        return parser.getString();
+    }
+
+    /**
+     * 记录一条已转换的请求，并按间隔回调进度
+     */
+    public void requestImported() {
+        importedRequests++;
+        long bytesRead = bytesRead();
+        if (importedRequests % REPORT_INTERVAL_REQUESTS == 0 || bytesRead - lastReportedBytes >= REPORT_INTERVAL_BYTES) {
+            lastReportedBytes = bytesRead;
+            options.progressListener().onProgress(bytesRead, totalBytes, importedRequests);
+        }
+    }
+
+    /**
+     * 解析结束时回调最终进度
+     */
+    public void finish() {
+        options.progressListener().onProgress(totalBytes >= 0 ? totalBytes : bytesRead(), totalBytes, importedRequests);
+    }
+
+    public long bytesRead() {
+        return Math.max(0, parser.currentLocation().getByteOffset());
+    }
+
+    public int importedRequests() {
+        return importedRequests;
+    }
+
+    public int skippedResponseBodies() {
+        return skippedResponseBodies;
+    }
+
+    @Override
+    public void close() {
+        parser.close();
+    }
+}
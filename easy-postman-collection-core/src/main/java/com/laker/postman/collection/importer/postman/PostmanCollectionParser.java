@@ -1,6 +1,8 @@
 package com.laker.postman.collection.importer.postman;
 
 import com.laker.postman.collection.importer.AuthParserUtil;
+import com.laker.postman.collection.importer.StreamingImportOptions;
+import com.laker.postman.collection.importer.StreamingJsonReader;
 import com.laker.postman.collection.model.CollectionNode;
 import com.laker.postman.collection.model.CollectionNodeType;
 import com.laker.postman.collection.model.CollectionParseResult;
@@ -18,10 +20,14 @@ import cn.hutool.json.JSONObject;
 import cn.hutool.json.JSONUtil;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JsonToken;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 
 import static com.laker.postman.request.model.RequestAuthTypes.AUTH_TYPE_BASIC;
 import static com.laker.postman.request.model.RequestAuthTypes.AUTH_TYPE_API_KEY;
@@ -49,6 +55,12 @@ public class PostmanCollectionParser {
     private static final String KEY_HEADER = "header";
     private static final String MODE_FORMDATA = "formdata";
     private static final String MODE_URLENCODED = "urlencoded";
+    private static final String KEY_ITEM = "item";
+    private static final String KEY_RESPONSE = "response";
+    /**
+     * 流式导入时受响应体大小阈值约束的字段（Saved Response 的 body）
+     */
+    private static final Set<String> RESPONSE_BODY_FIELDS = Set.of("body");
 
 
     /**
@@ -61,34 +73,8 @@ public class PostmanCollectionParser {
         try {
             JSONObject postmanRoot = JSONUtil.parseObj(json);
             if (postmanRoot.containsKey("info") && postmanRoot.containsKey("item")) {
-                // 解析 collection 名称和描述
-                JSONObject info = postmanRoot.getJSONObject("info");
-                String collectionName = info.getStr("name", "Postman");
-                RequestGroup collectionGroup = new RequestGroup(collectionName);
-
-                // 解析集合描述
-                String description = extractDescription(info.get("description"));
-                if (description != null && !description.isEmpty()) {
-                    collectionGroup.setDescription(description);
-                }
-
-                // 解析集合级别的认证
-                if (postmanRoot.containsKey("auth")) {
-                    AuthParserUtil.parsePostmanAuthToGroup(postmanRoot.getJSONObject("auth"), collectionGroup);
-                }
-
-                // 解析集合级别的脚本
-                if (postmanRoot.containsKey(KEY_EVENT)) {
-                    parseEventsToGroup(postmanRoot.getJSONArray(KEY_EVENT), collectionGroup);
-                }
-
-                // 解析集合级别的变量
-                if (postmanRoot.containsKey("variable")) {
-                    collectionGroup.setVariables(parseVariables(postmanRoot.getJSONArray("variable")));
-                }
-
                 JSONArray items = postmanRoot.getJSONArray("item");
-                CollectionParseResult result = new CollectionParseResult(collectionGroup);
+                CollectionParseResult result = new CollectionParseResult(buildCollectionGroup(postmanRoot));
 
                 // 递归解析树结构
                 List<CollectionNode> children = parsePostmanItems(items);
@@ -105,6 +91,115 @@ public class PostmanCollectionParser {
         return null;
     }
 
+    /**
+     * 流式解析 Postman Collection 文件：按 token 推进，逐条转换请求，不把整个文件读成 JSON 树
+     *
+     * @param file    Postman Collection 文件
+     * @param options 进度回调和响应体大小阈值
+     * @return 解析结果，如果解析失败返回 null
+     * @throws CancellationException 进度回调取消导入时原样抛出
+     */
+    public static CollectionParseResult parsePostmanCollection(Path file, StreamingImportOptions options) {
+        try (StreamingJsonReader reader = StreamingJsonReader.open(file, options)) {
+            if (reader.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            // item 之外的顶层字段（info/auth/event/variable）都很小，照常读成 JSON
+            JSONObject postmanRoot = JSONUtil.createObj();
+            List<CollectionNode> children = null;
+            while (reader.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = reader.currentName();
+                JsonToken valueToken = reader.nextToken();
+                if (KEY_ITEM.equals(name) && valueToken == JsonToken.START_ARRAY) {
+                    children = streamPostmanItems(reader);
+                } else {
+                    postmanRoot.set(name, reader.readValue());
+                }
+            }
+            if (!postmanRoot.containsKey("info") || children == null) {
+                return null;
+            }
+            CollectionParseResult result = new CollectionParseResult(buildCollectionGroup(postmanRoot));
+            for (CollectionNode child : children) {
+                result.addChild(child);
+            }
+            result.setSkippedResponseBodies(reader.skippedResponseBodies());
+            reader.finish();
+            return result;
+        } catch (CancellationException e) {
+            // 进度回调发现用户取消，交给调用方处理，不当作解析失败
+            throw e;
+        } catch (Exception e) {
+            log.error("流式解析Postman Collection失败: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * 流式读取 item 数组（当前 token 为 START_ARRAY），文件夹递归展开，请求读完即转换
+     */
+    private static List<CollectionNode> streamPostmanItems(StreamingJsonReader reader) {
+        List<CollectionNode> nodeList = new ArrayList<>();
+        while (reader.nextToken() != JsonToken.END_ARRAY) {
+            if (reader.currentToken() != JsonToken.START_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            JSONObject item = JSONUtil.createObj();
+            List<CollectionNode> children = null;
+            while (reader.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = reader.currentName();
+                JsonToken valueToken = reader.nextToken();
+                if (KEY_ITEM.equals(name) && valueToken == JsonToken.START_ARRAY) {
+                    children = streamPostmanItems(reader);
+                } else if (KEY_RESPONSE.equals(name)) {
+                    item.set(name, reader.readValue(RESPONSE_BODY_FIELDS));
+                } else {
+                    item.set(name, reader.readValue());
+                }
+            }
+            if (children != null) {
+                nodeList.add(buildFolderNode(item, children));
+            } else if (item.containsKey("request")) {
+                nodeList.add(new CollectionNode(CollectionNodeType.REQUEST, parsePostmanSingleItem(item)));
+                reader.requestImported();
+            }
+        }
+        return nodeList;
+    }
+
+    /**
+     * 根据集合顶层字段构建集合分组
+     */
+    private static RequestGroup buildCollectionGroup(JSONObject postmanRoot) {
+        // 解析 collection 名称和描述
+        JSONObject info = postmanRoot.getJSONObject("info");
+        String collectionName = info.getStr("name", "Postman");
+        RequestGroup collectionGroup = new RequestGroup(collectionName);
+
+        // 解析集合描述
+        String description = extractDescription(info.get("description"));
+        if (description != null && !description.isEmpty()) {
+            collectionGroup.setDescription(description);
+        }
+
+        // 解析集合级别的认证
+        if (postmanRoot.containsKey("auth")) {
+            AuthParserUtil.parsePostmanAuthToGroup(postmanRoot.getJSONObject("auth"), collectionGroup);
+        }
+
+        // 解析集合级别的脚本
+        if (postmanRoot.containsKey(KEY_EVENT)) {
+            parseEventsToGroup(postmanRoot.getJSONArray(KEY_EVENT), collectionGroup);
+        }
+
+        // 解析集合级别的变量
+        if (postmanRoot.containsKey("variable")) {
+            collectionGroup.setVariables(parseVariables(postmanRoot.getJSONArray("variable")));
+        }
+        return collectionGroup;
+    }
+
     /**
      * 递归解析Postman集合，返回节点列表
      *
@@ -120,41 +215,8 @@ public class PostmanCollectionParser {
             // 文件夹：有 item 字段
             // 请求：有 request 字段
             if (item.containsKey("item")) {
-                // 文件夹节点
-                String folderName = item.getStr("name", "default group");
-                RequestGroup group = new RequestGroup(folderName);
-
-                // 解析文件夹描述
-                String description = extractDescription(item.get("description"));
-                if (description != null && !description.isEmpty()) {
-                    group.setDescription(description);
-                }
-
-                if (item.containsKey("variable")) {
-                    group.setVariables(parseVariables(item.getJSONArray("variable")));
-                }
-
-                // 解析分组级别的认证
-                JSONObject auth = item.getJSONObject("auth");
-                if (auth != null) {
-                    AuthParserUtil.parsePostmanAuthToGroup(auth, group);
-                }
-
-                // 解析分组级别的脚本
-                JSONArray events = item.getJSONArray("event");
-                if (events != null && !events.isEmpty()) {
-                    parseEventsToGroup(events, group);
-                }
-
-                CollectionNode folderNode = new CollectionNode(CollectionNodeType.GROUP, group);
-
-                // 递归处理子节点
-                JSONArray children = item.getJSONArray("item");
-                List<CollectionNode> childNodes = parsePostmanItems(children);
-                for (CollectionNode child : childNodes) {
-                    folderNode.addChild(child);
-                }
-                nodeList.add(folderNode);
+                // 文件夹节点，递归处理子节点
+                nodeList.add(buildFolderNode(item, parsePostmanItems(item.getJSONArray("item"))));
             } else if (item.containsKey("request")) {
                 // 纯请求节点
                 HttpRequestItem req = parsePostmanSingleItem(item);
@@ -167,6 +229,42 @@ public class PostmanCollectionParser {
     }
 
 
+    /**
+     * 根据文件夹 item 的字段和已解析的子节点构建分组节点
+     */
+    private static CollectionNode buildFolderNode(JSONObject item, List<CollectionNode> children) {
+        String folderName = item.getStr("name", "default group");
+        RequestGroup group = new RequestGroup(folderName);
+
+        // 解析文件夹描述
+        String description = extractDescription(item.get("description"));
+        if (description != null && !description.isEmpty()) {
+            group.setDescription(description);
+        }
+
+        if (item.containsKey("variable")) {
+            group.setVariables(parseVariables(item.getJSONArray("variable")));
+        }
+
+        // 解析分组级别的认证
+        JSONObject auth = item.getJSONObject("auth");
+        if (auth != null) {
+            AuthParserUtil.parsePostmanAuthToGroup(auth, group);
+        }
+
+        // 解析分组级别的脚本
+        JSONArray events = item.getJSONArray("event");
+        if (events != null && !events.isEmpty()) {
+            parseEventsToGroup(events, group);
+        }
+
+        CollectionNode folderNode = new CollectionNode(CollectionNodeType.GROUP, group);
+        for (CollectionNode child : children) {
+            folderNode.addChild(child);
+        }
+        return folderNode;
+    }
+
     /**
      * 解析Postman的events到RequestGroup
      */
@@ -5,6 +5,7 @@ import com.laker.postman.request.model.HttpRequestItem;
 
 
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,12 @@ public class CollectionParseResult {
      */
     private final List<Environment> environments;
 
+    /**
+     * 流式导入时因超过大小阈值而丢弃的响应体数量
+     */
+    @Setter
+    private int skippedResponseBodies;
+
     public CollectionParseResult(RequestGroup group) {
         this.group = group;
         this.children = new ArrayList<>();
@@ -0,0 +1,94 @@
+package com.laker.postman.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 客户端证书的主机名索引：精确主机和通配符域名（{@code *.example.com} 记为 {@code example.com}）各一张表，
+ * 查找时只看目标主机本身和它的各级父域，不再逐条调用 {@link ClientCertificate#matches}。
+ * <p>
+ * 多条证书同时命中时取配置顺序最靠前的一条，和逐条扫描的结果一致。索引是构建时的快照，
+ * 证书配置增删改后需要重新构建。
+ * </p>
+ */
+public final class ClientCertificateIndex {
+    private static final ClientCertificateIndex EMPTY = new ClientCertificateIndex(Map.of(), Map.of());
+
+    private final Map<String, List<Entry>> exactHosts;
+    private final Map<String, List<Entry>> wildcardDomains;
+
+    private record Entry(int order, ClientCertificate certificate) {
+    }
+
+    private ClientCertificateIndex(Map<String, List<Entry>> exactHosts, Map<String, List<Entry>> wildcardDomains) {
+        this.exactHosts = exactHosts;
+        this.wildcardDomains = wildcardDomains;
+    }
+
+    public static ClientCertificateIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 按配置顺序建索引，未启用或没有主机名的证书不进索引。
+     */
+    public static ClientCertificateIndex of(Collection<ClientCertificate> certificates) {
+        if (certificates == null || certificates.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, List<Entry>> exactHosts = new HashMap<>();
+        Map<String, List<Entry>> wildcardDomains = new HashMap<>();
+        int order = 0;
+        for (ClientCertificate certificate : certificates) {
+            int currentOrder = order++;
+            if (certificate == null || !certificate.isEnabled()
+                    || certificate.getHost() == null || certificate.getHost().trim().isEmpty()) {
+                continue;
+            }
+            String pattern = certificate.getHost().trim().toLowerCase();
+            Entry entry = new Entry(currentOrder, certificate);
+            if (pattern.startsWith("*.")) {
+                wildcardDomains.computeIfAbsent(pattern.substring(2), ignored -> new ArrayList<>()).add(entry);
+            } else {
+                exactHosts.computeIfAbsent(pattern, ignored -> new ArrayList<>()).add(entry);
+            }
+        }
+        return new ClientCertificateIndex(exactHosts, wildcardDomains);
+    }
+
+    /**
+     * @return 匹配 host:port 的证书，没有匹配时返回 null
+     */
+    public ClientCertificate find(String host, int port) {
+        if (host == null) {
+            return null;
+        }
+        String target = host.toLowerCase();
+        Entry best = firstMatch(exactHosts.get(target), port, null);
+        // 通配符同时匹配域名本身，再依次尝试每一级父域
+        best = firstMatch(wildcardDomains.get(target), port, best);
+        for (int dot = target.indexOf('.'); dot >= 0; dot = target.indexOf('.', dot + 1)) {
+            best = firstMatch(wildcardDomains.get(target.substring(dot + 1)), port, best);
+        }
+        return best == null ? null : best.certificate();
+    }
+
+    private static Entry firstMatch(List<Entry> entries, int port, Entry current) {
+        if (entries == null) {
+            return current;
+        }
+        for (Entry entry : entries) {
+            if (current != null && entry.order() >= current.order()) {
+                return current;
+            }
+            int certificatePort = entry.certificate().getPort();
+            if (certificatePort == 0 || certificatePort == port) {
+                return entry;
+            }
+        }
+        return current;
+    }
+}
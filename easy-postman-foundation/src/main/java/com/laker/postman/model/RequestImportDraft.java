@@ -11,7 +11,8 @@ public record RequestImportDraft(
         List<RequestImportHeader> headers,
         String description,
         String bodyType,
-        String body
+        String body,
+        RequestImportResponse response
 ) {
 
     public RequestImportDraft {
@@ -32,6 +33,21 @@ public record RequestImportDraft(
         body = normalize(body);
     }
 
+    /**
+     * 不带录制响应的导入草稿
+     */
+    public RequestImportDraft(String id,
+                              String name,
+                              String url,
+                              String method,
+                              RequestImportProtocol protocol,
+                              List<RequestImportHeader> headers,
+                              String description,
+                              String bodyType,
+                              String body) {
+        this(id, name, url, method, protocol, headers, description, bodyType, body, null);
+    }
+
     private static String normalize(String value) {
         return value == null ? "" : value;
     }
@@ -0,0 +1,22 @@
+package com.laker.postman.model;
+
+import java.util.List;
+
+/**
+ * 随请求一起导入的已录制响应，导入后保存为请求的示例响应，供 Mock 回放使用
+ */
+public record RequestImportResponse(
+        int code,
+        String status,
+        List<RequestImportHeader> headers,
+        String body,
+        long costMs
+) {
+
+    public RequestImportResponse {
+        status = status == null ? "" : status;
+        headers = headers == null ? List.of() : List.copyOf(headers);
+        body = body == null ? "" : body;
+        costMs = Math.max(0L, costMs);
+    }
+}
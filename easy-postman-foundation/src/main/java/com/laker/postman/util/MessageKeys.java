@@ -824,6 +824,24 @@ public final class MessageKeys {
     public static final String PERFORMANCE_USAGE_HELP_TOOLTIP = "performance.usage.help.tooltip";
     public static final String PERFORMANCE_USAGE_HELP_TITLE = "performance.usage.help.title";
     public static final String PERFORMANCE_USAGE_HELP_CONTENT = "performance.usage.help.content";
+    public static final String PERFORMANCE_MOCK_TOOLTIP = "performance.mock.tooltip";
+    public static final String PERFORMANCE_MOCK_TITLE = "performance.mock.title";
+    public static final String PERFORMANCE_MOCK_DESCRIPTION = "performance.mock.description";
+    public static final String PERFORMANCE_MOCK_PORT = "performance.mock.port";
+    public static final String PERFORMANCE_MOCK_LATENCY = "performance.mock.latency";
+    public static final String PERFORMANCE_MOCK_LATENCY_TOOLTIP = "performance.mock.latency.tooltip";
+    public static final String PERFORMANCE_MOCK_ERROR_RATE = "performance.mock.error.rate";
+    public static final String PERFORMANCE_MOCK_ERROR_STATUS = "performance.mock.error.status";
+    public static final String PERFORMANCE_MOCK_MATCH_QUERY = "performance.mock.match.query";
+    public static final String PERFORMANCE_MOCK_MATCH_QUERY_TOOLTIP = "performance.mock.match.query.tooltip";
+    public static final String PERFORMANCE_MOCK_MATCH_HEADER = "performance.mock.match.header";
+    public static final String PERFORMANCE_MOCK_MATCH_BODY = "performance.mock.match.body";
+    public static final String PERFORMANCE_MOCK_START = "performance.mock.start";
+    public static final String PERFORMANCE_MOCK_STOP = "performance.mock.stop";
+    public static final String PERFORMANCE_MOCK_STATUS_STOPPED = "performance.mock.status.stopped";
+    public static final String PERFORMANCE_MOCK_STATUS_RUNNING = "performance.mock.status.running";
+    public static final String PERFORMANCE_MOCK_STATS = "performance.mock.stats";
+    public static final String PERFORMANCE_MOCK_START_FAILED = "performance.mock.start.failed";
     public static final String PERFORMANCE_RUN_PLAN_EXPORT_TITLE = "performance.run_plan.export.title";
     public static final String PERFORMANCE_RUN_PLAN_EXPORT_SUCCESS = "performance.run_plan.export.success";
     public static final String PERFORMANCE_RUN_PLAN_EXPORT_FAIL = "performance.run_plan.export.fail";
@@ -873,6 +891,20 @@ public final class MessageKeys {
     public static final String PERFORMANCE_ONCE_ONLY_DESCRIPTION = "performance.once_only.description";
     public static final String PERFORMANCE_TIMER_DELAY = "performance.timer.delay";
     public static final String PERFORMANCE_TIMER_HINT = "performance.timer.hint";
+    public static final String PERFORMANCE_TIMER_TYPE = "performance.timer.type";
+    public static final String PERFORMANCE_TIMER_TYPE_CONSTANT = "performance.timer.type.constant";
+    public static final String PERFORMANCE_TIMER_TYPE_UNIFORM_RANDOM = "performance.timer.type.uniform_random";
+    public static final String PERFORMANCE_TIMER_TYPE_GAUSSIAN_RANDOM = "performance.timer.type.gaussian_random";
+    public static final String PERFORMANCE_TIMER_TYPE_POISSON_RANDOM = "performance.timer.type.poisson_random";
+    public static final String PERFORMANCE_TIMER_TYPE_CONSTANT_PACING = "performance.timer.type.constant_pacing";
+    public static final String PERFORMANCE_TIMER_TYPE_CONSTANT_THROUGHPUT = "performance.timer.type.constant_throughput";
+    public static final String PERFORMANCE_TIMER_RANGE = "performance.timer.range";
+    public static final String PERFORMANCE_TIMER_DEVIATION = "performance.timer.deviation";
+    public static final String PERFORMANCE_TIMER_POISSON_MEAN = "performance.timer.poisson_mean";
+    public static final String PERFORMANCE_TIMER_PACING = "performance.timer.pacing";
+    public static final String PERFORMANCE_TIMER_THROUGHPUT = "performance.timer.throughput";
+    public static final String PERFORMANCE_TIMER_MISSED_TARGET = "performance.timer.missed_target";
+    public static final String PERFORMANCE_GENERATOR_SATURATED = "performance.generator.saturated";
     public static final String PERFORMANCE_ASSERTION_TYPE_LABEL = "performance.assertion.type_label";
     public static final String PERFORMANCE_ASSERTION_OPERATOR = "performance.assertion.operator";
     public static final String PERFORMANCE_ASSERTION_VALUE = "performance.assertion.value";
@@ -1110,6 +1142,11 @@ public final class MessageKeys {
     public static final String PERFORMANCE_TREND_LATENCY_DURATION_MS = "performance.trend.latency_duration_ms";
     public static final String PERFORMANCE_TREND_SESSION_DURATION_MS = "performance.trend.session_duration_ms";
     public static final String PERFORMANCE_TREND_STREAM_DURATION_MS = "performance.trend.stream_duration_ms";
+    public static final String PERFORMANCE_TREND_GENERATOR_CPU_PERCENT = "performance.trend.generator_cpu_percent";
+    public static final String PERFORMANCE_TREND_GENERATOR_GC_PAUSE_PERCENT = "performance.trend.generator_gc_pause_percent";
+    public static final String PERFORMANCE_TREND_GENERATOR_ALLOCATION_MB = "performance.trend.generator_allocation_mb";
+    public static final String PERFORMANCE_TREND_GENERATOR_THREADS = "performance.trend.generator_threads";
+    public static final String PERFORMANCE_TREND_GENERATOR_SCHEDULING_LAG_MS = "performance.trend.generator_scheduling_lag_ms";
 
     // ============ 性能结果树相关 ============
     public static final String PERFORMANCE_RESULT_TREE_COLUMN_PROTOCOL = "performance.result_tree.column.protocol";
@@ -1229,6 +1266,9 @@ public final class MessageKeys {
     public static final String COLLECTIONS_IMPORT_DIALOG_TITLE = "collections.import.dialog_title";
     public static final String COLLECTIONS_IMPORT_SUCCESS = "collections.import.success";
     public static final String COLLECTIONS_IMPORT_FAIL = "collections.import.fail";
+    public static final String COLLECTIONS_IMPORT_PROGRESS = "collections.import.progress";
+    public static final String COLLECTIONS_IMPORT_PROGRESS_NOTE = "collections.import.progress_note";
+    public static final String COLLECTIONS_IMPORT_SKIPPED_RESPONSE_BODIES = "collections.import.skipped_response_bodies";
     public static final String COLLECTIONS_IMPORT_POSTMAN_DIALOG_TITLE = "collections.import.postman.dialog_title";
     public static final String COLLECTIONS_IMPORT_POSTMAN_INVALID = "collections.import.postman.invalid";
     public static final String COLLECTIONS_IMPORT_SWAGGER_DIALOG_TITLE = "collections.import.swagger.dialog_title";
@@ -1284,6 +1324,8 @@ public final class MessageKeys {
     public static final String REQUEST_SETTINGS_FOLLOW_REDIRECTS_DESC = "request.settings.follow_redirects.desc";
     public static final String REQUEST_SETTINGS_USE_COOKIE_JAR_LABEL = "request.settings.use_cookie_jar.label";
     public static final String REQUEST_SETTINGS_USE_COOKIE_JAR_DESC = "request.settings.use_cookie_jar.desc";
+    public static final String REQUEST_SETTINGS_REPLAY_CACHEABLE_LABEL = "request.settings.replay_cacheable.label";
+    public static final String REQUEST_SETTINGS_REPLAY_CACHEABLE_DESC = "request.settings.replay_cacheable.desc";
     public static final String REQUEST_SETTINGS_PROXY_POLICY_LABEL = "request.settings.proxy_policy.label";
     public static final String REQUEST_SETTINGS_PROXY_POLICY_DESC = "request.settings.proxy_policy.desc";
     public static final String REQUEST_SETTINGS_PROXY_POLICY_DEFAULT = "request.settings.proxy_policy.default";
@@ -1380,6 +1422,14 @@ public final class MessageKeys {
     public static final String THREADGROUP_FIXED_DURATION = "threadgroup.fixed.duration";
     public static final String THREADGROUP_MAX_IN_FLIGHT_WAIT = "threadgroup.max_in_flight_wait";
     public static final String THREADGROUP_MAX_IN_FLIGHT_WAIT_TOOLTIP = "threadgroup.max_in_flight_wait.tooltip";
+    public static final String THREADGROUP_HTTP2_MULTIPLEXED = "threadgroup.http2_multiplexed";
+    public static final String THREADGROUP_HTTP2_MULTIPLEXED_ENABLE = "threadgroup.http2_multiplexed.enable";
+    public static final String THREADGROUP_HTTP2_MULTIPLEXED_TOOLTIP = "threadgroup.http2_multiplexed.tooltip";
+    public static final String THREADGROUP_HTTP2_CONNECTIONS = "threadgroup.http2_connections";
+    public static final String THREADGROUP_HTTP2_MAX_STREAMS = "threadgroup.http2_max_streams";
+    public static final String THREADGROUP_ASYNC_SAMPLING = "threadgroup.async_sampling";
+    public static final String THREADGROUP_ASYNC_SAMPLING_ENABLE = "threadgroup.async_sampling.enable";
+    public static final String THREADGROUP_ASYNC_SAMPLING_TOOLTIP = "threadgroup.async_sampling.tooltip";
 
     // 递增模式标签
     public static final String THREADGROUP_RAMPUP_START_USERS = "threadgroup.rampup.start_users";
@@ -1489,6 +1539,17 @@ public final class MessageKeys {
     public static final String SETTINGS_PERFORMANCE_MAX_REQUESTS_TOOLTIP = "settings.performance.max_requests.tooltip";
     public static final String SETTINGS_PERFORMANCE_MAX_REQUESTS_PER_HOST = "settings.performance.max_requests_per_host";
     public static final String SETTINGS_PERFORMANCE_MAX_REQUESTS_PER_HOST_TOOLTIP = "settings.performance.max_requests_per_host.tooltip";
+    public static final String SETTINGS_PERFORMANCE_DNS_MODE = "settings.performance.dns_mode";
+    public static final String SETTINGS_PERFORMANCE_DNS_MODE_TOOLTIP = "settings.performance.dns_mode.tooltip";
+    public static final String SETTINGS_PERFORMANCE_DNS_MODE_SYSTEM = "settings.performance.dns_mode.system";
+    public static final String SETTINGS_PERFORMANCE_DNS_MODE_CACHED = "settings.performance.dns_mode.cached";
+    public static final String SETTINGS_PERFORMANCE_DNS_MODE_ROUND_ROBIN = "settings.performance.dns_mode.round_robin";
+    public static final String SETTINGS_PERFORMANCE_DNS_MODE_PER_VIRTUAL_USER = "settings.performance.dns_mode.per_virtual_user";
+    public static final String SETTINGS_PERFORMANCE_DNS_MODE_EVERY_CONNECTION = "settings.performance.dns_mode.every_connection";
+    public static final String SETTINGS_PERFORMANCE_DNS_CACHE_TTL = "settings.performance.dns_cache_ttl";
+    public static final String SETTINGS_PERFORMANCE_DNS_CACHE_TTL_TOOLTIP = "settings.performance.dns_cache_ttl.tooltip";
+    public static final String SETTINGS_PERFORMANCE_DNS_HOST_OVERRIDES = "settings.performance.dns_host_overrides";
+    public static final String SETTINGS_PERFORMANCE_DNS_HOST_OVERRIDES_TOOLTIP = "settings.performance.dns_host_overrides.tooltip";
     public static final String SETTINGS_PERFORMANCE_JS_CONTEXT_POOL_SIZE = "settings.performance.js_context_pool_size";
     public static final String SETTINGS_PERFORMANCE_JS_CONTEXT_POOL_SIZE_TOOLTIP = "settings.performance.js_context_pool_size.tooltip";
     public static final String SETTINGS_PERFORMANCE_JS_CONTEXT_ACQUIRE_TIMEOUT = "settings.performance.js_context_acquire_timeout";
@@ -1521,6 +1582,8 @@ public final class MessageKeys {
     public static final String SETTINGS_GENERAL_REQUEST_TABS_MULTILINE_TOOLTIP = "settings.general.request_tabs_multiline.tooltip";
     public static final String SETTINGS_GIT_DIFF_LARGE_FILE_THRESHOLD = "settings.git.diff.large_file_threshold";
     public static final String SETTINGS_GIT_DIFF_LARGE_FILE_THRESHOLD_TOOLTIP = "settings.git.diff.large_file_threshold.tooltip";
+    public static final String SETTINGS_IMPORT_RESPONSE_BODY_LIMIT = "settings.import.response_body_limit";
+    public static final String SETTINGS_IMPORT_RESPONSE_BODY_LIMIT_TOOLTIP = "settings.import.response_body_limit.tooltip";
     public static final String SETTINGS_GENERAL_AUTO_FORMAT_RESPONSE = "settings.general.auto_format_response";
     public static final String SETTINGS_GENERAL_AUTO_FORMAT_RESPONSE_TOOLTIP = "settings.general.auto_format_response.tooltip";
     public static final String SETTINGS_GENERAL_STARTUP_SPLASH = "settings.general.startup_splash";
@@ -1558,9 +1621,11 @@ public final class MessageKeys {
     public static final String SETTINGS_VALIDATION_TREND_SAMPLING_ERROR = "settings.validation.trend_sampling.error";
     public static final String SETTINGS_VALIDATION_THRESHOLD_ERROR = "settings.validation.threshold.error";
     public static final String SETTINGS_VALIDATION_SLOW_REQUEST_THRESHOLD_ERROR = "settings.validation.slow_request_threshold.error";
+    public static final String SETTINGS_VALIDATION_DNS_CACHE_TTL_ERROR = "settings.validation.dns_cache_ttl.error";
     public static final String SETTINGS_VALIDATION_RESPONSE_BODY_PREVIEW_LIMIT_ERROR = "settings.validation.response_body_preview_limit.error";
     public static final String SETTINGS_VALIDATION_RESULT_ROW_LIMIT_ERROR = "settings.validation.result_row_limit.error";
     public static final String SETTINGS_VALIDATION_GIT_DIFF_LARGE_FILE_THRESHOLD_ERROR = "settings.validation.git_diff_large_file_threshold.error";
+    public static final String SETTINGS_VALIDATION_IMPORT_RESPONSE_BODY_LIMIT_ERROR = "settings.validation.import_response_body_limit.error";
     public static final String SETTINGS_VALIDATION_MAX_HISTORY_ERROR = "settings.validation.max_history.error";
     public static final String SETTINGS_VALIDATION_MAX_OPENED_REQUESTS_ERROR = "settings.validation.max_opened_requests_error";
     public static final String SETTINGS_VALIDATION_PORT_ERROR = "settings.validation.port.error";
@@ -1616,8 +1681,13 @@ public final class MessageKeys {
     public static final String RESPONSE_SIZE_REQUEST_HEADERS = "response.size.request.headers";
     public static final String RESPONSE_SIZE_REQUEST_BODY = "response.size.request.body";
     public static final String RESPONSE_SIZE_UNCOMPRESSED = "response.size.uncompressed";
+    public static final String RESPONSE_SIZE_DECOMPRESSION_TIME = "response.size.decompression_time";
     public static final String RESPONSE_SIZE_COMPRESSION_RATIO = "response.size.compression.ratio";
     public static final String RESPONSE_SIZE_COMPRESSION_SAVED = "response.size.compression.saved";
+    public static final String RESPONSE_LARGE_VIEWER_INDEXING = "response.large_viewer.indexing";
+    public static final String RESPONSE_LARGE_VIEWER_LINES = "response.large_viewer.lines";
+    public static final String RESPONSE_LARGE_VIEWER_FORMAT_SKIPPED = "response.large_viewer.format_skipped";
+    public static final String RESPONSE_LARGE_VIEWER_MATCH_LINE = "response.large_viewer.match_line";
     public static final String RESPONSE_AUDIO_TITLE = "response.audio.title";
     public static final String RESPONSE_AUDIO_READY = "response.audio.ready";
     public static final String RESPONSE_AUDIO_LOADING = "response.audio.loading";
@@ -2063,6 +2133,9 @@ public final class MessageKeys {
     public static final String WATERFALL_LOCAL_ADDRESS = "waterfall.local_address";
     public static final String WATERFALL_REMOTE_ADDRESS = "waterfall.remote_address";
     public static final String WATERFALL_TLS_PROTOCOL = "waterfall.tls_protocol";
+    public static final String WATERFALL_TLS_HANDSHAKE = "waterfall.tls_handshake";
+    public static final String WATERFALL_TLS_HANDSHAKE_FULL = "waterfall.tls_handshake_full";
+    public static final String WATERFALL_TLS_HANDSHAKE_RESUMED = "waterfall.tls_handshake_resumed";
     public static final String WATERFALL_CIPHER_NAME = "waterfall.cipher_name";
     public static final String WATERFALL_CERTIFICATE_CN = "waterfall.certificate_cn";
     public static final String WATERFALL_ISSUER_CN = "waterfall.issuer_cn";
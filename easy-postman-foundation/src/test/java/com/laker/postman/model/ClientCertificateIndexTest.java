@@ -0,0 +1,66 @@
+package com.laker.postman.model;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class ClientCertificateIndexTest {
+
+    @Test
+    public void shouldMatchExactHostAndWildcardDomains() {
+        ClientCertificate exact = certificate("api.example.com", 0);
+        ClientCertificate wildcard = certificate("*.example.com", 0);
+        ClientCertificateIndex index = ClientCertificateIndex.of(List.of(exact, wildcard));
+
+        assertSame(index.find("API.example.com", 443), exact);
+        assertSame(index.find("a.b.example.com", 443), wildcard);
+        assertSame(index.find("example.com", 443), wildcard);
+        assertNull(index.find("example.org", 443));
+        assertNull(index.find("badexample.com", 443));
+    }
+
+    @Test
+    public void shouldPreferConfigurationOrderAndRespectPorts() {
+        ClientCertificate wildcardFirst = certificate("*.example.com", 8443);
+        ClientCertificate exactSecond = certificate("api.example.com", 0);
+        ClientCertificate disabled = certificate("*.example.com", 0);
+        disabled.setEnabled(false);
+        ClientCertificateIndex index = ClientCertificateIndex.of(List.of(wildcardFirst, exactSecond, disabled));
+
+        assertSame(index.find("api.example.com", 8443), wildcardFirst);
+        assertSame(index.find("api.example.com", 443), exactSecond);
+        assertNull(index.find("www.example.com", 443));
+    }
+
+    @Test
+    public void shouldAgreeWithLinearScan() {
+        List<ClientCertificate> certificates = new ArrayList<>();
+        certificates.add(certificate("*.svc.local", 0));
+        certificates.add(certificate("db.svc.local", 5432));
+        certificates.add(certificate("*.local", 443));
+        certificates.add(certificate(" Gateway.Example.com ", 0));
+        certificates.add(certificate("", 0));
+        ClientCertificateIndex index = ClientCertificateIndex.of(certificates);
+
+        for (String host : List.of("db.svc.local", "svc.local", "x.local", "local", "gateway.example.com", "other")) {
+            for (int port : new int[]{443, 5432, 8443}) {
+                ClientCertificate expected = certificates.stream()
+                        .filter(certificate -> certificate.matches(host, port))
+                        .findFirst()
+                        .orElse(null);
+                assertSame(index.find(host, port), expected, host + ":" + port);
+            }
+        }
+    }
+
+    private static ClientCertificate certificate(String host, int port) {
+        ClientCertificate certificate = new ClientCertificate();
+        certificate.setHost(host);
+        certificate.setPort(port);
+        return certificate;
+    }
+}
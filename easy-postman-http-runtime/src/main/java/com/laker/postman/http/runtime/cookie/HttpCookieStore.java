@@ -4,11 +4,14 @@ import com.laker.postman.http.runtime.interaction.HttpCallbackDispatcher;
 import com.laker.postman.http.runtime.okhttp.OkHttpClientManager;
 import com.laker.postman.request.model.CookieInfo;
 
+import java.io.IOException;
 import java.net.CookieManager;
 import java.net.CookieStore;
 import java.net.HttpCookie;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -55,6 +58,22 @@ public class HttpCookieStore {
         return list;
     }
 
+    /**
+     * 全局 Cookie Jar 会随请求发往该 URL 的 Cookie 头的值，URL 无法解析时返回空列表
+     */
+    public static List<String> getCookieHeaderValuesForUrl(String url) {
+        if (url == null || url.isBlank()) {
+            return List.of();
+        }
+        try {
+            Map<String, List<String>> headers = GLOBAL_COOKIE_MANAGER.get(URI.create(url.trim()), Map.of());
+            List<String> values = headers.get("Cookie");
+            return values == null ? List.of() : List.copyOf(values);
+        } catch (IllegalArgumentException | IOException e) {
+            return List.of();
+        }
+    }
+
     public static void removeCookie(String name, String domain, String path) {
         CookieStore store = GLOBAL_COOKIE_MANAGER.getCookieStore();
         List<HttpCookie> toRemove = new ArrayList<>();
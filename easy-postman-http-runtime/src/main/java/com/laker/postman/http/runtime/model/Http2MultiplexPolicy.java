@@ -0,0 +1,15 @@
+package com.laker.postman.http.runtime.model;
+
+/**
+ * HTTP/2 多路复用发送策略：请求异步排队到固定数量的连接上，每个连接同时打开的流不超过上限。
+ *
+ * @param connections             每个目标地址使用的连接数
+ * @param maxStreamsPerConnection 每个连接的并发流上限，超出的请求在客户端排队而不是新建连接
+ */
+public record Http2MultiplexPolicy(int connections, int maxStreamsPerConnection) {
+
+    public Http2MultiplexPolicy {
+        connections = Math.max(1, connections);
+        maxStreamsPerConnection = Math.max(1, maxStreamsPerConnection);
+    }
+}
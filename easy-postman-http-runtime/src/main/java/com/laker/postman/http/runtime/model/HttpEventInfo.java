@@ -14,6 +14,8 @@ public class HttpEventInfo {
     // 连接信息
     private String localAddress;
     private String remoteAddress;
+    // DNS 返回的地址列表（按尝试顺序，逗号分隔），实际连接的地址见 remoteAddress；复用连接时为空
+    private String dnsAddresses;
     // 各阶段时间戳
     private long queueStart; // newCall前的时间戳 自己额外定义的发起请求时间
     private long callStart;
@@ -48,6 +50,8 @@ public class HttpEventInfo {
     private List<Certificate> peerCertificates = new ArrayList<>();
     private List<Certificate> localCertificates = new ArrayList<>();
     private String tlsVersion;
+    // TLS 握手类型：true 为恢复已有会话，false 为完整握手，null 表示本次没有新建 TLS 连接
+    private Boolean tlsSessionResumed;
     // 加密套件
     private String cipherName;
     // SSL 证书验证警告信息（如过期、域名不匹配、自签名等）
@@ -60,6 +64,8 @@ public class HttpEventInfo {
 
     private long bodyBytesSent;
     private long bodyBytesReceived;
+    private long decodedBodyBytes; // 解压后的响应体字节数，响应未压缩时为 0
+    private long decompressionNanos; // 解压耗时，不含等待网络数据的时间
     private long headerBytesSent;
     private long headerBytesReceived;
 }
@@ -2,6 +2,12 @@ package com.laker.postman.http.runtime.model;
 
 import com.laker.postman.util.HttpHeaderConstants;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +22,7 @@ public class HttpResponse {
     public String filePath; // 临时文件下载路径字段
     public String fileName; // 如果是文件下载，从响应头中获取的文件名字段
     public long costMs; // 请求耗时，单位毫秒
+    public long queueWaitMs; // 异步请求在 OkHttp 调度器里排队的耗时，单位毫秒，不计入 costMs
     public long endTime; // 响应结束时间，单位毫秒
     public String protocol; // 协议类型字段，例如 HTTP/1.1 或 HTTP/2
     public int idleConnectionCount; // 空闲连接数
@@ -25,6 +32,8 @@ public class HttpResponse {
     public long headersSize; // 响应头字节数
     public boolean isSse = false; // 是否为SSE响应
     public boolean isImage = false; // 是否为图片响应（用于预览）
+    public boolean bodySpilledToFile = false; // 文本响应体超过最大显示大小，完整内容在 filePath 临时文件中，body 只是提示
+    public String bodyCharset; // 溢出到临时文件的文本响应体的字符集
 
     public void addHeader(String name, List<String> value) {
         if (headers == null) {
@@ -41,6 +50,22 @@ public class HttpResponse {
         }
     }
 
+    /**
+     * 完整的文本响应体：溢出到临时文件时每次调用都从文件读取，不常驻内存；否则就是 body
+     */
+    public String fullBodyText() {
+        if (!bodySpilledToFile || filePath == null) {
+            return body;
+        }
+        Charset charset = bodyCharset != null && Charset.isSupported(bodyCharset)
+                ? Charset.forName(bodyCharset) : StandardCharsets.UTF_8;
+        try {
+            return new String(Files.readAllBytes(Path.of(filePath)), charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * 简化对象，将渲染时不需要的字段置为 null，减少内存占用
      * 保留的字段：code, protocol, threadName, httpEventInfo, headers, body, costMs, endTime, bodySize, headersSize, idleConnectionCount, connectionCount
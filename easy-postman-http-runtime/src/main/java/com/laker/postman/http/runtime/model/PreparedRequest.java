@@ -11,6 +11,7 @@ import com.laker.postman.http.runtime.interaction.DownloadProgressSinkFactory;
 import com.laker.postman.http.runtime.interaction.ResponseSizeLimitWarningSink;
 import com.laker.postman.http.runtime.observation.HttpLifecycleLogSink;
 import com.laker.postman.http.runtime.observation.NetworkLogSink;
+import com.laker.postman.util.MonotonicStopwatch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +43,7 @@ public class PreparedRequest {
     public int requestTimeoutMs = 0; // 0 表示不超时
     public int webSocketPingIntervalMs = HttpRequestItem.DEFAULT_WEBSOCKET_PING_INTERVAL_MS; // 0 表示关闭协议 ping
     public TransportAuth transportAuth; // 发送阶段需要的传输层认证元数据（例如 Digest challenge 认证）
+    public transient Http2MultiplexPolicy http2Multiplexing; // 非空时异步排队到有限的 HTTP/2 连接上，仅压测线程组设置
 
     // 事件监听控制（精细化控制）
     public HttpCaptureProfile captureProfile; // 执行场景采集策略；为空时兼容旧布尔字段组合
@@ -67,6 +69,7 @@ public class PreparedRequest {
     public String sentRequestBody; // 实际发送的请求体内容
     public boolean sentRequestBodyReplayable; // 实际请求体快照是否完整且可用于 cURL 复现
     public transient volatile HttpEventInfo exchangeEventInfo; // 运行期事件信息，仅供 SSE/WS 异步回调读取，不参与持久化
+    public transient volatile MonotonicStopwatch dispatchStopwatch; // 请求被 OkHttp 调度器放行时开始计时，异步排队时间据此从耗时中扣除
 
     /**
      * 创建当前对象的浅拷贝
@@ -96,6 +99,7 @@ public class PreparedRequest {
         copy.requestTimeoutMs = this.requestTimeoutMs;
         copy.webSocketPingIntervalMs = this.webSocketPingIntervalMs;
         copy.transportAuth = this.transportAuth != null ? this.transportAuth.shallowCopy() : null;
+        copy.http2Multiplexing = this.http2Multiplexing;
         copy.captureProfile = this.captureProfile;
         copy.collectBasicInfo = this.collectBasicInfo;
         copy.collectMetricsInfo = this.collectMetricsInfo;
@@ -122,7 +126,7 @@ public class PreparedRequest {
      * 简化对象，将渲染时不需要的字段置为 null，减少内存占用
      * 保留的字段：url, method, sentUrl, sentMethod, sentHeadersList, formDataList, urlencodedList, sentRequestBody, sentRequestBodyReplayable
      * 置为 null 的字段：id, name, body, bodyType, transportAuth, headersList,
-     * pathVariablesList, paramsList, exchangeEventInfo
+     * pathVariablesList, paramsList, exchangeEventInfo, dispatchStopwatch
      */
     public void simplify() {
         this.id = null;
@@ -134,6 +138,7 @@ public class PreparedRequest {
         this.pathVariablesList = null;
         this.paramsList = null;   // 渲染时不显示
         this.exchangeEventInfo = null;
+        this.dispatchStopwatch = null;
         // isMultipart, followRedirects 和采集开关是基本类型，不占主要内存
     }
 
@@ -0,0 +1,57 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+/**
+ * 已完成字符集编码（和压缩）的文本请求体。内容不可变，可以被多次、并发地写出，因此能在请求之间复用。
+ */
+final class EncodedRequestBody extends RequestBody {
+    private final MediaType mediaType;
+    private final byte[] content;
+    private final String plainText;
+    private final RequestBodyCompression compression;
+
+    EncodedRequestBody(MediaType mediaType, byte[] content, String plainText, RequestBodyCompression compression) {
+        this.mediaType = mediaType;
+        this.content = content;
+        this.plainText = plainText;
+        this.compression = compression;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return mediaType;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.length;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        sink.write(content);
+    }
+
+    boolean isCompressed() {
+        return compression != RequestBodyCompression.NONE;
+    }
+
+    /**
+     * 压缩前的请求体，供日志预览和重放使用
+     */
+    RequestBody uncompressed() {
+        return RequestBody.create(plainText, mediaType);
+    }
+
+    /**
+     * 缓存占用的估算值：压缩前文本按 UTF-16 计，加上最终字节
+     */
+    long weight() {
+        return plainText.length() * 2L + content.length;
+    }
+}
@@ -4,7 +4,8 @@ public record HttpClientRuntimeConfig(
         int maxIdleConnections,
         long keepAliveDurationSeconds,
         int maxRequests,
-        int maxRequestsPerHost
+        int maxRequestsPerHost,
+        HttpDnsSettings dns
 ) {
     public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 6;
     public static final long DEFAULT_KEEP_ALIVE_DURATION_SECONDS = 90L;
@@ -18,6 +19,30 @@ public record HttpClientRuntimeConfig(
                 : DEFAULT_KEEP_ALIVE_DURATION_SECONDS;
         maxRequests = maxRequests > 0 ? maxRequests : DEFAULT_MAX_REQUESTS;
         maxRequestsPerHost = maxRequestsPerHost > 0 ? maxRequestsPerHost : DEFAULT_MAX_REQUESTS_PER_HOST;
+        dns = dns == null ? HttpDnsSettings.system() : dns;
+    }
+
+    public HttpClientRuntimeConfig(int maxIdleConnections,
+                                   long keepAliveDurationSeconds,
+                                   int maxRequests,
+                                   int maxRequestsPerHost) {
+        this(maxIdleConnections, keepAliveDurationSeconds, maxRequests, maxRequestsPerHost, HttpDnsSettings.system());
+    }
+
+    /**
+     * 把调度器的全局和单主机并发上限至少放宽到 concurrency，已有上限更大时保持不变
+     */
+    public HttpClientRuntimeConfig withMinimumConcurrency(int concurrency) {
+        if (concurrency <= maxRequests && concurrency <= maxRequestsPerHost) {
+            return this;
+        }
+        return new HttpClientRuntimeConfig(
+                maxIdleConnections,
+                keepAliveDurationSeconds,
+                Math.max(maxRequests, concurrency),
+                Math.max(maxRequestsPerHost, concurrency),
+                dns
+        );
     }
 
     public static HttpClientRuntimeConfig defaults() {
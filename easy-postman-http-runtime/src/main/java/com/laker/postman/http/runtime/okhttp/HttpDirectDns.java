@@ -0,0 +1,92 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import okhttp3.Dns;
+
+import javax.naming.Context;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+
+/**
+ * 直接向 DNS 服务器查询 A/AAAA 记录的 {@link Dns}。
+ * <p>
+ * {@link Dns#SYSTEM} 走 {@link InetAddress#getAllByName}，结果会被 JVM 按 networkaddress.cache.ttl（默认 30 秒）缓存，
+ * 应用层再短的缓存或“每次新建连接都解析”都拿不到新记录。这里用 JDK 自带的 JNDI DNS 提供者（jdk.naming.dns 模块）
+ * 直接发查询，没有进程内缓存；未指定服务器时使用系统配置的 DNS 服务器。
+ * hosts 文件里的名字、没有可用 DNS 服务器或模块缺失等查不到结果的情况退回系统解析。
+ * </p>
+ */
+final class HttpDirectDns implements Dns {
+    static final HttpDirectDns SYSTEM_SERVERS = new HttpDirectDns("dns:", Dns.SYSTEM);
+
+    private static final String CONTEXT_FACTORY = "com.sun.jndi.dns.DnsContextFactory";
+    private static final String INITIAL_TIMEOUT_MS = "1000";
+    private static final String RETRIES = "2";
+    private static final String[] ADDRESS_TYPES = {"A", "AAAA"};
+
+    private final String providerUrl;
+    private final Dns fallback;
+
+    /**
+     * @param providerUrl JNDI DNS 地址，例如 {@code dns:} 或 {@code dns://10.0.0.53:53}
+     */
+    HttpDirectDns(String providerUrl, Dns fallback) {
+        this.providerUrl = providerUrl;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        if (HttpDnsSettings.isIpLiteral(hostname)) {
+            return fallback.lookup(hostname);
+        }
+        List<InetAddress> addresses;
+        try {
+            addresses = query(hostname);
+        } catch (NamingException | UnknownHostException e) {
+            return fallback.lookup(hostname);
+        }
+        return addresses.isEmpty() ? fallback.lookup(hostname) : addresses;
+    }
+
+    private List<InetAddress> query(String hostname) throws NamingException, UnknownHostException {
+        Hashtable<String, String> env = new Hashtable<>();
+        env.put(Context.INITIAL_CONTEXT_FACTORY, CONTEXT_FACTORY);
+        env.put(Context.PROVIDER_URL, providerUrl);
+        env.put("com.sun.jndi.dns.timeout.initial", INITIAL_TIMEOUT_MS);
+        env.put("com.sun.jndi.dns.timeout.retries", RETRIES);
+        List<InetAddress> addresses = new ArrayList<>();
+        DirContext context = new InitialDirContext(env);
+        try {
+            // A 和 AAAA 分开查：一次请求多个类型时 JNDI 发的是 ANY 查询，很多递归服务器已不再完整应答 ANY
+            for (String type : ADDRESS_TYPES) {
+                Attribute attribute;
+                try {
+                    attribute = context.getAttributes(hostname, new String[]{type}).get(type);
+                } catch (NameNotFoundException e) {
+                    return addresses;
+                }
+                if (attribute == null) {
+                    continue;
+                }
+                NamingEnumeration<?> values = attribute.getAll();
+                while (values.hasMore()) {
+                    String literal = String.valueOf(values.next());
+                    // 记录值是 IP 字面量，只做格式转换；保留主机名便于日志展示
+                    addresses.add(InetAddress.getByAddress(hostname, InetAddress.getByName(literal).getAddress()));
+                }
+            }
+        } finally {
+            context.close();
+        }
+        return addresses;
+    }
+}
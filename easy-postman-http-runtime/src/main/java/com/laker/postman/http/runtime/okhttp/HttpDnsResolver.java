@@ -0,0 +1,180 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 按 {@link HttpDnsSettings} 解析域名的 OkHttp {@link Dns}。
+ * <p>
+ * OkHttp 只在需要新建连接时调用 {@link #lookup}，并按返回顺序依次尝试地址，所以轮换和按虚拟用户分配
+ * 都是通过调整返回列表的首个地址实现的；复用连接池里的连接不会重新解析。静态映射总是优先，
+ * 缓存模式下解析失败不缓存，下一次新建连接会重新查询。
+ * </p>
+ * <p>
+ * 除 {@link HttpDnsSettings.Mode#SYSTEM} 外都经 {@link HttpDirectDns} 直接查询 DNS 服务器，绕开 JVM 自身的地址缓存，
+ * 否则缓存 TTL 低于 networkaddress.cache.ttl 或每次新建连接都解析时仍然拿到旧记录。
+ * </p>
+ * <p>
+ * OkHttp 可能在调度线程上调用 {@link #lookup}（异步请求、HTTP/2 多路复用通道），解析时拿不到是哪个虚拟用户，
+ * 所以 {@link HttpDnsSettings.Mode#PER_VIRTUAL_USER} 在选择客户端时通过 {@link #forVirtualUser} 绑定身份，
+ * 多路复用通道按通道序号用 {@link #forLane} 分配地址；没有绑定身份的解析按 {@link HttpDnsSettings.Mode#CACHED} 处理。
+ * </p>
+ */
+public final class HttpDnsResolver implements Dns {
+    private static final Map<HttpDnsSettings, HttpDnsResolver> SHARED = new ConcurrentHashMap<>();
+
+    private final HttpDnsSettings settings;
+    private final Dns upstream;
+    private final LongSupplier nanoClock;
+    private final long cacheTtlNanos;
+    private final Map<String, List<InetAddress>> overrides;
+    private final Map<String, CachedLookup> cache = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final AtomicInteger nextVirtualUserSlot = new AtomicInteger();
+    private final Map<String, Dns> virtualUserViews = new ConcurrentHashMap<>();
+
+    private record CachedLookup(List<InetAddress> addresses, long expiresAtNanos) {
+    }
+
+    /**
+     * 固定了地址序号的视图；同一解析器、同一序号的视图相等，OkHttp 按 Address 复用连接时不受影响
+     */
+    private record PinnedDns(HttpDnsResolver resolver, int slot) implements Dns {
+        @Override
+        public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+            return resolver.lookup(hostname, slot);
+        }
+    }
+
+    HttpDnsResolver(HttpDnsSettings settings, Dns upstream, LongSupplier nanoClock) {
+        this.settings = settings == null ? HttpDnsSettings.system() : settings;
+        this.upstream = upstream == null ? Dns.SYSTEM : upstream;
+        this.nanoClock = nanoClock;
+        this.cacheTtlNanos = TimeUnit.SECONDS.toNanos(this.settings.cacheTtlSeconds());
+        this.overrides = resolveOverrides(this.settings.hostOverrides());
+    }
+
+    /**
+     * 相同配置的客户端共用一个解析器，缓存和轮换位置在客户端之间共享。
+     * 系统解析且没有静态映射时直接返回 {@link Dns#SYSTEM}。
+     */
+    public static Dns forSettings(HttpDnsSettings settings) {
+        if (settings == null || settings.usesSystemResolver()) {
+            return Dns.SYSTEM;
+        }
+        Dns upstream = settings.mode() == HttpDnsSettings.Mode.SYSTEM ? Dns.SYSTEM : HttpDirectDns.SYSTEM_SERVERS;
+        return SHARED.computeIfAbsent(settings, key -> new HttpDnsResolver(key, upstream, System::nanoTime));
+    }
+
+    /**
+     * 按虚拟用户分配地址时，为某个虚拟用户返回固定地址序号的解析器；虚拟用户按首次出现的顺序依次错开。
+     * 其它模式或没有虚拟用户身份时原样返回。
+     *
+     * @param virtualUserScope 虚拟用户身份，与按虚拟用户隔离 Cookie 使用的 scope 相同
+     */
+    public static Dns forVirtualUser(Dns dns, String virtualUserScope) {
+        HttpDnsResolver resolver = perVirtualUserResolver(dns);
+        if (resolver == null || virtualUserScope == null || virtualUserScope.isBlank()) {
+            return dns;
+        }
+        return resolver.virtualUserViews.computeIfAbsent(virtualUserScope,
+                ignored -> new PinnedDns(resolver, resolver.nextVirtualUserSlot.getAndIncrement()));
+    }
+
+    /**
+     * HTTP/2 多路复用通道由多个虚拟用户共用，按虚拟用户分配地址时改为按通道序号分配。
+     */
+    public static Dns forLane(Dns dns, int laneIndex) {
+        HttpDnsResolver resolver = perVirtualUserResolver(dns);
+        return resolver == null ? dns : new PinnedDns(resolver, laneIndex);
+    }
+
+    private static HttpDnsResolver perVirtualUserResolver(Dns dns) {
+        HttpDnsResolver resolver = dns instanceof PinnedDns pinned ? pinned.resolver() : null;
+        if (dns instanceof HttpDnsResolver direct) {
+            resolver = direct;
+        }
+        return resolver != null && resolver.settings.mode() == HttpDnsSettings.Mode.PER_VIRTUAL_USER ? resolver : null;
+    }
+
+    static void clearShared() {
+        SHARED.clear();
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        return lookup(hostname, 0);
+    }
+
+    private List<InetAddress> lookup(String hostname, int virtualUserSlot) throws UnknownHostException {
+        String host = hostname.toLowerCase(Locale.ROOT);
+        List<InetAddress> addresses = overrides.get(host);
+        if (addresses == null) {
+            addresses = resolve(host);
+        }
+        return switch (settings.mode()) {
+            case ROUND_ROBIN -> rotate(addresses, cursors.computeIfAbsent(host, ignored -> new AtomicInteger())
+                    .getAndIncrement());
+            case PER_VIRTUAL_USER -> rotate(addresses, virtualUserSlot);
+            default -> addresses;
+        };
+    }
+
+    private List<InetAddress> resolve(String host) throws UnknownHostException {
+        HttpDnsSettings.Mode mode = settings.mode();
+        if (mode == HttpDnsSettings.Mode.SYSTEM || mode == HttpDnsSettings.Mode.EVERY_CONNECTION) {
+            return upstream.lookup(host);
+        }
+        long now = nanoClock.getAsLong();
+        CachedLookup cached = cache.get(host);
+        if (cached != null && now - cached.expiresAtNanos() < 0) {
+            return cached.addresses();
+        }
+        // 并发未命中时可能重复查询一次，结果相同，不为此加锁
+        List<InetAddress> addresses = List.copyOf(upstream.lookup(host));
+        cache.put(host, new CachedLookup(addresses, now + cacheTtlNanos));
+        return addresses;
+    }
+
+    static List<InetAddress> rotate(List<InetAddress> addresses, int offset) {
+        int size = addresses.size();
+        int start = size <= 1 ? 0 : Math.floorMod(offset, size);
+        if (start == 0) {
+            return addresses;
+        }
+        List<InetAddress> rotated = new ArrayList<>(size);
+        rotated.addAll(addresses.subList(start, size));
+        rotated.addAll(addresses.subList(0, start));
+        return rotated;
+    }
+
+    private static Map<String, List<InetAddress>> resolveOverrides(Map<String, List<String>> hostOverrides) {
+        Map<String, List<InetAddress>> resolved = new HashMap<>();
+        hostOverrides.forEach((host, literals) -> {
+            List<InetAddress> addresses = new ArrayList<>(literals.size());
+            for (String literal : literals) {
+                try {
+                    // IP 字面量只做格式转换，不会触发查询；保留主机名便于日志展示
+                    addresses.add(InetAddress.getByAddress(host, InetAddress.getByName(literal).getAddress()));
+                } catch (UnknownHostException ignored) {
+                    // 设置里已过滤非 IP 字面量，这里只会是格式错误的地址
+                }
+            }
+            if (!addresses.isEmpty()) {
+                resolved.put(host, List.copyOf(addresses));
+            }
+        });
+        return Map.copyOf(resolved);
+    }
+}
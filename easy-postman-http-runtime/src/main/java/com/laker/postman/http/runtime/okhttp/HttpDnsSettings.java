@@ -0,0 +1,172 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 客户端的域名解析策略，由 {@link HttpDnsResolver} 执行。
+ *
+ * @param cacheTtlSeconds 应用层缓存的有效期；JDK 的 DNS 查询接口拿不到记录自身的 TTL，只能按配置值统一过期
+ * @param hostOverrides   主机名（小写）到 IP 字面量的静态映射，作用同 /etc/hosts，命中时不再查询 DNS
+ */
+public record HttpDnsSettings(Mode mode, long cacheTtlSeconds, Map<String, List<String>> hostOverrides) {
+    public static final long DEFAULT_CACHE_TTL_SECONDS = 30L;
+
+    private static final HttpDnsSettings SYSTEM = new HttpDnsSettings(Mode.SYSTEM, 0L, Map.of());
+
+    public enum Mode {
+        /**
+         * OkHttp 默认的系统解析，只受 JVM 自身的地址缓存影响
+         */
+        SYSTEM,
+        /**
+         * 按 TTL 缓存解析结果，总是优先使用第一个地址
+         */
+        CACHED,
+        /**
+         * 按 TTL 缓存，每次新建连接轮换到下一个 A/AAAA 地址
+         */
+        ROUND_ROBIN,
+        /**
+         * 按 TTL 缓存，每个虚拟用户固定分到一个地址，虚拟用户之间依次错开；
+         * HTTP/2 多路复用的通道由多个虚拟用户共用，改为按通道依次错开
+         */
+        PER_VIRTUAL_USER,
+        /**
+         * 不做缓存，每次新建连接都直接向 DNS 服务器重新查询
+         */
+        EVERY_CONNECTION
+    }
+
+    public HttpDnsSettings {
+        mode = mode == null ? Mode.SYSTEM : mode;
+        cacheTtlSeconds = cacheTtlSeconds > 0 ? cacheTtlSeconds : defaultCacheTtlSeconds();
+        hostOverrides = normalizeOverrides(hostOverrides);
+    }
+
+    public static HttpDnsSettings system() {
+        return SYSTEM;
+    }
+
+    /**
+     * 从设置项构建，未知的模式名按 {@link Mode#SYSTEM} 处理。
+     *
+     * @param hostOverridesText 每行（或以分号分隔）一条 {@code IP 主机名 [主机名...]}，{@code #} 之后为注释
+     */
+    public static HttpDnsSettings of(String mode, long cacheTtlSeconds, String hostOverridesText) {
+        return new HttpDnsSettings(parseMode(mode), cacheTtlSeconds, parseHostOverrides(hostOverridesText));
+    }
+
+    /**
+     * 系统解析且没有静态映射时不需要安装自定义解析器
+     */
+    public boolean usesSystemResolver() {
+        return mode == Mode.SYSTEM && hostOverrides.isEmpty();
+    }
+
+    public static Mode parseMode(String value) {
+        if (value == null || value.isBlank()) {
+            return Mode.SYSTEM;
+        }
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Mode.SYSTEM;
+        }
+    }
+
+    /**
+     * 解析 hosts 风格的静态映射；第一列不是 IP 字面量的行直接忽略，避免映射本身再触发一次 DNS 查询。
+     * 同一主机出现在多行时地址按出现顺序合并。
+     */
+    public static Map<String, List<String>> parseHostOverrides(String text) {
+        if (text == null || text.isBlank()) {
+            return Map.of();
+        }
+        Map<String, List<String>> overrides = new LinkedHashMap<>();
+        for (String rawLine : text.split("[;\\r\\n]+")) {
+            int comment = rawLine.indexOf('#');
+            String line = (comment >= 0 ? rawLine.substring(0, comment) : rawLine).trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+            if (tokens.length < 2 || !isIpLiteral(tokens[0])) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                List<String> addresses = overrides.computeIfAbsent(
+                        tokens[i].toLowerCase(Locale.ROOT), ignored -> new ArrayList<>());
+                if (!addresses.contains(tokens[0])) {
+                    addresses.add(tokens[0]);
+                }
+            }
+        }
+        return overrides;
+    }
+
+    static boolean isIpLiteral(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        if (value.indexOf(':') >= 0) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (Character.digit(c, 16) < 0 && c != ':' && c != '.') {
+                    return false;
+                }
+            }
+            return true;
+        }
+        String[] parts = value.split("\\.", -1);
+        if (parts.length != 4) {
+            return false;
+        }
+        for (String part : parts) {
+            if (part.isEmpty() || part.length() > 3 || !part.chars().allMatch(Character::isDigit)
+                    || Integer.parseInt(part) > 255) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 默认沿用 JVM 的 networkaddress.cache.ttl，未配置或配置为永久/不缓存时取 30 秒
+     */
+    static long defaultCacheTtlSeconds() {
+        String configured = Security.getProperty("networkaddress.cache.ttl");
+        if (configured != null) {
+            try {
+                long ttl = Long.parseLong(configured.trim());
+                if (ttl > 0) {
+                    return ttl;
+                }
+            } catch (NumberFormatException ignored) {
+                // 非法配置按默认值处理
+            }
+        }
+        return DEFAULT_CACHE_TTL_SECONDS;
+    }
+
+    private static Map<String, List<String>> normalizeOverrides(Map<String, List<String>> overrides) {
+        if (overrides == null || overrides.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<String>> normalized = new LinkedHashMap<>();
+        overrides.forEach((host, addresses) -> {
+            if (host == null || host.isBlank() || addresses == null) {
+                return;
+            }
+            List<String> literals = addresses.stream().filter(HttpDnsSettings::isIpLiteral).toList();
+            if (!literals.isEmpty()) {
+                normalized.put(host.trim().toLowerCase(Locale.ROOT), literals);
+            }
+        });
+        return Map.copyOf(normalized);
+    }
+}
@@ -56,6 +56,8 @@ public class OkHttpClientManager {
             shutdownClient(client);
         }
         clientMap.clear();
+        SSLConfigurationUtil.clearTlsContextCache();
+        HttpDnsResolver.clearShared();
         SocksProxyAuthenticatorSupport.clearAllowedEndpoints();
     }
 
@@ -86,13 +88,25 @@ public class OkHttpClientManager {
         ));
     }
 
-    public static OkHttpClient createClientForSslMode(String baseUri,
-                                                      boolean followRedirects,
-                                                      SSLConfigurationUtil.SSLVerificationMode sslMode,
-                                                      HttpRequestProxyPolicy proxyPolicy) {
+    /**
+     * 获取请求级 SSL 校验模式和全局设置不一致时使用的隔离客户端：独立连接池，和同一 baseUri 的默认客户端共用 Dispatcher。
+     * 按 baseUri + SSL 模式缓存，避免每个请求都新建连接池和重新握手。
+     */
+    public static OkHttpClient getClientForSslMode(String baseUri,
+                                                   boolean followRedirects,
+                                                   SSLConfigurationUtil.SSLVerificationMode sslMode,
+                                                   HttpRequestProxyPolicy proxyPolicy) {
         HttpRequestProxyPolicy resolvedProxyPolicy = HttpRequestProxyPolicy.normalize(proxyPolicy);
         Dispatcher sharedDispatcher = getClient(baseUri, followRedirects, resolvedProxyPolicy).dispatcher();
-        return createClient(baseUri, followRedirects, sslMode, sharedDispatcher, resolvedProxyPolicy);
+        String key = baseUri + "|" + followRedirects + "|" + getProxyConfigKey(baseUri, resolvedProxyPolicy)
+                + "|ssl=" + sslMode;
+        return clientMap.computeIfAbsent(key, k -> createClient(
+                baseUri,
+                followRedirects,
+                sslMode,
+                sharedDispatcher,
+                resolvedProxyPolicy
+        ));
     }
 
     /**
@@ -229,6 +243,7 @@ public class OkHttpClientManager {
                 KEEP_ALIVE_DURATION,
                 true,
                 GLOBAL_COOKIE_JAR,
+                Dns.SYSTEM,
                 proxyPolicy
         );
     }
@@ -252,6 +267,7 @@ public class OkHttpClientManager {
                 resolvedConfig.keepAliveDurationSeconds(),
                 false,
                 cookieJar,
+                HttpDnsResolver.forSettings(resolvedConfig.dns()),
                 proxyPolicy
         );
     }
@@ -270,6 +286,7 @@ public class OkHttpClientManager {
                 KEEP_ALIVE_DURATION,
                 true,
                 GLOBAL_COOKIE_JAR,
+                Dns.SYSTEM,
                 proxyPolicy
         );
     }
@@ -282,6 +299,7 @@ public class OkHttpClientManager {
                                              long poolKeepAliveDurationSeconds,
                                              boolean sslConsoleLoggingEnabled,
                                              CookieJar cookieJar,
+                                             Dns dns,
                                              HttpRequestProxyPolicy proxyPolicy) {
         OkHttpClient.Builder builder = new OkHttpClient.Builder()
                 .connectTimeout(0, TimeUnit.MILLISECONDS)
@@ -296,6 +314,7 @@ public class OkHttpClientManager {
                 .retryOnConnectionFailure(true)
                 .followRedirects(followRedirects)
                 .cache(null)
+                .dns(dns)
                 .pingInterval(30, TimeUnit.SECONDS);
 
         builder.cookieJar(cookieJar == null ? GLOBAL_COOKIE_JAR : cookieJar);
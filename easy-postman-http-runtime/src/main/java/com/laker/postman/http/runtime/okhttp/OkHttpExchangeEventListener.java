@@ -16,6 +16,8 @@ import com.laker.postman.request.model.HttpHeader;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -41,6 +43,8 @@ public class OkHttpExchangeEventListener extends EventListener {
     private final boolean collectMetricsInfo; // 是否收集轻量统计指标（时间戳、发送/接收字节）
     private final boolean collectEventInfo; // 是否收集完整事件信息（DNS、连接等）
     private final boolean enableNetworkLog; // 是否启用网络日志面板输出
+    private OkHttpExchangeJfrEvent jfrEvent; // 仅在 JFR 录制开启时非空，与上面的采集开关无关
+    private long secureConnectStartMs; // 本次调用最近一次 TLS 握手开始的墙钟时间，用于区分完整/恢复握手
 
     public OkHttpExchangeEventListener(PreparedRequest preparedRequest) {
         this.callStartNanos = System.nanoTime();
@@ -75,6 +79,7 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void callStart(Call call) {
+        jfrEvent = OkHttpExchangeJfrEvent.startIfEnabled(call);
         if (!collectMetricsInfo) {
             return;
         }
@@ -123,6 +128,9 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void dnsStart(Call call, String domainName) {
+        if (jfrEvent != null) {
+            jfrEvent.dnsStart();
+        }
         if (!collectEventInfo) {
             return;
         }
@@ -132,16 +140,23 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        if (jfrEvent != null) {
+            jfrEvent.dnsEnd();
+        }
         if (!collectEventInfo) {
             return;
         }
         info.setDnsEnd(System.currentTimeMillis());
+        info.setDnsAddresses(formatDnsAddresses(inetAddressList));
         log(NetworkLogEventStage.DNS_END, domainName + " -> " + inetAddressList,
                 duration(info.getDnsStart(), info.getDnsEnd()));
     }
 
     @Override
     public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        if (jfrEvent != null) {
+            jfrEvent.connectStart();
+        }
         if (!collectEventInfo) {
             return;
         }
@@ -152,15 +167,25 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void secureConnectStart(Call call) {
+        if (jfrEvent != null) {
+            jfrEvent.tlsStart();
+        }
+        if (jfrEvent == null && !collectEventInfo) {
+            return;
+        }
+        secureConnectStartMs = System.currentTimeMillis();
         if (!collectEventInfo) {
             return;
         }
-        info.setSecureConnectStart(System.currentTimeMillis());
+        info.setSecureConnectStart(secureConnectStartMs);
         log(NetworkLogEventStage.SECURE_CONNECT_START, "TLS handshake start");
     }
 
     @Override
     public void secureConnectEnd(Call call, Handshake handshake) {
+        if (jfrEvent != null) {
+            jfrEvent.tlsEnd();
+        }
         if (!collectEventInfo) {
             return;
         }
@@ -302,6 +327,9 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        if (jfrEvent != null) {
+            jfrEvent.connectEnd();
+        }
         if (!collectEventInfo) {
             return;
         }
@@ -313,6 +341,9 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        if (jfrEvent != null) {
+            jfrEvent.connectEnd();
+        }
         if (!collectEventInfo) {
             return;
         }
@@ -324,10 +355,18 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void connectionAcquired(Call call, Connection connection) {
+        // 只有本次调用新建并握手的连接才判断完整/恢复握手，复用的连接保持 null
+        Boolean tlsSessionResumed = secureConnectStartMs > 0
+                ? isTlsSessionResumed(connection.socket(), secureConnectStartMs)
+                : null;
+        if (jfrEvent != null && tlsSessionResumed != null) {
+            jfrEvent.tlsResumed = tlsSessionResumed;
+        }
         if (!collectEventInfo) {
             return;
         }
         info.setConnectionAcquired(System.currentTimeMillis());
+        info.setTlsSessionResumed(tlsSessionResumed);
         try {
             Socket socket = connection.socket();
             String local = socket.getLocalAddress().getHostAddress() + ":" + socket.getLocalPort();
@@ -343,7 +382,36 @@ public class OkHttpExchangeEventListener extends EventListener {
         }
         boolean reused = info.getConnectStart() <= 0;
         String label = reused ? "Connection reused" : "Connection acquired";
-        log(NetworkLogEventStage.CONNECTION_ACQUIRED, label + ": " + connection.toString() + ", local=" + info.getLocalAddress() + ", remote=" + info.getRemoteAddress());
+        String tlsHandshake = tlsSessionResumed == null ? "" : ", tls=" + (tlsSessionResumed ? "resumed" : "full");
+        log(NetworkLogEventStage.CONNECTION_ACQUIRED, label + ": " + connection.toString() + ", local=" + info.getLocalAddress() + ", remote=" + info.getRemoteAddress() + tlsHandshake);
+    }
+
+    /**
+     * JDK 恢复会话时直接沿用客户端缓存里的 SSLSession，会话创建时间早于本次握手开始即为恢复握手；
+     * 完整握手的会话在握手过程中新建。非 TLS 连接返回 null。
+     */
+    static Boolean isTlsSessionResumed(Socket socket, long handshakeStartMs) {
+        if (!(socket instanceof SSLSocket sslSocket)) {
+            return null;
+        }
+        try {
+            SSLSession session = sslSocket.getSession();
+            return session != null && session.isValid() && session.getCreationTime() < handshakeStartMs;
+        } catch (RuntimeException e) {
+            log.debug("Failed to inspect TLS session", e);
+            return null;
+        }
+    }
+
+    static String formatDnsAddresses(List<InetAddress> addresses) {
+        StringBuilder sb = new StringBuilder();
+        for (InetAddress address : addresses) {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(address.getHostAddress());
+        }
+        return sb.toString();
     }
 
     @Override
@@ -394,6 +462,9 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void requestBodyEnd(Call call, long byteCount) {
+        if (jfrEvent != null) {
+            jfrEvent.bytesSent(byteCount);
+        }
         if (!collectMetricsInfo) {
             return;
         }
@@ -418,6 +489,9 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void responseHeadersStart(Call call) {
+        if (jfrEvent != null) {
+            jfrEvent.firstByte();
+        }
         if (!collectMetricsInfo) {
             return;
         }
@@ -427,6 +501,9 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void responseHeadersEnd(Call call, Response response) {
+        if (jfrEvent != null) {
+            jfrEvent.statusCode(response.code());
+        }
         if (!collectMetricsInfo) {
             return;
         }
@@ -492,6 +569,9 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void responseBodyEnd(Call call, long byteCount) {
+        if (jfrEvent != null) {
+            jfrEvent.bytesReceived(byteCount);
+        }
         if (!collectMetricsInfo) {
             return;
         }
@@ -517,6 +597,10 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void callEnd(Call call) {
+        if (jfrEvent != null) {
+            jfrEvent.finish(false);
+            jfrEvent = null;
+        }
         if (!collectMetricsInfo) {
             return;
         }
@@ -526,6 +610,10 @@ public class OkHttpExchangeEventListener extends EventListener {
 
     @Override
     public void callFailed(Call call, IOException ioe) {
+        if (jfrEvent != null) {
+            jfrEvent.finish(true);
+            jfrEvent = null;
+        }
         if (!collectMetricsInfo) {
             return;
         }
@@ -0,0 +1,141 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import okhttp3.Call;
+import okhttp3.Request;
+
+/**
+ * 一次 OkHttp 调用从 callStart 到 callEnd/callFailed 的 JFR 事件。
+ * <p>
+ * 在同一线程上与压测 sampler 事件时间重叠，JMC 里可以直接对应到具体 sampler；
+ * 各阶段耗时由监听器按纳秒时钟自行计时，不依赖是否开启详细事件采集。
+ * </p>
+ */
+@Name("easypostman.http.Exchange")
+@Label("HTTP Exchange")
+@Category({"EasyPostman", "HTTP"})
+@Description("一次 HTTP 调用的连接、首字节和收发字节数")
+@StackTrace(false)
+final class OkHttpExchangeJfrEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Host")
+    String host;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Label("DNS Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dnsTime;
+
+    @Label("Connect Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long connectTime;
+
+    @Label("TLS Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long tlsTime;
+
+    @Label("TLS Resumed")
+    @Description("本次调用新建连接时恢复了已有 TLS 会话，没有做完整握手")
+    boolean tlsResumed;
+
+    @Label("Time To First Byte")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeToFirstByte;
+
+    @Label("Bytes Sent")
+    @DataAmount
+    long bytesSent;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    private transient long startNanos;
+    private transient long dnsStartNanos;
+    private transient long connectStartNanos;
+    private transient long tlsStartNanos;
+
+    /**
+     * @return 已开始计时的事件；未开启录制时返回 null，监听器后续回调直接跳过
+     */
+    static OkHttpExchangeJfrEvent startIfEnabled(Call call) {
+        OkHttpExchangeJfrEvent event = new OkHttpExchangeJfrEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        Request request = call.request();
+        event.method = request.method();
+        event.host = request.url().host();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    void dnsStart() {
+        dnsStartNanos = System.nanoTime();
+    }
+
+    void dnsEnd() {
+        dnsTime += elapsedSince(dnsStartNanos);
+    }
+
+    void connectStart() {
+        connectStartNanos = System.nanoTime();
+    }
+
+    void connectEnd() {
+        connectTime += elapsedSince(connectStartNanos);
+    }
+
+    void tlsStart() {
+        tlsStartNanos = System.nanoTime();
+    }
+
+    void tlsEnd() {
+        tlsTime += elapsedSince(tlsStartNanos);
+    }
+
+    void statusCode(int statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    void bytesSent(long byteCount) {
+        bytesSent += Math.max(0L, byteCount);
+    }
+
+    void bytesReceived(long byteCount) {
+        bytesReceived += Math.max(0L, byteCount);
+    }
+
+    void firstByte() {
+        if (timeToFirstByte == 0L) {
+            timeToFirstByte = Math.max(0L, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static long elapsedSince(long startNanos) {
+        return startNanos == 0L ? 0L : Math.max(0L, System.nanoTime() - startNanos);
+    }
+
+    void finish(boolean failed) {
+        this.failed = failed;
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 文本请求体的编码结果缓存。
+ * <p>
+ * 键是变量替换后的最终文本、Content-Type 和压缩方式：同一采样器反复发送相同内容时，不再重复去除注释、解析 MediaType、
+ * 按字符集编码和压缩；模板变量变化后文本不同，自然落到新的键上重新编码。urlencoded 表单以键值对拼成的键缓存，
+ * 与文本请求体分开存放。
+ * 超过条目数或字节预算时整体清空，过大的请求体不进缓存。
+ * </p>
+ */
+@UtilityClass
+class OkHttpRequestBodyCache {
+    private static final int MAX_CACHE_SIZE = 512;
+    private static final long MAX_CACHE_WEIGHT = 64L * 1024 * 1024;
+    private static final int MAX_CACHEABLE_CHARS = 4 * 1024 * 1024;
+    private static final ConcurrentMap<Key, EncodedRequestBody> CACHE = new ConcurrentHashMap<>();
+    // 并发清空时只是近似值，只用于控制缓存总量
+    private static final AtomicLong CACHE_WEIGHT = new AtomicLong();
+
+    private record Key(String content, String contentType, RequestBodyCompression compression, boolean form) {
+    }
+
+    EncodedRequestBody get(String content, String contentType, RequestBodyCompression compression,
+                           Supplier<EncodedRequestBody> encoder) {
+        return get(new Key(content, contentType, compression, false), encoder);
+    }
+
+    /**
+     * @param formKey 表单启用键值对拼成的键，不是最终发送的文本
+     */
+    EncodedRequestBody getForm(String formKey, String contentType, RequestBodyCompression compression,
+                               Supplier<EncodedRequestBody> encoder) {
+        return get(new Key(formKey, contentType, compression, true), encoder);
+    }
+
+    private EncodedRequestBody get(Key key, Supplier<EncodedRequestBody> encoder) {
+        if (key.content().length() > MAX_CACHEABLE_CHARS) {
+            return encoder.get();
+        }
+        EncodedRequestBody cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        EncodedRequestBody encoded = encoder.get();
+        long weight = encoded.weight();
+        if (CACHE.size() >= MAX_CACHE_SIZE || CACHE_WEIGHT.get() + weight > MAX_CACHE_WEIGHT) {
+            clear();
+        }
+        cached = CACHE.putIfAbsent(key, encoded);
+        if (cached != null) {
+            return cached;
+        }
+        CACHE_WEIGHT.addAndGet(weight);
+        return encoded;
+    }
+
+    void clear() {
+        CACHE.clear();
+        CACHE_WEIGHT.set(0);
+    }
+}
@@ -9,21 +9,35 @@ import com.laker.postman.util.FileMimeTypeUtil;
 import com.laker.postman.util.JsonUtil;
 import lombok.experimental.UtilityClass;
 import okhttp3.*;
+import okio.Buffer;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * OkHttp 请求构建工具类
+ * <p>
+ * 构建出的 Request 都以 tag 携带原始 {@link PreparedRequest}，按配置缓存复用的客户端里，拦截器和事件监听从 tag 读取请求级数据。
+ * </p>
+ * <p>
+ * 文本和 urlencoded 请求头里启用了 Content-Encoding: gzip/deflate 时，请求体按该方式压缩后发送，
+ * 声明了无法生成的编码（如 br）且有请求体要发送时抛出 IllegalArgumentException，不发送标错编码的请求体；
+ * 不论是否压缩，编码结果都经 {@link OkHttpRequestBodyCache} 复用，urlencoded 表单按启用的键值对缓存。
+ * </p>
  */
 @UtilityClass
 public class OkHttpRequestBuilder {
 
     private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
     private static final String DEFAULT_JSON_CONTENT_TYPE = "application/json; charset=utf-8";
     private static final String DEFAULT_FORM_CONTENT_TYPE = "application/x-www-form-urlencoded; charset=UTF-8";
+    // 与 OkHttp FormBody 自带的类型一致，不压缩时发送的请求体类型不变
+    private static final String FORM_BODY_CONTENT_TYPE = "application/x-www-form-urlencoded";
     private static final String DEFAULT_MIME_TYPE = FileMimeTypeUtil.DEFAULT_MIME_TYPE;
     private static final String APPLICATION_JSON = "application/json";
     private static final String METHOD_GET = "GET";
@@ -35,11 +49,13 @@ public class OkHttpRequestBuilder {
      */
     public static Request buildRequest(PreparedRequest req) {
         String methodUpper = req.method.toUpperCase();
-        String contentType = extractContentType(req.headersList);
-        RequestBody requestBody = buildRequestBody(req.body, methodUpper, contentType);
+        String contentType = extractHeaderValue(req.headersList, CONTENT_TYPE);
+        String contentEncoding = extractHeaderValue(req.headersList, CONTENT_ENCODING);
+        RequestBody requestBody = buildRequestBody(req.body, methodUpper, contentType, contentEncoding);
 
         Request.Builder builder = new Request.Builder()
                 .url(req.url)
+                .tag(PreparedRequest.class, req)
                 .method(methodUpper, requestBody);
 
         addHeadersFromList(builder, req.headersList);
@@ -52,11 +68,12 @@ public class OkHttpRequestBuilder {
      */
     public static Request buildBinaryRequest(PreparedRequest req) {
         String methodUpper = req.method.toUpperCase();
-        String contentType = extractContentType(req.headersList);
+        String contentType = extractHeaderValue(req.headersList, CONTENT_TYPE);
         RequestBody requestBody = buildBinaryRequestBody(req.body, methodUpper, contentType);
 
         Request.Builder builder = new Request.Builder()
                 .url(req.url)
+                .tag(PreparedRequest.class, req)
                 .method(methodUpper, requestBody);
 
         addHeadersFromList(builder, req.headersList);
@@ -74,6 +91,7 @@ public class OkHttpRequestBuilder {
 
         Request.Builder builder = new Request.Builder()
                 .url(req.url)
+                .tag(PreparedRequest.class, req)
                 .method(req.method, multipartBuilder.build());
 
         addHeadersFromList(builder, req.headersList);
@@ -85,13 +103,21 @@ public class OkHttpRequestBuilder {
      * 构建 application/x-www-form-urlencoded 请求
      */
     public static Request buildFormRequest(PreparedRequest req) {
-        FormBody.Builder formBuilder = new FormBody.Builder();
-
-        addFormUrlEncodedPartsFromList(formBuilder, req.urlencodedList);
+        // 没有启用的表单项时请求体为空，Content-Encoding 不影响发送的内容
+        RequestBodyCompression compression = formCacheKey(req.urlencodedList).isEmpty()
+                ? RequestBodyCompression.NONE
+                : RequestBodyCompression.fromContentEncoding(extractHeaderValue(req.headersList, CONTENT_ENCODING));
+        String contentType = FORM_BODY_CONTENT_TYPE;
+        if (compression != RequestBodyCompression.NONE) {
+            String headerContentType = extractHeaderValue(req.headersList, CONTENT_TYPE);
+            contentType = headerContentType != null ? headerContentType : DEFAULT_FORM_CONTENT_TYPE;
+        }
+        RequestBody formBody = createFormRequestBody(req.urlencodedList, contentType, compression);
 
         Request.Builder builder = new Request.Builder()
                 .url(req.url)
-                .method(req.method, formBuilder.build());
+                .tag(PreparedRequest.class, req)
+                .method(req.method, formBody);
 
         boolean hasContentType = addHeadersFromList(builder, req.headersList);
 
@@ -103,15 +129,15 @@ public class OkHttpRequestBuilder {
     }
 
     /**
-     * 从 headersList 中提取 Content-Type
+     * 从 headersList 中提取第一个启用且非空的请求头值
      */
-    private static String extractContentType(List<HttpHeader> headersList) {
+    private static String extractHeaderValue(List<HttpHeader> headersList, String name) {
         if (headersList == null) {
             return null;
         }
 
         for (HttpHeader header : headersList) {
-            if (header.isEnabled() && CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+            if (header.isEnabled() && name.equalsIgnoreCase(header.getKey())) {
                 String value = header.getValue();
                 if (value != null && !value.isEmpty()) {
                     return value;
@@ -124,13 +150,16 @@ public class OkHttpRequestBuilder {
     /**
      * 构建请求体
      */
-    private static RequestBody buildRequestBody(String body, String method, String contentType) {
+    private static RequestBody buildRequestBody(String body, String method, String contentType,
+                                                String contentEncoding) {
         if (METHOD_GET.equals(method) || METHOD_HEAD.equals(method)) {
             return null;
         }
 
         if (body != null && !body.isEmpty()) {
-            return createRequestBodyWithContent(body, contentType);
+            String actualContentType = contentType != null ? contentType : DEFAULT_JSON_CONTENT_TYPE;
+            return createRequestBodyWithContent(body, actualContentType,
+                    RequestBodyCompression.fromContentEncoding(contentEncoding));
         }
 
         return createEmptyRequestBody(contentType);
@@ -155,15 +184,66 @@ public class OkHttpRequestBuilder {
     }
 
     /**
-     * 创建包含内容的请求体
+     * 创建包含内容的请求体，相同内容、Content-Type 和压缩方式复用缓存的编码结果
      */
-    private static RequestBody createRequestBodyWithContent(String body, String contentType) {
-        String actualContentType = contentType != null ? contentType : DEFAULT_JSON_CONTENT_TYPE;
-        String processedBody = processBodyContent(body, actualContentType);
-        MediaType mediaType = MediaType.parse(actualContentType);
+    private static RequestBody createRequestBodyWithContent(String body, String contentType,
+                                                            RequestBodyCompression compression) {
+        return OkHttpRequestBodyCache.get(body, contentType, compression,
+                () -> encodeRequestBody(body, contentType, compression));
+    }
+
+    private static EncodedRequestBody encodeRequestBody(String body, String contentType,
+                                                        RequestBodyCompression compression) {
+        String processedBody = processBodyContent(body, contentType);
+        MediaType mediaType = MediaType.parse(contentType);
         Charset charset = mediaType != null ? mediaType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
 
-        return RequestBody.create(processedBody.getBytes(charset), mediaType);
+        byte[] content = compression.compress(processedBody.getBytes(charset));
+        return new EncodedRequestBody(mediaType, content, processedBody, compression);
+    }
+
+    /**
+     * urlencoded 表单按启用的键值对缓存编码结果，命中时不再构建 FormBody、逐项百分号编码
+     */
+    private static RequestBody createFormRequestBody(List<HttpFormUrlencoded> urlencodedList, String contentType,
+                                                     RequestBodyCompression compression) {
+        return OkHttpRequestBodyCache.getForm(formCacheKey(urlencodedList), contentType, compression, () -> {
+            FormBody.Builder formBuilder = new FormBody.Builder();
+            addFormUrlEncodedPartsFromList(formBuilder, urlencodedList);
+            return encodeRequestBody(readFormBody(formBuilder.build()), contentType, compression);
+        });
+    }
+
+    /**
+     * 与 {@link #addFormUrlEncodedPartsFromList} 取相同的键值对；每项带长度前缀，不同的键值组合不会拼出相同的键
+     */
+    private static String formCacheKey(List<HttpFormUrlencoded> urlencodedList) {
+        if (urlencodedList == null || urlencodedList.isEmpty()) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder();
+        for (HttpFormUrlencoded urlencoded : urlencodedList) {
+            if (!urlencoded.isEnabled() || urlencoded.getKey() == null || urlencoded.getKey().isEmpty()) {
+                continue;
+            }
+            String value = urlencoded.getValue() != null ? urlencoded.getValue() : "";
+            key.append(urlencoded.getKey().length()).append(':').append(urlencoded.getKey())
+                    .append(value.length()).append(':').append(value);
+        }
+        return key.toString();
+    }
+
+    /**
+     * FormBody 只包含 ASCII 的 urlencoded 文本，写入内存缓冲即可取回
+     */
+    private static String readFormBody(RequestBody formBody) {
+        Buffer buffer = new Buffer();
+        try {
+            formBody.writeTo(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.readUtf8();
     }
 
     /**
@@ -73,6 +73,10 @@ public class OkHttpRequestSnapshotCapture {
         if (body == null) {
             return new RequestBodySnapshot(null, false);
         }
+        if (body instanceof EncodedRequestBody encoded && encoded.isCompressed()) {
+            // 压缩后的字节不可读，预览压缩前的文本；重放时带着同样的 Content-Encoding 会再次压缩
+            body = encoded.uncompressed();
+        }
         MediaType contentType = body.contentType();
         String description = bodyDescription(contentType);
         if (description != null) {
@@ -307,16 +307,19 @@ public class OkHttpResponseHandler {
      * @param prefix              临时文件名前缀
      * @param suffix              临时文件名后缀（扩展名）
      * @param contentLengthHeader Content-Length 响应头的值（用于显示进度）
+     * @param maxBytes            允许写入的最大字节数（解压后），0 表示不限制
      * @return FileAndSize 对象，包含临时文件和实际写入的字节数
-     * @throws IOException 读写文件时可能抛出的异常
+     * @throws ResponseTooLargeException 写入超过 maxBytes 时抛出，临时文件已删除
+     * @throws IOException               读写文件时可能抛出的异常
      */
     private static FileAndSize saveInputStreamToTempFile(InputStream is,
                                                          String prefix,
                                                          String suffix,
                                                          int contentLengthHeader,
+                                                         long maxBytes,
                                                          DownloadProgressSinkFactory downloadProgressSinkFactory) throws IOException {
         File tempFile = File.createTempFile(prefix, suffix);
-        int totalBytes = 0;
+        long totalBytes = 0;
         byte[] buf = new byte[64 * 1024];
         int len;
         int contentLength = getContentLength(is, contentLengthHeader);
@@ -330,8 +333,11 @@ public class OkHttpResponseHandler {
                     deleteTempFile(tempFile);
                     throw new DownloadCancelledException();
                 }
-                bos.write(buf, 0, len);
                 totalBytes += len;
+                if (maxBytes > 0 && totalBytes > maxBytes) {
+                    throw new ResponseTooLargeException(totalBytes);
+                }
+                bos.write(buf, 0, len);
                 progressSink.updateProgress(len);
             }
         } catch (DownloadCancelledException e) {
@@ -470,6 +476,7 @@ public class OkHttpResponseHandler {
                         "easyPostman_download_",
                         ext,
                         contentLengthHeader,
+                        maxDownloadSize,
                         downloadProgressSinkFactory
                 );
                 response.filePath = fs.file.getAbsolutePath();
@@ -478,6 +485,13 @@ public class OkHttpResponseHandler {
                 // 标记是否为图片类型，供 UI 层预览使用
                 String ct = okResponse.header(CONTENT_TYPE_HEADER, "");
                 response.isImage = ct != null && ct.toLowerCase().startsWith("image/");
+            } catch (ResponseTooLargeException e) {
+                // 没有 Content-Length 或压缩传输时，只能在读取过程中发现超限
+                warnResponseTooLarge(responseSizeLimitWarningSink,
+                        new ResponseSizeLimitWarning(ResponseSizeLimitWarning.Kind.BINARY, e.bytesRead(), maxDownloadSize));
+                response.body = I18nUtil.getMessage(MessageKeys.BINARY_TOO_LARGE_BODY, maxDownloadSize / 1024 / 1024);
+                response.bodySize = 0;
+                response.filePath = null;
             } catch (IOException e) {
                 if (!isIncompleteResponseBodyError(e)) {
                     throw e;
@@ -529,9 +543,21 @@ public class OkHttpResponseHandler {
             return;
         }
         if (body != null) {
-            byte[] bytes;
+            Charset charset = resolveCharset(body);
+            String extension = ext != null ? ext : ".txt";
+            // 即使不保存为文件，也设置一个默认文件名，方便用户下载
+            response.fileName = FileExtensionUtil.generateSmartFileName(extension);
+            TextBody textBody;
             try {
-                bytes = body.bytes();
+                textBody = readTextBody(body.byteStream(), extension, contentLengthHeader, maxDownloadSize,
+                        downloadProgressSinkFactory);
+            } catch (ResponseTooLargeException e) {
+                warnResponseTooLarge(responseSizeLimitWarningSink,
+                        new ResponseSizeLimitWarning(ResponseSizeLimitWarning.Kind.TEXT, e.bytesRead(), maxDownloadSize));
+                response.body = I18nUtil.getMessage(MessageKeys.TEXT_TOO_LARGE_BODY, maxDownloadSize / 1024 / 1024);
+                response.bodySize = 0;
+                response.filePath = null;
+                return;
             } catch (IOException e) {
                 if (isIncompleteResponseBodyError(e)) {
                     log.error("Failed to read complete response body: {}", e.getMessage());
@@ -544,36 +570,16 @@ public class OkHttpResponseHandler {
                 log.error("Error reading response body: {}", e.getMessage(), e);
                 throw e;
             }
-            response.bodySize = bytes.length;
-            if (bytes.length > getMaxBodySize()) { // 如果解压后内容超过设置值，保存为临时文件
-                String extension = ext != null ? ext : ".txt";
-                FileAndSize fs = saveInputStreamToTempFile(
-                        new ByteArrayInputStream(bytes),
-                        "easyPostman_text_download_",
-                        extension,
-                        contentLengthHeader,
-                        downloadProgressSinkFactory
-                );
-                response.filePath = fs.file.getAbsolutePath();
-                // 智能生成文件名：根据扩展名生成更友好的名称
-                response.fileName = FileExtensionUtil.generateSmartFileName(extension);
+            response.bodySize = textBody.size();
+            if (textBody.file() != null) { // 解压后内容超过设置值，完整内容在临时文件中
+                response.filePath = textBody.file().getAbsolutePath();
+                response.bodySpilledToFile = true;
+                response.bodyCharset = charset.name();
                 int maxBodySizeKB = getMaxBodySize() / 1024;
                 response.body = I18nUtil.getMessage(MessageKeys.BODY_TOO_LARGE_SAVED, maxBodySizeKB);
             } else {
-                // 确定字符集
-                Charset charset = StandardCharsets.UTF_8; // 默认使用 UTF-8
-                MediaType mediaType = body.contentType();
-                if (mediaType != null) {
-                    Charset detectedCharset = mediaType.charset();
-                    if (detectedCharset != null) {
-                        charset = detectedCharset;
-                    }
-                }
-                response.body = new String(bytes, charset);
+                response.body = new String(textBody.bytes(), charset);
                 response.filePath = null;
-                // 即使不保存为文件，也设置一个默认文件名，方便用户下载
-                String extension = ext != null ? ext : ".txt";
-                response.fileName = FileExtensionUtil.generateSmartFileName(extension);
             }
         } else {
             response.body = "";
@@ -582,6 +588,45 @@ public class OkHttpResponseHandler {
         }
     }
 
+    /**
+     * 流式读取（解压后的）文本响应体。
+     * <p>
+     * 不超过最大响应体大小时留在内存；超过后把已读部分和剩余内容继续写入临时文件，内存里最多保留最大响应体大小
+     * 加一个读缓冲的字节。解压后超过最大下载大小时中止读取。
+     * </p>
+     */
+    private static TextBody readTextBody(InputStream is,
+                                         String suffix,
+                                         int contentLengthHeader,
+                                         int maxDownloadSize,
+                                         DownloadProgressSinkFactory downloadProgressSinkFactory) throws IOException {
+        int maxBodySize = Math.max(0, getMaxBodySize());
+        ByteArrayOutputStream memory = new ByteArrayOutputStream(Math.min(maxBodySize, 64 * 1024) + 1);
+        byte[] buf = new byte[64 * 1024];
+        try (is) {
+            int len;
+            while ((len = is.read(buf)) != -1) {
+                memory.write(buf, 0, len);
+                if (maxDownloadSize > 0 && memory.size() > maxDownloadSize) {
+                    throw new ResponseTooLargeException(memory.size());
+                }
+                if (memory.size() > maxBodySize) {
+                    InputStream remaining = new SequenceInputStream(new ByteArrayInputStream(memory.toByteArray()), is);
+                    FileAndSize fs = saveInputStreamToTempFile(
+                            remaining,
+                            "easyPostman_text_download_",
+                            suffix,
+                            contentLengthHeader,
+                            maxDownloadSize,
+                            downloadProgressSinkFactory
+                    );
+                    return new TextBody(null, fs.file, fs.size);
+                }
+            }
+        }
+        return new TextBody(memory.toByteArray(), null, memory.size());
+    }
+
     private static void warnResponseTooLarge(ResponseSizeLimitWarningSink sink, ResponseSizeLimitWarning warning) {
         ResponseSizeLimitWarningSink resolvedSink = sink == null ? ResponseSizeLimitWarningSink.noop() : sink;
         resolvedSink.warn(warning);
@@ -664,6 +709,28 @@ public class OkHttpResponseHandler {
         return null;
     }
 
+    /**
+     * 文本响应体：bytes 和 file 二选一
+     */
+    private record TextBody(byte[] bytes, File file, long size) {
+    }
+
+    /**
+     * 读取过程中发现解压后的响应体超过最大下载大小
+     */
+    private static final class ResponseTooLargeException extends IOException {
+        private final long bytesRead;
+
+        private ResponseTooLargeException(long bytesRead) {
+            super("Response body exceeds max download size after " + bytesRead + " bytes");
+            this.bytesRead = bytesRead;
+        }
+
+        private int bytesRead() {
+            return (int) Math.min(Integer.MAX_VALUE, bytesRead);
+        }
+    }
+
     /**
      * 文件和大小的简单封装类
      * 用于 saveInputStreamToTempFile 方法的返回值
@@ -676,7 +743,7 @@ public class OkHttpResponseHandler {
         /**
          * 实际写入的字节数
          */
-        final int size;
+        final long size;
 
         /**
          * 构造函数
@@ -684,7 +751,7 @@ public class OkHttpResponseHandler {
          * @param file 临时文件
          * @param size 实际写入的字节数
          */
-        FileAndSize(File file, int size) {
+        FileAndSize(File file, long size) {
             this.file = file;
             this.size = size;
         }
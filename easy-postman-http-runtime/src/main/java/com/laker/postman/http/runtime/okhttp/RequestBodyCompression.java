@@ -0,0 +1,55 @@
+package com.laker.postman.http.runtime.okhttp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 文本请求体的压缩方式，由用户填写的 Content-Encoding 请求头决定。
+ * <p>
+ * deflate 按 HTTP 语义输出 zlib 格式（RFC 1950）。br 只有解码器可用，其他编码也无法生成，
+ * 请求头声明了这些编码时拒绝发送，避免服务端按声明的编码解析明文请求体；
+ * 需要发送 brotli 请求体时使用 binary 请求体直接上传预先压缩好的文件。
+ * </p>
+ */
+enum RequestBodyCompression {
+    NONE,
+    GZIP,
+    DEFLATE;
+
+    /**
+     * @throws IllegalArgumentException Content-Encoding 不是 identity、gzip 或 deflate
+     */
+    static RequestBodyCompression fromContentEncoding(String contentEncoding) {
+        if (contentEncoding == null || contentEncoding.isBlank()) {
+            return NONE;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "identity" -> NONE;
+            case "gzip", "x-gzip" -> GZIP;
+            case "deflate" -> DEFLATE;
+            default -> throw new IllegalArgumentException("Unsupported request Content-Encoding: "
+                    + contentEncoding.trim()
+                    + ". Text and form bodies can only be compressed with gzip or deflate;"
+                    + " send a pre-compressed file as a binary body instead.");
+        };
+    }
+
+    byte[] compress(byte[] content) {
+        if (this == NONE) {
+            return content;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (OutputStream out = this == GZIP ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            out.write(content);
+        } catch (IOException e) {
+            // 内存流不会抛出 IO 异常
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 
 import javax.net.ssl.*;
+import java.io.File;
 import java.security.KeyStore;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
@@ -46,6 +47,15 @@ public class SSLConfigurationUtil {
     private static final ThreadLocal<SSLValidationResult> lastValidationResult = new ThreadLocal<>();
     private static volatile HttpLifecycleLogSink lifecycleLogSink = HttpLifecycleLogSink.noop();
     private static volatile ClientCertificateProvider clientCertificateProvider = ClientCertificateProvider.noop();
+    private static final HostnameVerifier TRUST_ALL_HOSTNAME_VERIFIER = (hostname, session) -> true;
+    private static final HostnameVerifier LENIENT_HOSTNAME_VERIFIER = new LenientHostnameVerifier();
+    // 平台默认 TrustManager 读一次 cacerts 后复用
+    private static volatile X509TrustManager platformTrustManager;
+    // 最近一次合并出的有效 TrustManager，信任材料指纹变化后重建
+    private static volatile EffectiveTrustManager effectiveTrustManager;
+
+    private record EffectiveTrustManager(String trustMaterialKey, X509TrustManager trustManager) {
+    }
 
     public static void setLifecycleLogSink(HttpLifecycleLogSink sink) {
         lifecycleLogSink = sink == null ? HttpLifecycleLogSink.noop() : sink;
@@ -53,6 +63,8 @@ public class SSLConfigurationUtil {
 
     public static void setClientCertificateProvider(ClientCertificateProvider provider) {
         clientCertificateProvider = provider == null ? ClientCertificateProvider.noop() : provider;
+        // 缓存键里的证书指纹由 provider 生成，换 provider 后旧上下文不再可信
+        TlsContextCache.clear();
     }
 
     /**
@@ -107,30 +119,13 @@ public class SSLConfigurationUtil {
                                     int port,
                                     HttpLifecycleLogSink logSink) {
         try {
-            // 查找并加载匹配的客户端证书
-            KeyManager[] keyManagers = loadClientCertificate(host, port, logSink);
-
-            // 配置 TrustManager
-            X509TrustManager trustManager = configureTrustManager(mode, keyManagers);
-
             applyHostnameVerifier(builder, mode);
 
-            // 严格模式且没有客户端证书：使用默认配置
-            if (trustManager == null) {
-                return;
-            }
-
-            // 初始化 SSL 上下文
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            // 当 keyManagers 为空数组时，传递 null 更合适
-            KeyManager[] kms = (keyManagers != null && keyManagers.length > 0) ? keyManagers : null;
-            sslContext.init(kms, new TrustManager[]{trustManager}, new java.security.SecureRandom());
-
-            // 使用自定义的 SSLSocketFactory 来捕获证书信息
-            CertificateCapturingSSLSocketFactory socketFactory =
-                    new CertificateCapturingSSLSocketFactory(sslContext);
-
-            builder.sslSocketFactory(socketFactory, trustManager);
+            TlsContextCache.Key key = new TlsContextCache.Key(
+                    mode, trustMaterialCacheKey(), clientCertificateCacheKey(host, port));
+            TlsContextCache.TlsContext tlsContext =
+                    TlsContextCache.get(key, ignored -> createTlsContext(mode, host, port, logSink));
+            builder.sslSocketFactory(tlsContext.socketFactory(), tlsContext.trustManager());
 
             if (mode != SSLVerificationMode.STRICT) {
                 log.warn("SSL verification mode set to: {}. Use with caution in production.", mode);
@@ -143,6 +138,46 @@ public class SSLConfigurationUtil {
         }
     }
 
+    /**
+     * 清空共享的 TLS 上下文和其中缓存的会话，证书或信任设置变化后的新客户端会重新加载并做完整握手。
+     */
+    public static void clearTlsContextCache() {
+        TlsContextCache.clear();
+        effectiveTrustManager = null;
+    }
+
+    /**
+     * 为一组信任模式、信任材料和客户端证书创建 SSLContext，只在缓存未命中时调用。
+     */
+    private static TlsContextCache.TlsContext createTlsContext(SSLVerificationMode mode,
+                                                               String host,
+                                                               int port,
+                                                               HttpLifecycleLogSink logSink) {
+        try {
+            // 查找并加载匹配的客户端证书
+            KeyManager[] keyManagers = loadClientCertificate(host, port, logSink);
+
+            // 配置 TrustManager，严格模式且没有客户端证书和自定义信任材料时为 null
+            X509TrustManager trustManager = configureTrustManager(mode, keyManagers);
+            X509TrustManager effectiveTrustManager = trustManager != null ? trustManager : getDefaultTrustManager();
+
+            // 当 keyManagers 为空数组时，传递 null 更合适
+            KeyManager[] kms = (keyManagers != null && keyManagers.length > 0) ? keyManagers : null;
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(kms, new TrustManager[]{effectiveTrustManager}, new java.security.SecureRandom());
+            TlsContextCache.configureSessionCache(sslContext);
+
+            // 严格模式默认配置沿用 SSLContext 自带的工厂，其余情况使用自定义的 SSLSocketFactory 来捕获证书信息
+            SSLSocketFactory socketFactory = trustManager == null
+                    ? sslContext.getSocketFactory()
+                    : new CertificateCapturingSSLSocketFactory(sslContext);
+            return new TlsContextCache.TlsContext(sslContext, socketFactory, effectiveTrustManager);
+        } catch (java.security.GeneralSecurityException e) {
+            throw new SSLException("Failed to initialize SSL context", e,
+                    SSLException.SSLErrorType.CONFIGURATION_ERROR);
+        }
+    }
+
     /**
      * 加载客户端证书
      */
@@ -228,6 +263,16 @@ public class SSLConfigurationUtil {
      * 获取系统默认的TrustManager
      */
     private static X509TrustManager getDefaultTrustManager() throws SSLConfigurationException {
+        X509TrustManager cached = platformTrustManager;
+        if (cached != null) {
+            return cached;
+        }
+        X509TrustManager loaded = loadDefaultTrustManager();
+        platformTrustManager = loaded;
+        return loaded;
+    }
+
+    private static X509TrustManager loadDefaultTrustManager() throws SSLConfigurationException {
         try {
             TrustManagerFactory factory = TrustManagerFactory.getInstance(
                     TrustManagerFactory.getDefaultAlgorithm());
@@ -256,14 +301,50 @@ public class SSLConfigurationUtil {
         return false;
     }
 
+    /**
+     * 自定义信任材料的启用状态和文件指纹，文件被替换或改动后得到新的键。
+     */
+    private static String trustMaterialCacheKey() {
+        if (!HttpRuntimeSettingsProvider.get().isCustomTrustMaterialEnabled()) {
+            return "customTrust:off";
+        }
+        StringBuilder key = new StringBuilder("customTrust:");
+        for (TrustedCertificateEntry entry : HttpRuntimeSettingsProvider.get().getCustomTrustMaterialEntries()) {
+            String path = entry.getPath();
+            File file = entry.hasUsablePath() ? new File(path.trim()) : null;
+            boolean exists = file != null && file.exists();
+            key.append(entry.isEnabled())
+                    .append(':')
+                    .append(path)
+                    .append(':')
+                    .append(exists ? file.lastModified() : -1L)
+                    .append(':')
+                    .append(exists ? file.length() : -1L)
+                    .append(':')
+                    .append(entry.getPassword() == null ? 0 : entry.getPassword().hashCode())
+                    .append(';');
+        }
+        return key.toString();
+    }
+
+    /**
+     * 系统信任库和自定义信任材料合并后的 TrustManager。严格/宽松模式和不同客户端证书共用同一份，
+     * 只有信任材料指纹（启用状态、文件路径、修改时间、大小、密码）变化后才重新读文件合并。
+     */
     private static X509TrustManager buildEffectiveTrustManager(boolean failOnCustomTrustLoad)
             throws SSLConfigurationException {
+        String trustMaterialKey = trustMaterialCacheKey();
+        EffectiveTrustManager cached = effectiveTrustManager;
+        if (cached != null && cached.trustMaterialKey().equals(trustMaterialKey)) {
+            return cached.trustManager();
+        }
         X509TrustManager defaultTrustManager = getDefaultTrustManager();
         X509TrustManager customTrustManager = loadCustomTrustManager(failOnCustomTrustLoad);
-        if (customTrustManager == null) {
-            return defaultTrustManager;
-        }
-        return createMergedTrustManager(defaultTrustManager, customTrustManager);
+        X509TrustManager trustManager = customTrustManager == null
+                ? defaultTrustManager
+                : createMergedTrustManager(defaultTrustManager, customTrustManager);
+        effectiveTrustManager = new EffectiveTrustManager(trustMaterialKey, trustManager);
+        return trustManager;
     }
 
     private static X509TrustManager loadCustomTrustManager(boolean failOnError)
@@ -339,16 +420,15 @@ public class SSLConfigurationUtil {
     }
 
     /**
-     * 创建HostnameVerifier
+     * 创建HostnameVerifier，各模式的校验器都无状态，复用同一个实例
      */
     private static HostnameVerifier createHostnameVerifier(SSLVerificationMode mode) {
         if (mode == SSLVerificationMode.TRUST_ALL) {
-            return (hostname, session) -> true;
+            return TRUST_ALL_HOSTNAME_VERIFIER;
         } else if (mode == SSLVerificationMode.LENIENT) {
-            return new LenientHostnameVerifier();
+            return LENIENT_HOSTNAME_VERIFIER;
         }
-        // Keep OkHttp's built-in strict verifier for TLS sessions created by OkHttp itself.
-        return new OkHttpClient().hostnameVerifier();
+        return StrictHostnameVerifierHolder.INSTANCE;
     }
 
     private static void applyHostnameVerifier(OkHttpClient.Builder builder, SSLVerificationMode mode) {
@@ -358,6 +438,13 @@ public class SSLConfigurationUtil {
         builder.hostnameVerifier(createHostnameVerifier(mode));
     }
 
+    /**
+     * 严格模式沿用 OkHttp 内置的主机名校验器，首次用到时才创建一次 OkHttpClient 去取
+     */
+    private static final class StrictHostnameVerifierHolder {
+        private static final HostnameVerifier INSTANCE = new OkHttpClient().hostnameVerifier();
+    }
+
     /**
      * 宽松的TrustManager：先验证，记录错误，但允许连接继续
      */
@@ -0,0 +1,69 @@
+package com.laker.postman.http.runtime.ssl;
+
+import lombok.experimental.UtilityClass;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.X509TrustManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 进程级 TLS 上下文缓存：信任模式、信任材料和客户端证书都相同的客户端共用同一个 SSLContext。
+ * <p>
+ * 会话缓存挂在 SSLContext 上，共用之后不同 baseUri、不同重定向/代理组合的客户端连同一个 host:port 时
+ * 可以恢复已有会话（TLS 1.2 会话 ID，TLS 1.3 由 JDK 默认开启的会话票据做 PSK 恢复），不必每条新连接都做完整握手；
+ * 证书加载、TrustManager 合并和 SecureRandom 初始化也只在第一次遇到这组配置时做一次。
+ * </p>
+ */
+@UtilityClass
+class TlsContextCache {
+    /**
+     * 每个 SSLContext 的客户端会话缓存上限（按 host:port 记会话），压测目标通常只有少量主机，留足余量即可。
+     */
+    static final int SESSION_CACHE_SIZE = 2_048;
+    /**
+     * 会话在客户端缓存里的有效期，超过后下一条连接重新做完整握手。
+     */
+    static final int SESSION_TIMEOUT_SECONDS = 3_600;
+
+    private static final Map<Key, TlsContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    /**
+     * @param trustMaterialKey     自定义信任材料的启用状态和文件指纹
+     * @param clientCertificateKey 匹配到的客户端证书指纹，来自 {@link ClientCertificateProvider#cacheKey}
+     */
+    record Key(SSLConfigurationUtil.SSLVerificationMode mode, String trustMaterialKey, String clientCertificateKey) {
+    }
+
+    /**
+     * @param socketFactory 严格模式默认配置下是 SSLContext 自带的工厂，其余情况是捕获证书的包装工厂
+     */
+    record TlsContext(SSLContext sslContext, SSLSocketFactory socketFactory, X509TrustManager trustManager) {
+    }
+
+    static TlsContext get(Key key, Function<Key, TlsContext> loader) {
+        return CONTEXTS.computeIfAbsent(key, loader);
+    }
+
+    static void configureSessionCache(SSLContext sslContext) {
+        SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+        if (sessionContext != null) {
+            sessionContext.setSessionCacheSize(SESSION_CACHE_SIZE);
+            sessionContext.setSessionTimeout(SESSION_TIMEOUT_SECONDS);
+        }
+    }
+
+    static int size() {
+        return CONTEXTS.size();
+    }
+
+    /**
+     * 丢掉所有上下文和其中缓存的会话，之后的新客户端重新加载证书并做完整握手。
+     */
+    static void clear() {
+        CONTEXTS.clear();
+    }
+}
@@ -1,9 +1,14 @@
 package com.laker.postman.http.runtime.transport;
 
+import com.laker.postman.http.runtime.model.HttpEventInfo;
+import com.laker.postman.http.runtime.model.PreparedRequest;
 import okhttp3.*;
+import okio.Buffer;
 import okio.BufferedSource;
+import okio.ForwardingSource;
 import okio.GzipSource;
 import okio.Okio;
+import okio.Source;
 import org.brotli.dec.BrotliInputStream;
 
 import java.io.IOException;
@@ -14,6 +19,10 @@ import static com.laker.postman.util.HttpHeaderConstants.*;
  * 网络拦截器：自动解压 gzip、deflate、br 三种压缩格式，流式解压，兼容 SSE/chunked/普通响应
  * 严格参考 OkHttp BridgeInterceptor 的 promisesBody 逻辑，只有在响应确实有 body 时才解压
  * 头部处理与 BridgeInterceptor 保持一致，移除 Content-Encoding/Content-Length，保留 Content-Type
+ * <p>
+ * 压缩前的字节数由事件监听器记为 bodyBytesReceived；解压后的字节数和解压耗时在解压流读完或关闭时写入请求的
+ * {@link HttpEventInfo}。解压耗时只统计解压流读取中不在等待压缩数据的部分，不含网络等待。
+ * </p>
  */
 public class CompressionDecompressNetworkInterceptor implements Interceptor {
     private boolean promisesBody(Response response) {
@@ -41,15 +50,9 @@ public class CompressionDecompressNetworkInterceptor implements Interceptor {
         // 只在 Content-Encoding 存在且 promisesBody 时处理，避免重复解压和流式响应卡死
         if (encoding != null && response.body() != null && promisesBody(response)) {
             encoding = encoding.toLowerCase();
-            BufferedSource decompressed;
-            if ("gzip".equals(encoding)) {
-                decompressed = Okio.buffer(new GzipSource(response.body().source()));
-            } else if ("deflate".equals(encoding)) {
-                decompressed = Okio.buffer(new AutoDetectDeflateSource(response.body().source()));
-            } else if ("br".equals(encoding)) {
-                BrotliInputStream brInputStream = new BrotliInputStream(response.body().byteStream());
-                decompressed = Okio.buffer(Okio.source(brInputStream));
-            } else {
+            HttpEventInfo eventInfo = HttpExchangeTraceSupport.resolveFromRequest(request.tag(PreparedRequest.class));
+            BufferedSource decompressed = decompress(encoding, response.body().source(), eventInfo);
+            if (decompressed == null) {
                 return response;
             }
             // 头部处理参考 BridgeInterceptor，流式解压，长度未知
@@ -69,4 +72,85 @@ public class CompressionDecompressNetworkInterceptor implements Interceptor {
         // 其他场景（无 body、流式响应、HEAD/204/304等），原样返回
         return response;
     }
+
+    /**
+     * @return 不支持的编码返回 null
+     */
+    static BufferedSource decompress(String encoding, BufferedSource source, HttpEventInfo eventInfo) throws IOException {
+        DecompressionMeter meter = eventInfo != null ? new DecompressionMeter(eventInfo) : null;
+        Source compressed = meter != null ? meter.compressed(source) : source;
+        Source decompressed;
+        if ("gzip".equals(encoding)) {
+            decompressed = new GzipSource(compressed);
+        } else if ("deflate".equals(encoding)) {
+            decompressed = new AutoDetectDeflateSource(Okio.buffer(compressed));
+        } else if ("br".equals(encoding)) {
+            decompressed = Okio.source(new BrotliInputStream(Okio.buffer(compressed).inputStream()));
+        } else {
+            return null;
+        }
+        return Okio.buffer(meter != null ? meter.decompressed(decompressed) : decompressed);
+    }
+
+    private static final class DecompressionMeter {
+        private final HttpEventInfo eventInfo;
+        private long compressedReadNanos;
+        private long decompressedReadNanos;
+        private long decodedBytes;
+        private boolean reported;
+
+        private DecompressionMeter(HttpEventInfo eventInfo) {
+            this.eventInfo = eventInfo;
+        }
+
+        private Source compressed(Source source) {
+            return new ForwardingSource(source) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long start = System.nanoTime();
+                    try {
+                        return super.read(sink, byteCount);
+                    } finally {
+                        compressedReadNanos += System.nanoTime() - start;
+                    }
+                }
+            };
+        }
+
+        private Source decompressed(Source source) {
+            return new ForwardingSource(source) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long start = System.nanoTime();
+                    long read;
+                    try {
+                        read = super.read(sink, byteCount);
+                    } finally {
+                        decompressedReadNanos += System.nanoTime() - start;
+                    }
+                    if (read > 0) {
+                        decodedBytes += read;
+                    } else if (read == -1) {
+                        report();
+                    }
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    report();
+                    super.close();
+                }
+            };
+        }
+
+        private void report() {
+            if (reported) {
+                return;
+            }
+            reported = true;
+            eventInfo.setDecodedBodyBytes(decodedBytes);
+            eventInfo.setDecompressionNanos(Math.max(0L, decompressedReadNanos - compressedReadNanos));
+        }
+    }
 }
@@ -5,6 +5,8 @@ import com.laker.postman.http.runtime.model.PreparedRequest;
 import okhttp3.WebSocketListener;
 import okhttp3.sse.EventSourceListener;
 
+import java.util.concurrent.CompletableFuture;
+
 public final class DefaultHttpTransport implements HttpTransport {
     private final HttpExchangeExecutor exchangeExecutor;
     private final RealtimeConnectionFactory realtimeConnectionFactory;
@@ -35,6 +37,11 @@ public final class DefaultHttpTransport implements HttpTransport {
         return exchangeExecutor.executeHttp(request, options);
     }
 
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(PreparedRequest request, HttpExchangeOptions options) {
+        return exchangeExecutor.executeHttpAsync(request, options);
+    }
+
     @Override
     public RealtimeConnectionHandle openSse(PreparedRequest request,
                                             EventSourceListener listener,
@@ -0,0 +1,146 @@
+package com.laker.postman.http.runtime.transport;
+
+import com.laker.postman.http.runtime.model.Http2MultiplexPolicy;
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.http.runtime.okhttp.HttpDnsResolver;
+import okhttp3.ConnectionPool;
+import okhttp3.CookieJar;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * HTTP/2 多路复用的连接通道。
+ * <p>
+ * 每个基础客户端（同一目标地址、同一连接池）按策略拆成固定数量的通道，每个通道有独立的连接池和调度器：
+ * 连接池里只会保留一条多路复用连接，调度器的单主机并发上限就是这条连接上的并发流上限，超出的请求在
+ * 客户端排队。新请求分给当前执行+排队数最少的通道。调度器的并发限制只对异步请求生效，
+ * 所以带策略的请求由 {@link HttpExchangeExecutor} 走 enqueue。
+ * </p>
+ * <p>
+ * https 通过 ALPN 协商 h2，对端不支持时退回 HTTP/1.1（此时每条连接同时只有一个请求）；
+ * http 明文使用 h2c prior knowledge，对端必须直接支持 HTTP/2。
+ * </p>
+ * <p>
+ * 通道由多个虚拟用户共用，按虚拟用户分配 DNS 地址时改为按通道序号分配。
+ * </p>
+ */
+public final class Http2ConnectionLanes {
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
+    private final Map<LaneGroupKey, Lane[]> laneGroups = new ConcurrentHashMap<>();
+    private final Http2StreamMetricsInterceptor streamMetricsInterceptor;
+
+    public Http2ConnectionLanes(Supplier<Http2StreamListener> listenerSupplier) {
+        this.streamMetricsInterceptor = new Http2StreamMetricsInterceptor(
+                listenerSupplier == null ? Http2StreamListener::noop : listenerSupplier);
+    }
+
+    /**
+     * @return 请求没有多路复用策略时原样返回基础客户端，否则返回负载最低的通道客户端（沿用基础客户端的 CookieJar）
+     */
+    public OkHttpClient select(OkHttpClient baseClient, PreparedRequest request) {
+        Http2MultiplexPolicy policy = request == null ? null : request.http2Multiplexing;
+        if (baseClient == null || policy == null) {
+            return baseClient;
+        }
+        boolean cleartext = request.url != null && request.url.regionMatches(true, 0, "http:", 0, 5);
+        Lane[] lanes = laneGroups.computeIfAbsent(
+                new LaneGroupKey(baseClient.connectionPool(), policy),
+                key -> createLanes(baseClient, policy, cleartext)
+        );
+        Lane selected = lanes[0];
+        int selectedLoad = selected.load();
+        for (int i = 1; i < lanes.length && selectedLoad > 0; i++) {
+            int load = lanes[i].load();
+            if (load < selectedLoad) {
+                selected = lanes[i];
+                selectedLoad = load;
+            }
+        }
+        return selected.clientFor(baseClient.cookieJar());
+    }
+
+    /**
+     * 全部通道调度器里等待空闲流的 Call 数
+     */
+    public int queuedCallCount() {
+        int queued = 0;
+        for (Lane[] lanes : laneGroups.values()) {
+            for (Lane lane : lanes) {
+                queued += lane.template.dispatcher().queuedCallsCount();
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * 取消排队和执行中的请求并关闭全部连接，压测结束或停止时调用。
+     */
+    public void clear() {
+        for (Lane[] lanes : laneGroups.values()) {
+            for (Lane lane : lanes) {
+                lane.shutdown();
+            }
+        }
+        laneGroups.clear();
+    }
+
+    private Lane[] createLanes(OkHttpClient baseClient, Http2MultiplexPolicy policy, boolean cleartext) {
+        List<Protocol> protocols = cleartext
+                ? List.of(Protocol.H2_PRIOR_KNOWLEDGE)
+                : List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        Lane[] lanes = new Lane[policy.connections()];
+        for (int i = 0; i < lanes.length; i++) {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(policy.maxStreamsPerConnection());
+            dispatcher.setMaxRequestsPerHost(policy.maxStreamsPerConnection());
+            lanes[i] = new Lane(baseClient.newBuilder()
+                    .dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(1, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                    .protocols(protocols)
+                    .dns(HttpDnsResolver.forLane(baseClient.dns(), i))
+                    .addNetworkInterceptor(streamMetricsInterceptor)
+                    .build());
+        }
+        return lanes;
+    }
+
+    private record LaneGroupKey(ConnectionPool basePool, Http2MultiplexPolicy policy) {
+    }
+
+    private static final class Lane {
+        private final OkHttpClient template;
+        // 虚拟用户各自的 CookieJar 共用通道的连接池和调度器
+        private final Map<CookieJar, OkHttpClient> clientsByCookieJar = new ConcurrentHashMap<>();
+
+        private Lane(OkHttpClient template) {
+            this.template = template;
+        }
+
+        private int load() {
+            Dispatcher dispatcher = template.dispatcher();
+            return dispatcher.runningCallsCount() + dispatcher.queuedCallsCount();
+        }
+
+        private OkHttpClient clientFor(CookieJar cookieJar) {
+            if (cookieJar == null || cookieJar == template.cookieJar()) {
+                return template;
+            }
+            return clientsByCookieJar.computeIfAbsent(cookieJar, jar -> template.newBuilder().cookieJar(jar).build());
+        }
+
+        private void shutdown() {
+            template.dispatcher().cancelAll();
+            template.dispatcher().executorService().shutdown();
+            template.connectionPool().evictAll();
+            clientsByCookieJar.clear();
+        }
+    }
+}
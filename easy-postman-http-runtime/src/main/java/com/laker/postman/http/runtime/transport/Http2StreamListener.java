@@ -0,0 +1,43 @@
+package com.laker.postman.http.runtime.transport;
+
+/**
+ * 多路复用连接上的流生命周期回调，在 OkHttp 调度线程上触发，实现必须线程安全且不能阻塞。
+ * <p>
+ * 连接标识形如 {@code h2 10.0.0.1:443 #1b2c3d}，同一物理连接在整个生命周期内保持不变。
+ * </p>
+ */
+public interface Http2StreamListener {
+    Http2StreamListener NOOP = new Http2StreamListener() {
+        @Override
+        public void onStreamStart(String connection) {
+        }
+
+        @Override
+        public void onStreamEnd(String connection, long receivedBytes) {
+        }
+
+        @Override
+        public void onStreamRefused(String connection, boolean goAway) {
+        }
+    };
+
+    void onStreamStart(String connection);
+
+    /**
+     * 响应体读完、关闭或请求失败时调用，每个流只调用一次。
+     *
+     * @param receivedBytes 应用层读到的响应体字节数（已解压）
+     */
+    void onStreamEnd(String connection, long receivedBytes);
+
+    /**
+     * 流被对端拒绝；OkHttp 会在另一条连接上自动重试，这里只计数。
+     *
+     * @param goAway true 表示连接收到 GOAWAY 正在关闭，false 表示 RST_STREAM(REFUSED_STREAM)
+     */
+    void onStreamRefused(String connection, boolean goAway);
+
+    static Http2StreamListener noop() {
+        return NOOP;
+    }
+}
@@ -0,0 +1,145 @@
+package com.laker.postman.http.runtime.transport;
+
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.internal.http2.ConnectionShutdownException;
+import okhttp3.internal.http2.ErrorCode;
+import okhttp3.internal.http2.StreamResetException;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 按连接统计流的网络拦截器。
+ * <p>
+ * 网络拦截器在拿到连接之后、写请求头之前执行，每次调用对应连接上的一个流；流在响应体读完或关闭时结束，
+ * 所以响应体被包装成计数的 {@link ResponseBody}。被拒绝的流由 OkHttp 自动重试，重试会再经过一次这里。
+ * </p>
+ */
+final class Http2StreamMetricsInterceptor implements Interceptor {
+    private final Supplier<Http2StreamListener> listenerSupplier;
+
+    Http2StreamMetricsInterceptor(Supplier<Http2StreamListener> listenerSupplier) {
+        this.listenerSupplier = listenerSupplier;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Connection connection = chain.connection();
+        Http2StreamListener listener = listenerSupplier.get();
+        if (connection == null || listener == null) {
+            return chain.proceed(chain.request());
+        }
+        String connectionId = connectionId(connection);
+        listener.onStreamStart(connectionId);
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException e) {
+            if (isGoAway(e) || isRefusedStream(e)) {
+                listener.onStreamRefused(connectionId, isGoAway(e));
+            }
+            listener.onStreamEnd(connectionId, 0);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            listener.onStreamEnd(connectionId, 0);
+            throw e;
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            listener.onStreamEnd(connectionId, 0);
+            return response;
+        }
+        return response.newBuilder()
+                .body(new StreamTrackingBody(body, listener, connectionId))
+                .build();
+    }
+
+    static String connectionId(Connection connection) {
+        InetSocketAddress address = connection.route().socketAddress();
+        return connection.protocol() + " " + address.getHostString() + ":" + address.getPort()
+                + " #" + Integer.toHexString(System.identityHashCode(connection));
+    }
+
+    static boolean isRefusedStream(IOException e) {
+        return e instanceof StreamResetException reset && reset.errorCode == ErrorCode.REFUSED_STREAM;
+    }
+
+    static boolean isGoAway(IOException e) {
+        return e instanceof ConnectionShutdownException;
+    }
+
+    private static final class StreamTrackingBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final Http2StreamListener listener;
+        private final String connectionId;
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private long receivedBytes;
+        private BufferedSource source;
+
+        private StreamTrackingBody(ResponseBody delegate, Http2StreamListener listener, String connectionId) {
+            this.delegate = delegate;
+            this.listener = listener;
+            this.connectionId = connectionId;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public synchronized BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                    @Override
+                    public long read(Buffer sink, long byteCount) throws IOException {
+                        long read;
+                        try {
+                            read = super.read(sink, byteCount);
+                        } catch (IOException e) {
+                            end();
+                            throw e;
+                        }
+                        if (read == -1) {
+                            end();
+                        } else {
+                            receivedBytes += read;
+                        }
+                        return read;
+                    }
+                });
+            }
+            return source;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                end();
+            }
+        }
+
+        private void end() {
+            if (ended.compareAndSet(false, true)) {
+                listener.onStreamEnd(connectionId, receivedBytes);
+            }
+        }
+    }
+}
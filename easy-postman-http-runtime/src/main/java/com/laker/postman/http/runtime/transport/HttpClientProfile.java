@@ -0,0 +1,39 @@
+package com.laker.postman.http.runtime.transport;
+
+import com.laker.postman.http.runtime.model.HttpCapturePolicy;
+import com.laker.postman.http.runtime.model.HttpCaptureProfiles;
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.request.model.HttpRequestItem;
+
+/**
+ * 派生客户端的缓存键：只包含会改变 OkHttpClient 构建结果的请求级配置。
+ * 请求体、头、凭据等逐请求变化的数据不进键，由拦截器和事件监听从请求 tag 读取。
+ *
+ * @param webSocketPingIntervalMs 非 WebSocket 请求为 -1，表示沿用基础客户端的设置
+ */
+record HttpClientProfile(int timeoutMs,
+                         String httpVersion,
+                         boolean cookieJarEnabled,
+                         boolean mergeExplicitCookieHeader,
+                         boolean captureSentRequest,
+                         boolean captureSentRequestBody,
+                         boolean eventListener,
+                         boolean digestAuth,
+                         int webSocketPingIntervalMs) {
+
+    static HttpClientProfile of(PreparedRequest request, boolean webSocket) {
+        HttpCapturePolicy capturePolicy = HttpCaptureProfiles.resolve(request);
+        boolean captureSentRequest = capturePolicy.captureSentRequest();
+        return new HttpClientProfile(
+                Math.max(0, request.requestTimeoutMs),
+                request.httpVersion != null ? request.httpVersion : HttpRequestItem.HTTP_VERSION_AUTO,
+                request.cookieJarEnabled,
+                CookieHeaderMergeNetworkInterceptor.hasEnabledExplicitCookieHeader(request),
+                captureSentRequest,
+                captureSentRequest && capturePolicy.captureSentRequestBody(),
+                capturePolicy.collectMetrics() || capturePolicy.collectEventDetails() || capturePolicy.emitNetworkLog(),
+                HttpClientResolver.isUsableDigestAuth(request.transportAuth),
+                webSocket ? Math.max(0, request.webSocketPingIntervalMs) : -1
+        );
+    }
+}
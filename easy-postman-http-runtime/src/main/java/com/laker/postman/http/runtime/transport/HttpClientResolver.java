@@ -2,8 +2,6 @@ package com.laker.postman.http.runtime.transport;
 
 import com.laker.postman.http.runtime.config.HttpRequestRuntimeSettingsResolver;
 import com.laker.postman.http.runtime.config.HttpRuntimeSettingsProvider;
-import com.laker.postman.http.runtime.model.HttpCapturePolicy;
-import com.laker.postman.http.runtime.model.HttpCaptureProfiles;
 import com.laker.postman.http.runtime.model.PreparedRequest;
 import com.laker.postman.http.runtime.okhttp.DigestAuthenticator;
 import com.laker.postman.http.runtime.okhttp.OkHttpClientManager;
@@ -11,31 +9,44 @@ import com.laker.postman.http.runtime.okhttp.OkHttpExchangeEventListener;
 import com.laker.postman.http.runtime.ssl.SSLConfigurationUtil;
 import com.laker.postman.request.model.HttpRequestItem;
 import com.laker.postman.request.model.TransportAuth;
+import okhttp3.Authenticator;
+import okhttp3.Call;
 import okhttp3.CookieJar;
+import okhttp3.EventListener;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.Route;
 
-import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static com.laker.postman.request.util.HttpUrlUtil.extractBaseUri;
 
 public final class HttpClientResolver {
     static final HttpClientResolver DEFAULT = new HttpClientResolver();
+    private static final Interceptor DECOMPRESS_INTERCEPTOR = new CompressionDecompressNetworkInterceptor();
+    private static final Authenticator DIGEST_AUTHENTICATOR = HttpClientResolver::authenticateDigest;
+
+    private final Map<OkHttpClient, Map<HttpClientProfile, OkHttpClient>> configuredClients = new WeakHashMap<>();
 
     public OkHttpClient resolveClient(PreparedRequest request, HttpBaseClientProvider baseClientProvider) {
         OkHttpClient baseClient = baseClientProvider == null
                 ? resolveDefaultBaseClient(request)
                 : baseClientProvider.getBaseClient(request);
-        return buildDynamicClient(baseClient, request, request.requestTimeoutMs);
+        return resolveConfiguredClient(baseClient, request);
     }
 
     OkHttpClient resolveDefaultBaseClient(PreparedRequest request) {
         String baseUri = extractBaseUri(request.url);
         boolean isolateSslConfiguration = shouldIsolateConnectionPool(request);
         return isolateSslConfiguration
-                ? OkHttpClientManager.createClientForSslMode(
+                ? OkHttpClientManager.getClientForSslMode(
                         baseUri,
                         request.followRedirects,
                         resolveSslVerificationMode(request),
@@ -49,15 +60,10 @@ public final class HttpClientResolver {
             return false;
         }
 
-        URI uri;
-        try {
-            uri = URI.create(preparedRequest.url);
-        } catch (Exception e) {
-            return false;
-        }
-
-        String scheme = uri.getScheme();
-        boolean secureScheme = "https".equalsIgnoreCase(scheme) || "wss".equalsIgnoreCase(scheme);
+        String url = preparedRequest.url;
+        // 每个请求都会走到这里，只比较 scheme 前缀，不做完整 URI 解析
+        boolean secureScheme = url != null
+                && (url.regionMatches(true, 0, "https:", 0, 6) || url.regionMatches(true, 0, "wss:", 0, 4));
         if (!secureScheme) {
             return false;
         }
@@ -84,31 +90,51 @@ public final class HttpClientResolver {
         return ("https".equalsIgnoreCase(scheme) || "wss".equalsIgnoreCase(scheme)) ? 443 : 80;
     }
 
-    private OkHttpClient buildDynamicClient(OkHttpClient baseClient,
-                                            PreparedRequest preparedRequest,
-                                            int timeoutMs) {
-        OkHttpClient.Builder builder = baseClient.newBuilder();
-        HttpCapturePolicy capturePolicy = HttpCaptureProfiles.resolve(preparedRequest);
-        boolean needEventListener = capturePolicy.collectMetrics()
-                || capturePolicy.collectEventDetails()
-                || capturePolicy.emitNetworkLog();
-        if (CookieHeaderMergeNetworkInterceptor.hasEnabledExplicitCookieHeader(preparedRequest)) {
-            builder.addNetworkInterceptor(new CookieHeaderMergeNetworkInterceptor(preparedRequest));
+    /**
+     * 同一个基础客户端上，请求级配置相同的请求复用同一个派生客户端，发送路径上不再 newBuilder/build。
+     * 弱引用以基础客户端为键：调用方每次提供新的基础客户端时，派生客户端随基础客户端一起回收。
+     */
+    private OkHttpClient resolveConfiguredClient(OkHttpClient baseClient, PreparedRequest preparedRequest) {
+        HttpClientProfile profile = HttpClientProfile.of(preparedRequest, isWebSocketRequest(preparedRequest));
+        Map<HttpClientProfile, OkHttpClient> clients;
+        synchronized (configuredClients) {
+            clients = configuredClients.computeIfAbsent(baseClient, ignored -> new ConcurrentHashMap<>());
+        }
+        return clients.computeIfAbsent(profile, ignored -> buildConfiguredClient(baseClient, profile));
+    }
+
+    private OkHttpClient buildConfiguredClient(OkHttpClient baseClient, HttpClientProfile profile) {
+        OkHttpClient.Builder builder = baseClient.newBuilder()
+                .addInterceptor(HttpDispatchTimingInterceptor.INSTANCE);
+        if (profile.mergeExplicitCookieHeader()) {
+            builder.addNetworkInterceptor(CookieHeaderMergeNetworkInterceptor.INSTANCE);
         }
-        if (capturePolicy.captureSentRequest()) {
-            builder.addNetworkInterceptor(
-                    new RequestSnapshotNetworkInterceptor(preparedRequest, capturePolicy.captureSentRequestBody())
-            );
+        if (profile.captureSentRequest()) {
+            builder.addNetworkInterceptor(profile.captureSentRequestBody()
+                    ? RequestSnapshotNetworkInterceptor.WITH_BODY
+                    : RequestSnapshotNetworkInterceptor.WITHOUT_BODY);
         }
-        builder.addNetworkInterceptor(new CompressionDecompressNetworkInterceptor());
-
-        applyRequestSettings(builder, preparedRequest);
-        applyWebSocketSettings(builder, preparedRequest);
+        builder.addNetworkInterceptor(DECOMPRESS_INTERCEPTOR);
 
-        if (needEventListener) {
-            builder.eventListenerFactory(call -> new OkHttpExchangeEventListener(preparedRequest));
+        if (!profile.cookieJarEnabled()) {
+            builder.cookieJar(CookieJar.NO_COOKIES);
+        }
+        if (profile.digestAuth()) {
+            builder.authenticator(DIGEST_AUTHENTICATOR);
+        }
+        if (HttpRequestItem.HTTP_VERSION_HTTP_1_1.equals(profile.httpVersion())) {
+            builder.protocols(List.of(Protocol.HTTP_1_1));
+        } else if (HttpRequestItem.HTTP_VERSION_HTTP_2.equals(profile.httpVersion())) {
+            builder.protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        }
+        if (profile.webSocketPingIntervalMs() >= 0) {
+            builder.pingInterval(profile.webSocketPingIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+        if (profile.eventListener()) {
+            builder.eventListenerFactory(HttpClientResolver::createEventListener);
         }
 
+        int timeoutMs = profile.timeoutMs();
         if (timeoutMs > 0) {
             builder.connectTimeout(timeoutMs, TimeUnit.MILLISECONDS)
                     .readTimeout(timeoutMs, TimeUnit.MILLISECONDS)
@@ -118,47 +144,30 @@ public final class HttpClientResolver {
         return builder.build();
     }
 
-    private void applyRequestSettings(OkHttpClient.Builder builder,
-                                      PreparedRequest preparedRequest) {
-        if (!preparedRequest.cookieJarEnabled) {
-            builder.cookieJar(CookieJar.NO_COOKIES);
-        }
-
-        applyDigestAuthenticator(builder, preparedRequest);
-
-        String httpVersion = preparedRequest.httpVersion != null
-                ? preparedRequest.httpVersion
-                : HttpRequestItem.HTTP_VERSION_AUTO;
-        if (HttpRequestItem.HTTP_VERSION_HTTP_1_1.equals(httpVersion)) {
-            builder.protocols(List.of(Protocol.HTTP_1_1));
-        } else if (HttpRequestItem.HTTP_VERSION_HTTP_2.equals(httpVersion)) {
-            builder.protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1));
-        }
+    private static EventListener createEventListener(Call call) {
+        PreparedRequest preparedRequest = call.request().tag(PreparedRequest.class);
+        return preparedRequest == null ? EventListener.NONE : new OkHttpExchangeEventListener(preparedRequest);
     }
 
-    private void applyWebSocketSettings(OkHttpClient.Builder builder,
-                                        PreparedRequest preparedRequest) {
-        if (!isWebSocketRequest(preparedRequest)) {
-            return;
+    /**
+     * Digest 凭据是请求级数据，从 tag 读取后每次质询单独创建认证器，只在收到 401 质询时才会走到。
+     */
+    private static Request authenticateDigest(Route route, Response response) {
+        PreparedRequest preparedRequest = response.request().tag(PreparedRequest.class);
+        TransportAuth auth = preparedRequest != null ? preparedRequest.transportAuth : null;
+        if (!isUsableDigestAuth(auth)) {
+            return null;
         }
-        int intervalMs = Math.max(0, preparedRequest.webSocketPingIntervalMs);
-        builder.pingInterval(intervalMs, TimeUnit.MILLISECONDS);
+        return new DigestAuthenticator(auth.username, auth.password == null ? "" : auth.password)
+                .authenticate(route, response);
     }
 
-    private void applyDigestAuthenticator(OkHttpClient.Builder builder,
-                                          PreparedRequest preparedRequest) {
-        TransportAuth auth = preparedRequest != null ? preparedRequest.transportAuth : null;
+    static boolean isUsableDigestAuth(TransportAuth auth) {
         if (auth == null || !auth.isDigest()) {
-            return;
-        }
-        if (isBlank(auth.username) || containsUnresolvedPlaceholder(auth.username)
-                || containsUnresolvedPlaceholder(auth.password)) {
-            return;
+            return false;
         }
-        builder.authenticator(new DigestAuthenticator(
-                auth.username,
-                auth.password == null ? "" : auth.password
-        ));
+        return !isBlank(auth.username) && !containsUnresolvedPlaceholder(auth.username)
+                && !containsUnresolvedPlaceholder(auth.password);
     }
 
     private SSLConfigurationUtil.SSLVerificationMode resolveGlobalSslVerificationMode() {
@@ -175,11 +184,11 @@ public final class HttpClientResolver {
                 : SSLConfigurationUtil.SSLVerificationMode.STRICT;
     }
 
-    private boolean isBlank(String value) {
+    private static boolean isBlank(String value) {
         return value == null || value.trim().isEmpty();
     }
 
-    private boolean containsUnresolvedPlaceholder(String value) {
+    private static boolean containsUnresolvedPlaceholder(String value) {
         return value != null && value.contains("{{") && value.contains("}}");
     }
 
@@ -187,7 +196,6 @@ public final class HttpClientResolver {
         if (request == null || request.url == null) {
             return false;
         }
-        String lower = request.url.toLowerCase(java.util.Locale.ROOT);
-        return lower.startsWith("ws://") || lower.startsWith("wss://");
+        return request.url.regionMatches(true, 0, "ws://", 0, 5) || request.url.regionMatches(true, 0, "wss://", 0, 6);
     }
 }
@@ -0,0 +1,32 @@
+package com.laker.postman.http.runtime.transport;
+
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.util.MonotonicStopwatch;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * 记录请求被 OkHttp 调度器放行的时刻。
+ * <p>
+ * 异步请求的 callStart 在入队时就已触发，在调度器里排队（例如多路复用通道的并发流已满）的时间没有对应事件；
+ * 应用拦截器是请求离开队列后最先执行的位置，{@link HttpExchangeExecutor} 据此把排队时间从响应耗时里分出来。
+ * 重试和重定向都在应用拦截器之后，每次调用只记录一次。
+ * </p>
+ */
+final class HttpDispatchTimingInterceptor implements Interceptor {
+    static final HttpDispatchTimingInterceptor INSTANCE = new HttpDispatchTimingInterceptor();
+
+    private HttpDispatchTimingInterceptor() {
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        PreparedRequest preparedRequest = chain.request().tag(PreparedRequest.class);
+        if (preparedRequest != null) {
+            preparedRequest.dispatchStopwatch = MonotonicStopwatch.start();
+        }
+        return chain.proceed(chain.request());
+    }
+}
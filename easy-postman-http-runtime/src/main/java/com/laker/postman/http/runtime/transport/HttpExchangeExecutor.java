@@ -4,16 +4,21 @@ import com.laker.postman.http.runtime.cookie.HttpCookieStore;
 import com.laker.postman.http.runtime.model.HttpCaptureProfiles;
 import com.laker.postman.http.runtime.model.HttpResponse;
 import com.laker.postman.http.runtime.model.PreparedRequest;
+import com.laker.postman.http.runtime.okhttp.OkHttpExchangeEventListener;
 import com.laker.postman.http.runtime.okhttp.OkHttpResponseHandler;
 import com.laker.postman.http.runtime.sse.SseResponseCallback;
 import com.laker.postman.util.MonotonicStopwatch;
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 public final class HttpExchangeExecutor {
     private final HttpClientResolver clientResolver;
@@ -43,7 +48,9 @@ public final class HttpExchangeExecutor {
         Call call = client.newCall(okRequest);
         callTracker.onCallStarted(call);
         try {
-            return callWithRequest(request, call, client, callback);
+            return request.http2Multiplexing == null
+                    ? callWithRequest(request, call, client, callback)
+                    : enqueueWithRequest(request, call, client, callback);
         } finally {
             callTracker.onCallFinished(call);
         }
@@ -82,4 +89,117 @@ public final class HttpExchangeExecutor {
         }
         return httpResponse;
     }
+
+    /**
+     * 异步发送：请求交给 OkHttp 调度器后立即返回，响应体在调度线程上按请求的读取策略读完后完成；
+     * 调用方线程不等待。取消返回的 future 会取消请求。
+     */
+    public CompletableFuture<HttpResponse> executeHttpAsync(PreparedRequest request, HttpExchangeOptions options) {
+        HttpExchangeOptions resolvedOptions = options == null ? HttpExchangeOptions.defaults() : options;
+        try {
+            Request okRequest = PreparedOkHttpRequestFactory.build(request);
+            OkHttpClient client = clientResolver.resolveClient(request, resolvedOptions.getBaseClientProvider());
+            Call call = client.newCall(okRequest);
+            HttpCallTracker callTracker = resolvedOptions.resolvedCallTracker();
+            callTracker.onCallStarted(call);
+            CompletableFuture<HttpResponse> result = enqueue(request, call, client, resolvedOptions.getCallback());
+            result.whenComplete((response, throwable) -> {
+                callTracker.onCallFinished(call);
+                if (result.isCancelled()) {
+                    call.cancel();
+                }
+            });
+            return result;
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            // callStart 在发起线程上绑定了事件信息，结果会从请求上取，这里只解除线程绑定
+            OkHttpExchangeEventListener.getAndRemove();
+        }
+    }
+
+    /**
+     * 多路复用请求走 OkHttp 异步调度，调度器按每连接并发流上限放行；响应体在调度线程上读完，
+     * 流占用的并发名额随回调结束释放。发起线程只等待结果，被中断时取消请求。
+     */
+    private HttpResponse enqueueWithRequest(PreparedRequest request,
+                                            Call call,
+                                            OkHttpClient client,
+                                            SseResponseCallback callback) throws Exception {
+        CompletableFuture<HttpResponse> result = enqueue(request, call, client, callback);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            call.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for multiplexed response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw new IOException(cause);
+        } finally {
+            // callStart 在发起线程上绑定了事件信息，结果已经从请求上取走，这里只解除线程绑定
+            OkHttpExchangeEventListener.getAndRemove();
+        }
+    }
+
+    /**
+     * 调度器按并发上限放行请求，排队时间记在 queueWaitMs，costMs 从放行（{@link HttpDispatchTimingInterceptor}）
+     * 开始计算，与同步发送的耗时口径一致；endTime 仍是实际结束时刻。
+     */
+    private CompletableFuture<HttpResponse> enqueue(PreparedRequest request,
+                                                    Call call,
+                                                    OkHttpClient client,
+                                                    SseResponseCallback callback) {
+        MonotonicStopwatch stopwatch = MonotonicStopwatch.start();
+        long queueStartMs = stopwatch.startWallTimeMs();
+        request.dispatchStopwatch = null;
+        HttpResponse httpResponse = new HttpResponse();
+        ConnectionPool pool = client.connectionPool();
+        httpResponse.idleConnectionCount = pool.idleConnectionCount();
+        httpResponse.connectionCount = pool.connectionCount();
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                HttpExchangeTraceSupport.attachToResponse(httpResponse, queueStartMs, request);
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call respondedCall, Response okResponse) {
+                try {
+                    HttpExchangeTraceSupport.attachToResponse(httpResponse, queueStartMs, request);
+                    OkHttpResponseHandler.handleResponse(
+                            okResponse,
+                            httpResponse,
+                            callback,
+                            request.responseBodyMode,
+                            request.responseBodyPreviewLimitBytes,
+                            request.downloadProgressSinkFactory,
+                            request.responseSizeLimitWarningSink
+                    );
+                    long nowNanos = System.nanoTime();
+                    long elapsedMs = stopwatch.elapsedMs(nowNanos);
+                    MonotonicStopwatch dispatchStopwatch = request.dispatchStopwatch;
+                    long costMs = dispatchStopwatch == null
+                            ? elapsedMs
+                            : Math.min(elapsedMs, dispatchStopwatch.elapsedMs(nowNanos));
+                    httpResponse.costMs = costMs;
+                    httpResponse.queueWaitMs = elapsedMs - costMs;
+                    httpResponse.endTime = queueStartMs + elapsedMs;
+                    HttpExchangeTraceSupport.applyDispatchQueueWait(httpResponse, httpResponse.queueWaitMs);
+                    if (HttpCaptureProfiles.resolve(request).notifyCookieChanges()) {
+                        HttpCookieStore.notifyCookieChanged();
+                    }
+                    result.complete(httpResponse);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            }
+        });
+        return result;
+    }
 }
@@ -81,6 +81,20 @@ public class HttpExchangeTraceSupport {
         }
     }
 
+    /**
+     * 异步请求的 callStart 在入队时触发，调度器里的排队时间原本落在 stalled 里，这里改记为 queueing。
+     */
+    static void applyDispatchQueueWait(HttpResponse httpResponse, long queueWaitMs) {
+        HttpEventInfo httpEventInfo = httpResponse == null ? null : httpResponse.httpEventInfo;
+        if (httpEventInfo == null || queueWaitMs <= 0) {
+            return;
+        }
+        httpEventInfo.setQueueingCost(queueWaitMs);
+        if (httpEventInfo.getStalledCost() > 0) {
+            httpEventInfo.setStalledCost(Math.max(0L, httpEventInfo.getStalledCost() - queueWaitMs));
+        }
+    }
+
     static long resolveResponseReceivedEndTime(HttpResponse httpResponse, long fallbackEndTime) {
         if (httpResponse == null || httpResponse.httpEventInfo == null) {
             return fallbackEndTime;
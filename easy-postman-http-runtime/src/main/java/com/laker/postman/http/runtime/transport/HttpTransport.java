@@ -5,6 +5,8 @@ import com.laker.postman.http.runtime.model.PreparedRequest;
 import okhttp3.WebSocketListener;
 import okhttp3.sse.EventSourceListener;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * UI-neutral transport port for one-off HTTP exchanges and realtime connections.
  * Hosts can provide different implementations for Swing, CLI, performance workers,
@@ -13,6 +15,17 @@ import okhttp3.sse.EventSourceListener;
 public interface HttpTransport {
     HttpResponse execute(PreparedRequest request, HttpExchangeOptions options) throws Exception;
 
+    /**
+     * 不占用调用线程的发送方式；默认实现在调用线程上同步执行，返回已完成的结果。
+     */
+    default CompletableFuture<HttpResponse> executeAsync(PreparedRequest request, HttpExchangeOptions options) {
+        try {
+            return CompletableFuture.completedFuture(execute(request, options));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     RealtimeConnectionHandle openSse(PreparedRequest request,
                                      EventSourceListener listener,
                                      RealtimeConnectionOptions options);
@@ -8,16 +8,21 @@ import okhttp3.Response;
 import java.io.IOException;
 
 final class RequestSnapshotNetworkInterceptor implements Interceptor {
-    private final PreparedRequest preparedRequest;
+    static final RequestSnapshotNetworkInterceptor WITH_BODY = new RequestSnapshotNetworkInterceptor(true);
+    static final RequestSnapshotNetworkInterceptor WITHOUT_BODY = new RequestSnapshotNetworkInterceptor(false);
+
     private final boolean captureBody;
 
-    RequestSnapshotNetworkInterceptor(PreparedRequest preparedRequest, boolean captureBody) {
-        this.preparedRequest = preparedRequest;
+    private RequestSnapshotNetworkInterceptor(boolean captureBody) {
         this.captureBody = captureBody;
     }
 
     @Override
     public Response intercept(Chain chain) throws IOException {
+        PreparedRequest preparedRequest = chain.request().tag(PreparedRequest.class);
+        if (preparedRequest == null) {
+            return chain.proceed(chain.request());
+        }
         // network interceptor 才能看到 OkHttp 实际使用的连接和补齐后的请求头。
         HttpExchangeTraceSupport.updateFromConnection(preparedRequest, chain.connection());
         OkHttpRequestSnapshotCapture.capture(preparedRequest, chain.request(), captureBody);
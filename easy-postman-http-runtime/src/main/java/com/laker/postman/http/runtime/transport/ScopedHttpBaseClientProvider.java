@@ -2,6 +2,7 @@ package com.laker.postman.http.runtime.transport;
 
 import com.laker.postman.http.runtime.model.PreparedRequest;
 import com.laker.postman.http.runtime.okhttp.HttpClientRuntimeConfig;
+import com.laker.postman.http.runtime.okhttp.HttpDnsResolver;
 import com.laker.postman.http.runtime.okhttp.OkHttpClientManager;
 import com.laker.postman.http.runtime.ssl.SSLConfigurationUtil;
 import com.laker.postman.request.model.HttpRequestProxyPolicy;
@@ -71,6 +72,25 @@ public final class ScopedHttpBaseClientProvider implements HttpBaseClientProvide
         return scopedClients.computeIfAbsent(new ScopedClientKey(key, cookieScope), this::createScopedCookieClient);
     }
 
+    /**
+     * 所有客户端调度器里排队、尚未开始执行的异步 Call 数，共用的调度器只计一次
+     */
+    public int queuedCallCount() {
+        Set<Dispatcher> dispatchers = Collections.newSetFromMap(new IdentityHashMap<>());
+        int queued = 0;
+        for (OkHttpClient client : baseClients.values()) {
+            if (dispatchers.add(client.dispatcher())) {
+                queued += client.dispatcher().queuedCallsCount();
+            }
+        }
+        for (OkHttpClient client : scopedClients.values()) {
+            if (dispatchers.add(client.dispatcher())) {
+                queued += client.dispatcher().queuedCallsCount();
+            }
+        }
+        return queued;
+    }
+
     public void clear() {
         shutdownClients();
         baseClients.clear();
@@ -104,6 +124,10 @@ public final class ScopedHttpBaseClientProvider implements HttpBaseClientProvide
         OkHttpClient baseClient = baseClients.computeIfAbsent(scopedKey.clientKey, this::createBaseClientWithoutCookies);
         return baseClient.newBuilder()
                 .cookieJar(scopedCookieJarStore.cookieJarForScope(scopedKey.cookieScope))
+                // 按虚拟用户分配 DNS 地址时在这里绑定身份，OkHttp 可能在调度线程上解析，解析时已无从判断
+                .dns(ScopedCookieJarStore.DEFAULT_SCOPE.equals(scopedKey.cookieScope)
+                        ? baseClient.dns()
+                        : HttpDnsResolver.forVirtualUser(baseClient.dns(), scopedKey.cookieScope))
                 .build();
     }
 
@@ -0,0 +1,71 @@
+package com.laker.postman.http.runtime.transport;
+
+import com.laker.postman.http.runtime.model.HttpEventInfo;
+import okio.Buffer;
+import okio.BufferedSource;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class CompressionDecompressNetworkInterceptorTest {
+
+    private static final String TEXT = "{\"rows\":[" + "{\"id\":1,\"name\":\"value\"},".repeat(2000) + "{}]}";
+
+    @Test
+    public void shouldReportDecodedBytesWhenGzipStreamIsExhausted() throws IOException {
+        HttpEventInfo info = new HttpEventInfo();
+        BufferedSource decoded = CompressionDecompressNetworkInterceptor.decompress(
+                "gzip", new Buffer().write(gzip(TEXT)), info);
+
+        assertEquals(info.getDecodedBodyBytes(), 0L, "Nothing is reported before the body is read");
+        assertEquals(decoded.readUtf8(), TEXT);
+        assertEquals(info.getDecodedBodyBytes(), TEXT.length());
+        assertTrue(info.getDecompressionNanos() >= 0);
+    }
+
+    @Test
+    public void shouldReportPartialCountsWhenClosedEarly() throws IOException {
+        HttpEventInfo info = new HttpEventInfo();
+        BufferedSource decoded = CompressionDecompressNetworkInterceptor.decompress(
+                "deflate", new Buffer().write(deflate(TEXT)), info);
+
+        decoded.require(100);
+        decoded.close();
+
+        assertTrue(info.getDecodedBodyBytes() >= 100);
+        assertTrue(info.getDecodedBodyBytes() <= TEXT.length());
+    }
+
+    @Test
+    public void shouldDecompressWithoutEventInfoAndIgnoreUnknownEncodings() throws IOException {
+        BufferedSource decoded = CompressionDecompressNetworkInterceptor.decompress(
+                "gzip", new Buffer().write(gzip(TEXT)), null);
+
+        assertEquals(decoded.readUtf8(), TEXT);
+        assertNull(CompressionDecompressNetworkInterceptor.decompress("zstd", new Buffer(), new HttpEventInfo()));
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
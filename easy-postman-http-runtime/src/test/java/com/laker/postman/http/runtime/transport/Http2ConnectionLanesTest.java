@@ -0,0 +1,104 @@
+package com.laker.postman.http.runtime.transport;
+
+import com.laker.postman.http.runtime.model.Http2MultiplexPolicy;
+import com.laker.postman.http.runtime.model.PreparedRequest;
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.internal.http2.ConnectionShutdownException;
+import okhttp3.internal.http2.ErrorCode;
+import okhttp3.internal.http2.StreamResetException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class Http2ConnectionLanesTest {
+
+    @Test
+    public void shouldReturnBaseClientWithoutMultiplexPolicy() {
+        Http2ConnectionLanes lanes = new Http2ConnectionLanes(Http2StreamListener::noop);
+        OkHttpClient baseClient = new OkHttpClient();
+
+        assertSame(lanes.select(baseClient, request("https://example.test/api", null)), baseClient);
+    }
+
+    @Test
+    public void shouldBoundStreamsPerLaneAndShareLanesAcrossCookieScopes() {
+        Http2ConnectionLanes lanes = new Http2ConnectionLanes(Http2StreamListener::noop);
+        OkHttpClient baseClient = new OkHttpClient();
+        PreparedRequest request = request("https://example.test/api", new Http2MultiplexPolicy(2, 16));
+        try {
+            OkHttpClient lane = lanes.select(baseClient, request);
+
+            assertNotSame(lane, baseClient);
+            assertNotSame(lane.connectionPool(), baseClient.connectionPool());
+            assertEquals(lane.dispatcher().getMaxRequestsPerHost(), 16);
+            assertEquals(lane.protocols(), List.of(Protocol.HTTP_2, Protocol.HTTP_1_1));
+            assertSame(lanes.select(baseClient, request), lane);
+
+            OkHttpClient scopedBase = baseClient.newBuilder().cookieJar(new TestCookieJar()).build();
+            OkHttpClient scopedLane = lanes.select(scopedBase, request);
+            assertNotSame(scopedLane, lane);
+            assertSame(scopedLane.dispatcher(), lane.dispatcher());
+            assertSame(scopedLane.connectionPool(), lane.connectionPool());
+            assertSame(scopedLane.cookieJar(), scopedBase.cookieJar());
+        } finally {
+            lanes.clear();
+        }
+    }
+
+    @Test
+    public void shouldUsePriorKnowledgeForCleartextTargets() {
+        Http2ConnectionLanes lanes = new Http2ConnectionLanes(Http2StreamListener::noop);
+        try {
+            OkHttpClient lane = lanes.select(
+                    new OkHttpClient(),
+                    request("http://example.test/api", new Http2MultiplexPolicy(1, 8))
+            );
+
+            assertEquals(lane.protocols(), List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        } finally {
+            lanes.clear();
+        }
+    }
+
+    @Test
+    public void shouldClassifyRefusedStreamsAndGoAway() {
+        IOException refused = new StreamResetException(ErrorCode.REFUSED_STREAM);
+        IOException cancelled = new StreamResetException(ErrorCode.CANCEL);
+        IOException goAway = new ConnectionShutdownException();
+
+        assertTrue(Http2StreamMetricsInterceptor.isRefusedStream(refused));
+        assertFalse(Http2StreamMetricsInterceptor.isRefusedStream(cancelled));
+        assertFalse(Http2StreamMetricsInterceptor.isGoAway(refused));
+        assertTrue(Http2StreamMetricsInterceptor.isGoAway(goAway));
+    }
+
+    private static PreparedRequest request(String url, Http2MultiplexPolicy policy) {
+        PreparedRequest request = new PreparedRequest();
+        request.url = url;
+        request.method = "GET";
+        request.http2Multiplexing = policy;
+        return request;
+    }
+
+    private static final class TestCookieJar implements CookieJar {
+        @Override
+        public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
+        }
+
+        @Override
+        public List<Cookie> loadForRequest(HttpUrl url) {
+            return List.of();
+        }
+    }
+}
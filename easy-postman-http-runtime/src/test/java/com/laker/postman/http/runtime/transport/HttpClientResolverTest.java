@@ -19,6 +19,8 @@ import java.util.concurrent.TimeUnit;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class HttpClientResolverTest {
@@ -64,6 +66,47 @@ public class HttpClientResolverTest {
         assertEquals(client.pingIntervalMillis(), 0);
     }
 
+    @Test
+    public void requestsWithSameClientSettingsShouldReuseResolvedClient() {
+        OkHttpClient baseClient = new OkHttpClient();
+        HttpClientResolver resolver = new HttpClientResolver();
+        PreparedRequest first = requestWithProxyPolicy(HttpRequestProxyPolicy.DEFAULT);
+        first.requestTimeoutMs = 1000;
+        PreparedRequest second = requestWithProxyPolicy(HttpRequestProxyPolicy.DEFAULT);
+        second.url = "https://api.example.com/other";
+        second.requestTimeoutMs = 1000;
+
+        OkHttpClient firstClient = resolver.resolveClient(first, ignored -> baseClient);
+        OkHttpClient secondClient = resolver.resolveClient(second, ignored -> baseClient);
+
+        assertSame(secondClient, firstClient);
+        assertSame(secondClient.connectionPool(), baseClient.connectionPool());
+    }
+
+    @Test
+    public void differentClientSettingsShouldResolveSeparateClients() {
+        OkHttpClient baseClient = new OkHttpClient();
+        HttpClientResolver resolver = new HttpClientResolver();
+        PreparedRequest first = requestWithProxyPolicy(HttpRequestProxyPolicy.DEFAULT);
+        first.requestTimeoutMs = 1000;
+        PreparedRequest second = requestWithProxyPolicy(HttpRequestProxyPolicy.DEFAULT);
+        second.requestTimeoutMs = 2000;
+
+        OkHttpClient firstClient = resolver.resolveClient(first, ignored -> baseClient);
+        OkHttpClient secondClient = resolver.resolveClient(second, ignored -> baseClient);
+
+        assertNotSame(secondClient, firstClient);
+        assertEquals(secondClient.callTimeoutMillis(), 2000);
+    }
+
+    @Test
+    public void builtRequestShouldCarryPreparedRequestTag() {
+        PreparedRequest request = requestWithProxyPolicy(HttpRequestProxyPolicy.DEFAULT);
+        request.method = "GET";
+
+        assertSame(PreparedOkHttpRequestFactory.build(request).tag(PreparedRequest.class), request);
+    }
+
     @Test
     public void requestNoProxyPolicyShouldForceDirectClientWhenGlobalProxyEnabled() {
         try {
@@ -0,0 +1,245 @@
+package com.laker.postman.performance.core.controller;
+
+import java.util.List;
+
+/**
+ * 预编译的条件表达式。
+ * <p>
+ * 由 {@link ConditionExpressionEvaluator#compile(String)} 在构建压测计划时生成一次，之后每次求值只做变量查找和比较：
+ * 不再分词、不再递归下降解析，字面量的数字形式也在编译期算好。
+ * 表达式里出现的变量名去重后编号为槽位，一次求值内同名变量只解析一次。
+ * 编译结果不可变，可在所有虚拟用户线程间共享。
+ * </p>
+ */
+public final class CompiledConditionExpression {
+    /**
+     * 空表达式或无法解析的表达式，求值恒为 false（与解释执行时“出错返回 false”保持一致）
+     */
+    public static final CompiledConditionExpression ALWAYS_FALSE =
+            new CompiledConditionExpression("", new Constant(false), List.of());
+
+    private final String source;
+    private final Node root;
+    private final String[] variableNames;
+
+    CompiledConditionExpression(String source, Node root, List<String> variableNames) {
+        this.source = source;
+        this.root = root;
+        this.variableNames = variableNames.toArray(String[]::new);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 表达式引用的变量名，下标即槽位编号
+     */
+    public List<String> getVariableNames() {
+        return List.of(variableNames);
+    }
+
+    public boolean evaluate(ConditionExpressionEvaluator.VariableLookup variableLookup) {
+        ConditionExpressionEvaluator.VariableLookup safeLookup =
+                variableLookup == null ? ConditionExpressionEvaluator.VariableLookup.EMPTY : variableLookup;
+        try {
+            return root.test(new Slots(variableNames, safeLookup));
+        } catch (RuntimeException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * 单次求值内的槽位缓存；没有变量的表达式不分配数组
+     */
+    static final class Slots {
+        private final String[] names;
+        private final ConditionExpressionEvaluator.VariableLookup lookup;
+        private String[] values;
+
+        private Slots(String[] names, ConditionExpressionEvaluator.VariableLookup lookup) {
+            this.names = names;
+            this.lookup = lookup;
+        }
+
+        String value(int slot) {
+            if (values == null) {
+                values = new String[names.length];
+            }
+            String value = values[slot];
+            if (value == null) {
+                String resolved = lookup.resolve(names[slot]);
+                value = resolved == null ? "" : resolved;
+                values[slot] = value;
+            }
+            return value;
+        }
+
+        boolean isDefined(String name) {
+            return lookup.isDefined(name);
+        }
+    }
+
+    interface Node {
+        boolean test(Slots slots);
+    }
+
+    /**
+     * 比较运算的操作数；text 与解释执行时的 ConditionValue 文本一致
+     */
+    interface Operand {
+        String text(Slots slots);
+
+        /**
+         * 无法转为数字时返回 NaN
+         */
+        double number(Slots slots);
+
+        boolean asBoolean(Slots slots);
+    }
+
+    record Constant(boolean value) implements Node {
+        @Override
+        public boolean test(Slots slots) {
+            return value;
+        }
+    }
+
+    record Or(Node left, Node right) implements Node {
+        @Override
+        public boolean test(Slots slots) {
+            return left.test(slots) || right.test(slots);
+        }
+    }
+
+    record And(Node left, Node right) implements Node {
+        @Override
+        public boolean test(Slots slots) {
+            return left.test(slots) && right.test(slots);
+        }
+    }
+
+    record Not(Node operand) implements Node {
+        @Override
+        public boolean test(Slots slots) {
+            return !operand.test(slots);
+        }
+    }
+
+    record Truthy(Operand operand) implements Node {
+        @Override
+        public boolean test(Slots slots) {
+            return operand.asBoolean(slots);
+        }
+    }
+
+    record Compare(Operand left, ComparisonOperator operator, Operand right) implements Node {
+        @Override
+        public boolean test(Slots slots) {
+            if (operator == ComparisonOperator.EQ || operator == ComparisonOperator.NE) {
+                boolean equals = left.text(slots).equals(right.text(slots));
+                return operator == ComparisonOperator.EQ ? equals : !equals;
+            }
+            double leftNumber = left.number(slots);
+            double rightNumber = right.number(slots);
+            if (Double.isNaN(leftNumber) || Double.isNaN(rightNumber)) {
+                return false;
+            }
+            return switch (operator) {
+                case GT -> leftNumber > rightNumber;
+                case LT -> leftNumber < rightNumber;
+                case GE -> leftNumber >= rightNumber;
+                case LE -> leftNumber <= rightNumber;
+                default -> false;
+            };
+        }
+    }
+
+    enum ComparisonOperator {
+        EQ, NE, GT, LT, GE, LE
+    }
+
+    /**
+     * 字符串、数字、普通标识符字面量，数字形式在编译期解析
+     */
+    record Literal(String text, double number, Boolean booleanValue) implements Operand {
+        static Literal text(String value) {
+            String text = value == null ? "" : value;
+            return new Literal(text, toNumber(text), null);
+        }
+
+        static Literal bool(boolean value) {
+            return new Literal(Boolean.toString(value), Double.NaN, value);
+        }
+
+        @Override
+        public String text(Slots slots) {
+            return text;
+        }
+
+        @Override
+        public double number(Slots slots) {
+            return number;
+        }
+
+        @Override
+        public boolean asBoolean(Slots slots) {
+            return booleanValue != null ? booleanValue : "true".equalsIgnoreCase(text.trim());
+        }
+    }
+
+    record VariableRef(int slot) implements Operand {
+        @Override
+        public String text(Slots slots) {
+            return slots.value(slot);
+        }
+
+        @Override
+        public double number(Slots slots) {
+            return toNumber(slots.value(slot));
+        }
+
+        @Override
+        public boolean asBoolean(Slots slots) {
+            return "true".equalsIgnoreCase(slots.value(slot).trim());
+        }
+    }
+
+    /**
+     * 带括号的子表达式或 defined(...)，作为操作数时按布尔文本参与比较
+     */
+    record BooleanOperand(Node node) implements Operand {
+        @Override
+        public String text(Slots slots) {
+            return Boolean.toString(node.test(slots));
+        }
+
+        @Override
+        public double number(Slots slots) {
+            return Double.NaN;
+        }
+
+        @Override
+        public boolean asBoolean(Slots slots) {
+            return node.test(slots);
+        }
+    }
+
+    record Defined(String variableName) implements Node {
+        @Override
+        public boolean test(Slots slots) {
+            return slots.isDefined(variableName);
+        }
+    }
+
+    static double toNumber(String value) {
+        if (value == null || value.isBlank()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException ignored) {
+            return Double.NaN;
+        }
+    }
+}
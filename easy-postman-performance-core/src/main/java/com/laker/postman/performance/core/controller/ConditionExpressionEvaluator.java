@@ -1,7 +1,9 @@
 package com.laker.postman.performance.core.controller;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public final class ConditionExpressionEvaluator {
 
@@ -26,15 +28,24 @@ public final class ConditionExpressionEvaluator {
         boolean isDefined(String variableName);
     }
 
+    /**
+     * 解释执行：每次调用都会重新分词和解析，适合一次性求值；循环中反复求值请先 {@link #compile(String)}
+     */
     public static boolean evaluate(String expression, VariableLookup variableLookup) {
+        return compile(expression).evaluate(variableLookup);
+    }
+
+    /**
+     * 把表达式编译成可重复求值的语法树；空表达式或语法错误返回 {@link CompiledConditionExpression#ALWAYS_FALSE}
+     */
+    public static CompiledConditionExpression compile(String expression) {
         if (expression == null || expression.isBlank()) {
-            return false;
+            return CompiledConditionExpression.ALWAYS_FALSE;
         }
         try {
-            VariableLookup safeLookup = variableLookup == null ? VariableLookup.EMPTY : variableLookup;
-            return new Parser(new Tokenizer(expression).tokens(), safeLookup).parse();
+            return new Parser(expression, new Tokenizer(expression).tokens()).parse();
         } catch (RuntimeException ignored) {
-            return false;
+            return CompiledConditionExpression.ALWAYS_FALSE;
         }
     }
 
@@ -62,104 +73,83 @@ public final class ConditionExpressionEvaluator {
     private record Token(TokenType type, String text) {
     }
 
-    private record ConditionValue(String text, Boolean booleanValue) {
-        static ConditionValue text(String value) {
-            return new ConditionValue(value == null ? "" : value, null);
-        }
-
-        static ConditionValue bool(boolean value) {
-            return new ConditionValue(Boolean.toString(value), value);
-        }
-
-        boolean asBoolean() {
-            if (booleanValue != null) {
-                return booleanValue;
-            }
-            return "true".equalsIgnoreCase(text.trim());
-        }
-    }
-
     private static final class Parser {
+        private final String source;
         private final List<Token> tokens;
-        private final VariableLookup variableLookup;
+        private final Map<String, Integer> variableSlots = new LinkedHashMap<>();
         private int index;
 
-        private Parser(List<Token> tokens, VariableLookup variableLookup) {
+        private Parser(String source, List<Token> tokens) {
+            this.source = source;
             this.tokens = tokens;
-            this.variableLookup = variableLookup;
         }
 
-        private boolean parse() {
-            boolean result = parseOr();
+        private CompiledConditionExpression parse() {
+            CompiledConditionExpression.Node root = parseOr();
             expect(TokenType.EOF);
-            return result;
+            return new CompiledConditionExpression(source, root, new ArrayList<>(variableSlots.keySet()));
         }
 
-        private boolean parseOr() {
-            boolean result = parseAnd();
+        private CompiledConditionExpression.Node parseOr() {
+            CompiledConditionExpression.Node result = parseAnd();
             while (match(TokenType.OR)) {
-                boolean right = parseAnd();
-                result = result || right;
+                result = new CompiledConditionExpression.Or(result, parseAnd());
             }
             return result;
         }
 
-        private boolean parseAnd() {
-            boolean result = parseUnary();
+        private CompiledConditionExpression.Node parseAnd() {
+            CompiledConditionExpression.Node result = parseUnary();
             while (match(TokenType.AND)) {
-                boolean right = parseUnary();
-                result = result && right;
+                result = new CompiledConditionExpression.And(result, parseUnary());
             }
             return result;
         }
 
-        private boolean parseUnary() {
+        private CompiledConditionExpression.Node parseUnary() {
             if (match(TokenType.NOT)) {
-                return !parseUnary();
+                return new CompiledConditionExpression.Not(parseUnary());
             }
             return parseComparison();
         }
 
-        private boolean parseComparison() {
-            ConditionValue left = parsePrimary();
-            Token operator = peek();
-            if (operator.type() != TokenType.EQ
-                    && operator.type() != TokenType.NE
-                    && operator.type() != TokenType.GT
-                    && operator.type() != TokenType.LT
-                    && operator.type() != TokenType.GE
-                    && operator.type() != TokenType.LE) {
-                return left.asBoolean();
+        private CompiledConditionExpression.Node parseComparison() {
+            CompiledConditionExpression.Operand left = parsePrimary();
+            CompiledConditionExpression.ComparisonOperator operator = comparisonOperator(peek().type());
+            if (operator == null) {
+                return left instanceof CompiledConditionExpression.BooleanOperand booleanOperand
+                        ? booleanOperand.node()
+                        : new CompiledConditionExpression.Truthy(left);
             }
             index++;
-            ConditionValue right = parsePrimary();
-            return compare(left, operator.type(), right);
+            CompiledConditionExpression.Operand right = parsePrimary();
+            return new CompiledConditionExpression.Compare(left, operator, right);
         }
 
-        private ConditionValue parsePrimary() {
+        private CompiledConditionExpression.Operand parsePrimary() {
             Token token = peek();
             index++;
             return switch (token.type()) {
-                case VARIABLE -> ConditionValue.text(resolveVariable(token.text()));
-                case STRING, NUMBER -> ConditionValue.text(token.text());
-                case BOOLEAN -> ConditionValue.bool(Boolean.parseBoolean(token.text()));
+                case VARIABLE -> new CompiledConditionExpression.VariableRef(slotOf(token.text()));
+                case STRING, NUMBER -> CompiledConditionExpression.Literal.text(token.text());
+                case BOOLEAN -> CompiledConditionExpression.Literal.bool(Boolean.parseBoolean(token.text()));
                 case IDENTIFIER -> parseIdentifier(token);
                 case LPAREN -> {
-                    boolean value = parseOr();
+                    CompiledConditionExpression.Node value = parseOr();
                     expect(TokenType.RPAREN);
-                    yield ConditionValue.bool(value);
+                    yield new CompiledConditionExpression.BooleanOperand(value);
                 }
                 default -> throw new IllegalArgumentException("Unexpected token: " + token.type());
             };
         }
 
-        private ConditionValue parseIdentifier(Token token) {
+        private CompiledConditionExpression.Operand parseIdentifier(Token token) {
             if ("defined".equalsIgnoreCase(token.text()) && match(TokenType.LPAREN)) {
                 String variableName = parseVariableNameArgument();
                 expect(TokenType.RPAREN);
-                return ConditionValue.bool(variableLookup.isDefined(variableName));
+                return new CompiledConditionExpression.BooleanOperand(new CompiledConditionExpression.Defined(variableName));
             }
-            return ConditionValue.text(token.text());
+            return CompiledConditionExpression.Literal.text(token.text());
         }
 
         private String parseVariableNameArgument() {
@@ -171,39 +161,20 @@ public final class ConditionExpressionEvaluator {
             };
         }
 
-        private boolean compare(ConditionValue left, TokenType operator, ConditionValue right) {
-            if (operator == TokenType.EQ || operator == TokenType.NE) {
-                boolean equals = left.text().equals(right.text());
-                return operator == TokenType.EQ ? equals : !equals;
-            }
-            Double leftNumber = toNumber(left.text());
-            Double rightNumber = toNumber(right.text());
-            if (leftNumber == null || rightNumber == null) {
-                return false;
-            }
-            return switch (operator) {
-                case GT -> leftNumber > rightNumber;
-                case LT -> leftNumber < rightNumber;
-                case GE -> leftNumber >= rightNumber;
-                case LE -> leftNumber <= rightNumber;
-                default -> false;
-            };
-        }
-
-        private String resolveVariable(String variableName) {
-            String value = variableLookup.resolve(variableName);
-            return value == null ? "" : value;
+        private int slotOf(String variableName) {
+            return variableSlots.computeIfAbsent(variableName, ignored -> variableSlots.size());
         }
 
-        private Double toNumber(String value) {
-            if (value == null || value.isBlank()) {
-                return null;
-            }
-            try {
-                return Double.parseDouble(value.trim());
-            } catch (NumberFormatException ignored) {
-                return null;
-            }
+        private static CompiledConditionExpression.ComparisonOperator comparisonOperator(TokenType type) {
+            return switch (type) {
+                case EQ -> CompiledConditionExpression.ComparisonOperator.EQ;
+                case NE -> CompiledConditionExpression.ComparisonOperator.NE;
+                case GT -> CompiledConditionExpression.ComparisonOperator.GT;
+                case LT -> CompiledConditionExpression.ComparisonOperator.LT;
+                case GE -> CompiledConditionExpression.ComparisonOperator.GE;
+                case LE -> CompiledConditionExpression.ComparisonOperator.LE;
+                default -> null;
+            };
         }
 
         private boolean match(TokenType type) {
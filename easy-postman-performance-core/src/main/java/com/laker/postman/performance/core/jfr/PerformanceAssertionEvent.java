@@ -0,0 +1,31 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("easypostman.performance.Assertion")
+@Label("Assertion")
+@Description("执行一个断言元素")
+public final class PerformanceAssertionEvent extends PerformanceJfrEvent {
+    @Label("Assertion")
+    String assertion;
+
+    @Label("Type")
+    String type;
+
+    @Label("Passed")
+    boolean passed;
+
+    public static PerformanceAssertionEvent start(String assertion, String type) {
+        PerformanceAssertionEvent event = new PerformanceAssertionEvent();
+        event.assertion = assertion;
+        event.type = type;
+        event.begin();
+        return event;
+    }
+
+    public void passed(boolean passed) {
+        this.passed = passed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("easypostman.performance.Extractor")
+@Label("Extractor")
+@Description("执行一个提取器元素")
+public final class PerformanceExtractorEvent extends PerformanceJfrEvent {
+    @Label("Extractor")
+    String extractor;
+
+    @Label("Type")
+    String type;
+
+    @Label("Matched")
+    boolean matched;
+
+    public static PerformanceExtractorEvent start(String extractor, String type) {
+        PerformanceExtractorEvent event = new PerformanceExtractorEvent();
+        event.extractor = extractor;
+        event.type = type;
+        event.begin();
+        return event;
+    }
+
+    public void matched(boolean matched) {
+        this.matched = matched;
+    }
+}
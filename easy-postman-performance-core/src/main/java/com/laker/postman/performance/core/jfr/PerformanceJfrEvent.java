@@ -0,0 +1,36 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 压测 JFR 事件的公共字段：所属线程组、虚拟用户和 sampler。
+ * <p>
+ * 子类统一用 {@link #finish()} 结束：只有事件被录制且超过阈值时才读取上下文和填充字段，
+ * 未开启录制时 begin/end 会被 JIT 消除。压测事件数量很大，默认不采集调用栈。
+ * </p>
+ */
+@Category({"EasyPostman", "Performance"})
+@StackTrace(false)
+public abstract class PerformanceJfrEvent extends Event {
+    @Label("Thread Group")
+    String threadGroup;
+
+    @Label("Virtual User")
+    int virtualUser;
+
+    @Label("Sampler")
+    String sampler;
+
+    public final void finish() {
+        end();
+        if (shouldCommit()) {
+            threadGroup = PerformanceJfrContext.threadGroup();
+            virtualUser = PerformanceJfrContext.virtualUser();
+            sampler = PerformanceJfrContext.sampler();
+            commit();
+        }
+    }
+}
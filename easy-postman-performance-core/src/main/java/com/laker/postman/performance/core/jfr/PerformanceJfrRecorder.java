@@ -0,0 +1,100 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 压测期间的 JFR 录制：使用 JDK 自带的 profile 配置（CPU 采样、分配、锁竞争），
+ * 再打开 EasyPostman 自定义事件，停止时写入目标文件。
+ */
+@Slf4j
+public final class PerformanceJfrRecorder implements AutoCloseable {
+    static final String CONFIGURATION = "profile";
+    static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            PerformanceVirtualUserEvent.class,
+            PerformanceSamplerEvent.class,
+            PerformancePhaseEvent.class,
+            PerformanceAssertionEvent.class,
+            PerformanceExtractorEvent.class
+    );
+    static final List<String> EXTERNAL_EVENT_NAMES = List.of(
+            "easypostman.http.Exchange",
+            "easypostman.script.Execution"
+    );
+
+    private final Recording recording;
+    private final Path destination;
+
+    private PerformanceJfrRecorder(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    /**
+     * 开始录制，停止后写入 destination；目标目录不存在时自动创建。
+     *
+     * @throws IOException 无法创建目录或 JDK 不支持 JFR
+     */
+    public static PerformanceJfrRecorder start(Path destination) throws IOException {
+        if (destination == null) {
+            throw new IllegalArgumentException("JFR destination is required");
+        }
+        Path target = destination.toAbsolutePath();
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(CONFIGURATION));
+        } catch (ParseException ex) {
+            throw new IOException("Cannot load JFR configuration: " + CONFIGURATION, ex);
+        }
+        try {
+            recording.setName("EasyPostman Performance");
+            for (Class<? extends Event> eventType : EVENT_TYPES) {
+                recording.enable(eventType).withThreshold(Duration.ZERO);
+            }
+            // HTTP 和脚本事件定义在其它模块，按名称启用。
+            for (String eventName : EXTERNAL_EVENT_NAMES) {
+                recording.enable(eventName).withThreshold(Duration.ZERO);
+            }
+            recording.setToDisk(true);
+            recording.setDestination(target);
+            recording.start();
+        } catch (IOException | RuntimeException ex) {
+            recording.close();
+            throw ex;
+        }
+        log.info("JFR 录制已开始，结束后写入 {}", target);
+        return new PerformanceJfrRecorder(recording, target);
+    }
+
+    public Path destination() {
+        return destination;
+    }
+
+    /**
+     * 停止录制并写入文件；重复调用无副作用。
+     */
+    @Override
+    public void close() {
+        try {
+            if (recording.stop()) {
+                log.info("JFR 录制已写入 {}", destination);
+            }
+        } catch (IllegalStateException ex) {
+            log.debug("JFR 录制已停止", ex);
+        } finally {
+            recording.close();
+        }
+    }
+}
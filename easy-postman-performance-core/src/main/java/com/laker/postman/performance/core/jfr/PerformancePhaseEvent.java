@@ -0,0 +1,29 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * sample 内的一个执行阶段，在 JMC 线程视图里和 sampler 事件嵌套显示。
+ */
+@Name("easypostman.performance.Phase")
+@Label("Sampler Phase")
+@Description("sample 内的前置脚本、传输、提取器、断言或后置脚本阶段")
+public final class PerformancePhaseEvent extends PerformanceJfrEvent {
+    public static final String PRE_SCRIPT = "PRE_SCRIPT";
+    public static final String TRANSPORT = "TRANSPORT";
+    public static final String EXTRACTORS = "EXTRACTORS";
+    public static final String ASSERTIONS = "ASSERTIONS";
+    public static final String POST_SCRIPT = "POST_SCRIPT";
+
+    @Label("Phase")
+    String phase;
+
+    public static PerformancePhaseEvent start(String phase) {
+        PerformancePhaseEvent event = new PerformancePhaseEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+}
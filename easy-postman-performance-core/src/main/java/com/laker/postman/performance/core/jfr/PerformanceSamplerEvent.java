@@ -0,0 +1,59 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 一次完整 sample 的结果和收发字节数，各阶段耗时见 {@link PerformancePhaseEvent}。
+ * 同一线程上同一时段的阶段、断言、提取器和 HTTP 事件都属于这次 sample。
+ */
+@Name("easypostman.performance.Sampler")
+@Label("Sampler")
+@Description("一次 sample 从前置脚本到后置处理的完整执行")
+public final class PerformanceSamplerEvent extends PerformanceJfrEvent {
+    @Label("API Id")
+    String apiId;
+
+    @Label("Protocol")
+    String protocol;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Interrupted")
+    boolean interrupted;
+
+    @Label("Bytes Sent")
+    @DataAmount
+    long bytesSent;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    public static PerformanceSamplerEvent start() {
+        PerformanceSamplerEvent event = new PerformanceSamplerEvent();
+        event.begin();
+        return event;
+    }
+
+    public void apiId(String apiId) {
+        this.apiId = apiId;
+    }
+
+    public void protocol(String protocol) {
+        this.protocol = protocol;
+    }
+
+    public void outcome(boolean success, boolean interrupted) {
+        this.success = success;
+        this.interrupted = interrupted;
+    }
+
+    public void bytes(long sent, long received) {
+        this.bytesSent = Math.max(0L, sent);
+        this.bytesReceived = Math.max(0L, received);
+    }
+}
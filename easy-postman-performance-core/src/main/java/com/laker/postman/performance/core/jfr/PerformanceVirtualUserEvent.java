@@ -0,0 +1,21 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("easypostman.performance.VirtualUser")
+@Label("Virtual User")
+@Category({"EasyPostman", "Performance"})
+@Description("虚拟用户从启动到退出的生命周期")
+@StackTrace(false)
+final class PerformanceVirtualUserEvent extends Event {
+    @Label("Thread Group")
+    String threadGroup;
+
+    @Label("Virtual User")
+    int virtualUser;
+}
@@ -0,0 +1,75 @@
+package com.laker.postman.performance.core.model;
+
+import java.util.List;
+
+/**
+ * 压测机自身在一个采样窗口内的负载。
+ * <p>
+ * 进程 CPU 和 GC 停顿按窗口时长折算成百分比；调度延迟是监控线程在窗口内被唤醒的最大迟到时间，
+ * 反映 CPU 饱和、GC 或线程过多时虚拟用户线程同样拿不到时间片。JVM 拿不到的指标为 NaN。
+ * queuedHttpCalls 是窗口结束时 OkHttp 调度器里排队的 Call 数，非 0 说明调度器并发上限已经饱和。
+ * </p>
+ */
+public record PerformanceGeneratorSample(
+        double processCpuPercent,
+        double gcPausePercent,
+        double allocationMbPerSecond,
+        int threadCount,
+        double schedulingLagMs,
+        int queuedHttpCalls
+) {
+    public static final PerformanceGeneratorSample EMPTY =
+            new PerformanceGeneratorSample(Double.NaN, Double.NaN, Double.NaN, 0, Double.NaN);
+
+    public PerformanceGeneratorSample(double processCpuPercent,
+                                      double gcPausePercent,
+                                      double allocationMbPerSecond,
+                                      int threadCount,
+                                      double schedulingLagMs) {
+        this(processCpuPercent, gcPausePercent, allocationMbPerSecond, threadCount, schedulingLagMs, 0);
+    }
+
+    public boolean hasData() {
+        return threadCount > 0;
+    }
+
+    /**
+     * 合并多台 worker 的同一窗口：CPU、GC 和调度延迟取最差的一台，分配速率、线程数和排队 Call 数求和。
+     */
+    public static PerformanceGeneratorSample merge(List<PerformanceGeneratorSample> samples) {
+        double cpu = Double.NaN;
+        double gc = Double.NaN;
+        double allocation = Double.NaN;
+        int threads = 0;
+        double lag = Double.NaN;
+        int queued = 0;
+        if (samples != null) {
+            for (PerformanceGeneratorSample sample : samples) {
+                if (sample == null || !sample.hasData()) {
+                    continue;
+                }
+                cpu = max(cpu, sample.processCpuPercent());
+                gc = max(gc, sample.gcPausePercent());
+                allocation = sum(allocation, sample.allocationMbPerSecond());
+                threads += sample.threadCount();
+                lag = max(lag, sample.schedulingLagMs());
+                queued += Math.max(0, sample.queuedHttpCalls());
+            }
+        }
+        return threads == 0 ? EMPTY : new PerformanceGeneratorSample(cpu, gc, allocation, threads, lag, queued);
+    }
+
+    private static double max(double current, double value) {
+        if (!Double.isFinite(value)) {
+            return current;
+        }
+        return Double.isFinite(current) ? Math.max(current, value) : value;
+    }
+
+    private static double sum(double current, double value) {
+        if (!Double.isFinite(value)) {
+            return current;
+        }
+        return Double.isFinite(current) ? current + value : value;
+    }
+}
@@ -0,0 +1,141 @@
+package com.laker.postman.performance.core.model;
+
+/**
+ * 整轮运行的压测机负载汇总，以及各指标超过告警阈值的采样窗口数。
+ * <p>
+ * 阈值取常见的“压测机已经成为瓶颈”判断口径：进程 CPU 超过 90%、GC 停顿超过窗口时长的 10%、
+ * 调度延迟超过 50ms，以及 OkHttp 调度器有请求排队。出现这些窗口时，同一时段的响应时间上涨可能来自压测机而不是被测系统。
+ * </p>
+ */
+public final class PerformanceGeneratorStatistics {
+    public static final double CPU_WARNING_PERCENT = 90D;
+    public static final double GC_PAUSE_WARNING_PERCENT = 10D;
+    public static final double SCHEDULING_LAG_WARNING_MS = 50D;
+
+    private long samples;
+    private long cpuSamples;
+    private double cpuTotal;
+    private double maxCpuPercent = Double.NaN;
+    private double gcPauseMs;
+    private double maxGcPausePercent = Double.NaN;
+    private long allocationSamples;
+    private double allocationTotal;
+    private double maxAllocationMbPerSecond = Double.NaN;
+    private int peakThreadCount;
+    private double maxSchedulingLagMs = Double.NaN;
+    private long cpuWarningSamples;
+    private long gcWarningSamples;
+    private long schedulingLagWarningSamples;
+    private int peakQueuedHttpCalls;
+    private long dispatcherQueueWarningSamples;
+
+    /**
+     * @param windowMs 样本对应的窗口时长，用于把 GC 停顿百分比还原成毫秒
+     */
+    public synchronized void record(PerformanceGeneratorSample sample, long windowMs) {
+        if (sample == null || !sample.hasData()) {
+            return;
+        }
+        samples++;
+        if (Double.isFinite(sample.processCpuPercent())) {
+            cpuSamples++;
+            cpuTotal += sample.processCpuPercent();
+            maxCpuPercent = max(maxCpuPercent, sample.processCpuPercent());
+            if (sample.processCpuPercent() >= CPU_WARNING_PERCENT) {
+                cpuWarningSamples++;
+            }
+        }
+        if (Double.isFinite(sample.gcPausePercent())) {
+            gcPauseMs += sample.gcPausePercent() * Math.max(0L, windowMs) / 100D;
+            maxGcPausePercent = max(maxGcPausePercent, sample.gcPausePercent());
+            if (sample.gcPausePercent() >= GC_PAUSE_WARNING_PERCENT) {
+                gcWarningSamples++;
+            }
+        }
+        if (Double.isFinite(sample.allocationMbPerSecond())) {
+            allocationSamples++;
+            allocationTotal += sample.allocationMbPerSecond();
+            maxAllocationMbPerSecond = max(maxAllocationMbPerSecond, sample.allocationMbPerSecond());
+        }
+        peakThreadCount = Math.max(peakThreadCount, sample.threadCount());
+        if (Double.isFinite(sample.schedulingLagMs())) {
+            maxSchedulingLagMs = max(maxSchedulingLagMs, sample.schedulingLagMs());
+            if (sample.schedulingLagMs() >= SCHEDULING_LAG_WARNING_MS) {
+                schedulingLagWarningSamples++;
+            }
+        }
+        peakQueuedHttpCalls = Math.max(peakQueuedHttpCalls, sample.queuedHttpCalls());
+        if (sample.queuedHttpCalls() > 0) {
+            dispatcherQueueWarningSamples++;
+        }
+    }
+
+    public synchronized void reset() {
+        samples = 0;
+        cpuSamples = 0;
+        cpuTotal = 0D;
+        maxCpuPercent = Double.NaN;
+        gcPauseMs = 0D;
+        maxGcPausePercent = Double.NaN;
+        allocationSamples = 0;
+        allocationTotal = 0D;
+        maxAllocationMbPerSecond = Double.NaN;
+        peakThreadCount = 0;
+        maxSchedulingLagMs = Double.NaN;
+        cpuWarningSamples = 0;
+        gcWarningSamples = 0;
+        schedulingLagWarningSamples = 0;
+        peakQueuedHttpCalls = 0;
+        dispatcherQueueWarningSamples = 0;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(
+                samples,
+                cpuSamples == 0 ? Double.NaN : cpuTotal / cpuSamples,
+                maxCpuPercent,
+                Math.round(gcPauseMs),
+                maxGcPausePercent,
+                allocationSamples == 0 ? Double.NaN : allocationTotal / allocationSamples,
+                maxAllocationMbPerSecond,
+                peakThreadCount,
+                maxSchedulingLagMs,
+                cpuWarningSamples,
+                gcWarningSamples,
+                schedulingLagWarningSamples,
+                peakQueuedHttpCalls,
+                dispatcherQueueWarningSamples
+        );
+    }
+
+    private static double max(double current, double value) {
+        return Double.isFinite(current) ? Math.max(current, value) : value;
+    }
+
+    public record Snapshot(long samples,
+                           double avgCpuPercent,
+                           double maxCpuPercent,
+                           long gcPauseMs,
+                           double maxGcPausePercent,
+                           double avgAllocationMbPerSecond,
+                           double maxAllocationMbPerSecond,
+                           int peakThreadCount,
+                           double maxSchedulingLagMs,
+                           long cpuWarningSamples,
+                           long gcWarningSamples,
+                           long schedulingLagWarningSamples,
+                           int peakQueuedHttpCalls,
+                           long dispatcherQueueWarningSamples) {
+
+        public static Snapshot empty() {
+            return new PerformanceGeneratorStatistics().snapshot();
+        }
+
+        public boolean hasWarnings() {
+            return cpuWarningSamples > 0
+                    || gcWarningSamples > 0
+                    || schedulingLagWarningSamples > 0
+                    || dispatcherQueueWarningSamples > 0;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.laker.postman.performance.core.model;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 public class PerformanceRealtimeMetrics {
 
@@ -33,6 +35,20 @@ public class PerformanceRealtimeMetrics {
     // 实时报告仍可读取 session map 生成明细，趋势路径只走 O(1) 聚合。
     private final AtomicLong sseActiveSessionStartTotalMs = new AtomicLong();
 
+    // HTTP/2 多路复用：按连接统计流，连接标识由传输层给出，只保留到下一次 reset
+    private final Map<String, Http2ConnectionMetrics> http2Connections = new ConcurrentHashMap<>();
+    private final AtomicInteger activeHttp2Streams = new AtomicInteger();
+    private final AtomicInteger peakHttp2Streams = new AtomicInteger();
+    private final AtomicLong refusedHttp2Streams = new AtomicLong();
+    private final AtomicLong http2GoAwayCount = new AtomicLong();
+
+    // OkHttp 调度器排队：排队中的 Call 数由网络层实时给出，排队耗时按样本累计
+    private volatile IntSupplier queuedHttpCallsSupplier = () -> 0;
+    private final AtomicInteger peakQueuedHttpCalls = new AtomicInteger();
+    private final AtomicLong queuedHttpSamples = new AtomicLong();
+    private final AtomicLong httpQueueWaitTotalMs = new AtomicLong();
+    private final AtomicLong maxHttpQueueWaitMs = new AtomicLong();
+
     private final AtomicLong lastSampleTimeMs = new AtomicLong();
     private final AtomicLong lastWebSocketSentMessages = new AtomicLong();
     private final AtomicLong lastWebSocketReceivedMessages = new AtomicLong();
@@ -62,6 +78,15 @@ public class PerformanceRealtimeMetrics {
         activeSseSessions.set(0);
         peakSseSessions.set(0);
         sseActiveSessionStartTotalMs.set(0);
+        http2Connections.clear();
+        activeHttp2Streams.set(0);
+        peakHttp2Streams.set(0);
+        refusedHttp2Streams.set(0);
+        http2GoAwayCount.set(0);
+        peakQueuedHttpCalls.set(0);
+        queuedHttpSamples.set(0);
+        httpQueueWaitTotalMs.set(0);
+        maxHttpQueueWaitMs.set(0);
 
         lastSampleTimeMs.set(nowMs);
         lastWebSocketSentMessages.set(0);
@@ -196,10 +221,112 @@ public class PerformanceRealtimeMetrics {
         }
     }
 
+    /**
+     * 多路复用连接上开始一个流（请求头已写出）。
+     *
+     * @param connection 连接标识，同一物理连接必须给出相同的值
+     */
+    public void recordHttp2StreamStart(String connection, long nowMs) {
+        if (connection == null) {
+            return;
+        }
+        http2Connections.computeIfAbsent(connection, ignored -> new Http2ConnectionMetrics(nowMs)).streamStarted();
+        updatePeak(peakHttp2Streams, activeHttp2Streams.incrementAndGet());
+    }
+
+    /**
+     * 流结束（响应体读完或关闭），同一个流只能调用一次。
+     */
+    public void recordHttp2StreamEnd(String connection, long receivedBytes) {
+        if (connection == null) {
+            return;
+        }
+        Http2ConnectionMetrics metrics = http2Connections.get(connection);
+        if (metrics != null) {
+            metrics.streamEnded(receivedBytes);
+        }
+        decrementActive(activeHttp2Streams);
+    }
+
+    /**
+     * 服务端拒绝了流：REFUSED_STREAM 表示超过对端并发流上限，GOAWAY 表示连接正在关闭。
+     * 两种情况请求都没有被服务端处理，可以安全重试。
+     */
+    public void recordHttp2StreamRefused(String connection, boolean goAway) {
+        if (goAway) {
+            http2GoAwayCount.incrementAndGet();
+        } else {
+            refusedHttp2Streams.incrementAndGet();
+        }
+        Http2ConnectionMetrics metrics = connection == null ? null : http2Connections.get(connection);
+        if (metrics != null) {
+            metrics.streamRefused();
+        }
+    }
+
+    /**
+     * 绑定网络层的排队 Call 计数（所有压测客户端调度器 queuedCallsCount 之和）
+     */
+    public void bindQueuedHttpCalls(IntSupplier supplier) {
+        queuedHttpCallsSupplier = supplier == null ? () -> 0 : supplier;
+    }
+
+    /**
+     * 当前在 OkHttp 调度器里排队、尚未开始执行的 Call 数，同时刷新本次运行的峰值
+     */
+    public int queuedHttpCalls() {
+        int queued = Math.max(0, queuedHttpCallsSupplier.getAsInt());
+        updatePeak(peakQueuedHttpCalls, queued);
+        return queued;
+    }
+
+    /**
+     * 一个 HTTP 样本在调度器里排队的耗时；该耗时已计入样本响应时间，这里单独累计用于判断调度器是否饱和
+     */
+    public void recordHttpQueueWait(long queueWaitMs) {
+        if (queueWaitMs <= 0) {
+            return;
+        }
+        queuedHttpSamples.incrementAndGet();
+        httpQueueWaitTotalMs.addAndGet(queueWaitMs);
+        maxHttpQueueWaitMs.accumulateAndGet(queueWaitMs, Math::max);
+    }
+
     public LiveSnapshot liveSnapshot(long nowMs) {
         return new LiveSnapshot(
                 liveProtocolSnapshot(webSocketSessionStarts, nowMs),
-                liveProtocolSnapshot(sseSessionStarts, nowMs)
+                liveProtocolSnapshot(sseSessionStarts, nowMs),
+                http2LiveSnapshot(nowMs),
+                httpDispatchLiveSnapshot()
+        );
+    }
+
+    private HttpDispatchLiveSnapshot httpDispatchLiveSnapshot() {
+        int queuedCalls = queuedHttpCalls();
+        long samples = queuedHttpSamples.get();
+        return new HttpDispatchLiveSnapshot(
+                queuedCalls,
+                peakQueuedHttpCalls.get(),
+                samples,
+                samples == 0 ? 0 : round((double) httpQueueWaitTotalMs.get() / samples),
+                maxHttpQueueWaitMs.get()
+        );
+    }
+
+    private Http2LiveSnapshot http2LiveSnapshot(long nowMs) {
+        if (http2Connections.isEmpty() && refusedHttp2Streams.get() == 0 && http2GoAwayCount.get() == 0) {
+            return Http2LiveSnapshot.empty();
+        }
+        List<Http2ConnectionSnapshot> connections = http2Connections.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey(), nowMs))
+                .sorted(Comparator.comparing(Http2ConnectionSnapshot::connection))
+                .toList();
+        return new Http2LiveSnapshot(
+                Math.max(0, activeHttp2Streams.get()),
+                peakHttp2Streams.get(),
+                refusedHttp2Streams.get(),
+                http2GoAwayCount.get(),
+                connections
         );
     }
 
@@ -410,13 +537,75 @@ public class PerformanceRealtimeMetrics {
 
     public record LiveSnapshot(
             LiveProtocolSnapshot webSocket,
-            LiveProtocolSnapshot sse
+            LiveProtocolSnapshot sse,
+            Http2LiveSnapshot http2,
+            HttpDispatchLiveSnapshot httpDispatch
     ) {
         public static LiveSnapshot empty() {
-            return new LiveSnapshot(LiveProtocolSnapshot.empty(), LiveProtocolSnapshot.empty());
+            return new LiveSnapshot(
+                    LiveProtocolSnapshot.empty(),
+                    LiveProtocolSnapshot.empty(),
+                    Http2LiveSnapshot.empty(),
+                    HttpDispatchLiveSnapshot.empty()
+            );
+        }
+    }
+
+    /**
+     * @param queuedCalls       当前在调度器里排队的 Call 数，持续大于 0 说明调度器并发上限已成为瓶颈
+     * @param peakQueuedCalls   本次运行内观察到的排队峰值
+     * @param queuedSamples     发生过排队的 HTTP 样本数
+     * @param averageQueueWaitMs 这些样本的平均排队耗时
+     */
+    public record HttpDispatchLiveSnapshot(
+            int queuedCalls,
+            int peakQueuedCalls,
+            long queuedSamples,
+            double averageQueueWaitMs,
+            long maxQueueWaitMs
+    ) {
+        public boolean hasData() {
+            return queuedCalls > 0 || queuedSamples > 0;
+        }
+
+        private static HttpDispatchLiveSnapshot empty() {
+            return new HttpDispatchLiveSnapshot(0, 0, 0, 0, 0);
         }
     }
 
+    /**
+     * @param peakStreams 本次运行内同时活跃流数的峰值
+     */
+    public record Http2LiveSnapshot(
+            int activeStreams,
+            int peakStreams,
+            long refusedStreams,
+            long goAwayCount,
+            List<Http2ConnectionSnapshot> connections
+    ) {
+        public boolean hasData() {
+            return !connections.isEmpty() || refusedStreams > 0 || goAwayCount > 0;
+        }
+
+        private static Http2LiveSnapshot empty() {
+            return new Http2LiveSnapshot(0, 0, 0, 0, List.of());
+        }
+    }
+
+    /**
+     * 单个连接从第一次出现到现在的累计值，速率按这段时间平均。
+     */
+    public record Http2ConnectionSnapshot(
+            String connection,
+            int activeStreams,
+            long completedStreams,
+            long refusedStreams,
+            long receivedBytes,
+            double streamRate,
+            double receiveBytesRate
+    ) {
+    }
+
     public record LiveProtocolSnapshot(
             int activeSessions,
             long sentMessages,
@@ -517,6 +706,45 @@ public class PerformanceRealtimeMetrics {
         }
     }
 
+    private static final class Http2ConnectionMetrics {
+        private final long firstSeenMs;
+        private int activeStreams;
+        private long completedStreams;
+        private long refusedStreams;
+        private long receivedBytes;
+
+        private Http2ConnectionMetrics(long firstSeenMs) {
+            this.firstSeenMs = firstSeenMs;
+        }
+
+        private synchronized void streamStarted() {
+            activeStreams++;
+        }
+
+        private synchronized void streamEnded(long bytes) {
+            activeStreams = Math.max(0, activeStreams - 1);
+            completedStreams++;
+            receivedBytes += Math.max(0, bytes);
+        }
+
+        private synchronized void streamRefused() {
+            refusedStreams++;
+        }
+
+        private synchronized Http2ConnectionSnapshot snapshot(String connection, long nowMs) {
+            double seconds = Math.max(1, nowMs - firstSeenMs) / 1000.0;
+            return new Http2ConnectionSnapshot(
+                    connection,
+                    activeStreams,
+                    completedStreams,
+                    refusedStreams,
+                    receivedBytes,
+                    rate(completedStreams, seconds),
+                    rate(receivedBytes, seconds)
+            );
+        }
+    }
+
     private static final class MutableLiveApiSnapshot {
         private final String apiId;
         private final String apiName;
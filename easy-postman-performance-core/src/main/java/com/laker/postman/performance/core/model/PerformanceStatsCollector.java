@@ -1,5 +1,8 @@
 package com.laker.postman.performance.core.model;
 
+import com.laker.postman.performance.core.threshold.PerformanceThreshold;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdEvaluator;
+
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
@@ -16,6 +19,17 @@ public final class PerformanceStatsCollector {
     private final ConcurrentLinkedDeque<PerformanceSampleMeterSet> apiStatsInFirstSeenOrder = new ConcurrentLinkedDeque<>();
     private final ConcurrentMap<PerformanceProtocol, PerformanceSampleMeterSet> protocolTotals = new ConcurrentHashMap<>();
     private final PerformanceSampleMeterSet overallStats = new PerformanceSampleMeterSet("", PerformanceProtocol.HTTP);
+    private final PerformanceThresholdEvaluator thresholds;
+
+    public PerformanceStatsCollector() {
+        this(List.of());
+    }
+
+    public PerformanceStatsCollector(List<PerformanceThreshold> thresholds) {
+        this.thresholds = thresholds == null || thresholds.isEmpty()
+                ? PerformanceThresholdEvaluator.none()
+                : new PerformanceThresholdEvaluator(thresholds);
+    }
 
     public void record(RequestResult result) {
         if (result == null) {
@@ -33,6 +47,14 @@ public final class PerformanceStatsCollector {
         }).record(result);
         protocolTotals.computeIfAbsent(protocol, ignored -> new PerformanceSampleMeterSet("", protocol)).record(result);
         overallStats.record(result);
+        thresholds.record(result);
+    }
+
+    /**
+     * SLA 阈值判定器；没有配置阈值时返回共享的空实现，record 直接返回。
+     */
+    public PerformanceThresholdEvaluator thresholds() {
+        return thresholds;
     }
 
     public PerformanceStatsSnapshot snapshot() {
@@ -66,5 +88,6 @@ public final class PerformanceStatsCollector {
         apiStatsInFirstSeenOrder.clear();
         protocolTotals.clear();
         overallStats.clear();
+        thresholds.clear();
     }
 }
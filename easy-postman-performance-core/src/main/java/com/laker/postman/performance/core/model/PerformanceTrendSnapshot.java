@@ -9,7 +9,8 @@ public record PerformanceTrendSnapshot(
         ProtocolWindowMetrics overview,
         ProtocolWindowMetrics http,
         ProtocolWindowMetrics webSocket,
-        ProtocolWindowMetrics sse
+        ProtocolWindowMetrics sse,
+        PerformanceGeneratorSample generator
 ) {
     private static final ProtocolWindowMetrics EMPTY_METRICS =
             new ProtocolWindowMetrics(
@@ -27,6 +28,29 @@ public record PerformanceTrendSnapshot(
                     Double.NaN
             );
 
+    public PerformanceTrendSnapshot {
+        generator = generator == null ? PerformanceGeneratorSample.EMPTY : generator;
+    }
+
+    public PerformanceTrendSnapshot(int activeUsers,
+                                    int activeWebSocketConnections,
+                                    int activeSseStreams,
+                                    ProtocolWindowMetrics overview,
+                                    ProtocolWindowMetrics http,
+                                    ProtocolWindowMetrics webSocket,
+                                    ProtocolWindowMetrics sse) {
+        this(activeUsers, activeWebSocketConnections, activeSseStreams, overview, http, webSocket, sse,
+                PerformanceGeneratorSample.EMPTY);
+    }
+
+    /**
+     * 附上同一时刻的压测机负载样本
+     */
+    public PerformanceTrendSnapshot withGenerator(PerformanceGeneratorSample generatorSample) {
+        return new PerformanceTrendSnapshot(activeUsers, activeWebSocketConnections, activeSseStreams,
+                overview, http, webSocket, sse, generatorSample);
+    }
+
     /**
      * 压测结束后追加的展示补点：只表示活跃用户/连接归零，吞吐、耗时、错误率都不代表真实采样窗口。
      */
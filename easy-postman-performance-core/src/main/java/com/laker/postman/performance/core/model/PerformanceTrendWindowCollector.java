@@ -2,45 +2,58 @@ package com.laker.postman.performance.core.model;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * 趋势窗口的增量统计，双缓冲：虚拟用户线程只往当前缓冲写，drain 时把当前缓冲换成空的备用缓冲，
+ * 等旧缓冲上的在途写入结束后再汇总并清空，清空后的旧缓冲成为下一次的备用缓冲。
+ * <p>
+ * 写入路径不加锁：进入缓冲时在按线程分条的计数槽上登记，确认缓冲仍是当前缓冲后才写；
+ * 如果恰好遇到切换，就退出重试一次写到新缓冲。drain 只等待已经登记在旧缓冲上的写入，不会阻塞新的写入。
+ * </p>
+ */
 public final class PerformanceTrendWindowCollector {
+    private static final int WRITER_STRIPES = 64;
+    // 每个计数槽占一条 64 字节缓存行，避免不同线程的登记互相伪共享
+    private static final int STRIPE_PADDING = 8;
 
-    private final Map<PerformanceProtocol, PerformanceSampleMeterSet> protocolStats =
-            new ConcurrentHashMap<>();
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private PerformanceSampleMeterSet overallStats = new PerformanceSampleMeterSet("", PerformanceProtocol.HTTP);
+    private final Object drainLock = new Object();
+    private volatile Window current = new Window();
+    private Window spare = new Window();
     private volatile boolean enabled = true;
 
     public void record(RequestResult result) {
         if (!enabled || result == null) {
             return;
         }
-        lock.readLock().lock();
-        try {
-            if (!enabled) {
-                return;
+        int stripe = writerStripe();
+        while (true) {
+            Window window = current;
+            window.enter(stripe);
+            try {
+                if (!enabled) {
+                    return;
+                }
+                if (window == current) {
+                    window.record(result);
+                    return;
+                }
+            } finally {
+                window.exit(stripe);
             }
-            PerformanceProtocol protocol = result.protocol == null ? PerformanceProtocol.HTTP : result.protocol;
-            protocolStats.computeIfAbsent(protocol, ignored -> new PerformanceSampleMeterSet("", protocol)).record(result);
-            overallStats.record(result);
-        } finally {
-            lock.readLock().unlock();
         }
     }
 
     public void setEnabled(boolean enabled) {
-        lock.writeLock().lock();
-        try {
+        synchronized (drainLock) {
             if (this.enabled == enabled) {
                 return;
             }
             this.enabled = enabled;
             if (!enabled) {
-                clearUnlocked();
+                swapAndQuiesce().clear();
             }
-        } finally {
-            lock.writeLock().unlock();
         }
     }
 
@@ -52,43 +65,102 @@ public final class PerformanceTrendWindowCollector {
                                                         int activeSseStreams,
                                                         long samplingIntervalMs,
                                                         PerformanceRealtimeMetrics.Sample realtimeMetrics) {
-        lock.writeLock().lock();
-        try {
+        synchronized (drainLock) {
+            Window drained = swapAndQuiesce();
             PerformanceTrendSnapshot snapshot = new PerformanceTrendSnapshot(
                     activeUsers,
                     activeWebSocketConnections,
                     activeSseStreams,
-                    PerformanceWindowMetricsFactory.fromSnapshot(overallStats.snapshot(), null, samplingIntervalMs, realtimeMetrics),
-                    PerformanceWindowMetricsFactory.fromSnapshot(snapshotOf(PerformanceProtocol.HTTP),
+                    PerformanceWindowMetricsFactory.fromSnapshot(drained.overallStats.snapshot(), null,
+                            samplingIntervalMs, realtimeMetrics),
+                    PerformanceWindowMetricsFactory.fromSnapshot(drained.snapshotOf(PerformanceProtocol.HTTP),
                             PerformanceProtocol.HTTP, samplingIntervalMs, realtimeMetrics),
-                    PerformanceWindowMetricsFactory.fromSnapshot(snapshotOf(PerformanceProtocol.WEBSOCKET),
+                    PerformanceWindowMetricsFactory.fromSnapshot(drained.snapshotOf(PerformanceProtocol.WEBSOCKET),
                             PerformanceProtocol.WEBSOCKET, samplingIntervalMs, realtimeMetrics),
-                    PerformanceWindowMetricsFactory.fromSnapshot(snapshotOf(PerformanceProtocol.SSE),
+                    PerformanceWindowMetricsFactory.fromSnapshot(drained.snapshotOf(PerformanceProtocol.SSE),
                             PerformanceProtocol.SSE, samplingIntervalMs, realtimeMetrics)
             );
-            clearUnlocked();
+            drained.clear();
             return snapshot;
-        } finally {
-            lock.writeLock().unlock();
         }
     }
 
     public void clear() {
-        lock.writeLock().lock();
-        try {
-            clearUnlocked();
-        } finally {
-            lock.writeLock().unlock();
+        synchronized (drainLock) {
+            swapAndQuiesce().clear();
         }
     }
 
-    private void clearUnlocked() {
-        protocolStats.clear();
-        overallStats = new PerformanceSampleMeterSet("", PerformanceProtocol.HTTP);
+    /**
+     * 把备用缓冲切为当前缓冲，并等待旧缓冲上已登记的写入全部退出。返回的旧缓冲由调用方清空，随后作为备用缓冲复用。
+     */
+    private Window swapAndQuiesce() {
+        Window drained = current;
+        current = spare;
+        spare = drained;
+        drained.awaitQuiescence();
+        return drained;
+    }
+
+    private static int writerStripe() {
+        int hash = System.identityHashCode(Thread.currentThread()) * 0x9E3779B9;
+        return (hash >>> 26) & (WRITER_STRIPES - 1);
     }
 
-    private PerformanceSampleMeterSnapshot snapshotOf(PerformanceProtocol protocol) {
-        PerformanceSampleMeterSet stats = protocolStats.get(protocol);
-        return stats == null ? null : stats.snapshot();
+    private static final class Window {
+        private final Map<PerformanceProtocol, PerformanceSampleMeterSet> protocolStats = new ConcurrentHashMap<>();
+        private final AtomicLongArray writers = new AtomicLongArray(WRITER_STRIPES * STRIPE_PADDING);
+        // 只在缓冲不是当前缓冲且没有在途写入时替换，切回当前缓冲时由 current 的 volatile 写发布
+        private PerformanceSampleMeterSet overallStats = new PerformanceSampleMeterSet("", PerformanceProtocol.HTTP);
+
+        private void enter(int stripe) {
+            writers.getAndIncrement(stripe * STRIPE_PADDING);
+        }
+
+        private void exit(int stripe) {
+            writers.getAndDecrement(stripe * STRIPE_PADDING);
+        }
+
+        private void record(RequestResult result) {
+            PerformanceProtocol protocol = result.protocol == null ? PerformanceProtocol.HTTP : result.protocol;
+            protocolStats.computeIfAbsent(protocol, ignored -> new PerformanceSampleMeterSet("", protocol)).record(result);
+            overallStats.record(result);
+        }
+
+        /**
+         * 同一线程的登记和退出落在同一个槽上，槽值不会为负；所有槽都读到 0 时，切换前登记的写入都已完成。
+         * 切换后才登记的线程会发现缓冲已不是当前缓冲而直接退出，不影响结果。
+         */
+        private void awaitQuiescence() {
+            int spins = 0;
+            while (hasWriters()) {
+                if (++spins < 100) {
+                    Thread.onSpinWait();
+                } else if (spins < 1_000) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(10_000L);
+                }
+            }
+        }
+
+        private boolean hasWriters() {
+            for (int stripe = 0; stripe < WRITER_STRIPES; stripe++) {
+                if (writers.get(stripe * STRIPE_PADDING) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void clear() {
+            protocolStats.clear();
+            overallStats = new PerformanceSampleMeterSet("", PerformanceProtocol.HTTP);
+        }
+
+        private PerformanceSampleMeterSnapshot snapshotOf(PerformanceProtocol protocol) {
+            PerformanceSampleMeterSet stats = protocolStats.get(protocol);
+            return stats == null ? null : stats.snapshot();
+        }
     }
 }
@@ -1,5 +1,7 @@
 package com.laker.postman.performance.core.plan;
 
+import com.laker.postman.performance.core.controller.CompiledConditionExpression;
+import com.laker.postman.performance.core.controller.ConditionExpressionEvaluator;
 import com.laker.postman.performance.core.controller.ConditionData;
 import com.laker.postman.performance.core.model.NodeType;
 
@@ -10,15 +12,27 @@ import java.util.List;
 public final class PerformanceConditionController implements PerformanceElementContainer {
     private final String name;
     private final ConditionData conditionData;
+    private final CompiledConditionExpression compiledExpression;
     private final List<PerformancePlanElement> elements;
 
     public PerformanceConditionController(String name, ConditionData conditionData, List<PerformancePlanElement> elements) {
+        this(name, conditionData, null, elements);
+    }
+
+    /**
+     * @param compiledExpression 预编译的表达式，为 null 时按 ConditionData 中的表达式现场编译
+     */
+    public PerformanceConditionController(String name, ConditionData conditionData, CompiledConditionExpression compiledExpression,
+                                          List<PerformancePlanElement> elements) {
         this.name = name;
         this.conditionData = PerformancePlanCoreDataCopies.copyConditionData(conditionData);
         if (this.conditionData != null) {
             this.conditionData.normalize();
         }
         this.elements = Collections.unmodifiableList(new ArrayList<>(elements == null ? List.of() : elements));
+        this.compiledExpression = compiledExpression != null
+                ? compiledExpression
+                : ConditionExpressionEvaluator.compile(this.conditionData == null ? null : this.conditionData.expression);
     }
 
     @Override
@@ -31,6 +45,13 @@ public final class PerformanceConditionController implements PerformanceElementC
         return NodeType.CONDITION;
     }
 
+    /**
+     * 构建计划时编译好的表达式，运行期直接求值，避免每次复制配置和重新解析
+     */
+    public CompiledConditionExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
     public ConditionData getConditionData() {
         return PerformancePlanCoreDataCopies.copyConditionData(conditionData);
     }
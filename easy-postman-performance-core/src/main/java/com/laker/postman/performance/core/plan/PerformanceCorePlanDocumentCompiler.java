@@ -2,6 +2,7 @@ package com.laker.postman.performance.core.plan;
 
 import com.laker.postman.performance.core.config.CsvDataSetData;
 import com.laker.postman.performance.core.controller.ConditionData;
+import com.laker.postman.performance.core.controller.ConditionExpressionEvaluator;
 import com.laker.postman.performance.core.controller.LoopData;
 import com.laker.postman.performance.core.controller.WhileData;
 import com.laker.postman.performance.core.model.NodeType;
@@ -129,7 +130,12 @@ public class PerformanceCorePlanDocumentCompiler {
             conditionData = new ConditionData();
         }
         conditionData.normalize();
-        return new PerformanceConditionController(node.getName(), conditionData, compileElements(node));
+        return new PerformanceConditionController(
+                node.getName(),
+                conditionData,
+                ConditionExpressionEvaluator.compile(conditionData.expression),
+                compileElements(node)
+        );
     }
 
     private PerformanceWhileController compileWhile(PerformanceCorePlanNode node) {
@@ -138,7 +144,12 @@ public class PerformanceCorePlanDocumentCompiler {
             whileData = new WhileData();
         }
         whileData.normalize();
-        return new PerformanceWhileController(node.getName(), whileData, compileElements(node));
+        return new PerformanceWhileController(
+                node.getName(),
+                whileData,
+                ConditionExpressionEvaluator.compile(whileData.expression),
+                compileElements(node)
+        );
     }
 
     private PerformanceOnceOnlyController compileOnceOnly(PerformanceCorePlanNode node) {
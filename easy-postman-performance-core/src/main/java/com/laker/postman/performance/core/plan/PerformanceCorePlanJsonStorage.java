@@ -230,6 +230,10 @@ public class PerformanceCorePlanJsonStorage {
         json.put("loops", data.loops);
         json.put("useTime", data.useTime);
         json.put("maxInFlightWaitSeconds", data.maxInFlightWaitSeconds);
+        json.put("http2Multiplexed", data.http2Multiplexed);
+        json.put("http2Connections", data.http2Connections);
+        json.put("http2MaxStreamsPerConnection", data.http2MaxStreamsPerConnection);
+        json.put("asyncSampling", data.asyncSampling);
         json.put("rampUpStartThreads", data.rampUpStartThreads);
         json.put("rampUpEndThreads", data.rampUpEndThreads);
         json.put("rampUpTime", data.rampUpTime);
@@ -338,7 +342,11 @@ public class PerformanceCorePlanJsonStorage {
             return null;
         }
         Map<String, Object> json = new LinkedHashMap<>();
+        json.put("type", data.type);
         json.put("delayMs", data.delayMs);
+        json.put("rangeMs", data.rangeMs);
+        json.put("pacingMs", data.pacingMs);
+        json.put("throughputPerMinute", data.throughputPerMinute);
         return json;
     }
 
@@ -550,6 +558,14 @@ public class PerformanceCorePlanJsonStorage {
                 "maxInFlightWaitSeconds",
                 data.maxInFlightWaitSeconds
         );
+        data.http2Multiplexed = booleanValue(json, "http2Multiplexed", data.http2Multiplexed);
+        data.http2Connections = intValue(json, "http2Connections", data.http2Connections);
+        data.http2MaxStreamsPerConnection = intValue(
+                json,
+                "http2MaxStreamsPerConnection",
+                data.http2MaxStreamsPerConnection
+        );
+        data.asyncSampling = booleanValue(json, "asyncSampling", data.asyncSampling);
         data.rampUpStartThreads = intValue(json, "rampUpStartThreads", data.rampUpStartThreads);
         data.rampUpEndThreads = intValue(json, "rampUpEndThreads", data.rampUpEndThreads);
         data.rampUpTime = intValue(json, "rampUpTime", data.rampUpTime);
@@ -663,7 +679,12 @@ public class PerformanceCorePlanJsonStorage {
             return null;
         }
         TimerData data = new TimerData();
+        data.type = stringValue(json, "type", data.type);
         data.delayMs = intValue(json, "delayMs", data.delayMs);
+        data.rangeMs = intValue(json, "rangeMs", data.rangeMs);
+        data.pacingMs = intValue(json, "pacingMs", data.pacingMs);
+        data.throughputPerMinute = doubleValue(json, "throughputPerMinute", data.throughputPerMinute);
+        data.normalize();
         return data;
     }
 
@@ -775,6 +796,21 @@ public class PerformanceCorePlanJsonStorage {
         return defaultValue;
     }
 
+    private static double doubleValue(Map<String, Object> json, String key, double defaultValue) {
+        Object value = json.get(key);
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException ignored) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
     private static Integer integerObjectValue(Map<String, Object> json, String key) {
         Object value = json.get(key);
         if (value instanceof Number number) {
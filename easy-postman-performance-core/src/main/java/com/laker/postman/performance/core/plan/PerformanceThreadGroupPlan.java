@@ -14,6 +14,7 @@ public final class PerformanceThreadGroupPlan {
     private final CsvDataSetData csvDataSetData;
     private final List<PerformancePlanElement> elements;
     private final int virtualUserIndexOffset;
+    private final int standbyVirtualUserCount;
 
     public PerformanceThreadGroupPlan(String name,
                                       ThreadGroupData threadGroupData,
@@ -33,6 +34,15 @@ public final class PerformanceThreadGroupPlan {
                                       CsvDataSetData csvDataSetData,
                                       List<PerformancePlanElement> elements,
                                       int virtualUserIndexOffset) {
+        this(name, threadGroupData, csvDataSetData, elements, virtualUserIndexOffset, 0);
+    }
+
+    public PerformanceThreadGroupPlan(String name,
+                                      ThreadGroupData threadGroupData,
+                                      CsvDataSetData csvDataSetData,
+                                      List<PerformancePlanElement> elements,
+                                      int virtualUserIndexOffset,
+                                      int standbyVirtualUserCount) {
         this.name = name;
         this.threadGroupData = PerformancePlanCoreDataCopies.copyThreadGroupData(threadGroupData);
         if (this.threadGroupData != null) {
@@ -41,6 +51,7 @@ public final class PerformanceThreadGroupPlan {
         this.csvDataSetData = PerformancePlanCoreDataCopies.copyCsvDataSetData(csvDataSetData);
         this.elements = Collections.unmodifiableList(new ArrayList<>(elements == null ? List.of() : elements));
         this.virtualUserIndexOffset = Math.max(0, virtualUserIndexOffset);
+        this.standbyVirtualUserCount = Math.max(0, standbyVirtualUserCount);
     }
 
     public String getName() {
@@ -67,4 +78,11 @@ public final class PerformanceThreadGroupPlan {
     public int getVirtualUserIndexOffset() {
         return virtualUserIndexOffset;
     }
+
+    /**
+     * 线程组用户数中属于备用用户的部分；运行时按 worker 的用户比例决定其中有多少实际执行。
+     */
+    public int getStandbyVirtualUserCount() {
+        return standbyVirtualUserCount;
+    }
 }
@@ -1,5 +1,7 @@
 package com.laker.postman.performance.core.plan;
 
+import com.laker.postman.performance.core.controller.CompiledConditionExpression;
+import com.laker.postman.performance.core.controller.ConditionExpressionEvaluator;
 import com.laker.postman.performance.core.controller.WhileData;
 import com.laker.postman.performance.core.model.NodeType;
 
@@ -10,9 +12,18 @@ import java.util.List;
 public final class PerformanceWhileController implements PerformanceElementContainer {
     private final String name;
     private final WhileData whileData;
+    private final CompiledConditionExpression compiledExpression;
     private final List<PerformancePlanElement> elements;
 
     public PerformanceWhileController(String name, WhileData whileData, List<PerformancePlanElement> elements) {
+        this(name, whileData, null, elements);
+    }
+
+    /**
+     * @param compiledExpression 预编译的表达式，为 null 时按 WhileData 中的表达式现场编译
+     */
+    public PerformanceWhileController(String name, WhileData whileData, CompiledConditionExpression compiledExpression,
+                                      List<PerformancePlanElement> elements) {
         this.name = name;
         WhileData copiedData = PerformancePlanCoreDataCopies.copyWhileData(whileData);
         if (copiedData == null) {
@@ -21,6 +32,9 @@ public final class PerformanceWhileController implements PerformanceElementConta
         copiedData.normalize();
         this.whileData = copiedData;
         this.elements = Collections.unmodifiableList(new ArrayList<>(elements == null ? List.of() : elements));
+        this.compiledExpression = compiledExpression != null
+                ? compiledExpression
+                : ConditionExpressionEvaluator.compile(this.whileData.expression);
     }
 
     @Override
@@ -33,6 +47,13 @@ public final class PerformanceWhileController implements PerformanceElementConta
         return NodeType.WHILE;
     }
 
+    /**
+     * 构建计划时编译好的表达式，运行期直接求值，避免每次复制配置和重新解析
+     */
+    public CompiledConditionExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
     public WhileData getWhileData() {
         return PerformancePlanCoreDataCopies.copyWhileData(whileData);
     }
@@ -5,6 +5,7 @@ import lombok.Value;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Value
@@ -12,14 +13,32 @@ public class PerformanceJsonReport {
     PerformanceJsonReportMetadata metadata;
     PerformanceJsonReportSummary summary;
     Map<String, PerformanceJsonReportProtocol> protocols;
+    PerformanceJsonReportGenerator generator;
+    List<PerformanceJsonReportThreshold> thresholds;
 
     @Builder
     public PerformanceJsonReport(PerformanceJsonReportMetadata metadata,
                                  PerformanceJsonReportSummary summary,
-                                 Map<String, PerformanceJsonReportProtocol> protocols) {
+                                 Map<String, PerformanceJsonReportProtocol> protocols,
+                                 PerformanceJsonReportGenerator generator,
+                                 List<PerformanceJsonReportThreshold> thresholds) {
         this.metadata = metadata == null ? PerformanceJsonReportMetadata.builder().build() : metadata;
         this.summary = summary == null ? PerformanceJsonReportSummary.builder().build() : summary;
         this.protocols = copyProtocols(protocols);
+        this.generator = generator == null ? PerformanceJsonReportGenerator.builder().build() : generator;
+        this.thresholds = thresholds == null ? List.of() : List.copyOf(thresholds);
+    }
+
+    public PerformanceJsonReport withGenerator(PerformanceJsonReportGenerator generator) {
+        return new PerformanceJsonReport(metadata, summary, protocols, generator, thresholds);
+    }
+
+    public PerformanceJsonReport withThresholds(List<PerformanceJsonReportThreshold> thresholds) {
+        return new PerformanceJsonReport(metadata, summary, protocols, generator, thresholds);
+    }
+
+    public boolean hasFailedThresholds() {
+        return PerformanceJsonReportStatusResolver.hasFailedThresholds(thresholds);
     }
 
     private static Map<String, PerformanceJsonReportProtocol> copyProtocols(
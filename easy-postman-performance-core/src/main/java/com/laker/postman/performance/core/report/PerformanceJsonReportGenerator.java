@@ -0,0 +1,58 @@
+package com.laker.postman.performance.core.report;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 压测机自身负载汇总。samples 为 0 表示没有采样（旧版本 worker 或运行不足一个采样窗口）。
+ * warnings 非空时，报告里的响应时间可能部分来自压测机饱和而不是被测系统。
+ */
+@Value
+public class PerformanceJsonReportGenerator {
+    long samples;
+    double avgCpuPercent;
+    double maxCpuPercent;
+    long gcPauseMs;
+    double maxGcPausePercent;
+    double avgAllocationMbPerSecond;
+    double maxAllocationMbPerSecond;
+    int peakThreadCount;
+    double maxSchedulingLagMs;
+    int peakQueuedHttpCalls;
+    List<String> warnings;
+
+    @Builder
+    public PerformanceJsonReportGenerator(Long samples,
+                                          Double avgCpuPercent,
+                                          Double maxCpuPercent,
+                                          Long gcPauseMs,
+                                          Double maxGcPausePercent,
+                                          Double avgAllocationMbPerSecond,
+                                          Double maxAllocationMbPerSecond,
+                                          Integer peakThreadCount,
+                                          Double maxSchedulingLagMs,
+                                          Integer peakQueuedHttpCalls,
+                                          List<String> warnings) {
+        this.samples = Math.max(0L, samples == null ? 0L : samples);
+        this.avgCpuPercent = finite(avgCpuPercent);
+        this.maxCpuPercent = finite(maxCpuPercent);
+        this.gcPauseMs = Math.max(0L, gcPauseMs == null ? 0L : gcPauseMs);
+        this.maxGcPausePercent = finite(maxGcPausePercent);
+        this.avgAllocationMbPerSecond = finite(avgAllocationMbPerSecond);
+        this.maxAllocationMbPerSecond = finite(maxAllocationMbPerSecond);
+        this.peakThreadCount = Math.max(0, peakThreadCount == null ? 0 : peakThreadCount);
+        this.maxSchedulingLagMs = finite(maxSchedulingLagMs);
+        this.peakQueuedHttpCalls = Math.max(0, peakQueuedHttpCalls == null ? 0 : peakQueuedHttpCalls);
+        this.warnings = warnings == null ? List.of() : List.copyOf(warnings);
+    }
+
+    public boolean hasData() {
+        return samples > 0;
+    }
+
+    private static double finite(Double value) {
+        return value == null || !Double.isFinite(value) ? 0D : value;
+    }
+}
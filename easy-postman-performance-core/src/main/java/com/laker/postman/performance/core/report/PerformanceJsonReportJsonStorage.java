@@ -78,6 +78,12 @@ public class PerformanceJsonReportJsonStorage {
         root.put("error", metadata.getError());
         root.put("summary", summaryToMap(safeReport.getSummary()));
         root.put("protocols", protocolsToMap(safeReport.getProtocols()));
+        if (safeReport.getGenerator().hasData()) {
+            root.put("generator", generatorToMap(safeReport.getGenerator()));
+        }
+        if (!safeReport.getThresholds().isEmpty()) {
+            root.put("thresholds", thresholdsToList(safeReport.getThresholds()));
+        }
         return root;
     }
 
@@ -96,6 +102,8 @@ public class PerformanceJsonReportJsonStorage {
                         .build())
                 .summary(readSummary(objectMap(root.get("summary"))))
                 .protocols(readProtocols(objectMap(root.get("protocols"))))
+                .generator(readGenerator(objectMap(root.get("generator"))))
+                .thresholds(readThresholds(listValue(root.get("thresholds"))))
                 .build();
     }
 
@@ -120,6 +128,94 @@ public class PerformanceJsonReportJsonStorage {
                 .build();
     }
 
+    private Map<String, Object> generatorToMap(PerformanceJsonReportGenerator generator) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("samples", generator.getSamples());
+        json.put("avgCpuPercent", generator.getAvgCpuPercent());
+        json.put("maxCpuPercent", generator.getMaxCpuPercent());
+        json.put("gcPauseMs", generator.getGcPauseMs());
+        json.put("maxGcPausePercent", generator.getMaxGcPausePercent());
+        json.put("avgAllocationMbPerSecond", generator.getAvgAllocationMbPerSecond());
+        json.put("maxAllocationMbPerSecond", generator.getMaxAllocationMbPerSecond());
+        json.put("peakThreadCount", generator.getPeakThreadCount());
+        json.put("maxSchedulingLagMs", generator.getMaxSchedulingLagMs());
+        json.put("peakQueuedHttpCalls", generator.getPeakQueuedHttpCalls());
+        json.put("warnings", generator.getWarnings());
+        return json;
+    }
+
+    private PerformanceJsonReportGenerator readGenerator(Map<String, Object> json) {
+        List<String> warnings = new ArrayList<>();
+        for (Object value : listValue(json.get("warnings"))) {
+            if (value != null) {
+                warnings.add(String.valueOf(value));
+            }
+        }
+        return PerformanceJsonReportGenerator.builder()
+                .samples(longValue(json, "samples", 0))
+                .avgCpuPercent(doubleValue(json, "avgCpuPercent", 0))
+                .maxCpuPercent(doubleValue(json, "maxCpuPercent", 0))
+                .gcPauseMs(longValue(json, "gcPauseMs", 0))
+                .maxGcPausePercent(doubleValue(json, "maxGcPausePercent", 0))
+                .avgAllocationMbPerSecond(doubleValue(json, "avgAllocationMbPerSecond", 0))
+                .maxAllocationMbPerSecond(doubleValue(json, "maxAllocationMbPerSecond", 0))
+                .peakThreadCount((int) longValue(json, "peakThreadCount", 0))
+                .maxSchedulingLagMs(doubleValue(json, "maxSchedulingLagMs", 0))
+                .peakQueuedHttpCalls((int) longValue(json, "peakQueuedHttpCalls", 0))
+                .warnings(warnings)
+                .build();
+    }
+
+    private List<Map<String, Object>> thresholdsToList(List<PerformanceJsonReportThreshold> thresholds) {
+        List<Map<String, Object>> values = new ArrayList<>();
+        for (PerformanceJsonReportThreshold threshold : thresholds) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("name", threshold.getName());
+            json.put("scope", threshold.getScope());
+            json.put("target", threshold.getTarget());
+            json.put("metric", threshold.getMetric());
+            json.put("limit", threshold.getLimit());
+            json.put("windowSeconds", threshold.getWindowSeconds());
+            json.put("abortOnFail", threshold.isAbortOnFail());
+            json.put("status", threshold.getStatus());
+            json.put("evaluations", threshold.getEvaluations());
+            json.put("breaches", threshold.getBreaches());
+            json.put("worstValue", threshold.getWorstValue());
+            json.put("lastValue", threshold.getLastValue());
+            json.put("firstBreachTimeMs", threshold.getFirstBreachTimeMs());
+            json.put("aborted", threshold.isAborted());
+            values.add(json);
+        }
+        return values;
+    }
+
+    private List<PerformanceJsonReportThreshold> readThresholds(List<Object> values) {
+        List<PerformanceJsonReportThreshold> thresholds = new ArrayList<>();
+        for (Object value : values) {
+            Map<String, Object> json = objectMap(value);
+            if (json.isEmpty()) {
+                continue;
+            }
+            thresholds.add(PerformanceJsonReportThreshold.builder()
+                    .name(stringValue(json, "name", ""))
+                    .scope(stringValue(json, "scope", ""))
+                    .target(stringValue(json, "target", ""))
+                    .metric(stringValue(json, "metric", ""))
+                    .limit(doubleValue(json, "limit", 0D))
+                    .windowSeconds((int) longValue(json, "windowSeconds", 0))
+                    .abortOnFail(booleanValue(json, "abortOnFail", false))
+                    .status(stringValue(json, "status", null))
+                    .evaluations(longValue(json, "evaluations", 0))
+                    .breaches(longValue(json, "breaches", 0))
+                    .worstValue(doubleValue(json, "worstValue", 0D))
+                    .lastValue(doubleValue(json, "lastValue", 0D))
+                    .firstBreachTimeMs(longValue(json, "firstBreachTimeMs", 0))
+                    .aborted(booleanValue(json, "aborted", false))
+                    .build());
+        }
+        return thresholds;
+    }
+
     private Map<String, Object> protocolsToMap(Map<String, PerformanceJsonReportProtocol> protocols) {
         Map<String, Object> json = new LinkedHashMap<>();
         if (protocols == null) {
@@ -1,13 +1,17 @@
 package com.laker.postman.performance.core.report;
 
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
 import com.laker.postman.performance.core.model.PerformanceProtocol;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.model.PerformanceReportSnapshot;
 import com.laker.postman.performance.core.model.PerformanceStatsSnapshot;
+import com.laker.postman.performance.core.threshold.PerformanceThreshold;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdResult;
 import lombok.experimental.UtilityClass;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @UtilityClass
@@ -52,6 +56,82 @@ public class PerformanceJsonReportMapper {
                 .build();
     }
 
+    /**
+     * 把压测机负载统计转成报告段落；出现超过阈值的采样窗口时附带告警文案。
+     */
+    public PerformanceJsonReportGenerator toGenerator(PerformanceGeneratorStatistics.Snapshot statistics) {
+        if (statistics == null || statistics.samples() == 0) {
+            return PerformanceJsonReportGenerator.builder().build();
+        }
+        List<String> warnings = new ArrayList<>();
+        if (statistics.cpuWarningSamples() > 0) {
+            warnings.add(String.format(Locale.ROOT,
+                    "Generator process CPU reached %.0f%% in %d of %d samples; response times may include generator saturation",
+                    statistics.maxCpuPercent(), statistics.cpuWarningSamples(), statistics.samples()));
+        }
+        if (statistics.gcWarningSamples() > 0) {
+            warnings.add(String.format(Locale.ROOT,
+                    "Generator GC pauses reached %.0f%% of a sample window in %d of %d samples",
+                    statistics.maxGcPausePercent(), statistics.gcWarningSamples(), statistics.samples()));
+        }
+        if (statistics.schedulingLagWarningSamples() > 0) {
+            warnings.add(String.format(Locale.ROOT,
+                    "Generator scheduling lag reached %.0fms in %d of %d samples",
+                    statistics.maxSchedulingLagMs(), statistics.schedulingLagWarningSamples(), statistics.samples()));
+        }
+        if (statistics.dispatcherQueueWarningSamples() > 0) {
+            warnings.add(String.format(Locale.ROOT,
+                    "OkHttp dispatcher queued up to %d requests in %d of %d samples; raise the dispatcher limits or enable HTTP/2 multiplexing",
+                    statistics.peakQueuedHttpCalls(), statistics.dispatcherQueueWarningSamples(), statistics.samples()));
+        }
+        return PerformanceJsonReportGenerator.builder()
+                .samples(statistics.samples())
+                .avgCpuPercent(statistics.avgCpuPercent())
+                .maxCpuPercent(statistics.maxCpuPercent())
+                .gcPauseMs(statistics.gcPauseMs())
+                .maxGcPausePercent(statistics.maxGcPausePercent())
+                .avgAllocationMbPerSecond(statistics.avgAllocationMbPerSecond())
+                .maxAllocationMbPerSecond(statistics.maxAllocationMbPerSecond())
+                .peakThreadCount(statistics.peakThreadCount())
+                .maxSchedulingLagMs(statistics.maxSchedulingLagMs())
+                .peakQueuedHttpCalls(statistics.peakQueuedHttpCalls())
+                .warnings(warnings)
+                .build();
+    }
+
+    /**
+     * 把阈值判定结果转成报告段落，顺序与计划里声明的顺序一致。
+     */
+    public List<PerformanceJsonReportThreshold> toThresholds(List<PerformanceThresholdResult> results) {
+        List<PerformanceJsonReportThreshold> thresholds = new ArrayList<>();
+        if (results == null) {
+            return thresholds;
+        }
+        for (PerformanceThresholdResult result : results) {
+            if (result == null) {
+                continue;
+            }
+            PerformanceThreshold threshold = result.getThreshold();
+            thresholds.add(PerformanceJsonReportThreshold.builder()
+                    .name(threshold.getName())
+                    .scope(threshold.getScope().name())
+                    .target(threshold.getTarget())
+                    .metric(threshold.getMetric().name())
+                    .limit(threshold.getLimit())
+                    .windowSeconds(threshold.getWindowSeconds())
+                    .abortOnFail(threshold.isAbortOnFail())
+                    .status(result.getStatus())
+                    .evaluations(result.getEvaluations())
+                    .breaches(result.getBreaches())
+                    .worstValue(result.getWorstValue())
+                    .lastValue(result.getLastValue())
+                    .firstBreachTimeMs(result.getFirstBreachTimeMs())
+                    .aborted(result.isAborted())
+                    .build());
+        }
+        return thresholds;
+    }
+
     private boolean hasLiveStreamData(PerformanceRealtimeMetrics.LiveSnapshot liveSnapshot) {
         if (liveSnapshot == null) {
             return false;
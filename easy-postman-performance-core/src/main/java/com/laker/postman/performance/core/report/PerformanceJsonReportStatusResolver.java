@@ -3,6 +3,8 @@ package com.laker.postman.performance.core.report;
 import com.laker.postman.performance.core.run.PerformanceRunStatus;
 import lombok.experimental.UtilityClass;
 
+import java.util.List;
+
 @UtilityClass
 public class PerformanceJsonReportStatusResolver {
     private static final String REQUEST_FAILURES_PREFIX = "Request failures: ";
@@ -22,6 +24,25 @@ public class PerformanceJsonReportStatusResolver {
         return hasText(requestedStatus) ? requestedStatus : PerformanceRunStatus.SUCCESS;
     }
 
+    /**
+     * 在 {@link #resolve(String, boolean, String, PerformanceJsonReportSummary)} 的基础上，任一 SLA 阈值越线即判定为 FAILED，
+     * 即使压测是被阈值中止而不是正常跑完。
+     */
+    public String resolve(String requestedStatus,
+                          boolean stopped,
+                          String error,
+                          PerformanceJsonReportSummary summary,
+                          List<PerformanceJsonReportThreshold> thresholds) {
+        if (hasFailedThresholds(thresholds)) {
+            return PerformanceRunStatus.FAILED;
+        }
+        return resolve(requestedStatus, stopped, error, summary);
+    }
+
+    public boolean hasFailedThresholds(List<PerformanceJsonReportThreshold> thresholds) {
+        return thresholds != null && thresholds.stream().anyMatch(PerformanceJsonReportThreshold::isFailed);
+    }
+
     public String withFailureSummary(String error, PerformanceJsonReportSummary summary) {
         if (hasText(error) || !hasRequestFailures(summary)) {
             return error;
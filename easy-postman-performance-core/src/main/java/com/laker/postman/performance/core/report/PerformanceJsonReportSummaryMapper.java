@@ -2,6 +2,7 @@ package com.laker.postman.performance.core.report;
 
 import com.laker.postman.performance.core.model.PerformanceProtocol;
 import com.laker.postman.performance.core.run.PerformanceRunStatus;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdResult;
 import lombok.experimental.UtilityClass;
 
 import java.util.ArrayList;
@@ -29,6 +30,18 @@ public class PerformanceJsonReportSummaryMapper {
                                        String status,
                                        String planPath,
                                        List<PerformanceJsonReport> reports) {
+        return merge(runId, source, status, planPath, reports, List.of());
+    }
+
+    /**
+     * @param masterThresholds master 自己判定的阈值（分布式运行的 RPS 下限），追加在 worker 阈值之后并参与最终状态判定
+     */
+    public PerformanceJsonReport merge(String runId,
+                                       String source,
+                                       String status,
+                                       String planPath,
+                                       List<PerformanceJsonReport> reports,
+                                       List<PerformanceJsonReportThreshold> masterThresholds) {
         long total = 0;
         long success = 0;
         long failed = 0;
@@ -64,6 +77,10 @@ public class PerformanceJsonReportSummaryMapper {
                 }
             }
         }
+        List<PerformanceJsonReportThreshold> thresholds = mergeThresholds(reports);
+        if (masterThresholds != null && !masterThresholds.isEmpty()) {
+            thresholds.addAll(masterThresholds);
+        }
         String resolvedStatus = PerformanceJsonReportStatusResolver.resolve(
                 status,
                 stopped,
@@ -72,7 +89,8 @@ public class PerformanceJsonReportSummaryMapper {
                         .totalRequests(total)
                         .successRequests(success)
                         .failedRequests(failed)
-                        .build()
+                        .build(),
+                thresholds
         );
         return PerformanceJsonReport.builder()
                 .metadata(PerformanceJsonReportMetadata.builder()
@@ -90,6 +108,133 @@ public class PerformanceJsonReportSummaryMapper {
                         .successRequests(success)
                         .build())
                 .protocols(mergeProtocols(reports))
+                .generator(mergeGenerators(reports))
+                .thresholds(thresholds)
+                .build();
+    }
+
+    /**
+     * 按名称、范围、目标、指标和窗口合并各 worker 的阈值结果：任一 worker 越线即整体越线，取各 worker 的最差值。
+     * worker 上只判定延迟和错误率这类与规模无关的上限，RPS 下限由 master 按整体吞吐判定。
+     */
+    private List<PerformanceJsonReportThreshold> mergeThresholds(List<PerformanceJsonReport> reports) {
+        Map<String, List<PerformanceJsonReportThreshold>> grouped = new LinkedHashMap<>();
+        if (reports != null) {
+            for (PerformanceJsonReport report : reports) {
+                if (report == null) {
+                    continue;
+                }
+                for (PerformanceJsonReportThreshold threshold : report.getThresholds()) {
+                    String key = threshold.getName() + "|" + threshold.getScope() + "|" + threshold.getTarget()
+                            + "|" + threshold.getMetric() + "|" + threshold.getWindowSeconds();
+                    grouped.computeIfAbsent(key, ignored -> new ArrayList<>()).add(threshold);
+                }
+            }
+        }
+        List<PerformanceJsonReportThreshold> merged = new ArrayList<>();
+        for (List<PerformanceJsonReportThreshold> group : grouped.values()) {
+            merged.add(mergeThreshold(group));
+        }
+        return merged;
+    }
+
+    private PerformanceJsonReportThreshold mergeThreshold(List<PerformanceJsonReportThreshold> group) {
+        PerformanceJsonReportThreshold first = group.get(0);
+        double limit = 0;
+        double worst = 0;
+        double last = 0;
+        long evaluations = 0;
+        long breaches = 0;
+        long firstBreach = 0;
+        boolean abortOnFail = false;
+        boolean aborted = false;
+        boolean anyFailed = false;
+        boolean anyPassed = false;
+        for (PerformanceJsonReportThreshold threshold : group) {
+            limit = Math.max(limit, threshold.getLimit());
+            worst = Math.max(worst, threshold.getWorstValue());
+            last = Math.max(last, threshold.getLastValue());
+            evaluations += threshold.getEvaluations();
+            breaches += threshold.getBreaches();
+            if (threshold.getFirstBreachTimeMs() > 0 && (firstBreach == 0 || threshold.getFirstBreachTimeMs() < firstBreach)) {
+                firstBreach = threshold.getFirstBreachTimeMs();
+            }
+            abortOnFail = abortOnFail || threshold.isAbortOnFail();
+            aborted = aborted || threshold.isAborted();
+            anyFailed = anyFailed || threshold.isFailed();
+            anyPassed = anyPassed || PerformanceThresholdResult.PASSED.equals(threshold.getStatus());
+        }
+        String status = anyFailed
+                ? PerformanceThresholdResult.FAILED
+                : anyPassed ? PerformanceThresholdResult.PASSED : PerformanceThresholdResult.NO_DATA;
+        return PerformanceJsonReportThreshold.builder()
+                .name(first.getName())
+                .scope(first.getScope())
+                .target(first.getTarget())
+                .metric(first.getMetric())
+                .limit(limit)
+                .windowSeconds(first.getWindowSeconds())
+                .abortOnFail(abortOnFail)
+                .status(status)
+                .evaluations(evaluations)
+                .breaches(breaches)
+                .worstValue(worst)
+                .lastValue(last)
+                .firstBreachTimeMs(firstBreach)
+                .aborted(aborted)
+                .build();
+    }
+
+    /**
+     * 多台 worker 的压测机负载：CPU、GC 和调度延迟取最差值，平均值按样本数加权，分配速率和线程数求和；
+     * 告警保留来源前缀，便于定位是哪台压测机饱和。
+     */
+    private PerformanceJsonReportGenerator mergeGenerators(List<PerformanceJsonReport> reports) {
+        long samples = 0;
+        double cpuTotal = 0;
+        double maxCpu = 0;
+        long gcPauseMs = 0;
+        double maxGcPause = 0;
+        double avgAllocation = 0;
+        double maxAllocation = 0;
+        int threads = 0;
+        double maxLag = 0;
+        int queuedCalls = 0;
+        List<String> warnings = new ArrayList<>();
+        if (reports != null) {
+            for (PerformanceJsonReport report : reports) {
+                if (report == null || !report.getGenerator().hasData()) {
+                    continue;
+                }
+                PerformanceJsonReportGenerator generator = report.getGenerator();
+                samples += generator.getSamples();
+                cpuTotal += generator.getAvgCpuPercent() * generator.getSamples();
+                maxCpu = Math.max(maxCpu, generator.getMaxCpuPercent());
+                gcPauseMs += generator.getGcPauseMs();
+                maxGcPause = Math.max(maxGcPause, generator.getMaxGcPausePercent());
+                avgAllocation += generator.getAvgAllocationMbPerSecond();
+                maxAllocation += generator.getMaxAllocationMbPerSecond();
+                threads += generator.getPeakThreadCount();
+                maxLag = Math.max(maxLag, generator.getMaxSchedulingLagMs());
+                queuedCalls += generator.getPeakQueuedHttpCalls();
+                String source = report.getMetadata() == null ? "" : report.getMetadata().getSource();
+                for (String warning : generator.getWarnings()) {
+                    warnings.add(source == null || source.isBlank() ? warning : source + ": " + warning);
+                }
+            }
+        }
+        return PerformanceJsonReportGenerator.builder()
+                .samples(samples)
+                .avgCpuPercent(samples == 0 ? 0D : cpuTotal / samples)
+                .maxCpuPercent(maxCpu)
+                .gcPauseMs(gcPauseMs)
+                .maxGcPausePercent(maxGcPause)
+                .avgAllocationMbPerSecond(avgAllocation)
+                .maxAllocationMbPerSecond(maxAllocation)
+                .peakThreadCount(threads)
+                .maxSchedulingLagMs(maxLag)
+                .peakQueuedHttpCalls(queuedCalls)
+                .warnings(warnings)
                 .build();
     }
 
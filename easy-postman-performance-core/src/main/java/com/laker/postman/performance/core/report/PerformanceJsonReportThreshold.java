@@ -0,0 +1,66 @@
+package com.laker.postman.performance.core.report;
+
+import com.laker.postman.performance.core.threshold.PerformanceThresholdResult;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 报告里的 SLA 阈值判定结果。status 为 PASSED / FAILED / NO_DATA；没有可判定窗口时 worstValue、lastValue 为 0。
+ * 分布式运行时 worker 报告里没有 RPS 下限，master 按整体吞吐判定后追加到合并报告里。
+ */
+@Value
+public class PerformanceJsonReportThreshold {
+    String name;
+    String scope;
+    String target;
+    String metric;
+    double limit;
+    int windowSeconds;
+    boolean abortOnFail;
+    String status;
+    long evaluations;
+    long breaches;
+    double worstValue;
+    double lastValue;
+    long firstBreachTimeMs;
+    boolean aborted;
+
+    @Builder
+    public PerformanceJsonReportThreshold(String name,
+                                          String scope,
+                                          String target,
+                                          String metric,
+                                          Double limit,
+                                          Integer windowSeconds,
+                                          Boolean abortOnFail,
+                                          String status,
+                                          Long evaluations,
+                                          Long breaches,
+                                          Double worstValue,
+                                          Double lastValue,
+                                          Long firstBreachTimeMs,
+                                          Boolean aborted) {
+        this.name = name == null ? "" : name;
+        this.scope = scope == null ? "" : scope;
+        this.target = target == null ? "" : target;
+        this.metric = metric == null ? "" : metric;
+        this.limit = finite(limit);
+        this.windowSeconds = Math.max(0, windowSeconds == null ? 0 : windowSeconds);
+        this.abortOnFail = abortOnFail != null && abortOnFail;
+        this.status = status == null || status.isBlank() ? PerformanceThresholdResult.NO_DATA : status;
+        this.evaluations = Math.max(0L, evaluations == null ? 0L : evaluations);
+        this.breaches = Math.max(0L, breaches == null ? 0L : breaches);
+        this.worstValue = finite(worstValue);
+        this.lastValue = finite(lastValue);
+        this.firstBreachTimeMs = Math.max(0L, firstBreachTimeMs == null ? 0L : firstBreachTimeMs);
+        this.aborted = aborted != null && aborted;
+    }
+
+    public boolean isFailed() {
+        return PerformanceThresholdResult.FAILED.equals(status);
+    }
+
+    private static double finite(Double value) {
+        return value == null || !Double.isFinite(value) ? 0D : value;
+    }
+}
@@ -2,6 +2,7 @@ package com.laker.postman.performance.core.run;
 
 import com.laker.postman.performance.core.plan.PerformanceCorePlanDocument;
 import com.laker.postman.performance.core.plan.PerformanceCorePlanDocumentSanitizer;
+import com.laker.postman.performance.core.threshold.PerformanceThreshold;
 import lombok.Builder;
 import lombok.Value;
 
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Value
 public class PerformanceRunPlan {
@@ -22,6 +24,7 @@ public class PerformanceRunPlan {
     PerformanceRunSettings settings;
     PerformanceCorePlanDocument testPlan;
     List<PerformanceRunAsset> assets;
+    List<PerformanceThreshold> thresholds;
 
     @Builder
     public PerformanceRunPlan(String schemaVersion,
@@ -31,7 +34,8 @@ public class PerformanceRunPlan {
                               PerformanceRunVariableSet globals,
                               PerformanceRunSettings settings,
                               PerformanceCorePlanDocument testPlan,
-                              List<PerformanceRunAsset> assets) {
+                              List<PerformanceRunAsset> assets,
+                              List<PerformanceThreshold> thresholds) {
         this.schemaVersion = schemaVersion == null || schemaVersion.isBlank()
                 ? PerformanceRunPlanJsonStorage.FORMAT_VERSION
                 : schemaVersion;
@@ -45,6 +49,9 @@ public class PerformanceRunPlan {
         this.settings = settings == null ? PerformanceRunSettings.defaults() : settings;
         this.testPlan = executableTestPlan;
         this.assets = sanitizeAssets(assets, executableTestPlan);
+        this.thresholds = thresholds == null
+                ? List.of()
+                : thresholds.stream().filter(Objects::nonNull).toList();
     }
 
     private static PerformanceRunEnvironment sanitizeEnvironment(PerformanceRunEnvironment environment) {
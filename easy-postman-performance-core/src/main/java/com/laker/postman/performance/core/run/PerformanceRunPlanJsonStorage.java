@@ -2,6 +2,9 @@ package com.laker.postman.performance.core.run;
 
 import com.laker.postman.performance.core.plan.PerformanceCorePlanDocument;
 import com.laker.postman.performance.core.plan.PerformanceCorePlanJsonStorage;
+import com.laker.postman.performance.core.threshold.PerformanceThreshold;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdMetric;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdScope;
 import com.laker.postman.util.JsonUtil;
 
 import java.io.IOException;
@@ -54,6 +57,7 @@ public class PerformanceRunPlanJsonStorage {
                 .settings(readSettings(objectMap(root.get("settings"))))
                 .testPlan(readTestPlan(objectMap(root.get("testPlan"))))
                 .assets(readAssets(listValue(root.get("assets"))))
+                .thresholds(readThresholds(listValue(root.get("thresholds"))))
                 .build();
     }
 
@@ -68,6 +72,9 @@ public class PerformanceRunPlanJsonStorage {
         root.put("settings", settingsToMap(safePlan.getSettings()));
         root.put("testPlan", planJsonStorage.toDocumentMap(safePlan.getTestPlan()));
         root.put("assets", assetsToList(safePlan.getAssets()));
+        if (!safePlan.getThresholds().isEmpty()) {
+            root.put("thresholds", thresholdsToList(safePlan.getThresholds()));
+        }
         return root;
     }
 
@@ -113,6 +120,9 @@ public class PerformanceRunPlanJsonStorage {
         json.put("httpKeepAliveSeconds", safeSettings.getHttpKeepAliveSeconds());
         json.put("httpMaxRequests", safeSettings.getHttpMaxRequests());
         json.put("httpMaxRequestsPerHost", safeSettings.getHttpMaxRequestsPerHost());
+        json.put("httpDnsMode", safeSettings.getHttpDnsMode());
+        json.put("httpDnsCacheTtlSeconds", safeSettings.getHttpDnsCacheTtlSeconds());
+        json.put("httpDnsHostOverrides", safeSettings.getHttpDnsHostOverrides());
         return json;
     }
 
@@ -135,6 +145,23 @@ public class PerformanceRunPlanJsonStorage {
         return array;
     }
 
+    private List<Map<String, Object>> thresholdsToList(List<PerformanceThreshold> thresholds) {
+        List<Map<String, Object>> array = new ArrayList<>();
+        for (PerformanceThreshold threshold : thresholds) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("name", threshold.getName());
+            json.put("scope", threshold.getScope().name());
+            json.put("target", threshold.getTarget());
+            json.put("metric", threshold.getMetric().name());
+            json.put("limit", threshold.getLimit());
+            json.put("windowSeconds", threshold.getWindowSeconds());
+            json.put("graceSeconds", threshold.getGraceSeconds());
+            json.put("abortOnFail", threshold.isAbortOnFail());
+            array.add(json);
+        }
+        return array;
+    }
+
     private PerformanceRunEnvironment readEnvironment(Map<String, Object> json) {
         if (json == null || json.isEmpty()) {
             return PerformanceRunEnvironment.empty();
@@ -160,6 +187,9 @@ public class PerformanceRunPlanJsonStorage {
                         PerformanceRunSettings.DEFAULT_HTTP_MAX_REQUESTS))
                 .httpMaxRequestsPerHost(intValue(json, "httpMaxRequestsPerHost",
                         PerformanceRunSettings.DEFAULT_HTTP_MAX_REQUESTS_PER_HOST))
+                .httpDnsMode(stringValue(json, "httpDnsMode", PerformanceRunSettings.DEFAULT_HTTP_DNS_MODE))
+                .httpDnsCacheTtlSeconds(longValue(json, "httpDnsCacheTtlSeconds", 0L))
+                .httpDnsHostOverrides(stringValue(json, "httpDnsHostOverrides", ""))
                 .build();
     }
 
@@ -198,6 +228,29 @@ public class PerformanceRunPlanJsonStorage {
         return assets;
     }
 
+    private List<PerformanceThreshold> readThresholds(List<Object> values) {
+        List<PerformanceThreshold> thresholds = new ArrayList<>();
+        for (Object value : values) {
+            Map<String, Object> json = objectMap(value);
+            PerformanceThresholdMetric metric = PerformanceThresholdMetric.parse(stringValue(json, "metric", null));
+            if (metric == null) {
+                // 未知指标可能来自更新版本的计划文件，忽略比静默换成默认指标更安全
+                continue;
+            }
+            thresholds.add(PerformanceThreshold.builder()
+                    .name(stringValue(json, "name", null))
+                    .scope(PerformanceThresholdScope.parse(stringValue(json, "scope", null)))
+                    .target(stringValue(json, "target", ""))
+                    .metric(metric)
+                    .limit(doubleValue(json, "limit", 0D))
+                    .windowSeconds(intValue(json, "windowSeconds", PerformanceThreshold.DEFAULT_WINDOW_SECONDS))
+                    .graceSeconds(intValue(json, "graceSeconds", 0))
+                    .abortOnFail(booleanValue(json, "abortOnFail", false))
+                    .build());
+        }
+        return thresholds;
+    }
+
     @SuppressWarnings("unchecked")
     private Map<String, Object> objectMap(Object value) {
         if (value instanceof Map<?, ?> map) {
@@ -263,4 +316,19 @@ public class PerformanceRunPlanJsonStorage {
         }
         return defaultValue;
     }
+
+    private double doubleValue(Map<String, Object> json, String key, double defaultValue) {
+        Object value = json.get(key);
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException ignored) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
 }
@@ -9,24 +9,43 @@ public class PerformanceRunSettings {
     public static final long DEFAULT_HTTP_KEEP_ALIVE_SECONDS = 60L;
     public static final int DEFAULT_HTTP_MAX_REQUESTS = 1000;
     public static final int DEFAULT_HTTP_MAX_REQUESTS_PER_HOST = 1000;
+    public static final String DEFAULT_HTTP_DNS_MODE = "SYSTEM";
 
     boolean efficientMode;
     int httpMaxIdleConnections;
     long httpKeepAliveSeconds;
     int httpMaxRequests;
     int httpMaxRequestsPerHost;
+    /**
+     * 域名解析模式名，取值见 HTTP 运行时的 HttpDnsSettings.Mode，未知值按系统解析处理
+     */
+    String httpDnsMode;
+    /**
+     * 解析结果缓存秒数，0 表示沿用 JVM 的 networkaddress.cache.ttl
+     */
+    long httpDnsCacheTtlSeconds;
+    /**
+     * hosts 风格的静态映射文本，空串表示不覆盖
+     */
+    String httpDnsHostOverrides;
 
     @Builder
     public PerformanceRunSettings(Boolean efficientMode,
                                   Integer httpMaxIdleConnections,
                                   Long httpKeepAliveSeconds,
                                   Integer httpMaxRequests,
-                                  Integer httpMaxRequestsPerHost) {
+                                  Integer httpMaxRequestsPerHost,
+                                  String httpDnsMode,
+                                  Long httpDnsCacheTtlSeconds,
+                                  String httpDnsHostOverrides) {
         this.efficientMode = efficientMode == null || efficientMode;
         this.httpMaxIdleConnections = positive(httpMaxIdleConnections, DEFAULT_HTTP_MAX_IDLE_CONNECTIONS);
         this.httpKeepAliveSeconds = positive(httpKeepAliveSeconds, DEFAULT_HTTP_KEEP_ALIVE_SECONDS);
         this.httpMaxRequests = positive(httpMaxRequests, DEFAULT_HTTP_MAX_REQUESTS);
         this.httpMaxRequestsPerHost = positive(httpMaxRequestsPerHost, DEFAULT_HTTP_MAX_REQUESTS_PER_HOST);
+        this.httpDnsMode = httpDnsMode == null || httpDnsMode.isBlank() ? DEFAULT_HTTP_DNS_MODE : httpDnsMode.trim();
+        this.httpDnsCacheTtlSeconds = httpDnsCacheTtlSeconds == null ? 0L : Math.max(0L, httpDnsCacheTtlSeconds);
+        this.httpDnsHostOverrides = httpDnsHostOverrides == null ? "" : httpDnsHostOverrides;
     }
 
     public static PerformanceRunSettings defaults() {
@@ -0,0 +1,308 @@
+package com.laker.postman.performance.core.runtime;
+
+import com.laker.postman.performance.core.controller.WhileData;
+import com.laker.postman.performance.core.plan.PerformanceConditionController;
+import com.laker.postman.performance.core.plan.PerformanceController;
+import com.laker.postman.performance.core.plan.PerformanceOnceOnlyController;
+import com.laker.postman.performance.core.plan.PerformancePlanElement;
+import com.laker.postman.performance.core.plan.PerformanceSampler;
+import com.laker.postman.performance.core.plan.PerformanceThreadGroupPlan;
+import com.laker.postman.performance.core.plan.PerformanceTimerElement;
+import com.laker.postman.performance.core.plan.PerformanceWhileController;
+import com.laker.postman.performance.core.timer.PerformanceThinkTime;
+import com.laker.postman.performance.core.timer.PerformanceTimerStatistics;
+import com.laker.postman.performance.core.timer.TimerData;
+import com.laker.postman.performance.core.timer.TimerType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 线程组的扁平执行程序。
+ * <p>
+ * 由 {@link #compile(PerformanceThreadGroupPlan, PerformanceTimerStatistics)} 把计划树降级为一维指令数组：
+ * 控制器变成带跳转目标的指令，作用域定时器在编译期合并成每个取样器自己的思考时间数组，
+ * 节奏定时器变成包住所在容器每一轮的 PACE_START/PACE_END，
+ * While 的间隔、超时和最大次数也在编译期取好。虚拟用户每次迭代只需顺序解释数组，
+ * 不再递归遍历、不再按类型分派、不再复制控制器配置。
+ * </p>
+ * <p>
+ * 程序不可变，可在同一线程组的所有虚拟用户间共享；循环计数、While 截止时间等运行期状态
+ * 放在每次迭代单独分配的槽位数组里，由 {@link #slotCount()} 给出大小。
+ * </p>
+ */
+final class PerformanceCoreExecutableProgram {
+    /**
+     * 先按 timers 依次取样等待时间并 sleep，再执行取样器
+     */
+    static final int SAMPLE = 0;
+    /**
+     * 条件为假时跳到 target
+     */
+    static final int CONDITION = 1;
+    /**
+     * 仅一次控制器已执行过时跳到 target
+     */
+    static final int ONCE_ONLY = 2;
+    /**
+     * 把 slot 的循环计数清零
+     */
+    static final int LOOP_INIT = 3;
+    /**
+     * 计数达到 count 时跳到 target，否则计数加一进入循环体
+     */
+    static final int LOOP_TEST = 4;
+    /**
+     * 重置 slot 的 While 次数并计算截止时间
+     */
+    static final int WHILE_INIT = 5;
+    /**
+     * While 进入循环体前的检查：次数、截止时间、条件，任一不满足跳到 target
+     */
+    static final int WHILE_TEST = 6;
+    /**
+     * While 循环体结束后的检查与间隔等待，需要继续时跳回 target（即 WHILE_TEST），否则落到下一条指令退出循环
+     */
+    static final int WHILE_NEXT = 7;
+    /**
+     * 无条件跳到 target
+     */
+    static final int JUMP = 8;
+    /**
+     * 记录 slot 所在容器本轮的开始时间
+     */
+    static final int PACE_START = 9;
+    /**
+     * 本轮耗时不足 count 毫秒时补足等待，超过时记一次节奏 miss
+     */
+    static final int PACE_END = 10;
+
+    private static final PerformanceThinkTime[] NO_TIMERS = new PerformanceThinkTime[0];
+
+    private final String groupName;
+    private final Instruction[] instructions;
+    private final int slotCount;
+
+    private PerformanceCoreExecutableProgram(String groupName, Instruction[] instructions, int slotCount) {
+        this.groupName = groupName;
+        this.instructions = instructions;
+        this.slotCount = slotCount;
+    }
+
+    static PerformanceCoreExecutableProgram compile(PerformanceThreadGroupPlan groupPlan) {
+        return compile(groupPlan, new PerformanceTimerStatistics());
+    }
+
+    /**
+     * @param timerStatistics 吞吐量定时器的节拍器在编译期创建，落后节拍的统计写到这里
+     */
+    static PerformanceCoreExecutableProgram compile(PerformanceThreadGroupPlan groupPlan,
+                                                    PerformanceTimerStatistics timerStatistics) {
+        Compiler compiler = new Compiler(timerStatistics);
+        compiler.emitElements(groupPlan.getElements(), NO_TIMERS);
+        return new PerformanceCoreExecutableProgram(
+                groupPlan.getName(),
+                compiler.instructions.toArray(Instruction[]::new),
+                compiler.slotCount
+        );
+    }
+
+    String getGroupName() {
+        return groupName;
+    }
+
+    int size() {
+        return instructions.length;
+    }
+
+    Instruction instruction(int index) {
+        return instructions[index];
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    /**
+     * 一条指令。字段含义随 opcode 变化，未使用的字段为 0 或 null：
+     * <ul>
+     *     <li>element：取样器、条件/仅一次/While 控制器本身，交给回调使用</li>
+     *     <li>slot：循环或 While 的运行期状态槽位</li>
+     *     <li>target：跳转目标下标</li>
+     *     <li>count：循环次数、While 最大次数或节奏目标毫秒数</li>
+     *     <li>timers：取样器前需要依次等待的思考时间（已过滤掉不产生等待的定时器）</li>
+     *     <li>intervalMs / timeoutMs：While 的轮询间隔与超时</li>
+     * </ul>
+     */
+    record Instruction(int opcode,
+                       PerformancePlanElement element,
+                       int slot,
+                       int target,
+                       int count,
+                       PerformanceThinkTime[] timers,
+                       long intervalMs,
+                       long timeoutMs) {
+    }
+
+    private static final class Compiler {
+        private final List<Instruction> instructions = new ArrayList<>();
+        private final PerformanceTimerStatistics timerStatistics;
+        /**
+         * 同一个吞吐量定时器节点可能作用于多个取样器，按节点共用一个节拍器
+         */
+        private final Map<PerformanceTimerElement, PerformanceThinkTime> shapers = new IdentityHashMap<>();
+        private int slotCount;
+
+        private Compiler(PerformanceTimerStatistics timerStatistics) {
+            this.timerStatistics = timerStatistics;
+        }
+
+        /**
+         * @param inheritedTimers 外层容器直接子节点中的定时器，作用于本层所有取样器
+         */
+        private void emitElements(List<PerformancePlanElement> elements, PerformanceThinkTime[] inheritedTimers) {
+            if (elements == null || elements.isEmpty()) {
+                return;
+            }
+            PerformanceThinkTime[] scopedTimers = concat(inheritedTimers, directTimers(elements));
+            int pacingMs = directPacingMs(elements);
+            int paceSlot = -1;
+            if (pacingMs >= 0) {
+                paceSlot = slotCount++;
+                emit(new Instruction(PACE_START, null, paceSlot, 0, 0, null, 0L, 0L));
+            }
+            for (PerformancePlanElement element : elements) {
+                emitElement(element, scopedTimers);
+            }
+            if (paceSlot >= 0) {
+                emit(new Instruction(PACE_END, null, paceSlot, 0, pacingMs, null, 0L, 0L));
+            }
+        }
+
+        private void emitElement(PerformancePlanElement element, PerformanceThinkTime[] scopedTimers) {
+            if (element instanceof PerformanceController controller) {
+                emitLoop(controller.getIterationCount(), controller.getElements(), scopedTimers);
+            } else if (element instanceof PerformanceConditionController conditionController) {
+                emitGuarded(CONDITION, conditionController, conditionController.getElements(), scopedTimers);
+            } else if (element instanceof PerformanceWhileController whileController) {
+                emitWhile(whileController, scopedTimers);
+            } else if (element instanceof PerformanceOnceOnlyController onceOnlyController) {
+                emitGuarded(ONCE_ONLY, onceOnlyController, onceOnlyController.getElements(), scopedTimers);
+            } else if (element instanceof PerformanceSampler sampler) {
+                PerformanceThinkTime[] timers = sampler.executesChildrenInSamplerOrder()
+                        ? scopedTimers
+                        : concat(scopedTimers, directTimers(sampler.getChildren()));
+                emit(new Instruction(SAMPLE, sampler, 0, 0, 0, timers, 0L, 0L));
+            }
+            // 定时器在所属作用域的取样器上生效；断言、提取器等由取样器自己处理，这里不生成指令
+        }
+
+        private void emitLoop(int iterations, List<PerformancePlanElement> body, PerformanceThinkTime[] scopedTimers) {
+            if (iterations <= 0) {
+                return;
+            }
+            if (iterations == 1) {
+                // 简单控制器或单次循环直接内联，不需要计数槽位
+                emitElements(body, scopedTimers);
+                return;
+            }
+            int slot = slotCount++;
+            emit(new Instruction(LOOP_INIT, null, slot, 0, 0, null, 0L, 0L));
+            int test = emit(null);
+            emitElements(body, scopedTimers);
+            emit(new Instruction(JUMP, null, 0, test, 0, null, 0L, 0L));
+            patch(test, new Instruction(LOOP_TEST, null, slot, instructions.size(), iterations, null, 0L, 0L));
+        }
+
+        private void emitGuarded(int opcode,
+                                 PerformancePlanElement controller,
+                                 List<PerformancePlanElement> body,
+                                 PerformanceThinkTime[] scopedTimers) {
+            int guard = emit(null);
+            emitElements(body, scopedTimers);
+            patch(guard, new Instruction(opcode, controller, 0, instructions.size(), 0, null, 0L, 0L));
+        }
+
+        private void emitWhile(PerformanceWhileController whileController, PerformanceThinkTime[] scopedTimers) {
+            WhileData whileData = whileController.getWhileData();
+            if (whileData == null) {
+                whileData = new WhileData();
+            }
+            whileData.normalize();
+            int slot = slotCount++;
+            emit(new Instruction(WHILE_INIT, whileController, slot, 0, 0, null, 0L, whileData.timeoutMs));
+            int test = emit(null);
+            emitElements(whileController.getElements(), scopedTimers);
+            emit(new Instruction(WHILE_NEXT, whileController, slot, test,
+                    whileData.maxIterations, null, whileData.intervalMs, whileData.timeoutMs));
+            patch(test, new Instruction(WHILE_TEST, whileController, slot, instructions.size(),
+                    whileData.maxIterations, null, whileData.intervalMs, whileData.timeoutMs));
+        }
+
+        private int emit(Instruction instruction) {
+            instructions.add(instruction);
+            return instructions.size() - 1;
+        }
+
+        private void patch(int index, Instruction instruction) {
+            instructions.set(index, instruction);
+        }
+
+        private PerformanceThinkTime[] directTimers(List<PerformancePlanElement> elements) {
+            if (elements == null || elements.isEmpty()) {
+                return NO_TIMERS;
+            }
+            List<PerformanceThinkTime> timers = new ArrayList<>();
+            for (PerformancePlanElement element : elements) {
+                if (!(element instanceof PerformanceTimerElement timerElement)) {
+                    continue;
+                }
+                TimerData timerData = timerElement.getTimerData();
+                if (timerData == null) {
+                    continue;
+                }
+                timerData.normalize();
+                PerformanceThinkTime timer = timerData.timerType() == TimerType.CONSTANT_THROUGHPUT
+                        ? shapers.computeIfAbsent(timerElement, ignored ->
+                        new PerformanceCoreThroughputShaper(timerData.throughputPerMinute, timerStatistics))
+                        : PerformanceThinkTime.of(timerData);
+                if (timer != PerformanceThinkTime.NONE) {
+                    timers.add(timer);
+                }
+            }
+            return timers.isEmpty() ? NO_TIMERS : timers.toArray(PerformanceThinkTime[]::new);
+        }
+
+        /**
+         * 容器直接子节点中节奏定时器的目标耗时，多个时取最大值；没有时返回 -1
+         */
+        private static int directPacingMs(List<PerformancePlanElement> elements) {
+            int pacingMs = -1;
+            for (PerformancePlanElement element : elements) {
+                if (element instanceof PerformanceTimerElement timerElement) {
+                    TimerData timerData = timerElement.getTimerData();
+                    if (timerData != null && timerData.timerType().isPacing()) {
+                        timerData.normalize();
+                        pacingMs = Math.max(pacingMs, timerData.pacingMs);
+                    }
+                }
+            }
+            return pacingMs;
+        }
+
+        private static PerformanceThinkTime[] concat(PerformanceThinkTime[] first, PerformanceThinkTime[] second) {
+            if (second.length == 0) {
+                return first;
+            }
+            if (first.length == 0) {
+                return second;
+            }
+            PerformanceThinkTime[] merged = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, merged, first.length, second.length);
+            return merged;
+        }
+    }
+}
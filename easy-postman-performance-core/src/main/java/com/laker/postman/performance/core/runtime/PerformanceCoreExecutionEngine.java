@@ -1,5 +1,7 @@
 package com.laker.postman.performance.core.runtime;
 
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
 import com.laker.postman.performance.core.model.PerformanceRealtimeMetrics;
 import com.laker.postman.performance.core.plan.PerformanceTestPlan;
 import com.laker.postman.performance.core.threadgroup.PerformanceCoreThreadGroupPlanner;
@@ -16,6 +18,7 @@ public final class PerformanceCoreExecutionEngine<C> implements PerformanceCoreR
     private final PerformanceRealtimeMetrics realtimeMetrics;
     private final PerformanceCoreThreadGroupRunner<C> threadGroupRunner;
     private final PerformanceRunListener runListener;
+    private final PerformanceGeneratorMonitor generatorMonitor = new PerformanceGeneratorMonitor();
     private volatile long startTime;
     private volatile PerformanceCoreResultSink resultSink = PerformanceCoreResultSink.NOOP;
 
@@ -42,10 +45,23 @@ public final class PerformanceCoreExecutionEngine<C> implements PerformanceCoreR
                                           PerformanceCoreThreadGroupRunner.IterationContextFactory<C> iterationContextFactory,
                                           PerformanceCoreThreadGroupRunner.IterationExecutor<C> iterationExecutor,
                                           PerformanceRunListener runListener) {
+        this(runningSupplier, networkControl, virtualUsers, realtimeMetrics, iterationContextFactory,
+                iterationExecutor, null, runListener);
+    }
+
+    public PerformanceCoreExecutionEngine(BooleanSupplier runningSupplier,
+                                          PerformanceNetworkControl networkControl,
+                                          PerformanceVirtualUserCoordinator virtualUsers,
+                                          PerformanceRealtimeMetrics realtimeMetrics,
+                                          PerformanceCoreThreadGroupRunner.IterationContextFactory<C> iterationContextFactory,
+                                          PerformanceCoreThreadGroupRunner.IterationExecutor<C> iterationExecutor,
+                                          PerformanceCoreThreadGroupRunner.AsyncIterationExecutor<C> asyncIterationExecutor,
+                                          PerformanceRunListener runListener) {
         this.runningSupplier = runningSupplier == null ? () -> false : runningSupplier;
         this.networkControl = networkControl == null ? PerformanceNetworkControl.NOOP : networkControl;
         this.virtualUsers = virtualUsers == null ? new PerformanceVirtualUserCoordinator() : virtualUsers;
         this.realtimeMetrics = realtimeMetrics == null ? new PerformanceRealtimeMetrics() : realtimeMetrics;
+        generatorMonitor.bindQueuedHttpCalls(this.realtimeMetrics::queuedHttpCalls);
         this.runListener = runListener == null ? PerformanceRunListener.NOOP : runListener;
         this.resultSink = compositeResultSink(PerformanceCoreResultSink.NOOP, this.runListener);
         this.threadGroupRunner = new PerformanceCoreThreadGroupRunner<>(
@@ -55,6 +71,7 @@ public final class PerformanceCoreExecutionEngine<C> implements PerformanceCoreR
                 this.virtualUsers,
                 iterationContextFactory,
                 iterationExecutor,
+                asyncIterationExecutor,
                 this::currentResultSink
         );
     }
@@ -71,6 +88,14 @@ public final class PerformanceCoreExecutionEngine<C> implements PerformanceCoreR
         return virtualUsers.sampleWindowPeakActiveThreads();
     }
 
+    public int getParkedThreads() {
+        return virtualUsers.getParkedThreads();
+    }
+
+    public void setVirtualUserScale(double scale) {
+        virtualUsers.setVirtualUserScale(scale);
+    }
+
     public int getActiveWebSockets() {
         return networkControl.activeWebSocketCount();
     }
@@ -89,6 +114,7 @@ public final class PerformanceCoreExecutionEngine<C> implements PerformanceCoreR
         this.startTime = startTimeMs;
         realtimeMetrics.reset(startTimeMs);
         this.resultSink = compositeResultSink(resultSink, runListener);
+        generatorMonitor.start();
     }
 
     public long getStartTime() {
@@ -111,11 +137,26 @@ public final class PerformanceCoreExecutionEngine<C> implements PerformanceCoreR
         return realtimeMetrics.liveSnapshot(nowMs);
     }
 
+    public PerformanceGeneratorSample generatorSample() {
+        return generatorMonitor.latestSample();
+    }
+
+    /**
+     * 本轮压测机负载汇总；运行结束后保留到下一轮开始，供最终报告读取
+     */
+    public PerformanceGeneratorStatistics.Snapshot generatorStatistics() {
+        return generatorMonitor.statistics();
+    }
+
     @Override
     public int getTotalThreads(PerformanceTestPlan plan) {
         return threadGroupPlanner.getTotalThreads(plan);
     }
 
+    public int getAsyncVirtualUsers(PerformanceTestPlan plan) {
+        return threadGroupPlanner.getAsyncVirtualUsers(plan);
+    }
+
     public long estimateTotalRequests(PerformanceTestPlan plan) {
         return threadGroupPlanner.estimateTotalRequests(plan);
     }
@@ -187,5 +228,6 @@ public final class PerformanceCoreExecutionEngine<C> implements PerformanceCoreR
     @Override
     public void endRun() {
         resultSink = compositeResultSink(PerformanceCoreResultSink.NOOP, runListener);
+        generatorMonitor.stop();
     }
 }
@@ -1,20 +1,20 @@
 package com.laker.postman.performance.core.runtime;
 
 import com.laker.postman.performance.core.controller.ConditionExpressionEvaluator;
-import com.laker.postman.performance.core.controller.WhileData;
 import com.laker.postman.performance.core.plan.PerformanceConditionController;
-import com.laker.postman.performance.core.plan.PerformanceController;
 import com.laker.postman.performance.core.plan.PerformanceOnceOnlyController;
-import com.laker.postman.performance.core.plan.PerformancePlanElement;
 import com.laker.postman.performance.core.plan.PerformanceWhileController;
 import com.laker.postman.performance.core.plan.PerformanceSampler;
 import com.laker.postman.performance.core.plan.PerformanceThreadGroupPlan;
-import com.laker.postman.performance.core.plan.PerformanceTimerElement;
-import com.laker.postman.performance.core.timer.TimerData;
+import com.laker.postman.performance.core.timer.PerformanceThinkTime;
+import com.laker.postman.performance.core.timer.PerformanceTimerStatistics;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
@@ -26,6 +26,34 @@ public final class PerformanceCorePlanExecutor<C> {
         void execute(PerformanceSampler sampler, C iterationContext);
     }
 
+    /**
+     * 异步采样器：发出请求后立即返回，阶段完成时计划从下一条指令继续，发起线程不等待响应
+     */
+    @FunctionalInterface
+    public interface AsyncSamplerExecutor<C> {
+        CompletionStage<?> executeAsync(PerformanceSampler sampler, C iterationContext);
+    }
+
+    /**
+     * 异步迭代的续跑调度。delayMs 为 0 时尽快执行，大于 0 时到期后执行；
+     * 实现方负责在续跑前恢复虚拟用户上下文，且同一迭代的续跑不会并发
+     */
+    @FunctionalInterface
+    public interface ContinuationScheduler {
+        void schedule(Runnable continuation, long delayMs);
+    }
+
+    /**
+     * 异步采样的准入控制：下游工作队列积压时拒绝发出下一个采样，让虚拟用户停在采样前，
+     * 而不是把后处理任务无限排队。拒绝时实现方须在有空位后调用一次 {@code resume}
+     */
+    @FunctionalInterface
+    public interface AsyncAdmission {
+        AsyncAdmission ALWAYS = resume -> true;
+
+        boolean tryAdmit(Runnable resume);
+    }
+
     @FunctionalInterface
     public interface TimerSleeper {
         void sleep(long delayMs) throws InterruptedException;
@@ -53,6 +81,8 @@ public final class PerformanceCorePlanExecutor<C> {
     private final OnceOnlyState<C> onceOnlyState;
     private final WhileEvaluator<C> whileEvaluator;
     private final DefaultOnceOnlyState<C> defaultOnceOnlyState;
+    private final Map<PerformanceThreadGroupPlan, PerformanceCoreExecutableProgram> programs = new ConcurrentHashMap<>();
+    private final PerformanceTimerStatistics timerStatistics = new PerformanceTimerStatistics();
 
     public PerformanceCorePlanExecutor(BooleanSupplier runningSupplier,
                                        SamplerExecutor<C> samplerExecutor) {
@@ -99,73 +129,141 @@ public final class PerformanceCorePlanExecutor<C> {
         if (groupPlan == null) {
             return;
         }
+        PerformanceCoreExecutableProgram program = programFor(groupPlan);
         if (defaultOnceOnlyState == null) {
-            executeElements(groupPlan.getElements(), PerformanceCoreTimerScope.empty(), iterationContext);
+            execute(program, iterationContext);
             return;
         }
         defaultOnceOnlyState.beginTopLevelExecution();
         try {
-            executeElements(groupPlan.getElements(), PerformanceCoreTimerScope.empty(), iterationContext);
+            execute(program, iterationContext);
         } finally {
             defaultOnceOnlyState.endTopLevelExecution();
         }
     }
 
-    private void executeElements(List<PerformancePlanElement> elements,
-                                 PerformanceCoreTimerScope inheritedScope,
-                                 C iterationContext) {
-        PerformanceCoreTimerScope scopedTimers = inheritedScope.enter(elements);
-        for (PerformancePlanElement element : elements) {
-            if (!runningSupplier.getAsBoolean()) {
-                return;
-            }
-            executeElement(element, scopedTimers, iterationContext);
-        }
+    /**
+     * 异步执行一轮迭代：指令与同步执行相同，但采样器、定时器、节奏和 While 间隔都不占用线程等待，
+     * 而是在采样完成或延迟到期后由 {@code scheduler} 从下一条指令续跑。
+     *
+     * @return 迭代结束（含运行停止）时完成；采样器或条件求值抛出的异常使其异常完成
+     */
+    public CompletableFuture<Void> executeIterationAsync(PerformanceThreadGroupPlan groupPlan,
+                                                         C iterationContext,
+                                                         AsyncSamplerExecutor<C> asyncSamplerExecutor,
+                                                         ContinuationScheduler scheduler) {
+        return executeIterationAsync(groupPlan, iterationContext, asyncSamplerExecutor, scheduler, AsyncAdmission.ALWAYS);
     }
 
-    private void executeElement(PerformancePlanElement element,
-                                PerformanceCoreTimerScope scopedTimers,
-                                C iterationContext) {
-        if (element instanceof PerformanceController controller) {
-            executeController(controller, scopedTimers, iterationContext);
-            return;
-        }
-        if (element instanceof PerformanceConditionController conditionController) {
-            executeCondition(conditionController, scopedTimers, iterationContext);
-            return;
-        }
-        if (element instanceof PerformanceWhileController whileController) {
-            executeWhile(whileController, scopedTimers, iterationContext);
-            return;
-        }
-        if (element instanceof PerformanceOnceOnlyController onceOnlyController) {
-            executeOnceOnly(onceOnlyController, scopedTimers, iterationContext);
-            return;
-        }
-        if (element instanceof PerformanceTimerElement) {
-            return;
-        }
-        if (element instanceof PerformanceSampler sampler) {
-            executeSampler(sampler, scopedTimers, iterationContext);
+    /**
+     * 同上，每个采样发出前先经过 {@code admission}，被拒绝时虚拟用户挂起在该采样上，直到被唤醒后重试
+     */
+    public CompletableFuture<Void> executeIterationAsync(PerformanceThreadGroupPlan groupPlan,
+                                                         C iterationContext,
+                                                         AsyncSamplerExecutor<C> asyncSamplerExecutor,
+                                                         ContinuationScheduler scheduler,
+                                                         AsyncAdmission admission) {
+        if (groupPlan == null) {
+            return CompletableFuture.completedFuture(null);
         }
+        AsyncIteration iteration = new AsyncIteration(
+                programFor(groupPlan),
+                iterationContext,
+                Objects.requireNonNull(asyncSamplerExecutor, "asyncSamplerExecutor"),
+                Objects.requireNonNull(scheduler, "scheduler"),
+                admission == null ? AsyncAdmission.ALWAYS : admission
+        );
+        iteration.run();
+        return iteration.completion;
     }
 
-    private void executeController(PerformanceController controller,
-                                   PerformanceCoreTimerScope scopedTimers,
-                                   C iterationContext) {
-        int iterations = controller.getIterationCount();
-        for (int iteration = 0; iteration < iterations && runningSupplier.getAsBoolean(); iteration++) {
-            executeElements(controller.getElements(), scopedTimers, iterationContext);
-        }
+    /**
+     * 计划对象在一次运行内不变，按实例缓存编译结果，所有虚拟用户共用同一份指令数组
+     */
+    PerformanceCoreExecutableProgram programFor(PerformanceThreadGroupPlan groupPlan) {
+        return programs.computeIfAbsent(groupPlan, plan -> PerformanceCoreExecutableProgram.compile(plan, timerStatistics));
     }
 
-    private void executeCondition(PerformanceConditionController conditionController,
-                                  PerformanceCoreTimerScope scopedTimers,
-                                  C iterationContext) {
-        if (!evaluateCondition(conditionController, iterationContext)) {
-            return;
+    /**
+     * 开始新一轮运行前调用：丢弃上一轮的执行程序（连同吞吐量节拍器）并清零定时器统计
+     */
+    public void reset() {
+        programs.clear();
+        timerStatistics.reset();
+    }
+
+    /**
+     * 本执行器所有迭代的定时器统计：思考时间总量、节奏与吞吐量目标未达成的次数和差额
+     */
+    public PerformanceTimerStatistics getTimerStatistics() {
+        return timerStatistics;
+    }
+
+    private void execute(PerformanceCoreExecutableProgram program, C iterationContext) {
+        int size = program.size();
+        int slotCount = program.slotCount();
+        long[] counters = slotCount == 0 ? null : new long[slotCount];
+        long[] deadlines = slotCount == 0 ? null : new long[slotCount];
+        int pc = 0;
+        while (pc < size) {
+            PerformanceCoreExecutableProgram.Instruction instruction = program.instruction(pc);
+            if (instruction.opcode() != PerformanceCoreExecutableProgram.JUMP && !runningSupplier.getAsBoolean()) {
+                // 停止后任何层级都不会再执行后续节点，直接结束整个迭代
+                return;
+            }
+            switch (instruction.opcode()) {
+                case PerformanceCoreExecutableProgram.SAMPLE -> {
+                    executeSampler(instruction, iterationContext);
+                    pc++;
+                }
+                case PerformanceCoreExecutableProgram.CONDITION -> pc = evaluateCondition(
+                        (PerformanceConditionController) instruction.element(), iterationContext)
+                        ? pc + 1
+                        : instruction.target();
+                case PerformanceCoreExecutableProgram.ONCE_ONLY -> pc = enterOnceOnly(
+                        (PerformanceOnceOnlyController) instruction.element(), iterationContext)
+                        ? pc + 1
+                        : instruction.target();
+                case PerformanceCoreExecutableProgram.LOOP_INIT -> {
+                    counters[instruction.slot()] = 0L;
+                    pc++;
+                }
+                case PerformanceCoreExecutableProgram.LOOP_TEST -> {
+                    int slot = instruction.slot();
+                    if (counters[slot] >= instruction.count()) {
+                        pc = instruction.target();
+                    } else {
+                        counters[slot]++;
+                        pc++;
+                    }
+                }
+                case PerformanceCoreExecutableProgram.WHILE_INIT -> {
+                    counters[instruction.slot()] = 0L;
+                    deadlines[instruction.slot()] = instruction.timeoutMs() <= 0
+                            ? Long.MAX_VALUE
+                            : System.currentTimeMillis() + instruction.timeoutMs();
+                    pc++;
+                }
+                case PerformanceCoreExecutableProgram.WHILE_TEST -> pc = enterWhile(
+                        instruction, counters, deadlines[instruction.slot()], iterationContext)
+                        ? pc + 1
+                        : instruction.target();
+                case PerformanceCoreExecutableProgram.WHILE_NEXT -> pc = continueWhile(
+                        instruction, counters, deadlines[instruction.slot()], iterationContext)
+                        ? instruction.target()
+                        : pc + 1;
+                case PerformanceCoreExecutableProgram.JUMP -> pc = instruction.target();
+                case PerformanceCoreExecutableProgram.PACE_START -> {
+                    counters[instruction.slot()] = System.nanoTime();
+                    pc++;
+                }
+                case PerformanceCoreExecutableProgram.PACE_END -> {
+                    pace(instruction.count(), counters[instruction.slot()]);
+                    pc++;
+                }
+                default -> pc++;
+            }
         }
-        executeElements(conditionController.getElements(), scopedTimers, iterationContext);
     }
 
     private boolean evaluateCondition(PerformanceConditionController conditionController, C iterationContext) {
@@ -176,46 +274,69 @@ public final class PerformanceCorePlanExecutor<C> {
         }
     }
 
-    private void executeWhile(PerformanceWhileController whileController,
-                              PerformanceCoreTimerScope scopedTimers,
-                              C iterationContext) {
-        WhileData whileData = whileController.getWhileData();
-        if (whileData == null) {
-            whileData = new WhileData();
+    private boolean enterOnceOnly(PerformanceOnceOnlyController onceOnlyController, C iterationContext) {
+        try {
+            return onceOnlyState.enter(onceOnlyController, iterationContext);
+        } catch (RuntimeException ignored) {
+            return false;
         }
-        whileData.normalize();
-        long deadline = whileData.timeoutMs <= 0
-                ? Long.MAX_VALUE
-                : System.currentTimeMillis() + whileData.timeoutMs;
-        for (int attempt = 0; attempt < whileData.maxIterations && runningSupplier.getAsBoolean(); attempt++) {
-            if (deadline != Long.MAX_VALUE && System.currentTimeMillis() >= deadline) {
-                return;
-            }
-            if (!evaluateWhile(whileController, iterationContext)) {
-                return;
-            }
-            executeElements(whileController.getElements(), scopedTimers, iterationContext);
-            if (!runningSupplier.getAsBoolean() || Thread.currentThread().isInterrupted()) {
-                return;
-            }
-            if (attempt + 1 >= whileData.maxIterations) {
-                return;
-            }
-            if (deadline != Long.MAX_VALUE && System.currentTimeMillis() >= deadline) {
-                return;
-            }
-            if (!evaluateWhile(whileController, iterationContext)) {
-                return;
-            }
-            long delayMs = whileDelay(whileData.intervalMs, deadline);
-            if (delayMs < 0) {
-                return;
-            }
-            sleepDelay(delayMs);
-            if (Thread.currentThread().isInterrupted()) {
-                return;
-            }
+    }
+
+    /**
+     * 进入 While 循环体前：次数未用完、未超时且条件成立
+     */
+    private boolean enterWhile(PerformanceCoreExecutableProgram.Instruction instruction,
+                               long[] counters,
+                               long deadline,
+                               C iterationContext) {
+        if (counters[instruction.slot()] >= instruction.count()) {
+            return false;
         }
+        if (deadline != Long.MAX_VALUE && System.currentTimeMillis() >= deadline) {
+            return false;
+        }
+        return evaluateWhile((PerformanceWhileController) instruction.element(), iterationContext);
+    }
+
+    /**
+     * 循环体执行完后：再次检查次数、超时和条件，成立时按间隔等待并计入一次迭代
+     */
+    private boolean continueWhile(PerformanceCoreExecutableProgram.Instruction instruction,
+                                  long[] counters,
+                                  long deadline,
+                                  C iterationContext) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        long delayMs = nextWhileDelay(instruction, counters, deadline, iterationContext);
+        if (delayMs < 0) {
+            return false;
+        }
+        sleepDelay(delayMs);
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        counters[instruction.slot()]++;
+        return true;
+    }
+
+    /**
+     * @return 继续下一次循环前需要等待的毫秒数；-1 表示退出循环
+     */
+    private long nextWhileDelay(PerformanceCoreExecutableProgram.Instruction instruction,
+                                long[] counters,
+                                long deadline,
+                                C iterationContext) {
+        if (counters[instruction.slot()] + 1 >= instruction.count()) {
+            return -1L;
+        }
+        if (deadline != Long.MAX_VALUE && System.currentTimeMillis() >= deadline) {
+            return -1L;
+        }
+        if (!evaluateWhile((PerformanceWhileController) instruction.element(), iterationContext)) {
+            return -1L;
+        }
+        return whileDelay(instruction.intervalMs(), deadline);
     }
 
     private boolean evaluateWhile(PerformanceWhileController whileController, C iterationContext) {
@@ -238,51 +359,48 @@ public final class PerformanceCorePlanExecutor<C> {
         return Math.min(delayMs, remainingMs);
     }
 
-    private void executeOnceOnly(PerformanceOnceOnlyController onceOnlyController,
-                                 PerformanceCoreTimerScope scopedTimers,
-                                 C iterationContext) {
-        if (!enterOnceOnly(onceOnlyController, iterationContext)) {
-            return;
+    /**
+     * 节奏定时器：本轮耗时不足目标时补足等待，超过时只记录超出的时间
+     */
+    private void pace(long pacingMs, long startNanos) {
+        long remainingMs = pacingRemainingMs(pacingMs, startNanos);
+        if (remainingMs > 0) {
+            sleepThinkTime(remainingMs);
         }
-        executeElements(onceOnlyController.getElements(), scopedTimers, iterationContext);
     }
 
-    private boolean enterOnceOnly(PerformanceOnceOnlyController onceOnlyController, C iterationContext) {
-        try {
-            return onceOnlyState.enter(onceOnlyController, iterationContext);
-        } catch (RuntimeException ignored) {
-            return false;
-        }
-    }
-
-    private void executeSampler(PerformanceSampler sampler,
-                                PerformanceCoreTimerScope scopedTimers,
-                                C iterationContext) {
-        sleepTimers(scopedTimers.timersForSampler(sampler));
-        if (Thread.currentThread().isInterrupted() || !runningSupplier.getAsBoolean()) {
-            return;
-        }
-        samplerExecutor.execute(sampler, iterationContext);
+    private long pacingRemainingMs(long pacingMs, long startNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long remainingMs = pacingMs - elapsedMs;
+        timerStatistics.recordPacing(-remainingMs);
+        return remainingMs;
     }
 
-    private void sleepTimers(List<PerformanceTimerElement> timerElements) {
-        for (PerformanceTimerElement timerElement : timerElements) {
+    private void executeSampler(PerformanceCoreExecutableProgram.Instruction instruction, C iterationContext) {
+        for (PerformanceThinkTime timer : instruction.timers()) {
             if (!runningSupplier.getAsBoolean()) {
                 return;
             }
-            sleepTimer(timerElement);
+            sleepThinkTime(timer.nextDelayMs());
             if (Thread.currentThread().isInterrupted()) {
                 return;
             }
         }
+        if (Thread.currentThread().isInterrupted() || !runningSupplier.getAsBoolean()) {
+            return;
+        }
+        samplerExecutor.execute((PerformanceSampler) instruction.element(), iterationContext);
     }
 
-    private void sleepTimer(PerformanceTimerElement timerElement) {
-        TimerData timerData = timerElement.getTimerData();
-        if (timerData == null) {
+    /**
+     * 定时器等待发生在采样器之外，不计入样本耗时，单独累计到定时器统计
+     */
+    private void sleepThinkTime(long delayMs) {
+        if (delayMs <= 0) {
             return;
         }
-        sleepDelay(timerData.delayMs);
+        timerStatistics.recordSleep(delayMs);
+        sleepDelay(delayMs);
     }
 
     private void sleepDelay(long delayMs) {
@@ -297,21 +415,13 @@ public final class PerformanceCorePlanExecutor<C> {
     }
 
     private static <C> ConditionEvaluator<C> defaultConditionEvaluator() {
-        return (conditionController, iterationContext) -> ConditionExpressionEvaluator.evaluate(
-                conditionController.getConditionData() == null
-                        ? null
-                        : conditionController.getConditionData().expression,
-                ConditionExpressionEvaluator.VariableLookup.EMPTY
-        );
+        return (conditionController, iterationContext) -> conditionController.getCompiledExpression()
+                .evaluate(ConditionExpressionEvaluator.VariableLookup.EMPTY);
     }
 
     private static <C> WhileEvaluator<C> defaultWhileEvaluator() {
-        return (whileController, iterationContext) -> ConditionExpressionEvaluator.evaluate(
-                whileController.getWhileData() == null
-                        ? null
-                        : whileController.getWhileData().expression,
-                ConditionExpressionEvaluator.VariableLookup.EMPTY
-        );
+        return (whileController, iterationContext) -> whileController.getCompiledExpression()
+                .evaluate(ConditionExpressionEvaluator.VariableLookup.EMPTY);
     }
 
     @SuppressWarnings("unchecked")
@@ -321,6 +431,199 @@ public final class PerformanceCorePlanExecutor<C> {
                 : null;
     }
 
+    /**
+     * 一轮异步迭代的执行状态。程序本身是按 pc 推进的指令数组，挂起时只需保留 pc、计数器和截止时间，
+     * 续跑从挂起处的下一条指令开始；采样同步完成时直接在当前线程继续，不增加调用栈深度。
+     */
+    private final class AsyncIteration {
+        private final PerformanceCoreExecutableProgram program;
+        private final C iterationContext;
+        private final AsyncSamplerExecutor<C> samplerExecutor;
+        private final ContinuationScheduler scheduler;
+        private final AsyncAdmission admission;
+        private final long[] counters;
+        private final long[] deadlines;
+        private final Set<String> onceOnlySeen;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private int pc;
+        private boolean timersElapsed;
+
+        private AsyncIteration(PerformanceCoreExecutableProgram program,
+                               C iterationContext,
+                               AsyncSamplerExecutor<C> samplerExecutor,
+                               ContinuationScheduler scheduler,
+                               AsyncAdmission admission) {
+            this.program = program;
+            this.iterationContext = iterationContext;
+            this.samplerExecutor = samplerExecutor;
+            this.scheduler = scheduler;
+            this.admission = admission;
+            int slotCount = program.slotCount();
+            this.counters = slotCount == 0 ? null : new long[slotCount];
+            this.deadlines = slotCount == 0 ? null : new long[slotCount];
+            this.onceOnlySeen = defaultOnceOnlyState == null ? null : ConcurrentHashMap.newKeySet();
+        }
+
+        private void run() {
+            if (defaultOnceOnlyState != null) {
+                defaultOnceOnlyState.resumeTopLevelExecution(onceOnlySeen);
+            }
+            try {
+                advance();
+            } catch (CompletionException exception) {
+                completion.completeExceptionally(exception.getCause() == null ? exception : exception.getCause());
+            } catch (Throwable throwable) {
+                completion.completeExceptionally(throwable);
+            } finally {
+                if (defaultOnceOnlyState != null) {
+                    defaultOnceOnlyState.endTopLevelExecution();
+                }
+            }
+        }
+
+        private void advance() {
+            int size = program.size();
+            while (pc < size) {
+                PerformanceCoreExecutableProgram.Instruction instruction = program.instruction(pc);
+                if (instruction.opcode() != PerformanceCoreExecutableProgram.JUMP && !runningSupplier.getAsBoolean()) {
+                    completion.complete(null);
+                    return;
+                }
+                switch (instruction.opcode()) {
+                    case PerformanceCoreExecutableProgram.SAMPLE -> {
+                        if (!sample(instruction)) {
+                            return;
+                        }
+                    }
+                    case PerformanceCoreExecutableProgram.CONDITION -> pc = evaluateCondition(
+                            (PerformanceConditionController) instruction.element(), iterationContext)
+                            ? pc + 1
+                            : instruction.target();
+                    case PerformanceCoreExecutableProgram.ONCE_ONLY -> pc = enterOnceOnly(
+                            (PerformanceOnceOnlyController) instruction.element(), iterationContext)
+                            ? pc + 1
+                            : instruction.target();
+                    case PerformanceCoreExecutableProgram.LOOP_INIT -> {
+                        counters[instruction.slot()] = 0L;
+                        pc++;
+                    }
+                    case PerformanceCoreExecutableProgram.LOOP_TEST -> {
+                        int slot = instruction.slot();
+                        if (counters[slot] >= instruction.count()) {
+                            pc = instruction.target();
+                        } else {
+                            counters[slot]++;
+                            pc++;
+                        }
+                    }
+                    case PerformanceCoreExecutableProgram.WHILE_INIT -> {
+                        counters[instruction.slot()] = 0L;
+                        deadlines[instruction.slot()] = instruction.timeoutMs() <= 0
+                                ? Long.MAX_VALUE
+                                : System.currentTimeMillis() + instruction.timeoutMs();
+                        pc++;
+                    }
+                    case PerformanceCoreExecutableProgram.WHILE_TEST -> pc = enterWhile(
+                            instruction, counters, deadlines[instruction.slot()], iterationContext)
+                            ? pc + 1
+                            : instruction.target();
+                    case PerformanceCoreExecutableProgram.WHILE_NEXT -> {
+                        long delayMs = nextWhileDelay(
+                                instruction, counters, deadlines[instruction.slot()], iterationContext);
+                        if (delayMs < 0) {
+                            pc++;
+                        } else {
+                            counters[instruction.slot()]++;
+                            pc = instruction.target();
+                            if (delayMs > 0) {
+                                suspend(delayMs);
+                                return;
+                            }
+                        }
+                    }
+                    case PerformanceCoreExecutableProgram.JUMP -> pc = instruction.target();
+                    case PerformanceCoreExecutableProgram.PACE_START -> {
+                        counters[instruction.slot()] = System.nanoTime();
+                        pc++;
+                    }
+                    case PerformanceCoreExecutableProgram.PACE_END -> {
+                        long remainingMs = pacingRemainingMs(instruction.count(), counters[instruction.slot()]);
+                        pc++;
+                        if (remainingMs > 0) {
+                            timerStatistics.recordSleep(remainingMs);
+                            suspend(remainingMs);
+                            return;
+                        }
+                    }
+                    default -> pc++;
+                }
+            }
+            completion.complete(null);
+        }
+
+        /**
+         * 定时器延迟合并成一次挂起，到期后重新检查运行状态再发出采样；准入被拒绝时同样挂起，
+         * 唤醒后跳过已经等过的定时器直接重试准入。
+         *
+         * @return true 表示可以在当前线程继续执行下一条指令
+         */
+        private boolean sample(PerformanceCoreExecutableProgram.Instruction instruction) {
+            if (!timersElapsed) {
+                long delayMs = 0L;
+                for (PerformanceThinkTime timer : instruction.timers()) {
+                    long timerDelayMs = timer.nextDelayMs();
+                    if (timerDelayMs > 0) {
+                        timerStatistics.recordSleep(timerDelayMs);
+                        delayMs += timerDelayMs;
+                    }
+                }
+                if (delayMs > 0) {
+                    timersElapsed = true;
+                    suspend(delayMs);
+                    return false;
+                }
+            }
+            // 先标记再申请准入：拒绝后的唤醒可能在 tryAdmit 返回前就在别的线程上续跑
+            timersElapsed = true;
+            if (!admission.tryAdmit(() -> suspend(0L))) {
+                return false;
+            }
+            timersElapsed = false;
+            CompletionStage<?> stage = samplerExecutor.executeAsync(
+                    (PerformanceSampler) instruction.element(),
+                    iterationContext
+            );
+            pc++;
+            if (stage == null) {
+                return true;
+            }
+            CompletableFuture<?> future = stage.toCompletableFuture();
+            if (future.isDone()) {
+                future.join();
+                return true;
+            }
+            future.whenComplete((ignored, throwable) -> {
+                if (throwable == null) {
+                    suspend(0L);
+                } else {
+                    completion.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable);
+                }
+            });
+            return false;
+        }
+
+        private void suspend(long delayMs) {
+            try {
+                scheduler.schedule(this::run, delayMs);
+            } catch (RuntimeException exception) {
+                // 调度器已关闭（运行停止或等待超时），迭代按停止处理
+                completion.complete(null);
+            }
+        }
+    }
+
     private static final class DefaultOnceOnlyState<C> implements OnceOnlyState<C> {
         private final ThreadLocal<Set<String>> seenByExecution = new ThreadLocal<>();
 
@@ -328,6 +631,13 @@ public final class PerformanceCorePlanExecutor<C> {
             seenByExecution.set(ConcurrentHashMap.newKeySet());
         }
 
+        /**
+         * 异步迭代的每段续跑可能在不同线程上，重新绑定本迭代自己的记录
+         */
+        private void resumeTopLevelExecution(Set<String> seen) {
+            seenByExecution.set(seen);
+        }
+
         private void endTopLevelExecution() {
             seenByExecution.remove();
         }
@@ -1,5 +1,6 @@
 package com.laker.postman.performance.core.runtime;
 
+import com.laker.postman.performance.core.jfr.PerformanceJfrContext;
 import com.laker.postman.performance.core.plan.PerformanceTestPlan;
 import com.laker.postman.performance.core.plan.PerformanceThreadGroupPlan;
 import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
@@ -7,11 +8,17 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -26,6 +33,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
 
     private static final String DRAIN_TIMEOUT_MESSAGE =
             "In-flight requests did not finish within the configured completion wait";
+    private static final int ASYNC_DRIVER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
 
     @FunctionalInterface
     public interface IterationContextFactory<C> {
@@ -37,22 +45,49 @@ public final class PerformanceCoreThreadGroupRunner<C> {
         void executeIteration(PerformanceThreadGroupPlan groupPlan, C iterationContext);
     }
 
+    /**
+     * 异步迭代：返回的阶段完成即本轮结束，续跑通过 scheduler 回到虚拟用户上下文
+     */
+    @FunctionalInterface
+    public interface AsyncIterationExecutor<C> {
+        CompletionStage<?> executeIterationAsync(PerformanceThreadGroupPlan groupPlan,
+                                                 C iterationContext,
+                                                 PerformanceCorePlanExecutor.ContinuationScheduler scheduler);
+    }
+
     private final BooleanSupplier runningSupplier;
     private final LongSupplier startTimeSupplier;
     private final Runnable cancellationAction;
     private final PerformanceVirtualUserCoordinator virtualUsers;
     private final IterationContextFactory<C> iterationContextFactory;
     private final IterationExecutor<C> iterationExecutor;
+    private final AsyncIterationExecutor<C> asyncIterationExecutor;
     private final Supplier<PerformanceCoreResultSink> resultSinkSupplier;
     private final AtomicLong progressSequence = new AtomicLong(0L);
     private final AtomicBoolean drainTimedOut = new AtomicBoolean(false);
+    private final Map<PerformanceThreadGroupPlan, PerformanceVirtualUserGate> gates = new ConcurrentHashMap<>();
+
+    public PerformanceCoreThreadGroupRunner(BooleanSupplier runningSupplier,
+                                            LongSupplier startTimeSupplier,
+                                            Runnable cancellationAction,
+                                            PerformanceVirtualUserCoordinator virtualUsers,
+                                            IterationContextFactory<C> iterationContextFactory,
+                                            IterationExecutor<C> iterationExecutor,
+                                            Supplier<PerformanceCoreResultSink> resultSinkSupplier) {
+        this(runningSupplier, startTimeSupplier, cancellationAction, virtualUsers, iterationContextFactory,
+                iterationExecutor, null, resultSinkSupplier);
+    }
 
+    /**
+     * @param asyncIterationExecutor 勾选异步采样的固定模式线程组使用；为 null 时这类线程组按同步方式执行
+     */
     public PerformanceCoreThreadGroupRunner(BooleanSupplier runningSupplier,
                                             LongSupplier startTimeSupplier,
                                             Runnable cancellationAction,
                                             PerformanceVirtualUserCoordinator virtualUsers,
                                             IterationContextFactory<C> iterationContextFactory,
                                             IterationExecutor<C> iterationExecutor,
+                                            AsyncIterationExecutor<C> asyncIterationExecutor,
                                             Supplier<PerformanceCoreResultSink> resultSinkSupplier) {
         BooleanSupplier resolvedRunningSupplier = runningSupplier == null ? () -> false : runningSupplier;
         this.runningSupplier = () -> resolvedRunningSupplier.getAsBoolean() && !drainTimedOut.get();
@@ -63,6 +98,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
         this.iterationContextFactory = iterationContextFactory == null ? (groupPlan, iterationCount) -> null : iterationContextFactory;
         this.iterationExecutor = iterationExecutor == null ? (groupPlan, iterationContext) -> {
         } : iterationExecutor;
+        this.asyncIterationExecutor = asyncIterationExecutor;
         this.resultSinkSupplier = resultSinkSupplier == null ? () -> PerformanceCoreResultSink.NOOP : resultSinkSupplier;
     }
 
@@ -98,14 +134,25 @@ public final class PerformanceCoreThreadGroupRunner<C> {
             threadGroupData = new ThreadGroupData();
         }
         threadGroupData.normalize();
+        PerformanceVirtualUserGate gate = PerformanceVirtualUserGate.forGroup(groupPlan, threadGroupData, virtualUsers);
+        if (gate != null) {
+            gates.put(groupPlan, gate);
+        }
         AtomicInteger groupVirtualUserCounter = new AtomicInteger(0);
         BiConsumer<Integer, Integer> progressUpdater = this::publishProgress;
         switch (threadGroupData.threadMode) {
-            case FIXED -> runFixedThreads(groupPlan, threadGroupData, progressUpdater, totalThreads, groupVirtualUserCounter);
+            case FIXED -> {
+                if (usesAsyncSampling(threadGroupData, gate)) {
+                    runFixedAsync(groupPlan, threadGroupData, progressUpdater, totalThreads, groupVirtualUserCounter);
+                } else {
+                    runFixedThreads(groupPlan, threadGroupData, progressUpdater, totalThreads, groupVirtualUserCounter);
+                }
+            }
             case RAMP_UP -> runRampUpThreads(groupPlan, threadGroupData, progressUpdater, totalThreads, groupVirtualUserCounter);
             case SPIKE -> runSpikeThreads(groupPlan, threadGroupData, progressUpdater, totalThreads, groupVirtualUserCounter);
             case STAIRS -> runStairsThreads(groupPlan, threadGroupData, progressUpdater, totalThreads, groupVirtualUserCounter);
         }
+        gates.remove(groupPlan);
     }
 
     private void runFixedThreads(PerformanceThreadGroupPlan groupPlan,
@@ -131,7 +178,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
                 return;
             }
             virtualUsers.submit(executor, progressUpdater, totalThreads, groupVirtualUserCounter::getAndIncrement,
-                    virtualUserScopeFactory(groupPlan), () -> virtualUsers.runWithinLoadWindow(endTime, () -> {
+                    virtualUserScopeFactory(groupPlan), tracked(groupPlan, () -> virtualUsers.runWithinLoadWindow(endTime, () -> {
                         if (useTime) {
                             while (System.currentTimeMillis() < endTime && runningSupplier.getAsBoolean()) {
                                 runTaskIteration(groupPlan, 0);
@@ -139,7 +186,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
                         } else {
                             runTask(groupPlan, loops);
                         }
-                    }));
+                    })));
         }
         executor.shutdown();
         try {
@@ -179,6 +226,79 @@ public final class PerformanceCoreThreadGroupRunner<C> {
         }
     }
 
+    /**
+     * 带备用用户的线程组靠线程驻留实现闸门，仍按同步方式执行
+     */
+    private boolean usesAsyncSampling(ThreadGroupData tg, PerformanceVirtualUserGate gate) {
+        return tg.asyncSampling && asyncIterationExecutor != null && gate == null;
+    }
+
+    /**
+     * 异步固定模式：虚拟用户不独占线程，少量驱动线程推进所有用户的计划，
+     * 请求在途时不占用线程，在途请求数只受用户数和连接层并发限制。
+     */
+    private void runFixedAsync(PerformanceThreadGroupPlan groupPlan,
+                               ThreadGroupData tg,
+                               BiConsumer<Integer, Integer> progressUpdater,
+                               int totalThreads,
+                               AtomicInteger groupVirtualUserCounter) {
+        ScheduledExecutorService driver = Executors.newScheduledThreadPool(
+                ASYNC_DRIVER_THREADS,
+                PerformanceThreadFactory.daemonFactory("PerformanceAsyncDriver")
+        );
+        long endTime = tg.useTime ? System.currentTimeMillis() + tg.duration * 1000L : Long.MAX_VALUE;
+        List<AsyncVirtualUserLoop> loops = new ArrayList<>(tg.numThreads);
+        for (int i = 0; i < tg.numThreads && runningSupplier.getAsBoolean(); i++) {
+            AsyncVirtualUserLoop loop = new AsyncVirtualUserLoop(
+                    groupPlan,
+                    virtualUsers.startAsync(progressUpdater, totalThreads, groupVirtualUserCounter::getAndIncrement,
+                            virtualUserScopeFactory(groupPlan), endTime),
+                    driver,
+                    tg.useTime ? -1 : tg.loops
+            );
+            loops.add(loop);
+            loop.start();
+        }
+        CompletableFuture<Void> allDone = CompletableFuture.allOf(
+                loops.stream().map(loop -> loop.done).toArray(CompletableFuture[]::new));
+        try {
+            boolean completed = tg.useTime
+                    ? awaitAsync(allDone, (long) tg.duration + tg.maxInFlightWaitSeconds, TimeUnit.SECONDS)
+                    : awaitAsyncLoops(allDone);
+            if (!completed || !runningSupplier.getAsBoolean()) {
+                log.warn("异步虚拟用户未能在预期时间内完成，取消剩余请求");
+                markDrainTimedOut(completed);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            log.debug("异步固定模式已停止");
+        } finally {
+            driver.shutdownNow();
+            loops.forEach(AsyncVirtualUserLoop::finish);
+        }
+    }
+
+    private boolean awaitAsyncLoops(CompletableFuture<Void> allDone) throws InterruptedException {
+        while (runningSupplier.getAsBoolean()) {
+            if (awaitAsync(allDone, 250, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return allDone.isDone();
+    }
+
+    private static boolean awaitAsync(CompletableFuture<Void> allDone, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        try {
+            allDone.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
     private boolean awaitFixedLoopWorkers(ExecutorService executor) throws InterruptedException {
         while (runningSupplier.getAsBoolean()) {
             if (executor.awaitTermination(250, TimeUnit.MILLISECONDS)) {
@@ -234,7 +354,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
                         continue;
                     }
                     virtualUsers.submit(executor, progressUpdater, totalThreads, groupVirtualUserCounter::getAndIncrement,
-                            virtualUserScopeFactory(groupPlan), () -> virtualUsers.runWithinLoadWindow(
+                            virtualUserScopeFactory(groupPlan), tracked(groupPlan, () -> virtualUsers.runWithinLoadWindow(
                                     startTimeSupplier.getAsLong() + totalDuration * 1000L,
                                     () -> {
                                         try {
@@ -246,7 +366,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
                                         } finally {
                                             activeWorkerThreads.decrementAndGet();
                                         }
-                                    }));
+                                    })));
                 }
             }
         }, 0, 1, TimeUnit.SECONDS);
@@ -586,7 +706,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
                                           AtomicInteger groupVirtualUserCounter,
                                           ConcurrentHashMap<Thread, Long> threadEndTimes) {
         Thread thread = virtualUsers.newThread(threadNamePrefix, progressUpdater, totalThreads,
-                groupVirtualUserCounter::getAndIncrement, virtualUserScopeFactory(groupPlan), () ->
+                groupVirtualUserCounter::getAndIncrement, virtualUserScopeFactory(groupPlan), tracked(groupPlan, () ->
                         virtualUsers.runWithinLoadWindow(
                                 startTimeSupplier.getAsLong() + totalTime * 1000L,
                                 () -> {
@@ -603,7 +723,7 @@ public final class PerformanceCoreThreadGroupRunner<C> {
                                         activeWorkerThreads.decrementAndGet();
                                         threadEndTimes.remove(Thread.currentThread());
                                     }
-                                }));
+                                })));
         threadEndTimes.put(thread, Long.MAX_VALUE);
         thread.start();
     }
@@ -761,7 +881,22 @@ public final class PerformanceCoreThreadGroupRunner<C> {
         }
     }
 
+    private Runnable tracked(PerformanceThreadGroupPlan groupPlan, Runnable task) {
+        PerformanceVirtualUserGate gate = gates.get(groupPlan);
+        Runnable gatedTask = gate == null ? task : gate.track(task);
+        // 虚拟用户编号在 coordinator 里按线程绑定，这里在任务真正运行时读取。
+        return () -> PerformanceJfrContext.runVirtualUser(
+                groupPlan.getName(),
+                virtualUsers.currentVirtualUserIndex(),
+                gatedTask
+        );
+    }
+
     private void runTaskIteration(PerformanceThreadGroupPlan groupPlan, int iterationCount) {
+        PerformanceVirtualUserGate gate = gates.isEmpty() ? null : gates.get(groupPlan);
+        if (gate != null && !gate.tryEnter()) {
+            return;
+        }
         C iterationContext = iterationContextFactory.create(groupPlan, iterationCount);
         iterationExecutor.executeIteration(groupPlan, iterationContext);
     }
@@ -801,6 +936,90 @@ public final class PerformanceCoreThreadGroupRunner<C> {
         return sink == null ? PerformanceCoreResultSink.NOOP : sink;
     }
 
+    /**
+     * 一个异步虚拟用户的迭代循环：上一轮完成后在驱动线程上开始下一轮，直到次数用完、到达持续时间或停止
+     */
+    private final class AsyncVirtualUserLoop {
+        private final PerformanceThreadGroupPlan groupPlan;
+        private final PerformanceVirtualUserCoordinator.AsyncVirtualUser virtualUser;
+        private final ScheduledExecutorService driver;
+        private final int loops;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private int completedLoops;
+
+        private AsyncVirtualUserLoop(PerformanceThreadGroupPlan groupPlan,
+                                     PerformanceVirtualUserCoordinator.AsyncVirtualUser virtualUser,
+                                     ScheduledExecutorService driver,
+                                     int loops) {
+            this.groupPlan = groupPlan;
+            this.virtualUser = virtualUser;
+            this.driver = driver;
+            this.loops = loops;
+        }
+
+        private void start() {
+            next();
+        }
+
+        private void next() {
+            try {
+                schedule(this::runIteration, 0L);
+            } catch (RejectedExecutionException e) {
+                finish();
+            }
+        }
+
+        private void runIteration() {
+            boolean useTime = loops < 0;
+            if (!runningSupplier.getAsBoolean()
+                    || (useTime && System.currentTimeMillis() >= virtualUser.loadEndTimeMs())
+                    || (!useTime && completedLoops >= loops)) {
+                finish();
+                return;
+            }
+            completedLoops++;
+            CompletionStage<?> iteration;
+            try {
+                C iterationContext = iterationContextFactory.create(groupPlan, useTime ? 0 : loops);
+                iteration = asyncIterationExecutor.executeIterationAsync(groupPlan, iterationContext, this::schedule);
+            } catch (RuntimeException e) {
+                log.warn("异步虚拟用户迭代失败: {}", e.getMessage(), e);
+                finish();
+                return;
+            }
+            if (iteration == null) {
+                next();
+                return;
+            }
+            iteration.whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    log.warn("异步虚拟用户迭代失败: {}", throwable.getMessage(), throwable);
+                    finish();
+                } else {
+                    next();
+                }
+            });
+        }
+
+        private void schedule(Runnable continuation, long delayMs) {
+            Runnable bound = () -> PerformanceJfrContext.runVirtualUser(
+                    groupPlan.getName(),
+                    virtualUser.virtualUserIndex(),
+                    () -> virtualUser.run(continuation)
+            );
+            if (delayMs > 0) {
+                driver.schedule(bound, delayMs, TimeUnit.MILLISECONDS);
+            } else {
+                driver.execute(bound);
+            }
+        }
+
+        private void finish() {
+            virtualUser.finish();
+            done.complete(null);
+        }
+    }
+
     public static void joinThreadGroupThreads(List<Thread> threadGroupThreads, Runnable cancellationAction) {
         boolean interrupted = false;
         for (Thread thread : threadGroupThreads) {
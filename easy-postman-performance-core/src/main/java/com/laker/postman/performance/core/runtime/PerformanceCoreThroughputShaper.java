@@ -0,0 +1,51 @@
+package com.laker.postman.performance.core.runtime;
+
+import com.laker.postman.performance.core.timer.PerformanceThinkTime;
+import com.laker.postman.performance.core.timer.PerformanceTimerStatistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 吞吐量定时器的共享节拍器。
+ * <p>
+ * 同一线程组的执行程序只编译一次，所有虚拟用户共用这一个实例：每次调用原子地预约下一个节拍，
+ * 返回距离该节拍还需等待的时间。节拍已经过去时立即执行并把落后的时间记为 miss，
+ * 但不会为了追赶而连续放行，避免负载突刺。
+ * </p>
+ */
+final class PerformanceCoreThroughputShaper implements PerformanceThinkTime {
+    private static final long UNSCHEDULED = Long.MIN_VALUE;
+
+    private final long intervalNanos;
+    private final PerformanceTimerStatistics statistics;
+    private final AtomicLong nextSlotNanos = new AtomicLong(UNSCHEDULED);
+
+    PerformanceCoreThroughputShaper(double throughputPerMinute, PerformanceTimerStatistics statistics) {
+        this.intervalNanos = Math.max(1L, Math.round(TimeUnit.MINUTES.toNanos(1) / throughputPerMinute));
+        this.statistics = statistics;
+    }
+
+    long intervalNanos() {
+        return intervalNanos;
+    }
+
+    @Override
+    public long nextDelayMs() {
+        return reserve(System.nanoTime());
+    }
+
+    long reserve(long nowNanos) {
+        while (true) {
+            long scheduled = nextSlotNanos.get();
+            long slot = scheduled == UNSCHEDULED ? nowNanos : Math.max(scheduled, nowNanos);
+            if (nextSlotNanos.compareAndSet(scheduled, slot + intervalNanos)) {
+                if (scheduled != UNSCHEDULED && scheduled < nowNanos) {
+                    statistics.recordThroughputLag(TimeUnit.NANOSECONDS.toMillis(nowNanos - scheduled));
+                }
+                long waitNanos = slot - nowNanos;
+                return waitNanos <= 0L ? 0L : TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999L);
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.laker.postman.performance.core.runtime;
+
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+
+/**
+ * 运行期间监控压测机自身：进程 CPU、GC 停顿、分配速率、线程数、调度延迟和 OkHttp 调度器排队。
+ * <p>
+ * 一个守护线程每 {@value #TICK_MS}ms 醒来一次，醒来时间超过预期的部分计为调度延迟；
+ * 每秒汇总一次窗口样本，供趋势图读取最新值，同时累计到整轮统计用于报告告警。
+ * 首次跨过阈值时按指标各打一条 warn 日志，避免每秒刷屏。
+ * </p>
+ */
+@Slf4j
+public final class PerformanceGeneratorMonitor {
+    static final long TICK_MS = 50L;
+    static final long SAMPLE_INTERVAL_MS = 1_000L;
+    static final int QUEUE_GROWTH_WARNING_WINDOWS = 3;
+    private static final double BYTES_PER_MB = 1024D * 1024D;
+
+    private final Probe probe;
+    private final PerformanceGeneratorStatistics statistics = new PerformanceGeneratorStatistics();
+    private final Object lifecycleLock = new Object();
+    private volatile PerformanceGeneratorSample latestSample = PerformanceGeneratorSample.EMPTY;
+    private volatile IntSupplier queuedHttpCallsSupplier = () -> 0;
+    private Thread samplerThread;
+    private long lastGcPauseMs;
+    private long lastAllocatedBytes;
+    private boolean cpuWarned;
+    private boolean gcWarned;
+    private boolean lagWarned;
+    private boolean queueWarned;
+    private boolean queueGrowthWarned;
+    private int lastQueuedHttpCalls;
+    private int queueGrowthWindows;
+
+    public PerformanceGeneratorMonitor() {
+        this(new JmxProbe());
+    }
+
+    PerformanceGeneratorMonitor(Probe probe) {
+        this.probe = probe;
+    }
+
+    public void start() {
+        synchronized (lifecycleLock) {
+            stopUnlocked();
+            statistics.reset();
+            latestSample = PerformanceGeneratorSample.EMPTY;
+            resetWindowBaseline();
+            cpuWarned = false;
+            gcWarned = false;
+            lagWarned = false;
+            queueWarned = false;
+            queueGrowthWarned = false;
+            lastQueuedHttpCalls = 0;
+            queueGrowthWindows = 0;
+            samplerThread = PerformanceThreadFactory.newDaemonThread("PerformanceGeneratorMonitor", this::runLoop);
+            samplerThread.start();
+        }
+    }
+
+    public void stop() {
+        synchronized (lifecycleLock) {
+            stopUnlocked();
+        }
+    }
+
+    /**
+     * 绑定压测客户端调度器的排队 Call 计数，每个窗口结束时读取一次
+     */
+    public void bindQueuedHttpCalls(IntSupplier supplier) {
+        queuedHttpCallsSupplier = supplier == null ? () -> 0 : supplier;
+    }
+
+    /**
+     * 最近一个完整窗口的样本；还没有完整窗口时为 {@link PerformanceGeneratorSample#EMPTY}
+     */
+    public PerformanceGeneratorSample latestSample() {
+        return latestSample;
+    }
+
+    public PerformanceGeneratorStatistics.Snapshot statistics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * 汇总一个窗口：CPU 和线程数取当前值，GC 停顿和分配量取与上个窗口的差值。
+     */
+    PerformanceGeneratorSample sampleWindow(long windowMs, double schedulingLagMs) {
+        long safeWindowMs = Math.max(1L, windowMs);
+        double cpuLoad = probe.processCpuLoad();
+        long gcPauseMs = probe.gcPauseMs();
+        long allocatedBytes = probe.allocatedBytes();
+        double gcPausePercent = gcPauseMs < 0 || lastGcPauseMs < 0
+                ? Double.NaN
+                : Math.min(100D, Math.max(0L, gcPauseMs - lastGcPauseMs) * 100D / safeWindowMs);
+        double allocationMbPerSecond = allocatedBytes < 0 || lastAllocatedBytes < 0
+                ? Double.NaN
+                : Math.max(0L, allocatedBytes - lastAllocatedBytes) / BYTES_PER_MB * 1000D / safeWindowMs;
+        lastGcPauseMs = gcPauseMs;
+        lastAllocatedBytes = allocatedBytes;
+        PerformanceGeneratorSample sample = new PerformanceGeneratorSample(
+                cpuLoad < 0 ? Double.NaN : Math.min(100D, cpuLoad * 100D),
+                gcPausePercent,
+                allocationMbPerSecond,
+                Math.max(1, probe.threadCount()),
+                Math.max(0D, schedulingLagMs),
+                Math.max(0, queuedHttpCallsSupplier.getAsInt())
+        );
+        statistics.record(sample, safeWindowMs);
+        latestSample = sample;
+        warnOnce(sample);
+        return sample;
+    }
+
+    void resetWindowBaseline() {
+        lastGcPauseMs = probe.gcPauseMs();
+        lastAllocatedBytes = probe.allocatedBytes();
+    }
+
+    private void stopUnlocked() {
+        Thread thread = samplerThread;
+        samplerThread = null;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(TICK_MS);
+        long windowStart = System.nanoTime();
+        long expectedWake = windowStart + tickNanos;
+        double maxLagMs = 0D;
+        while (!Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(expectedWake - System.nanoTime());
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            long now = System.nanoTime();
+            maxLagMs = Math.max(maxLagMs, (now - expectedWake) / 1_000_000D);
+            // 下一次按实际醒来时间重新计时，单次迟到不会累积到后续 tick。
+            expectedWake = now + tickNanos;
+            long windowMs = TimeUnit.NANOSECONDS.toMillis(now - windowStart);
+            if (windowMs >= SAMPLE_INTERVAL_MS) {
+                try {
+                    sampleWindow(windowMs, maxLagMs);
+                } catch (RuntimeException ex) {
+                    log.debug("压测机负载采样失败", ex);
+                }
+                windowStart = now;
+                maxLagMs = 0D;
+            }
+        }
+    }
+
+    private void warnOnce(PerformanceGeneratorSample sample) {
+        if (!cpuWarned && sample.processCpuPercent() >= PerformanceGeneratorStatistics.CPU_WARNING_PERCENT) {
+            cpuWarned = true;
+            log.warn("压测机进程 CPU 达到 {}%，响应时间可能受压测机自身影响", Math.round(sample.processCpuPercent()));
+        }
+        if (!gcWarned && sample.gcPausePercent() >= PerformanceGeneratorStatistics.GC_PAUSE_WARNING_PERCENT) {
+            gcWarned = true;
+            log.warn("压测机 GC 停顿占采样窗口 {}%，响应时间可能受压测机自身影响", Math.round(sample.gcPausePercent()));
+        }
+        if (!lagWarned && sample.schedulingLagMs() >= PerformanceGeneratorStatistics.SCHEDULING_LAG_WARNING_MS) {
+            lagWarned = true;
+            log.warn("压测机线程调度延迟达到 {}ms，响应时间可能受压测机自身影响", Math.round(sample.schedulingLagMs()));
+        }
+        int queued = sample.queuedHttpCalls();
+        if (!queueWarned && queued > 0) {
+            queueWarned = true;
+            log.warn("OkHttp 调度器有 {} 个请求在排队，调度器并发上限已饱和，排队时间会计入响应时间", queued);
+        }
+        queueGrowthWindows = queued > lastQueuedHttpCalls ? queueGrowthWindows + 1 : 0;
+        lastQueuedHttpCalls = queued;
+        if (!queueGrowthWarned && queueGrowthWindows >= QUEUE_GROWTH_WARNING_WINDOWS) {
+            queueGrowthWarned = true;
+            log.warn("OkHttp 调度器排队连续 {} 个窗口增长到 {} 个请求，压测机发出请求的速度跟不上虚拟用户",
+                    queueGrowthWindows, queued);
+        }
+    }
+
+    interface Probe {
+        /**
+         * @return 进程 CPU 负载 0~1，未知时为负数
+         */
+        double processCpuLoad();
+
+        /**
+         * @return 启动以来 GC 累计耗时，未知时为负数
+         */
+        long gcPauseMs();
+
+        /**
+         * @return 启动以来所有线程累计分配字节数，未知时为负数
+         */
+        long allocatedBytes();
+
+        int threadCount();
+    }
+
+    private static final class JmxProbe implements Probe {
+        private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+        private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        // G1 的 "G1 Concurrent GC"、ZGC/Shenandoah 的 "Cycles" 统计的是并发阶段耗时，不会停住业务线程。
+        private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .filter(bean -> !bean.getName().contains("Concurrent") && !bean.getName().contains("Cycles"))
+                .toList();
+
+        @Override
+        public double processCpuLoad() {
+            if (osBean instanceof com.sun.management.OperatingSystemMXBean bean) {
+                return bean.getProcessCpuLoad();
+            }
+            return -1D;
+        }
+
+        @Override
+        public long gcPauseMs() {
+            long total = 0L;
+            boolean known = false;
+            for (GarbageCollectorMXBean gcBean : gcBeans) {
+                long time = gcBean.getCollectionTime();
+                if (time >= 0) {
+                    total += time;
+                    known = true;
+                }
+            }
+            return known ? total : -1L;
+        }
+
+        @Override
+        public long allocatedBytes() {
+            if (threadBean instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()
+                    && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean.getTotalThreadAllocatedBytes();
+            }
+            return -1L;
+        }
+
+        @Override
+        public int threadCount() {
+            return threadBean.getThreadCount();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.laker.postman.performance.core.runtime;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -13,6 +14,8 @@ public final class PerformanceVirtualUserCoordinator {
     private final AtomicInteger peakActiveThreads = new AtomicInteger(0);
     private final AtomicInteger virtualUserCounter = new AtomicInteger(0);
     private final AtomicBoolean acceptingSamples = new AtomicBoolean(true);
+    private final AtomicInteger parkedThreads = new AtomicInteger(0);
+    private volatile double virtualUserScale = 1D;
     private final ThreadLocal<Integer> threadVirtualUserIndex = new ThreadLocal<>();
     private final ThreadLocal<String> threadVirtualUserScope = new ThreadLocal<>();
     private final ThreadLocal<Integer> threadIterationIndex = ThreadLocal.withInitial(() -> 0);
@@ -23,6 +26,29 @@ public final class PerformanceVirtualUserCoordinator {
         return activeThreads.get();
     }
 
+    /**
+     * 处于驻留状态的备用虚拟用户数，它们已经启动但当前不发送请求。
+     */
+    public int getParkedThreads() {
+        return parkedThreads.get();
+    }
+
+    void parkedThreadDelta(int delta) {
+        parkedThreads.addAndGet(delta);
+    }
+
+    public double getVirtualUserScale() {
+        return virtualUserScale;
+    }
+
+    /**
+     * 调整带备用用户的线程组的执行比例，1.0 表示只执行分配给本机的用户数；
+     * 没有备用用户的线程组不受影响。
+     */
+    public void setVirtualUserScale(double scale) {
+        virtualUserScale = Double.isFinite(scale) ? Math.max(0D, scale) : 1D;
+    }
+
     /**
      * 趋势图采样按窗口峰值展示并重置窗口，避免短请求在采样瞬间结束后被误画成 0 用户。
      */
@@ -58,6 +84,32 @@ public final class PerformanceVirtualUserCoordinator {
         return acceptingSamples.get() && System.currentTimeMillis() < threadLoadEndTimeMs.get();
     }
 
+    /**
+     * 把当前线程的虚拟用户上下文绑定到 {@code executor}：返回的执行器在执行每个任务期间恢复调用这里时的
+     * 编号、作用域、迭代计数和负载窗口，任务结束后清除。用于异步采样把后处理交给工作线程时，
+     * 脚本和结果里仍能取到发起请求的虚拟用户。
+     */
+    public Executor bindCurrentVirtualUser(Executor executor) {
+        Integer vuIndex = threadVirtualUserIndex.get();
+        String vuScope = threadVirtualUserScope.get();
+        int iterationIndex = threadIterationIndex.get();
+        long loadEndTimeMs = threadLoadEndTimeMs.get();
+        return task -> executor.execute(() -> {
+            threadVirtualUserIndex.set(vuIndex);
+            threadVirtualUserScope.set(vuScope);
+            threadIterationIndex.set(iterationIndex);
+            threadLoadEndTimeMs.set(loadEndTimeMs);
+            try {
+                task.run();
+            } finally {
+                threadVirtualUserIndex.remove();
+                threadVirtualUserScope.remove();
+                threadIterationIndex.remove();
+                threadLoadEndTimeMs.remove();
+            }
+        });
+    }
+
     void startAcceptingSamples() {
         acceptingSamples.set(true);
     }
@@ -132,6 +184,81 @@ public final class PerformanceVirtualUserCoordinator {
         );
     }
 
+    /**
+     * 登记一个不独占线程的虚拟用户，计入活跃用户数直到 {@link AsyncVirtualUser#finish()}。
+     */
+    AsyncVirtualUser startAsync(BiConsumer<Integer, Integer> progressUpdater,
+                                int totalThreads,
+                                IntSupplier virtualUserIndexSupplier,
+                                IntFunction<String> virtualUserScopeFactory,
+                                long loadEndTimeMs) {
+        int vuIndex = nextVirtualUserIndex(virtualUserIndexSupplier);
+        incrementActiveThreads(progressUpdater, totalThreads);
+        return new AsyncVirtualUser(
+                vuIndex,
+                resolveVirtualUserScope(vuIndex, virtualUserScopeFactory),
+                loadEndTimeMs,
+                progressUpdater,
+                totalThreads
+        );
+    }
+
+    /**
+     * 异步虚拟用户：每段执行可能落在不同的驱动线程上，执行期间临时绑定编号、作用域、迭代计数和负载窗口，
+     * 结束后把迭代计数带回，线程上不留状态。同一虚拟用户的各段执行先后衔接，不会并发。
+     */
+    final class AsyncVirtualUser {
+        private final int virtualUserIndex;
+        private final String virtualUserScope;
+        private final long loadEndTimeMs;
+        private final BiConsumer<Integer, Integer> progressUpdater;
+        private final int totalThreads;
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+        private volatile int iterationIndex;
+
+        private AsyncVirtualUser(int virtualUserIndex,
+                                 String virtualUserScope,
+                                 long loadEndTimeMs,
+                                 BiConsumer<Integer, Integer> progressUpdater,
+                                 int totalThreads) {
+            this.virtualUserIndex = virtualUserIndex;
+            this.virtualUserScope = virtualUserScope;
+            this.loadEndTimeMs = loadEndTimeMs;
+            this.progressUpdater = progressUpdater;
+            this.totalThreads = totalThreads;
+        }
+
+        int virtualUserIndex() {
+            return virtualUserIndex;
+        }
+
+        long loadEndTimeMs() {
+            return loadEndTimeMs;
+        }
+
+        void run(Runnable segment) {
+            threadVirtualUserIndex.set(virtualUserIndex);
+            threadVirtualUserScope.set(virtualUserScope);
+            threadIterationIndex.set(iterationIndex);
+            threadLoadEndTimeMs.set(loadEndTimeMs);
+            try {
+                segment.run();
+            } finally {
+                iterationIndex = threadIterationIndex.get();
+                threadVirtualUserIndex.remove();
+                threadVirtualUserScope.remove();
+                threadIterationIndex.remove();
+                threadLoadEndTimeMs.remove();
+            }
+        }
+
+        void finish() {
+            if (finished.compareAndSet(false, true)) {
+                decrementActiveThreads(progressUpdater, totalThreads);
+            }
+        }
+    }
+
     private void run(BiConsumer<Integer, Integer> progressUpdater,
                      int totalThreads,
                      int vuIndex,
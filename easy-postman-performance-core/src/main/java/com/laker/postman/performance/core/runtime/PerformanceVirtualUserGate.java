@@ -0,0 +1,117 @@
+package com.laker.postman.performance.core.runtime;
+
+import com.laker.postman.performance.core.plan.PerformanceThreadGroupPlan;
+import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 带备用用户的线程组闸门。
+ * <p>
+ * 虚拟用户启动时领取最小的空闲槽位、退出时归还；每轮迭代前只有槽位号小于
+ * “当前在线用户数 × 执行比例”的用户继续执行，其余用户短暂驻留后交回调用方重新检查结束条件。
+ * 执行比例 = 分配用户占比 × worker 当前的用户比例，因此比例为 1 时实际执行的正好是分配给本机的用户数，
+ * 递增/尖刺/阶梯模式在每个时刻也按同一比例缩放。
+ * </p>
+ */
+final class PerformanceVirtualUserGate {
+    static final long PARK_INTERVAL_MS = 100L;
+
+    private final double assignedShare;
+    private final PerformanceVirtualUserCoordinator virtualUsers;
+    private final BitSet slots = new BitSet();
+    private final ThreadLocal<Integer> threadSlot = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> threadParked = ThreadLocal.withInitial(() -> false);
+    private int heldSlots;
+
+    private PerformanceVirtualUserGate(int assignedUsers, int standbyUsers, PerformanceVirtualUserCoordinator virtualUsers) {
+        this.assignedShare = assignedUsers / (double) (assignedUsers + standbyUsers);
+        this.virtualUsers = virtualUsers;
+    }
+
+    static PerformanceVirtualUserGate forGroup(PerformanceThreadGroupPlan groupPlan,
+                                               ThreadGroupData tg,
+                                               PerformanceVirtualUserCoordinator virtualUsers) {
+        int standby = groupPlan == null ? 0 : groupPlan.getStandbyVirtualUserCount();
+        int total = tg == null ? 0 : maxThreads(tg);
+        if (standby <= 0 || total <= standby) {
+            return null;
+        }
+        return new PerformanceVirtualUserGate(total - standby, standby, virtualUsers);
+    }
+
+    Runnable track(Runnable task) {
+        return () -> {
+            acquire();
+            try {
+                task.run();
+            } finally {
+                release();
+            }
+        };
+    }
+
+    /**
+     * @return true 表示本轮可以执行；false 表示当前用户处于驻留状态，已等待一个驻留间隔
+     */
+    boolean tryEnter() {
+        Integer slot = threadSlot.get();
+        if (slot == null || slot < allowedSlots()) {
+            leaveParked();
+            return true;
+        }
+        if (!threadParked.get()) {
+            threadParked.set(true);
+            virtualUsers.parkedThreadDelta(1);
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(PARK_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    synchronized int allowedSlots() {
+        double share = Math.min(1D, assignedShare * virtualUsers.getVirtualUserScale());
+        return (int) Math.round(share * heldSlots);
+    }
+
+    private synchronized void acquire() {
+        int slot = slots.nextClearBit(0);
+        slots.set(slot);
+        heldSlots++;
+        threadSlot.set(slot);
+    }
+
+    private void release() {
+        leaveParked();
+        threadParked.remove();
+        Integer slot = threadSlot.get();
+        threadSlot.remove();
+        if (slot == null) {
+            return;
+        }
+        synchronized (this) {
+            slots.clear(slot);
+            heldSlots--;
+        }
+    }
+
+    private void leaveParked() {
+        if (threadParked.get()) {
+            threadParked.set(false);
+            virtualUsers.parkedThreadDelta(-1);
+        }
+    }
+
+    private static int maxThreads(ThreadGroupData tg) {
+        return switch (tg.threadMode) {
+            case FIXED -> tg.numThreads;
+            case RAMP_UP -> tg.rampUpEndThreads;
+            case SPIKE -> tg.spikeMaxThreads;
+            case STAIRS -> tg.stairsEndThreads;
+        };
+    }
+}
@@ -31,6 +31,26 @@ public final class PerformanceCoreThreadGroupPlanner {
         return total;
     }
 
+    /**
+     * 启用异步采样的固定模式线程组的虚拟用户总数，即异步模式下最多可能同时在途的请求数
+     */
+    public int getAsyncVirtualUsers(PerformanceTestPlan plan) {
+        int total = 0;
+        if (plan == null) {
+            return total;
+        }
+        for (PerformanceThreadGroupPlan groupPlan : plan.getThreadGroups()) {
+            if (groupPlan == null) {
+                continue;
+            }
+            ThreadGroupData threadGroupData = resolveThreadGroupData(groupPlan);
+            if (threadGroupData.asyncSampling && threadGroupData.threadMode == ThreadGroupData.ThreadMode.FIXED) {
+                total = saturatingAddInt(total, threadGroupData.numThreads);
+            }
+        }
+        return total;
+    }
+
     public long estimateTotalRequests(PerformanceTestPlan plan) {
         return estimateRequestCount(plan).estimatedRequests();
     }
@@ -8,6 +8,8 @@ import com.laker.postman.util.MessageKeys;
 public class ThreadGroupData {
     public static final int MIN_THREADS = 1;
     public static final int DEFAULT_MAX_IN_FLIGHT_WAIT_SECONDS = 60;
+    public static final int DEFAULT_HTTP2_CONNECTIONS = 4;
+    public static final int DEFAULT_HTTP2_MAX_STREAMS_PER_CONNECTION = 100;
     private static final int MIN_SECONDS = 1;
     private static final int MIN_LOOPS = 1;
     private static final int MIN_STEP = 1;
@@ -43,6 +45,14 @@ public class ThreadGroupData {
     public boolean useTime = true;                   // 是否使用时间而不是循环次数
     public int maxInFlightWaitSeconds = DEFAULT_MAX_IN_FLIGHT_WAIT_SECONDS; // 到时后等待在途请求完成的最长时间
 
+    // HTTP/2 多路复用属性，与线程模式正交：线程模式决定并发用户数曲线，这里决定请求如何落到连接上
+    public boolean http2Multiplexed = false;          // 是否把请求复用到固定数量的 HTTP/2 连接上
+    public int http2Connections = DEFAULT_HTTP2_CONNECTIONS; // 每个目标地址的连接数
+    public int http2MaxStreamsPerConnection = DEFAULT_HTTP2_MAX_STREAMS_PER_CONNECTION; // 每个连接的并发流上限
+
+    // 异步采样：虚拟用户不独占线程，普通 HTTP 请求发出后由回调推进计划，目前只对固定模式生效
+    public boolean asyncSampling = false;
+
     // 递增模式属性
     public int rampUpStartThreads = 1;                // 递增起始线程数
     public int rampUpEndThreads = 20;                 // 递增最终线程数
@@ -74,6 +84,8 @@ public class ThreadGroupData {
         duration = atLeast(duration, MIN_SECONDS);
         loops = atLeast(loops, MIN_LOOPS);
         maxInFlightWaitSeconds = atLeast(maxInFlightWaitSeconds, MIN_SECONDS);
+        http2Connections = atLeast(http2Connections, 1);
+        http2MaxStreamsPerConnection = atLeast(http2MaxStreamsPerConnection, 1);
 
         rampUpStartThreads = atLeast(rampUpStartThreads, MIN_THREADS);
         rampUpEndThreads = atLeast(rampUpEndThreads, MIN_THREADS);
@@ -0,0 +1,95 @@
+package com.laker.postman.performance.core.threshold;
+
+import com.laker.postman.performance.core.model.PerformanceProtocol;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+
+/**
+ * 声明式 SLA 阈值：在最近 windowSeconds 秒的滑动窗口上检查某个指标，例如“登录接口 10 秒窗口 p95 不超过 500ms”。
+ * <p>
+ * 运行开始后的 graceSeconds 秒内只统计不判定，避开预热和爬坡；abortOnFail 为 true 时越线即平滑停止压测。
+ * target 在 PROTOCOL 范围下是协议名，在 API 范围下可以是 API id 或显示名。
+ * </p>
+ */
+@Value
+public class PerformanceThreshold {
+    public static final int DEFAULT_WINDOW_SECONDS = 10;
+    public static final int MAX_WINDOW_SECONDS = 300;
+
+    String name;
+    PerformanceThresholdScope scope;
+    String target;
+    PerformanceThresholdMetric metric;
+    double limit;
+    int windowSeconds;
+    int graceSeconds;
+    boolean abortOnFail;
+
+    @Builder(toBuilder = true)
+    public PerformanceThreshold(String name,
+                                PerformanceThresholdScope scope,
+                                String target,
+                                PerformanceThresholdMetric metric,
+                                Double limit,
+                                Integer windowSeconds,
+                                Integer graceSeconds,
+                                Boolean abortOnFail) {
+        this.scope = scope == null ? PerformanceThresholdScope.OVERALL : scope;
+        this.target = normalizeTarget(this.scope, target);
+        this.metric = metric == null ? PerformanceThresholdMetric.P95_MS : metric;
+        this.limit = limit == null || !Double.isFinite(limit) ? 0D : Math.max(0D, limit);
+        this.windowSeconds = Math.max(1, Math.min(MAX_WINDOW_SECONDS,
+                windowSeconds == null || windowSeconds <= 0 ? DEFAULT_WINDOW_SECONDS : windowSeconds));
+        this.graceSeconds = Math.max(0, graceSeconds == null ? 0 : graceSeconds);
+        this.abortOnFail = abortOnFail != null && abortOnFail;
+        this.name = name == null || name.isBlank() ? describe() : name.trim();
+    }
+
+    /**
+     * 当前值是否越线。NaN 表示窗口里没有可判定的数据，不算越线。
+     */
+    public boolean isBreachedBy(double value) {
+        if (Double.isNaN(value)) {
+            return false;
+        }
+        return metric.isMinimum() ? value < limit : value > limit;
+    }
+
+    private String describe() {
+        String scopeLabel = switch (scope) {
+            case OVERALL -> "overall";
+            case PROTOCOL -> target;
+            case API -> "api " + target;
+        };
+        return String.format(Locale.ROOT, "%s %s %s %s over %ds",
+                scopeLabel,
+                metric.label(),
+                metric.isMinimum() ? ">=" : "<=",
+                formatLimit(limit),
+                windowSeconds);
+    }
+
+    private static String normalizeTarget(PerformanceThresholdScope scope, String target) {
+        if (scope == PerformanceThresholdScope.OVERALL) {
+            return "";
+        }
+        String trimmed = target == null ? "" : target.trim();
+        if (scope == PerformanceThresholdScope.PROTOCOL) {
+            for (PerformanceProtocol protocol : PerformanceProtocol.values()) {
+                if (protocol.name().equalsIgnoreCase(trimmed)) {
+                    return protocol.name();
+                }
+            }
+            return PerformanceProtocol.HTTP.name();
+        }
+        return trimmed;
+    }
+
+    static String formatLimit(double value) {
+        return value == Math.rint(value)
+                ? String.valueOf((long) value)
+                : String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,258 @@
+package com.laker.postman.performance.core.threshold;
+
+import com.laker.postman.performance.core.model.PerformanceProtocol;
+import com.laker.postman.performance.core.model.RequestResult;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 在运行中增量判定 SLA 阈值。
+ * <p>
+ * 样本写入只做常数次 map 查找和窗口累加；{@link #evaluate(long)} 由调用方按固定节奏（通常每秒）触发，
+ * 每次只滚动各窗口一个槽并读取窗口聚合值，成本只和阈值个数、窗口槽数有关，不会回扫样本。
+ * 相同范围、目标和窗口长度的阈值共用一个窗口。
+ * </p>
+ */
+public final class PerformanceThresholdEvaluator {
+    private static final PerformanceThresholdEvaluator NONE = new PerformanceThresholdEvaluator(List.of());
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<PerformanceThresholdWindow> windows = new ArrayList<>();
+    private final List<PerformanceThresholdWindow> overallWindows = new ArrayList<>();
+    private final Map<PerformanceProtocol, List<PerformanceThresholdWindow>> protocolWindows =
+            new EnumMap<>(PerformanceProtocol.class);
+    private final Map<String, List<PerformanceThresholdWindow>> apiWindows = new HashMap<>();
+    private long startTimeMs = -1L;
+    private volatile String abortReason = "";
+
+    public PerformanceThresholdEvaluator(List<PerformanceThreshold> thresholds) {
+        Map<String, List<PerformanceThreshold>> byWindow = new LinkedHashMap<>();
+        if (thresholds != null) {
+            for (PerformanceThreshold threshold : thresholds) {
+                if (threshold == null
+                        || threshold.getScope() == PerformanceThresholdScope.API && threshold.getTarget().isBlank()) {
+                    continue;
+                }
+                byWindow.computeIfAbsent(windowKey(threshold), ignored -> new ArrayList<>()).add(threshold);
+            }
+        }
+        for (List<PerformanceThreshold> group : byWindow.values()) {
+            PerformanceThreshold first = group.get(0);
+            boolean trackLatency = group.stream().anyMatch(threshold -> threshold.getMetric().needsLatencyBuckets());
+            PerformanceThresholdWindow window = new PerformanceThresholdWindow(first.getWindowSeconds(), trackLatency);
+            windows.add(window);
+            switch (first.getScope()) {
+                case OVERALL -> overallWindows.add(window);
+                case PROTOCOL -> protocolWindows
+                        .computeIfAbsent(PerformanceProtocol.valueOf(first.getTarget()), ignored -> new ArrayList<>())
+                        .add(window);
+                case API -> apiWindows.computeIfAbsent(first.getTarget(), ignored -> new ArrayList<>()).add(window);
+            }
+            for (PerformanceThreshold threshold : group) {
+                entries.add(new Entry(threshold, window));
+            }
+        }
+    }
+
+    public static PerformanceThresholdEvaluator none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void record(RequestResult result) {
+        if (entries.isEmpty() || result == null) {
+            return;
+        }
+        long durationMs = result.getResponseTime();
+        boolean success = result.success;
+        for (PerformanceThresholdWindow window : overallWindows) {
+            window.record(durationMs, success);
+        }
+        if (!protocolWindows.isEmpty()) {
+            recordAll(protocolWindows.get(result.protocol == null ? PerformanceProtocol.HTTP : result.protocol),
+                    durationMs, success);
+        }
+        if (!apiWindows.isEmpty()) {
+            String apiId = result.apiId == null ? "" : result.apiId;
+            recordAll(apiWindows.get(apiId), durationMs, success);
+            if (result.apiName != null && !result.apiName.isBlank() && !result.apiName.equals(apiId)) {
+                recordAll(apiWindows.get(result.apiName), durationMs, success);
+            }
+        }
+    }
+
+    /**
+     * 标记运行开始时间，grace 期从这里开始计算，同时丢弃开始前的样本。
+     */
+    public synchronized void start(long nowMs) {
+        startTimeMs = nowMs;
+        abortReason = "";
+        for (PerformanceThresholdWindow window : windows) {
+            window.reset(nowMs);
+        }
+        for (Entry entry : entries) {
+            entry.reset();
+        }
+    }
+
+    /**
+     * 滚动一个窗口槽并判定所有阈值。
+     */
+    public synchronized List<PerformanceThresholdResult> evaluate(long nowMs) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        if (startTimeMs < 0) {
+            startTimeMs = nowMs;
+        }
+        for (PerformanceThresholdWindow window : windows) {
+            window.roll(nowMs);
+        }
+        for (Entry entry : entries) {
+            entry.evaluate(nowMs, true);
+        }
+        return results();
+    }
+
+    /**
+     * 运行结束后的最终判定：把剩余样本并入窗口。结尾窗口不满一个完整 tick，吞吐下限不在这里判定。
+     */
+    public synchronized List<PerformanceThresholdResult> finish(long nowMs) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        if (startTimeMs < 0) {
+            startTimeMs = nowMs;
+        }
+        for (PerformanceThresholdWindow window : windows) {
+            window.flush(nowMs);
+        }
+        for (Entry entry : entries) {
+            entry.evaluate(nowMs, false);
+        }
+        return results();
+    }
+
+    public synchronized List<PerformanceThresholdResult> results() {
+        List<PerformanceThresholdResult> results = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            results.add(entry.toResult());
+        }
+        return List.copyOf(results);
+    }
+
+    public boolean isAbortRequested() {
+        return !abortReason.isEmpty();
+    }
+
+    /**
+     * 第一个触发中止的阈值说明；未触发时为空字符串。
+     */
+    public String abortReason() {
+        return abortReason;
+    }
+
+    public synchronized void clear() {
+        startTimeMs = -1L;
+        abortReason = "";
+        for (PerformanceThresholdWindow window : windows) {
+            window.reset(0L);
+        }
+        for (Entry entry : entries) {
+            entry.reset();
+        }
+    }
+
+    private static void recordAll(List<PerformanceThresholdWindow> targets, long durationMs, boolean success) {
+        if (targets == null) {
+            return;
+        }
+        for (PerformanceThresholdWindow window : targets) {
+            window.record(durationMs, success);
+        }
+    }
+
+    private static String windowKey(PerformanceThreshold threshold) {
+        return threshold.getScope() + "|" + threshold.getTarget() + "|" + threshold.getWindowSeconds();
+    }
+
+    static String formatValue(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private final class Entry {
+        private final PerformanceThreshold threshold;
+        private final PerformanceThresholdWindow window;
+        private long evaluations;
+        private long breaches;
+        private double worstValue = Double.NaN;
+        private double lastValue = Double.NaN;
+        private long firstBreachTimeMs;
+        private boolean aborted;
+
+        private Entry(PerformanceThreshold threshold, PerformanceThresholdWindow window) {
+            this.threshold = threshold;
+            this.window = window;
+        }
+
+        private void evaluate(long nowMs, boolean includeThroughput) {
+            if (nowMs - startTimeMs < threshold.getGraceSeconds() * 1000L) {
+                return;
+            }
+            PerformanceThresholdMetric metric = threshold.getMetric();
+            if (metric == PerformanceThresholdMetric.RPS && (!includeThroughput || !window.isFull())) {
+                return;
+            }
+            double value = window.value(metric);
+            if (Double.isNaN(value)) {
+                return;
+            }
+            evaluations++;
+            lastValue = value;
+            if (Double.isNaN(worstValue) || (metric.isMinimum() ? value < worstValue : value > worstValue)) {
+                worstValue = value;
+            }
+            if (!threshold.isBreachedBy(value)) {
+                return;
+            }
+            breaches++;
+            if (firstBreachTimeMs == 0L) {
+                firstBreachTimeMs = nowMs;
+            }
+            if (threshold.isAbortOnFail() && abortReason.isEmpty()) {
+                aborted = true;
+                abortReason = "Threshold breached: " + threshold.getName() + " (actual " + formatValue(value) + ")";
+            }
+        }
+
+        private void reset() {
+            evaluations = 0;
+            breaches = 0;
+            worstValue = Double.NaN;
+            lastValue = Double.NaN;
+            firstBreachTimeMs = 0L;
+            aborted = false;
+        }
+
+        private PerformanceThresholdResult toResult() {
+            return PerformanceThresholdResult.builder()
+                    .threshold(threshold)
+                    .evaluations(evaluations)
+                    .breaches(breaches)
+                    .worstValue(worstValue)
+                    .lastValue(lastValue)
+                    .firstBreachTimeMs(firstBreachTimeMs)
+                    .aborted(aborted)
+                    .build();
+        }
+    }
+}
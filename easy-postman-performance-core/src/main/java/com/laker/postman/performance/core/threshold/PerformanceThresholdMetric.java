@@ -0,0 +1,51 @@
+package com.laker.postman.performance.core.threshold;
+
+import java.util.Locale;
+
+/**
+ * 阈值指标。RPS 是下限（窗口吞吐不能低于 limit），其余都是上限。
+ */
+public enum PerformanceThresholdMetric {
+    AVG_MS("avg", false),
+    P90_MS("p90", false),
+    P95_MS("p95", false),
+    P99_MS("p99", false),
+    ERROR_RATE_PERCENT("error rate", false),
+    RPS("rps", true);
+
+    private final String label;
+    private final boolean minimum;
+
+    PerformanceThresholdMetric(String label, boolean minimum) {
+        this.label = label;
+        this.minimum = minimum;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * true 表示 limit 是下限，实际值低于 limit 才算越线。
+     */
+    public boolean isMinimum() {
+        return minimum;
+    }
+
+    boolean needsLatencyBuckets() {
+        return this == P90_MS || this == P95_MS || this == P99_MS;
+    }
+
+    public static PerformanceThresholdMetric parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        for (PerformanceThresholdMetric metric : values()) {
+            if (metric.name().equals(normalized)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.laker.postman.performance.core.threshold;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 单个阈值在本轮运行中的判定结果。只要有一个窗口越线就记为 FAILED；从未拿到可判定窗口时为 NO_DATA，不影响运行结果。
+ * worstValue 是所有已判定窗口里最差的值（上限指标取最大，下限指标取最小），没有窗口时为 NaN。
+ */
+@Value
+public class PerformanceThresholdResult {
+    public static final String PASSED = "PASSED";
+    public static final String FAILED = "FAILED";
+    public static final String NO_DATA = "NO_DATA";
+
+    PerformanceThreshold threshold;
+    String status;
+    long evaluations;
+    long breaches;
+    double worstValue;
+    double lastValue;
+    long firstBreachTimeMs;
+    boolean aborted;
+
+    @Builder
+    public PerformanceThresholdResult(PerformanceThreshold threshold,
+                                      Long evaluations,
+                                      Long breaches,
+                                      Double worstValue,
+                                      Double lastValue,
+                                      Long firstBreachTimeMs,
+                                      Boolean aborted) {
+        this.threshold = threshold == null ? PerformanceThreshold.builder().build() : threshold;
+        this.evaluations = Math.max(0L, evaluations == null ? 0L : evaluations);
+        this.breaches = Math.max(0L, breaches == null ? 0L : breaches);
+        this.worstValue = worstValue == null ? Double.NaN : worstValue;
+        this.lastValue = lastValue == null ? Double.NaN : lastValue;
+        this.firstBreachTimeMs = Math.max(0L, firstBreachTimeMs == null ? 0L : firstBreachTimeMs);
+        this.aborted = aborted != null && aborted;
+        if (this.breaches > 0) {
+            this.status = FAILED;
+        } else {
+            this.status = this.evaluations > 0 ? PASSED : NO_DATA;
+        }
+    }
+
+    public boolean isFailed() {
+        return FAILED.equals(status);
+    }
+}
@@ -0,0 +1,25 @@
+package com.laker.postman.performance.core.threshold;
+
+import java.util.Locale;
+
+/**
+ * 阈值作用范围：整轮所有样本、某个协议分组（HTTP / WEBSOCKET / SSE）或单个 API。
+ */
+public enum PerformanceThresholdScope {
+    OVERALL,
+    PROTOCOL,
+    API;
+
+    public static PerformanceThresholdScope parse(String value) {
+        if (value == null || value.isBlank()) {
+            return OVERALL;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        for (PerformanceThresholdScope scope : values()) {
+            if (scope.name().equals(normalized)) {
+                return scope;
+            }
+        }
+        return OVERALL;
+    }
+}
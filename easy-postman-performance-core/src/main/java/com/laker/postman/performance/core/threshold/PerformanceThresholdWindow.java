@@ -0,0 +1,211 @@
+package com.laker.postman.performance.core.threshold;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 阈值用的滑动窗口：每个评估 tick（默认 1 秒）一个槽，窗口聚合值随槽进出增量加减。
+ * <p>
+ * 写入线程只往当前槽累加；评估线程 tick 时把上一个槽冻结后并入聚合，同时减去滑出窗口的槽。
+ * 冻结推迟一个 tick，保证换槽瞬间仍在写旧槽的线程不会丢数据，代价是窗口整体滞后一个 tick。
+ * 延迟只用固定个数的对数分桶计数，分位数扫描固定 {@link #BUCKET_COUNT} 个桶，评估成本与样本量无关。
+ * </p>
+ */
+final class PerformanceThresholdWindow {
+    private static final int EXACT_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int FIRST_EXPONENT = 6;
+    private static final int LAST_EXPONENT = 30;
+    static final int BUCKET_COUNT = EXACT_BUCKETS + (LAST_EXPONENT - FIRST_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final int capacity;
+    private final boolean trackLatency;
+    private final FrozenSlot[] ring;
+    private int ringHead;
+    private int ringSize;
+    private long count;
+    private long failures;
+    private long durationSumMs;
+    private long spanMs;
+    private final long[] buckets;
+
+    private volatile LiveSlot current;
+    private long currentStartMs;
+    private LiveSlot pending;
+    private long pendingStartMs;
+    private long pendingEndMs;
+
+    PerformanceThresholdWindow(int windowSlots, boolean trackLatency) {
+        this.capacity = Math.max(1, windowSlots);
+        this.trackLatency = trackLatency;
+        this.ring = new FrozenSlot[capacity];
+        this.buckets = trackLatency ? new long[BUCKET_COUNT] : new long[0];
+        this.current = new LiveSlot(trackLatency);
+    }
+
+    void record(long durationMs, boolean success) {
+        current.record(durationMs, success);
+    }
+
+    /**
+     * 开启新 tick。只能由评估线程调用。
+     */
+    void roll(long nowMs) {
+        if (pending != null) {
+            push(pending.freeze(pendingEndMs - pendingStartMs));
+        }
+        pending = current;
+        pendingStartMs = currentStartMs;
+        pendingEndMs = nowMs;
+        currentStartMs = nowMs;
+        current = new LiveSlot(trackLatency);
+    }
+
+    /**
+     * 运行结束时把尚未并入的槽全部并入，最终判定覆盖到最后一个样本。
+     */
+    void flush(long nowMs) {
+        roll(nowMs);
+        roll(nowMs);
+    }
+
+    void reset(long nowMs) {
+        Arrays.fill(ring, null);
+        ringHead = 0;
+        ringSize = 0;
+        count = 0;
+        failures = 0;
+        durationSumMs = 0;
+        spanMs = 0;
+        Arrays.fill(buckets, 0L);
+        pending = null;
+        currentStartMs = nowMs;
+        current = new LiveSlot(trackLatency);
+    }
+
+    boolean isFull() {
+        return ringSize == capacity;
+    }
+
+    long count() {
+        return count;
+    }
+
+    double value(PerformanceThresholdMetric metric) {
+        if (metric == PerformanceThresholdMetric.RPS) {
+            return spanMs <= 0 ? Double.NaN : count * 1000D / spanMs;
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return switch (metric) {
+            case AVG_MS -> (double) durationSumMs / count;
+            case P90_MS -> percentile(0.90);
+            case P95_MS -> percentile(0.95);
+            case P99_MS -> percentile(0.99);
+            case ERROR_RATE_PERCENT -> failures * 100D / count;
+            case RPS -> Double.NaN;
+        };
+    }
+
+    private double percentile(double percentile) {
+        if (!trackLatency) {
+            return Double.NaN;
+        }
+        long target = Math.max(1L, (long) Math.ceil(count * percentile));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(buckets.length - 1);
+    }
+
+    private void push(FrozenSlot slot) {
+        if (ringSize == capacity) {
+            FrozenSlot expired = ring[ringHead];
+            apply(expired, -1);
+            ring[ringHead] = slot;
+            ringHead = (ringHead + 1) % capacity;
+        } else {
+            ring[(ringHead + ringSize) % capacity] = slot;
+            ringSize++;
+        }
+        apply(slot, 1);
+    }
+
+    private void apply(FrozenSlot slot, int sign) {
+        count += sign * slot.count;
+        failures += sign * slot.failures;
+        durationSumMs += sign * slot.durationSumMs;
+        spanMs += sign * slot.spanMs;
+        if (slot.buckets != null) {
+            for (int i = 0; i < slot.buckets.length; i++) {
+                buckets[i] += sign * slot.buckets[i];
+            }
+        }
+    }
+
+    static int bucketIndex(long durationMs) {
+        long value = Math.max(0L, Math.min(Integer.MAX_VALUE, durationMs));
+        if (value < EXACT_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return EXACT_BUCKETS + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < EXACT_BUCKETS) {
+            return index;
+        }
+        int offset = index - EXACT_BUCKETS;
+        int exponent = FIRST_EXPONENT + offset / SUB_BUCKETS;
+        int subBucket = offset % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static final class LiveSlot {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder durationSumMs = new LongAdder();
+        private final AtomicLongArray buckets;
+
+        private LiveSlot(boolean trackLatency) {
+            this.buckets = trackLatency ? new AtomicLongArray(BUCKET_COUNT) : null;
+        }
+
+        private void record(long durationMs, boolean success) {
+            long safeDuration = Math.max(0L, durationMs);
+            if (!success) {
+                failures.increment();
+            }
+            durationSumMs.add(safeDuration);
+            if (buckets != null) {
+                buckets.incrementAndGet(bucketIndex(safeDuration));
+            }
+            count.increment();
+        }
+
+        private FrozenSlot freeze(long spanMs) {
+            long[] frozenBuckets = null;
+            if (buckets != null) {
+                frozenBuckets = new long[buckets.length()];
+                for (int i = 0; i < frozenBuckets.length; i++) {
+                    frozenBuckets[i] = buckets.get(i);
+                }
+            }
+            return new FrozenSlot(count.sum(), failures.sum(), durationSumMs.sum(), Math.max(0L, spanMs), frozenBuckets);
+        }
+    }
+
+    private record FrozenSlot(long count, long failures, long durationSumMs, long spanMs, long[] buckets) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.laker.postman.performance.core.threshold;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 分布式运行的吞吐下限判定。
+ * <p>
+ * 每台 worker 只承担一部分用户，备用用户和运行中的用户迁移又会改变各 worker 的实际份额，worker 自己无法判断整体吞吐是否达标，
+ * 所以 RPS 下限只在 master 上判定。master 每次轮询用 {@link #observe} 记一次各范围的累计请求数（所有 worker 之和），
+ * 窗口吞吐 = 窗口内累计请求数的增量 / 实际经过的秒数；轮询历史还不够一个窗口时不判定。
+ * </p>
+ */
+public final class PerformanceThroughputThresholdEvaluator {
+    private final List<Entry> entries = new ArrayList<>();
+    private long startTimeMs = -1L;
+    private volatile String abortReason = "";
+
+    public PerformanceThroughputThresholdEvaluator(List<PerformanceThreshold> thresholds) {
+        if (thresholds == null) {
+            return;
+        }
+        for (PerformanceThreshold threshold : thresholds) {
+            if (isThroughput(threshold)
+                    && !(threshold.getScope() == PerformanceThresholdScope.API && threshold.getTarget().isBlank())) {
+                entries.add(new Entry(threshold));
+            }
+        }
+    }
+
+    /**
+     * 吞吐下限需要整体流量才能判定，分布式运行时 worker 不判定，交给 master。
+     */
+    public static boolean isThroughput(PerformanceThreshold threshold) {
+        return threshold != null && threshold.getMetric().isMinimum();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 有按协议或 API 判定的下限时，master 需要拉取带明细的实时报告才能拿到分范围的请求数。
+     */
+    public boolean needsBreakdown() {
+        return entries.stream().anyMatch(entry -> entry.threshold.getScope() != PerformanceThresholdScope.OVERALL);
+    }
+
+    /**
+     * 标记运行开始时间，grace 期从这里开始计算。
+     */
+    public synchronized void start(long nowMs) {
+        startTimeMs = nowMs;
+        abortReason = "";
+        for (Entry entry : entries) {
+            entry.reset();
+        }
+    }
+
+    /**
+     * 记录一次各阈值范围的累计请求数并判定所有已满窗口。
+     *
+     * @param cumulativeRequests 阈值范围内所有 worker 的累计请求数之和
+     */
+    public synchronized void observe(long nowMs, ToLongFunction<PerformanceThreshold> cumulativeRequests) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (startTimeMs < 0) {
+            startTimeMs = nowMs;
+        }
+        for (Entry entry : entries) {
+            entry.observe(nowMs, Math.max(0L, cumulativeRequests.applyAsLong(entry.threshold)));
+        }
+    }
+
+    public synchronized List<PerformanceThresholdResult> results() {
+        List<PerformanceThresholdResult> results = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            results.add(entry.toResult());
+        }
+        return List.copyOf(results);
+    }
+
+    public boolean isAbortRequested() {
+        return !abortReason.isEmpty();
+    }
+
+    /**
+     * 第一个触发中止的阈值说明；未触发时为空字符串。
+     */
+    public String abortReason() {
+        return abortReason;
+    }
+
+    private final class Entry {
+        private final PerformanceThreshold threshold;
+        private final ArrayDeque<long[]> samples = new ArrayDeque<>();
+        private long evaluations;
+        private long breaches;
+        private double worstValue = Double.NaN;
+        private double lastValue = Double.NaN;
+        private long firstBreachTimeMs;
+        private boolean aborted;
+
+        private Entry(PerformanceThreshold threshold) {
+            this.threshold = threshold;
+        }
+
+        private void observe(long nowMs, long requests) {
+            samples.addLast(new long[]{nowMs, requests});
+            long windowStartMs = nowMs - threshold.getWindowSeconds() * 1000L;
+            // 只保留窗口起点之前最近的一个样本作为基准，更早的丢掉。
+            while (samples.size() > 1) {
+                long[] first = samples.pollFirst();
+                if (samples.peekFirst()[0] > windowStartMs) {
+                    samples.addFirst(first);
+                    break;
+                }
+            }
+            long[] base = samples.peekFirst();
+            if (base[0] > windowStartMs || nowMs <= base[0]) {
+                return;
+            }
+            if (nowMs - startTimeMs < threshold.getGraceSeconds() * 1000L) {
+                return;
+            }
+            double value = Math.max(0L, requests - base[1]) * 1000D / (nowMs - base[0]);
+            evaluations++;
+            lastValue = value;
+            if (Double.isNaN(worstValue) || value < worstValue) {
+                worstValue = value;
+            }
+            if (!threshold.isBreachedBy(value)) {
+                return;
+            }
+            breaches++;
+            if (firstBreachTimeMs == 0L) {
+                firstBreachTimeMs = nowMs;
+            }
+            if (threshold.isAbortOnFail() && abortReason.isEmpty()) {
+                aborted = true;
+                abortReason = "Threshold breached: " + threshold.getName()
+                        + " (actual " + PerformanceThresholdEvaluator.formatValue(value) + ")";
+            }
+        }
+
+        private void reset() {
+            samples.clear();
+            evaluations = 0;
+            breaches = 0;
+            worstValue = Double.NaN;
+            lastValue = Double.NaN;
+            firstBreachTimeMs = 0L;
+            aborted = false;
+        }
+
+        private PerformanceThresholdResult toResult() {
+            return PerformanceThresholdResult.builder()
+                    .threshold(threshold)
+                    .evaluations(evaluations)
+                    .breaches(breaches)
+                    .worstValue(worstValue)
+                    .lastValue(lastValue)
+                    .firstBreachTimeMs(firstBreachTimeMs)
+                    .aborted(aborted)
+                    .build();
+        }
+    }
+}
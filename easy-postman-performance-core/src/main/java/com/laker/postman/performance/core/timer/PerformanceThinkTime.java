@@ -0,0 +1,67 @@
+package com.laker.postman.performance.core.timer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 思考时间的一次取样。
+ * <p>
+ * 由 {@link #of(TimerData)} 在构建执行程序时按定时器类型生成一次，运行期每次调用只做随机数计算，
+ * 不再读取或复制 {@link TimerData}。节奏与吞吐量定时器依赖运行期状态，不在这里取样，返回 {@link #NONE}。
+ * </p>
+ */
+@FunctionalInterface
+public interface PerformanceThinkTime {
+    PerformanceThinkTime NONE = () -> 0L;
+
+    /**
+     * 泊松分布均值超过该值时用正态近似，避免逐项累乘下溢
+     */
+    double POISSON_NORMAL_APPROXIMATION_MEAN = 30D;
+
+    long nextDelayMs();
+
+    static PerformanceThinkTime of(TimerData source) {
+        if (source == null) {
+            return NONE;
+        }
+        TimerData data = new TimerData();
+        data.type = source.type;
+        data.delayMs = source.delayMs;
+        data.rangeMs = source.rangeMs;
+        data.normalize();
+        long delayMs = data.delayMs;
+        long rangeMs = data.rangeMs;
+        return switch (data.timerType()) {
+            case CONSTANT -> constant(delayMs);
+            case UNIFORM_RANDOM -> rangeMs <= 0
+                    ? constant(delayMs)
+                    : () -> delayMs + ThreadLocalRandom.current().nextLong(rangeMs + 1);
+            case GAUSSIAN_RANDOM -> rangeMs <= 0
+                    ? constant(delayMs)
+                    : () -> Math.max(0L, Math.round(delayMs + ThreadLocalRandom.current().nextGaussian() * rangeMs));
+            case POISSON_RANDOM -> rangeMs <= 0
+                    ? constant(delayMs)
+                    : () -> delayMs + poisson(rangeMs);
+            case CONSTANT_PACING, CONSTANT_THROUGHPUT -> NONE;
+        };
+    }
+
+    private static PerformanceThinkTime constant(long delayMs) {
+        return delayMs <= 0 ? NONE : () -> delayMs;
+    }
+
+    private static long poisson(double mean) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (mean >= POISSON_NORMAL_APPROXIMATION_MEAN) {
+            return Math.max(0L, Math.round(mean + random.nextGaussian() * Math.sqrt(mean)));
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        long count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+}
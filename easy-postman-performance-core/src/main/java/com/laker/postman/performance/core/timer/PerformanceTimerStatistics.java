@@ -0,0 +1,73 @@
+package com.laker.postman.performance.core.timer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 定时器运行统计：思考时间总量，以及节奏/吞吐量定时器未能达成目标的次数和差额。
+ * <p>
+ * 节奏定时器在本轮已经超过目标耗时（无需等待）时记一次 miss，差额为超出的毫秒数；
+ * 吞吐量定时器在预定节拍已经过去、只能立即执行时记一次 miss，差额为落后节拍的毫秒数。
+ * 等待时间发生在采样器之外，不计入样本耗时，这里单独汇总以便和样本指标对照。
+ * </p>
+ */
+public final class PerformanceTimerStatistics {
+    private final LongAdder sleptMs = new LongAdder();
+    private final LongAdder pacedIterations = new LongAdder();
+    private final LongAdder pacingMisses = new LongAdder();
+    private final LongAdder pacingMissMs = new LongAdder();
+    private final LongAdder throughputMisses = new LongAdder();
+    private final LongAdder throughputLagMs = new LongAdder();
+
+    public void recordSleep(long delayMs) {
+        if (delayMs > 0) {
+            sleptMs.add(delayMs);
+        }
+    }
+
+    public void recordPacing(long missMs) {
+        pacedIterations.increment();
+        if (missMs > 0) {
+            pacingMisses.increment();
+            pacingMissMs.add(missMs);
+        }
+    }
+
+    public void recordThroughputLag(long lagMs) {
+        if (lagMs > 0) {
+            throughputMisses.increment();
+            throughputLagMs.add(lagMs);
+        }
+    }
+
+    public void reset() {
+        sleptMs.reset();
+        pacedIterations.reset();
+        pacingMisses.reset();
+        pacingMissMs.reset();
+        throughputMisses.reset();
+        throughputLagMs.reset();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(
+                sleptMs.sum(),
+                pacedIterations.sum(),
+                pacingMisses.sum(),
+                pacingMissMs.sum(),
+                throughputMisses.sum(),
+                throughputLagMs.sum()
+        );
+    }
+
+    public record Snapshot(long sleptMs,
+                           long pacedIterations,
+                           long pacingMisses,
+                           long pacingMissMs,
+                           long throughputMisses,
+                           long throughputLagMs) {
+
+        public boolean hasMisses() {
+            return pacingMisses > 0 || throughputMisses > 0;
+        }
+    }
+}
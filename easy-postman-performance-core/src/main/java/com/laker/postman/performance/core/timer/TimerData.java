@@ -1,5 +1,42 @@
 package com.laker.postman.performance.core.timer;
 
 public class TimerData {
+    public static final int MIN_DELAY_MS = 0;
+    public static final int MAX_DELAY_MS = 3_600_000;
+    public static final double MIN_THROUGHPUT_PER_MINUTE = 0.1D;
+    public static final double MAX_THROUGHPUT_PER_MINUTE = 6_000_000D;
+
+    public String type = TimerType.CONSTANT.getStorageValue();
     public int delayMs = 1000;
-}
\ No newline at end of file
+    /**
+     * 均匀分布的浮动范围、正态分布的标准差、泊松分布的均值，随 type 解释
+     */
+    public int rangeMs = 100;
+    /**
+     * 节奏定时器的目标单轮耗时
+     */
+    public int pacingMs = 1000;
+    /**
+     * 吞吐量定时器的目标：整个线程组每分钟的采样数
+     */
+    public double throughputPerMinute = 60D;
+
+    public void normalize() {
+        type = TimerType.fromStorageValue(type).getStorageValue();
+        delayMs = clamp(delayMs, MIN_DELAY_MS, MAX_DELAY_MS);
+        rangeMs = clamp(rangeMs, MIN_DELAY_MS, MAX_DELAY_MS);
+        pacingMs = clamp(pacingMs, MIN_DELAY_MS, MAX_DELAY_MS);
+        if (!Double.isFinite(throughputPerMinute)) {
+            throughputPerMinute = MIN_THROUGHPUT_PER_MINUTE;
+        }
+        throughputPerMinute = Math.max(MIN_THROUGHPUT_PER_MINUTE, Math.min(MAX_THROUGHPUT_PER_MINUTE, throughputPerMinute));
+    }
+
+    public TimerType timerType() {
+        return TimerType.fromStorageValue(type);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,52 @@
+package com.laker.postman.performance.core.timer;
+
+import com.laker.postman.util.MessageKeys;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TimerType {
+    /**
+     * 每个采样器前固定等待 delayMs
+     */
+    CONSTANT("Constant", MessageKeys.PERFORMANCE_TIMER_TYPE_CONSTANT, false),
+    /**
+     * delayMs + [0, rangeMs] 均匀分布
+     */
+    UNIFORM_RANDOM("Uniform Random", MessageKeys.PERFORMANCE_TIMER_TYPE_UNIFORM_RANDOM, false),
+    /**
+     * delayMs 为均值、rangeMs 为标准差的正态分布，负值截断为 0
+     */
+    GAUSSIAN_RANDOM("Gaussian Random", MessageKeys.PERFORMANCE_TIMER_TYPE_GAUSSIAN_RANDOM, false),
+    /**
+     * delayMs + 均值为 rangeMs 的泊松分布
+     */
+    POISSON_RANDOM("Poisson Random", MessageKeys.PERFORMANCE_TIMER_TYPE_POISSON_RANDOM, false),
+    /**
+     * 所在容器的每一轮至少持续 pacingMs，剩余时间在本轮末尾等待
+     */
+    CONSTANT_PACING("Constant Pacing", MessageKeys.PERFORMANCE_TIMER_TYPE_CONSTANT_PACING, true),
+    /**
+     * 整个线程组共享一个节拍，作用域内的采样器合计不超过 throughputPerMinute
+     */
+    CONSTANT_THROUGHPUT("Constant Throughput", MessageKeys.PERFORMANCE_TIMER_TYPE_CONSTANT_THROUGHPUT, false);
+
+    private final String storageValue;
+    private final String messageKey;
+    private final boolean pacing;
+
+    public static TimerType fromStorageValue(String value) {
+        for (TimerType type : values()) {
+            if (type.storageValue.equals(value)) {
+                return type;
+            }
+        }
+        return CONSTANT;
+    }
+
+    @Override
+    public String toString() {
+        return storageValue;
+    }
+}
@@ -8,9 +8,12 @@ public class PerformanceWorkerApiPaths {
     public static final String API_PREFIX = "/api/performance/v1";
     public static final String HEALTH = API_PREFIX + "/health";
     public static final String RUNS = API_PREFIX + "/runs";
+    public static final String MOCK = API_PREFIX + "/mock";
     public static final String RESULT_SUFFIX = "/result";
     public static final String DETAILS_SUFFIX = "/details";
     public static final String STOP_SUFFIX = "/stop";
+    public static final String ABORT_SUFFIX = "/abort";
+    public static final String REBALANCE_SUFFIX = "/rebalance";
 
     public String run(String runId) {
         return RUNS + "/" + runId;
@@ -24,7 +27,15 @@ public class PerformanceWorkerApiPaths {
         return run(runId) + DETAILS_SUFFIX;
     }
 
+    public String rebalance(String runId) {
+        return run(runId) + REBALANCE_SUFFIX;
+    }
+
     public String stop(String runId) {
         return run(runId) + STOP_SUFFIX;
     }
+
+    public String abort(String runId) {
+        return run(runId) + ABORT_SUFFIX;
+    }
 }
@@ -89,6 +89,7 @@ public class PerformanceWorkerAssignmentJsonStorage {
             json.put("threadGroupIndex", threadGroup.getThreadGroupIndex());
             json.put("firstVirtualUserIndex", threadGroup.getFirstVirtualUserIndex());
             json.put("virtualUserCount", threadGroup.getVirtualUserCount());
+            json.put("standbyVirtualUserCount", threadGroup.getStandbyVirtualUserCount());
             array.add(json);
         }
         return array;
@@ -115,7 +116,8 @@ public class PerformanceWorkerAssignmentJsonStorage {
                     stringValue(json, "threadGroupPath", ""),
                     intValue(json, "threadGroupIndex", 0),
                     intValue(json, "firstVirtualUserIndex", 0),
-                    intValue(json, "virtualUserCount", 0)
+                    intValue(json, "virtualUserCount", 0),
+                    intValue(json, "standbyVirtualUserCount", 0)
             ));
         }
         return threadGroups;
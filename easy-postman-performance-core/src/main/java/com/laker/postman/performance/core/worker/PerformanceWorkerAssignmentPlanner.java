@@ -7,41 +7,72 @@ import com.laker.postman.performance.core.run.PerformanceRunPlan;
 import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class PerformanceWorkerAssignmentPlanner {
+    /**
+     * master 默认为每台 worker 预留的备用虚拟用户比例，运行中迁移负载时由备用用户接管
+     */
+    public static final double DEFAULT_STANDBY_RATIO = 0.25D;
+
+    private final double standbyRatio;
+
+    public PerformanceWorkerAssignmentPlanner() {
+        this(0D);
+    }
+
+    public PerformanceWorkerAssignmentPlanner(double standbyRatio) {
+        this.standbyRatio = Double.isFinite(standbyRatio) ? Math.max(0D, Math.min(1D, standbyRatio)) : 0D;
+    }
 
     public List<PerformanceWorkerAssignment> plan(PerformanceRunPlan runPlan,
                                                   List<PerformanceWorkerEndpoint> endpoints,
                                                   String runId) {
+        return plan(runPlan, endpoints, List.of(), runId);
+    }
+
+    public List<PerformanceWorkerAssignment> plan(PerformanceRunPlan runPlan,
+                                                  List<PerformanceWorkerEndpoint> endpoints,
+                                                  List<PerformanceWorkerCapacity> capacities,
+                                                  String runId) {
         // 按虚拟用户切片，而不是把完整线程组复制到每台 worker；这样总并发量与 GUI 单机语义一致。
         List<PerformanceWorkerEndpoint> safeEndpoints = endpoints == null ? List.of() : endpoints;
         PerformanceTestPlan testPlan = PerformanceCorePlanDocumentCompiler.compile(
                 runPlan == null ? null : runPlan.getTestPlan()
         );
-        List<PerformanceWorkerAssignment> assignments = new ArrayList<>();
+        double[] weights = weights(capacities, safeEndpoints.size());
+        List<List<PerformanceWorkerThreadGroupAssignment>> threadGroupsByWorker = new ArrayList<>();
         for (int workerIndex = 0; workerIndex < safeEndpoints.size(); workerIndex++) {
-            List<PerformanceWorkerThreadGroupAssignment> threadGroups = new ArrayList<>();
-            for (int groupIndex = 0; groupIndex < testPlan.getThreadGroups().size(); groupIndex++) {
-                PerformanceThreadGroupPlan groupPlan = testPlan.getThreadGroups().get(groupIndex);
-                int totalUsers = maxThreadCount(groupPlan.getThreadGroupData());
-                int first = firstVirtualUserIndex(totalUsers, safeEndpoints.size(), workerIndex);
-                int count = virtualUserCount(totalUsers, safeEndpoints.size(), workerIndex);
+            threadGroupsByWorker.add(new ArrayList<>());
+        }
+        for (int groupIndex = 0; groupIndex < testPlan.getThreadGroups().size(); groupIndex++) {
+            PerformanceThreadGroupPlan groupPlan = testPlan.getThreadGroups().get(groupIndex);
+            int[] counts = virtualUserCounts(maxThreadCount(groupPlan.getThreadGroupData()), weights);
+            boolean standbyAllowed = supportsStandby(groupPlan);
+            int first = 0;
+            for (int workerIndex = 0; workerIndex < counts.length; workerIndex++) {
+                int count = counts[workerIndex];
                 if (count > 0) {
-                    threadGroups.add(new PerformanceWorkerThreadGroupAssignment(
+                    threadGroupsByWorker.get(workerIndex).add(new PerformanceWorkerThreadGroupAssignment(
                             String.valueOf(groupIndex),
                             groupIndex,
                             first,
-                            count
+                            count,
+                            standbyAllowed ? (int) Math.ceil(count * standbyRatio) : 0
                     ));
                 }
+                first += count;
             }
+        }
+        List<PerformanceWorkerAssignment> assignments = new ArrayList<>();
+        for (int workerIndex = 0; workerIndex < safeEndpoints.size(); workerIndex++) {
             assignments.add(PerformanceWorkerAssignment.builder()
                     .runId(runId)
                     .workerId("worker-" + (workerIndex + 1))
                     .assignmentId(runId + "-assignment-" + (workerIndex + 1))
                     .endpoint(safeEndpoints.get(workerIndex))
-                    .threadGroups(threadGroups)
+                    .threadGroups(threadGroupsByWorker.get(workerIndex))
                     .build());
         }
         return assignments;
@@ -58,20 +89,68 @@ public class PerformanceWorkerAssignmentPlanner {
         };
     }
 
-    private static int virtualUserCount(int totalUsers, int workerCount, int workerIndex) {
-        if (totalUsers <= 0 || workerCount <= 0 || workerIndex < 0 || workerIndex >= workerCount) {
-            return 0;
+    /**
+     * 备用用户只用于按时间结束的线程组：按循环次数结束的用户驻留后无法补齐次数，
+     * 带 CSV 的线程组按全局用户编号取行，备用用户会占用其他 worker 的行号。
+     */
+    private static boolean supportsStandby(PerformanceThreadGroupPlan groupPlan) {
+        ThreadGroupData tg = groupPlan.getThreadGroupData();
+        if (tg == null || groupPlan.getCsvDataSetData() != null) {
+            return false;
         }
-        int base = totalUsers / workerCount;
-        int remainder = totalUsers % workerCount;
-        return base + (workerIndex < remainder ? 1 : 0);
+        tg.normalize();
+        return tg.threadMode != ThreadGroupData.ThreadMode.FIXED || tg.useTime;
     }
 
-    private static int firstVirtualUserIndex(int totalUsers, int workerCount, int workerIndex) {
-        int first = 0;
-        for (int i = 0; i < workerIndex; i++) {
-            first += virtualUserCount(totalUsers, workerCount, i);
+    private static double[] weights(List<PerformanceWorkerCapacity> capacities, int workerCount) {
+        double[] weights = new double[workerCount];
+        Arrays.fill(weights, 1D);
+        if (capacities == null || capacities.size() != workerCount) {
+            return weights;
+        }
+        // 任何一台 worker 没有上报容量时无法比较，整体退回平均切分。
+        for (PerformanceWorkerCapacity capacity : capacities) {
+            if (capacity == null || !capacity.isReported()) {
+                return weights;
+            }
+        }
+        for (int i = 0; i < workerCount; i++) {
+            weights[i] = capacities.get(i).weight();
+        }
+        return weights;
+    }
+
+    /**
+     * 按权重做最大余数分配；余数相同时编号小的 worker 优先，权重相同时与原来的平均切分结果一致。
+     */
+    static int[] virtualUserCounts(int totalUsers, double[] weights) {
+        int[] counts = new int[weights.length];
+        if (totalUsers <= 0 || weights.length == 0) {
+            return counts;
+        }
+        double totalWeight = 0D;
+        for (double weight : weights) {
+            totalWeight += weight;
+        }
+        double[] remainders = new double[weights.length];
+        int assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double quota = totalUsers * weights[i] / totalWeight;
+            counts[i] = (int) Math.floor(quota);
+            remainders[i] = quota - counts[i];
+            assigned += counts[i];
+        }
+        while (assigned < totalUsers) {
+            int best = 0;
+            for (int i = 1; i < remainders.length; i++) {
+                if (remainders[i] > remainders[best] + 1e-9) {
+                    best = i;
+                }
+            }
+            counts[best]++;
+            remainders[best] = -1D;
+            assigned++;
         }
-        return first;
+        return counts;
     }
 }
@@ -0,0 +1,68 @@
+package com.laker.postman.performance.core.worker;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * worker 压测机的容量与当前负载。
+ * <p>
+ * CPU 负载取值 0~1，-1 表示该 JVM 无法提供；核数为 0 表示旧版 worker 没有上报容量，
+ * master 此时退回按 worker 数平均切分。
+ * </p>
+ */
+@Value
+public class PerformanceWorkerCapacity {
+    public static final double UNKNOWN_LOAD = -1D;
+    public static final PerformanceWorkerCapacity UNKNOWN = PerformanceWorkerCapacity.builder().build();
+
+    /**
+     * 计算权重时至少保留的空闲比例，避免已经很忙的机器权重被压成 0 后完全分不到用户
+     */
+    private static final double MIN_HEADROOM = 0.1D;
+
+    int availableProcessors;
+    long maxMemoryBytes;
+    double processCpuLoad;
+    double systemCpuLoad;
+
+    @Builder
+    public PerformanceWorkerCapacity(Integer availableProcessors,
+                                     Long maxMemoryBytes,
+                                     Double processCpuLoad,
+                                     Double systemCpuLoad) {
+        this.availableProcessors = Math.max(0, availableProcessors == null ? 0 : availableProcessors);
+        this.maxMemoryBytes = Math.max(0L, maxMemoryBytes == null ? 0L : maxMemoryBytes);
+        this.processCpuLoad = normalizeLoad(processCpuLoad);
+        this.systemCpuLoad = normalizeLoad(systemCpuLoad);
+    }
+
+    public boolean isReported() {
+        return availableProcessors > 0;
+    }
+
+    /**
+     * 压测进程自身的 CPU 占用；JVM 拿不到进程级数据时退回整机 CPU。
+     */
+    public double generatorCpuLoad() {
+        return processCpuLoad >= 0 ? processCpuLoad : systemCpuLoad;
+    }
+
+    /**
+     * 分配权重：核数乘以整机剩余的 CPU 比例。整机负载包含同机其他进程，
+     * 比只看压测进程更能反映这台机器还能承担多少虚拟用户。
+     */
+    public double weight() {
+        if (!isReported()) {
+            return 1D;
+        }
+        double load = systemCpuLoad >= 0 ? systemCpuLoad : Math.max(0D, processCpuLoad);
+        return availableProcessors * Math.max(MIN_HEADROOM, 1D - load);
+    }
+
+    private static double normalizeLoad(Double load) {
+        if (load == null || !Double.isFinite(load) || load < 0) {
+            return UNKNOWN_LOAD;
+        }
+        return Math.min(1D, load);
+    }
+}
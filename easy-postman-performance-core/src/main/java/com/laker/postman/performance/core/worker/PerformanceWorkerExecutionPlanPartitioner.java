@@ -27,12 +27,15 @@ public class PerformanceWorkerExecutionPlanPartitioner {
             }
             PerformanceThreadGroupPlan source = plan.getThreadGroups().get(groupIndex);
             // CSV 数据不在 master 端物理截断，worker 通过全局虚拟用户起点取行，避免每台 worker 都从第 0 行读取。
+            // 备用用户和分配用户按同一比例参与递增/尖刺/阶梯曲线，驻留后剩余用户的曲线形状不变。
+            int standby = threadGroupAssignment.getStandbyVirtualUserCount();
             groups.add(new PerformanceThreadGroupPlan(
                     source.getName(),
-                    adjustThreadGroupData(source.getThreadGroupData(), threadGroupAssignment.getVirtualUserCount()),
+                    adjustThreadGroupData(source.getThreadGroupData(), threadGroupAssignment.getVirtualUserCount() + standby),
                     source.getCsvDataSetData(),
                     source.getElements(),
-                    threadGroupAssignment.getFirstVirtualUserIndex()
+                    threadGroupAssignment.getFirstVirtualUserIndex(),
+                    standby
             ));
         }
         return new PerformanceTestPlan(groups);
@@ -10,18 +10,21 @@ public class PerformanceWorkerHealthResponse {
     String host;
     int port;
     String workerProtocolVersion;
+    PerformanceWorkerCapacity capacity;
 
     @Builder
     public PerformanceWorkerHealthResponse(String status,
                                            String workerId,
                                            String host,
                                            Integer port,
-                                           String workerProtocolVersion) {
+                                           String workerProtocolVersion,
+                                           PerformanceWorkerCapacity capacity) {
         this.status = status == null ? "" : status;
         this.workerId = workerId == null ? "" : workerId;
         this.host = host == null ? "" : host;
         this.port = Math.max(0, port == null ? 0 : port);
         this.workerProtocolVersion = workerProtocolVersion == null ? "" : workerProtocolVersion;
+        this.capacity = capacity == null ? PerformanceWorkerCapacity.UNKNOWN : capacity;
     }
 
     public boolean usesCurrentProtocol() {
@@ -1,5 +1,6 @@
 package com.laker.postman.performance.core.worker;
 
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
 import com.laker.postman.performance.core.model.PerformanceTrendSnapshot;
 import com.laker.postman.performance.core.report.PerformanceJsonReport;
 import com.laker.postman.performance.core.report.PerformanceJsonReportJsonStorage;
@@ -48,6 +49,15 @@ public class PerformanceWorkerProtocolJsonStorage {
                 .host(stringValue(root, "host", ""))
                 .port(intValue(root, "port", 0))
                 .workerProtocolVersion(stringValue(root, "workerProtocolVersion", ""))
+                .capacity(readCapacity(objectMap(root.get("capacity"))))
+                .build();
+    }
+
+    public PerformanceWorkerRebalanceRequest rebalanceRequestFromJson(String json) {
+        Map<String, Object> root = root(json);
+        return PerformanceWorkerRebalanceRequest.builder()
+                .runId(stringValue(root, "runId", ""))
+                .virtualUserScale(doubleValue(root, "virtualUserScale", 1.0))
                 .build();
     }
 
@@ -68,6 +78,10 @@ public class PerformanceWorkerProtocolJsonStorage {
                 .successRequests(longValue(root, "successRequests", 0))
                 .failedRequests(longValue(root, "failedRequests", 0))
                 .qps(doubleValue(root, "qps", 0))
+                .standbyUsers(intValue(root, "standbyUsers", 0))
+                .virtualUserScale(doubleValue(root, "virtualUserScale", 1.0))
+                .generatorCpuLoad(doubleValue(root, "generatorCpuLoad", PerformanceWorkerCapacity.UNKNOWN_LOAD))
+                .thresholdAbortReason(stringValue(root, "thresholdAbortReason", ""))
                 .report(report)
                 .trendSnapshot(readTrendSnapshot(objectMap(root.get("trendSnapshot"))))
                 .error(stringValue(root, "error", ""))
@@ -128,6 +142,13 @@ public class PerformanceWorkerProtocolJsonStorage {
             json.put("host", response.getHost());
             json.put("port", response.getPort());
             json.put("workerProtocolVersion", response.getWorkerProtocolVersion());
+            json.put("capacity", capacityToMap(response.getCapacity()));
+            return json;
+        }
+        if (value instanceof PerformanceWorkerRebalanceRequest request) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("runId", request.getRunId());
+            json.put("virtualUserScale", request.getVirtualUserScale());
             return json;
         }
         if (value instanceof PerformanceWorkerRunAcceptedResponse response) {
@@ -151,6 +172,10 @@ public class PerformanceWorkerProtocolJsonStorage {
             json.put("successRequests", response.getSuccessRequests());
             json.put("failedRequests", response.getFailedRequests());
             json.put("qps", response.getQps());
+            json.put("standbyUsers", response.getStandbyUsers());
+            json.put("virtualUserScale", response.getVirtualUserScale());
+            json.put("generatorCpuLoad", response.getGeneratorCpuLoad());
+            json.put("thresholdAbortReason", response.getThresholdAbortReason());
             json.put("report", response.getReport() == null ? null : reportStorage.toMap(response.getReport()));
             json.put("trendSnapshot", trendSnapshotToMap(response.getTrendSnapshot()));
             json.put("error", response.getError());
@@ -182,6 +207,30 @@ public class PerformanceWorkerProtocolJsonStorage {
         return JsonUtil.convertValue(value, Map.class);
     }
 
+    private Map<String, Object> capacityToMap(PerformanceWorkerCapacity capacity) {
+        if (capacity == null || !capacity.isReported()) {
+            return null;
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("availableProcessors", capacity.getAvailableProcessors());
+        json.put("maxMemoryBytes", capacity.getMaxMemoryBytes());
+        json.put("processCpuLoad", capacity.getProcessCpuLoad());
+        json.put("systemCpuLoad", capacity.getSystemCpuLoad());
+        return json;
+    }
+
+    private PerformanceWorkerCapacity readCapacity(Map<String, Object> json) {
+        if (json.isEmpty()) {
+            return PerformanceWorkerCapacity.UNKNOWN;
+        }
+        return PerformanceWorkerCapacity.builder()
+                .availableProcessors(intValue(json, "availableProcessors", 0))
+                .maxMemoryBytes(longValue(json, "maxMemoryBytes", 0))
+                .processCpuLoad(doubleValue(json, "processCpuLoad", PerformanceWorkerCapacity.UNKNOWN_LOAD))
+                .systemCpuLoad(doubleValue(json, "systemCpuLoad", PerformanceWorkerCapacity.UNKNOWN_LOAD))
+                .build();
+    }
+
     private List<Map<String, Object>> detailsToList(List<PerformanceWorkerResultDetail> details) {
         List<Map<String, Object>> values = new ArrayList<>();
         if (details == null) {
@@ -337,9 +386,38 @@ public class PerformanceWorkerProtocolJsonStorage {
         json.put("http", trendMetricsToMap(snapshot.http()));
         json.put("webSocket", trendMetricsToMap(snapshot.webSocket()));
         json.put("sse", trendMetricsToMap(snapshot.sse()));
+        json.put("generator", generatorSampleToMap(snapshot.generator()));
         return json;
     }
 
+    private Map<String, Object> generatorSampleToMap(PerformanceGeneratorSample sample) {
+        if (sample == null || !sample.hasData()) {
+            return null;
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("processCpuPercent", finiteOrNull(sample.processCpuPercent()));
+        json.put("gcPausePercent", finiteOrNull(sample.gcPausePercent()));
+        json.put("allocationMbPerSecond", finiteOrNull(sample.allocationMbPerSecond()));
+        json.put("threadCount", sample.threadCount());
+        json.put("schedulingLagMs", finiteOrNull(sample.schedulingLagMs()));
+        json.put("queuedHttpCalls", sample.queuedHttpCalls());
+        return json;
+    }
+
+    private PerformanceGeneratorSample readGeneratorSample(Map<String, Object> json) {
+        if (json.isEmpty()) {
+            return PerformanceGeneratorSample.EMPTY;
+        }
+        return new PerformanceGeneratorSample(
+                doubleValue(json, "processCpuPercent", Double.NaN),
+                doubleValue(json, "gcPausePercent", Double.NaN),
+                doubleValue(json, "allocationMbPerSecond", Double.NaN),
+                intValue(json, "threadCount", 0),
+                doubleValue(json, "schedulingLagMs", Double.NaN),
+                intValue(json, "queuedHttpCalls", 0)
+        );
+    }
+
     private Map<String, Object> trendMetricsToMap(PerformanceTrendSnapshot.ProtocolWindowMetrics metrics) {
         if (metrics == null) {
             return null;
@@ -371,7 +449,8 @@ public class PerformanceWorkerProtocolJsonStorage {
                 readTrendMetrics(objectMap(json.get("overview"))),
                 readTrendMetrics(objectMap(json.get("http"))),
                 readTrendMetrics(objectMap(json.get("webSocket"))),
-                readTrendMetrics(objectMap(json.get("sse")))
+                readTrendMetrics(objectMap(json.get("sse"))),
+                readGeneratorSample(objectMap(json.get("generator")))
         );
     }
 
@@ -0,0 +1,25 @@
+package com.laker.postman.performance.core.worker;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * master 在运行中调整 worker 负载的请求。
+ * <p>
+ * virtualUserScale 以分配时的虚拟用户数为 1.0：小于 1 时多出的用户驻留等待，
+ * 大于 1 时唤醒备用用户，上限由 worker 启动的备用用户数决定。
+ * </p>
+ */
+@Value
+public class PerformanceWorkerRebalanceRequest {
+    String runId;
+    double virtualUserScale;
+
+    @Builder
+    public PerformanceWorkerRebalanceRequest(String runId, Double virtualUserScale) {
+        this.runId = runId == null ? "" : runId;
+        this.virtualUserScale = virtualUserScale == null || !Double.isFinite(virtualUserScale)
+                ? 1.0
+                : Math.max(0.0, virtualUserScale);
+    }
+}
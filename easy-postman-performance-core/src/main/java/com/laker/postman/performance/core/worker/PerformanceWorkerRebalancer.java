@@ -0,0 +1,163 @@
+package com.laker.postman.performance.core.worker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 运行中把虚拟用户从压测机 CPU 过载的 worker 迁到仍有余量的 worker。
+ * <p>
+ * master 每轮轮询状态后调用 {@link #rebalance(double[])}：某台 worker 的压测进程 CPU 连续多轮超过阈值时，
+ * 按超出比例降低它的用户比例，同时提高低负载 worker 的比例唤醒备用用户，总执行用户数保持不变。
+ * 只有带备用用户的线程组参与迁移；没有低负载 worker 可以接收时不做调整，避免悄悄降低总压力。
+ * </p>
+ */
+public class PerformanceWorkerRebalancer {
+    public static final double DEFAULT_CPU_THRESHOLD = 0.85D;
+
+    /**
+     * 连续超过阈值的轮询次数，过滤 GC、JIT 编译等短时尖刺
+     */
+    static final int HOT_POLLS_BEFORE_MOVE = 2;
+    /**
+     * 迁移后等待的轮询次数，让新的负载分布反映到 CPU 采样上
+     */
+    static final int COOLDOWN_POLLS = 3;
+    /**
+     * 迁出后的目标负载与接收方的负载上限都比阈值低这一截，避免在阈值附近来回迁移
+     */
+    static final double TARGET_MARGIN = 0.1D;
+    /**
+     * 单次最多迁出当前执行用户的一半
+     */
+    private static final double MAX_MOVE_FRACTION = 0.5D;
+
+    private final double cpuThreshold;
+    private final int[] assignedUsers;
+    private final int[] standbyUsers;
+    private final double[] scales;
+    private final int[] hotPolls;
+    private int cooldownPolls;
+
+    public PerformanceWorkerRebalancer(List<PerformanceWorkerAssignment> assignments, double cpuThreshold) {
+        List<PerformanceWorkerAssignment> safeAssignments = assignments == null ? List.of() : assignments;
+        this.cpuThreshold = Double.isFinite(cpuThreshold) ? Math.min(1D, Math.max(0D, cpuThreshold)) : 0D;
+        int size = safeAssignments.size();
+        this.assignedUsers = new int[size];
+        this.standbyUsers = new int[size];
+        this.scales = new double[size];
+        this.hotPolls = new int[size];
+        for (int i = 0; i < size; i++) {
+            scales[i] = 1D;
+            PerformanceWorkerAssignment assignment = safeAssignments.get(i);
+            if (assignment == null) {
+                continue;
+            }
+            for (PerformanceWorkerThreadGroupAssignment group : assignment.getThreadGroups()) {
+                if (group.getStandbyVirtualUserCount() > 0) {
+                    assignedUsers[i] += group.getVirtualUserCount();
+                    standbyUsers[i] += group.getStandbyVirtualUserCount();
+                }
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        if (cpuThreshold <= 0D || scales.length < 2) {
+            return false;
+        }
+        for (int standby : standbyUsers) {
+            if (standby > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public double scale(int workerIndex) {
+        return scales[workerIndex];
+    }
+
+    /**
+     * @param generatorCpuLoads 与分配顺序一致的压测进程 CPU 负载，0~1，负数表示未知
+     * @return 需要下发的新用户比例，key 为 worker 下标；无需调整时为空
+     */
+    public Map<Integer, Double> rebalance(double[] generatorCpuLoads) {
+        if (!isEnabled() || generatorCpuLoads == null || generatorCpuLoads.length != scales.length) {
+            return Map.of();
+        }
+        if (cooldownPolls > 0) {
+            cooldownPolls--;
+            return Map.of();
+        }
+        int hot = -1;
+        for (int i = 0; i < scales.length; i++) {
+            hotPolls[i] = generatorCpuLoads[i] > cpuThreshold ? hotPolls[i] + 1 : 0;
+            if (hotPolls[i] >= HOT_POLLS_BEFORE_MOVE
+                    && effectiveUsers(i) > 0
+                    && (hot < 0 || generatorCpuLoads[i] > generatorCpuLoads[hot])) {
+                hot = i;
+            }
+        }
+        if (hot < 0) {
+            return Map.of();
+        }
+        double load = generatorCpuLoads[hot];
+        double fraction = Math.min(MAX_MOVE_FRACTION, (load - (cpuThreshold - TARGET_MARGIN)) / load);
+        int wanted = Math.max(1, (int) Math.floor(effectiveUsers(hot) * fraction));
+        Map<Integer, Integer> received = distribute(hot, wanted, generatorCpuLoads);
+        int moved = received.values().stream().mapToInt(Integer::intValue).sum();
+        if (moved <= 0) {
+            return Map.of();
+        }
+        Map<Integer, Double> changed = new LinkedHashMap<>();
+        scales[hot] = Math.max(0D, (effectiveUsers(hot) - moved) / (double) assignedUsers[hot]);
+        changed.put(hot, scales[hot]);
+        for (Map.Entry<Integer, Integer> entry : received.entrySet()) {
+            int index = entry.getKey();
+            scales[index] = (effectiveUsers(index) + entry.getValue()) / (double) assignedUsers[index];
+            changed.put(index, scales[index]);
+        }
+        hotPolls[hot] = 0;
+        cooldownPolls = COOLDOWN_POLLS;
+        return changed;
+    }
+
+    private Map<Integer, Integer> distribute(int hot, int wanted, double[] loads) {
+        double ceiling = cpuThreshold - TARGET_MARGIN;
+        List<Integer> receivers = new ArrayList<>();
+        double totalHeadroom = 0D;
+        for (int i = 0; i < scales.length; i++) {
+            if (i != hot && loads[i] >= 0 && loads[i] < ceiling && room(i) > 0) {
+                receivers.add(i);
+                totalHeadroom += ceiling - loads[i];
+            }
+        }
+        receivers.sort(Comparator.comparingDouble(i -> loads[i]));
+        Map<Integer, Integer> received = new LinkedHashMap<>();
+        int remaining = wanted;
+        for (int i : receivers) {
+            if (remaining <= 0) {
+                break;
+            }
+            // 按剩余 CPU 比例分摊，向上取整保证最空闲的 worker 先接满。
+            int share = (int) Math.ceil(wanted * (ceiling - loads[i]) / totalHeadroom);
+            int amount = Math.min(remaining, Math.min(room(i), share));
+            if (amount > 0) {
+                received.put(i, amount);
+                remaining -= amount;
+            }
+        }
+        return received;
+    }
+
+    private int effectiveUsers(int index) {
+        return (int) Math.round(scales[index] * assignedUsers[index]);
+    }
+
+    private int room(int index) {
+        return assignedUsers[index] + standbyUsers[index] - effectiveUsers(index);
+    }
+}
@@ -19,6 +19,13 @@ public class PerformanceWorkerRunStatusResponse {
     long successRequests;
     long failedRequests;
     double qps;
+    int standbyUsers;
+    double virtualUserScale;
+    double generatorCpuLoad;
+    /**
+     * worker 上 abortOnFail 阈值越线时的说明，master 据此平滑停止其它 worker；未触发时为空字符串
+     */
+    String thresholdAbortReason;
     PerformanceJsonReport report;
     PerformanceTrendSnapshot trendSnapshot;
     String error;
@@ -35,6 +42,10 @@ public class PerformanceWorkerRunStatusResponse {
                                               Long successRequests,
                                               Long failedRequests,
                                               Double qps,
+                                              Integer standbyUsers,
+                                              Double virtualUserScale,
+                                              Double generatorCpuLoad,
+                                              String thresholdAbortReason,
                                               PerformanceJsonReport report,
                                               PerformanceTrendSnapshot trendSnapshot,
                                               String error) {
@@ -50,6 +61,14 @@ public class PerformanceWorkerRunStatusResponse {
         this.successRequests = Math.max(0L, successRequests == null ? 0L : successRequests);
         this.failedRequests = Math.max(0L, failedRequests == null ? this.totalRequests - this.successRequests : failedRequests);
         this.qps = Math.max(0.0, qps == null ? 0.0 : qps);
+        this.standbyUsers = Math.max(0, standbyUsers == null ? 0 : standbyUsers);
+        this.virtualUserScale = virtualUserScale == null || !Double.isFinite(virtualUserScale)
+                ? 1.0
+                : Math.max(0.0, virtualUserScale);
+        this.generatorCpuLoad = generatorCpuLoad == null || !Double.isFinite(generatorCpuLoad) || generatorCpuLoad < 0
+                ? PerformanceWorkerCapacity.UNKNOWN_LOAD
+                : Math.min(1.0, generatorCpuLoad);
+        this.thresholdAbortReason = thresholdAbortReason == null ? "" : thresholdAbortReason;
         this.report = report;
         this.trendSnapshot = trendSnapshot;
         this.error = error == null ? "" : error;
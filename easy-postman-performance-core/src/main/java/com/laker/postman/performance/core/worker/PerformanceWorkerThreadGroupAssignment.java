@@ -8,14 +8,27 @@ public class PerformanceWorkerThreadGroupAssignment {
     int threadGroupIndex;
     int firstVirtualUserIndex;
     int virtualUserCount;
+    /**
+     * 额外启动但默认驻留的备用虚拟用户，master 在运行中调整 worker 的用户比例时由它们接管负载
+     */
+    int standbyVirtualUserCount;
 
     public PerformanceWorkerThreadGroupAssignment(String threadGroupPath,
                                                   int threadGroupIndex,
                                                   int firstVirtualUserIndex,
                                                   int virtualUserCount) {
+        this(threadGroupPath, threadGroupIndex, firstVirtualUserIndex, virtualUserCount, 0);
+    }
+
+    public PerformanceWorkerThreadGroupAssignment(String threadGroupPath,
+                                                  int threadGroupIndex,
+                                                  int firstVirtualUserIndex,
+                                                  int virtualUserCount,
+                                                  int standbyVirtualUserCount) {
         this.threadGroupPath = threadGroupPath == null ? "" : threadGroupPath;
         this.threadGroupIndex = Math.max(0, threadGroupIndex);
         this.firstVirtualUserIndex = Math.max(0, firstVirtualUserIndex);
         this.virtualUserCount = Math.max(0, virtualUserCount);
+        this.standbyVirtualUserCount = this.virtualUserCount == 0 ? 0 : Math.max(0, standbyVirtualUserCount);
     }
 }
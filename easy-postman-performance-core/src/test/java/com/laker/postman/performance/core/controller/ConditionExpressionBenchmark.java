@@ -0,0 +1,69 @@
+package com.laker.postman.performance.core.controller;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 条件表达式基准：对比“每次解释执行”和“预编译后求值”的吞吐
+ * <p>
+ * 不是单元测试，手动运行：
+ * <pre>
+ * java -cp target/classes:target/test-classes com.laker.postman.performance.core.controller.ConditionExpressionBenchmark 5000000
+ * </pre>
+ * 第一个参数为每轮求值次数，第二个参数可替换默认表达式。
+ * 变量查找用内存 Map 模拟，结果只反映解析与求值本身的开销。
+ */
+public final class ConditionExpressionBenchmark {
+
+    private static final String DEFAULT_EXPRESSION =
+            "{{status}} != 'done' && {{status}} != 'failed' && ({{attempt}} < 30 || defined('force'))";
+    private static final int ROUNDS = 5;
+
+    private ConditionExpressionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        String expression = args.length > 1 ? args[1] : DEFAULT_EXPRESSION;
+        Map<String, String> values = Map.of("status", "running", "attempt", "12");
+        ConditionExpressionEvaluator.VariableLookup lookup = new ConditionExpressionEvaluator.VariableLookup() {
+            @Override
+            public String resolve(String variableName) {
+                return values.get(variableName);
+            }
+
+            @Override
+            public boolean isDefined(String variableName) {
+                return values.containsKey(variableName);
+            }
+        };
+        CompiledConditionExpression compiled = ConditionExpressionEvaluator.compile(expression);
+
+        System.out.printf("expression=%s iterations=%d%n", expression, iterations);
+        for (int round = 0; round < ROUNDS; round++) {
+            long interpreted = measure(iterations, () -> ConditionExpressionEvaluator.evaluate(expression, lookup));
+            long precompiled = measure(iterations, () -> compiled.evaluate(lookup));
+            System.out.printf("round=%d interpreted=%dns/op compiled=%dns/op speedup=%.1fx%n",
+                    round,
+                    interpreted / iterations,
+                    precompiled / iterations,
+                    (double) interpreted / Math.max(1, precompiled));
+        }
+    }
+
+    private static long measure(int iterations, BooleanSupplier evaluation) {
+        int trueCount = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (evaluation.getAsBoolean()) {
+                trueCount++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (trueCount == -1) {
+            // 防止 JIT 把整个循环消除
+            System.out.println(trueCount);
+        }
+        return elapsed;
+    }
+}
@@ -2,9 +2,13 @@ package com.laker.postman.performance.core.controller;
 
 import org.testng.annotations.Test;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class ConditionExpressionEvaluatorTest {
@@ -57,6 +61,61 @@ public class ConditionExpressionEvaluatorTest {
         assertFalse(ConditionExpressionEvaluator.evaluate("", lookup));
     }
 
+    @Test
+    public void compiledExpressionShouldBeReusableAcrossLookups() {
+        CompiledConditionExpression compiled = ConditionExpressionEvaluator.compile(
+                "{{status}} != 'done' && {{status}} != 'failed' && ({{attempt}} < 5 || defined('force'))");
+
+        assertEquals(compiled.getVariableNames(), List.of("status", "attempt"));
+        assertTrue(compiled.evaluate(lookup(Map.of("status", "running", "attempt", "2"))));
+        assertFalse(compiled.evaluate(lookup(Map.of("status", "done", "attempt", "2"))));
+        assertFalse(compiled.evaluate(lookup(Map.of("status", "running", "attempt", "7"))));
+        assertTrue(compiled.evaluate(lookup(Map.of("status", "running", "attempt", "7", "force", ""))));
+    }
+
+    @Test
+    public void compiledExpressionShouldResolveEachVariableOncePerEvaluation() {
+        CompiledConditionExpression compiled = ConditionExpressionEvaluator.compile(
+                "{{status}} != 'done' && {{status}} != 'failed'");
+        AtomicInteger resolveCount = new AtomicInteger();
+        ConditionExpressionEvaluator.VariableLookup countingLookup = new ConditionExpressionEvaluator.VariableLookup() {
+            @Override
+            public String resolve(String variableName) {
+                resolveCount.incrementAndGet();
+                return "running";
+            }
+
+            @Override
+            public boolean isDefined(String variableName) {
+                return true;
+            }
+        };
+
+        assertTrue(compiled.evaluate(countingLookup));
+        assertTrue(compiled.evaluate(countingLookup));
+        assertEquals(resolveCount.get(), 2);
+    }
+
+    @Test
+    public void invalidOrBlankExpressionShouldCompileToAlwaysFalse() {
+        assertSame(ConditionExpressionEvaluator.compile("({{status}} == 200"), CompiledConditionExpression.ALWAYS_FALSE);
+        assertSame(ConditionExpressionEvaluator.compile("  "), CompiledConditionExpression.ALWAYS_FALSE);
+        assertFalse(CompiledConditionExpression.ALWAYS_FALSE.evaluate(null));
+    }
+
+    @Test
+    public void compiledLiteralComparisonsShouldMatchInterpretedResults() {
+        String[] expressions = {
+                "1 < 2", "'abc' == abc", "(1 < 2) == true", "defined('x') == false", "true && !false",
+                "'10' >= 9.5", "abc > 1", "TRUE"
+        };
+        for (String expression : expressions) {
+            assertEquals(ConditionExpressionEvaluator.compile(expression).evaluate(null),
+                    ConditionExpressionEvaluator.evaluate(expression, null), expression);
+        }
+        assertTrue(ConditionExpressionEvaluator.compile("(1 < 2) == true").evaluate(null));
+    }
+
     private static ConditionExpressionEvaluator.VariableLookup lookup(Map<String, String> values) {
         return new ConditionExpressionEvaluator.VariableLookup() {
             @Override
@@ -0,0 +1,90 @@
+package com.laker.postman.performance.core.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceJfrRecorderTest {
+
+    @Test
+    public void shouldBindVirtualUserContextOnlyWhileRunning() {
+        PerformanceJfrContext.runVirtualUser("Checkout", 7, () -> {
+            PerformanceJfrContext.enterSampler("POST /orders");
+            assertEquals(PerformanceJfrContext.threadGroup(), "Checkout");
+            assertEquals(PerformanceJfrContext.virtualUser(), 7);
+            assertEquals(PerformanceJfrContext.sampler(), "POST /orders");
+        });
+
+        assertEquals(PerformanceJfrContext.threadGroup(), "");
+        assertEquals(PerformanceJfrContext.virtualUser(), -1);
+        assertEquals(PerformanceJfrContext.sampler(), "");
+    }
+
+    @Test
+    public void shouldRecordSamplerEventsWithVirtualUserContext() throws Exception {
+        Path file = Files.createTempDirectory("ep-jfr").resolve("nested/run.jfr");
+
+        try (PerformanceJfrRecorder ignored = PerformanceJfrRecorder.start(file)) {
+            PerformanceJfrContext.runVirtualUser("Checkout", 3, () -> {
+                PerformanceJfrContext.enterSampler("GET /cart");
+                PerformanceSamplerEvent sampler = PerformanceSamplerEvent.start();
+                PerformancePhaseEvent phase = PerformancePhaseEvent.start(PerformancePhaseEvent.ASSERTIONS);
+                PerformanceAssertionEvent assertion = PerformanceAssertionEvent.start("status is 200", "ResponseCode");
+                assertion.passed(true);
+                assertion.finish();
+                phase.finish();
+                sampler.apiId("api-1");
+                sampler.protocol("HTTP");
+                sampler.outcome(true, false);
+                sampler.bytes(120L, 2048L);
+                sampler.finish();
+                PerformanceJfrContext.exitSampler();
+            });
+        }
+
+        assertTrue(Files.size(file) > 0);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("easypostman.performance."))
+                .toList();
+        RecordedEvent sampler = only(events, "easypostman.performance.Sampler");
+        assertEquals(sampler.getString("sampler"), "GET /cart");
+        assertEquals(sampler.getString("threadGroup"), "Checkout");
+        assertEquals(sampler.getInt("virtualUser"), 3);
+        assertEquals(sampler.getString("apiId"), "api-1");
+        assertTrue(sampler.getBoolean("success"));
+        assertEquals(sampler.getLong("bytesReceived"), 2048L);
+        assertEquals(only(events, "easypostman.performance.Phase").getString("phase"), PerformancePhaseEvent.ASSERTIONS);
+        RecordedEvent assertion = only(events, "easypostman.performance.Assertion");
+        assertEquals(assertion.getString("assertion"), "status is 200");
+        assertEquals(assertion.getString("sampler"), "GET /cart");
+        assertTrue(assertion.getBoolean("passed"));
+        RecordedEvent virtualUser = only(events, "easypostman.performance.VirtualUser");
+        assertEquals(virtualUser.getString("threadGroup"), "Checkout");
+        assertEquals(virtualUser.getInt("virtualUser"), 3);
+    }
+
+    @Test
+    public void shouldNotFillEventsWhenNoRecordingIsActive() {
+        PerformanceSamplerEvent sampler = PerformanceSamplerEvent.start();
+
+        assertFalse(sampler.isEnabled());
+        sampler.finish();
+        assertEquals(sampler.sampler, null);
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matches = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(matches.size(), 1, name);
+        return matches.get(0);
+    }
+}
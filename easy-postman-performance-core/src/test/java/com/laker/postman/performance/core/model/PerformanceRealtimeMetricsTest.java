@@ -3,6 +3,7 @@ package com.laker.postman.performance.core.model;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 public class PerformanceRealtimeMetricsTest {
@@ -147,4 +148,66 @@ public class PerformanceRealtimeMetricsTest {
         assertEquals(second.webSocketActiveSessions(), 1);
         assertEquals(second.sseActiveSessions(), 1);
     }
+
+    @Test
+    public void shouldTrackHttp2StreamsPerConnection() {
+        PerformanceRealtimeMetrics metrics = new PerformanceRealtimeMetrics();
+        metrics.reset(0);
+
+        metrics.recordHttp2StreamStart("conn-a", 0);
+        metrics.recordHttp2StreamStart("conn-a", 0);
+        metrics.recordHttp2StreamStart("conn-b", 500);
+        metrics.recordHttp2StreamEnd("conn-a", 2_048);
+        metrics.recordHttp2StreamRefused("conn-b", false);
+        metrics.recordHttp2StreamRefused("conn-b", true);
+
+        PerformanceRealtimeMetrics.Http2LiveSnapshot http2 = metrics.liveSnapshot(2_000).http2();
+
+        assertTrue(http2.hasData());
+        assertEquals(http2.activeStreams(), 2);
+        assertEquals(http2.peakStreams(), 3);
+        assertEquals(http2.refusedStreams(), 1);
+        assertEquals(http2.goAwayCount(), 1);
+        assertEquals(http2.connections().size(), 2);
+        PerformanceRealtimeMetrics.Http2ConnectionSnapshot connA = http2.connections().get(0);
+        assertEquals(connA.connection(), "conn-a");
+        assertEquals(connA.activeStreams(), 1);
+        assertEquals(connA.completedStreams(), 1);
+        assertEquals(connA.receivedBytes(), 2_048);
+        assertEquals(connA.streamRate(), 0.5);
+        assertEquals(connA.receiveBytesRate(), 1_024.0);
+        assertEquals(http2.connections().get(1).refusedStreams(), 2);
+
+        metrics.reset(3_000);
+
+        assertFalse(metrics.liveSnapshot(3_000).http2().hasData());
+    }
+
+    @Test
+    public void shouldReportDispatcherQueueAndQueueWait() {
+        PerformanceRealtimeMetrics metrics = new PerformanceRealtimeMetrics();
+        metrics.reset(0);
+        int[] queued = {3};
+        metrics.bindQueuedHttpCalls(() -> queued[0]);
+
+        metrics.recordHttpQueueWait(0);
+        metrics.recordHttpQueueWait(10);
+        metrics.recordHttpQueueWait(30);
+
+        PerformanceRealtimeMetrics.HttpDispatchLiveSnapshot dispatch = metrics.liveSnapshot(1_000).httpDispatch();
+        assertTrue(dispatch.hasData());
+        assertEquals(dispatch.queuedCalls(), 3);
+        assertEquals(dispatch.queuedSamples(), 2);
+        assertEquals(dispatch.averageQueueWaitMs(), 20.0);
+        assertEquals(dispatch.maxQueueWaitMs(), 30);
+
+        queued[0] = 0;
+        dispatch = metrics.liveSnapshot(2_000).httpDispatch();
+        assertEquals(dispatch.queuedCalls(), 0);
+        assertEquals(dispatch.peakQueuedCalls(), 3);
+
+        metrics.reset(3_000);
+
+        assertFalse(metrics.liveSnapshot(3_000).httpDispatch().hasData());
+    }
 }
@@ -3,6 +3,10 @@ package com.laker.postman.performance.core.model;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -96,4 +100,53 @@ public class PerformanceTrendWindowCollectorTest {
                 .getDeclaredMethod("record", RequestResult.class)
                 .getModifiers()));
     }
+
+    @Test
+    public void shouldNotLoseOrDoubleCountSamplesWhileDrainingConcurrently() throws Exception {
+        PerformanceTrendWindowCollector collector = new PerformanceTrendWindowCollector();
+        int writers = 8;
+        int samplesPerWriter = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < samplesPerWriter; j++) {
+                    collector.record(new RequestResult(0, 10, j % 10 != 0, "search", PerformanceProtocol.HTTP));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long drainedSamples = 0;
+        long drainedFailures = 0;
+        start.countDown();
+        while (writing.get()) {
+            PerformanceTrendSnapshot snapshot = drain(collector);
+            drainedSamples += snapshot.http().samples();
+            drainedFailures += snapshot.http().failures();
+            writing.set(threads.stream().anyMatch(Thread::isAlive));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        PerformanceTrendSnapshot last = drain(collector);
+        drainedSamples += last.http().samples();
+        drainedFailures += last.http().failures();
+
+        assertEquals(drainedSamples, (long) writers * samplesPerWriter);
+        assertEquals(drainedFailures, (long) writers * samplesPerWriter / 10);
+        assertEquals(drain(collector).overview().samples(), 0);
+    }
+
+    private static PerformanceTrendSnapshot drain(PerformanceTrendWindowCollector collector) {
+        return collector.drainWindowSnapshot(1, 0, 0, 1_000, PerformanceRealtimeMetrics.Sample.empty());
+    }
 }
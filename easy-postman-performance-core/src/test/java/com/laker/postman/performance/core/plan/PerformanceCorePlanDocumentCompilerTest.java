@@ -113,6 +113,8 @@ public class PerformanceCorePlanDocumentCompilerTest {
         assertTrue(whileController.getElements().get(0) instanceof PerformanceConditionController);
         PerformanceConditionController conditionController = (PerformanceConditionController) whileController.getElements().get(0);
         assertEquals(conditionController.getConditionData().expression, "{{status}} == 200");
+        assertEquals(whileController.getCompiledExpression().getVariableNames(), List.of("retryCount"));
+        assertEquals(conditionController.getCompiledExpression().getSource(), "{{status}} == 200");
         assertTrue(conditionController.getElements().get(0) instanceof PerformanceCoreRequestSampler);
 
         PerformanceCoreRequestSampler sampler = (PerformanceCoreRequestSampler) conditionController.getElements().get(0);
@@ -13,6 +13,7 @@ import com.laker.postman.performance.core.request.PerformanceRequestKeyValue;
 import com.laker.postman.performance.core.request.PerformanceRequestSnapshot;
 import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
 import com.laker.postman.performance.core.timer.TimerData;
+import com.laker.postman.performance.core.timer.TimerType;
 import org.testng.annotations.Test;
 
 import java.nio.file.Files;
@@ -49,6 +50,10 @@ public class PerformanceCorePlanJsonStorageTest {
         assertEquals(loadedGroup.getThreadGroupData().threadMode, ThreadGroupData.ThreadMode.RAMP_UP);
         assertEquals(loadedGroup.getThreadGroupData().rampUpEndThreads, 6);
         assertEquals(loadedGroup.getThreadGroupData().maxInFlightWaitSeconds, 45);
+        assertTrue(loadedGroup.getThreadGroupData().http2Multiplexed);
+        assertEquals(loadedGroup.getThreadGroupData().http2Connections, 2);
+        assertEquals(loadedGroup.getThreadGroupData().http2MaxStreamsPerConnection, 64);
+        assertTrue(loadedGroup.getThreadGroupData().asyncSampling);
 
         PerformanceCorePlanNode loadedLoop = loadedGroup.getChildren().get(0);
         assertEquals(loadedLoop.getLoopData().iterations, 3);
@@ -87,6 +92,8 @@ public class PerformanceCorePlanJsonStorageTest {
 
         TimerData timerData = loadedRequest.getChildren().get(0).getTimerData();
         assertEquals(timerData.delayMs, 75);
+        assertEquals(timerData.timerType(), TimerType.GAUSSIAN_RANDOM);
+        assertEquals(timerData.rangeMs, 20);
     }
 
     @Test
@@ -144,7 +151,9 @@ public class PerformanceCorePlanJsonStorageTest {
         webSocketData.messageFilter = "pong";
 
         TimerData timerData = new TimerData();
+        timerData.type = TimerType.GAUSSIAN_RANDOM.getStorageValue();
         timerData.delayMs = 75;
+        timerData.rangeMs = 20;
         PerformanceCorePlanNode timer = PerformanceCorePlanNode.builder()
                 .name("think time")
                 .type(NodeType.TIMER)
@@ -204,6 +213,10 @@ public class PerformanceCorePlanJsonStorageTest {
         threadGroupData.useTime = false;
         threadGroupData.loops = 5;
         threadGroupData.maxInFlightWaitSeconds = 45;
+        threadGroupData.http2Multiplexed = true;
+        threadGroupData.http2Connections = 2;
+        threadGroupData.http2MaxStreamsPerConnection = 64;
+        threadGroupData.asyncSampling = true;
         PerformanceCorePlanNode group = PerformanceCorePlanNode.builder()
                 .name("users")
                 .type(NodeType.THREAD_GROUP)
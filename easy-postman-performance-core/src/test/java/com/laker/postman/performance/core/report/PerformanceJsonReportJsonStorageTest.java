@@ -5,6 +5,7 @@ import org.testng.annotations.Test;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -46,4 +47,64 @@ public class PerformanceJsonReportJsonStorageTest {
             assertFalse(files.anyMatch(path -> path.getFileName().toString().endsWith(".tmp")));
         }
     }
+
+    @Test
+    public void shouldRoundTripGeneratorSectionOnlyWhenSampled() {
+        PerformanceJsonReportJsonStorage storage = new PerformanceJsonReportJsonStorage();
+        PerformanceJsonReport report = PerformanceJsonReport.builder()
+                .protocols(PerformanceJsonReportSummaryMapper.emptyProtocols())
+                .generator(PerformanceJsonReportGenerator.builder()
+                        .samples(12L)
+                        .avgCpuPercent(55.5)
+                        .maxCpuPercent(93.0)
+                        .gcPauseMs(240L)
+                        .peakThreadCount(80)
+                        .maxSchedulingLagMs(61.0)
+                        .warnings(List.of("Generator scheduling lag reached 61ms in 1 of 12 samples"))
+                        .build())
+                .build();
+
+        PerformanceJsonReport loaded = storage.fromJson(storage.toJson(report));
+
+        assertEquals(loaded.getGenerator().getSamples(), 12L);
+        assertEquals(loaded.getGenerator().getMaxCpuPercent(), 93.0);
+        assertEquals(loaded.getGenerator().getGcPauseMs(), 240L);
+        assertEquals(loaded.getGenerator().getPeakThreadCount(), 80);
+        assertEquals(loaded.getGenerator().getWarnings().size(), 1);
+        assertFalse(storage.toMap(PerformanceJsonReport.builder().build()).containsKey("generator"));
+    }
+
+    @Test
+    public void shouldRoundTripThresholdResultsOnlyWhenConfigured() {
+        PerformanceJsonReportJsonStorage storage = new PerformanceJsonReportJsonStorage();
+        PerformanceJsonReport report = PerformanceJsonReport.builder()
+                .protocols(PerformanceJsonReportSummaryMapper.emptyProtocols())
+                .thresholds(List.of(PerformanceJsonReportThreshold.builder()
+                        .name("overall p95 <= 500 over 10s")
+                        .scope("OVERALL")
+                        .metric("P95_MS")
+                        .limit(500D)
+                        .windowSeconds(10)
+                        .abortOnFail(true)
+                        .status("FAILED")
+                        .evaluations(12L)
+                        .breaches(2L)
+                        .worstValue(831D)
+                        .lastValue(Double.NaN)
+                        .firstBreachTimeMs(1_700L)
+                        .aborted(true)
+                        .build()))
+                .build();
+
+        PerformanceJsonReport loaded = storage.fromJson(storage.toJson(report));
+
+        PerformanceJsonReportThreshold threshold = loaded.getThresholds().get(0);
+        assertTrue(loaded.hasFailedThresholds());
+        assertEquals(threshold.getName(), "overall p95 <= 500 over 10s");
+        assertEquals(threshold.getWorstValue(), 831D);
+        assertEquals(threshold.getLastValue(), 0D);
+        assertEquals(threshold.getBreaches(), 2L);
+        assertTrue(threshold.isAborted());
+        assertFalse(storage.toMap(PerformanceJsonReport.builder().build()).containsKey("thresholds"));
+    }
 }
@@ -38,6 +38,56 @@ public class PerformanceJsonReportSummaryMapperTest {
         assertTrue(merged.getMetadata().getError().contains("127.0.0.1:19091: Request failures: 1"));
     }
 
+    @Test
+    public void shouldMergeGeneratorLoadAndKeepWarningSources() {
+        PerformanceJsonReport hot = generatorReport("worker-a", 10L, 80.0, 97.0, 64,
+                List.of("Generator process CPU reached 97% in 3 of 10 samples"));
+        PerformanceJsonReport idle = generatorReport("worker-b", 30L, 20.0, 35.0, 32, List.of());
+
+        PerformanceJsonReport merged = PerformanceJsonReportSummaryMapper.merge(
+                "run-1",
+                "master",
+                PerformanceRunStatus.SUCCESS,
+                "plan.json",
+                List.of(hot, idle)
+        );
+
+        PerformanceJsonReportGenerator generator = merged.getGenerator();
+        assertEquals(generator.getSamples(), 40L);
+        assertEquals(generator.getAvgCpuPercent(), 35.0, 0.0001D);
+        assertEquals(generator.getMaxCpuPercent(), 97.0, 0.0001D);
+        assertEquals(generator.getPeakThreadCount(), 96);
+        assertEquals(generator.getWarnings(), List.of("worker-a: Generator process CPU reached 97% in 3 of 10 samples"));
+    }
+
+    @Test
+    public void shouldFailMergedRunWhenAnyWorkerBreachesThresholdAndAppendMasterThroughputLimit() {
+        PerformanceJsonReport left = thresholdReport("worker-a",
+                threshold("P95_MS", 500D, "PASSED", 420D));
+        PerformanceJsonReport right = thresholdReport("worker-b",
+                threshold("P95_MS", 500D, "FAILED", 730D));
+
+        PerformanceJsonReport merged = PerformanceJsonReportSummaryMapper.merge(
+                "run-1",
+                "master",
+                PerformanceRunStatus.SUCCESS,
+                "plan.json",
+                List.of(left, right),
+                List.of(threshold("RPS", 100D, "PASSED", 115D))
+        );
+
+        assertEquals(merged.getMetadata().getStatus(), PerformanceRunStatus.FAILED);
+        assertEquals(merged.getThresholds().size(), 2);
+        PerformanceJsonReportThreshold p95 = merged.getThresholds().get(0);
+        assertEquals(p95.getStatus(), "FAILED");
+        assertEquals(p95.getWorstValue(), 730D);
+        assertEquals(p95.getLimit(), 500D);
+        PerformanceJsonReportThreshold rps = merged.getThresholds().get(1);
+        assertEquals(rps.getStatus(), "PASSED");
+        assertEquals(rps.getLimit(), 100D);
+        assertEquals(rps.getWorstValue(), 115D);
+    }
+
     @Test
     public void shouldRecalculateDistributedQpsFromGlobalSampleWindow() {
         PerformanceJsonReportApi leftApi = httpApi("search", "Search", 60, 1_000L, 4_000L,
@@ -112,4 +162,52 @@ public class PerformanceJsonReportSummaryMapperTest {
                 .durationMs(PerformanceJsonReportDuration.builder().avg(10L).min(10L).max(10L).build())
                 .build();
     }
+
+    private static PerformanceJsonReport generatorReport(String source,
+                                                         long samples,
+                                                         double avgCpu,
+                                                         double maxCpu,
+                                                         int threads,
+                                                         List<String> warnings) {
+        return PerformanceJsonReport.builder()
+                .metadata(PerformanceJsonReportMetadata.builder()
+                        .source(source)
+                        .status(PerformanceRunStatus.SUCCESS)
+                        .build())
+                .protocols(PerformanceJsonReportSummaryMapper.emptyProtocols())
+                .generator(PerformanceJsonReportGenerator.builder()
+                        .samples(samples)
+                        .avgCpuPercent(avgCpu)
+                        .maxCpuPercent(maxCpu)
+                        .peakThreadCount(threads)
+                        .warnings(warnings)
+                        .build())
+                .build();
+    }
+
+    private static PerformanceJsonReport thresholdReport(String source, PerformanceJsonReportThreshold... thresholds) {
+        return PerformanceJsonReport.builder()
+                .metadata(PerformanceJsonReportMetadata.builder()
+                        .source(source)
+                        .status(PerformanceRunStatus.SUCCESS)
+                        .build())
+                .protocols(PerformanceJsonReportSummaryMapper.emptyProtocols())
+                .thresholds(List.of(thresholds))
+                .build();
+    }
+
+    private static PerformanceJsonReportThreshold threshold(String metric, double limit, String status, double worst) {
+        return PerformanceJsonReportThreshold.builder()
+                .name("overall " + metric)
+                .scope("OVERALL")
+                .metric(metric)
+                .limit(limit)
+                .windowSeconds(10)
+                .status(status)
+                .evaluations(5L)
+                .breaches("FAILED".equals(status) ? 1L : 0L)
+                .worstValue(worst)
+                .lastValue(worst)
+                .build();
+    }
 }
@@ -7,6 +7,9 @@ import com.laker.postman.performance.core.plan.PerformanceCorePlanNode;
 import com.laker.postman.performance.core.request.PerformanceRequestFormDataPart;
 import com.laker.postman.performance.core.request.PerformanceRequestSnapshot;
 import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
+import com.laker.postman.performance.core.threshold.PerformanceThreshold;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdMetric;
+import com.laker.postman.performance.core.threshold.PerformanceThresholdScope;
 import org.testng.annotations.Test;
 
 import java.nio.file.Files;
@@ -39,6 +42,9 @@ public class PerformanceRunPlanJsonStorageTest {
                         .httpKeepAliveSeconds(34L)
                         .httpMaxRequests(123)
                         .httpMaxRequestsPerHost(45)
+                        .httpDnsMode("ROUND_ROBIN")
+                        .httpDnsCacheTtlSeconds(15L)
+                        .httpDnsHostOverrides("10.0.0.1 api.example.com")
                         .build())
                 .testPlan(document)
                 .assets(PerformanceRunPlanAssetScanner.scan(document))
@@ -72,6 +78,9 @@ public class PerformanceRunPlanJsonStorageTest {
         assertEquals(loaded.getSettings().getHttpKeepAliveSeconds(), 34L);
         assertEquals(loaded.getSettings().getHttpMaxRequests(), 123);
         assertEquals(loaded.getSettings().getHttpMaxRequestsPerHost(), 45);
+        assertEquals(loaded.getSettings().getHttpDnsMode(), "ROUND_ROBIN");
+        assertEquals(loaded.getSettings().getHttpDnsCacheTtlSeconds(), 15L);
+        assertEquals(loaded.getSettings().getHttpDnsHostOverrides(), "10.0.0.1 api.example.com");
         assertEquals(loaded.getAssets().size(), 2);
 
         PerformanceCorePlanNode loadedGroup = loaded.getTestPlan().getRoot().getChildren().get(0);
@@ -102,6 +111,38 @@ public class PerformanceRunPlanJsonStorageTest {
         assertEquals(loaded.getAssets().size(), 2);
     }
 
+    @Test
+    public void shouldRoundTripThresholdsAndSkipUnknownMetrics() {
+        PerformanceRunPlanJsonStorage storage = new PerformanceRunPlanJsonStorage();
+        PerformanceRunPlan plan = PerformanceRunPlan.builder()
+                .testPlan(runDocument())
+                .thresholds(List.of(PerformanceThreshold.builder()
+                        .scope(PerformanceThresholdScope.API)
+                        .target("upload")
+                        .metric(PerformanceThresholdMetric.P95_MS)
+                        .limit(500D)
+                        .windowSeconds(30)
+                        .graceSeconds(5)
+                        .abortOnFail(true)
+                        .build()))
+                .build();
+
+        String json = storage.toJson(plan).replace("\"thresholds\": [",
+                "\"thresholds\": [ { \"metric\": \"apdex\", \"limit\": 0.9 },");
+        assertTrue(json.contains("apdex"));
+        PerformanceRunPlan loaded = storage.fromJson(json);
+
+        assertEquals(loaded.getThresholds().size(), 1);
+        PerformanceThreshold threshold = loaded.getThresholds().get(0);
+        assertEquals(threshold.getName(), "api upload p95 <= 500 over 30s");
+        assertEquals(threshold.getScope(), PerformanceThresholdScope.API);
+        assertEquals(threshold.getTarget(), "upload");
+        assertEquals(threshold.getLimit(), 500D);
+        assertEquals(threshold.getGraceSeconds(), 5);
+        assertTrue(threshold.isAbortOnFail());
+        assertFalse(storage.toJson(PerformanceRunPlan.builder().testPlan(runDocument()).build()).contains("\"thresholds\""));
+    }
+
     private static PerformanceCorePlanDocument runDocument() {
         CsvDataSetData csvData = CsvDataSetData.file("users.csv", "assets/data/users.csv");
         csvData.setEncoding("UTF-8");
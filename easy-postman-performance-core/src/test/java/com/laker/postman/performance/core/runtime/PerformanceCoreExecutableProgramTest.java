@@ -0,0 +1,247 @@
+package com.laker.postman.performance.core.runtime;
+
+import com.laker.postman.performance.core.controller.ConditionData;
+import com.laker.postman.performance.core.controller.LoopData;
+import com.laker.postman.performance.core.controller.WhileData;
+import com.laker.postman.performance.core.model.NodeType;
+import com.laker.postman.performance.core.plan.PerformanceConditionController;
+import com.laker.postman.performance.core.plan.PerformanceLoopController;
+import com.laker.postman.performance.core.plan.PerformancePlanElement;
+import com.laker.postman.performance.core.plan.PerformanceSampler;
+import com.laker.postman.performance.core.plan.PerformanceSimpleController;
+import com.laker.postman.performance.core.plan.PerformanceThreadGroupPlan;
+import com.laker.postman.performance.core.plan.PerformanceTimerElement;
+import com.laker.postman.performance.core.plan.PerformanceWhileController;
+import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
+import com.laker.postman.performance.core.timer.PerformanceThinkTime;
+import com.laker.postman.performance.core.timer.PerformanceTimerStatistics;
+import com.laker.postman.performance.core.timer.TimerData;
+import com.laker.postman.performance.core.timer.TimerType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceCoreExecutableProgramTest {
+
+    @Test
+    public void shouldLowerControllersIntoFlatInstructionsWithJumpTargets() {
+        ConditionData conditionData = new ConditionData();
+        conditionData.expression = "{{run}}";
+        PerformanceSampler inner = sampler("inner");
+        PerformanceThreadGroupPlan groupPlan = groupPlan(List.of(
+                timer("group timer", 3),
+                new PerformanceSimpleController("simple", List.of(sampler("first"))),
+                new PerformanceLoopController("loop", loopData(2), List.of(
+                        timer("loop timer", 4),
+                        new PerformanceConditionController("condition", conditionData, List.of(inner))
+                )),
+                timer("disabled timer", 0)
+        ));
+
+        PerformanceCoreExecutableProgram program = PerformanceCoreExecutableProgram.compile(groupPlan);
+
+        // 0 SAMPLE first  1 LOOP_INIT  2 LOOP_TEST->6  3 CONDITION->5  4 SAMPLE inner  5 JUMP->2
+        assertEquals(program.size(), 6);
+        assertEquals(program.slotCount(), 1);
+        assertEquals(opcodes(program), List.of(
+                PerformanceCoreExecutableProgram.SAMPLE,
+                PerformanceCoreExecutableProgram.LOOP_INIT,
+                PerformanceCoreExecutableProgram.LOOP_TEST,
+                PerformanceCoreExecutableProgram.CONDITION,
+                PerformanceCoreExecutableProgram.SAMPLE,
+                PerformanceCoreExecutableProgram.JUMP
+        ));
+        assertEquals(delays(program.instruction(0)), List.of(3L));
+        assertEquals(program.instruction(2).target(), 6);
+        assertEquals(program.instruction(2).count(), 2);
+        assertEquals(program.instruction(3).target(), 5);
+        assertSame(program.instruction(4).element(), inner);
+        assertEquals(delays(program.instruction(4)), List.of(3L, 4L), "外层和循环内的定时器都应作用于内层取样器");
+        assertEquals(program.instruction(5).target(), 2);
+    }
+
+    @Test
+    public void shouldPreResolveWhileSettingsAndRunNestedLoopsInsideWhile() {
+        WhileData whileData = new WhileData();
+        whileData.expression = "{{remaining}} > 0";
+        whileData.intervalMs = 9;
+        whileData.timeoutMs = 0;
+        whileData.maxIterations = 10;
+        PerformanceWhileController whileController = new PerformanceWhileController("while", whileData, List.of(
+                new PerformanceLoopController("loop", loopData(2), List.of(sampler("poll")))
+        ));
+        PerformanceThreadGroupPlan groupPlan = groupPlan(List.of(whileController, sampler("after")));
+        List<String> events = new ArrayList<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        PerformanceCorePlanExecutor<String> executor = new PerformanceCorePlanExecutor<>(
+                () -> true,
+                (sampler, context) -> events.add("sample:" + sampler.getName()),
+                delayMs -> {
+                    events.add("sleep:" + delayMs);
+                    remaining.decrementAndGet();
+                },
+                (condition, context) -> true,
+                (controller, context) -> true,
+                (controller, context) -> remaining.get() > 0
+        );
+
+        PerformanceCoreExecutableProgram program = executor.programFor(groupPlan);
+        executor.executeIteration(groupPlan, "ctx");
+
+        assertSame(executor.programFor(groupPlan), program, "同一计划只编译一次");
+        assertEquals(program.slotCount(), 2);
+        PerformanceCoreExecutableProgram.Instruction whileTest = program.instruction(1);
+        assertEquals(whileTest.opcode(), PerformanceCoreExecutableProgram.WHILE_TEST);
+        assertEquals(whileTest.intervalMs(), 9L);
+        assertEquals(whileTest.count(), 10);
+        // 等待前先判断条件，等待后回到 WHILE_TEST 再判断一次，与递归执行时一致
+        assertEquals(events, List.of(
+                "sample:poll",
+                "sample:poll",
+                "sleep:9",
+                "sample:poll",
+                "sample:poll",
+                "sleep:9",
+                "sample:after"
+        ));
+    }
+
+    @Test
+    public void pacingTimerShouldWrapEachPassOfItsContainerAndReportOverruns() {
+        PerformanceThreadGroupPlan groupPlan = groupPlan(List.of(
+                new PerformanceLoopController("loop", loopData(2), List.of(
+                        pacingTimer(200),
+                        sampler("slow")
+                ))
+        ));
+        List<String> events = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        PerformanceCorePlanExecutor<String> executor = new PerformanceCorePlanExecutor<>(
+                () -> true,
+                (sampler, context) -> {
+                    events.add("sample:" + sampler.getName());
+                    if (calls.incrementAndGet() == 2) {
+                        sleepQuietly(260);
+                    }
+                },
+                delayMs -> events.add(delayMs > 150 ? "pace" : "pace:" + delayMs)
+        );
+
+        PerformanceCoreExecutableProgram program = executor.programFor(groupPlan);
+        executor.executeIteration(groupPlan, "ctx");
+
+        // 0 LOOP_INIT  1 LOOP_TEST  2 PACE_START  3 SAMPLE  4 PACE_END  5 JUMP
+        assertEquals(opcodes(program).subList(2, 5), List.of(
+                PerformanceCoreExecutableProgram.PACE_START,
+                PerformanceCoreExecutableProgram.SAMPLE,
+                PerformanceCoreExecutableProgram.PACE_END
+        ));
+        assertEquals(delays(program.instruction(3)), List.of(), "节奏定时器不应作为采样器前的等待");
+        assertEquals(events, List.of("sample:slow", "pace", "sample:slow"), "第二轮超出目标，不再等待");
+        PerformanceTimerStatistics.Snapshot statistics = executor.getTimerStatistics().snapshot();
+        assertEquals(statistics.pacedIterations(), 2L);
+        assertEquals(statistics.pacingMisses(), 1L);
+        assertTrue(statistics.pacingMissMs() >= 50L);
+    }
+
+    @Test
+    public void throughputShaperShouldSpaceReservationsAcrossCallersAndRecordLag() {
+        PerformanceTimerStatistics statistics = new PerformanceTimerStatistics();
+        PerformanceCoreThroughputShaper shaper = new PerformanceCoreThroughputShaper(600D, statistics);
+        long interval = shaper.intervalNanos();
+        long start = 1_000_000_000L;
+
+        assertEquals(interval, 100_000_000L);
+        assertEquals(shaper.reserve(start), 0L);
+        assertEquals(shaper.reserve(start), 100L, "同一时刻的第二个虚拟用户要等到下一个节拍");
+        assertEquals(shaper.reserve(start + 50_000_000L), 150L);
+        assertEquals(statistics.snapshot().throughputMisses(), 0L);
+
+        long late = start + 3 * interval + 40_000_000L;
+        assertEquals(shaper.reserve(late), 0L, "落后节拍时立即执行，不补发");
+        assertEquals(shaper.reserve(late), 100L);
+        PerformanceTimerStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(snapshot.throughputMisses(), 1L);
+        assertEquals(snapshot.throughputLagMs(), 40L);
+    }
+
+    private static List<Long> delays(PerformanceCoreExecutableProgram.Instruction instruction) {
+        List<Long> delays = new ArrayList<>();
+        for (PerformanceThinkTime timer : instruction.timers()) {
+            delays.add(timer.nextDelayMs());
+        }
+        return delays;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PerformanceTimerElement pacingTimer(int pacingMs) {
+        TimerData timerData = new TimerData();
+        timerData.type = TimerType.CONSTANT_PACING.getStorageValue();
+        timerData.pacingMs = pacingMs;
+        return new PerformanceTimerElement("pacing", timerData);
+    }
+
+    private static List<Integer> opcodes(PerformanceCoreExecutableProgram program) {
+        List<Integer> opcodes = new ArrayList<>();
+        for (int i = 0; i < program.size(); i++) {
+            opcodes.add(program.instruction(i).opcode());
+        }
+        return opcodes;
+    }
+
+    private static PerformanceThreadGroupPlan groupPlan(List<PerformancePlanElement> elements) {
+        return new PerformanceThreadGroupPlan("group", new ThreadGroupData(), elements);
+    }
+
+    private static PerformanceTimerElement timer(String name, int delayMs) {
+        TimerData timerData = new TimerData();
+        timerData.delayMs = delayMs;
+        return new PerformanceTimerElement(name, timerData);
+    }
+
+    private static LoopData loopData(int iterations) {
+        LoopData data = new LoopData();
+        data.iterations = iterations;
+        return data;
+    }
+
+    private static PerformanceSampler sampler(String name) {
+        return new RecordingSampler(name);
+    }
+
+    private record RecordingSampler(String name) implements PerformanceSampler {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public NodeType getType() {
+            return NodeType.REQUEST;
+        }
+
+        @Override
+        public List<PerformancePlanElement> getChildren() {
+            return List.of();
+        }
+
+        @Override
+        public boolean executesChildrenInSamplerOrder() {
+            return false;
+        }
+    }
+}
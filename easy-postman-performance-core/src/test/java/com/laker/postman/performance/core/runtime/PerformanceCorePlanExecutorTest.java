@@ -17,12 +17,17 @@ import com.laker.postman.performance.core.threadgroup.ThreadGroupData;
 import com.laker.postman.performance.core.timer.TimerData;
 import org.testng.annotations.Test;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class PerformanceCorePlanExecutorTest {
 
@@ -321,6 +326,190 @@ public class PerformanceCorePlanExecutorTest {
         assertEquals(events, List.of("sample:first request"));
     }
 
+    @Test
+    public void asyncIterationShouldResumeFromCompletionHandlerAndScheduleTimers() {
+        PerformanceThreadGroupPlan groupPlan = new PerformanceThreadGroupPlan(
+                "group",
+                new ThreadGroupData(),
+                List.of(new PerformanceLoopController("loop", loopData(2), List.of(
+                        timer("loop timer", 11),
+                        sampler("loop request", false, List.of())
+                )))
+        );
+        List<String> events = new ArrayList<>();
+        Deque<Runnable> continuations = new ArrayDeque<>();
+        Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+        PerformanceCorePlanExecutor<String> executor = new PerformanceCorePlanExecutor<>(
+                () -> true,
+                (sampler, context) -> events.add("blocking:" + sampler.getName())
+        );
+
+        CompletableFuture<Void> iteration = executor.executeIterationAsync(
+                groupPlan,
+                "ctx",
+                (sampler, context) -> {
+                    events.add("sample:" + sampler.getName() + ":" + context);
+                    CompletableFuture<Void> response = new CompletableFuture<>();
+                    inFlight.add(response);
+                    return response;
+                },
+                (continuation, delayMs) -> {
+                    events.add("schedule:" + delayMs);
+                    continuations.add(continuation);
+                }
+        );
+
+        continuations.poll().run();
+        assertFalse(iteration.isDone());
+        inFlight.poll().complete(null);
+        continuations.poll().run();
+        continuations.poll().run();
+        inFlight.poll().complete(null);
+        continuations.poll().run();
+
+        assertTrue(iteration.isDone());
+        assertTrue(continuations.isEmpty());
+        assertEquals(events, List.of(
+                "schedule:11",
+                "sample:loop request:ctx",
+                "schedule:0",
+                "schedule:11",
+                "sample:loop request:ctx",
+                "schedule:0"
+        ));
+        assertEquals(executor.getTimerStatistics().snapshot().sleptMs(), 22L);
+    }
+
+    @Test
+    public void asyncIterationShouldContinueInlineAndFailWithSampler() {
+        PerformanceThreadGroupPlan groupPlan = new PerformanceThreadGroupPlan(
+                "group",
+                new ThreadGroupData(),
+                List.of(
+                        sampler("first request", false, List.of()),
+                        sampler("second request", false, List.of()),
+                        sampler("third request", false, List.of())
+                )
+        );
+        List<String> events = new ArrayList<>();
+        PerformanceCorePlanExecutor<String> executor = new PerformanceCorePlanExecutor<>(
+                () -> true,
+                (sampler, context) -> events.add("blocking:" + sampler.getName())
+        );
+
+        CompletableFuture<Void> iteration = executor.executeIterationAsync(
+                groupPlan,
+                "ctx",
+                (sampler, context) -> {
+                    events.add("sample:" + sampler.getName());
+                    return "second request".equals(sampler.getName())
+                            ? CompletableFuture.failedFuture(new IllegalStateException("boom"))
+                            : CompletableFuture.completedFuture(null);
+                },
+                (continuation, delayMs) -> events.add("schedule:" + delayMs)
+        );
+
+        assertTrue(iteration.isCompletedExceptionally());
+        assertEquals(events, List.of("sample:first request", "sample:second request"));
+    }
+
+    @Test
+    public void asyncIterationShouldKeepDefaultOnceOnlyStateAcrossResumes() {
+        PerformanceOnceOnlyController onceOnlyController = new PerformanceOnceOnlyController(
+                "once only",
+                List.of(sampler("login", false, List.of()))
+        );
+        PerformanceThreadGroupPlan groupPlan = new PerformanceThreadGroupPlan(
+                "group",
+                new ThreadGroupData(),
+                List.of(new PerformanceLoopController("loop", loopData(2), List.of(
+                        onceOnlyController,
+                        sampler("page", false, List.of())
+                )))
+        );
+        List<String> events = new ArrayList<>();
+        Deque<Runnable> continuations = new ArrayDeque<>();
+        PerformanceCorePlanExecutor<String> executor = new PerformanceCorePlanExecutor<>(
+                () -> true,
+                (sampler, context) -> events.add("blocking:" + sampler.getName())
+        );
+
+        CompletableFuture<Void> iteration = executor.executeIterationAsync(
+                groupPlan,
+                "ctx",
+                (sampler, context) -> {
+                    events.add("sample:" + sampler.getName());
+                    CompletableFuture<Void> response = new CompletableFuture<>();
+                    continuations.add(() -> response.complete(null));
+                    return response;
+                },
+                (continuation, delayMs) -> continuations.add(continuation)
+        );
+        while (!continuations.isEmpty()) {
+            continuations.poll().run();
+        }
+
+        assertTrue(iteration.isDone());
+        assertEquals(events, List.of("sample:login", "sample:page", "sample:page"));
+    }
+
+    @Test
+    public void asyncIterationShouldHoldSampleUntilAdmissionResumes() {
+        PerformanceThreadGroupPlan groupPlan = new PerformanceThreadGroupPlan(
+                "group",
+                new ThreadGroupData(),
+                List.of(
+                        timer("timer", 5),
+                        sampler("request", false, List.of())
+                )
+        );
+        List<String> events = new ArrayList<>();
+        Deque<Runnable> continuations = new ArrayDeque<>();
+        Deque<Runnable> waiters = new ArrayDeque<>();
+        boolean[] admitting = {false};
+        PerformanceCorePlanExecutor<String> executor = new PerformanceCorePlanExecutor<>(
+                () -> true,
+                (sampler, context) -> events.add("blocking:" + sampler.getName())
+        );
+
+        CompletableFuture<Void> iteration = executor.executeIterationAsync(
+                groupPlan,
+                "ctx",
+                (sampler, context) -> {
+                    events.add("sample:" + sampler.getName());
+                    return CompletableFuture.completedFuture(null);
+                },
+                (continuation, delayMs) -> {
+                    events.add("schedule:" + delayMs);
+                    continuations.add(continuation);
+                },
+                resume -> {
+                    events.add("admit:" + admitting[0]);
+                    if (!admitting[0]) {
+                        waiters.add(resume);
+                    }
+                    return admitting[0];
+                }
+        );
+
+        continuations.poll().run();
+        assertFalse(iteration.isDone());
+        assertTrue(continuations.isEmpty());
+        admitting[0] = true;
+        waiters.poll().run();
+        continuations.poll().run();
+
+        assertTrue(iteration.isDone());
+        assertEquals(events, List.of(
+                "schedule:5",
+                "admit:false",
+                "schedule:0",
+                "admit:true",
+                "sample:request"
+        ));
+        assertEquals(executor.getTimerStatistics().snapshot().sleptMs(), 5L);
+    }
+
     private static PerformanceTimerElement timer(String name, int delayMs) {
         TimerData timerData = new TimerData();
         timerData.delayMs = delayMs;
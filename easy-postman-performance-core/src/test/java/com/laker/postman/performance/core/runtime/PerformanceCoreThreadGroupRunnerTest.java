@@ -12,9 +12,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -287,6 +291,97 @@ public class PerformanceCoreThreadGroupRunnerTest {
         assertFalse(source.contains("awaitTermination(1,"));
     }
 
+    @Test(timeOut = 5000)
+    public void shouldParkStandbyUsersUntilVirtualUserScaleIsRaised() {
+        assertEquals(executingThreadsWithStandby(1D), 3);
+        assertEquals(executingThreadsWithStandby(4D / 3D), 4);
+    }
+
+    private static int executingThreadsWithStandby(double virtualUserScale) {
+        PerformanceVirtualUserCoordinator virtualUsers = new PerformanceVirtualUserCoordinator();
+        virtualUsers.setVirtualUserScale(virtualUserScale);
+        Set<String> executingThreads = ConcurrentHashMap.newKeySet();
+        PerformanceCoreThreadGroupRunner<String> runner = new PerformanceCoreThreadGroupRunner<>(
+                () -> true,
+                System::currentTimeMillis,
+                () -> {
+                },
+                virtualUsers,
+                (groupPlan, iterationCount) -> "ctx",
+                (groupPlan, iterationContext) -> {
+                    executingThreads.add(Thread.currentThread().getName());
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                },
+                noopSink()
+        );
+        ThreadGroupData threadGroupData = new ThreadGroupData();
+        threadGroupData.threadMode = ThreadGroupData.ThreadMode.FIXED;
+        threadGroupData.numThreads = 4;
+        threadGroupData.useTime = true;
+        threadGroupData.duration = 1;
+
+        runner.run(new PerformanceTestPlan(List.of(
+                new PerformanceThreadGroupPlan("group", threadGroupData, null, List.of(), 0, 1))), 1);
+
+        assertEquals(virtualUsers.getParkedThreads(), 0);
+        return executingThreads.size();
+    }
+
+    @Test(timeOut = 5000)
+    public void shouldKeepAllAsyncVirtualUsersInFlightWithoutDedicatedThreads() {
+        int users = 200;
+        PerformanceVirtualUserCoordinator virtualUsers = new PerformanceVirtualUserCoordinator();
+        ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        List<String> blockingExecutions = new CopyOnWriteArrayList<>();
+        Set<String> scopes = ConcurrentHashMap.newKeySet();
+        AtomicInteger iterations = new AtomicInteger();
+        PerformanceCoreThreadGroupRunner<String> runner = new PerformanceCoreThreadGroupRunner<>(
+                () -> true,
+                System::currentTimeMillis,
+                () -> {
+                },
+                virtualUsers,
+                (groupPlan, iterationCount) -> "ctx:" + iterationCount,
+                (groupPlan, iterationContext) -> blockingExecutions.add(iterationContext),
+                (groupPlan, iterationContext, scheduler) -> {
+                    scopes.add(virtualUsers.currentVirtualUserScope());
+                    iterations.incrementAndGet();
+                    peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    CompletableFuture<Void> response = new CompletableFuture<>();
+                    responder.schedule(() -> {
+                        inFlight.decrementAndGet();
+                        response.complete(null);
+                    }, 200, TimeUnit.MILLISECONDS);
+                    return response;
+                },
+                noopSink()
+        );
+        ThreadGroupData threadGroupData = new ThreadGroupData();
+        threadGroupData.numThreads = users;
+        threadGroupData.useTime = false;
+        threadGroupData.loops = 2;
+        threadGroupData.asyncSampling = true;
+        PerformanceThreadGroupPlan group = new PerformanceThreadGroupPlan("async", threadGroupData, List.of());
+
+        try {
+            runner.run(new PerformanceTestPlan(List.of(group)), users);
+        } finally {
+            responder.shutdownNow();
+        }
+
+        assertTrue(blockingExecutions.isEmpty());
+        assertEquals(iterations.get(), users * 2);
+        assertEquals(scopes.size(), users);
+        assertEquals(peakInFlight.get(), users);
+        assertEquals(virtualUsers.getActiveThreads(), 0);
+    }
+
     private static Supplier<PerformanceCoreResultSink> noopSink() {
         return () -> PerformanceCoreResultSink.NOOP;
     }
@@ -0,0 +1,133 @@
+package com.laker.postman.performance.core.runtime;
+
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
+import com.laker.postman.performance.core.model.PerformanceGeneratorStatistics;
+import com.laker.postman.performance.core.report.PerformanceJsonReportGenerator;
+import com.laker.postman.performance.core.report.PerformanceJsonReportMapper;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceGeneratorMonitorTest {
+
+    @Test
+    public void shouldTurnProbeDeltasIntoWindowRates() {
+        FakeProbe probe = new FakeProbe();
+        probe.allocatedBytes = 0L;
+        PerformanceGeneratorMonitor monitor = new PerformanceGeneratorMonitor(probe);
+        monitor.resetWindowBaseline();
+        probe.cpuLoad = 0.5D;
+        probe.gcPauseMs = 50L;
+        probe.allocatedBytes = 2L * 1024 * 1024;
+        probe.threads = 24;
+
+        PerformanceGeneratorSample sample = monitor.sampleWindow(1_000L, 3D);
+
+        assertEquals(sample.processCpuPercent(), 50D, 0.0001D);
+        assertEquals(sample.gcPausePercent(), 5D, 0.0001D);
+        assertEquals(sample.allocationMbPerSecond(), 2D, 0.0001D);
+        assertEquals(sample.threadCount(), 24);
+        assertEquals(sample.schedulingLagMs(), 3D, 0.0001D);
+        assertEquals(monitor.latestSample(), sample);
+        assertFalse(monitor.statistics().hasWarnings());
+    }
+
+    @Test
+    public void shouldCountWindowsAboveSaturationThresholds() {
+        FakeProbe probe = new FakeProbe();
+        PerformanceGeneratorMonitor monitor = new PerformanceGeneratorMonitor(probe);
+        monitor.resetWindowBaseline();
+        probe.cpuLoad = 0.95D;
+        probe.gcPauseMs = 200L;
+        probe.threads = 300;
+        monitor.sampleWindow(1_000L, 80D);
+        probe.cpuLoad = 0.4D;
+        monitor.sampleWindow(1_000L, 5D);
+
+        PerformanceGeneratorStatistics.Snapshot statistics = monitor.statistics();
+
+        assertEquals(statistics.samples(), 2L);
+        assertEquals(statistics.avgCpuPercent(), 67.5D, 0.0001D);
+        assertEquals(statistics.gcPauseMs(), 200L);
+        assertEquals(statistics.cpuWarningSamples(), 1L);
+        assertEquals(statistics.gcWarningSamples(), 1L);
+        assertEquals(statistics.schedulingLagWarningSamples(), 1L);
+        assertTrue(Double.isNaN(statistics.avgAllocationMbPerSecond()));
+
+        PerformanceJsonReportGenerator report = PerformanceJsonReportMapper.toGenerator(statistics);
+        assertEquals(report.getWarnings().size(), 3);
+        assertEquals(report.getAvgAllocationMbPerSecond(), 0D);
+    }
+
+    @Test
+    public void shouldWarnWhenDispatcherQueueIsNonZero() {
+        FakeProbe probe = new FakeProbe();
+        PerformanceGeneratorMonitor monitor = new PerformanceGeneratorMonitor(probe);
+        int[] queued = {0};
+        monitor.bindQueuedHttpCalls(() -> queued[0]);
+        monitor.resetWindowBaseline();
+        probe.threads = 10;
+        monitor.sampleWindow(1_000L, 1D);
+        for (int i = 1; i <= 3; i++) {
+            queued[0] = i * 40;
+            assertEquals(monitor.sampleWindow(1_000L, 1D).queuedHttpCalls(), i * 40);
+        }
+
+        PerformanceGeneratorStatistics.Snapshot statistics = monitor.statistics();
+
+        assertTrue(statistics.hasWarnings());
+        assertEquals(statistics.peakQueuedHttpCalls(), 120);
+        assertEquals(statistics.dispatcherQueueWarningSamples(), 3L);
+        PerformanceJsonReportGenerator report = PerformanceJsonReportMapper.toGenerator(statistics);
+        assertEquals(report.getPeakQueuedHttpCalls(), 120);
+        assertEquals(report.getWarnings().size(), 1);
+    }
+
+    @Test
+    public void shouldMergeWorkerSamplesByWorstCaseAndSum() {
+        PerformanceGeneratorSample merged = PerformanceGeneratorSample.merge(List.of(
+                new PerformanceGeneratorSample(90D, 1D, 10D, 20, 4D, 5),
+                new PerformanceGeneratorSample(40D, 6D, Double.NaN, 30, 60D, 7),
+                PerformanceGeneratorSample.EMPTY
+        ));
+
+        assertEquals(merged.processCpuPercent(), 90D, 0.0001D);
+        assertEquals(merged.gcPausePercent(), 6D, 0.0001D);
+        assertEquals(merged.allocationMbPerSecond(), 10D, 0.0001D);
+        assertEquals(merged.threadCount(), 50);
+        assertEquals(merged.schedulingLagMs(), 60D, 0.0001D);
+        assertEquals(merged.queuedHttpCalls(), 12);
+        assertFalse(PerformanceGeneratorSample.merge(List.of()).hasData());
+    }
+
+    private static final class FakeProbe implements PerformanceGeneratorMonitor.Probe {
+        private double cpuLoad = -1D;
+        private long gcPauseMs;
+        private long allocatedBytes = -1L;
+        private int threads = 1;
+
+        @Override
+        public double processCpuLoad() {
+            return cpuLoad;
+        }
+
+        @Override
+        public long gcPauseMs() {
+            return gcPauseMs;
+        }
+
+        @Override
+        public long allocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public int threadCount() {
+            return threads;
+        }
+    }
+}
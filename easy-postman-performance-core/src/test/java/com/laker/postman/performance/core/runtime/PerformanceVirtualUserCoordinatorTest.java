@@ -2,8 +2,13 @@ package com.laker.postman.performance.core.runtime;
 
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -46,6 +51,31 @@ public class PerformanceVirtualUserCoordinatorTest {
         assertTrue(coordinator.canStartNextSample());
     }
 
+    @Test
+    public void shouldRestoreBoundVirtualUserOnWorkerThread() throws Exception {
+        PerformanceVirtualUserCoordinator coordinator = new PerformanceVirtualUserCoordinator();
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        AtomicReference<Executor> bound = new AtomicReference<>();
+        try {
+            PerformanceVirtualUserCoordinator.AsyncVirtualUser virtualUser = coordinator.startAsync(
+                    (active, total) -> {
+                    }, 1, () -> 7, index -> "vu-" + index, Long.MAX_VALUE);
+            virtualUser.run(() -> bound.set(coordinator.bindCurrentVirtualUser(worker)));
+            virtualUser.finish();
+
+            CompletableFuture<String> scope = new CompletableFuture<>();
+            bound.get().execute(() -> scope.complete(
+                    coordinator.currentVirtualUserIndex() + ":" + coordinator.currentVirtualUserScope()));
+            assertEquals(scope.get(1, TimeUnit.SECONDS), "7:vu-7");
+
+            CompletableFuture<String> cleared = new CompletableFuture<>();
+            worker.execute(() -> cleared.complete(String.valueOf(coordinator.currentVirtualUserScope())));
+            assertEquals(cleared.get(1, TimeUnit.SECONDS), "null");
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
     private static void await(CountDownLatch latch) {
         try {
             latch.await(1, TimeUnit.SECONDS);
@@ -114,6 +114,29 @@ public class PerformanceCoreThreadGroupPlannerTest {
         assertEquals(new PerformanceCoreThreadGroupPlanner().getTotalThreads(plan), Integer.MAX_VALUE);
     }
 
+    @Test
+    public void asyncVirtualUsersShouldOnlyCountFixedAsyncGroups() {
+        ThreadGroupData asyncGroup = new ThreadGroupData();
+        asyncGroup.threadMode = ThreadGroupData.ThreadMode.FIXED;
+        asyncGroup.numThreads = 5000;
+        asyncGroup.asyncSampling = true;
+        ThreadGroupData syncGroup = new ThreadGroupData();
+        syncGroup.threadMode = ThreadGroupData.ThreadMode.FIXED;
+        syncGroup.numThreads = 10;
+        ThreadGroupData rampUpGroup = new ThreadGroupData();
+        rampUpGroup.threadMode = ThreadGroupData.ThreadMode.RAMP_UP;
+        rampUpGroup.rampUpEndThreads = 20;
+        rampUpGroup.asyncSampling = true;
+        PerformanceTestPlan plan = new PerformanceTestPlan(Arrays.asList(
+                new PerformanceThreadGroupPlan("async", asyncGroup, List.of()),
+                new PerformanceThreadGroupPlan("sync", syncGroup, List.of()),
+                new PerformanceThreadGroupPlan("ramp-up", rampUpGroup, List.of()),
+                null
+        ));
+
+        assertEquals(new PerformanceCoreThreadGroupPlanner().getAsyncVirtualUsers(plan), 5000);
+    }
+
     @Test
     public void estimateTotalRequestsShouldNotOverflowWhenAveragingLargeThreadCounts() {
         ThreadGroupData threadGroupData = new ThreadGroupData();
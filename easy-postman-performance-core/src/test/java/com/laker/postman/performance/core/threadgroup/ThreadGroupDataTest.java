@@ -86,6 +86,22 @@ public class ThreadGroupDataTest {
         assertEquals(data.maxInFlightWaitSeconds, 1);
     }
 
+    @Test
+    public void shouldDefaultAndNormalizeHttp2Multiplexing() {
+        ThreadGroupData data = new ThreadGroupData();
+
+        assertEquals(data.http2Multiplexed, false);
+        assertEquals(data.http2Connections, ThreadGroupData.DEFAULT_HTTP2_CONNECTIONS);
+        assertEquals(data.http2MaxStreamsPerConnection, ThreadGroupData.DEFAULT_HTTP2_MAX_STREAMS_PER_CONNECTION);
+
+        data.http2Connections = 0;
+        data.http2MaxStreamsPerConnection = -5;
+        data.normalize();
+
+        assertEquals(data.http2Connections, 1);
+        assertEquals(data.http2MaxStreamsPerConnection, 1);
+    }
+
     @Test
     public void threadModeToStringShouldStayHeadlessSafeAndStorageStable() {
         assertEquals(ThreadGroupData.ThreadMode.FIXED.toString(), "FIXED");
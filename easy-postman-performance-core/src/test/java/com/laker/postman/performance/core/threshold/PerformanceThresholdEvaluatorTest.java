@@ -0,0 +1,152 @@
+package com.laker.postman.performance.core.threshold;
+
+import com.laker.postman.performance.core.model.PerformanceProtocol;
+import com.laker.postman.performance.core.model.PerformanceStatsCollector;
+import com.laker.postman.performance.core.model.RequestResult;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceThresholdEvaluatorTest {
+
+    @Test
+    public void shouldFailPercentileOnlyForBreachingWindowsAndKeepWorstValue() {
+        PerformanceThreshold p95 = PerformanceThreshold.builder()
+                .scope(PerformanceThresholdScope.API)
+                .target("login")
+                .metric(PerformanceThresholdMetric.P95_MS)
+                .limit(500D)
+                .windowSeconds(2)
+                .build();
+        PerformanceThresholdEvaluator evaluator = new PerformanceThresholdEvaluator(List.of(p95));
+        evaluator.start(0L);
+
+        recordMany(evaluator, "login", 100, 100L, true);
+        recordMany(evaluator, "search", 100, 5_000L, true);
+        evaluator.evaluate(1_000L);
+        evaluator.evaluate(2_000L);
+        PerformanceThresholdResult healthy = evaluator.results().get(0);
+        assertEquals(healthy.getStatus(), PerformanceThresholdResult.PASSED);
+        assertTrue(healthy.getWorstValue() <= 110D, String.valueOf(healthy.getWorstValue()));
+
+        recordMany(evaluator, "login", 100, 900L, true);
+        evaluator.evaluate(3_000L);
+        evaluator.evaluate(4_000L);
+
+        PerformanceThresholdResult result = evaluator.results().get(0);
+        assertEquals(p95.getName(), "api login p95 <= 500 over 2s");
+        assertEquals(result.getStatus(), PerformanceThresholdResult.FAILED);
+        assertTrue(result.getWorstValue() >= 900D && result.getWorstValue() < 1_000D,
+                String.valueOf(result.getWorstValue()));
+        assertEquals(result.getFirstBreachTimeMs(), 4_000L);
+        assertFalse(evaluator.isAbortRequested());
+    }
+
+    @Test
+    public void shouldRequestAbortOnFirstBreachAfterGracePeriod() {
+        PerformanceThreshold errorRate = PerformanceThreshold.builder()
+                .name("error budget")
+                .metric(PerformanceThresholdMetric.ERROR_RATE_PERCENT)
+                .limit(5D)
+                .windowSeconds(1)
+                .graceSeconds(3)
+                .abortOnFail(true)
+                .build();
+        PerformanceStatsCollector collector = new PerformanceStatsCollector(List.of(errorRate));
+        PerformanceThresholdEvaluator evaluator = collector.thresholds();
+        evaluator.start(0L);
+
+        for (int i = 0; i < 10; i++) {
+            collector.record(sample("orders", 20L, i % 2 == 0));
+        }
+        evaluator.evaluate(1_000L);
+        evaluator.evaluate(2_000L);
+        assertFalse(evaluator.isAbortRequested(), "grace period only collects samples");
+
+        for (int i = 0; i < 10; i++) {
+            collector.record(sample("orders", 20L, i > 0));
+        }
+        evaluator.evaluate(3_000L);
+        evaluator.evaluate(4_000L);
+
+        assertTrue(evaluator.isAbortRequested());
+        assertTrue(evaluator.abortReason().contains("error budget"), evaluator.abortReason());
+        PerformanceThresholdResult result = evaluator.results().get(0);
+        assertTrue(result.isAborted());
+        assertEquals(result.getWorstValue(), 10D);
+        assertEquals(collector.snapshot().totalRequests(), 20L);
+    }
+
+    @Test
+    public void shouldJudgeThroughputOnlyOnFullWindowsAndSkipTailOnFinish() {
+        PerformanceThreshold rps = PerformanceThreshold.builder()
+                .scope(PerformanceThresholdScope.PROTOCOL)
+                .target("http")
+                .metric(PerformanceThresholdMetric.RPS)
+                .limit(50D)
+                .windowSeconds(2)
+                .build();
+        PerformanceThresholdEvaluator evaluator = new PerformanceThresholdEvaluator(List.of(rps));
+        evaluator.start(0L);
+
+        for (long second = 1; second <= 3; second++) {
+            recordMany(evaluator, "search", 100, 10L, true);
+            evaluator.evaluate(second * 1_000L);
+        }
+        evaluator.evaluate(4_000L);
+        PerformanceThresholdResult passed = evaluator.results().get(0);
+        assertEquals(rps.getTarget(), "HTTP");
+        assertEquals(passed.getStatus(), PerformanceThresholdResult.PASSED);
+        assertEquals(passed.getLastValue(), 100D);
+
+        recordMany(evaluator, "search", 1, 10L, true);
+        evaluator.finish(4_200L);
+
+        assertEquals(evaluator.results().get(0).getStatus(), PerformanceThresholdResult.PASSED);
+    }
+
+    @Test
+    public void shouldReportNoDataWithoutSamplesAndIgnoreRecordsWhenEmpty() {
+        PerformanceThresholdEvaluator evaluator = new PerformanceThresholdEvaluator(List.of(
+                PerformanceThreshold.builder().metric(PerformanceThresholdMetric.P99_MS).limit(100D).build()
+        ));
+        evaluator.start(0L);
+        evaluator.evaluate(1_000L);
+        assertEquals(evaluator.finish(1_500L).get(0).getStatus(), PerformanceThresholdResult.NO_DATA);
+
+        PerformanceStatsCollector collector = new PerformanceStatsCollector();
+        collector.record(sample("orders", 10L, true));
+        assertTrue(collector.thresholds().isEmpty());
+        assertTrue(collector.thresholds().finish(1_000L).isEmpty());
+    }
+
+    @Test
+    public void shouldBoundLatencyBucketErrorAcrossRanges() {
+        for (long value : new long[]{0L, 1L, 63L, 64L, 65L, 500L, 1_023L, 1_024L, 59_999L, 3_600_000L}) {
+            int index = PerformanceThresholdWindow.bucketIndex(value);
+            long upper = PerformanceThresholdWindow.bucketUpperBound(index);
+            assertTrue(upper >= value, value + " -> " + upper);
+            assertTrue(upper - value <= Math.max(1L, value / 16), value + " -> " + upper);
+        }
+    }
+
+    private static void recordMany(PerformanceThresholdEvaluator evaluator,
+                                   String apiId,
+                                   int count,
+                                   long durationMs,
+                                   boolean success) {
+        for (int i = 0; i < count; i++) {
+            evaluator.record(sample(apiId, durationMs, success));
+        }
+    }
+
+    private static RequestResult sample(String apiId, long durationMs, boolean success) {
+        RequestResult result = new RequestResult(0L, durationMs, success, apiId);
+        result.protocol = PerformanceProtocol.HTTP;
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package com.laker.postman.performance.core.threshold;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceThroughputThresholdEvaluatorTest {
+
+    @Test
+    public void shouldEvaluateAggregateThroughputOverFullWindowsAndRequestAbort() {
+        PerformanceThreshold rps = PerformanceThreshold.builder()
+                .metric(PerformanceThresholdMetric.RPS)
+                .limit(100D)
+                .windowSeconds(2)
+                .graceSeconds(1)
+                .abortOnFail(true)
+                .build();
+        PerformanceThroughputThresholdEvaluator evaluator = new PerformanceThroughputThresholdEvaluator(List.of(rps));
+        evaluator.start(0L);
+
+        evaluator.observe(500L, threshold -> 0L);
+        evaluator.observe(1_000L, threshold -> 100L);
+        evaluator.observe(2_000L, threshold -> 300L);
+        assertEquals(evaluator.results().get(0).getStatus(), PerformanceThresholdResult.NO_DATA);
+
+        evaluator.observe(3_000L, threshold -> 500L);
+        evaluator.observe(4_000L, threshold -> 600L);
+        evaluator.observe(5_000L, threshold -> 700L);
+        PerformanceThresholdResult healthy = evaluator.results().get(0);
+        assertEquals(healthy.getStatus(), PerformanceThresholdResult.PASSED);
+        assertEquals(healthy.getEvaluations(), 3L);
+        assertEquals(healthy.getWorstValue(), 100D);
+        assertFalse(evaluator.isAbortRequested());
+
+        evaluator.observe(6_000L, threshold -> 750L);
+
+        PerformanceThresholdResult result = evaluator.results().get(0);
+        assertEquals(result.getStatus(), PerformanceThresholdResult.FAILED);
+        assertEquals(result.getBreaches(), 1L);
+        assertEquals(result.getWorstValue(), 75D);
+        assertEquals(result.getFirstBreachTimeMs(), 6_000L);
+        assertTrue(result.isAborted());
+        assertTrue(evaluator.isAbortRequested());
+        assertTrue(evaluator.abortReason().contains(rps.getName()), evaluator.abortReason());
+    }
+
+    @Test
+    public void shouldKeepOnlyThroughputThresholdsAndReportBreakdownNeed() {
+        PerformanceThreshold overall = PerformanceThreshold.builder()
+                .metric(PerformanceThresholdMetric.RPS)
+                .limit(50D)
+                .build();
+        PerformanceThreshold p95 = PerformanceThreshold.builder()
+                .metric(PerformanceThresholdMetric.P95_MS)
+                .limit(500D)
+                .build();
+        PerformanceThreshold blankApi = PerformanceThreshold.builder()
+                .scope(PerformanceThresholdScope.API)
+                .metric(PerformanceThresholdMetric.RPS)
+                .limit(10D)
+                .build();
+        PerformanceThreshold protocol = PerformanceThreshold.builder()
+                .scope(PerformanceThresholdScope.PROTOCOL)
+                .target("http")
+                .metric(PerformanceThresholdMetric.RPS)
+                .limit(10D)
+                .build();
+
+        assertTrue(PerformanceThroughputThresholdEvaluator.isThroughput(overall));
+        assertFalse(PerformanceThroughputThresholdEvaluator.isThroughput(p95));
+
+        PerformanceThroughputThresholdEvaluator overallOnly =
+                new PerformanceThroughputThresholdEvaluator(List.of(overall, p95, blankApi));
+        assertEquals(overallOnly.results().size(), 1);
+        assertFalse(overallOnly.needsBreakdown());
+
+        PerformanceThroughputThresholdEvaluator withProtocol =
+                new PerformanceThroughputThresholdEvaluator(List.of(overall, protocol));
+        assertTrue(withProtocol.needsBreakdown());
+        assertTrue(new PerformanceThroughputThresholdEvaluator(List.of(p95)).isEmpty());
+        assertTrue(new PerformanceThroughputThresholdEvaluator(null).isEmpty());
+    }
+}
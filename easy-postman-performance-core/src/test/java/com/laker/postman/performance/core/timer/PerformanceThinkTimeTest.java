@@ -0,0 +1,66 @@
+package com.laker.postman.performance.core.timer;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceThinkTimeTest {
+
+    @Test
+    public void shouldKeepLegacyConstantTimerAndSkipRuntimeOnlyTypes() {
+        TimerData legacy = new TimerData();
+        legacy.type = null;
+        legacy.delayMs = 75;
+
+        assertEquals(PerformanceThinkTime.of(legacy).nextDelayMs(), 75L);
+        assertSame(PerformanceThinkTime.of(timer(TimerType.CONSTANT, 0, 100)), PerformanceThinkTime.NONE);
+        assertSame(PerformanceThinkTime.of(timer(TimerType.CONSTANT_PACING, 500, 100)), PerformanceThinkTime.NONE);
+        assertSame(PerformanceThinkTime.of(timer(TimerType.CONSTANT_THROUGHPUT, 500, 100)), PerformanceThinkTime.NONE);
+        assertSame(PerformanceThinkTime.of(null), PerformanceThinkTime.NONE);
+    }
+
+    @Test
+    public void randomTimersShouldStayWithinTheirDistributionBounds() {
+        PerformanceThinkTime uniform = PerformanceThinkTime.of(timer(TimerType.UNIFORM_RANDOM, 100, 50));
+        PerformanceThinkTime gaussian = PerformanceThinkTime.of(timer(TimerType.GAUSSIAN_RANDOM, 20, 100));
+        PerformanceThinkTime smallPoisson = PerformanceThinkTime.of(timer(TimerType.POISSON_RANDOM, 10, 5));
+        PerformanceThinkTime largePoisson = PerformanceThinkTime.of(timer(TimerType.POISSON_RANDOM, 0, 1000));
+        long uniformSum = 0;
+        long poissonSum = 0;
+        int samples = 20_000;
+        for (int i = 0; i < samples; i++) {
+            long uniformDelay = uniform.nextDelayMs();
+            assertTrue(uniformDelay >= 100 && uniformDelay <= 150, "uniform=" + uniformDelay);
+            uniformSum += uniformDelay;
+            assertTrue(gaussian.nextDelayMs() >= 0, "正态分布的负值应截断为 0");
+            assertTrue(smallPoisson.nextDelayMs() >= 10);
+            poissonSum += largePoisson.nextDelayMs();
+        }
+        assertEquals(uniformSum / (double) samples, 125D, 2D);
+        assertEquals(poissonSum / (double) samples, 1000D, 5D);
+    }
+
+    @Test
+    public void normalizeShouldClampValuesAndUnknownTypes() {
+        TimerData data = timer(TimerType.GAUSSIAN_RANDOM, -5, TimerData.MAX_DELAY_MS + 1);
+        data.type = "unknown";
+        data.throughputPerMinute = Double.NaN;
+
+        data.normalize();
+
+        assertEquals(data.timerType(), TimerType.CONSTANT);
+        assertEquals(data.delayMs, 0);
+        assertEquals(data.rangeMs, TimerData.MAX_DELAY_MS);
+        assertEquals(data.throughputPerMinute, TimerData.MIN_THROUGHPUT_PER_MINUTE);
+    }
+
+    private static TimerData timer(TimerType type, int delayMs, int rangeMs) {
+        TimerData data = new TimerData();
+        data.type = type.getStorageValue();
+        data.delayMs = delayMs;
+        data.rangeMs = rangeMs;
+        return data;
+    }
+}
@@ -117,11 +117,89 @@ public class PerformanceWorkerAssignmentPlannerTest {
         assertTrue(assignedUserIds.contains("u099"));
     }
 
+    @Test
+    public void shouldWeightSplitByReportedWorkerCapacity() {
+        PerformanceRunPlan runPlan = PerformanceRunPlan.builder()
+                .testPlan(documentWithFixedThreadGroup(90))
+                .build();
+        List<PerformanceWorkerEndpoint> endpoints = List.of(
+                new PerformanceWorkerEndpoint("127.0.0.1", 19090),
+                new PerformanceWorkerEndpoint("127.0.0.1", 19091)
+        );
+        List<PerformanceWorkerCapacity> capacities = List.of(
+                PerformanceWorkerCapacity.builder().availableProcessors(4).systemCpuLoad(0D).build(),
+                PerformanceWorkerCapacity.builder().availableProcessors(32).systemCpuLoad(0.5D).build()
+        );
+
+        List<PerformanceWorkerAssignment> assignments = new PerformanceWorkerAssignmentPlanner()
+                .plan(runPlan, endpoints, capacities, "run-weighted");
+
+        assertEquals(assignments.get(0).getThreadGroups().get(0).getVirtualUserCount(), 18);
+        assertEquals(assignments.get(1).getThreadGroups().get(0).getFirstVirtualUserIndex(), 18);
+        assertEquals(assignments.get(1).getThreadGroups().get(0).getVirtualUserCount(), 72);
+    }
+
+    @Test
+    public void shouldFallBackToEvenSplitWhenAnyWorkerDoesNotReportCapacity() {
+        PerformanceRunPlan runPlan = PerformanceRunPlan.builder()
+                .testPlan(documentWithFixedThreadGroup(5))
+                .build();
+        List<PerformanceWorkerEndpoint> endpoints = List.of(
+                new PerformanceWorkerEndpoint("127.0.0.1", 19090),
+                new PerformanceWorkerEndpoint("127.0.0.1", 19091)
+        );
+        List<PerformanceWorkerCapacity> capacities = List.of(
+                PerformanceWorkerCapacity.builder().availableProcessors(32).build(),
+                PerformanceWorkerCapacity.UNKNOWN
+        );
+
+        List<PerformanceWorkerAssignment> assignments = new PerformanceWorkerAssignmentPlanner()
+                .plan(runPlan, endpoints, capacities, "run-legacy");
+
+        assertEquals(assignments.get(0).getThreadGroups().get(0).getVirtualUserCount(), 3);
+        assertEquals(assignments.get(1).getThreadGroups().get(0).getVirtualUserCount(), 2);
+    }
+
+    @Test
+    public void shouldAddStandbyUsersOnlyToTimeBoundGroupsWithoutCsv() {
+        List<PerformanceWorkerEndpoint> endpoints = List.of(
+                new PerformanceWorkerEndpoint("127.0.0.1", 19090),
+                new PerformanceWorkerEndpoint("127.0.0.1", 19091)
+        );
+        PerformanceWorkerAssignmentPlanner planner = new PerformanceWorkerAssignmentPlanner(
+                PerformanceWorkerAssignmentPlanner.DEFAULT_STANDBY_RATIO);
+        PerformanceRunPlan timedPlan = PerformanceRunPlan.builder()
+                .testPlan(documentWithFixedThreadGroup(10, true))
+                .build();
+
+        List<PerformanceWorkerAssignment> timed = planner.plan(timedPlan, endpoints, "run-timed");
+        List<PerformanceWorkerAssignment> loops = planner.plan(
+                PerformanceRunPlan.builder().testPlan(documentWithFixedThreadGroup(10)).build(), endpoints, "run-loops");
+        List<PerformanceWorkerAssignment> csv = planner.plan(
+                PerformanceRunPlan.builder().testPlan(documentWithFixedThreadGroupAndCsv(10, 10)).build(), endpoints, "run-csv");
+
+        assertEquals(timed.get(0).getThreadGroups().get(0).getStandbyVirtualUserCount(), 2);
+        assertEquals(loops.get(0).getThreadGroups().get(0).getStandbyVirtualUserCount(), 0);
+        assertEquals(csv.get(0).getThreadGroups().get(0).getStandbyVirtualUserCount(), 0);
+
+        PerformanceThreadGroupPlan workerGroup = new PerformanceWorkerExecutionPlanPartitioner().apply(
+                PerformanceCorePlanDocumentCompiler.compile(timedPlan.getTestPlan()),
+                timed.get(1)
+        ).getThreadGroups().get(0);
+        assertEquals(workerGroup.getThreadGroupData().numThreads, 7);
+        assertEquals(workerGroup.getStandbyVirtualUserCount(), 2);
+        assertEquals(workerGroup.getVirtualUserIndexOffset(), 5);
+    }
+
     private static PerformanceCorePlanDocument documentWithFixedThreadGroup(int users) {
+        return documentWithFixedThreadGroup(users, false);
+    }
+
+    private static PerformanceCorePlanDocument documentWithFixedThreadGroup(int users, boolean useTime) {
         ThreadGroupData threadGroupData = new ThreadGroupData();
         threadGroupData.threadMode = ThreadGroupData.ThreadMode.FIXED;
         threadGroupData.numThreads = users;
-        threadGroupData.useTime = false;
+        threadGroupData.useTime = useTime;
         threadGroupData.loops = 1;
         return new PerformanceCorePlanDocument(PerformanceCorePlanNode.builder()
                 .name("run plan")
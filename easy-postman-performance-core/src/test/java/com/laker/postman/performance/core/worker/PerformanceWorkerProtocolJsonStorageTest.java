@@ -1,6 +1,7 @@
 package com.laker.postman.performance.core.worker;
 
 import com.laker.postman.performance.core.model.NodeType;
+import com.laker.postman.performance.core.model.PerformanceGeneratorSample;
 import com.laker.postman.performance.core.model.PerformanceTrendSnapshot;
 import com.laker.postman.performance.core.plan.PerformanceCorePlanDocument;
 import com.laker.postman.performance.core.plan.PerformanceCorePlanNode;
@@ -16,6 +17,7 @@ import java.util.List;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class PerformanceWorkerProtocolJsonStorageTest {
 
@@ -29,7 +31,7 @@ public class PerformanceWorkerProtocolJsonStorageTest {
                         .workerId("worker-a")
                         .assignmentId("assignment-a")
                         .endpoint(new PerformanceWorkerEndpoint("127.0.0.1", 19090))
-                        .threadGroups(List.of(new PerformanceWorkerThreadGroupAssignment("0", 0, 2, 3)))
+                        .threadGroups(List.of(new PerformanceWorkerThreadGroupAssignment("0", 0, 2, 3, 1)))
                         .build())
                 .build();
         PerformanceWorkerProtocolJsonStorage storage = new PerformanceWorkerProtocolJsonStorage();
@@ -40,18 +42,28 @@ public class PerformanceWorkerProtocolJsonStorageTest {
                 .host("127.0.0.1")
                 .port(19090)
                 .workerProtocolVersion(PerformanceWorkerProtocol.CURRENT_VERSION)
+                .capacity(PerformanceWorkerCapacity.builder()
+                        .availableProcessors(16)
+                        .maxMemoryBytes(8L << 30)
+                        .processCpuLoad(0.4D)
+                        .build())
                 .build();
         PerformanceWorkerHealthResponse loadedHealth = storage.healthResponseFromJson(storage.toJson(health));
 
         assertEquals(loadedHealth.getStatus(), "UP");
         assertEquals(loadedHealth.getWorkerProtocolVersion(), PerformanceWorkerProtocol.CURRENT_VERSION);
         assertEquals(loadedHealth.getPort(), 19090);
+        assertEquals(loadedHealth.getCapacity().getAvailableProcessors(), 16);
+        assertEquals(loadedHealth.getCapacity().getMaxMemoryBytes(), 8L << 30);
+        assertEquals(loadedHealth.getCapacity().generatorCpuLoad(), 0.4D);
+        assertEquals(loadedHealth.getCapacity().getSystemCpuLoad(), PerformanceWorkerCapacity.UNKNOWN_LOAD);
 
         PerformanceWorkerRunRequest loaded = storage.runRequestFromJson(storage.toJson(request));
 
         assertEquals(loaded.getRunId(), "run-1");
         assertEquals(loaded.getAssignment().getWorkerId(), "worker-a");
         assertEquals(loaded.getAssignment().getThreadGroups().get(0).getFirstVirtualUserIndex(), 2);
+        assertEquals(loaded.getAssignment().getThreadGroups().get(0).getStandbyVirtualUserCount(), 1);
         assertEquals(loaded.getPlan().getTestPlan().getRoot().getName(), "run plan");
 
         PerformanceJsonReport report = PerformanceJsonReport.builder()
@@ -77,6 +89,10 @@ public class PerformanceWorkerProtocolJsonStorageTest {
                 .status(PerformanceRunStatus.RUNNING)
                 .activeUsers(2)
                 .totalUsers(7)
+                .standbyUsers(2)
+                .virtualUserScale(1.25D)
+                .generatorCpuLoad(0.9D)
+                .thresholdAbortReason("Threshold breached: overall p95")
                 .activeWebSocketConnections(3)
                 .activeSseStreams(4)
                 .totalRequests(10L)
@@ -92,12 +108,16 @@ public class PerformanceWorkerProtocolJsonStorageTest {
                         new PerformanceTrendSnapshot.ProtocolWindowMetrics(10, 1, 10.0, 5.0, 20.0, 0, 0, 0, 0, 0, 0, Double.NaN),
                         new PerformanceTrendSnapshot.ProtocolWindowMetrics(0, 0, Double.NaN, Double.NaN, Double.NaN, 6, 7, 8, 3.0, 3.5, 4.0, 11.0),
                         new PerformanceTrendSnapshot.ProtocolWindowMetrics(0, 0, Double.NaN, Double.NaN, Double.NaN, 0, 9, 10, 0, 4.5, 5.0, 12.0)
-                ))
+                ).withGenerator(new PerformanceGeneratorSample(92.5, 3.0, 120.0, 48, Double.NaN)))
                 .build();
         PerformanceWorkerRunStatusResponse loadedStatus = storage.statusResponseFromJson(storage.toJson(status));
 
         assertEquals(loadedStatus.getActiveUsers(), 2);
         assertEquals(loadedStatus.getTotalUsers(), 7);
+        assertEquals(loadedStatus.getStandbyUsers(), 2);
+        assertEquals(loadedStatus.getVirtualUserScale(), 1.25D);
+        assertEquals(loadedStatus.getGeneratorCpuLoad(), 0.9D);
+        assertEquals(loadedStatus.getThresholdAbortReason(), "Threshold breached: overall p95");
         assertEquals(loadedStatus.getActiveWebSocketConnections(), 3);
         assertEquals(loadedStatus.getActiveSseStreams(), 4);
         assertEquals(loadedStatus.getTotalRequests(), 10L);
@@ -108,6 +128,9 @@ public class PerformanceWorkerProtocolJsonStorageTest {
         assertEquals(loadedStatus.getTrendSnapshot().activeUsers(), 2);
         assertEquals(loadedStatus.getTrendSnapshot().webSocket().receivedMessages(), 7);
         assertEquals(loadedStatus.getTrendSnapshot().sse().matchedRate(), 5.0);
+        assertEquals(loadedStatus.getTrendSnapshot().generator().processCpuPercent(), 92.5);
+        assertEquals(loadedStatus.getTrendSnapshot().generator().threadCount(), 48);
+        assertTrue(Double.isNaN(loadedStatus.getTrendSnapshot().generator().schedulingLagMs()));
 
         PerformanceWorkerRunAcceptedResponse accepted = PerformanceWorkerRunAcceptedResponse.builder()
                 .runId("run-1")
@@ -118,6 +141,15 @@ public class PerformanceWorkerProtocolJsonStorageTest {
         assertEquals(loadedAccepted.getRunId(), "run-1");
         assertEquals(loadedAccepted.getWorkerId(), "worker-a");
         assertEquals(loadedAccepted.getStatus(), PerformanceRunStatus.ACCEPTED);
+
+        PerformanceWorkerRebalanceRequest rebalance = PerformanceWorkerRebalanceRequest.builder()
+                .runId("run-1")
+                .virtualUserScale(0.8D)
+                .build();
+        PerformanceWorkerRebalanceRequest loadedRebalance = storage.rebalanceRequestFromJson(storage.toJson(rebalance));
+
+        assertEquals(loadedRebalance.getRunId(), "run-1");
+        assertEquals(loadedRebalance.getVirtualUserScale(), 0.8D);
     }
 
     @Test
@@ -0,0 +1,81 @@
+package com.laker.postman.performance.core.worker;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PerformanceWorkerRebalancerTest {
+
+    @Test
+    public void shouldMoveUsersFromHotWorkerAfterConsecutiveHotPolls() {
+        PerformanceWorkerRebalancer rebalancer = new PerformanceWorkerRebalancer(
+                List.of(assignment("worker-a", 40, 10), assignment("worker-b", 40, 10)),
+                PerformanceWorkerRebalancer.DEFAULT_CPU_THRESHOLD);
+        double[] loads = {0.95D, 0.30D};
+
+        assertTrue(rebalancer.isEnabled());
+        assertTrue(rebalancer.rebalance(loads).isEmpty());
+        Map<Integer, Double> changed = rebalancer.rebalance(loads);
+
+        // 目标负载 0.75，迁出 floor(40 * 0.2 / 0.95) = 8 个用户；接收方最多唤醒 10 个备用用户。
+        assertEquals(changed.size(), 2);
+        assertEquals(changed.get(0), 32D / 40D, 0.0001D);
+        assertEquals(changed.get(1), 48D / 40D, 0.0001D);
+        assertEquals(rebalancer.scale(0) * 40 + rebalancer.scale(1) * 40, 80D, 0.0001D);
+    }
+
+    @Test
+    public void shouldWaitForCooldownBeforeNextMove() {
+        PerformanceWorkerRebalancer rebalancer = new PerformanceWorkerRebalancer(
+                List.of(assignment("worker-a", 40, 10), assignment("worker-b", 40, 10)),
+                PerformanceWorkerRebalancer.DEFAULT_CPU_THRESHOLD);
+        double[] loads = {0.95D, 0.30D};
+        rebalancer.rebalance(loads);
+        assertFalse(rebalancer.rebalance(loads).isEmpty());
+
+        for (int i = 0; i < PerformanceWorkerRebalancer.COOLDOWN_POLLS; i++) {
+            assertTrue(rebalancer.rebalance(loads).isEmpty());
+        }
+        assertTrue(rebalancer.rebalance(loads).isEmpty());
+        assertFalse(rebalancer.rebalance(loads).isEmpty());
+    }
+
+    @Test
+    public void shouldKeepScalesWhenNoWorkerCanReceiveUsers() {
+        PerformanceWorkerRebalancer rebalancer = new PerformanceWorkerRebalancer(
+                List.of(assignment("worker-a", 40, 10), assignment("worker-b", 40, 10)),
+                PerformanceWorkerRebalancer.DEFAULT_CPU_THRESHOLD);
+        double[] loads = {0.95D, 0.80D};
+
+        rebalancer.rebalance(loads);
+
+        assertTrue(rebalancer.rebalance(loads).isEmpty());
+        assertEquals(rebalancer.scale(0), 1D, 0.0001D);
+        assertEquals(rebalancer.scale(1), 1D, 0.0001D);
+    }
+
+    @Test
+    public void shouldStayDisabledWithoutStandbyUsers() {
+        PerformanceWorkerRebalancer rebalancer = new PerformanceWorkerRebalancer(
+                List.of(assignment("worker-a", 40, 0), assignment("worker-b", 40, 0)),
+                PerformanceWorkerRebalancer.DEFAULT_CPU_THRESHOLD);
+
+        assertFalse(rebalancer.isEnabled());
+        assertTrue(rebalancer.rebalance(new double[]{0.99D, 0.10D}).isEmpty());
+    }
+
+    private static PerformanceWorkerAssignment assignment(String workerId, int users, int standby) {
+        return PerformanceWorkerAssignment.builder()
+                .runId("run-1")
+                .workerId(workerId)
+                .assignmentId(workerId + "-assignment")
+                .endpoint(new PerformanceWorkerEndpoint("127.0.0.1", 19090))
+                .threadGroups(List.of(new PerformanceWorkerThreadGroupAssignment("0", 0, 0, users, standby)))
+                .build();
+    }
+}
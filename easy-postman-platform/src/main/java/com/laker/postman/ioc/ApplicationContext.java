@@ -98,16 +98,24 @@ public class ApplicationContext {
 
     /**
      * 扫描包
+     * 所在 classpath 根目录带有构建期组件索引时直接按索引注册，否则回退到遍历目录/JAR
      */
     private void scanPackage(String basePackage) throws Exception {
         String packagePath = basePackage.replace('.', '/');
         ClassLoader classLoader = resolveClassLoader();
+        Map<String, URL> componentIndexes = ComponentIndex.locate(classLoader);
         Enumeration<URL> resources = classLoader.getResources(packagePath);
 
         while (resources.hasMoreElements()) {
             URL resource = resources.nextElement();
             String protocol = resource.getProtocol();
 
+            String root = ComponentIndex.rootOf(resource, packagePath);
+            URL indexUrl = root != null ? componentIndexes.get(root) : null;
+            if (indexUrl != null && scanIndex(indexUrl, basePackage)) {
+                continue;
+            }
+
             if ("file".equals(protocol)) {
                 String filePath = resource.getFile();
                 scanFile(new File(filePath), basePackage);
@@ -117,6 +125,32 @@ public class ApplicationContext {
         }
     }
 
+    /**
+     * 按组件索引注册类，索引可能落后于源码，仍以运行时注解为准
+     *
+     * @return 索引读取失败时返回 false，由调用方回退到运行时扫描
+     */
+    private boolean scanIndex(URL indexUrl, String basePackage) {
+        List<String> classNames;
+        try {
+            classNames = ComponentIndex.read(indexUrl, basePackage);
+        } catch (Exception e) {
+            log.warn("Failed to read component index, falling back to classpath scan: {}", indexUrl, e);
+            return false;
+        }
+        for (String className : classNames) {
+            try {
+                Class<?> clazz = Class.forName(className, false, resolveClassLoader());
+                if (clazz.isAnnotationPresent(Component.class)) {
+                    registerBean(clazz);
+                }
+            } catch (ClassNotFoundException | NoClassDefFoundError e) {
+                log.warn("Failed to load indexed class: {}", className);
+            }
+        }
+        return true;
+    }
+
     /**
      * 扫描JAR文件中的类
      */
@@ -0,0 +1,100 @@
+package com.laker.postman.ioc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 构建期组件索引
+ * 由 {@link ComponentIndexProcessor} 在编译时写入每个 classpath 根目录（模块 classes 目录或 jar），
+ * 容器启动时按根目录读取索引，命中后不再遍历该根目录下的 class 文件。
+ */
+@Slf4j
+final class ComponentIndex {
+
+    /**
+     * 索引文件在 classpath 根目录下的固定位置，每行一个组件类的二进制名
+     */
+    static final String INDEX_LOCATION = "META-INF/easy-postman/components.index";
+
+    /**
+     * 设置为 true 时忽略所有索引，强制回退到运行时扫描（用于排障和启动基准对比）
+     */
+    static final String IGNORE_PROPERTY = "easy-postman.ioc.index.ignore";
+
+    private ComponentIndex() {
+    }
+
+    static boolean isIgnored() {
+        return Boolean.getBoolean(IGNORE_PROPERTY);
+    }
+
+    /**
+     * 查找当前 ClassLoader 可见的全部索引文件
+     *
+     * @return key: classpath 根路径，value: 索引文件 URL
+     */
+    static Map<String, URL> locate(ClassLoader classLoader) throws IOException {
+        if (isIgnored()) {
+            return Collections.emptyMap();
+        }
+        Map<String, URL> indexes = new HashMap<>();
+        Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+        while (resources.hasMoreElements()) {
+            URL indexUrl = resources.nextElement();
+            String root = rootOf(indexUrl, INDEX_LOCATION);
+            if (root != null) {
+                indexes.putIfAbsent(root, indexUrl);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * 根据资源 URL 和它相对根目录的路径，推导出所在 classpath 根路径
+     * 例如 jar:file:/app.jar!/com/laker/postman -> jar:file:/app.jar!/
+     */
+    static String rootOf(URL resource, String relativePath) {
+        String url = resource.toString();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        if (!url.endsWith(relativePath)) {
+            return null;
+        }
+        return url.substring(0, url.length() - relativePath.length());
+    }
+
+    /**
+     * 读取索引中位于指定包（含子包）下的组件类名
+     */
+    static List<String> read(URL indexUrl, String basePackage) throws IOException {
+        String packagePrefix = basePackage.isEmpty() ? "" : basePackage + ".";
+        List<String> classNames = new ArrayList<>();
+        URLConnection connection = indexUrl.openConnection();
+        // jar 缓存会锁住插件 jar，索引只读一次，不需要复用连接
+        connection.setUseCaches(false);
+        try (InputStream inputStream = connection.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String className = line.trim();
+                if (className.isEmpty() || className.startsWith("#")) {
+                    continue;
+                }
+                if (className.startsWith(packagePrefix)) {
+                    classNames.add(className);
+                }
+            }
+        }
+        log.debug("Read {} indexed components under {} from {}", classNames.size(), basePackage, indexUrl);
+        return classNames;
+    }
+}
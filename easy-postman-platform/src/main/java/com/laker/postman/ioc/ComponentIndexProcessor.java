@@ -0,0 +1,103 @@
+package com.laker.postman.ioc;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 编译期注解处理器：把本模块所有 {@link Component} 类写入组件索引
+ * 宿主模块在 maven-compiler-plugin 的 annotationProcessorPaths 中加入 easy-postman-platform 即可启用，
+ * 运行时 {@link ApplicationContext#scan(String...)} 会优先读取索引，避免遍历 classes 目录和 jar 条目。
+ */
+@SupportedAnnotationTypes("com.laker.postman.ioc.Component")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    /**
+     * 使用有序集合，保证同样的源码生成同样的索引文件，便于构建产物比对
+     */
+    private final Set<String> componentClassNames = new TreeSet<>();
+
+    private boolean previousIndexMerged;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!previousIndexMerged) {
+            mergePreviousIndex();
+            previousIndexMerged = true;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Component.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                TypeElement typeElement = (TypeElement) element;
+                componentClassNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        // 不声明独占 @Component，其他处理器仍可处理该注解
+        return false;
+    }
+
+    /**
+     * 增量编译时本轮只包含改动过的源文件，需要保留上次索引中仍然存在的类
+     */
+    private void mergePreviousIndex() {
+        try {
+            FileObject previous = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.INDEX_LOCATION);
+            try (Reader reader = previous.openReader(true);
+                 BufferedReader bufferedReader = new BufferedReader(reader)) {
+                String line;
+                while ((line = bufferedReader.readLine()) != null) {
+                    String className = line.trim();
+                    if (className.isEmpty() || className.startsWith("#")) {
+                        continue;
+                    }
+                    TypeElement typeElement = processingEnv.getElementUtils()
+                            .getTypeElement(className.replace('$', '.'));
+                    if (typeElement != null && typeElement.getAnnotation(Component.class) != null) {
+                        componentClassNames.add(className);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // 全量编译时没有旧索引
+        }
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                writer.write("# Generated by " + ComponentIndexProcessor.class.getName() + ", do not edit\n");
+                for (String className : componentClassNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write component index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.laker.postman.ioc;
+
+import java.util.Arrays;
+
+/**
+ * IOC 启动基准：对比“读取组件索引”和“遍历 classpath”两种注册方式的耗时
+ * <p>
+ * 不是单元测试，手动运行：
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;deps&gt; com.laker.postman.ioc.ApplicationContextStartupBenchmark com.laker.postman 200 both
+ * </pre>
+ * 第三个参数可选 index / scan / both。冷启动（首次扫描，含类加载）只有每个 JVM 的第一种模式可信，
+ * 对比冷启动时请分别用 index 和 scan 各起一个 JVM。
+ * 针对宿主 jar 运行时把宿主 jar 放到 classpath 上，并把包名换成宿主根包，即可得到真实启动场景的对比。
+ */
+public final class ApplicationContextStartupBenchmark {
+
+    private static final int WARMUP_ROUNDS = 20;
+
+    private ApplicationContextStartupBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        String basePackage = args.length > 0 ? args[0] : "com.laker.postman";
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        String mode = args.length > 2 ? args[2] : "both";
+
+        System.out.printf("package=%s rounds=%d mode=%s%n", basePackage, rounds, mode);
+        long[] indexed = null;
+        long[] scanned = null;
+        if (!"scan".equals(mode)) {
+            indexed = measure("index", basePackage, rounds, false);
+        }
+        if (!"index".equals(mode)) {
+            scanned = measure("scan", basePackage, rounds, true);
+        }
+        if (indexed != null && scanned != null) {
+            System.out.printf("speedup(p50)=%.2fx%n",
+                    (double) percentile(scanned, 50) / Math.max(1, percentile(indexed, 50)));
+        }
+    }
+
+    private static long[] measure(String label, String basePackage, int rounds, boolean ignoreIndex) {
+        ApplicationContext context = ApplicationContext.getInstance();
+        String previous = System.getProperty(ComponentIndex.IGNORE_PROPERTY);
+        System.setProperty(ComponentIndex.IGNORE_PROPERTY, String.valueOf(ignoreIndex));
+        try {
+            context.clear();
+            long coldStart = System.nanoTime();
+            context.scan(basePackage);
+            long cold = System.nanoTime() - coldStart;
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                context.clear();
+                context.scan(basePackage);
+            }
+            long[] samples = new long[rounds];
+            for (int i = 0; i < rounds; i++) {
+                context.clear();
+                long start = System.nanoTime();
+                context.scan(basePackage);
+                samples[i] = System.nanoTime() - start;
+            }
+            context.clear();
+            Arrays.sort(samples);
+            print(label, cold, samples);
+            return samples;
+        } finally {
+            if (previous == null) {
+                System.clearProperty(ComponentIndex.IGNORE_PROPERTY);
+            } else {
+                System.setProperty(ComponentIndex.IGNORE_PROPERTY, previous);
+            }
+        }
+    }
+
+    private static void print(String label, long cold, long[] sortedSamples) {
+        System.out.printf("%-5s cold=%dus p50=%dus p90=%dus max=%dus%n", label, cold / 1_000,
+                percentile(sortedSamples, 50) / 1_000,
+                percentile(sortedSamples, 90) / 1_000,
+                sortedSamples[sortedSamples.length - 1] / 1_000);
+    }
+
+    private static long percentile(long[] sortedSamples, int percentile) {
+        int index = Math.min(sortedSamples.length - 1, sortedSamples.length * percentile / 100);
+        return sortedSamples[index];
+    }
+}
@@ -0,0 +1,142 @@
+package com.laker.postman.ioc;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ComponentIndexTest {
+    private static final String FIXTURE_PACKAGE = "com.laker.postman.ioc.indexed";
+
+    private ApplicationContext context;
+
+    @BeforeMethod
+    public void setUp() {
+        context = ApplicationContext.getInstance();
+        context.clear();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        System.clearProperty(ComponentIndex.IGNORE_PROPERTY);
+        context.clear();
+    }
+
+    @Test
+    public void shouldRegisterOnlyIndexedComponentsWhenIndexPresent() throws Exception {
+        scanIndexedFixture();
+
+        assertNotNull(context.getBean("indexedComponent"));
+        assertFalse(context.containsBean("unindexedComponent"));
+    }
+
+    @Test
+    public void shouldFallBackToClasspathScanWhenIndexIgnored() throws Exception {
+        System.setProperty(ComponentIndex.IGNORE_PROPERTY, "true");
+
+        scanIndexedFixture();
+
+        assertNotNull(context.getBean("indexedComponent"));
+        assertNotNull(context.getBean("unindexedComponent"));
+    }
+
+    @Test
+    public void shouldResolveClasspathRootForDirectoryAndJarResources() throws Exception {
+        assertEquals(ComponentIndex.rootOf(new URL("file:/work/classes/com/laker/postman/"), "com/laker/postman"),
+                "file:/work/classes/");
+        assertEquals(ComponentIndex.rootOf(new URL("jar:file:/work/app.jar!/" + ComponentIndex.INDEX_LOCATION),
+                ComponentIndex.INDEX_LOCATION), "jar:file:/work/app.jar!/");
+        assertNull(ComponentIndex.rootOf(new URL("file:/work/classes/other"), "com/laker/postman"));
+    }
+
+    @Test
+    public void processorShouldWriteIndexForAnnotatedClasses() throws Exception {
+        Path workDir = Files.createTempDirectory("component-index");
+        Path sourceDir = Files.createDirectories(workDir.resolve("src/demo"));
+        Path outputDir = Files.createDirectories(workDir.resolve("classes"));
+        Files.writeString(sourceDir.resolve("DemoService.java"), """
+                package demo;
+
+                @com.laker.postman.ioc.Component
+                public class DemoService {
+                    @com.laker.postman.ioc.Component
+                    public static class Nested {
+                    }
+                }
+                """);
+        Files.writeString(sourceDir.resolve("PlainType.java"), "package demo; public class PlainType {}");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int exitCode = compiler.run(null, null, diagnostics,
+                "-proc:only",
+                "-processor", ComponentIndexProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.toString(),
+                sourceDir.resolve("DemoService.java").toString(),
+                sourceDir.resolve("PlainType.java").toString());
+
+        assertEquals(exitCode, 0, diagnostics.toString(StandardCharsets.UTF_8));
+        List<String> lines = Files.readAllLines(outputDir.resolve(ComponentIndex.INDEX_LOCATION));
+        assertTrue(lines.contains("demo.DemoService"));
+        assertTrue(lines.contains("demo.DemoService$Nested"));
+        assertFalse(lines.contains("demo.PlainType"));
+    }
+
+    /**
+     * 在独立的 classpath 根目录里扫描索引夹具，不影响测试 classpath 上其它包的运行时扫描。
+     * IndexedComponent 经处理器编译写入索引；UnindexedComponent 随后不挂处理器编译进同一目录，
+     * 相当于索引落后于源码，用来区分“按索引注册”和“回退扫描”两条路径。
+     */
+    private void scanIndexedFixture() throws Exception {
+        Path workDir = Files.createTempDirectory("component-index-fixture");
+        Path sourceDir = Files.createDirectories(workDir.resolve("src"));
+        Path outputDir = Files.createDirectories(workDir.resolve("classes"));
+        Path indexed = sourceDir.resolve("IndexedComponent.java");
+        Path unindexed = sourceDir.resolve("UnindexedComponent.java");
+        Files.writeString(indexed, "package " + FIXTURE_PACKAGE
+                + "; @com.laker.postman.ioc.Component public class IndexedComponent {}");
+        Files.writeString(unindexed, "package " + FIXTURE_PACKAGE
+                + "; @com.laker.postman.ioc.Component public class UnindexedComponent {}");
+        compile(outputDir, indexed, "-processor", ComponentIndexProcessor.class.getName());
+        compile(outputDir, unindexed, "-proc:none");
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader fixtureLoader = new URLClassLoader(
+                new URL[]{outputDir.toUri().toURL()}, getClass().getClassLoader())) {
+            thread.setContextClassLoader(fixtureLoader);
+            context.scan(FIXTURE_PACKAGE);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static void compile(Path outputDir, Path source, String... processorOptions) {
+        List<String> arguments = new ArrayList<>(List.of(processorOptions));
+        arguments.addAll(List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.toString(),
+                source.toString()));
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int exitCode = ToolProvider.getSystemJavaCompiler()
+                .run(null, null, diagnostics, arguments.toArray(String[]::new));
+        assertEquals(exitCode, 0, diagnostics.toString(StandardCharsets.UTF_8));
+    }
+}
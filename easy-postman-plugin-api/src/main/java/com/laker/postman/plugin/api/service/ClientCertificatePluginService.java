@@ -18,4 +18,19 @@ public interface ClientCertificatePluginService {
     boolean validateCertificatePaths(ClientCertificate certificate);
 
     KeyManager[] loadClientCertificateKeyManagers(String host, int port);
+
+    /**
+     * 查找匹配 host:port 的证书配置，没有匹配时返回 null。默认逐条扫描，实现可以换成索引查找。
+     */
+    default ClientCertificate findMatchingCertificate(String host, int port) {
+        if (host == null || host.isBlank()) {
+            return null;
+        }
+        for (ClientCertificate certificate : getAllCertificates()) {
+            if (certificate != null && certificate.matches(host, port)) {
+                return certificate;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,154 @@
+package com.laker.postman.plugin.capture;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 抓包报文体缓冲区。
+ * <p>
+ * 按固定大小分块追加，已写入的数据不会因为新数据到达而整体复制；
+ * 分块来自进程级小池子，流被清理或落盘后归还复用，避免长时间抓包产生大量短命大数组。
+ * </p>
+ */
+final class CaptureBodyBuffer {
+    static final int CHUNK_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_CHUNKS = 256;
+    private static final ArrayDeque<byte[]> CHUNK_POOL = new ArrayDeque<>();
+
+    private final int limit;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private int size;
+
+    CaptureBodyBuffer(int limit) {
+        this.limit = Math.max(0, limit);
+    }
+
+    static CaptureBodyBuffer of(byte[] bytes, int limit) {
+        CaptureBodyBuffer buffer = new CaptureBodyBuffer(limit);
+        buffer.append(bytes);
+        return buffer;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized boolean isFull() {
+        return size >= limit;
+    }
+
+    /**
+     * 追加数据，超过上限的部分被丢弃
+     *
+     * @return 实际保留的字节数
+     */
+    synchronized int append(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || size >= limit) {
+            return 0;
+        }
+        int remaining = Math.min(bytes.length, limit - size);
+        int sourceOffset = 0;
+        while (remaining > 0) {
+            int chunkOffset = size % CHUNK_SIZE;
+            if (chunkOffset == 0) {
+                chunks.add(borrowChunk());
+            }
+            byte[] chunk = chunks.get(chunks.size() - 1);
+            int copyLength = Math.min(remaining, CHUNK_SIZE - chunkOffset);
+            System.arraycopy(bytes, sourceOffset, chunk, chunkOffset, copyLength);
+            sourceOffset += copyLength;
+            size += copyLength;
+            remaining -= copyLength;
+        }
+        return sourceOffset;
+    }
+
+    synchronized byte[] toByteArray() {
+        return copyPrefix(size);
+    }
+
+    /**
+     * 复制前 maxBytes 个字节，用于预览；只有这里会产生连续数组
+     */
+    synchronized byte[] copyPrefix(int maxBytes) {
+        int length = Math.min(size, Math.max(0, maxBytes));
+        byte[] result = new byte[length];
+        int copied = 0;
+        for (byte[] chunk : chunks) {
+            if (copied >= length) {
+                break;
+            }
+            int copyLength = Math.min(CHUNK_SIZE, length - copied);
+            System.arraycopy(chunk, 0, result, copied, copyLength);
+            copied += copyLength;
+        }
+        return result;
+    }
+
+    /**
+     * 在 position 处按“4 字节长度 + 内容”写入 channel，分块直接写出，不拼接连续数组
+     *
+     * @return 写入的总字节数
+     */
+    synchronized long writeTo(FileChannel channel, long position) throws IOException {
+        long current = writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, size), position);
+        int written = 0;
+        for (byte[] chunk : chunks) {
+            int length = Math.min(CHUNK_SIZE, size - written);
+            current = writeFully(channel, ByteBuffer.wrap(chunk, 0, length), current);
+            written += length;
+        }
+        return current - position;
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            current += channel.write(buffer, current);
+        }
+        return current;
+    }
+
+    /**
+     * 清空内容并归还分块，缓冲区之后仍可继续追加
+     */
+    synchronized void release() {
+        for (byte[] chunk : chunks) {
+            returnChunk(chunk);
+        }
+        chunks.clear();
+        size = 0;
+    }
+
+    private static byte[] borrowChunk() {
+        synchronized (CHUNK_POOL) {
+            byte[] chunk = CHUNK_POOL.pollFirst();
+            if (chunk != null) {
+                return chunk;
+            }
+        }
+        return new byte[CHUNK_SIZE];
+    }
+
+    private static void returnChunk(byte[] chunk) {
+        synchronized (CHUNK_POOL) {
+            if (CHUNK_POOL.size() < MAX_POOLED_CHUNKS) {
+                CHUNK_POOL.addFirst(chunk);
+            }
+        }
+    }
+
+    static int pooledChunkCount() {
+        synchronized (CHUNK_POOL) {
+            return CHUNK_POOL.size();
+        }
+    }
+}
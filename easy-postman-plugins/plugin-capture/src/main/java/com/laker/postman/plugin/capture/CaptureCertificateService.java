@@ -5,6 +5,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.util.NetUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.bouncycastle.asn1.ASN1Encodable;
@@ -46,39 +47,78 @@ import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.Key;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
 import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.Security;
 import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
 import java.util.HexFormat;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MITM 证书签发。
+ * <p>
+ * 站点证书共用一把按算法持久化的叶子密钥（RSA 2048 或 ECDSA P-256），每个主机只需签名一次；
+ * 签发结果同时缓存在内存和 capture-ca/leaf-cache 目录，重启后只要根证书和叶子密钥未变就直接复用。
+ * 首次签发放到独立线程池执行，同一主机的并发请求共享同一个 future，不阻塞 Netty 事件循环。
+ * </p>
+ */
 final class CaptureCertificateService {
     private static final String BC = BouncyCastleProvider.PROVIDER_NAME;
     private static final SecureRandom RANDOM = new SecureRandom();
     private static final Logger log = LoggerFactory.getLogger(CaptureCertificateService.class);
+    private static final String LEAF_CACHE_DIRECTORY = "leaf-cache";
+    private static final long LEAF_VALIDITY_DAYS = 365;
+    /**
+     * 磁盘缓存的证书剩余有效期不足该天数时重新签发
+     */
+    private static final long LEAF_RENEW_BEFORE_DAYS = 7;
 
     private final File caDirectory;
     private final File caCertFile;
     private final File caKeyFile;
     private final File caLockFile;
+    private final File leafCacheDirectory;
     private final Map<String, SslContext> serverContextCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<SslContext>> pendingServerContexts = new ConcurrentHashMap<>();
+    private final Map<LeafKeyType, KeyPair> leafKeyPairs = new EnumMap<>(LeafKeyType.class);
+    private final ExecutorService issueExecutor;
 
     private volatile KeyPair rootKeyPair;
     private volatile X509Certificate rootCertificate;
+    private volatile LeafKeyType leafKeyType = LeafKeyType.RSA;
 
     CaptureCertificateService() {
         caDirectory = new File(SystemUtil.getEasyPostmanPath(), "capture-ca");
         caCertFile = new File(caDirectory, "easy-postman-capture-root-ca.crt");
         caKeyFile = new File(caDirectory, "easy-postman-capture-root-ca.key");
         caLockFile = new File(caDirectory, ".capture-ca.lock");
+        leafCacheDirectory = new File(caDirectory, LEAF_CACHE_DIRECTORY);
+        issueExecutor = Executors.newFixedThreadPool(
+                Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)),
+                new DefaultThreadFactory("capture-cert-issuer", true));
+    }
+
+    /**
+     * 切换叶子证书密钥算法；已签发的上下文按“算法 + 主机”缓存，切换后新握手自动使用新算法
+     */
+    void setLeafKeyType(LeafKeyType type) {
+        leafKeyType = type == null ? LeafKeyType.RSA : type;
     }
 
     String rootCertificatePath() throws Exception {
@@ -87,10 +127,58 @@ final class CaptureCertificateService {
     }
 
     SslContext buildServerSslContext(String host) throws Exception {
+        return buildServerSslContext(host, leafKeyType);
+    }
+
+    private SslContext buildServerSslContext(String host, LeafKeyType type) throws Exception {
         ensureRootCa();
         String normalizedHost = normalizeHost(host);
-        log.debug("Building MITM SSL context for host {} (normalized: {})", host, normalizedHost);
-        return serverContextCache.computeIfAbsent(normalizedHost, this::createServerContextUnchecked);
+        log.debug("Building MITM SSL context for host {} (normalized: {}, key: {})", host, normalizedHost, type);
+        return serverContextCache.computeIfAbsent(cacheKey(type, normalizedHost),
+                key -> createServerContextUnchecked(normalizedHost, type));
+    }
+
+    /**
+     * 异步获取站点 SSL 上下文。内存命中时返回已完成的 future；
+     * 否则在签发线程池执行，同一主机的并发请求共享同一个 future。
+     */
+    CompletableFuture<SslContext> buildServerSslContextAsync(String host) {
+        String normalizedHost;
+        try {
+            normalizedHost = normalizeHost(host);
+        } catch (IllegalArgumentException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        LeafKeyType type = leafKeyType;
+        String key = cacheKey(type, normalizedHost);
+        SslContext cached = serverContextCache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<SslContext> created = new CompletableFuture<>();
+        CompletableFuture<SslContext> pending = pendingServerContexts.putIfAbsent(key, created);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            issueExecutor.execute(() -> {
+                try {
+                    created.complete(buildServerSslContext(normalizedHost, type));
+                } catch (Throwable ex) {
+                    created.completeExceptionally(ex);
+                } finally {
+                    pendingServerContexts.remove(key, created);
+                }
+            });
+        } catch (RuntimeException ex) {
+            pendingServerContexts.remove(key, created);
+            created.completeExceptionally(ex);
+        }
+        return created;
+    }
+
+    int pendingServerContextCount() {
+        return pendingServerContexts.size();
     }
 
     SslContext buildClientSslContext() throws SSLException {
@@ -101,11 +189,18 @@ final class CaptureCertificateService {
                 .build();
     }
 
-    private SslContext createServerContextUnchecked(String host) {
+    private SslContext createServerContextUnchecked(String host, LeafKeyType type) {
         try {
-            KeyPair leafKeyPair = generateRsaKeyPair();
-            X509Certificate certificate = issueLeafCertificate(host, leafKeyPair);
-            log.debug("Issued MITM leaf certificate for host {}", host);
+            KeyPair leafKeyPair = leafKeyPair(type);
+            File cacheFile = leafCacheFile(type, host);
+            X509Certificate certificate = readCachedLeafCertificate(cacheFile, host, leafKeyPair);
+            if (certificate == null) {
+                certificate = issueLeafCertificate(host, leafKeyPair);
+                writeLeafCache(cacheFile, certificate);
+                log.debug("Issued MITM leaf certificate for host {} ({})", host, type);
+            } else {
+                log.debug("Reused cached MITM leaf certificate for host {} ({})", host, type);
+            }
             return SslContextBuilder.forServer(leafKeyPair.getPrivate(), certificate, rootCertificate).build();
         } catch (Exception ex) {
             log.error("Failed to build MITM certificate for host {}", host, ex);
@@ -113,6 +208,97 @@ final class CaptureCertificateService {
         }
     }
 
+    /**
+     * 叶子密钥按算法懒加载：优先读 capture-ca 下持久化的密钥，缺失或损坏时生成并落盘。
+     * 密钥不变，磁盘上缓存的站点证书才能在重启后继续使用。
+     */
+    private KeyPair leafKeyPair(LeafKeyType type) throws Exception {
+        synchronized (leafKeyPairs) {
+            KeyPair keyPair = leafKeyPairs.get(type);
+            if (keyPair != null) {
+                return keyPair;
+            }
+            File keyFile = new File(caDirectory, type.keyFileName());
+            if (keyFile.exists()) {
+                try {
+                    keyPair = readKeyPair(keyFile);
+                } catch (Exception ex) {
+                    log.warn("Shared MITM leaf key {} is unreadable, regenerating", keyFile.getAbsolutePath(), ex);
+                }
+            }
+            if (keyPair == null || type != LeafKeyType.of(keyPair.getPrivate())) {
+                keyPair = generateLeafKeyPair(type);
+                writePemAtomically(keyFile.toPath(), keyPair.getPrivate(), keyPair.getPublic());
+                deleteLeafCache(type);
+            }
+            leafKeyPairs.put(type, keyPair);
+            return keyPair;
+        }
+    }
+
+    private KeyPair generateLeafKeyPair(LeafKeyType type) throws Exception {
+        if (type == LeafKeyType.EC) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"), RANDOM);
+            return generator.generateKeyPair();
+        }
+        return generateRsaKeyPair();
+    }
+
+    private X509Certificate readCachedLeafCertificate(File cacheFile, String host, KeyPair leafKeyPair) {
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try {
+            X509Certificate certificate = readCertificate(cacheFile);
+            certificate.checkValidity(Date.from(Instant.now().plus(LEAF_RENEW_BEFORE_DAYS, ChronoUnit.DAYS)));
+            certificate.verify(rootCertificate.getPublicKey());
+            if (!Arrays.equals(certificate.getPublicKey().getEncoded(), leafKeyPair.getPublic().getEncoded())
+                    || !new X500Name("CN=" + host).equals(X500Name.getInstance(certificate.getSubjectX500Principal().getEncoded()))) {
+                return null;
+            }
+            return certificate;
+        } catch (Exception ex) {
+            log.debug("Ignoring stale MITM leaf certificate cache {}: {}", cacheFile.getName(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeLeafCache(File cacheFile, X509Certificate certificate) {
+        try {
+            Files.createDirectories(leafCacheDirectory.toPath());
+            writePemAtomically(cacheFile.toPath(), certificate);
+        } catch (Exception ex) {
+            // 缓存写失败不影响本次握手，下次重新签发即可
+            log.warn("Failed to persist MITM leaf certificate {}", cacheFile.getAbsolutePath(), ex);
+        }
+    }
+
+    File leafCacheFile(LeafKeyType type, String host) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(host.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+        return new File(leafCacheDirectory, type.name().toLowerCase(Locale.ROOT) + "-"
+                + HexFormat.of().formatHex(digest, 0, 16) + ".crt");
+    }
+
+    private void deleteLeafCache(LeafKeyType type) {
+        File[] files = leafCacheDirectory.listFiles((dir, name) -> type == null
+                || name.startsWith(type.name().toLowerCase(Locale.ROOT) + "-"));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (Exception ex) {
+                log.debug("Failed to delete MITM leaf certificate cache {}", file.getAbsolutePath(), ex);
+            }
+        }
+    }
+
+    private static String cacheKey(LeafKeyType type, String host) {
+        return type.name() + '|' + host;
+    }
+
     private synchronized void ensureRootCa() throws Exception {
         if (rootCertificate != null && rootKeyPair != null) {
             return;
@@ -191,13 +377,13 @@ final class CaptureCertificateService {
                 issuer,
                 serial,
                 Date.from(now.minus(1, ChronoUnit.DAYS)),
-                Date.from(now.plus(365, ChronoUnit.DAYS)),
+                Date.from(now.plus(LEAF_VALIDITY_DAYS, ChronoUnit.DAYS)),
                 subject,
                 publicKeyInfo
         );
         JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
         builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
-        builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+        builder.addExtension(Extension.keyUsage, true, leafKeyUsage(leafKeyPair));
         builder.addExtension(Extension.extendedKeyUsage, false, new org.bouncycastle.asn1.x509.ExtendedKeyUsage(KeyPurposeId.id_kp_serverAuth));
         builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(leafKeyPair.getPublic()));
         builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(rootCertificate));
@@ -208,16 +394,27 @@ final class CaptureCertificateService {
     private PKCS10CertificationRequest createCsr(String host, KeyPair keyPair) throws Exception {
         X500Name subject = new X500Name("CN=" + host);
         PKCS10CertificationRequestBuilder csrBuilder = new JcaPKCS10CertificationRequestBuilder(subject, keyPair.getPublic());
-        ContentSigner signer = new JcaContentSignerBuilder("SHA256withRSA").setProvider(BC).build(keyPair.getPrivate());
+        ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm(keyPair.getPrivate())).setProvider(BC).build(keyPair.getPrivate());
         return csrBuilder.build(signer);
     }
 
     private X509Certificate signCertificate(X509v3CertificateBuilder builder, PrivateKey signerKey) throws Exception {
-        ContentSigner signer = new JcaContentSignerBuilder("SHA256withRSA").setProvider(BC).build(signerKey);
+        ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm(signerKey)).setProvider(BC).build(signerKey);
         X509CertificateHolder holder = builder.build(signer);
         return new JcaX509CertificateConverter().setProvider(BC).getCertificate(holder);
     }
 
+    private static String signatureAlgorithm(PrivateKey key) {
+        return LeafKeyType.of(key) == LeafKeyType.EC ? "SHA256withECDSA" : "SHA256withRSA";
+    }
+
+    private static KeyUsage leafKeyUsage(KeyPair leafKeyPair) {
+        // ECDSA 密钥不能用于 RSA 密钥交换，只声明数字签名
+        return LeafKeyType.of(leafKeyPair.getPrivate()) == LeafKeyType.EC
+                ? new KeyUsage(KeyUsage.digitalSignature)
+                : new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment);
+    }
+
     private ASN1Encodable buildSubjectAlternativeNames(String host) {
         String normalizedHost = normalizeHost(host);
         String ipCandidate = stripIpv6ZoneId(normalizedHost);
@@ -275,6 +472,7 @@ final class CaptureCertificateService {
         writePemAtomically(caCertFile.toPath(), rootCertificate);
         writePemAtomically(caKeyFile.toPath(), rootKeyPair.getPrivate());
         serverContextCache.clear();
+        deleteLeafCache(null);
         log.info("Capture root CA generated: {} ({})", caCertFile.getAbsolutePath(), fingerprint(rootCertificate));
     }
 
@@ -285,7 +483,8 @@ final class CaptureCertificateService {
         }
         certificate.verify(certificate.getPublicKey());
 
-        KeyPair leafKeyPair = generateRsaKeyPair();
+        // 校验只关心根证书能否签发、能否建上下文，用生成更快的 EC 临时密钥即可
+        KeyPair leafKeyPair = generateLeafKeyPair(LeafKeyType.EC);
         X509Certificate issuedLeaf = issueLeafCertificate("easy-postman.local", leafKeyPair, certificate, keyPair);
         issuedLeaf.checkValidity(new Date());
         issuedLeaf.verify(certificate.getPublicKey());
@@ -304,13 +503,13 @@ final class CaptureCertificateService {
                 issuer,
                 serial,
                 Date.from(now.minus(1, ChronoUnit.DAYS)),
-                Date.from(now.plus(365, ChronoUnit.DAYS)),
+                Date.from(now.plus(LEAF_VALIDITY_DAYS, ChronoUnit.DAYS)),
                 subject,
                 publicKeyInfo
         );
         JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
         builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
-        builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+        builder.addExtension(Extension.keyUsage, true, leafKeyUsage(leafKeyPair));
         builder.addExtension(Extension.extendedKeyUsage, false, new org.bouncycastle.asn1.x509.ExtendedKeyUsage(KeyPurposeId.id_kp_serverAuth));
         builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(leafKeyPair.getPublic()));
         builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(issuerCertificate));
@@ -342,16 +541,45 @@ final class CaptureCertificateService {
         }
     }
 
-    private void writePem(Path path, Object object) throws Exception {
+    /**
+     * 读取同一文件里的私钥和公钥（共享叶子密钥按“私钥 + 公钥”两段 PEM 保存）
+     */
+    private KeyPair readKeyPair(File file) throws Exception {
+        try (PEMParser parser = new PEMParser(new FileReader(file, StandardCharsets.UTF_8))) {
+            // 使用 JDK 默认提供者还原密钥，保证交给 SslContextBuilder 的是标准 RSA/EC 密钥
+            JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+            PrivateKey privateKey = null;
+            PublicKey publicKey = null;
+            Object object;
+            while ((object = parser.readObject()) != null) {
+                if (object instanceof PEMKeyPair keyPair) {
+                    return converter.getKeyPair(keyPair);
+                }
+                if (object instanceof PrivateKeyInfo privateKeyInfo) {
+                    privateKey = converter.getPrivateKey(privateKeyInfo);
+                } else if (object instanceof SubjectPublicKeyInfo publicKeyInfo) {
+                    publicKey = converter.getPublicKey(publicKeyInfo);
+                }
+            }
+            if (privateKey == null || publicKey == null) {
+                throw new IllegalStateException("Unexpected key pair format: " + file);
+            }
+            return new KeyPair(publicKey, privateKey);
+        }
+    }
+
+    private void writePem(Path path, Object... objects) throws Exception {
         try (JcaPEMWriter writer = new JcaPEMWriter(new FileWriter(path.toFile(), StandardCharsets.UTF_8))) {
-            writer.writeObject(object);
+            for (Object object : objects) {
+                writer.writeObject(object);
+            }
         }
     }
 
-    private void writePemAtomically(Path target, Object object) throws Exception {
-        Path tempFile = Files.createTempFile(caDirectory.toPath(), target.getFileName().toString(), ".tmp");
+    private void writePemAtomically(Path target, Object... objects) throws Exception {
+        Path tempFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
         try {
-            writePem(tempFile, object);
+            writePem(tempFile, objects);
             moveAtomically(tempFile, target);
         } finally {
             Files.deleteIfExists(tempFile);
@@ -368,6 +596,26 @@ final class CaptureCertificateService {
 
     private String fingerprint(X509Certificate certificate) throws Exception {
         return HexFormat.ofDelimiter(":").withUpperCase().formatHex(
-                java.security.MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded()));
+                MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded()));
+    }
+
+    enum LeafKeyType {
+        RSA("easy-postman-capture-leaf-rsa.key"),
+        EC("easy-postman-capture-leaf-ec.key");
+
+        private final String keyFileName;
+
+        LeafKeyType(String keyFileName) {
+            this.keyFileName = keyFileName;
+        }
+
+        String keyFileName() {
+            return keyFileName;
+        }
+
+        static LeafKeyType of(Key key) {
+            String keyAlgorithm = key == null ? "" : key.getAlgorithm();
+            return "EC".equals(keyAlgorithm) || "ECDSA".equals(keyAlgorithm) ? EC : RSA;
+        }
     }
 }
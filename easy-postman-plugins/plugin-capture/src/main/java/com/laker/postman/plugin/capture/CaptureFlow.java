@@ -2,6 +2,11 @@ package com.laker.postman.plugin.capture;
 
 import com.laker.postman.util.JsonUtil;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -16,7 +21,11 @@ import static com.laker.postman.plugin.capture.CaptureI18n.t;
 
 final class CaptureFlow {
     private static final AtomicLong IDS = new AtomicLong(1);
-    private static final int PREVIEW_LIMIT = 64 * 1024;
+    static final int PREVIEW_LIMIT = 64 * 1024;
+    /**
+     * 压缩响应预览时最多取这么多原始字节去解码，足够解出 {@link #PREVIEW_LIMIT} 的明文
+     */
+    private static final int PREVIEW_SOURCE_LIMIT = 1024 * 1024;
     private static final int TEXT_PREVIEW_LIMIT = 64 * 1024;
     private static final int DIAGNOSTIC_EVENT_LIMIT = 200;
     private static final String STREAM_SEPARATOR = "\n\n";
@@ -30,7 +39,8 @@ final class CaptureFlow {
     private final Map<String, String> requestHeaders;
     private final String connectionId;
     private final CopyOnWriteArrayList<CaptureDiagnosticEvent> diagnosticEvents;
-    private volatile byte[] requestBody;
+    private final CaptureBodyBuffer requestBody;
+    private final CaptureBodyBuffer responseBody;
     private volatile int requestSize;
     private volatile CaptureSourceInfo sourceInfo;
 
@@ -39,7 +49,6 @@ final class CaptureFlow {
     private volatile String statusText = "";
     private volatile String errorMessage = "";
     private volatile Map<String, String> responseHeaders = Map.of();
-    private volatile byte[] responseBody = new byte[0];
     private volatile int responseSize;
     private volatile Protocol protocol;
     private volatile String requestStreamPreview = "";
@@ -65,8 +74,42 @@ final class CaptureFlow {
                 String connectionId,
                 CaptureSourceInfo sourceInfo,
                 List<CaptureDiagnosticEvent> diagnosticEvents) {
-        this.id = String.valueOf(IDS.getAndIncrement());
-        this.startedAt = System.currentTimeMillis();
+        this(method, url, host, path, requestHeaders, requestBody, connectionId, sourceInfo, diagnosticEvents, PREVIEW_LIMIT);
+    }
+
+    /**
+     * @param bodyLimit 单个方向在内存中保留的报文体字节上限；开启落盘时可以远大于预览上限，完整报文随流一起落盘
+     */
+    CaptureFlow(String method,
+                String url,
+                String host,
+                String path,
+                Map<String, String> requestHeaders,
+                byte[] requestBody,
+                String connectionId,
+                CaptureSourceInfo sourceInfo,
+                List<CaptureDiagnosticEvent> diagnosticEvents,
+                int bodyLimit) {
+        this(String.valueOf(IDS.getAndIncrement()), System.currentTimeMillis(), method, url, host, path,
+                requestHeaders, connectionId, sourceInfo, diagnosticEvents, bodyLimit);
+        this.requestSize = requestBody == null ? 0 : requestBody.length;
+        this.requestBody.append(requestBody);
+        this.protocol = "TLS".equalsIgnoreCase(method) ? Protocol.TLS : detectInitialProtocol(requestHeaders);
+    }
+
+    private CaptureFlow(String id,
+                        long startedAt,
+                        String method,
+                        String url,
+                        String host,
+                        String path,
+                        Map<String, String> requestHeaders,
+                        String connectionId,
+                        CaptureSourceInfo sourceInfo,
+                        List<CaptureDiagnosticEvent> diagnosticEvents,
+                        int bodyLimit) {
+        this.id = id;
+        this.startedAt = startedAt;
         this.method = method;
         this.url = url;
         this.host = host;
@@ -75,9 +118,8 @@ final class CaptureFlow {
         this.connectionId = connectionId == null ? "" : connectionId;
         this.sourceInfo = sourceInfo == null ? CaptureSourceInfo.unknown() : sourceInfo;
         this.diagnosticEvents = new CopyOnWriteArrayList<>(diagnosticEvents == null ? List.of() : diagnosticEvents);
-        this.requestSize = requestBody == null ? 0 : requestBody.length;
-        this.requestBody = trimPreview(requestBody);
-        this.protocol = "TLS".equalsIgnoreCase(method) ? Protocol.TLS : detectInitialProtocol(requestHeaders);
+        this.requestBody = new CaptureBodyBuffer(bodyLimit);
+        this.responseBody = new CaptureBodyBuffer(bodyLimit);
     }
 
     String id() {
@@ -184,6 +226,10 @@ final class CaptureFlow {
         return responseHeaders.size();
     }
 
+    Map<String, String> responseHeadersSnapshot() {
+        return new LinkedHashMap<>(responseHeaders);
+    }
+
     String requestContentType() {
         return headerValueIgnoreCase(requestHeaders, "Content-Type");
     }
@@ -209,7 +255,7 @@ final class CaptureFlow {
         if (!requestStreamPreview.isBlank()) {
             return requestStreamPreview;
         }
-        return toPreviewText(requestBody);
+        return toPreviewText(requestBody.copyPrefix(PREVIEW_LIMIT));
     }
 
     String responseBodyPreview() {
@@ -231,7 +277,7 @@ final class CaptureFlow {
             return;
         }
         requestSize += bytes.length;
-        requestBody = appendPreview(requestBody, bytes);
+        requestBody.append(bytes);
     }
 
     synchronized void appendResponseBody(byte[] bytes) {
@@ -239,7 +285,7 @@ final class CaptureFlow {
             return;
         }
         responseSize += bytes.length;
-        responseBody = appendPreview(responseBody, bytes);
+        responseBody.append(bytes);
         if (protocol == Protocol.SSE) {
             appendResponseStreamEvent(formatStreamChunkEvent("SSE", bytes));
         }
@@ -271,7 +317,7 @@ final class CaptureFlow {
     void complete(int statusCode, String statusText, Map<String, String> responseHeaders, byte[] responseBody) {
         recordResponseStart(statusCode, statusText, responseHeaders);
         this.responseSize = 0;
-        this.responseBody = new byte[0];
+        this.responseBody.release();
         appendResponseBody(responseBody);
         complete();
     }
@@ -392,15 +438,78 @@ final class CaptureFlow {
     }
 
     String requestBodyImportText() {
-        if (protocol == Protocol.WEBSOCKET || requestBody == null || requestBody.length == 0) {
+        if (protocol == Protocol.WEBSOCKET || requestBody.size() == 0) {
             return "";
         }
-        String text = new String(requestBody, StandardCharsets.UTF_8);
+        String text = new String(requestBody.toByteArray(), StandardCharsets.UTF_8);
         return looksPrintable(text) ? text : "";
     }
 
     boolean requestBodyPartial() {
-        return requestSize > (requestBody == null ? 0 : requestBody.length);
+        return requestSize > requestBody.size();
+    }
+
+    /**
+     * 普通 HTTP 流已完整收到响应时才能作为示例响应导入，失败、流式协议和被截断的响应体不导入
+     */
+    boolean hasImportableResponse() {
+        return protocol == Protocol.HTTP
+                && completedAt > 0
+                && statusCode > 0
+                && errorMessage.isBlank()
+                && responseSize <= responseBody.size();
+    }
+
+    /**
+     * @return 按 Content-Encoding 解压、按 Content-Type 的字符集解码后的完整响应体文本；不可打印或解压失败时返回 null
+     */
+    String responseBodyImportText() {
+        if (responseBody.size() == 0) {
+            return "";
+        }
+        CaptureBodyDecoder.DecodedBody decoded = CaptureBodyDecoder.decodeForPreview(
+                responseBody.toByteArray(), responseHeaders, Integer.MAX_VALUE);
+        if (decoded.decodeFailed()) {
+            return null;
+        }
+        String text = new String(decoded.bytes(), contentTypeCharset(responseContentType()));
+        return looksPrintable(text) ? text : null;
+    }
+
+    /**
+     * Content-Type 里声明的 charset，没有声明或 JVM 不支持时按 UTF-8
+     */
+    static Charset contentTypeCharset(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return StandardCharsets.UTF_8;
+        }
+        for (String part : contentType.split(";")) {
+            String param = part.trim();
+            if (param.regionMatches(true, 0, "charset=", 0, 8)) {
+                String name = param.substring(8).trim().replace("\"", "");
+                try {
+                    return Charset.forName(name);
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * 当前在内存中保留的报文体字节数，用于会话内存预算
+     */
+    long retainedBodyBytes() {
+        return (long) requestBody.size() + responseBody.size();
+    }
+
+    /**
+     * 流被移出内存后归还报文体分块；完整内容此时应已写入落盘归档
+     */
+    void releaseBodies() {
+        requestBody.release();
+        responseBody.release();
     }
 
     String curlCommand() {
@@ -430,7 +539,7 @@ final class CaptureFlow {
             return true;
         }
         String bodyText = curlBodyText();
-        return bodyText == null || requestSize > requestBody.length;
+        return bodyText == null || requestSize > requestBody.size();
     }
 
     private static void appendLine(StringBuilder builder, String key, String value) {
@@ -474,10 +583,10 @@ final class CaptureFlow {
         if (protocol == Protocol.WEBSOCKET) {
             return null;
         }
-        if (requestBody == null || requestBody.length == 0) {
+        if (requestBody.size() == 0) {
             return null;
         }
-        String text = new String(requestBody, StandardCharsets.UTF_8);
+        String text = new String(requestBody.toByteArray(), StandardCharsets.UTF_8);
         return looksPrintable(text) ? text : null;
     }
 
@@ -507,33 +616,6 @@ final class CaptureFlow {
         return "";
     }
 
-    private static byte[] trimPreview(byte[] bytes) {
-        if (bytes == null || bytes.length == 0) {
-            return new byte[0];
-        }
-        if (bytes.length <= PREVIEW_LIMIT) {
-            return bytes;
-        }
-        byte[] preview = new byte[PREVIEW_LIMIT];
-        System.arraycopy(bytes, 0, preview, 0, PREVIEW_LIMIT);
-        return preview;
-    }
-
-    private static byte[] appendPreview(byte[] existingPreview, byte[] appendedBytes) {
-        if (appendedBytes == null || appendedBytes.length == 0) {
-            return existingPreview == null ? new byte[0] : existingPreview;
-        }
-        byte[] current = existingPreview == null ? new byte[0] : existingPreview;
-        if (current.length >= PREVIEW_LIMIT) {
-            return current;
-        }
-        int appendLength = Math.min(appendedBytes.length, PREVIEW_LIMIT - current.length);
-        byte[] merged = new byte[current.length + appendLength];
-        System.arraycopy(current, 0, merged, 0, current.length);
-        System.arraycopy(appendedBytes, 0, merged, current.length, appendLength);
-        return merged;
-    }
-
     private static String appendTextPreview(String existingPreview, String appendedText) {
         String current = existingPreview == null ? "" : existingPreview;
         if (appendedText == null || appendedText.isBlank() || current.length() >= TEXT_PREVIEW_LIMIT) {
@@ -607,7 +689,7 @@ final class CaptureFlow {
     }
 
     private CaptureBodyDecoder.DecodedBody responseBodyPreviewBytes() {
-        return CaptureBodyDecoder.decodeForPreview(responseBody, responseHeaders, PREVIEW_LIMIT);
+        return CaptureBodyDecoder.decodeForPreview(responseBody.copyPrefix(PREVIEW_SOURCE_LIMIT), responseHeaders, PREVIEW_LIMIT);
     }
 
     private String formatStreamChunkEvent(String prefix, byte[] bytes) {
@@ -660,6 +742,156 @@ final class CaptureFlow {
         return total == 0 || printable * 100 / total >= 90;
     }
 
+    /**
+     * 写出落盘归档需要的元数据（不含报文体），格式只在本插件内部使用，会话结束即删除，不考虑跨版本兼容
+     */
+    void writeArchiveMetadata(DataOutput output) throws IOException {
+        output.writeUTF(id);
+        output.writeLong(startedAt);
+        output.writeLong(completedAt);
+        writeText(output, method);
+        writeText(output, url);
+        writeText(output, host);
+        writeText(output, path);
+        writeText(output, connectionId);
+        writeText(output, sourceInfo.clientHost());
+        output.writeInt(sourceInfo.clientPort());
+        writeText(output, sourceInfo.proxyHost());
+        output.writeInt(sourceInfo.proxyPort());
+        writeText(output, sourceInfo.processId());
+        writeText(output, sourceInfo.processName());
+        writeText(output, sourceInfo.processPath());
+        output.writeInt(statusCode);
+        writeText(output, statusText);
+        writeText(output, errorMessage);
+        output.writeUTF(protocol.name());
+        output.writeInt(requestSize);
+        output.writeInt(responseSize);
+        output.writeInt(streamEventCount);
+        writeText(output, requestStreamPreview);
+        writeText(output, responseStreamPreview);
+        writeText(output, streamTimelinePreview);
+        writeHeaders(output, requestHeaders);
+        writeHeaders(output, responseHeaders);
+        List<CaptureDiagnosticEvent> events = new ArrayList<>(diagnosticEvents);
+        output.writeInt(events.size());
+        for (CaptureDiagnosticEvent event : events) {
+            output.writeLong(event.timestamp());
+            output.writeUTF(event.level().name());
+            output.writeUTF(event.phase().name());
+            output.writeUTF(event.role().name());
+            writeText(output, event.title());
+            writeText(output, event.detail());
+            writeText(output, event.suggestion());
+        }
+    }
+
+    long writeRequestBody(FileChannel channel, long position) throws IOException {
+        return requestBody.writeTo(channel, position);
+    }
+
+    long writeResponseBody(FileChannel channel, long position) throws IOException {
+        return responseBody.writeTo(channel, position);
+    }
+
+    /**
+     * 从落盘归档还原流；bodies 为 false 时只还原表格和详情头部需要的元数据
+     */
+    static CaptureFlow readArchive(DataInput input, boolean bodies) throws IOException {
+        String id = input.readUTF();
+        long startedAt = input.readLong();
+        long completedAt = input.readLong();
+        String method = readText(input);
+        String url = readText(input);
+        String host = readText(input);
+        String path = readText(input);
+        String connectionId = readText(input);
+        CaptureSourceInfo sourceInfo = new CaptureSourceInfo(
+                readText(input), input.readInt(), readText(input), input.readInt(),
+                readText(input), readText(input), readText(input));
+        int statusCode = input.readInt();
+        String statusText = readText(input);
+        String errorMessage = readText(input);
+        Protocol protocol = Protocol.valueOf(input.readUTF());
+        int requestSize = input.readInt();
+        int responseSize = input.readInt();
+        int streamEventCount = input.readInt();
+        String requestStreamPreview = readText(input);
+        String responseStreamPreview = readText(input);
+        String streamTimelinePreview = readText(input);
+        Map<String, String> requestHeaders = readHeaders(input);
+        Map<String, String> responseHeaders = readHeaders(input);
+        int eventCount = input.readInt();
+        List<CaptureDiagnosticEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(new CaptureDiagnosticEvent(
+                    input.readLong(),
+                    CaptureDiagnosticLevel.valueOf(input.readUTF()),
+                    CaptureDiagnosticPhase.valueOf(input.readUTF()),
+                    CaptureDiagnosticRole.valueOf(input.readUTF()),
+                    readText(input),
+                    readText(input),
+                    readText(input)));
+        }
+
+        int bodyLimit = bodies ? Integer.MAX_VALUE : 0;
+        CaptureFlow flow = new CaptureFlow(id, startedAt, method, url, host, path, requestHeaders,
+                connectionId, sourceInfo, events, bodyLimit);
+        flow.completedAt = completedAt;
+        flow.statusCode = statusCode;
+        flow.statusText = statusText;
+        flow.errorMessage = errorMessage;
+        flow.protocol = protocol;
+        flow.requestSize = requestSize;
+        flow.responseSize = responseSize;
+        flow.streamEventCount = streamEventCount;
+        flow.requestStreamPreview = requestStreamPreview;
+        flow.responseStreamPreview = responseStreamPreview;
+        flow.streamTimelinePreview = streamTimelinePreview;
+        flow.responseHeaders = responseHeaders;
+        if (bodies) {
+            flow.requestBody.append(readBody(input));
+            flow.responseBody.append(readBody(input));
+        }
+        return flow;
+    }
+
+    private static byte[] readBody(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeText(DataOutput output, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readText(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeHeaders(DataOutput output, Map<String, String> headers) throws IOException {
+        Map<String, String> snapshot = headers == null ? Map.of() : new LinkedHashMap<>(headers);
+        output.writeInt(snapshot.size());
+        for (Map.Entry<String, String> entry : snapshot.entrySet()) {
+            writeText(output, entry.getKey());
+            writeText(output, entry.getValue());
+        }
+    }
+
+    private static Map<String, String> readHeaders(DataInput input) throws IOException {
+        int count = input.readInt();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            headers.put(readText(input), readText(input));
+        }
+        return headers;
+    }
+
     private enum Protocol {
         HTTP,
         TLS,
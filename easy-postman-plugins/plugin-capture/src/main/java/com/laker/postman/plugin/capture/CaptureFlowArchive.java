@@ -0,0 +1,278 @@
+package com.laker.postman.plugin.capture;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 抓包会话的落盘归档。
+ * <p>
+ * 超出内存保留上限或内存预算的流按“元数据 + 完整请求体 + 完整响应体”顺序追加到单个段文件，
+ * 内存里只保留每条记录的偏移索引。表格分页只读元数据，查看详情时才读报文体。
+ * 段文件只服务当前会话：清空或关闭时删除，不做跨进程恢复。
+ * </p>
+ * <p>
+ * 写盘由独立的单线程完成，抓包的 Netty 线程只负责登记待写的流；待写的流同样计入条数，
+ * 分页和读取详情会先等它们写完。读取可能等待写盘，调用方不要放在 EDT 上。
+ * </p>
+ */
+@Slf4j
+final class CaptureFlowArchive implements AutoCloseable {
+    static final String SEGMENT_FILE_PREFIX = "capture-session-";
+    static final String SEGMENT_FILE_SUFFIX = ".seg";
+
+    private final Path segmentFile;
+    private final FileChannel channel;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+            new DefaultThreadFactory("capture-archive-writer", true));
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Entry> entryById = new HashMap<>();
+    private final Map<String, CaptureFlow> pending = new LinkedHashMap<>();
+    /**
+     * 清空后递增，清空前登记的写入完成时不再进入索引
+     */
+    private long generation;
+    private boolean closed;
+    /**
+     * 只在写盘线程上修改
+     */
+    private volatile long writePosition;
+
+    CaptureFlowArchive(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.segmentFile = Files.createTempFile(directory, SEGMENT_FILE_PREFIX, SEGMENT_FILE_SUFFIX);
+        this.channel = FileChannel.open(segmentFile,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        segmentFile.toFile().deleteOnExit();
+    }
+
+    Path segmentFile() {
+        return segmentFile;
+    }
+
+    /**
+     * 登记流并交给写盘线程，写完（或写盘失败）后归还它的报文体分块
+     */
+    void append(CaptureFlow flow) {
+        long currentGeneration;
+        synchronized (this) {
+            if (closed || entryById.containsKey(flow.id()) || pending.containsKey(flow.id())) {
+                if (closed) {
+                    flow.releaseBodies();
+                }
+                return;
+            }
+            pending.put(flow.id(), flow);
+            currentGeneration = generation;
+        }
+        writer.execute(() -> write(flow, currentGeneration));
+    }
+
+    synchronized int size() {
+        return entries.size() + pending.size();
+    }
+
+    long sizeOnDisk() {
+        return writePosition;
+    }
+
+    synchronized boolean contains(String flowId) {
+        return entryById.containsKey(flowId) || pending.containsKey(flowId);
+    }
+
+    /**
+     * 按“最新在前”读取一页元数据
+     *
+     * @param offset 跳过最新的若干条
+     */
+    List<CaptureFlow> page(int offset, int limit) {
+        awaitPendingWrites();
+        List<Entry> selected = new ArrayList<>(Math.max(0, limit));
+        synchronized (this) {
+            int start = entries.size() - 1 - Math.max(0, offset);
+            for (int i = start; i >= 0 && selected.size() < limit; i--) {
+                selected.add(entries.get(i));
+            }
+        }
+        List<CaptureFlow> flows = new ArrayList<>(selected.size());
+        for (Entry entry : selected) {
+            try {
+                flows.add(read(entry, false));
+            } catch (IOException e) {
+                log.warn("Failed to read archived capture flow {}", entry.id(), e);
+            }
+        }
+        return flows;
+    }
+
+    /**
+     * 读取完整流（含报文体），不存在时返回 null
+     */
+    CaptureFlow load(String flowId) {
+        Entry entry;
+        synchronized (this) {
+            entry = entryById.get(flowId);
+        }
+        if (entry == null) {
+            awaitPendingWrites();
+            synchronized (this) {
+                entry = entryById.get(flowId);
+            }
+        }
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return read(entry, true);
+        } catch (IOException e) {
+            log.warn("Failed to load archived capture flow {}", flowId, e);
+            return null;
+        }
+    }
+
+    void clear() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            entries.clear();
+            entryById.clear();
+            pending.clear();
+            generation++;
+        }
+        writer.execute(() -> {
+            writePosition = 0;
+            try {
+                channel.truncate(0);
+            } catch (IOException e) {
+                log.warn("Failed to truncate capture archive {}", segmentFile, e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            entries.clear();
+            entryById.clear();
+            pending.clear();
+            generation++;
+        }
+        writer.execute(() -> {
+            try {
+                channel.close();
+                Files.deleteIfExists(segmentFile);
+            } catch (IOException e) {
+                log.warn("Failed to delete capture archive {}", segmentFile, e);
+            }
+        });
+        writer.shutdown();
+    }
+
+    /**
+     * 等写盘线程处理完当前已登记的流
+     */
+    private void awaitPendingWrites() {
+        Future<?> barrier;
+        synchronized (this) {
+            if (closed || pending.isEmpty()) {
+                return;
+            }
+            barrier = writer.submit(() -> {
+            });
+        }
+        try {
+            barrier.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Failed to wait for capture archive writes", e);
+        }
+    }
+
+    private void write(CaptureFlow flow, long flowGeneration) {
+        try {
+            synchronized (this) {
+                if (flowGeneration != generation) {
+                    return;
+                }
+            }
+            ByteArrayOutputStream metadataBytes = new ByteArrayOutputStream(1024);
+            try (DataOutputStream output = new DataOutputStream(metadataBytes)) {
+                flow.writeArchiveMetadata(output);
+            }
+            long offset = writePosition;
+            writeFully(ByteBuffer.wrap(metadataBytes.toByteArray()), offset);
+            long bodyOffset = offset + metadataBytes.size();
+            long requestBodyLength = flow.writeRequestBody(channel, bodyOffset);
+            long bodyLength = requestBodyLength + flow.writeResponseBody(channel, bodyOffset + requestBodyLength);
+            writePosition = bodyOffset + bodyLength;
+
+            Entry entry = new Entry(flow.id(), offset, metadataBytes.size(), Math.toIntExact(bodyLength));
+            synchronized (this) {
+                if (flowGeneration == generation && pending.remove(flow.id()) != null) {
+                    entries.add(entry);
+                    entryById.put(entry.id(), entry);
+                }
+            }
+        } catch (IOException | ArithmeticException e) {
+            log.warn("Failed to archive capture flow {}", flow.id(), e);
+            synchronized (this) {
+                if (flowGeneration == generation) {
+                    pending.remove(flow.id());
+                }
+            }
+        } finally {
+            flow.releaseBodies();
+        }
+    }
+
+    private CaptureFlow read(Entry entry, boolean bodies) throws IOException {
+        int length = bodies ? entry.metadataLength() + entry.bodyLength() : entry.metadataLength();
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        long position = entry.offset();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of capture archive at " + position);
+            }
+            position += read;
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array()))) {
+            return CaptureFlow.readArchive(input, bodies);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            current += channel.write(buffer, current);
+        }
+    }
+
+    private record Entry(String id, long offset, int metadataLength, int bodyLength) {
+    }
+}
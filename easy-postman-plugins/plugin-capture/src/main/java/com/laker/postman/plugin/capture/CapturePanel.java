@@ -69,6 +69,7 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.RoundRectangle2D;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -76,6 +77,7 @@ import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static com.laker.postman.plugin.capture.CaptureI18n.t;
 
@@ -92,17 +94,38 @@ public class CapturePanel extends JPanel {
     static final int REQUEST_RESPONSE_DETAIL_DISPLAY_LIMIT = 20_000;
     static final int DETAIL_SPLIT_DIVIDER_SIZE = 9;
     private static final Integer[] RETENTION_LIMIT_OPTIONS = {100, 300, 1000};
+    static final int ARCHIVE_PAGE_SIZE = 500;
+    static final String SPILL_DIRECTORY = "sessions";
 
     private final CaptureProxyService proxyService = CaptureRuntime.proxyService();
     private final CaptureRequestCollectionImporter requestCollectionImporter;
     private final CaptureSettingsStore settingsStore;
     private final CaptureSettings initialSettings;
+    private final PluginStorage storage;
     private final MacCertificateInstallService macCertificateInstallService = new MacCertificateInstallService();
     private final WindowsCertificateInstallService windowsCertificateInstallService = new WindowsCertificateInstallService();
 
     private JTextField hostField;
     private JSpinner portSpinner;
     private JComboBox<Integer> retentionLimitComboBox;
+    private JCheckBox spillToDiskCheckBox;
+    private JSpinner memoryBudgetSpinner;
+    private JCheckBox ecCertificatesCheckBox;
+    private JButton olderArchivePageButton;
+    private JButton newerArchivePageButton;
+    private JLabel archivePageLabel;
+    /**
+     * -1 表示显示内存中的实时流，>= 0 表示正在浏览的落盘归档页
+     */
+    private int archivePageIndex = -1;
+    /**
+     * 当前归档页的元数据，右键菜单等只需元数据的场景直接使用，不再读盘
+     */
+    private List<CaptureFlow> archivePageFlows = List.of();
+    /**
+     * 每次切页或刷新递增，较早发起的后台读盘结果到达时直接丢弃
+     */
+    private int archiveLoadVersion;
     private JButton toggleProxyButton;
     private JButton clearButton;
     private JMenuItem installCaMenuItem;
@@ -158,11 +181,14 @@ public class CapturePanel extends JPanel {
 
     CapturePanel(RequestCollectionImportService importService, PluginStorage storage) {
         PluginStorage safeStorage = storage == null ? PluginStorage.noop() : storage;
+        this.storage = safeStorage;
         requestCollectionImporter = new CaptureRequestCollectionImporter(importService);
         settingsStore = new CaptureSettingsStore(safeStorage);
         initialSettings = settingsStore.load();
         proxyService.configureStorage(safeStorage);
         proxyService.sessionStore().setMaxFlows(initialSettings.maxFlows());
+        applySpillSettings(initialSettings.spillToDisk(), initialSettings.memoryBudgetMb());
+        proxyService.setEcCertificates(initialSettings.ecCertificates());
         initUI();
         proxyService.sessionStore().addChangeListener(this::scheduleRefreshTable);
         refreshTable();
@@ -197,6 +223,26 @@ public class CapturePanel extends JPanel {
         retentionLimitComboBox.setSelectedItem(defaultMaxFlows());
         retentionLimitComboBox.setFocusable(false);
         retentionLimitComboBox.setToolTipText(t(MessageKeys.TOOLBOX_CAPTURE_RETENTION_TOOLTIP));
+        spillToDiskCheckBox = new JCheckBox(t(MessageKeys.TOOLBOX_CAPTURE_SPILL), initialSettings.spillToDisk());
+        spillToDiskCheckBox.setFocusable(false);
+        spillToDiskCheckBox.setToolTipText(htmlTooltip(t(MessageKeys.TOOLBOX_CAPTURE_SPILL_TOOLTIP), 360));
+        memoryBudgetSpinner = new JSpinner(new SpinnerNumberModel(
+                initialSettings.memoryBudgetMb(), CaptureSessionStore.MIN_MEMORY_BUDGET_MB, Integer.MAX_VALUE, 16));
+        memoryBudgetSpinner.setEditor(new JSpinner.NumberEditor(memoryBudgetSpinner, "0"));
+        memoryBudgetSpinner.setEnabled(initialSettings.spillToDisk());
+        memoryBudgetSpinner.setToolTipText(htmlTooltip(t(MessageKeys.TOOLBOX_CAPTURE_MEMORY_BUDGET_TOOLTIP,
+                String.valueOf(CaptureSessionStore.MIN_MEMORY_BUDGET_MB)), 360));
+        ecCertificatesCheckBox = new JCheckBox(t(MessageKeys.TOOLBOX_CAPTURE_EC_CERT), initialSettings.ecCertificates());
+        ecCertificatesCheckBox.setFocusable(false);
+        ecCertificatesCheckBox.setToolTipText(htmlTooltip(t(MessageKeys.TOOLBOX_CAPTURE_EC_CERT_TOOLTIP), 360));
+        olderArchivePageButton = new JButton("<");
+        olderArchivePageButton.setToolTipText(t(MessageKeys.TOOLBOX_CAPTURE_ARCHIVE_OLDER));
+        olderArchivePageButton.setFocusable(false);
+        newerArchivePageButton = new JButton(">");
+        newerArchivePageButton.setToolTipText(t(MessageKeys.TOOLBOX_CAPTURE_ARCHIVE_NEWER));
+        newerArchivePageButton.setFocusable(false);
+        archivePageLabel = new JLabel();
+        archivePageLabel.setForeground(ModernColors.getTextSecondary());
         captureFilterField = new JTextField(defaultCaptureFilter());
         captureFilterField.setColumns(28);
         captureFilterField.putClientProperty(FlatClientProperties.PLACEHOLDER_TEXT,
@@ -231,8 +277,16 @@ public class CapturePanel extends JPanel {
                 startProxy();
             }
         });
-        clearButton.addActionListener(e -> proxyService.sessionStore().clear());
+        clearButton.addActionListener(e -> {
+            archivePageIndex = -1;
+            proxyService.sessionStore().clear();
+        });
         retentionLimitComboBox.addActionListener(e -> handleRetentionLimitChanged());
+        spillToDiskCheckBox.addActionListener(e -> handleSpillToDiskChanged());
+        memoryBudgetSpinner.addChangeListener(e -> handleMemoryBudgetChanged());
+        ecCertificatesCheckBox.addActionListener(e -> handleEcCertificatesChanged());
+        olderArchivePageButton.addActionListener(e -> showArchivePage(archivePageIndex + 1));
+        newerArchivePageButton.addActionListener(e -> showArchivePage(archivePageIndex - 1));
 
         quickFilterPanel = buildQuickFilterPanel();
         viewPresetPanel = buildViewPresetPanel();
@@ -261,6 +315,13 @@ public class CapturePanel extends JPanel {
         panel.add(clearButton);
         panel.add(new JLabel(t(MessageKeys.TOOLBOX_CAPTURE_RETENTION)), "gapleft 4");
         panel.add(retentionLimitComboBox, "wmin 82");
+        panel.add(spillToDiskCheckBox, "gapleft 6");
+        panel.add(memoryBudgetSpinner, "wmin 72");
+        panel.add(new JLabel(t(MessageKeys.TOOLBOX_CAPTURE_MEMORY_BUDGET_UNIT)), "gapleft 2");
+        panel.add(ecCertificatesCheckBox, "gapleft 2");
+        panel.add(olderArchivePageButton, "gapleft 4, hidemode 3");
+        panel.add(archivePageLabel, "hidemode 3");
+        panel.add(newerArchivePageButton, "hidemode 3");
         panel.add(captureStatusPanel, "gapleft push, wrap");
         panel.add(new JLabel(t(MessageKeys.TOOLBOX_CAPTURE_CAPTURE_HOSTS)), "gapright 8");
         panel.add(captureFilterField, "span 7, growx, wrap");
@@ -459,13 +520,17 @@ public class CapturePanel extends JPanel {
         boolean syncSystemProxy = syncSystemProxyCheckBox.isSelected();
         String captureFilter = captureFilterField.getText().trim();
         int maxFlows = currentMaxFlows();
+        boolean spillToDisk = spillToDiskCheckBox.isSelected();
+        int memoryBudgetMb = currentMemoryBudgetMb();
+        boolean ecCertificates = ecCertificatesCheckBox.isSelected();
 
         setOperationState(true);
         SwingWorker<StartResult, Void> worker = new SwingWorker<>() {
             @Override
             protected StartResult doInBackground() throws Exception {
                 proxyService.start(host, port, syncSystemProxy, captureFilter);
-                settingsStore.save(new CaptureSettings(host, port, syncSystemProxy, captureFilter, maxFlows));
+                settingsStore.save(new CaptureSettings(host, port, syncSystemProxy, captureFilter, maxFlows,
+                        spillToDisk, memoryBudgetMb, ecCertificates));
                 return new StartResult(host, port, proxyService.isSystemProxySynced());
             }
 
@@ -534,9 +599,45 @@ public class CapturePanel extends JPanel {
     }
 
     private void refreshTable() {
+        CaptureSessionStore sessionStore = proxyService.sessionStore();
+        int archivedFlowCount = sessionStore.archivedFlowCount();
+        if (archivePageIndex >= archivePageCount(archivedFlowCount)) {
+            archivePageIndex = -1;
+        }
+        int loadVersion = ++archiveLoadVersion;
+        if (archivePageIndex < 0) {
+            archivePageFlows = List.of();
+            applyTableSnapshot(sessionStore.snapshot(), archivedFlowCount);
+            return;
+        }
+        int pageIndex = archivePageIndex;
+        // 归档页要读段文件，还可能等写盘线程，放到后台读完再回 EDT 刷新表格
+        SwingWorker<List<CaptureFlow>, Void> worker = new SwingWorker<>() {
+            @Override
+            protected List<CaptureFlow> doInBackground() {
+                return sessionStore.archivedPage(pageIndex, ARCHIVE_PAGE_SIZE);
+            }
+
+            @Override
+            protected void done() {
+                if (loadVersion != archiveLoadVersion) {
+                    return;
+                }
+                try {
+                    archivePageFlows = get();
+                    applyTableSnapshot(archivePageFlows, archivedFlowCount);
+                } catch (Exception ex) {
+                    NotificationCenter.showError(t(MessageKeys.TOOLBOX_CAPTURE_ARCHIVE_LOAD_FAILED, rootMessage(ex)));
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void applyTableSnapshot(List<CaptureFlow> snapshot, int archivedFlowCount) {
         List<String> selectedIds = selectedFlowIds();
         CaptureFlow selectedFlowBeforeRefresh = selectedFlow;
-        List<CaptureFlow> snapshot = proxyService.sessionStore().snapshot();
+        updateArchivePager(archivedFlowCount);
         List<CaptureFlow> visibleFlows = visibleFlows(snapshot);
         totalFlowCount = snapshot.size();
         visibleFlowCount = visibleFlows.size();
@@ -555,6 +656,10 @@ public class CapturePanel extends JPanel {
             refreshingTable = false;
         }
         CaptureFlow retainedSelectedFlow = findVisibleSelectedFlow(selectedFlowBeforeRefresh, visibleFlows);
+        if (retainedSelectedFlow != null && archivePageIndex >= 0) {
+            // 归档页只有元数据，继续显示已经带报文体读出的详情
+            retainedSelectedFlow = selectedFlowBeforeRefresh;
+        }
         if (rows.isEmpty()) {
             clearDetail();
         } else if (retainedSelectedFlow != null) {
@@ -564,7 +669,7 @@ public class CapturePanel extends JPanel {
         } else if (table.getSelectedRow() < 0) {
             clearDetail();
         } else if (selectedFlow != null) {
-            CaptureFlow latestSelectedFlow = proxyService.sessionStore().find(selectedFlow.id());
+            CaptureFlow latestSelectedFlow = proxyService.sessionStore().findInMemory(selectedFlow.id());
             if (latestSelectedFlow != null) {
                 selectedFlow = latestSelectedFlow;
                 updateDetailHeader(latestSelectedFlow);
@@ -574,12 +679,18 @@ public class CapturePanel extends JPanel {
     }
 
     static CaptureFlow findVisibleSelectedFlow(CaptureFlow selectedFlow, List<CaptureFlow> visibleFlows) {
-        if (selectedFlow == null || visibleFlows == null || visibleFlows.isEmpty()) {
+        if (selectedFlow == null) {
             return null;
         }
-        String selectedId = selectedFlow.id();
-        for (CaptureFlow flow : visibleFlows) {
-            if (flow != null && selectedId.equals(flow.id())) {
+        return findFlowById(selectedFlow.id(), visibleFlows);
+    }
+
+    private static CaptureFlow findFlowById(String flowId, List<CaptureFlow> flows) {
+        if (flows == null || flows.isEmpty()) {
+            return null;
+        }
+        for (CaptureFlow flow : flows) {
+            if (flow != null && flowId.equals(flow.id())) {
                 return flow;
             }
         }
@@ -946,11 +1057,47 @@ public class CapturePanel extends JPanel {
         if (row < 0 || row >= table.getRowCount()) {
             return;
         }
-        Object flowId = table.getValueAt(row, 0);
-        CaptureFlow flow = proxyService.sessionStore().find(String.valueOf(flowId));
+        String flowId = String.valueOf(table.getValueAt(row, 0));
+        CaptureFlow flow = proxyService.sessionStore().findInMemory(flowId);
         if (flow != null) {
             showFlowDetail(flow);
+            return;
         }
+        loadFlowsAsync(List.of(flowId), flows -> {
+            if (!flows.isEmpty()) {
+                showFlowDetail(flows.get(0));
+            }
+        });
+    }
+
+    /**
+     * 在后台按 id 读取完整流（含落盘归档里的报文体），读完后在 EDT 上回调
+     */
+    private void loadFlowsAsync(List<String> flowIds, Consumer<List<CaptureFlow>> onLoaded) {
+        CaptureSessionStore sessionStore = proxyService.sessionStore();
+        SwingWorker<List<CaptureFlow>, Void> worker = new SwingWorker<>() {
+            @Override
+            protected List<CaptureFlow> doInBackground() {
+                List<CaptureFlow> flows = new ArrayList<>(flowIds.size());
+                for (String flowId : flowIds) {
+                    CaptureFlow flow = sessionStore.find(flowId);
+                    if (flow != null) {
+                        flows.add(flow);
+                    }
+                }
+                return flows;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    onLoaded.accept(get());
+                } catch (Exception ex) {
+                    NotificationCenter.showError(t(MessageKeys.TOOLBOX_CAPTURE_ARCHIVE_LOAD_FAILED, rootMessage(ex)));
+                }
+            }
+        };
+        worker.execute();
     }
 
     private void showFlowDetail(CaptureFlow flow) {
@@ -1037,10 +1184,84 @@ public class CapturePanel extends JPanel {
                 ((Number) portSpinner.getValue()).intValue(),
                 syncSystemProxyCheckBox.isSelected(),
                 captureFilter,
-                currentMaxFlows()
+                currentMaxFlows(),
+                spillToDiskCheckBox.isSelected(),
+                currentMemoryBudgetMb(),
+                ecCertificatesCheckBox.isSelected()
         ));
     }
 
+    private void handleEcCertificatesChanged() {
+        // 只影响之后新建的 TLS 连接，已建立的连接继续使用原证书
+        proxyService.setEcCertificates(ecCertificatesCheckBox.isSelected());
+        saveCurrentSettings(captureFilterField.getText().trim());
+    }
+
+    private void handleSpillToDiskChanged() {
+        boolean spillToDisk = spillToDiskCheckBox.isSelected();
+        applySpillSettings(spillToDisk, currentMemoryBudgetMb());
+        memoryBudgetSpinner.setEnabled(spillToDisk);
+        if (!spillToDisk) {
+            archivePageIndex = -1;
+        }
+        saveCurrentSettings(captureFilterField.getText().trim());
+        refreshTable();
+    }
+
+    private void handleMemoryBudgetChanged() {
+        if (spillToDiskCheckBox.isSelected()) {
+            applySpillSettings(true, currentMemoryBudgetMb());
+        }
+        saveCurrentSettings(captureFilterField.getText().trim());
+    }
+
+    private int currentMemoryBudgetMb() {
+        Object value = memoryBudgetSpinner == null ? null : memoryBudgetSpinner.getValue();
+        return value instanceof Number number
+                ? CaptureSessionStore.normalizeMemoryBudgetMb(number.intValue())
+                : initialSettings.memoryBudgetMb();
+    }
+
+    private void applySpillSettings(boolean spillToDisk, int memoryBudgetMb) {
+        proxyService.sessionStore().configureSpill(spillToDisk ? spillDirectory(storage) : null, memoryBudgetMb);
+    }
+
+    static Path spillDirectory(PluginStorage storage) {
+        Path dataDirectory = storage == null ? null : storage.dataDirectory();
+        if (dataDirectory == null || dataDirectory.toString().isBlank()) {
+            // 独立构造面板（测试、无宿主）时没有插件数据目录，退回系统临时目录
+            return Path.of(System.getProperty("java.io.tmpdir"), "easy-postman-capture", SPILL_DIRECTORY);
+        }
+        return dataDirectory.resolve(SPILL_DIRECTORY);
+    }
+
+    private void showArchivePage(int pageIndex) {
+        int pageCount = archivePageCount(proxyService.sessionStore().archivedFlowCount());
+        archivePageIndex = Math.max(-1, Math.min(pageIndex, pageCount - 1));
+        refreshTable();
+    }
+
+    static int archivePageCount(int archivedFlowCount) {
+        return (archivedFlowCount + ARCHIVE_PAGE_SIZE - 1) / ARCHIVE_PAGE_SIZE;
+    }
+
+    private void updateArchivePager(int archivedFlowCount) {
+        int pageCount = archivePageCount(archivedFlowCount);
+        boolean visible = pageCount > 0;
+        olderArchivePageButton.setVisible(visible);
+        newerArchivePageButton.setVisible(visible);
+        archivePageLabel.setVisible(visible);
+        if (!visible) {
+            return;
+        }
+        olderArchivePageButton.setEnabled(archivePageIndex < pageCount - 1);
+        newerArchivePageButton.setEnabled(archivePageIndex >= 0);
+        archivePageLabel.setText(archivePageIndex < 0
+                ? t(MessageKeys.TOOLBOX_CAPTURE_ARCHIVE_LIVE, String.valueOf(archivedFlowCount))
+                : t(MessageKeys.TOOLBOX_CAPTURE_ARCHIVE_PAGE,
+                String.valueOf(archivePageIndex + 1), String.valueOf(pageCount)));
+    }
+
     private void handleRetentionLimitChanged() {
         int maxFlows = currentMaxFlows();
         proxyService.sessionStore().setMaxFlows(maxFlows);
@@ -2082,7 +2303,12 @@ public class CapturePanel extends JPanel {
             NotificationCenter.showWarning(t(MessageKeys.TOOLBOX_CAPTURE_IMPORT_EMPTY));
             return;
         }
-        requestCollectionImporter.importFlows(flows);
+        if (archivePageIndex < 0) {
+            requestCollectionImporter.importFlows(flows);
+            return;
+        }
+        // 归档页的行只有元数据，导入前在后台带报文体读出
+        loadFlowsAsync(flows.stream().map(CaptureFlow::id).toList(), requestCollectionImporter::importFlows);
     }
 
     private RSyntaxTextArea createDetailArea() {
@@ -2294,9 +2520,12 @@ public class CapturePanel extends JPanel {
             return List.of();
         }
         List<CaptureFlow> flows = new ArrayList<>();
+        CaptureSessionStore sessionStore = proxyService.sessionStore();
         for (int selectedRow : selectedRows) {
-            Object flowId = table.getValueAt(selectedRow, 0);
-            CaptureFlow flow = proxyService.sessionStore().find(String.valueOf(flowId));
+            String flowId = String.valueOf(table.getValueAt(selectedRow, 0));
+            CaptureFlow flow = archivePageIndex < 0
+                    ? sessionStore.findInMemory(flowId)
+                    : findFlowById(flowId, archivePageFlows);
             if (flow != null) {
                 flows.add(flow);
             }
@@ -131,6 +131,12 @@ final class CaptureProxyService {
         captureFilterState.update(rawValue);
     }
 
+    void setEcCertificates(boolean ecCertificates) {
+        certificateService().setLeafKeyType(ecCertificates
+                ? CaptureCertificateService.LeafKeyType.EC
+                : CaptureCertificateService.LeafKeyType.RSA);
+    }
+
     private CaptureCertificateService certificateService() {
         CaptureCertificateService current = certificateService;
         if (current != null) {
@@ -4,9 +4,11 @@ import com.laker.postman.model.RequestImportBodyTypes;
 import com.laker.postman.model.RequestImportDraft;
 import com.laker.postman.model.RequestImportHeader;
 import com.laker.postman.model.RequestImportProtocol;
+import com.laker.postman.model.RequestImportResponse;
 import com.laker.postman.model.RequestImportResult;
 import com.laker.postman.plugin.api.service.RequestCollectionImportService;
 import com.laker.postman.common.component.notification.NotificationCenter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -16,6 +18,7 @@ import java.util.Map;
 
 import static com.laker.postman.plugin.capture.CaptureI18n.t;
 
+@Slf4j
 final class CaptureRequestCollectionImporter {
 
     private final RequestCollectionImportService importService;
@@ -51,8 +54,17 @@ final class CaptureRequestCollectionImporter {
 
         Map<String, Integer> nameCounts = new LinkedHashMap<>();
         List<RequestImportDraft> drafts = new ArrayList<>(flows.size());
+        int skippedResponses = 0;
         for (CaptureFlow flow : flows) {
-            drafts.add(toDraft(flow, nextRequestName(flow, nameCounts)));
+            RequestImportDraft draft = toDraft(flow, nextRequestName(flow, nameCounts));
+            if (draft.response() == null && flow.hasImportableResponse()) {
+                skippedResponses++;
+            }
+            drafts.add(draft);
+        }
+        if (skippedResponses > 0) {
+            log.info("Imported {} captured requests, {} responses not kept as examples (binary or failed to decompress)",
+                    drafts.size(), skippedResponses);
         }
         return drafts;
     }
@@ -67,10 +79,42 @@ final class CaptureRequestCollectionImporter {
                 toHeaders(flow),
                 buildDescription(flow),
                 resolveBodyType(flow),
-                resolveBody(flow)
+                resolveBody(flow),
+                toResponse(flow)
         );
     }
 
+    /**
+     * 完整收到的文本响应随请求一起导入为示例响应，Mock 回放时直接使用
+     */
+    private RequestImportResponse toResponse(CaptureFlow flow) {
+        if (!flow.hasImportableResponse()) {
+            return null;
+        }
+        String body = flow.responseBodyImportText();
+        if (body == null) {
+            return null;
+        }
+        List<RequestImportHeader> headers = new ArrayList<>();
+        for (Map.Entry<String, String> entry : flow.responseHeadersSnapshot().entrySet()) {
+            String key = entry.getKey();
+            if (key == null || key.isBlank() || isDecodedTransportHeader(key)) {
+                continue;
+            }
+            headers.add(new RequestImportHeader(true, key, entry.getValue()));
+        }
+        return new RequestImportResponse(flow.statusCode(), flow.statusText(), headers, body, flow.durationMs());
+    }
+
+    // 响应体已解压成文本，原始的编码和长度头不再成立
+    private static boolean isDecodedTransportHeader(String key) {
+        String normalized = key.toLowerCase(Locale.ROOT);
+        return "content-encoding".equals(normalized)
+                || "content-length".equals(normalized)
+                || "transfer-encoding".equals(normalized)
+                || "connection".equals(normalized);
+    }
+
     private List<RequestImportHeader> toHeaders(CaptureFlow flow) {
         List<RequestImportHeader> headers = new ArrayList<>();
         for (Map.Entry<String, String> entry : flow.requestHeadersSnapshot().entrySet()) {
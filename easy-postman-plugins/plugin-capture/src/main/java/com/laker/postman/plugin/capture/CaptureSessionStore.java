@@ -1,16 +1,28 @@
 package com.laker.postman.plugin.capture;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+@Slf4j
 final class CaptureSessionStore {
     static final int DEFAULT_MAX_FLOWS = 300;
     static final int MIN_MAX_FLOWS = 50;
     static final int HARD_MAX_FLOWS = 1_000;
+    static final int DEFAULT_MEMORY_BUDGET_MB = 256;
+    static final int MIN_MEMORY_BUDGET_MB = 16;
+    /**
+     * 开启落盘后单个方向报文体的内存保留上限，超过部分不再记录
+     */
+    static final int SPILL_BODY_LIMIT = 32 * 1024 * 1024;
     private static final int TLS_ISSUE_STATUS_CODE = 495;
     private static final long TLS_ISSUE_SUPPRESS_MS = 30_000L;
 
@@ -19,6 +31,16 @@ final class CaptureSessionStore {
     private final Map<String, Long> tlsIssueRecordedAt = new LinkedHashMap<>();
     private final CopyOnWriteArrayList<Runnable> listeners = new CopyOnWriteArrayList<>();
     private int maxFlows;
+    /**
+     * 非空时，移出内存的流追加到落盘归档而不是直接丢弃
+     */
+    private CaptureFlowArchive archive;
+    private long memoryBudgetBytes = DEFAULT_MEMORY_BUDGET_MB * 1024L * 1024L;
+    /**
+     * 已计入预算的报文体字节数，按流记录以便移出时扣减，避免每次裁剪都遍历全部流
+     */
+    private final Map<String, Long> accountedBytesByFlow = new HashMap<>();
+    private long retainedBodyBytes;
 
     CaptureSessionStore() {
         this(DEFAULT_MAX_FLOWS);
@@ -46,6 +68,10 @@ final class CaptureSessionStore {
                            String connectionId,
                            CaptureSourceInfo sourceInfo,
                            List<CaptureDiagnosticEvent> diagnosticEvents) {
+        int bodyLimit;
+        synchronized (this) {
+            bodyLimit = archive != null ? SPILL_BODY_LIMIT : CaptureFlow.PREVIEW_LIMIT;
+        }
         CaptureFlow flow = new CaptureFlow(
                 method,
                 url,
@@ -55,11 +81,13 @@ final class CaptureSessionStore {
                 requestBody,
                 connectionId,
                 sourceInfo,
-                diagnosticEvents
+                diagnosticEvents,
+                bodyLimit
         );
         synchronized (this) {
             flows.add(0, flow);
             flowById.put(flow.id(), flow);
+            accountBodyBytes(flow);
             trimToMaxFlows();
         }
         fireChanged();
@@ -90,13 +118,70 @@ final class CaptureSessionStore {
         return Math.min(value, HARD_MAX_FLOWS);
     }
 
+    static int normalizeMemoryBudgetMb(int value) {
+        return value < MIN_MEMORY_BUDGET_MB ? DEFAULT_MEMORY_BUDGET_MB : value;
+    }
+
+    /**
+     * 开启落盘：内存里最多保留 maxFlows 条且报文体总量不超过预算，其余流写入 directory 下的段文件，
+     * 抓包总条数不再受 {@link #HARD_MAX_FLOWS} 限制。directory 为 null 时关闭落盘并删除段文件。
+     */
+    void configureSpill(Path directory, int memoryBudgetMb) {
+        CaptureFlowArchive previous;
+        synchronized (this) {
+            memoryBudgetBytes = normalizeMemoryBudgetMb(memoryBudgetMb) * 1024L * 1024L;
+            previous = archive;
+            if (directory == null) {
+                archive = null;
+            } else if (previous == null) {
+                try {
+                    archive = new CaptureFlowArchive(directory);
+                } catch (IOException e) {
+                    log.warn("Failed to create capture archive under {}, keeping flows in memory only", directory, e);
+                    archive = null;
+                }
+            }
+            trimToMaxFlows();
+        }
+        if (previous != null && directory == null) {
+            previous.close();
+        }
+        fireChanged();
+    }
+
+    synchronized boolean spillEnabled() {
+        return archive != null;
+    }
+
+    synchronized long memoryBudgetBytes() {
+        return memoryBudgetBytes;
+    }
+
+    synchronized long retainedBodyBytes() {
+        return retainedBodyBytes;
+    }
+
     private void trimToMaxFlows() {
-        while (flows.size() > maxFlows) {
+        while (flows.size() > maxFlows || (archive != null && retainedBodyBytes > memoryBudgetBytes && flows.size() > 1)) {
             CaptureFlow removed = flows.remove(flows.size() - 1);
             flowById.remove(removed.id());
+            Long accounted = accountedBytesByFlow.remove(removed.id());
+            retainedBodyBytes -= accounted == null ? 0 : accounted;
+            if (archive != null) {
+                // 写盘线程写完后归还报文体分块
+                archive.append(removed);
+            } else {
+                removed.releaseBodies();
+            }
         }
     }
 
+    private void accountBodyBytes(CaptureFlow flow) {
+        long current = flow.retainedBodyBytes();
+        Long previous = accountedBytesByFlow.put(flow.id(), current);
+        retainedBodyBytes += current - (previous == null ? 0 : previous);
+    }
+
     boolean recordTlsIssue(String host, int port, String message) {
         return recordTlsIssue(host, port, message, "", CaptureSourceInfo.unknown(), List.of());
     }
@@ -144,6 +229,7 @@ final class CaptureSessionStore {
         }
         if (flow != null) {
             flow.complete(statusCode, statusText, responseHeaders, responseBody);
+            enforceMemoryBudget(flow);
             fireChanged();
         }
     }
@@ -257,6 +343,7 @@ final class CaptureSessionStore {
         }
         if (flow != null) {
             flow.complete();
+            enforceMemoryBudget(flow);
             fireChanged();
         }
     }
@@ -268,22 +355,84 @@ final class CaptureSessionStore {
         }
         if (flow != null) {
             flow.fail(statusCode, errorMessage);
+            enforceMemoryBudget(flow);
             fireChanged();
         }
     }
 
+    /**
+     * 报文体只在流结束时计入预算，避免每个数据块都进一次存储的锁
+     */
+    private void enforceMemoryBudget(CaptureFlow flow) {
+        synchronized (this) {
+            if (flowById.get(flow.id()) != flow) {
+                return;
+            }
+            accountBodyBytes(flow);
+            if (archive != null) {
+                trimToMaxFlows();
+            }
+        }
+    }
+
     synchronized List<CaptureFlow> snapshot() {
         return new ArrayList<>(flows);
     }
 
-    synchronized CaptureFlow find(String flowId) {
+    synchronized int archivedFlowCount() {
+        return archive == null ? 0 : archive.size();
+    }
+
+    /**
+     * 按页读取已落盘的流（最新在前，只含元数据），第 0 页紧接在内存中的流之后
+     */
+    List<CaptureFlow> archivedPage(int pageIndex, int pageSize) {
+        CaptureFlowArchive current;
+        synchronized (this) {
+            current = archive;
+        }
+        if (current == null || pageSize <= 0) {
+            return List.of();
+        }
+        return current.page(Math.max(0, pageIndex) * pageSize, pageSize);
+    }
+
+    /**
+     * 只查内存中的流，不读落盘归档，可以在 EDT 上调用
+     */
+    synchronized CaptureFlow findInMemory(String flowId) {
         return flowById.get(flowId);
     }
 
-    synchronized void clear() {
-        flows.clear();
-        flowById.clear();
-        tlsIssueRecordedAt.clear();
+    /**
+     * 查找完整流，内存中没有时从落盘归档读取（可能等待写盘），不要在 EDT 上调用
+     */
+    CaptureFlow find(String flowId) {
+        CaptureFlowArchive current;
+        synchronized (this) {
+            CaptureFlow flow = flowById.get(flowId);
+            if (flow != null || archive == null) {
+                return flow;
+            }
+            current = archive;
+        }
+        return current.load(flowId);
+    }
+
+    void clear() {
+        synchronized (this) {
+            for (CaptureFlow flow : flows) {
+                flow.releaseBodies();
+            }
+            flows.clear();
+            flowById.clear();
+            accountedBytesByFlow.clear();
+            retainedBodyBytes = 0;
+            tlsIssueRecordedAt.clear();
+            if (archive != null) {
+                archive.clear();
+            }
+        }
         fireChanged();
     }
 
@@ -1,4 +1,20 @@
 package com.laker.postman.plugin.capture;
 
-record CaptureSettings(String bindHost, int bindPort, boolean syncSystemProxy, String hostFilter, int maxFlows) {
+record CaptureSettings(String bindHost,
+                       int bindPort,
+                       boolean syncSystemProxy,
+                       String hostFilter,
+                       int maxFlows,
+                       boolean spillToDisk,
+                       int memoryBudgetMb,
+                       boolean ecCertificates) {
+
+    CaptureSettings(String bindHost, int bindPort, boolean syncSystemProxy, String hostFilter, int maxFlows) {
+        this(bindHost, bindPort, syncSystemProxy, hostFilter, maxFlows, false, CaptureSessionStore.DEFAULT_MEMORY_BUDGET_MB);
+    }
+
+    CaptureSettings(String bindHost, int bindPort, boolean syncSystemProxy, String hostFilter, int maxFlows,
+                    boolean spillToDisk, int memoryBudgetMb) {
+        this(bindHost, bindPort, syncSystemProxy, hostFilter, maxFlows, spillToDisk, memoryBudgetMb, false);
+    }
 }
@@ -20,6 +20,9 @@ class CaptureSettingsStore {
     private static final String KEY_SYNC_SYSTEM_PROXY = "syncSystemProxy";
     private static final String KEY_HOST_FILTER = "hostFilter";
     private static final String KEY_MAX_FLOWS = "maxFlows";
+    private static final String KEY_SPILL_TO_DISK = "spillToDisk";
+    private static final String KEY_MEMORY_BUDGET_MB = "memoryBudgetMb";
+    private static final String KEY_EC_CERTIFICATES = "ecCertificates";
 
     private static final String LEGACY_BIND_HOST = "plugin.capture.bindHost";
     private static final String LEGACY_BIND_PORT = "plugin.capture.bindPort";
@@ -89,6 +92,9 @@ class CaptureSettingsStore {
         root.put(KEY_SYNC_SYSTEM_PROXY, settings.syncSystemProxy());
         root.put(KEY_HOST_FILTER, settings.hostFilter());
         root.put(KEY_MAX_FLOWS, settings.maxFlows());
+        root.put(KEY_SPILL_TO_DISK, settings.spillToDisk());
+        root.put(KEY_MEMORY_BUDGET_MB, settings.memoryBudgetMb());
+        root.put(KEY_EC_CERTIFICATES, settings.ecCertificates());
         return JsonUtil.toJsonPrettyStr(root);
     }
 
@@ -99,7 +105,10 @@ class CaptureSettingsStore {
                 intValue(root, KEY_BIND_PORT, DEFAULT_BIND_PORT),
                 booleanValue(root, KEY_SYNC_SYSTEM_PROXY, false),
                 stringValue(root, KEY_HOST_FILTER, ""),
-                intValue(root, KEY_MAX_FLOWS, CaptureSessionStore.DEFAULT_MAX_FLOWS)
+                intValue(root, KEY_MAX_FLOWS, CaptureSessionStore.DEFAULT_MAX_FLOWS),
+                booleanValue(root, KEY_SPILL_TO_DISK, false),
+                intValue(root, KEY_MEMORY_BUDGET_MB, CaptureSessionStore.DEFAULT_MEMORY_BUDGET_MB),
+                booleanValue(root, KEY_EC_CERTIFICATES, false)
         ));
     }
 
@@ -112,7 +121,10 @@ class CaptureSettingsStore {
                 normalizePort(source.bindPort()),
                 source.syncSystemProxy(),
                 safeTrim(source.hostFilter(), ""),
-                CaptureSessionStore.normalizeMaxFlows(source.maxFlows())
+                CaptureSessionStore.normalizeMaxFlows(source.maxFlows()),
+                source.spillToDisk(),
+                CaptureSessionStore.normalizeMemoryBudgetMb(source.memoryBudgetMb()),
+                source.ecCertificates()
         );
     }
 
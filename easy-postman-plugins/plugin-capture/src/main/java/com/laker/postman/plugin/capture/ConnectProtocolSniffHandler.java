@@ -15,6 +15,10 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.SSLHandshakeException;
 import java.nio.channels.ClosedChannelException;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.laker.postman.plugin.capture.CaptureI18n.t;
 
@@ -44,11 +48,30 @@ final class ConnectProtocolSniffHandler extends ByteToMessageDecoder {
         routed = true;
         if (protocol == Protocol.HTTP) {
             installPlainHttpHandlers(ctx);
-        } else {
-            installTlsHandlers(ctx);
+            out.add(in.readRetainedSlice(in.readableBytes()));
+            ctx.pipeline().remove(this);
+            return;
+        }
+        long certificateStartNanos = System.nanoTime();
+        CompletableFuture<SslContext> serverSslContextFuture = certificateService.buildServerSslContextAsync(targetHost);
+        if (serverSslContextFuture.isDone()) {
+            installTlsHandlers(ctx, serverSslContextFuture, certificateStartNanos);
+            out.add(in.readRetainedSlice(in.readableBytes()));
+            ctx.pipeline().remove(this);
+            return;
         }
-        out.add(in.readRetainedSlice(in.readableBytes()));
-        ctx.pipeline().remove(this);
+        // 证书还在签发线程池里生成：暂停读取，已收到的 ClientHello 留在解码器缓冲区，
+        // 签发完成后回到本连接的事件循环装配 TLS 处理器，移除自身时缓冲区会自动向后传递
+        ctx.channel().config().setAutoRead(false);
+        serverSslContextFuture.whenComplete((sslContext, error) -> ctx.executor().execute(() -> {
+            if (ctx.isRemoved() || !ctx.channel().isActive()) {
+                return;
+            }
+            if (installTlsHandlers(ctx, serverSslContextFuture, certificateStartNanos)) {
+                ctx.pipeline().remove(this);
+                ctx.channel().config().setAutoRead(true);
+            }
+        }));
     }
 
     static Protocol detectProtocol(ByteBuf bytes) {
@@ -115,19 +138,23 @@ final class ConnectProtocolSniffHandler extends ByteToMessageDecoder {
         ));
     }
 
-    private void installTlsHandlers(ChannelHandlerContext ctx) {
+    private boolean installTlsHandlers(ChannelHandlerContext ctx,
+                                       CompletableFuture<SslContext> serverSslContextFuture,
+                                       long certificateStartNanos) {
         SslContext serverSslContext;
         try {
-            serverSslContext = certificateService.buildServerSslContext(targetHost);
-            log.debug("MITM server certificate prepared for {}", targetHost);
+            serverSslContext = serverSslContextFuture.join();
+            long certificateMillis = elapsedMillis(certificateStartNanos);
+            log.debug("MITM server certificate prepared for {} in {} ms", targetHost, certificateMillis);
             connectionContext.addDiagnostic(CaptureDiagnosticEvent.info(
                     CaptureDiagnosticPhase.MITM_CERT,
                     CaptureDiagnosticRole.HTTPS_MITM_PROXY,
                     t(MessageKeys.TOOLBOX_CAPTURE_DIAGNOSTIC_MITM_CERT_PREPARED),
-                    targetHost,
+                    t(MessageKeys.TOOLBOX_CAPTURE_DIAGNOSTIC_MITM_CERT_PREPARED_DETAIL, targetHost, String.valueOf(certificateMillis)),
                     ""
             ));
-        } catch (Exception ex) {
+        } catch (CompletionException | CancellationException wrapped) {
+            Throwable ex = wrapped.getCause() == null ? wrapped : wrapped.getCause();
             log.error("Failed to initialize MITM certificate for {}", targetHost, ex);
             sessionStore.recordTlsIssue(
                     targetHost,
@@ -138,18 +165,21 @@ final class ConnectProtocolSniffHandler extends ByteToMessageDecoder {
                     connectionContext.diagnosticSnapshot()
             );
             ctx.close();
-            return;
+            return false;
         }
 
+        long handshakeStartNanos = System.nanoTime();
         SslHandler sslHandler = serverSslContext.newHandler(ctx.alloc());
         sslHandler.handshakeFuture().addListener(handshakeFuture -> {
             if (handshakeFuture.isSuccess()) {
-                log.debug("Client TLS handshake succeeded for {}", authority);
+                long handshakeMillis = elapsedMillis(handshakeStartNanos);
+                log.debug("Client TLS handshake succeeded for {} in {} ms", authority, handshakeMillis);
                 connectionContext.addDiagnostic(CaptureDiagnosticEvent.info(
                         CaptureDiagnosticPhase.CLIENT_TLS,
                         CaptureDiagnosticRole.SOURCE_APP,
                         t(MessageKeys.TOOLBOX_CAPTURE_DIAGNOSTIC_CLIENT_TLS_ACCEPTED),
-                        authority,
+                        t(MessageKeys.TOOLBOX_CAPTURE_DIAGNOSTIC_CLIENT_TLS_ACCEPTED_DETAIL,
+                                authority, String.valueOf(handshakeMillis), String.valueOf(elapsedMillis(certificateStartNanos))),
                         ""
                 ));
             } else {
@@ -169,6 +199,11 @@ final class ConnectProtocolSniffHandler extends ByteToMessageDecoder {
                 targetPort,
                 connectionContext
         ));
+        return true;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     private void recordClientTlsHandshakeFailure(ChannelHandlerContext ctx, Throwable cause) {
@@ -44,6 +44,17 @@ public final class MessageKeys {
     public static final String TOOLBOX_CAPTURE_RETENTION_TOOLTIP = "toolbox.capture.retention.tooltip";
     public static final String TOOLBOX_CAPTURE_ROWS_LIMIT = "toolbox.capture.rows.limit";
     public static final String TOOLBOX_CAPTURE_ROWS_FILTERED_LIMIT = "toolbox.capture.rows.filtered_limit";
+    public static final String TOOLBOX_CAPTURE_SPILL = "toolbox.capture.spill";
+    public static final String TOOLBOX_CAPTURE_SPILL_TOOLTIP = "toolbox.capture.spill.tooltip";
+    public static final String TOOLBOX_CAPTURE_MEMORY_BUDGET_UNIT = "toolbox.capture.memory_budget.unit";
+    public static final String TOOLBOX_CAPTURE_MEMORY_BUDGET_TOOLTIP = "toolbox.capture.memory_budget.tooltip";
+    public static final String TOOLBOX_CAPTURE_EC_CERT = "toolbox.capture.ec_cert";
+    public static final String TOOLBOX_CAPTURE_EC_CERT_TOOLTIP = "toolbox.capture.ec_cert.tooltip";
+    public static final String TOOLBOX_CAPTURE_ARCHIVE_LIVE = "toolbox.capture.archive.live";
+    public static final String TOOLBOX_CAPTURE_ARCHIVE_PAGE = "toolbox.capture.archive.page";
+    public static final String TOOLBOX_CAPTURE_ARCHIVE_OLDER = "toolbox.capture.archive.older";
+    public static final String TOOLBOX_CAPTURE_ARCHIVE_NEWER = "toolbox.capture.archive.newer";
+    public static final String TOOLBOX_CAPTURE_ARCHIVE_LOAD_FAILED = "toolbox.capture.archive.load_failed";
     public static final String TOOLBOX_CAPTURE_IMPORT = "toolbox.capture.import";
     public static final String TOOLBOX_CAPTURE_IMPORT_EMPTY = "toolbox.capture.import.empty";
     public static final String TOOLBOX_CAPTURE_IMPORT_SUCCESS = "toolbox.capture.import.success";
@@ -228,8 +239,10 @@ public final class MessageKeys {
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_BYPASS_FILTER = "toolbox.capture.diagnostic.event.bypass_filter";
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_MITM_SELECTED = "toolbox.capture.diagnostic.event.mitm_selected";
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_MITM_CERT_PREPARED = "toolbox.capture.diagnostic.event.mitm_cert_prepared";
+    public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_MITM_CERT_PREPARED_DETAIL = "toolbox.capture.diagnostic.event.mitm_cert_prepared.detail";
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_CONNECT_ACKED = "toolbox.capture.diagnostic.event.connect_acked";
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_CLIENT_TLS_ACCEPTED = "toolbox.capture.diagnostic.event.client_tls_accepted";
+    public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_CLIENT_TLS_ACCEPTED_DETAIL = "toolbox.capture.diagnostic.event.client_tls_accepted.detail";
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_CLIENT_TLS_REJECTED = "toolbox.capture.diagnostic.event.client_tls_rejected";
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_CLIENT_TLS_REJECTED_SUGGESTION = "toolbox.capture.diagnostic.event.client_tls_rejected.suggestion";
     public static final String TOOLBOX_CAPTURE_DIAGNOSTIC_HTTPS_DECRYPTED = "toolbox.capture.diagnostic.event.https_decrypted";
@@ -0,0 +1,63 @@
+package com.laker.postman.plugin.capture;
+
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class CaptureBodyBufferTest {
+
+    @Test
+    public void shouldAppendAcrossChunksWithoutLosingOrder() throws Exception {
+        CaptureBodyBuffer buffer = new CaptureBodyBuffer(1024 * 1024);
+        byte[] expected = new byte[CaptureBodyBuffer.CHUNK_SIZE * 2 + 123];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+        }
+        int offset = 0;
+        while (offset < expected.length) {
+            int length = Math.min(1000, expected.length - offset);
+            byte[] piece = new byte[length];
+            System.arraycopy(expected, offset, piece, 0, length);
+            buffer.append(piece);
+            offset += length;
+        }
+
+        assertEquals(buffer.size(), expected.length);
+        assertEquals(buffer.toByteArray(), expected);
+        assertEquals(buffer.copyPrefix(10).length, 10);
+        Path file = Files.createTempFile("capture-body", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            assertEquals(buffer.writeTo(channel, 7), Integer.BYTES + expected.length);
+            ByteBuffer written = ByteBuffer.allocate(Integer.BYTES + expected.length);
+            channel.read(written, 7);
+            written.flip();
+            assertEquals(written.getInt(), expected.length);
+            byte[] body = new byte[expected.length];
+            written.get(body);
+            assertEquals(body, expected);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void shouldStopAtLimitAndReturnChunksToPoolOnRelease() {
+        CaptureBodyBuffer buffer = new CaptureBodyBuffer(100);
+
+        assertEquals(buffer.append(new byte[80]), 80);
+        assertEquals(buffer.append(new byte[80]), 20);
+        assertTrue(buffer.isFull());
+
+        int pooledBefore = CaptureBodyBuffer.pooledChunkCount();
+        buffer.release();
+        assertEquals(buffer.size(), 0);
+        assertTrue(CaptureBodyBuffer.pooledChunkCount() >= Math.min(pooledBefore + 1, 1));
+    }
+}
@@ -18,14 +18,22 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.InputStream;
 import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
 import java.util.Comparator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
 public class CaptureCertificateServiceTest {
     private String previousDataDirectory;
     private Path tempDataDirectory;
@@ -106,6 +114,54 @@ public class CaptureCertificateServiceTest {
         }
     }
 
+    @Test(timeOut = 20000)
+    public void shouldShareInFlightIssuanceForSameHost() throws Exception {
+        CaptureCertificateService service = new CaptureCertificateService();
+
+        CompletableFuture<SslContext> first = service.buildServerSslContextAsync("api.example.test");
+        CompletableFuture<SslContext> second = service.buildServerSslContextAsync("api.example.test:443");
+        SslContext context = first.get(15, TimeUnit.SECONDS);
+
+        assertSame(second.get(15, TimeUnit.SECONDS), context);
+        assertSame(service.buildServerSslContextAsync("api.example.test").getNow(null), context);
+        assertEquals(service.pendingServerContextCount(), 0);
+    }
+
+    @Test(timeOut = 20000)
+    public void shouldReuseSharedLeafKeyAndPersistedCertificateAcrossRestarts() throws Exception {
+        CaptureCertificateService service = new CaptureCertificateService();
+        service.buildServerSslContext("a.example.test");
+        service.buildServerSslContext("b.example.test");
+        File cacheA = service.leafCacheFile(CaptureCertificateService.LeafKeyType.RSA, "a.example.test");
+        File cacheB = service.leafCacheFile(CaptureCertificateService.LeafKeyType.RSA, "b.example.test");
+        X509Certificate leafA = readCertificate(cacheA);
+        X509Certificate leafB = readCertificate(cacheB);
+        assertEquals(leafA.getPublicKey(), leafB.getPublicKey());
+
+        CaptureCertificateService restarted = new CaptureCertificateService();
+        restarted.buildServerSslContext("a.example.test");
+
+        assertEquals(readCertificate(cacheA).getSerialNumber(), leafA.getSerialNumber());
+    }
+
+    @Test(timeOut = 20000)
+    public void shouldIssueEcdsaLeafCertificatesWhenEcModeEnabled() throws Exception {
+        CaptureCertificateService service = new CaptureCertificateService();
+        service.setLeafKeyType(CaptureCertificateService.LeafKeyType.EC);
+
+        assertNotNull(service.buildServerSslContext("ec.example.test"));
+        X509Certificate leaf = readCertificate(service.leafCacheFile(CaptureCertificateService.LeafKeyType.EC, "ec.example.test"));
+
+        assertEquals(leaf.getPublicKey().getAlgorithm(), "EC");
+        assertEquals(leaf.getSigAlgName().toUpperCase(), "SHA256WITHRSA");
+    }
+
+    private static X509Certificate readCertificate(File file) throws Exception {
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(input);
+        }
+    }
+
     private static void completeHandshake(CompletableFuture<Void> handshake, Throwable cause) {
         if (cause == null) {
             handshake.complete(null);
@@ -5,12 +5,15 @@ import com.laker.postman.model.RequestImportDraft;
 import com.laker.postman.model.RequestImportProtocol;
 import org.testng.annotations.Test;
 
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 public class CaptureRequestCollectionImporterTest {
 
@@ -41,6 +44,39 @@ public class CaptureRequestCollectionImporterTest {
         assertEquals(draft.body(), "payload");
         assertEquals(draft.headers().size(), 1);
         assertEquals(draft.headers().get(0).key(), "Accept");
+        assertNull(draft.response());
+    }
+
+    @Test
+    public void shouldImportCompletedTextResponseAsRecordedExample() {
+        CaptureFlow flow = new CaptureFlow("GET", "https://example.com/users?id=7", "example.com", "/users", Map.of(), null);
+        Map<String, String> responseHeaders = new LinkedHashMap<>();
+        responseHeaders.put("Content-Type", "application/json");
+        responseHeaders.put("Content-Length", "11");
+        flow.complete(200, "OK", responseHeaders, "{\"id\":\"7\"}".getBytes(StandardCharsets.UTF_8));
+
+        RequestImportDraft draft = new CaptureRequestCollectionImporter(null).toDrafts(List.of(flow)).get(0);
+
+        assertNotNull(draft.response());
+        assertEquals(draft.response().code(), 200);
+        assertEquals(draft.response().status(), "OK");
+        assertEquals(draft.response().body(), "{\"id\":\"7\"}");
+        assertEquals(draft.response().headers().size(), 1);
+        assertEquals(draft.response().headers().get(0).key(), "Content-Type");
+    }
+
+    @Test
+    public void shouldDecodeResponseWithDeclaredCharset() {
+        CaptureFlow flow = new CaptureFlow("GET", "https://example.com/cn", "example.com", "/cn", Map.of(), null);
+        Map<String, String> responseHeaders = new LinkedHashMap<>();
+        responseHeaders.put("Content-Type", "text/plain; charset=GBK");
+        flow.complete(200, "OK", responseHeaders, "你好，世界".getBytes(Charset.forName("GBK")));
+
+        RequestImportDraft draft = new CaptureRequestCollectionImporter(null).toDrafts(List.of(flow)).get(0);
+
+        assertNotNull(draft.response());
+        assertEquals(draft.response().body(), "你好，世界");
+        assertEquals(CaptureFlow.contentTypeCharset("application/json; charset=\"unknown-x\""), StandardCharsets.UTF_8);
     }
 
     @Test
@@ -2,6 +2,10 @@ package com.laker.postman.plugin.capture;
 
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -119,4 +123,57 @@ public class CaptureSessionStoreTest {
         assertFalse(store.snapshot().stream().anyMatch(flow -> flow.id().equals(firstFlowId)));
         assertEquals(store.maxFlows(), 50);
     }
+
+    @Test
+    public void shouldSpillEvictedFlowsToDiskWithFullBodies() throws Exception {
+        Path directory = Files.createTempDirectory("capture-spill");
+        CaptureSessionStore store = new CaptureSessionStore(50);
+        store.configureSpill(directory, 64);
+        byte[] largeBody = new byte[200 * 1024];
+        Arrays.fill(largeBody, (byte) 'a');
+        CaptureFlow first = store.createFlow("POST", "https://example.com/upload", "example.com", "/upload",
+                Map.of("Content-Type", "text/plain"), largeBody);
+        store.complete(first.id(), 201, "Created", Map.of("Content-Type", "application/json"),
+                "{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < 120; i++) {
+            store.createFlow("GET", "https://example.com/" + i, "example.com", "/" + i, Map.of(), new byte[0]);
+        }
+
+        assertEquals(store.snapshot().size(), 50);
+        assertEquals(store.archivedFlowCount(), 71);
+        assertEquals(store.archivedPage(0, 10).size(), 10);
+        assertEquals(store.archivedPage(7, 10).size(), 1);
+        assertEquals(store.archivedPage(7, 10).get(0).id(), first.id());
+
+        CaptureFlow restored = store.find(first.id());
+        assertEquals(restored.statusCode(), 201);
+        assertEquals(restored.requestSize(), largeBody.length);
+        assertFalse(restored.requestBodyPartial());
+        assertEquals(restored.requestBodyImportText().length(), largeBody.length);
+        assertTrue(restored.responseBodyPreview().contains("ok"));
+
+        store.configureSpill(null, 64);
+        assertEquals(store.archivedFlowCount(), 0);
+    }
+
+    @Test
+    public void shouldEvictByMemoryBudgetWhenSpillEnabled() throws Exception {
+        Path directory = Files.createTempDirectory("capture-budget");
+        CaptureSessionStore store = new CaptureSessionStore(1_000);
+        store.configureSpill(directory, CaptureSessionStore.MIN_MEMORY_BUDGET_MB);
+        byte[] body = new byte[4 * 1024 * 1024];
+        for (int i = 0; i < 6; i++) {
+            CaptureFlow flow = store.createFlow("GET", "https://example.com/" + i, "example.com", "/" + i, Map.of(), new byte[0]);
+            store.complete(flow.id(), 200, "OK", Map.of(), body);
+        }
+
+        long retained = store.snapshot().stream().mapToLong(CaptureFlow::retainedBodyBytes).sum();
+        assertTrue(retained <= CaptureSessionStore.MIN_MEMORY_BUDGET_MB * 1024L * 1024L);
+        assertEquals(store.retainedBodyBytes(), retained);
+        assertEquals(store.snapshot().size() + store.archivedFlowCount(), 6);
+        assertEquals(store.find(store.archivedPage(0, 10).get(0).id()).responseSize(), body.length);
+        store.clear();
+        assertEquals(store.archivedFlowCount(), 0);
+        assertEquals(store.retainedBodyBytes(), 0L);
+    }
 }
@@ -5,6 +5,7 @@ import cn.hutool.json.JSONArray;
 import cn.hutool.json.JSONUtil;
 import com.laker.postman.common.constants.ConfigPathConstants;
 import com.laker.postman.model.ClientCertificate;
+import com.laker.postman.model.ClientCertificateIndex;
 import com.laker.postman.plugin.api.service.ClientCertificatePluginService;
 import com.laker.postman.plugin.clientcert.internal.ClientCertificateLoader;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +14,9 @@ import javax.net.ssl.KeyManager;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
@@ -22,6 +25,13 @@ public class ClientCertificatePluginServiceImpl implements ClientCertificatePlug
     private static final String CERT_CONFIG_FILE = ConfigPathConstants.CLIENT_CERTIFICATES;
 
     private final List<ClientCertificate> certificates = new CopyOnWriteArrayList<>();
+    // 证书配置的主机名索引，配置增删改后整体重建
+    private volatile ClientCertificateIndex index = ClientCertificateIndex.empty();
+    // 已加载的 KeyManager，按证书 id 缓存；指纹（更新时间 + 证书/私钥文件）变化后重新加载
+    private final Map<String, CachedKeyManagers> keyManagerCache = new ConcurrentHashMap<>();
+
+    private record CachedKeyManagers(String fingerprint, KeyManager[] keyManagers) {
+    }
 
     public ClientCertificatePluginServiceImpl() {
         load();
@@ -41,6 +51,7 @@ public class ClientCertificatePluginServiceImpl implements ClientCertificatePlug
         certificate.setCreatedAt(System.currentTimeMillis());
         certificate.setUpdatedAt(System.currentTimeMillis());
         certificates.add(certificate);
+        reindex();
         save();
         log.info("Added client certificate: {} for host: {}", certificate.getId(), certificate.getHost());
     }
@@ -51,6 +62,7 @@ public class ClientCertificatePluginServiceImpl implements ClientCertificatePlug
             if (certificates.get(i).getId().equals(certificate.getId())) {
                 certificate.setUpdatedAt(System.currentTimeMillis());
                 certificates.set(i, certificate);
+                reindex();
                 save();
                 log.info("Updated client certificate: {}", certificate.getId());
                 return;
@@ -61,6 +73,7 @@ public class ClientCertificatePluginServiceImpl implements ClientCertificatePlug
     @Override
     public void deleteCertificate(String id) {
         certificates.removeIf(certificate -> certificate.getId().equals(id));
+        reindex();
         save();
         log.info("Deleted client certificate: {}", id);
     }
@@ -111,19 +124,37 @@ public class ClientCertificatePluginServiceImpl implements ClientCertificatePlug
         return true;
     }
 
+    @Override
+    public ClientCertificate findMatchingCertificate(String host, int port) {
+        if (host == null || host.isBlank()) {
+            return null;
+        }
+        return index.find(host, port);
+    }
+
     @Override
     public KeyManager[] loadClientCertificateKeyManagers(String host, int port) {
         if (host == null || host.isBlank()) {
             return new KeyManager[0];
         }
 
-        ClientCertificate clientCertificate = findMatchingCertificate(host, port);
+        ClientCertificate clientCertificate = findAndLogMatchingCertificate(host, port);
         if (clientCertificate == null || !validateCertificatePaths(clientCertificate)) {
             return new KeyManager[0];
         }
 
+        String fingerprint = keyManagerFingerprint(clientCertificate);
+        CachedKeyManagers cached = clientCertificate.getId() == null ? null : keyManagerCache.get(clientCertificate.getId());
+        if (cached != null && cached.fingerprint().equals(fingerprint)) {
+            log.debug("Reusing loaded client certificate for host: {} ({})", host, clientCertificate.getName());
+            return cached.keyManagers().clone();
+        }
+
         try {
             KeyManager[] keyManagers = ClientCertificateLoader.createKeyManagers(clientCertificate);
+            if (clientCertificate.getId() != null) {
+                keyManagerCache.put(clientCertificate.getId(), new CachedKeyManagers(fingerprint, keyManagers.clone()));
+            }
             log.info("Using client certificate for host: {} ({})", host, clientCertificate.getName());
 
             String certificateName = clientCertificate.getName() != null && !clientCertificate.getName().isEmpty()
@@ -164,6 +195,7 @@ public class ClientCertificatePluginServiceImpl implements ClientCertificatePlug
                 ClientCertificate certificate = jsonArray.getBean(i, ClientCertificate.class);
                 certificates.add(certificate);
             }
+            reindex();
             log.info("Loaded {} client certificate configurations", certificates.size());
         } catch (Exception e) {
             log.error("Failed to load client certificates", e);
@@ -185,22 +217,43 @@ public class ClientCertificatePluginServiceImpl implements ClientCertificatePlug
         }
     }
 
-    private ClientCertificate findMatchingCertificate(String host, int port) {
-        for (ClientCertificate certificate : certificates) {
-            if (certificate.matches(host, port)) {
-                log.debug("Found matching certificate for {}:{} - {}", host, port, certificate.getName());
-                String certificateName = certificate.getName() != null && !certificate.getName().isEmpty()
-                        ? certificate.getName()
-                        : certificate.getCertPath();
-                String message = ClientCertI18n.t(
-                        MessageKeys.CERT_CONSOLE_MATCHED,
-                        host, port, certificate.getCertType(), certificateName
-                );
-                logInfo(message);
-                return certificate;
-            }
+    private ClientCertificate findAndLogMatchingCertificate(String host, int port) {
+        ClientCertificate certificate = index.find(host, port);
+        if (certificate == null) {
+            return null;
+        }
+        log.debug("Found matching certificate for {}:{} - {}", host, port, certificate.getName());
+        String certificateName = certificate.getName() != null && !certificate.getName().isEmpty()
+                ? certificate.getName()
+                : certificate.getCertPath();
+        String message = ClientCertI18n.t(
+                MessageKeys.CERT_CONSOLE_MATCHED,
+                host, port, certificate.getCertType(), certificateName
+        );
+        logInfo(message);
+        return certificate;
+    }
+
+    /**
+     * 证书配置变化后重建主机名索引，并丢掉已加载的 KeyManager。
+     */
+    private void reindex() {
+        index = ClientCertificateIndex.of(certificates);
+        keyManagerCache.clear();
+    }
+
+    private static String keyManagerFingerprint(ClientCertificate certificate) {
+        return certificate.getUpdatedAt() + ":"
+                + fileFingerprint(certificate.getCertPath()) + ":"
+                + fileFingerprint(certificate.getKeyPath());
+    }
+
+    private static String fileFingerprint(String path) {
+        if (path == null || path.isBlank()) {
+            return "";
         }
-        return null;
+        File file = new File(path);
+        return file.lastModified() + "/" + file.length();
     }
 
     private static void logInfo(String message) {
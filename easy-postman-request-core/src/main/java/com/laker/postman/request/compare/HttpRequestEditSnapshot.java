@@ -43,6 +43,7 @@ record HttpRequestEditSnapshot(
         String httpVersion,
         Integer requestTimeoutMs,
         Integer webSocketPingIntervalMs,
+        Boolean replayCacheable,
         String prescript,
         String postscript
 ) {
@@ -75,6 +76,7 @@ record HttpRequestEditSnapshot(
                 normalizeHttpVersion(item.getHttpVersion()),
                 item.getRequestTimeoutMs(),
                 item.getWebSocketPingIntervalMs(),
+                Boolean.TRUE.equals(item.getReplayCacheable()) ? Boolean.TRUE : null,
                 string(item.getPrescript()),
                 string(item.getPostscript())
         );
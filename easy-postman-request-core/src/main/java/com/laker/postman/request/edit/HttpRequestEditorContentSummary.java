@@ -99,7 +99,8 @@ public class HttpRequestEditorContentSummary {
                 || HttpRequestProxyPolicy.DEFAULT != HttpRequestProxyPolicy.normalize(draft.getProxyPolicy())
                 || !HttpRequestVersions.AUTO.equals(normalizeHttpVersion(draft.getHttpVersion()))
                 || draft.getRequestTimeoutMs() != null
-                || draft.getWebSocketPingIntervalMs() != null;
+                || draft.getWebSocketPingIntervalMs() != null
+                || Boolean.TRUE.equals(draft.getReplayCacheable());
     }
 
     private static boolean hasScripts(HttpRequestEditorDraft draft) {
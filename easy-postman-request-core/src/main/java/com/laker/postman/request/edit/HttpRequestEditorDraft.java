@@ -48,6 +48,7 @@ public class HttpRequestEditorDraft {
     String httpVersion;
     Integer requestTimeoutMs;
     Integer webSocketPingIntervalMs;
+    Boolean replayCacheable;
     String prescript;
     String postscript;
     @Builder.Default
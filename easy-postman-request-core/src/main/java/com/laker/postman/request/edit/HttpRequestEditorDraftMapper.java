@@ -47,6 +47,7 @@ public class HttpRequestEditorDraftMapper {
                 .httpVersion(item.getHttpVersion())
                 .requestTimeoutMs(item.getRequestTimeoutMs())
                 .webSocketPingIntervalMs(item.getWebSocketPingIntervalMs())
+                .replayCacheable(item.getReplayCacheable())
                 .prescript(item.getPrescript())
                 .postscript(item.getPostscript())
                 .responses(copyList(item.getResponse()))
@@ -106,6 +107,7 @@ public class HttpRequestEditorDraftMapper {
         }
         item.setRequestTimeoutMs(draft.getRequestTimeoutMs());
         item.setWebSocketPingIntervalMs(draft.getWebSocketPingIntervalMs());
+        item.setReplayCacheable(draft.getReplayCacheable());
         item.setPrescript(string(draft.getPrescript()));
         item.setPostscript(string(draft.getPostscript()));
         item.setResponse(copyList(draft.getResponses()));
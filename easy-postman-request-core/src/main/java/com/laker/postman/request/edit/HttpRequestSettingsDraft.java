@@ -16,4 +16,5 @@ public class HttpRequestSettingsDraft {
     String httpVersion = HttpRequestVersions.AUTO;
     Integer requestTimeoutMs;
     Integer webSocketPingIntervalMs;
+    Boolean replayCacheable;
 }
@@ -47,6 +47,7 @@ public class HttpRequestItem implements Serializable {
     private String httpVersion = HTTP_VERSION_AUTO; // HTTP 协议偏好
     private Integer requestTimeoutMs; // 请求超时（毫秒），null 表示跟随全局设置
     private Integer webSocketPingIntervalMs; // WebSocket 协议 ping 间隔（毫秒），null 表示默认 30 秒，0 表示关闭
+    private Boolean replayCacheable; // 功能回放运行开启响应缓存时是否允许复用该请求的响应，null 表示不缓存
     // 前置脚本（请求前执行）
     private String prescript = "";
     // 后置脚本（响应后执行）